@@ -16,6 +16,7 @@ import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -104,6 +105,20 @@ public final class Functions
      * @return the execution result
      */
     public static ExecutionResult evaluate( SharedResources sharedResources, Canceller canceller )
+    {
+        return Functions.evaluate( sharedResources, canceller, Executors.defaultThreadFactory() );
+    }
+
+    /**
+     * Executes an evaluation whose executors create their threads with the prescribed factory.
+     * @param sharedResources the shared resources
+     * @param canceller the canceller
+     * @param threadFactory the factory that creates the threads of the evaluation executors
+     * @return the execution result
+     */
+    public static ExecutionResult evaluate( SharedResources sharedResources,
+                                            Canceller canceller,
+                                            ThreadFactory threadFactory )
     {
         ExecutionResult result = ExecutionResult.failure();
         Instant startedExecution = Instant.now();
@@ -114,7 +129,8 @@ public final class Functions
 
             Evaluator evaluator = new Evaluator( sharedResources.systemSettings,
                                                  Functions.database,
-                                                 Functions.brokerConnectionFactory );
+                                                 Functions.brokerConnectionFactory,
+                                                 threadFactory );
 
             List<String> args = sharedResources.arguments();
             if ( args.size() != 1 )
@@ -13,6 +13,7 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -73,6 +74,7 @@ import wres.writing.csv.pairs.PairsWriter;
 import wres.writing.netcdf.NetcdfOutputWriter;
 import wres.pipeline.pooling.PoolProcessor;
 import wres.pipeline.pooling.PoolReporter;
+import wres.pipeline.pooling.PoolScheduler;
 import wres.pipeline.statistics.StatisticsProcessor;
 import wres.pipeline.statistics.EnsembleStatisticsProcessor;
 import wres.pipeline.statistics.SingleValuedStatisticsProcessor;
@@ -513,6 +515,7 @@ class EvaluationUtilities
         {
             formats.add( Format.PROTOBUF );
             formats.add( Format.CSV2 );
+            formats.add( Format.COLUMNAR );
         }
 
         return Collections.unmodifiableSet( formats );
@@ -692,6 +695,18 @@ class EvaluationUtilities
      * @return the retriever factory
      */
     static RetrieverFactory<Double, Double, Double> getSingleValuedRetrieverFactory( EvaluationDetails details )
+    {
+        return EvaluationUtilities.getSingleValuedRetrieverFactory( details, null );
+    }
+
+    /**
+     * Returns a {@link RetrieverFactory} for single-valued datasets.
+     * @param details the evaluation details
+     * @param griddedReadingExecutor an optional executor on which to read gridded sources in parallel
+     * @return the retriever factory
+     */
+    static RetrieverFactory<Double, Double, Double> getSingleValuedRetrieverFactory( EvaluationDetails details,
+                                                                                     Executor griddedReadingExecutor )
     {
         // Create a retriever factory to support retrieval for this project
         RetrieverFactory<Double, Double, Double> retrieverFactory;
@@ -704,10 +719,21 @@ class EvaluationUtilities
         else
         {
             LOGGER.debug( CREATED_A_RETRIEVER_FACTORY_BACKED_BY_A_PERSISTENT_STORE );
-            retrieverFactory = SingleValuedRetrieverFactory.of( details.project(),
-                                                                details.databaseServices()
-                                                                       .database(),
-                                                                details.caches() );
+            if ( Objects.nonNull( griddedReadingExecutor ) )
+            {
+                retrieverFactory = SingleValuedRetrieverFactory.of( details.project(),
+                                                                    details.databaseServices()
+                                                                           .database(),
+                                                                    details.caches(),
+                                                                    griddedReadingExecutor );
+            }
+            else
+            {
+                retrieverFactory = SingleValuedRetrieverFactory.of( details.project(),
+                                                                    details.databaseServices()
+                                                                           .database(),
+                                                                    details.caches() );
+            }
         }
 
         return retrieverFactory;
@@ -787,7 +813,8 @@ class EvaluationUtilities
 
             poolTasks = EvaluationUtilities.getPoolTaskChain( poolProcessors,
                                                               executors.poolExecutor(),
-                                                              poolDetails.poolReporter() );
+                                                              poolDetails.poolReporter(),
+                                                              evaluationDetails.systemSettings() );
         }
         // All other single-valued types
         else
@@ -800,7 +827,8 @@ class EvaluationUtilities
 
             poolTasks = EvaluationUtilities.getPoolTaskChain( poolProcessors,
                                                               executors.poolExecutor(),
-                                                              poolDetails.poolReporter() );
+                                                              poolDetails.poolReporter(),
+                                                              evaluationDetails.systemSettings() );
         }
 
         return poolTasks;
@@ -843,9 +871,11 @@ class EvaluationUtilities
                                                                                      executors.slicingExecutor(),
                                                                                      executors.metricExecutor() );
 
-        // Create a retriever factory to support retrieval for this project
+        // Create a retriever factory to support retrieval for this project. The reading executor is closed once the
+        // sources are loaded, so any gridded sources that are read at retrieval time are read on the slicing executor
         RetrieverFactory<Double, Double, Double> retrieverFactory =
-                EvaluationUtilities.getSingleValuedRetrieverFactory( evaluationDetails );
+                EvaluationUtilities.getSingleValuedRetrieverFactory( evaluationDetails,
+                                                                     executors.slicingExecutor() );
 
         // Create the pool suppliers for all pools in this evaluation
         PoolFactory poolFactory = poolDetails.poolFactory();
@@ -881,6 +911,14 @@ class EvaluationUtilities
 
             Supplier<Pool<TimeSeries<Pair<Double, Double>>>> poolSupplier = next.getValue();
 
+            // Retrieve a pool with several features in feature-specific chunks, which may be consumed
+            // incrementally, depending on the metrics
+            Supplier<Iterator<Pool<TimeSeries<Pair<Double, Double>>>>> poolChunkSupplier = null;
+            if ( EvaluationUtilities.hasPoolChunks( poolRequest, settings ) )
+            {
+                poolChunkSupplier = poolFactory.getSingleValuedPoolChunks( poolRequest, retrieverFactory );
+            }
+
             List<SummaryStatisticsCalculator> calculators = evaluationDetails.summaryStatistics()
                                                                              .values()
                                                                              .stream()
@@ -905,6 +943,7 @@ class EvaluationUtilities
                             .setSamplingUncertaintyExecutor( executors.samplingUncertaintyExecutor() )
                             .setPoolRequest( poolRequest )
                             .setPoolSupplier( poolSupplier )
+                            .setPoolChunkSupplier( poolChunkSupplier )
                             .setEvaluation( evaluationDetails.evaluationMessager() )
                             .setMonitor( evaluationDetails.monitor() )
                             .setTraceCountEstimator( SINGLE_VALUED_TRACE_COUNT_ESTIMATOR )
@@ -960,6 +999,7 @@ class EvaluationUtilities
                                                                                  executors.metricExecutor() );
 
         List<Pair<PoolRequest, Supplier<Pool<TimeSeries<Pair<Double, Ensemble>>>>>> poolSuppliers;
+        Function<PoolRequest, Supplier<Iterator<Pool<TimeSeries<Pair<Double, Ensemble>>>>>> poolChunks;
 
         PoolFactory poolFactory = poolDetails.poolFactory();
 
@@ -1005,6 +1045,7 @@ class EvaluationUtilities
             poolSuppliers = poolFactory.getEnsemblePoolsWithGeneratedBaseline( poolDetails.poolRequests(),
                                                                                retrieverFactory,
                                                                                poolParameters );
+            poolChunks = next -> poolFactory.getEnsemblePoolChunksWithGeneratedBaseline( next, retrieverFactory );
         }
         else
         {
@@ -1028,6 +1069,7 @@ class EvaluationUtilities
             poolSuppliers = poolFactory.getEnsemblePools( poolDetails.poolRequests(),
                                                           retrieverFactory,
                                                           poolParameters );
+            poolChunks = next -> poolFactory.getEnsemblePoolChunks( next, retrieverFactory );
         }
 
         // Stand-up the pair writers
@@ -1066,6 +1108,14 @@ class EvaluationUtilities
 
             Supplier<Pool<TimeSeries<Pair<Double, Ensemble>>>> poolSupplier = next.getValue();
 
+            // Retrieve a pool with several features in feature-specific chunks, which may be consumed
+            // incrementally, depending on the metrics
+            Supplier<Iterator<Pool<TimeSeries<Pair<Double, Ensemble>>>>> poolChunkSupplier = null;
+            if ( EvaluationUtilities.hasPoolChunks( poolRequest, settings ) )
+            {
+                poolChunkSupplier = poolChunks.apply( poolRequest );
+            }
+
             List<SummaryStatisticsCalculator> calculators = evaluationDetails.summaryStatistics()
                                                                              .values()
                                                                              .stream()
@@ -1090,6 +1140,7 @@ class EvaluationUtilities
                             .setSamplingUncertaintyExecutor( executors.samplingUncertaintyExecutor() )
                             .setPoolRequest( poolRequest )
                             .setPoolSupplier( poolSupplier )
+                            .setPoolChunkSupplier( poolChunkSupplier )
                             .setEvaluation( evaluationDetails.evaluationMessager() )
                             .setMonitor( evaluationDetails.monitor() )
                             .setTraceCountEstimator( ENSEMBLE_TRACE_COUNT_ESTIMATOR )
@@ -1106,6 +1157,19 @@ class EvaluationUtilities
         return Collections.unmodifiableList( poolProcessors );
     }
 
+    /**
+     * @param poolRequest the pool request
+     * @param settings the system settings
+     * @return whether to retrieve the pool in feature-specific chunks
+     */
+    private static boolean hasPoolChunks( PoolRequest poolRequest, SystemSettings settings )
+    {
+        return settings.isChunkedPools()
+               && poolRequest.getMetadata()
+                             .getFeatureTuples()
+                             .size() > 1;
+    }
+
     /**
      * @param poolRequest the pool request
      * @param summaryStatisticsOnly the singleton features for which raw statistics should not be published
@@ -1129,41 +1193,26 @@ class EvaluationUtilities
      * @param poolProcessors the pool processors
      * @param poolExecutor the pool executor
      * @param poolReporter the pool reporter
+     * @param systemSettings the system settings
      * @return the pool tasks
      */
 
     private static <L, R> CompletableFuture<Object> getPoolTaskChain( List<PoolProcessor<L, R>> poolProcessors,
                                                                       ExecutorService poolExecutor,
-                                                                      PoolReporter poolReporter )
+                                                                      PoolReporter poolReporter,
+                                                                      SystemSettings systemSettings )
     {
-        // Create the composition of pool tasks for completion
-        List<CompletableFuture<Void>> poolTasks = new ArrayList<>();
-
-        // Create a future that completes when any one pool task completes exceptionally
-        CompletableFuture<Void> oneExceptional = new CompletableFuture<>();
-
-        for ( PoolProcessor<L, R> nextProcessor : poolProcessors )
-        {
-            CompletableFuture<Void> nextPoolTask = CompletableFuture.supplyAsync( nextProcessor,
-                                                                                  poolExecutor )
-                                                                    .thenAccept( poolReporter )
-                                                                    // When one pool completes exceptionally, propagate
-                                                                    // Once chained below, all others that have not
-                                                                    // excepted will get a RejectedExecutionException
-                                                                    .exceptionally( exception -> {
-                                                                        oneExceptional.completeExceptionally( exception );
-                                                                        return null;
-                                                                    } );
-
-            poolTasks.add( nextPoolTask );
-        }
-
-        // Create a future that completes when all pool tasks succeed
-        CompletableFuture<Void> allDone =
-                CompletableFuture.allOf( poolTasks.toArray( new CompletableFuture[0] ) );
-
-        // Chain the two futures together so that either: 1) all pool tasks succeed; or 2) one fails exceptionally.
-        return CompletableFuture.anyOf( allDone, oneExceptional );
+        // Schedule the pools one feature group at a time, so that the pools of a feature group, which share the
+        // retrieved data, run together, and admit them according to the heap available
+        PoolScheduler scheduler = PoolScheduler.of( poolExecutor,
+                                                    systemSettings.getMaximumPoolThreads(),
+                                                    systemSettings.getPoolHeapPercent() );
+
+        return scheduler.schedule( poolProcessors,
+                                   p -> p.getPoolRequest()
+                                         .getMetadata()
+                                         .getFeatureGroup(),
+                                   poolReporter );
     }
 
     /**
@@ -1578,6 +1627,7 @@ class EvaluationUtilities
 
         // Create the calculators
         Set<SummaryStatistic> summaryStatistics = declaration.summaryStatistics();
+        int sketchSize = EvaluationUtilities.getSummaryStatisticsSketchSize();
 
         LOGGER.debug( "Discovered {} summary statistics to generate.",
                       summaryStatistics.size() );
@@ -1671,7 +1721,8 @@ class EvaluationUtilities
                                                                                          nextBoxplots,
                                                                                          filter,
                                                                                          metadataAdapter,
-                                                                                         timeUnits );
+                                                                                         timeUnits,
+                                                                                         sketchSize );
 
                 nextCalculators.add( calculator );
             }
@@ -1686,6 +1737,48 @@ class EvaluationUtilities
         return Collections.unmodifiableMap( calculators );
     }
 
+    /**
+     * Returns the size of the quantile sketches used to approximate the samples of summary statistics across
+     * geographic features in bounded memory, according to the relevant system property. When the system property is
+     * undefined, every sample value is retained.
+     *
+     * @return the sketch size or zero to retain every sample value
+     * @throws IllegalArgumentException if the system property is not an integer
+     */
+
+    private static int getSummaryStatisticsSketchSize()
+    {
+        String sketchSize = System.getProperty( "wres.summaryStatisticsSketchSize" );
+
+        if ( Objects.isNull( sketchSize ) )
+        {
+            return 0;
+        }
+
+        try
+        {
+            int size = Integer.parseInt( sketchSize.strip() );
+
+            if ( LOGGER.isDebugEnabled() && size > 0 )
+            {
+                LOGGER.debug( "Discovered system property {} with value {}. Summary statistics across geographic "
+                              + "features will be approximated with a normalized rank error of {}.",
+                              "wres.summaryStatisticsSketchSize",
+                              size,
+                              SummaryStatisticsCalculator.getNormalizedRankError( size ) );
+            }
+
+            return size;
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "The system property 'wres.summaryStatisticsSketchSize' must be an "
+                                                + "integer: "
+                                                + sketchSize
+                                                + ".", e );
+        }
+    }
+
     /**
      * Creates a metadata adapter for generating summary statistics across geographic features.
      * @param geometryGroup the geometry group
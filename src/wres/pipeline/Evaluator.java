@@ -100,6 +100,9 @@ public class Evaluator
     /** Broker connections.*/
     private final BrokerConnectionFactory brokerConnectionFactory;
 
+    /** Creates the threads of the executors that perform the work of an evaluation. */
+    private final ThreadFactory threadFactory;
+
     /**
      * Creates an instance.
      * @param systemSettings the system settings, not null
@@ -110,9 +113,30 @@ public class Evaluator
     public Evaluator( SystemSettings systemSettings,
                       Database database,
                       BrokerConnectionFactory brokerConnectionFactory )
+    {
+        this( systemSettings,
+              database,
+              brokerConnectionFactory,
+              java.util.concurrent.Executors.defaultThreadFactory() );
+    }
+
+    /**
+     * Creates an instance whose executors create their threads with the prescribed factory, which allows a caller to
+     * decorate the threads of each evaluation, such as binding the evaluation to each thread.
+     * @param systemSettings the system settings, not null
+     * @param database the database, if required
+     * @param brokerConnectionFactory a broker connection factory, not null
+     * @param threadFactory the factory that creates the threads of the executors, not null
+     * @throws NullPointerException if any required input is null
+     */
+    public Evaluator( SystemSettings systemSettings,
+                      Database database,
+                      BrokerConnectionFactory brokerConnectionFactory,
+                      ThreadFactory threadFactory )
     {
         Objects.requireNonNull( systemSettings );
         Objects.requireNonNull( brokerConnectionFactory );
+        Objects.requireNonNull( threadFactory );
 
         if ( systemSettings.isUseDatabase() )
         {
@@ -122,6 +146,7 @@ public class Evaluator
         this.systemSettings = systemSettings;
         this.database = database;
         this.brokerConnectionFactory = brokerConnectionFactory;
+        this.threadFactory = threadFactory;
     }
 
     /**
@@ -212,6 +237,7 @@ public class Evaluator
         // require a thread pool) and some readers, notably archive readers, have their own thread pool
         ThreadFactory poolFactory = new BasicThreadFactory.Builder()
                 .namingPattern( "Pool Thread %d" )
+                .wrappedFactory( this.threadFactory )
                 .build();
         // Use this thread pool for slicing pools and to dispatch metric tasks as ArrayBlockingQueue operates a FIFO
         // policy. If dependent tasks (slicing) are queued ahead of independent ones (metrics) in the same pool, there
@@ -221,15 +247,19 @@ public class Evaluator
         // Inner readers may create additional thread factories (e.g., archives).
         ThreadFactory readingFactory = new BasicThreadFactory.Builder()
                 .namingPattern( "Outer Reading Thread %d" )
+                .wrappedFactory( this.threadFactory )
                 .build();
         ThreadFactory slicingFactory = new BasicThreadFactory.Builder()
                 .namingPattern( "Slicing Thread %d" )
+                .wrappedFactory( this.threadFactory )
                 .build();
         ThreadFactory metricFactory = new BasicThreadFactory.Builder()
                 .namingPattern( "Metric Thread %d" )
+                .wrappedFactory( this.threadFactory )
                 .build();
         ThreadFactory productFactory = new BasicThreadFactory.Builder()
                 .namingPattern( "Format Writing Thread %d" )
+                .wrappedFactory( this.threadFactory )
                 .build();
 
         SystemSettings settings = this.getSystemSettings();
@@ -292,6 +322,7 @@ public class Evaluator
         {
             ThreadFactory resamplingFactory = new BasicThreadFactory.Builder()
                     .namingPattern( "Sampling Uncertainty Thread %d" )
+                    .wrappedFactory( this.threadFactory )
                     .build();
             int threadCount = settings.getMaximumSamplingUncertaintyThreads();
             samplingUncertaintyExecutor = java.util.concurrent.Executors.newFixedThreadPool( threadCount,
@@ -316,6 +347,7 @@ public class Evaluator
             // Create an ingest executor
             ThreadFactory ingestFactory =
                     new BasicThreadFactory.Builder().namingPattern( "Ingesting Thread %d" )
+                                                    .wrappedFactory( this.threadFactory )
                                                     .build();
             // Queue should be large enough to allow join() call to be reached with zero or few rejected submissions to the
             // executor service.
@@ -360,7 +392,7 @@ public class Evaluator
             // Monitor the task queues if required
             if ( System.getProperty( "wres.monitorTaskQueues" ) != null )
             {
-                monitoringService = new ScheduledThreadPoolExecutor( 1 );
+                monitoringService = new ScheduledThreadPoolExecutor( 1, this.threadFactory );
                 QueueMonitor queueMonitor = new QueueMonitor( this.getDatabase(),
                                                               poolQueue,
                                                               slicingQueue,
@@ -713,7 +745,7 @@ public class Evaluator
             // Start the evaluation
             evaluationMessager.start();
 
-            PoolFactory poolFactory = PoolFactory.of( project );
+            PoolFactory poolFactory = PoolFactory.of( project, executors.slicingExecutor() );
             List<PoolRequest> poolRequests = EvaluationUtilities.getPoolRequests( poolFactory,
                                                                                   evaluationDescription,
                                                                                   evaluationDetails );
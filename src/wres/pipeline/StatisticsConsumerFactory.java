@@ -25,6 +25,7 @@ import wres.datamodel.statistics.DoubleScoreStatisticOuter.DoubleScoreComponentO
 import wres.datamodel.time.TimeSeriesSlicer;
 import wres.events.subscribe.ConsumerFactory;
 import wres.statistics.MessageUtilities;
+import wres.writing.columnar.ColumnarStatisticsWriter;
 import wres.writing.csv.statistics.CommaSeparatedBoxPlotWriter;
 import wres.writing.csv.statistics.CommaSeparatedDiagramWriter;
 import wres.writing.csv.statistics.CommaSeparatedDurationDiagramWriter;
@@ -87,7 +88,8 @@ class StatisticsConsumerFactory implements ConsumerFactory
         StatisticsToFormatsRouter.Builder builder = new StatisticsToFormatsRouter.Builder();
         ChronoUnit durationUnits = this.declaration.durationFormat();
 
-        // Netcdf, CSV2 and protobuf are incremental formats, plus box plots per pair where graphics are required
+        // Netcdf, CSV2, protobuf and columnar are incremental formats, plus box plots per pair where graphics are
+        // required
 
         // Netcdf: unlike other formats this writer is injected because it has an oddball choreography whereby blob
         // creation needs to happen before statistics are written, but after thresholds are read. When creation/writing 
@@ -131,6 +133,17 @@ class StatisticsConsumerFactory implements ConsumerFactory
             builder.addStatisticsConsumer( wres.config.yaml.components.Format.PROTOBUF, protoWriter );
         }
 
+        // Columnar
+        if ( formats.contains( Format.COLUMNAR ) )
+        {
+            Path columnarPath = path.resolve( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+            ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( columnarPath,
+                                                                           evaluation,
+                                                                           durationUnits );
+            builder.addStatisticsConsumer( wres.config.yaml.components.Format.COLUMNAR, writer );
+            resources.add( writer );
+        }
+
         // Graphics
         if ( this.hasGraphics( formats ) )
         {
@@ -3,19 +3,23 @@ package wres.pipeline.pooling;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.Timestamp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,9 +30,12 @@ import wres.config.yaml.components.EvaluationDeclaration;
 import wres.config.yaml.components.EventDetection;
 import wres.config.yaml.components.EventDetectionCombination;
 import wres.config.yaml.components.EventDetectionDataset;
+import wres.config.yaml.components.EventDetectionMethod;
+import wres.config.yaml.components.EventDetectionParameters;
 import wres.config.yaml.components.LeadTimeInterval;
 import wres.config.yaml.components.TimeInterval;
 import wres.config.yaml.components.TimeWindowAggregation;
+import wres.config.yaml.components.Values;
 import wres.datamodel.Slicer;
 import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.space.Feature;
@@ -58,6 +65,7 @@ import wres.statistics.generated.TimeWindow;
  * @param covariateUpscaler the upscaler for single-valued time-series with a covariate orientation
  * @param measurementUnit the measurement unit
  * @param eventDetector the event detector
+ * @param detectedEvents the events detected for each feature and dataset, which are re-used across feature groups
  * @author James Brown
  */
 record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
@@ -65,7 +73,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                         TimeSeriesUpscaler<Double> baselineUpscaler,
                         TimeSeriesUpscaler<Double> covariateUpscaler,
                         String measurementUnit,
-                        EventDetector eventDetector )
+                        EventDetector eventDetector,
+                        Map<DetectionKey, Set<TimeWindowOuter>> detectedEvents )
 {
     /** Repeated message. */
     private static final String DETECTED_EVENTS_IN_THE_DATASET = "Detected {} events in the {} dataset for feature "
@@ -74,6 +83,15 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( EventsGenerator.class );
 
+    /** The maximum number of features whose detected events are shared across evaluations. */
+    private static final int MAXIMUM_SHARED_DETECTIONS = 100_000;
+
+    /** The events detected for each feature and dataset, which are shared across evaluations. */
+    private static final Cache<DetectionKey, Set<TimeWindowOuter>> SHARED_DETECTED_EVENTS =
+            Caffeine.newBuilder()
+                    .maximumSize( MAXIMUM_SHARED_DETECTIONS )
+                    .build();
+
     /**
      * Construct and validate.
      *
@@ -83,6 +101,7 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
      * @param covariateUpscaler the upscaler for single-valued time-series with a covariate orientation
      * @param measurementUnit the measurement unit
      * @param eventDetector the event detector
+     * @param detectedEvents the events detected for each feature and dataset, which must be thread-safe
      */
     EventsGenerator
     {
@@ -92,6 +111,45 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
         Objects.requireNonNull( covariateUpscaler );
         Objects.requireNonNull( measurementUnit );
         Objects.requireNonNull( eventDetector );
+        Objects.requireNonNull( detectedEvents );
+    }
+
+    /**
+     * Construct and validate with an empty cache of detected events.
+     *
+     * @param leftUpscaler the upscaler for single-valued time-series with a left orientation
+     * @param rightUpscaler the upscaler for single-valued time-series with a right orientation
+     * @param baselineUpscaler the upscaler for single-valued time-series with a baseline orientation
+     * @param covariateUpscaler the upscaler for single-valued time-series with a covariate orientation
+     * @param measurementUnit the measurement unit
+     * @param eventDetector the event detector
+     */
+    EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
+                     TimeSeriesUpscaler<Double> rightUpscaler,
+                     TimeSeriesUpscaler<Double> baselineUpscaler,
+                     TimeSeriesUpscaler<Double> covariateUpscaler,
+                     String measurementUnit,
+                     EventDetector eventDetector )
+    {
+        this( leftUpscaler,
+              rightUpscaler,
+              baselineUpscaler,
+              covariateUpscaler,
+              measurementUnit,
+              eventDetector,
+              new ConcurrentHashMap<>() );
+    }
+
+    /**
+     * Returns a cache of detected events that is shared across evaluations. Each key identifies the project data, the
+     * dataset, the feature, the detection parameters and the other declaration that affects detection, so an
+     * evaluation re-uses only the events that it would detect itself. The cache is bounded by the number of features.
+     *
+     * @return the shared cache of detected events
+     */
+    static Map<DetectionKey, Set<TimeWindowOuter>> getSharedDetectedEvents()
+    {
+        return SHARED_DETECTED_EVENTS.asMap();
     }
 
     /**
@@ -157,7 +215,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                                    covariateTimeScale,
                                                                    this.covariateUpscaler(),
                                                                    null,
-                                                                   declaration );
+                                                                   declaration,
+                                                                   project.getHash() );
 
                                 innerEvents = this.doEventDetection( details );
                             }
@@ -174,7 +233,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                                    covariateTimeScale,
                                                                    this.covariateUpscaler(),
                                                                    null,
-                                                                   declaration );
+                                                                   declaration,
+                                                                   project.getHash() );
                                 innerEvents = this.doEventDetection( details );
                             }
                             case BASELINE ->
@@ -190,7 +250,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                                    covariateTimeScale,
                                                                    this.covariateUpscaler(),
                                                                    null,
-                                                                   declaration );
+                                                                   declaration,
+                                                                   project.getHash() );
                                 innerEvents = this.doEventDetection( details );
                             }
                             case COVARIATE -> throw new IllegalStateException( "Covariate dataset cannot have a "
@@ -216,7 +277,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                        desiredTimeScale,
                                                        this.leftUpscaler(),
                                                        this.measurementUnit(),
-                                                       declaration );
+                                                       declaration,
+                                                       project.getHash() );
                     Set<TimeWindowOuter> innerEvents = this.doEventDetection( details );
                     this.combineEvents( detectionAttemptedCount > 0, events, innerEvents, combination );
                     detectionAttemptedCount++;
@@ -235,7 +297,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                        desiredTimeScale,
                                                        this.rightUpscaler(),
                                                        this.measurementUnit(),
-                                                       declaration );
+                                                       declaration,
+                                                       project.getHash() );
                     Set<TimeWindowOuter> innerEvents = this.doEventDetection( details );
                     this.combineEvents( detectionAttemptedCount > 0, events, innerEvents, combination );
                     detectionAttemptedCount++;
@@ -254,7 +317,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                                        desiredTimeScale,
                                                        this.baselineUpscaler(),
                                                        this.measurementUnit(),
-                                                       declaration );
+                                                       declaration,
+                                                       project.getHash() );
                     Set<TimeWindowOuter> innerEvents = this.doEventDetection( details );
                     this.combineEvents( detectionAttemptedCount > 0, events, innerEvents, combination );
                     detectionAttemptedCount++;
@@ -285,7 +349,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
     /**
      * Performs event detection for an {@link EventDetectionDataset} that is either
      * {@link EventDetectionDataset#OBSERVED}, {@link EventDetectionDataset#PREDICTED} or
-     * {@link EventDetectionDataset#BASELINE}.
+     * {@link EventDetectionDataset#BASELINE}. Re-uses the events previously detected for any feature, which may
+     * appear in several feature groups.
      *
      * @param details the event detection details
      * @throws NullPointerException if any required input is null
@@ -303,10 +368,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
             Objects.requireNonNull( details.covariateName() );
         }
 
-        Set<TimeWindowOuter> events = new TreeSet<>();
         FeatureGroup featureGroup = details.featureGroup();
         Function<FeatureTuple, Feature> featureGetter = details.featureGetter();
-        RetrieverFactory<Double, Double, Double> eventRetriever = details.eventRetriever();
 
         // Get any valid time constraints on retrieval, accounting for the timescale
         TimeWindowOuter timeWindow = this.getTimeWindow( details.declaration(), details.desiredTimeScale() );
@@ -316,106 +379,179 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
         // whose features have the same feature authority as the covariate dataset, which is a requirement. See below.
         Set<Feature> features = this.getFeatures( featureGroup.getFeatures(), featureGetter );
 
-        LOGGER.debug( "Getting time-series data to perform event detection for the following features: {}", features );
+        if ( details.dataset() == EventDetectionDataset.COVARIATES )
+        {
+            // Map the features to covariate features based on name correlation
+            Set<Feature> mainFeatures = features;
+            Predicate<Feature> contained = feature -> mainFeatures.stream()
+                                                                  .anyMatch( f -> Objects.equals( f.getName(),
+                                                                                                  feature.getName() ) );
+
+            features = details.covariateFeatures()
+                              .stream()
+                              .filter( contained )
+                              .collect( Collectors.toUnmodifiableSet() );
+        }
 
-        switch ( details.dataset() )
+        // Find the features whose events were detected previously
+        Set<TimeWindowOuter> events = new TreeSet<>();
+        Set<Feature> undetected = new HashSet<>();
+        for ( Feature feature : features )
         {
-            case OBSERVED ->
+            Set<TimeWindowOuter> detected = this.detectedEvents()
+                                                .get( this.getDetectionKey( details, feature, timeWindow ) );
+
+            if ( Objects.isNull( detected ) )
             {
-                Stream<TimeSeries<Double>> series = eventRetriever.getLeftRetriever( features, timeWindow )
-                                                                  .get();
-
-                Set<TimeWindowOuter> innerEvents =
-                        series.flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   details,
-                                                                                   this.leftUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
-                LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
-                             innerEvents.size(),
-                             EventDetectionDataset.OBSERVED,
-                             featureGroup.getName() );
-                events.addAll( innerEvents );
+                undetected.add( feature );
             }
-            case PREDICTED ->
+            else
             {
-                Stream<TimeSeries<Double>> series = eventRetriever.getRightRetriever( features, timeWindow )
-                                                                  .get();
-
-                Set<TimeWindowOuter> innerEvents =
-                        series.flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   details,
-                                                                                   this.rightUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
-                LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
-                             innerEvents.size(),
-                             EventDetectionDataset.PREDICTED,
-                             featureGroup.getName() );
-                events.addAll( innerEvents );
+                events.addAll( detected );
             }
-            case BASELINE ->
+        }
+
+        LOGGER.debug( "Re-used the events detected previously for {} of the {} features in the {} dataset of feature "
+                      + "group {}.",
+                      features.size() - undetected.size(),
+                      features.size(),
+                      details.dataset(),
+                      featureGroup.getName() );
+
+        if ( !undetected.isEmpty() )
+        {
+            events.addAll( this.detectEvents( details, Collections.unmodifiableSet( undetected ), timeWindow ) );
+        }
+
+        if ( details.dataset() == EventDetectionDataset.COVARIATES )
+        {
+            LOGGER.info( "Detected {} events in the {} dataset for feature group {} with variable name, '{}'.",
+                         events.size(),
+                         EventDetectionDataset.COVARIATES,
+                         featureGroup.getName(),
+                         details.covariateName() );
+        }
+        else
+        {
+            LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
+                         events.size(),
+                         details.dataset(),
+                         featureGroup.getName() );
+        }
+
+        return Collections.unmodifiableSet( events );
+    }
+
+    /**
+     * Retrieves the time-series data for the prescribed features and detects the events in each time-series, caching
+     * the events by feature.
+     *
+     * @param details the event detection details
+     * @param features the features whose time-series should be retrieved
+     * @param timeWindow the time window for retrieval
+     * @return the detected events
+     */
+
+    private Set<TimeWindowOuter> detectEvents( EventDetectionDetails details,
+                                               Set<Feature> features,
+                                               TimeWindowOuter timeWindow )
+    {
+        LOGGER.debug( "Getting time-series data to perform event detection for the following features: {}", features );
+
+        RetrieverFactory<Double, Double, Double> eventRetriever = details.eventRetriever();
+        Stream<TimeSeries<Double>> series = switch ( details.dataset() )
+        {
+            case OBSERVED -> eventRetriever.getLeftRetriever( features, timeWindow )
+                                           .get();
+            case PREDICTED -> eventRetriever.getRightRetriever( features, timeWindow )
+                                            .get();
+            case BASELINE -> eventRetriever.getBaselineRetriever( features, timeWindow )
+                                           .get();
+            case COVARIATES -> eventRetriever.getCovariateRetriever( features,
+                                                                     details.covariateName(),
+                                                                     timeWindow )
+                                             .get();
+        };
+
+        // Detect the events in each time-series and group them by feature
+        Map<Feature, Set<TimeWindowOuter>> detected = new HashMap<>();
+        long seriesCount = 0;
+        Iterator<TimeSeries<Double>> iterator = series.iterator();
+        while ( iterator.hasNext() )
+        {
+            TimeSeries<Double> next = iterator.next();
+            EventDetectionDetails adjustedDetails = details;
+
+            if ( details.dataset() == EventDetectionDataset.COVARIATES )
             {
-                Stream<TimeSeries<Double>> series = eventRetriever.getBaselineRetriever( features, timeWindow )
-                                                                  .get();
-
-                Set<TimeWindowOuter> innerEvents =
-                        series.flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   details,
-                                                                                   this.baselineUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
-                LOGGER.info( DETECTED_EVENTS_IN_THE_DATASET,
-                             innerEvents.size(),
-                             EventDetectionDataset.BASELINE,
-                             featureGroup.getName() );
-                events.addAll( innerEvents );
+                adjustedDetails = this.getAdjustedDetails( details, next.getMetadata()
+                                                                        .getUnit() );
             }
-            case COVARIATES ->
-            {
-                // Map the features to covariate features based on name correlation
-                Predicate<Feature> contained = feature -> features.stream()
-                                                                  .anyMatch( f -> Objects.equals( f.getName(),
-                                                                                                  feature.getName() ) );
 
-                Set<Feature> innerFeatures = details.covariateFeatures()
-                                                    .stream()
-                                                    .filter( contained )
-                                                    .collect( Collectors.toUnmodifiableSet() );
+            Set<TimeWindowOuter> nextEvents = this.adjustTimeSeriesAndDetectEvents( next,
+                                                                                   adjustedDetails,
+                                                                                   details.upscaler() );
+            detected.computeIfAbsent( next.getMetadata()
+                                          .getFeature(), k -> new TreeSet<>() )
+                    .addAll( nextEvents );
+            seriesCount++;
+        }
 
-                Stream<TimeSeries<Double>> series = eventRetriever.getCovariateRetriever( innerFeatures,
-                                                                                          details.covariateName(),
-                                                                                          timeWindow )
-                                                                  .get();
+        LOGGER.debug( "Performed event detection for {} time-series across {} features in the {} dataset.",
+                      seriesCount,
+                      detected.size(),
+                      details.dataset() );
 
-                // Count the number of time-series
-                AtomicLong seriesCount = new AtomicLong();
-                UnaryOperator<TimeSeries<Double>> counter = s ->
-                {
-                    seriesCount.incrementAndGet();
-                    return s;
-                };
-                Set<TimeWindowOuter> innerEvents =
-                        series.map( counter )
-                              .flatMap( s -> this.adjustTimeSeriesAndDetectEvents( s,
-                                                                                   this.getAdjustedDetails( details,
-                                                                                                            s.getMetadata()
-                                                                                                             .getUnit() ),
-                                                                                   this.covariateUpscaler() )
-                                                 .stream() )
-                              .collect( Collectors.toSet() );
-                LOGGER.info( "Detected {} events in the {} dataset containing {} time-series for feature group {} "
-                             + "with variable name, '{}'.",
-                             innerEvents.size(),
-                             EventDetectionDataset.COVARIATES,
-                             seriesCount.get(),
-                             featureGroup.getName(),
-                             details.covariateName() );
-                events.addAll( innerEvents );
+        // Cache the events by feature. When every time-series belongs to a requested feature, any requested feature
+        // without a time-series has no events
+        boolean allRequested = features.containsAll( detected.keySet() );
+        for ( Feature feature : features )
+        {
+            Set<TimeWindowOuter> nextEvents = detected.get( feature );
+
+            if ( Objects.nonNull( nextEvents ) )
+            {
+                this.detectedEvents()
+                    .put( this.getDetectionKey( details, feature, timeWindow ),
+                          Collections.unmodifiableSet( nextEvents ) );
+            }
+            else if ( allRequested )
+            {
+                this.detectedEvents()
+                    .put( this.getDetectionKey( details, feature, timeWindow ), Set.of() );
             }
         }
 
-        return Collections.unmodifiableSet( events );
+        return detected.values()
+                       .stream()
+                       .flatMap( Set::stream )
+                       .collect( Collectors.toSet() );
+    }
+
+    /**
+     * Creates a key with which to cache the events detected for a feature.
+     *
+     * @param details the event detection details
+     * @param feature the feature
+     * @param timeWindow the time window for retrieval
+     * @return the key
+     */
+
+    private DetectionKey getDetectionKey( EventDetectionDetails details, Feature feature, TimeWindowOuter timeWindow )
+    {
+        return new DetectionKey( details.projectHash(),
+                                 details.dataset(),
+                                 details.covariateName(),
+                                 feature,
+                                 details.desiredTimeScale(),
+                                 details.measurementUnit(),
+                                 details.detection()
+                                        .method(),
+                                 details.detection()
+                                        .parameters(),
+                                 details.declaration()
+                                        .values(),
+                                 timeWindow );
     }
 
     /**
@@ -749,7 +885,8 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                           details.desiredTimeScale(),
                                           details.upscaler(),
                                           measurementUnit,
-                                          details.declaration() );
+                                          details.declaration(),
+                                          details.projectHash() );
     }
 
     /**
@@ -782,6 +919,7 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
      * @param upscaler the upscaler
      * @param measurementUnit the measurement unit
      * @param declaration the declaration
+     * @param projectHash the hash of the project data
      */
 
     private record EventDetectionDetails( EventDetectionDataset dataset,
@@ -794,7 +932,35 @@ record EventsGenerator( TimeSeriesUpscaler<Double> leftUpscaler,
                                           TimeScaleOuter desiredTimeScale,
                                           TimeSeriesUpscaler<Double> upscaler,
                                           String measurementUnit,
-                                          EvaluationDeclaration declaration )
+                                          EvaluationDeclaration declaration,
+                                          String projectHash )
+    {
+    }
+
+    /**
+     * A key with which to cache the events detected for a feature, which identifies everything that affects detection.
+     * @param projectHash the hash of the project data
+     * @param dataset the dataset
+     * @param covariateName the covariate name, where applicable
+     * @param feature the feature
+     * @param desiredTimeScale the desired timescale
+     * @param measurementUnit the measurement unit in which to rescale, where applicable
+     * @param method the event detection method
+     * @param parameters the event detection parameters
+     * @param values the declared value constraints, which filter the values before detection
+     * @param timeWindow the time window for retrieval
+     */
+
+    record DetectionKey( String projectHash,
+                         EventDetectionDataset dataset,
+                         String covariateName,
+                         Feature feature,
+                         TimeScaleOuter desiredTimeScale,
+                         String measurementUnit,
+                         EventDetectionMethod method,
+                         EventDetectionParameters parameters,
+                         Values values,
+                         TimeWindowOuter timeWindow )
     {
     }
 
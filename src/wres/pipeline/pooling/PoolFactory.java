@@ -8,12 +8,16 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
@@ -49,6 +53,7 @@ import wres.config.yaml.components.Offset;
 import wres.config.yaml.components.Season;
 import wres.config.yaml.components.Source;
 import wres.datamodel.time.TimeWindowSlicer;
+import wres.datamodel.types.Climatology;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.types.Ensemble.Labels;
 import wres.datamodel.MissingValues;
@@ -174,8 +179,11 @@ public class PoolFactory
     /** Generator for event detection. */
     private final EventsGenerator eventsGenerator;
 
+    /** Executor for event detection, which detects the events for each feature group in parallel. */
+    private final Executor eventDetectionExecutor;
+
     /**
-     * Creates an instance from a {@link Project}.
+     * Creates an instance from a {@link Project}. Any event detection is performed on the calling thread.
      *
      * @param project the project
      * @return an instance
@@ -184,7 +192,21 @@ public class PoolFactory
 
     public static PoolFactory of( Project project )
     {
-        return new PoolFactory( project );
+        return new PoolFactory( project, Runnable::run );
+    }
+
+    /**
+     * Creates an instance from a {@link Project} with an executor for event detection.
+     *
+     * @param project the project
+     * @param eventDetectionExecutor the executor for event detection
+     * @return an instance
+     * @throws NullPointerException if any input is null
+     */
+
+    public static PoolFactory of( Project project, Executor eventDetectionExecutor )
+    {
+        return new PoolFactory( project, eventDetectionExecutor );
     }
 
     /**
@@ -427,6 +449,84 @@ public class PoolFactory
         return this.unpack( optimizedGroups, suppliers );
     }
 
+    /**
+     * Creates a supplier of chunks of a single-valued pool, one chunk for each feature in the pool request, for the
+     * purpose of computing statistics incrementally. Each chunk is retrieved and paired when the iterator advances, so
+     * that one feature-specific chunk is held at once and the pool as a whole is never created. Each chunk carries
+     * the metadata of the pool as a whole, so that the statistics accumulated from the chunks describe the pool. Any
+     * climatological data is retrieved for each chunk separately.
+     *
+     * @param poolRequest the pool request, not null
+     * @param retrieverFactory the retriever factory, not null
+     * @return a supplier of the chunks
+     * @throws NullPointerException if any input is null
+     */
+
+    public Supplier<Iterator<Pool<TimeSeries<Pair<Double, Double>>>>>
+    getSingleValuedPoolChunks( PoolRequest poolRequest,
+                               RetrieverFactory<Double, Double, Double> retrieverFactory )
+    {
+        Objects.requireNonNull( poolRequest );
+        Objects.requireNonNull( retrieverFactory, CANNOT_CREATE_POOLS_WITHOUT_A_RETRIEVER_FACTORY );
+
+        Project innerProject = this.getProject();
+
+        return this.getPoolChunks( poolRequest,
+                                   next -> this.getSingleValuedPools( innerProject, List.of( next ), retrieverFactory )
+                                               .get( 0 ) );
+    }
+
+    /**
+     * Creates a supplier of chunks of an ensemble pool, one chunk for each feature in the pool request.
+     *
+     * @see #getSingleValuedPoolChunks(PoolRequest, RetrieverFactory)
+     * @param poolRequest the pool request, not null
+     * @param retrieverFactory the retriever factory, not null
+     * @return a supplier of the chunks
+     * @throws NullPointerException if any input is null
+     */
+
+    public Supplier<Iterator<Pool<TimeSeries<Pair<Double, Ensemble>>>>>
+    getEnsemblePoolChunks( PoolRequest poolRequest,
+                           RetrieverFactory<Double, Ensemble, Ensemble> retrieverFactory )
+    {
+        Objects.requireNonNull( poolRequest );
+        Objects.requireNonNull( retrieverFactory, CANNOT_CREATE_POOLS_WITHOUT_A_RETRIEVER_FACTORY );
+
+        Project innerProject = this.getProject();
+
+        return this.getPoolChunks( poolRequest,
+                                   next -> this.getEnsemblePools( innerProject, List.of( next ), retrieverFactory )
+                                               .get( 0 ) );
+    }
+
+    /**
+     * Creates a supplier of chunks of an ensemble pool with an ensemble baseline generated from single-valued
+     * time-series, one chunk for each feature in the pool request.
+     *
+     * @see #getSingleValuedPoolChunks(PoolRequest, RetrieverFactory)
+     * @param poolRequest the pool request, not null
+     * @param retrieverFactory the retriever factory, not null
+     * @return a supplier of the chunks
+     * @throws NullPointerException if any input is null
+     */
+
+    public Supplier<Iterator<Pool<TimeSeries<Pair<Double, Ensemble>>>>>
+    getEnsemblePoolChunksWithGeneratedBaseline( PoolRequest poolRequest,
+                                                RetrieverFactory<Double, Ensemble, Double> retrieverFactory )
+    {
+        Objects.requireNonNull( poolRequest );
+        Objects.requireNonNull( retrieverFactory, CANNOT_CREATE_POOLS_WITHOUT_A_RETRIEVER_FACTORY );
+
+        Project innerProject = this.getProject();
+
+        return this.getPoolChunks( poolRequest,
+                                   next -> this.getEnsemblePoolsWithGeneratedBaseline( innerProject,
+                                                                                       List.of( next ),
+                                                                                       retrieverFactory )
+                                               .get( 0 ) );
+    }
+
     /**
      * Generates the {@link PoolRequest} in order to drive pool creation.
      *
@@ -504,6 +604,22 @@ public class PoolFactory
                       + "geographic features.",
                       timeWindows.size() );
 
+        // Perform event detection for each feature group in parallel, as needed
+        Map<FeatureGroup, CompletableFuture<Set<TimeWindowOuter>>> detections = new HashMap<>();
+        if ( Objects.nonNull( declaration.eventDetection() ) )
+        {
+            for ( FeatureGroup nextGroup : featureGroups )
+            {
+                CompletableFuture<Set<TimeWindowOuter>> detection =
+                        CompletableFuture.supplyAsync( () -> this.getEventsGenerator()
+                                                                 .doEventDetection( project,
+                                                                                    nextGroup,
+                                                                                    eventRetriever ),
+                                                       this.getEventDetectionExecutor() );
+                detections.put( nextGroup, detection );
+            }
+        }
+
         // Generate the feature-specific time-windows, including those associated with event detection, as needed
         Map<FeatureGroup, Set<TimeWindowOuter>> featurefulWindows = new HashMap<>();
         for ( FeatureGroup nextGroup : featureGroups )
@@ -513,8 +629,7 @@ public class PoolFactory
             // Event detection
             if ( Objects.nonNull( declaration.eventDetection() ) )
             {
-                Set<TimeWindowOuter> events = this.getEventsGenerator()
-                                                  .doEventDetection( project, nextGroup, eventRetriever );
+                Set<TimeWindowOuter> events = this.getDetectedEvents( detections.get( nextGroup ) );
 
                 allTimeWindows.addAll( events );
 
@@ -533,6 +648,32 @@ public class PoolFactory
         return Collections.unmodifiableMap( featurefulWindows );
     }
 
+    /**
+     * Waits for event detection to complete and returns the detected events.
+     *
+     * @param detection the event detection task
+     * @return the detected events
+     * @throws RuntimeException if event detection failed
+     */
+
+    private Set<TimeWindowOuter> getDetectedEvents( CompletableFuture<Set<TimeWindowOuter>> detection )
+    {
+        try
+        {
+            return detection.join();
+        }
+        catch ( CompletionException e )
+        {
+            // Propagate the original exception where possible
+            if ( e.getCause() instanceof RuntimeException runtime )
+            {
+                throw runtime;
+            }
+
+            throw e;
+        }
+    }
+
     /**
      * <p>Create pools for single-valued data. This method will attempt to retrieve and re-use data that is common to
      * multiple pools. Thus, it is generally better to provide a list of pool requests that represent connected pools,
@@ -2254,6 +2395,87 @@ public class PoolFactory
         return Collections.unmodifiableList( adjustedRequests );
     }
 
+    /**
+     * Creates a supplier of chunks of a pool, one for each feature in the pool request, ordered by feature. Each chunk
+     * is created when the iterator advances.
+     *
+     * @param <L> the left-ish data type
+     * @param <R> the right-ish data type
+     * @param poolRequest the pool request
+     * @param chunkSupplier a function that supplies the pool for a feature-specific pool request
+     * @return a supplier of the chunks
+     */
+
+    private <L, R> Supplier<Iterator<Pool<TimeSeries<Pair<L, R>>>>>
+    getPoolChunks( PoolRequest poolRequest,
+                   Function<PoolRequest, Supplier<Pool<TimeSeries<Pair<L, R>>>>> chunkSupplier )
+    {
+        PoolMetadata main = poolRequest.getMetadata();
+        PoolMetadata baseline = poolRequest.getMetadataForBaseline();
+        Map<FeatureTuple, PoolRequest> chunkRequests = this.decompose( poolRequest );
+        Set<FeatureTuple> features = new TreeSet<>( chunkRequests.keySet() );
+
+        return () -> {
+            Iterator<FeatureTuple> iterator = features.iterator();
+
+            return new Iterator<>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Pool<TimeSeries<Pair<L, R>>> next()
+                {
+                    FeatureTuple nextFeature = iterator.next();
+
+                    LOGGER.debug( "Creating the chunk of pool {} for feature {}.", main, nextFeature );
+
+                    Pool<TimeSeries<Pair<L, R>>> chunk = chunkSupplier.apply( chunkRequests.get( nextFeature ) )
+                                                                      .get();
+
+                    return PoolFactory.getPoolChunk( chunk, main, baseline, chunk.getClimatology() );
+                }
+            };
+        };
+    }
+
+    /**
+     * Creates a chunk of a pool from a feature-specific pool.
+     *
+     * @param <L> the left-ish data type
+     * @param <R> the right-ish data type
+     * @param miniPool the feature-specific pool
+     * @param main the metadata of the pool
+     * @param baseline the baseline metadata of the pool, possibly null
+     * @param climatology the climatology, possibly null
+     * @return the chunk
+     */
+
+    private static <L, R> Pool<TimeSeries<Pair<L, R>>> getPoolChunk( Pool<TimeSeries<Pair<L, R>>> miniPool,
+                                                                      PoolMetadata main,
+                                                                      PoolMetadata baseline,
+                                                                      Climatology climatology )
+    {
+        // No baseline
+        if ( Objects.isNull( baseline ) )
+        {
+            return Pool.of( miniPool.get(), main, null, null, climatology );
+        }
+
+        List<TimeSeries<Pair<L, R>>> baselineData = List.of();
+
+        if ( miniPool.hasBaseline() )
+        {
+            baselineData = miniPool.getBaselineData()
+                                   .get();
+        }
+
+        return Pool.of( miniPool.get(), main, baselineData, baseline, climatology );
+    }
+
     /**
      * Decomposes a list of pool suppliers that supply the pairs associated with all feature tuples in the specified
      * feature groups into suppliers that supply the pairs for each feature tuple separately.
@@ -2624,6 +2846,14 @@ public class PoolFactory
         return this.eventsGenerator;
     }
 
+    /**
+     * @return the executor for event detection
+     */
+    private Executor getEventDetectionExecutor()
+    {
+        return this.eventDetectionExecutor;
+    }
+
     /**
      * @return whether the climatological and baseline data sources are equal and can be de-duplicated on retrieval
      */
@@ -2827,13 +3057,16 @@ public class PoolFactory
      * Creates an instance from a {@link Project}.
      *
      * @param project the project
-     * @throws NullPointerException if the project is null
+     * @param eventDetectionExecutor the executor for event detection
+     * @throws NullPointerException if any input is null
      */
 
-    private PoolFactory( Project project )
+    private PoolFactory( Project project, Executor eventDetectionExecutor )
     {
         Objects.requireNonNull( project, CANNOT_CREATE_POOLS_FROM_A_NULL_PROJECT );
+        Objects.requireNonNull( eventDetectionExecutor );
         this.project = project;
+        this.eventDetectionExecutor = eventDetectionExecutor;
 
         // Create a unit mapper
         String desiredMeasurementUnit = project.getMeasurementUnit();
@@ -2886,7 +3119,8 @@ public class PoolFactory
                                                         this.getCovariateSingleValuedUpscaler(),
                                                         this.getUnitMapper()
                                                             .getDesiredMeasurementUnitName(),
-                                                        eventDetector );
+                                                        eventDetector,
+                                                        EventsGenerator.getSharedDetectedEvents() );
         }
         else
         {
@@ -5,11 +5,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -47,6 +51,7 @@ import wres.writing.csv.pairs.PairsWriter;
 import wres.pipeline.EvaluationEvent;
 import wres.pipeline.WresProcessingException;
 import wres.pipeline.pooling.PoolProcessingResult.Status;
+import wres.pipeline.statistics.StatisticsAccumulator;
 import wres.pipeline.statistics.StatisticsProcessor;
 import wres.statistics.generated.Statistics;
 
@@ -63,6 +68,9 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( PoolProcessor.class );
 
+    /** The number of resampled pools to evaluate in parallel when estimating the sampling uncertainties. */
+    private static final int SAMPLING_UNCERTAINTY_BATCH_SIZE = 16;
+
     /** The evaluation. */
     private final EvaluationMessager evaluation;
 
@@ -117,6 +125,9 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
     /** The pool supplier. */
     private Supplier<Pool<TimeSeries<Pair<L, R>>>> poolSupplier;
 
+    /** An optional supplier of the pool in chunks, which partition the pool, for incremental processing. */
+    private Supplier<Iterator<Pool<TimeSeries<Pair<L, R>>>>> poolChunkSupplier;
+
     @Override
     public PoolProcessingResult get()
     {
@@ -140,16 +151,38 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
                                                + "." );
         }
 
-        // Get the pool
-        Pool<TimeSeries<Pair<L, R>>> pool = this.poolSupplier.get();
+        List<Statistics> statistics;
+        List<EvaluationStatusMessage> statusEvents = new ArrayList<>();
+        Pool<TimeSeries<Pair<L, R>>> pool = null;
+
+        // Consume the pool in chunks, retaining only the intermediate statistics between chunks
+        List<StatisticsAccumulator<Pool<TimeSeries<Pair<L, R>>>>> accumulators = this.getAccumulators();
+        if ( !accumulators.isEmpty() )
+        {
+            Iterator<Pool<TimeSeries<Pair<L, R>>>> chunks = this.poolChunkSupplier.get();
 
-        // Render any potentially expensive state eligible for gc
-        this.poolSupplier = null;
+            // Render any potentially expensive state eligible for gc
+            this.poolSupplier = null;
+            this.poolChunkSupplier = null;
 
-        LOGGER.debug( "Created pool {}.", pool.getMetadata() );
+            LOGGER.debug( "Creating statistics incrementally for pool {}.", this.poolRequest );
 
-        // Create the statistics, generating sampling uncertainty estimates as needed
-        List<Statistics> statistics = this.createStatistics( pool, this.samplingUncertainty, this.blockSize );
+            statistics = this.createStatisticsIncrementally( chunks, accumulators, statusEvents );
+        }
+        else
+        {
+            // Get the pool
+            pool = this.poolSupplier.get();
+
+            // Render any potentially expensive state eligible for gc
+            this.poolSupplier = null;
+            this.poolChunkSupplier = null;
+
+            LOGGER.debug( "Created pool {}.", pool.getMetadata() );
+
+            // Create the statistics, generating sampling uncertainty estimates as needed
+            statistics = this.createStatistics( pool, this.samplingUncertainty, this.blockSize );
+        }
 
         // Group the statistics by dataset orientation
         Map<DatasetOrientation, List<Statistics>> groups = Slicer.getGroupedStatistics( statistics );
@@ -189,20 +222,33 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
                                                        status == Status.STATISTICS_PUBLISHED );
         }
 
-        // TODO: extract the pair writing to the product writers, i.e., publish the pairs
-        // Write the main pairs
-        this.getPairWritingTask( false, this.pairsWriter )
-            .accept( pool );
+        // The pairs were written chunk-by-chunk when creating the statistics incrementally
+        if ( Objects.nonNull( pool ) )
+        {
+            // TODO: extract the pair writing to the product writers, i.e., publish the pairs
+            // Write the main pairs
+            this.getPairWritingTask( false, this.pairsWriter )
+                .accept( pool );
+
+            // Write any baseline pairs, as needed
+            this.getPairWritingTask( true, this.basePairsWriter )
+                .accept( pool );
+
+            // Any status events?
+            statusEvents.addAll( pool.getMetadata()
+                                     .getEvaluationStatusEvents() );
+        }
 
-        // Write any baseline pairs, as needed
-        this.getPairWritingTask( true, this.basePairsWriter )
-            .accept( pool );
+        return new PoolProcessingResult( this.poolRequest, status, statusEvents );
+    }
 
-        // Any status events?
-        List<EvaluationStatusMessage> statusEvents = pool.getMetadata()
-                                                         .getEvaluationStatusEvents();
+    /**
+     * @return the pool request
+     */
 
-        return new PoolProcessingResult( this.poolRequest, status, statusEvents );
+    public PoolRequest getPoolRequest()
+    {
+        return this.poolRequest;
     }
 
     @Override
@@ -235,6 +281,9 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         /** The pool supplier. */
         private Supplier<Pool<TimeSeries<Pair<L, R>>>> poolSupplier;
 
+        /** The pool chunk supplier. */
+        private Supplier<Iterator<Pool<TimeSeries<Pair<L, R>>>>> poolChunkSupplier;
+
         /** The sampling uncertainty declaration. */
         private SamplingUncertainty samplingUncertainty;
 
@@ -321,6 +370,22 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
             return this;
         }
 
+        /**
+         * Sets an optional supplier that partitions the pool into chunks, each of which carries the metadata of the
+         * pool as a whole. When all metric processors supply a {@link StatisticsProcessor#getAccumulator()} and no
+         * sampling uncertainty estimates are required, the pool is consumed chunk-by-chunk and only the intermediate
+         * statistics are retained between chunks. Otherwise, the pool is obtained from the
+         * {@link #setPoolSupplier(Supplier)}.
+         *
+         * @param poolChunkSupplier the pool chunk supplier to set, possibly null
+         * @return this builder
+         */
+        public Builder<L, R> setPoolChunkSupplier( Supplier<Iterator<Pool<TimeSeries<Pair<L, R>>>>> poolChunkSupplier )
+        {
+            this.poolChunkSupplier = poolChunkSupplier;
+            return this;
+        }
+
         /**
          * @param poolRequest the pool request to set
          * @return this builder
@@ -528,6 +593,109 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         return Collections.unmodifiableList( statistics );
     }
 
+    /**
+     * Creates the statistics incrementally from the supplied chunks of a pool. Writes the pairs for each chunk and
+     * registers each chunk with the monitor once. Since each chunk carries the metadata of the pool as a whole, the
+     * evaluation status events are collected from the first chunk only. See {@link #getAccumulators()}.
+     *
+     * @param chunks the chunks of the pool
+     * @param accumulators the accumulators, one for each metrics declaration, followed by one for each metrics
+     *            declaration when computing separate statistics for the baseline
+     * @param statusEvents the evaluation status events to increment
+     * @return the statistics
+     */
+
+    private List<Statistics> createStatisticsIncrementally( Iterator<Pool<TimeSeries<Pair<L, R>>>> chunks,
+                                                            List<StatisticsAccumulator<Pool<TimeSeries<Pair<L, R>>>>> accumulators,
+                                                            List<EvaluationStatusMessage> statusEvents )
+    {
+        int processorCount = this.metricProcessors.size();
+        long poolEventCount = 0;
+        boolean first = true;
+        while ( chunks.hasNext() )
+        {
+            Pool<TimeSeries<Pair<L, R>>> chunk = chunks.next();
+            poolEventCount += PoolSlicer.getEventCount( chunk );
+
+            int baselineTraceCount = 0;
+            Pool<TimeSeries<Pair<L, R>>> baseline = null;
+            if ( chunk.hasBaseline() )
+            {
+                baseline = chunk.getBaselineData();
+                baselineTraceCount = this.traceCountEstimator.applyAsInt( baseline );
+            }
+
+            for ( int i = 0; i < processorCount; i++ )
+            {
+                accumulators.get( i )
+                            .add( chunk );
+
+                if ( Objects.nonNull( baseline )
+                     && this.hasSeparateMetricsForBaseline() )
+                {
+                    accumulators.get( processorCount + i )
+                                .add( baseline );
+                }
+            }
+
+            // Register once per chunk, which registers the pool once because the chunks partition the pool
+            this.monitor.registerPool( chunk, this.traceCountEstimator.applyAsInt( chunk ), baselineTraceCount );
+
+            this.getPairWritingTask( false, this.pairsWriter )
+                .accept( chunk );
+            this.getPairWritingTask( true, this.basePairsWriter )
+                .accept( chunk );
+
+            if ( first )
+            {
+                statusEvents.addAll( chunk.getMetadata()
+                                          .getEvaluationStatusEvents() );
+                first = false;
+            }
+        }
+
+        // Short-circuit when there are no pairs: GitHub issue #397
+        if ( poolEventCount == 0 )
+        {
+            LOGGER.debug( "Skipping the generation of statistics for a pool with no pairs: {}", this.poolRequest );
+            return List.of();
+        }
+
+        LOGGER.debug( "Completing the statistics for a pool that contains {} time-series events: {}",
+                      poolEventCount,
+                      this.poolRequest );
+
+        List<Statistics> statistics = new ArrayList<>();
+        try
+        {
+            for ( int i = 0; i < processorCount; i++ )
+            {
+                StatisticsStore nextStore = accumulators.get( i )
+                                                        .complete();
+
+                if ( this.hasSeparateMetricsForBaseline() )
+                {
+                    nextStore = nextStore.combine( accumulators.get( processorCount + i )
+                                                               .complete() );
+                }
+
+                statistics.addAll( MessageFactory.getStatistics( nextStore ) );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new WresProcessingException( "Interrupted while completing evaluation "
+                                               + this.evaluation.getEvaluationId()
+                                               + ".",
+                                               e );
+        }
+
+        return Collections.unmodifiableList( statistics );
+    }
+
     /**
      * Generates sampling uncertainty statistics, as needed.
      *
@@ -607,20 +775,52 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
                 return List.of();
             }
 
-            // Iterate the samples and register the statistics for quantile calculation
-            for ( int i = 0; i < sampleSize; i++ )
+            // Evaluate each realization from the pairs gathered by index when no statistics depend on the
+            // time-series, else from the resampled time-series
+            Function<StationaryBootstrapResampler.Indexes, List<StatisticsStore>> sampler =
+                    indexes -> processor.apply( resampler.resample( indexes ) );
+            Optional<Function<Pool<Pair<L, R>>, List<StatisticsStore>>> pairsProcessor =
+                    this.getPairsProcessingTask( this.samplingUncertaintyMetricProcessors );
+            if ( pairsProcessor.isPresent() )
             {
-                Pool<TimeSeries<Pair<L, R>>> nextPool = resampler.resample();
-                List<StatisticsStore> stores = processor.apply( nextPool );
-                this.updateSampleStatistics( stores, quantileCalculators );
+                LOGGER.debug( "Evaluating the realizations of pool {} from pairs that are gathered by index.",
+                              pool.getMetadata() );
+
+                Function<Pool<Pair<L, R>>, List<StatisticsStore>> pairsTask = pairsProcessor.get();
+                sampler = indexes -> pairsTask.apply( resampler.gather( indexes ) );
+            }
+
+            // Iterate the samples in batches and register the statistics for quantile calculation. The resample
+            // indexes are generated in order on this thread, so the realizations are reproducible from the seed, and
+            // the realizations are then resampled and evaluated in parallel
+            Function<StationaryBootstrapResampler.Indexes, List<StatisticsStore>> sampleTask = sampler;
+            for ( int i = 0; i < sampleSize; i += SAMPLING_UNCERTAINTY_BATCH_SIZE )
+            {
+                int batchSize = Math.min( SAMPLING_UNCERTAINTY_BATCH_SIZE, sampleSize - i );
+                List<CompletableFuture<List<StatisticsStore>>> batch = new ArrayList<>( batchSize );
+                for ( int j = 0; j < batchSize; j++ )
+                {
+                    StationaryBootstrapResampler.Indexes indexes = resampler.generateIndexes();
+                    CompletableFuture<List<StatisticsStore>> nextFuture =
+                            CompletableFuture.supplyAsync( () -> sampleTask.apply( indexes ),
+                                                           this.samplingUncertaintyExecutor );
+                    batch.add( nextFuture );
+                }
+
+                // Register the statistics in sample order
+                for ( CompletableFuture<List<StatisticsStore>> nextFuture : batch )
+                {
+                    List<StatisticsStore> stores = this.getSampleStatistics( nextFuture );
+                    this.updateSampleStatistics( stores, quantileCalculators );
+                }
 
                 // Log progress every 100 samples
+                int completed = i + batchSize;
                 if ( LOGGER.isDebugEnabled()
-                     && i > 1
-                     && ( i + 1 ) % 100 == 0 )
+                     && completed / 100 > i / 100 )
                 {
                     LOGGER.debug( "Completed resample {} of {} for pool request {}.",
-                                  ( i + 1 ),
+                                  completed,
                                   sampleSize,
                                   this.poolRequest );
                 }
@@ -637,6 +837,40 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         return Collections.unmodifiableList( statistics );
     }
 
+    /**
+     * Waits for the statistics of a resampled pool.
+     * @param future the future statistics
+     * @return the statistics
+     * @throws WresProcessingException if the statistics could not be calculated
+     */
+
+    private List<StatisticsStore> getSampleStatistics( CompletableFuture<List<StatisticsStore>> future )
+    {
+        try
+        {
+            return future.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+
+            throw new WresProcessingException( "Interrupted while estimating the sampling uncertainties for "
+                                               + "evaluation "
+                                               + this.evaluation.getEvaluationId()
+                                               + ".",
+                                               e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new WresProcessingException( "Encountered an error while estimating the sampling uncertainties "
+                                               + "for evaluation "
+                                               + this.evaluation.getEvaluationId()
+                                               + ".",
+                                               e );
+        }
+    }
+
     /**
      * Updates the quantile calculators with the supplied statistics
      * @param stores the statistics
@@ -1031,6 +1265,103 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         };
     }
 
+    /**
+     * Returns a function that consumes a {@link Pool} of pairs without time-series and produces a list of
+     * {@link StatisticsStore}, one for each metrics declaration, if every processor can compute its statistics from
+     * pairs. Unlike {@link #getStatisticsProcessingTask(List, ToIntFunction)}, the pool is not registered with the
+     * monitor. See {@link StatisticsProcessor#getPairsProcessor()}.
+     *
+     * @param processors the metric processors
+     * @return a function that consumes a pool of pairs, if every processor can compute its statistics from pairs
+     */
+
+    private Optional<Function<Pool<Pair<L, R>>, List<StatisticsStore>>>
+    getPairsProcessingTask( List<StatisticsProcessor<Pool<TimeSeries<Pair<L, R>>>>> processors )
+    {
+        List<Function<Pool<Pair<L, R>>, StatisticsStore>> pairsProcessors = new ArrayList<>();
+        for ( StatisticsProcessor<Pool<TimeSeries<Pair<L, R>>>> processor : processors )
+        {
+            Optional<Function<Pool<Pair<L, R>>, StatisticsStore>> pairsProcessor = processor.getPairsProcessor();
+
+            if ( pairsProcessor.isEmpty() )
+            {
+                return Optional.empty();
+            }
+
+            pairsProcessors.add( pairsProcessor.get() );
+        }
+
+        return Optional.of( pool -> {
+            Objects.requireNonNull( pool );
+
+            // No data in the composition
+            if ( pool.get()
+                     .isEmpty()
+                 && ( !pool.hasBaseline() || pool.getBaselineData()
+                                                 .get()
+                                                 .isEmpty() ) )
+            {
+                LOGGER.debug( "Empty pool discovered for {}: no statistics will be produced.", pool.getMetadata() );
+
+                return List.of( new StatisticsStore.Builder().build() );
+            }
+
+            // One blob of statistics for each processor, one processor for each metrics declaration
+            List<StatisticsStore> returnMe = new ArrayList<>();
+            for ( Function<Pool<Pair<L, R>>, StatisticsStore> processor : pairsProcessors )
+            {
+                StatisticsStore statistics = processor.apply( pool );
+
+                // Compute separate statistics for the baseline?
+                if ( pool.hasBaseline()
+                     && this.hasSeparateMetricsForBaseline() )
+                {
+                    statistics = statistics.combine( processor.apply( pool.getBaselineData() ) );
+                }
+
+                returnMe.add( statistics );
+            }
+
+            return Collections.unmodifiableList( returnMe );
+        } );
+    }
+
+    /**
+     * Returns the accumulators with which to consume the pool incrementally, in chunks. There is one accumulator for
+     * each metrics declaration, followed by one accumulator for each metrics declaration when computing separate
+     * statistics for the baseline. The pool is consumed incrementally when a chunk supplier is available, no sampling
+     * uncertainty estimates are required and every metric processor supplies an accumulator.
+     *
+     * @return the accumulators or an empty list if the pool should not be consumed incrementally
+     */
+    private List<StatisticsAccumulator<Pool<TimeSeries<Pair<L, R>>>>> getAccumulators()
+    {
+        if ( Objects.isNull( this.poolChunkSupplier )
+             || Objects.nonNull( this.samplingUncertainty ) )
+        {
+            return List.of();
+        }
+
+        int copies = this.hasSeparateMetricsForBaseline() ? 2 : 1;
+        List<StatisticsAccumulator<Pool<TimeSeries<Pair<L, R>>>>> accumulators = new ArrayList<>();
+        for ( int i = 0; i < copies; i++ )
+        {
+            for ( StatisticsProcessor<Pool<TimeSeries<Pair<L, R>>>> processor : this.metricProcessors )
+            {
+                Optional<StatisticsAccumulator<Pool<TimeSeries<Pair<L, R>>>>> accumulator = processor.getAccumulator();
+
+                if ( accumulator.isEmpty() )
+                {
+                    return List.of();
+                }
+
+                accumulators.add( accumulator.get() );
+            }
+        }
+
+        return Collections.unmodifiableList( accumulators );
+    }
+
     /**
      * @return whether separate metrics are required for the baseline
      */
@@ -1083,6 +1414,7 @@ public class PoolProcessor<L, R> implements Supplier<PoolProcessingResult>
         this.evaluation = builder.evaluation;
         this.monitor = builder.monitor;
         this.poolSupplier = builder.poolSupplier;
+        this.poolChunkSupplier = builder.poolChunkSupplier;
         this.poolRequest = builder.poolRequest;
         this.metricProcessors = List.copyOf( builder.metricProcessors ); // Validates nullity
         this.summaryStatistics = List.copyOf( builder.summaryStatistics );
@@ -0,0 +1,480 @@
+package wres.pipeline.pooling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Schedules pools for execution, ordering them by locality and admitting them according to the expected heap use.
+ *
+ * <p>Pools that share retrieved data, such as all time windows of one feature group, which share the retrievers cached
+ * by a {@link CachingRetrieverFactory}, share a locality. The pools are scheduled one locality at a time, in the order
+ * in which each locality first appears, so that the pools of a locality run together while the retrieved data is
+ * warm. Within a locality, the pools are scheduled in the order prescribed.
+ *
+ * <p>A pool is admitted to the executor when fewer than the maximum number of pools are in flight and, where a heap
+ * budget is declared, when the estimated heap use of the pools in flight and the current heap use both leave room for
+ * another pool. The estimated heap use of a pool is learned from the heap use observed when pools complete. The heap
+ * use is measured after the most recent garbage collection, so that the garbage that accumulates between collections
+ * is not attributed to the pools in flight. One pool is always admitted when no pools are in flight, so that every
+ * pool is eventually admitted. Once any pool completes exceptionally, no further pools are admitted.
+ *
+ * <p>The queue depth, estimated bytes in flight and the latency of each pool are exposed to the Java Flight Recorder
+ * with a {@link PoolSchedulingEvent} and through the accessors of this class.
+ *
+ * @author James Brown
+ */
+
+@ThreadSafe
+public class PoolScheduler
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( PoolScheduler.class );
+
+    /** The weight given to each new observation of the heap use of a pool. */
+    private static final double OBSERVATION_WEIGHT = 0.2;
+
+    /** The executor for pools. */
+    private final Executor executor;
+
+    /** The maximum number of pools in flight. */
+    private final int maximumInFlight;
+
+    /** The budget for the estimated heap use of the pools in flight, in bytes, or zero for no budget. */
+    private final long heapBudget;
+
+    /** The maximum heap size in bytes. */
+    private final long maximumHeap;
+
+    /** Supplies the heap use in bytes, excluding garbage. */
+    private final LongSupplier heapUsage;
+
+    /** The pools waiting for admission, grouped by locality in order of first appearance. */
+    @GuardedBy( "this" )
+    private final Map<Object, Deque<Runnable>> queue = new LinkedHashMap<>();
+
+    /** The number of pools waiting for admission. */
+    @GuardedBy( "this" )
+    private int queueDepth;
+
+    /** The number of pools in flight. */
+    @GuardedBy( "this" )
+    private int inFlight;
+
+    /** The estimated heap use of the pools in flight, in bytes. */
+    @GuardedBy( "this" )
+    private long inFlightBytes;
+
+    /** The estimated heap use of one pool, in bytes. */
+    @GuardedBy( "this" )
+    private long estimatedBytes;
+
+    /** The lowest heap use since no pools were in flight, in bytes. */
+    @GuardedBy( "this" )
+    private long baselineHeap;
+
+    /** The number of pools completed. */
+    @GuardedBy( "this" )
+    private long completed;
+
+    /** The total latency of the pools completed, in nanoseconds. */
+    @GuardedBy( "this" )
+    private long totalLatency;
+
+    /** Is true if a pool has completed exceptionally. */
+    @GuardedBy( "this" )
+    private boolean failed;
+
+    /**
+     * Creates an instance with a budget for the heap use of pools in flight.
+     *
+     * @param executor the executor for pools
+     * @param maximumInFlight the maximum number of pools in flight, typically the number of pool threads
+     * @param heapPercent the percentage of the maximum heap available to the pools in flight, zero for no budget
+     * @return an instance
+     * @throws NullPointerException if the executor is null
+     * @throws IllegalArgumentException if the maximumInFlight is less than one or the heapPercent is not a percentage
+     */
+
+    public static PoolScheduler of( Executor executor, int maximumInFlight, int heapPercent )
+    {
+        long maximumHeap = Runtime.getRuntime()
+                                  .maxMemory();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans()
+                                                            .stream()
+                                                            .filter( next -> next.getType() == MemoryType.HEAP )
+                                                            .toList();
+        return new PoolScheduler( executor,
+                                  maximumInFlight,
+                                  heapPercent,
+                                  maximumHeap,
+                                  () -> PoolScheduler.getLiveHeap( heapPools ) );
+    }
+
+    /**
+     * Schedules the pools and returns a future that completes when all the pools complete nominally or one completes
+     * exceptionally.
+     *
+     * @param <T> the type of pool task
+     * @param pools the pools
+     * @param locality a function that returns the locality of a pool
+     * @param reporter a consumer of each pool processing result
+     * @return the future
+     * @throws NullPointerException if any input is null
+     */
+
+    public <T extends Supplier<PoolProcessingResult>> CompletableFuture<Object>
+    schedule( List<T> pools, Function<T, ?> locality, Consumer<PoolProcessingResult> reporter )
+    {
+        Objects.requireNonNull( pools );
+        Objects.requireNonNull( locality );
+        Objects.requireNonNull( reporter );
+
+        // Create the composition of pool tasks for completion
+        List<CompletableFuture<Void>> poolTasks = new ArrayList<>( pools.size() );
+
+        // Create a future that completes when any one pool task completes exceptionally
+        CompletableFuture<Void> oneExceptional = new CompletableFuture<>();
+
+        synchronized ( this )
+        {
+            for ( T pool : pools )
+            {
+                Object key = locality.apply( pool );
+                CompletableFuture<Void> poolTask = new CompletableFuture<>();
+                poolTasks.add( poolTask );
+
+                // The task to run on admission
+                Runnable admit = () -> this.run( pool, key, poolTask, reporter, oneExceptional );
+
+                this.queue.computeIfAbsent( key, k -> new ArrayDeque<>() )
+                          .add( admit );
+                this.queueDepth++;
+            }
+
+            LOGGER.debug( "Scheduled {} pools across {} localities.", pools.size(), this.queue.size() );
+        }
+
+        this.admit();
+
+        // Create a future that completes when all pool tasks succeed
+        CompletableFuture<Void> allDone =
+                CompletableFuture.allOf( poolTasks.toArray( new CompletableFuture[0] ) );
+
+        // Chain the two futures together so that either: 1) all pool tasks succeed; or 2) one fails exceptionally.
+        return CompletableFuture.anyOf( allDone, oneExceptional );
+    }
+
+    /**
+     * @return the number of pools waiting for admission
+     */
+
+    public synchronized int getQueueDepth()
+    {
+        return this.queueDepth;
+    }
+
+    /**
+     * @return the number of pools admitted and not yet complete
+     */
+
+    public synchronized int getInFlightPools()
+    {
+        return this.inFlight;
+    }
+
+    /**
+     * @return the estimated heap use of the pools admitted and not yet complete, in bytes
+     */
+
+    public synchronized long getInFlightBytes()
+    {
+        return this.inFlightBytes;
+    }
+
+    /**
+     * @return the mean latency of the pools completed, from admission to completion, in nanoseconds
+     */
+
+    public synchronized long getMeanLatency()
+    {
+        if ( this.completed == 0 )
+        {
+            return 0;
+        }
+
+        return this.totalLatency / this.completed;
+    }
+
+    /**
+     * Returns the heap use after the most recent garbage collection of each heap memory pool, which excludes the
+     * garbage that accumulates between collections. A memory pool that does not report its use after a collection
+     * contributes its current use. Until the first collection, the current use of every memory pool is returned.
+     *
+     * @param heapPools the heap memory pools
+     * @return the heap use in bytes
+     */
+
+    static long getLiveHeap( List<MemoryPoolMXBean> heapPools )
+    {
+        long live = 0;
+        long current = 0;
+
+        for ( MemoryPoolMXBean next : heapPools )
+        {
+            long used = next.getUsage()
+                            .getUsed();
+            MemoryUsage collected = next.getCollectionUsage();
+            live += Objects.isNull( collected ) ? used : collected.getUsed();
+            current += used;
+        }
+
+        // No collection yet
+        if ( live == 0 )
+        {
+            return current;
+        }
+
+        return live;
+    }
+
+    /**
+     * Runs an admitted pool and releases it on completion.
+     *
+     * @param <T> the type of pool task
+     * @param pool the pool
+     * @param locality the locality
+     * @param poolTask the future to complete
+     * @param reporter the reporter
+     * @param oneExceptional the future to complete when any pool completes exceptionally
+     */
+
+    private <T extends Supplier<PoolProcessingResult>> void run( T pool,
+                                                                 Object locality,
+                                                                 CompletableFuture<Void> poolTask,
+                                                                 Consumer<PoolProcessingResult> reporter,
+                                                                 CompletableFuture<Void> oneExceptional )
+    {
+        long estimate;
+        PoolSchedulingEvent event;
+
+        synchronized ( this )
+        {
+            estimate = this.estimatedBytes;
+            event = PoolSchedulingEvent.of( String.valueOf( locality ),
+                                            this.queueDepth,
+                                            this.inFlight,
+                                            this.inFlightBytes,
+                                            estimate );
+        }
+
+        event.begin();
+        long start = System.nanoTime();
+
+        try
+        {
+            CompletableFuture.supplyAsync( pool, this.executor )
+                             .thenAccept( reporter )
+                             .whenComplete( ( result, exception ) -> {
+                                 event.commit();
+                                 this.release( estimate, System.nanoTime() - start, Objects.nonNull( exception ) );
+
+                                 if ( Objects.nonNull( exception ) )
+                                 {
+                                     // When one pool completes exceptionally, propagate
+                                     oneExceptional.completeExceptionally( exception );
+                                     poolTask.completeExceptionally( exception );
+                                 }
+                                 else
+                                 {
+                                     poolTask.complete( null );
+                                 }
+
+                                 this.admit();
+                             } );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            this.release( estimate, System.nanoTime() - start, true );
+            oneExceptional.completeExceptionally( e );
+            poolTask.completeExceptionally( e );
+        }
+    }
+
+    /**
+     * Admits as many pools as the constraints allow.
+     */
+
+    private void admit()
+    {
+        List<Runnable> admitted = new ArrayList<>();
+
+        synchronized ( this )
+        {
+            while ( !this.failed && this.queueDepth > 0 && this.canAdmit() )
+            {
+                // Continue with the first locality that has pools waiting
+                Map.Entry<Object, Deque<Runnable>> next = this.queue.entrySet()
+                                                                    .iterator()
+                                                                    .next();
+                Deque<Runnable> pools = next.getValue();
+                admitted.add( pools.poll() );
+
+                if ( pools.isEmpty() )
+                {
+                    this.queue.remove( next.getKey() );
+                }
+
+                if ( this.inFlight == 0 )
+                {
+                    this.baselineHeap = this.heapUsage.getAsLong();
+                }
+
+                this.queueDepth--;
+                this.inFlight++;
+                this.inFlightBytes += this.estimatedBytes;
+            }
+
+            LOGGER.debug( "Admitted {} pools, leaving {} pools in flight with an estimated {} bytes and {} pools "
+                          + "waiting.",
+                          admitted.size(),
+                          this.inFlight,
+                          this.inFlightBytes,
+                          this.queueDepth );
+        }
+
+        // Run outside the lock
+        admitted.forEach( Runnable::run );
+    }
+
+    /**
+     * @return true if another pool can be admitted, otherwise false
+     */
+
+    @GuardedBy( "this" )
+    private boolean canAdmit()
+    {
+        // Always admit one pool to guarantee progress
+        if ( this.inFlight == 0 )
+        {
+            return true;
+        }
+
+        if ( this.inFlight >= this.maximumInFlight )
+        {
+            return false;
+        }
+
+        // No heap budget
+        if ( this.heapBudget == 0 )
+        {
+            return true;
+        }
+
+        return this.inFlightBytes + this.estimatedBytes <= this.heapBudget
+               && this.heapUsage.getAsLong() + this.estimatedBytes <= this.maximumHeap;
+    }
+
+    /**
+     * Releases a pool on completion and updates the estimated heap use of one pool from the heap use observed.
+     *
+     * @param estimate the estimated heap use of the pool on admission
+     * @param latency the latency of the pool in nanoseconds
+     * @param exceptional is true if the pool completed exceptionally
+     */
+
+    private synchronized void release( long estimate, long latency, boolean exceptional )
+    {
+        if ( this.heapBudget > 0 && this.inFlight > 0 )
+        {
+            // The baseline follows the heap use down, such as after the first collection
+            long heap = this.heapUsage.getAsLong();
+            this.baselineHeap = Math.min( this.baselineHeap, heap );
+            long observed = ( heap - this.baselineHeap ) / this.inFlight;
+            long updated = Math.round( ( 1 - OBSERVATION_WEIGHT ) * this.estimatedBytes
+                                       + OBSERVATION_WEIGHT * observed );
+
+            // A pool must always fit within the budget on its own
+            this.estimatedBytes = Math.min( this.heapBudget, Math.max( 1, updated ) );
+        }
+
+        this.inFlight--;
+        this.inFlightBytes = Math.max( 0, this.inFlightBytes - estimate );
+        this.completed++;
+        this.totalLatency += latency;
+        this.failed |= exceptional;
+
+        if ( LOGGER.isDebugEnabled() )
+        {
+            LOGGER.debug( "Completed a pool in {} ms. The estimated heap use of one pool is now {} bytes.",
+                          latency / 1_000_000,
+                          this.estimatedBytes );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param executor the executor for pools
+     * @param maximumInFlight the maximum number of pools in flight
+     * @param heapPercent the percentage of the maximum heap available to the pools in flight, zero for no budget
+     * @param maximumHeap the maximum heap size in bytes
+     * @param heapUsage supplies the heap use in bytes, excluding garbage
+     * @throws NullPointerException if any required input is null
+     * @throws IllegalArgumentException if the maximumInFlight is less than one or the heapPercent is not a percentage
+     */
+
+    PoolScheduler( Executor executor, int maximumInFlight, int heapPercent, long maximumHeap, LongSupplier heapUsage )
+    {
+        Objects.requireNonNull( executor );
+        Objects.requireNonNull( heapUsage );
+
+        if ( maximumInFlight < 1 )
+        {
+            throw new IllegalArgumentException( "The maximum number of pools in flight must be greater than zero: "
+                                                + maximumInFlight
+                                                + "." );
+        }
+
+        if ( heapPercent < 0 || heapPercent > 100 )
+        {
+            throw new IllegalArgumentException( "The percentage of heap available to pools must be between 0 and "
+                                                + "100: "
+                                                + heapPercent
+                                                + "." );
+        }
+
+        this.executor = executor;
+        this.maximumInFlight = maximumInFlight;
+        this.maximumHeap = maximumHeap;
+        this.heapUsage = heapUsage;
+        this.heapBudget = maximumHeap / 100 * heapPercent;
+
+        // Until observed, assume that the budget is shared evenly by the maximum number of pools in flight
+        this.estimatedBytes = Math.max( 1, this.heapBudget / maximumInFlight );
+
+        LOGGER.debug( "Created a pool scheduler with a maximum of {} pools in flight and a heap budget of {} bytes.",
+                      this.maximumInFlight,
+                      this.heapBudget );
+    }
+}
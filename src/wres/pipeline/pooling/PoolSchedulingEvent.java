@@ -0,0 +1,84 @@
+package wres.pipeline.pooling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A custom event for monitoring and exposing the scheduling of pools by a {@link PoolScheduler} to the Java Flight
+ * Recorder. The duration of the event is the latency of one pool, from admission to completion, and the other fields
+ * describe the state of the scheduler when the pool was admitted.
+ *
+ * @author James Brown
+ */
+
+@Name( "wres.pooling.pipeline.PoolSchedulingEvent" )
+@Label( "Pool Scheduling Event" )
+@Category( { "Java Application", "Water Resources Evaluation Service", "Core", "Pooling" } )
+class PoolSchedulingEvent extends Event
+{
+    @Label( "Locality" )
+    @Description( "The locality of the pool, which is shared by pools that share retrieved data." )
+    private final String locality;
+
+    @Label( "Queue Depth" )
+    @Description( "The number of pools waiting for admission." )
+    private final int queueDepth;
+
+    @Label( "Pools In Flight" )
+    @Description( "The number of pools admitted and not yet complete, including this pool." )
+    private final int inFlightPools;
+
+    @Label( "Bytes In Flight" )
+    @Description( "The estimated heap use of the pools admitted and not yet complete, including this pool." )
+    @DataAmount( DataAmount.BYTES )
+    private final long inFlightBytes;
+
+    @Label( "Estimated Bytes" )
+    @Description( "The estimated heap use of this pool." )
+    @DataAmount( DataAmount.BYTES )
+    private final long estimatedBytes;
+
+    /**
+     * @param locality the locality
+     * @param queueDepth the queue depth
+     * @param inFlightPools the number of pools in flight
+     * @param inFlightBytes the estimated bytes in flight
+     * @param estimatedBytes the estimated bytes for this pool
+     * @return an instance
+     */
+
+    static PoolSchedulingEvent of( String locality,
+                                   int queueDepth,
+                                   int inFlightPools,
+                                   long inFlightBytes,
+                                   long estimatedBytes )
+    {
+        return new PoolSchedulingEvent( locality, queueDepth, inFlightPools, inFlightBytes, estimatedBytes );
+    }
+
+    /**
+     * Hidden constructor.
+     * @param locality the locality
+     * @param queueDepth the queue depth
+     * @param inFlightPools the number of pools in flight
+     * @param inFlightBytes the estimated bytes in flight
+     * @param estimatedBytes the estimated bytes for this pool
+     */
+
+    private PoolSchedulingEvent( String locality,
+                                 int queueDepth,
+                                 int inFlightPools,
+                                 long inFlightBytes,
+                                 long estimatedBytes )
+    {
+        this.locality = locality;
+        this.queueDepth = queueDepth;
+        this.inFlightPools = inFlightPools;
+        this.inFlightBytes = inFlightBytes;
+        this.estimatedBytes = estimatedBytes;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -249,53 +250,19 @@ public class EnsembleStatisticsProcessor extends StatisticsProcessor<Pool<TimeSe
 
         LOGGER.debug( "Computing ensemble statistics for pool: {}.", pool.getMetadata() );
 
-        // Statistics futures
-        StatisticsStore.Builder futures = new StatisticsStore.Builder();
-
         // Add the ensemble average type used by this processor to the pool metadata.
-        String typeName = this.getEnsembleAverageType()
-                              .name();
-        wres.statistics.generated.Pool.EnsembleAverageType averageType =
-                wres.statistics.generated.Pool.EnsembleAverageType.valueOf( typeName );
-        UnaryOperator<PoolMetadata> metaMapper = unadjusted -> PoolMetadata.of( unadjusted, averageType );
+        UnaryOperator<PoolMetadata> metaMapper = this.getMetadataMapper();
 
         // Do the metadata transformation only with an identity function applied to the pooled data
         Pool<TimeSeries<Pair<Double, Ensemble>>> adjustedPool
                 = PoolSlicer.transform( pool,
                                         Function.identity(),
-                                        unadjusted -> PoolMetadata.of( unadjusted,
-                                                                       averageType ) );
+                                        metaMapper );
         Pool<Pair<Double, Ensemble>> unpacked =
                 this.doWorkWithSlicingExecutor( () -> PoolSlicer.unpack( adjustedPool ) );
 
-
-        LOGGER.debug( "Computing ensemble statistics from {} pairs.",
-                      unpacked.get()
-                              .size() );
-
-        // Process the metrics that consume ensemble pairs
-        if ( this.hasMetrics( SampleDataGroup.ENSEMBLE ) )
-        {
-            this.processEnsemblePairs( unpacked, futures );
-        }
-
-        // Process the metrics that consume discrete probability pairs derived from the ensemble pairs
-        if ( this.hasMetrics( SampleDataGroup.DISCRETE_PROBABILITY ) )
-        {
-            this.processDiscreteProbabilityPairs( unpacked, futures );
-        }
-
-        // Process the metrics that consume dichotomous pairs derived from the ensemble pairs
-        if ( this.hasMetrics( SampleDataGroup.DICHOTOMOUS ) && this.hasDecisionThresholds() )
-        {
-            LOGGER.debug( "Encountered dichotomous metrics and decision thresholds, which means that dichtomous "
-                          + "metrics will be computed for the ensemble pairs." );
-
-            this.processPairsForDichotomousMetrics( unpacked, futures );
-        }
-
         // Process the ensemble result, which do not yet include single-valued metrics
-        StatisticsStore results = futures.build();
+        StatisticsStore results = this.processPairs( unpacked );
 
         // Process the metrics that consume single-valued pairs, which includes any dichotomous metrics derived from 
         // single-valued pairs: #109783. See later for dichotomous metrics produced from ensemble pairs
@@ -330,6 +297,140 @@ public class EnsembleStatisticsProcessor extends StatisticsProcessor<Pool<TimeSe
         return results;
     }
 
+    @Override
+    public Optional<StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Ensemble>>>>> getAccumulator()
+    {
+        Optional<StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>>> singleValued = Optional.empty();
+        if ( Objects.nonNull( this.singleValuedProcessor ) )
+        {
+            singleValued = this.singleValuedProcessor.getAccumulator();
+        }
+
+        if ( !this.isIncremental()
+             || ( Objects.nonNull( this.singleValuedProcessor ) && singleValued.isEmpty() ) )
+        {
+            LOGGER.debug( "Cannot compute the ensemble statistics incrementally for these metrics and thresholds: {}.",
+                          super.getMetrics() );
+
+            return Optional.empty();
+        }
+
+        return Optional.of( new EnsembleAccumulator( singleValued.orElse( null ) ) );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <U> Optional<Function<Pool<U>, StatisticsStore>> getPairsProcessor()
+    {
+        if ( this.hasMetrics( SampleDataGroup.SINGLE_VALUED_TIME_SERIES ) )
+        {
+            LOGGER.debug( "Cannot compute the ensemble statistics from pairs without time-series for these metrics: "
+                          + "{}.",
+                          super.getMetrics() );
+
+            return Optional.empty();
+        }
+
+        Function<Pool<Pair<Double, Ensemble>>, StatisticsStore> processor = this::applyToPairs;
+        return Optional.of( ( Function<Pool<U>, StatisticsStore> ) ( Function<?, ?> ) processor );
+    }
+
+    /**
+     * Computes the statistics from a pool of pairs without time-series. Equivalent to {@link #apply(Pool)} when there
+     * are no metrics that consume time-series.
+     *
+     * @param pairs the pairs
+     * @return the statistics
+     * @throws NullPointerException if the pairs are null
+     */
+
+    private StatisticsStore applyToPairs( Pool<Pair<Double, Ensemble>> pairs )
+    {
+        Objects.requireNonNull( pairs, "Expected a non-null pool as input to the metric processor." );
+
+        LOGGER.debug( "Computing ensemble statistics for pool: {}.", pairs.getMetadata() );
+
+        // Add the ensemble average type to the metadata, sharing the columnar views of the pairs
+        UnaryOperator<PoolMetadata> metaMapper = this.getMetadataMapper();
+        Pool<Pair<Double, Ensemble>> adjusted = PoolSlicer.transformMetadata( pairs, metaMapper );
+        StatisticsStore results = this.processPairs( adjusted );
+
+        if ( this.hasMetrics( SampleDataGroup.SINGLE_VALUED )
+             || this.hasMetrics( SampleDataGroup.DICHOTOMOUS ) )
+        {
+            // Derive the single-valued pairs from the ensemble pairs using the configured mapper
+            Pool<Pair<Double, Double>> singleValued =
+                    this.doWorkWithSlicingExecutor( () -> PoolSlicer.transform( pairs,
+                                                                                this.toSingleValues,
+                                                                                metaMapper ) );
+
+            StatisticsStore statistics = this.singleValuedProcessor.applyToPairs( singleValued );
+            results = results.combine( statistics );
+        }
+
+        LOGGER.debug( PROCESSING_COMPLETE_MESSAGE,
+                      pairs.getMetadata()
+                           .getFeatureGroup(),
+                      pairs.getMetadata()
+                           .getTimeWindow() );
+
+        return results;
+    }
+
+    /**
+     * Processes the metrics that consume ensemble pairs, discrete probability pairs and dichotomous pairs derived from
+     * the ensemble pairs.
+     *
+     * @param unpacked the ensemble pairs
+     * @return the statistics
+     */
+
+    private StatisticsStore processPairs( Pool<Pair<Double, Ensemble>> unpacked )
+    {
+        // Statistics futures
+        StatisticsStore.Builder futures = new StatisticsStore.Builder();
+
+        LOGGER.debug( "Computing ensemble statistics from {} pairs.",
+                      unpacked.get()
+                              .size() );
+
+        // Process the metrics that consume ensemble pairs
+        if ( this.hasMetrics( SampleDataGroup.ENSEMBLE ) )
+        {
+            this.processEnsemblePairs( unpacked, futures );
+        }
+
+        // Process the metrics that consume discrete probability pairs derived from the ensemble pairs
+        if ( this.hasMetrics( SampleDataGroup.DISCRETE_PROBABILITY ) )
+        {
+            this.processDiscreteProbabilityPairs( unpacked, futures );
+        }
+
+        // Process the metrics that consume dichotomous pairs derived from the ensemble pairs
+        if ( this.hasMetrics( SampleDataGroup.DICHOTOMOUS ) && this.hasDecisionThresholds() )
+        {
+            LOGGER.debug( "Encountered dichotomous metrics and decision thresholds, which means that dichtomous "
+                          + "metrics will be computed for the ensemble pairs." );
+
+            this.processPairsForDichotomousMetrics( unpacked, futures );
+        }
+
+        return futures.build();
+    }
+
+    /**
+     * @return a mapper that adds the ensemble average type used by this processor to the pool metadata
+     */
+
+    private UnaryOperator<PoolMetadata> getMetadataMapper()
+    {
+        String typeName = this.getEnsembleAverageType()
+                              .name();
+        wres.statistics.generated.Pool.EnsembleAverageType averageType =
+                wres.statistics.generated.Pool.EnsembleAverageType.valueOf( typeName );
+        return unadjusted -> PoolMetadata.of( unadjusted, averageType );
+    }
+
     /**
      * <p>Removes a duplicate instance of the {@link MetricConstants#SAMPLE_SIZE}, which may appear in more than one
      * context.
@@ -1002,6 +1103,217 @@ public class EnsembleStatisticsProcessor extends StatisticsProcessor<Pool<TimeSe
         };
     }
 
+    /**
+     * Returns <code>true</code> when the only metrics that consume ensemble pairs are scores that implement
+     * {@link wres.metrics.Incremental}, there are no metrics that consume discrete probability or dichotomous pairs
+     * and the only thresholds are "all data" thresholds, otherwise <code>false</code>. Any metrics that consume the
+     * single-valued pairs derived from the ensemble pairs must also be incremental.
+     *
+     * @return true if the ensemble statistics can be computed incrementally, otherwise false
+     */
+
+    private boolean isIncremental()
+    {
+        return ( Objects.nonNull( this.ensembleScore ) || Objects.nonNull( this.singleValuedProcessor ) )
+               && ( Objects.isNull( this.ensembleScore ) || this.ensembleScore.isIncremental() )
+               && !this.hasMetrics( SampleDataGroup.ENSEMBLE, StatisticType.DIAGRAM )
+               && !this.hasMetrics( SampleDataGroup.ENSEMBLE, StatisticType.BOXPLOT_PER_PAIR )
+               && !this.hasMetrics( SampleDataGroup.DISCRETE_PROBABILITY )
+               && !this.hasMetrics( SampleDataGroup.DICHOTOMOUS )
+               && super.hasOnlyAllDataThresholds();
+    }
+
+    /**
+     * Accumulates the ensemble scores incrementally, together with any single-valued scores of the ensemble average.
+     * Equivalent to {@link #apply(Pool)} for the metrics and thresholds allowed by {@link #isIncremental()}.
+     */
+
+    private class EnsembleAccumulator implements StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Ensemble>>>>
+    {
+        /** The accumulator for the single-valued scores of the ensemble average, possibly null. */
+        private final StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> singleValued;
+
+        /** Adds the ensemble average type to the pool metadata. */
+        private final UnaryOperator<PoolMetadata> metaMapper;
+
+        /** The accumulator for the ensemble scores, which is created on receipt of the first chunk, possibly null. */
+        private MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator scores;
+
+        /** The threshold with which to qualify the pool metadata, which is set on receipt of the first chunk. */
+        private OneOrTwoThresholds threshold;
+
+        /** The number of pairs added. */
+        private long sampleSize;
+
+        /** The number of baseline pairs added. */
+        private long baselineSampleSize;
+
+        /** Whether the pool has a baseline, which is set on receipt of the first chunk. */
+        private boolean hasBaseline;
+
+        @Override
+        public void add( Pool<TimeSeries<Pair<Double, Ensemble>>> chunk )
+        {
+            Objects.requireNonNull( chunk, "Expected a non-null chunk as input to the metric accumulator." );
+
+            if ( Objects.isNull( this.threshold ) )
+            {
+                this.threshold = EnsembleStatisticsProcessor.this.getComposedThreshold( chunk );
+                this.hasBaseline = chunk.hasBaseline();
+                this.scores = this.getScoreAccumulator( this.hasBaseline );
+            }
+
+            OneOrTwoThresholds composed = this.threshold;
+            Pool<Pair<Double, Ensemble>> unpacked =
+                    PoolSlicer.transform( PoolSlicer.unpack( chunk ),
+                                          pair -> pair,
+                                          meta -> PoolMetadata.of( this.metaMapper.apply( meta ), composed ) );
+
+            LOGGER.debug( "Adding a chunk of {} ensemble pairs to the metric accumulator for pool {}.",
+                          unpacked.get()
+                                  .size(),
+                          unpacked.getMetadata() );
+
+            if ( Objects.nonNull( this.scores ) )
+            {
+                this.scores.add( unpacked );
+            }
+
+            this.sampleSize += unpacked.get()
+                                       .size();
+
+            if ( unpacked.hasBaseline() )
+            {
+                this.baselineSampleSize += unpacked.getBaselineData()
+                                                   .get()
+                                                   .size();
+            }
+
+            if ( Objects.nonNull( this.singleValued ) )
+            {
+                Function<TimeSeries<Pair<Double, Ensemble>>, TimeSeries<Pair<Double, Double>>> mapper =
+                        in -> TimeSeriesSlicer.transform( in, EnsembleStatisticsProcessor.this.toSingleValues, null );
+                this.singleValued.add( PoolSlicer.transform( chunk, mapper, this.metaMapper ) );
+            }
+        }
+
+        @Override
+        public StatisticsStore complete()
+        {
+            StatisticsStore.Builder builder = new StatisticsStore.Builder();
+
+            // Don't compute statistics for empty pairs, in keeping with the calculation for an entire pool
+            if ( this.sampleSize == 0 )
+            {
+                LOGGER.debug( "Skipping the calculation of statistics for an empty pool of pairs." );
+
+                return builder.build();
+            }
+
+            if ( Objects.nonNull( this.scores ) )
+            {
+                builder.addDoubleScoreStatistics( CompletableFuture.completedFuture( this.getScores() ) );
+            }
+
+            StatisticsStore statistics = builder.build();
+
+            if ( Objects.nonNull( this.singleValued ) )
+            {
+                statistics = statistics.combine( this.singleValued.complete() );
+            }
+
+            return statistics;
+        }
+
+        /**
+         * Creates the accumulator for the ensemble scores, omitting any scores that require an explicit baseline when
+         * the pool has no baseline.
+         *
+         * @param hasBaseline whether the pool has a baseline
+         * @return the accumulator or null if there are no scores to accumulate
+         */
+
+        private MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator
+        getScoreAccumulator( boolean hasBaseline )
+        {
+            MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                    collection = EnsembleStatisticsProcessor.this.ensembleScore;
+
+            if ( Objects.isNull( collection ) )
+            {
+                return null;
+            }
+
+            Set<MetricConstants> metrics = new HashSet<>( collection.getMetrics() );
+
+            if ( !hasBaseline )
+            {
+                metrics.removeIf( MetricConstants::isExplicitBaselineRequired );
+            }
+
+            if ( metrics.isEmpty() )
+            {
+                return null;
+            }
+
+            return collection.getAccumulator( metrics );
+        }
+
+        /**
+         * Completes the ensemble scores, retaining only the sample size when there are fewer pairs than the minimum
+         * sample size and omitting the skill scores when there are fewer baseline pairs than the minimum sample size.
+         *
+         * @return the scores
+         */
+
+        private List<DoubleScoreStatisticOuter> getScores()
+        {
+            List<DoubleScoreStatisticOuter> statistics = this.scores.complete();
+
+            // Allow the sample size through without constraint
+            int minimumSampleSize = EnsembleStatisticsProcessor.this.getMinimumSampleSize();
+            if ( this.sampleSize < minimumSampleSize )
+            {
+                LOGGER.debug( "While accumulating pairs, discovered {} pairs, which is fewer than the minimum sample "
+                              + "size of {} pairs. Only the sample size will be reported.",
+                              this.sampleSize,
+                              minimumSampleSize );
+
+                return statistics.stream()
+                                 .filter( next -> next.getMetricName() == MetricConstants.SAMPLE_SIZE )
+                                 .toList();
+            }
+
+            if ( this.hasBaseline
+                 && this.baselineSampleSize < minimumSampleSize )
+            {
+                LOGGER.debug( "While accumulating pairs, discovered {} baseline pairs, which is fewer than the minimum "
+                              + "sample size of {} pairs. The skill scores will not be reported.",
+                              this.baselineSampleSize,
+                              minimumSampleSize );
+
+                return statistics.stream()
+                                 .filter( next -> !next.getMetricName()
+                                                       .isSkillMetric() )
+                                 .toList();
+            }
+
+            return statistics;
+        }
+
+        /**
+         * Hidden constructor.
+         *
+         * @param singleValued the accumulator for the single-valued scores of the ensemble average, possibly null
+         */
+
+        private EnsembleAccumulator( StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> singleValued )
+        {
+            this.singleValued = singleValued;
+            this.metaMapper = EnsembleStatisticsProcessor.this.getMetadataMapper();
+        }
+    }
+
     /**
      * Validates the internal state of the processor.
      */
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -25,6 +26,7 @@ import wres.config.yaml.components.ThresholdType;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.pools.PoolSlicer;
+import wres.datamodel.pools.ThresholdSweep;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.space.FeatureTuple;
 import wres.datamodel.Slicer;
@@ -221,14 +223,8 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         StatisticsStore.Builder futures = new StatisticsStore.Builder();
 
         // Process the metrics that consume single-valued pairs
-        if ( this.hasMetrics( SampleDataGroup.SINGLE_VALUED ) )
-        {
-            this.processSingleValuedPairs( unpacked, futures );
-        }
-        if ( this.hasMetrics( SampleDataGroup.DICHOTOMOUS ) )
-        {
-            this.processPairsForDichotomousMetrics( unpacked, futures );
-        }
+        this.processPairs( unpacked, futures );
+
         if ( this.hasMetrics( SampleDataGroup.SINGLE_VALUED_TIME_SERIES ) )
         {
             this.processTimeSeriesPairs( pool, futures );
@@ -243,6 +239,84 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         return futures.build();
     }
 
+    @Override
+    public Optional<StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>>> getAccumulator()
+    {
+        if ( !this.isIncremental() )
+        {
+            LOGGER.debug( "Cannot compute the single-valued statistics incrementally for these metrics and "
+                          + "thresholds: {}.",
+                          super.getMetrics() );
+
+            return Optional.empty();
+        }
+
+        return Optional.of( new SingleValuedAccumulator() );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <U> Optional<Function<Pool<U>, StatisticsStore>> getPairsProcessor()
+    {
+        if ( this.hasMetrics( SampleDataGroup.SINGLE_VALUED_TIME_SERIES ) )
+        {
+            LOGGER.debug( "Cannot compute the single-valued statistics from pairs without time-series for these "
+                          + "metrics: {}.",
+                          super.getMetrics() );
+
+            return Optional.empty();
+        }
+
+        Function<Pool<Pair<Double, Double>>, StatisticsStore> processor = this::applyToPairs;
+        return Optional.of( ( Function<Pool<U>, StatisticsStore> ) ( Function<?, ?> ) processor );
+    }
+
+    /**
+     * Computes the statistics from a pool of pairs without time-series. Equivalent to {@link #apply(Pool)} when there
+     * are no metrics that consume time-series.
+     *
+     * @param pairs the pairs
+     * @return the statistics
+     * @throws NullPointerException if the pairs are null
+     */
+
+    StatisticsStore applyToPairs( Pool<Pair<Double, Double>> pairs )
+    {
+        Objects.requireNonNull( pairs, "Expected a non-null pool as input to the metric processor." );
+
+        LOGGER.debug( "Computing single-valued statistics from {} pairs.",
+                      pairs.get()
+                           .size() );
+
+        StatisticsStore.Builder futures = new StatisticsStore.Builder();
+        this.processPairs( pairs, futures );
+
+        LOGGER.debug( PROCESSING_COMPLETE_MESSAGE,
+                      pairs.getMetadata().getFeatureGroup(),
+                      pairs.getMetadata().getTimeWindow() );
+
+        return futures.build();
+    }
+
+    /**
+     * Processes the metrics that consume single-valued pairs and dichotomous pairs derived from them.
+     *
+     * @param pairs the pairs
+     * @param futures the metric futures
+     */
+
+    private void processPairs( Pool<Pair<Double, Double>> pairs, StatisticsStore.Builder futures )
+    {
+        if ( this.hasMetrics( SampleDataGroup.SINGLE_VALUED ) )
+        {
+            this.processSingleValuedPairs( pairs, futures );
+        }
+        if ( this.hasMetrics( SampleDataGroup.DICHOTOMOUS ) )
+        {
+            this.processPairsForDichotomousMetrics( pairs, futures );
+        }
+    }
+
     /**
      * Helper that returns a predicate for filtering single-valued pairs based on the 
      * {@link ThresholdOuter#getOrientation()} of the input threshold.
@@ -358,13 +432,14 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         // example, a logical threshold is a threshold that is consistently named "banana" across all features
         List<Map<FeatureTuple, ThresholdOuter>> decomposedThresholds = ThresholdSlicer.decompose( unique );
 
+        // Decompose by feature
+        Map<FeatureTuple, Pool<Pair<Double, Double>>> pools =
+                PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() );
+        PoolMetadata baselineMetadata = super.getBaselineMetadata( pool );
+
         // Iterate the thresholds
         for ( Map<FeatureTuple, ThresholdOuter> thresholds : decomposedThresholds )
         {
-            Map<FeatureTuple, Predicate<Pair<Double, Double>>> slicers =
-                    ThresholdSlicer.getFiltersFromThresholds( thresholds,
-                                                              SingleValuedStatisticsProcessor::getFilterForSingleValuedPairs );
-
             // Add the threshold to the pool metadata            
             ThresholdOuter outer = ThresholdSlicer.compose( Set.copyOf( thresholds.values() ) );
             OneOrTwoThresholds composed = OneOrTwoThresholds.of( outer );
@@ -372,17 +447,32 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
             UnaryOperator<PoolMetadata> metaTransformer =
                     untransformed -> PoolMetadata.of( untransformed, composed );
 
-            // Decompose by feature
-            Map<FeatureTuple, Pool<Pair<Double, Double>>> pools =
-                    PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() );
+            Pool<Pair<Double, Double>> sliced;
 
-            // Filter by threshold using the feature as a hook to tie a pool to a threshold
-            Pool<Pair<Double, Double>> sliced =
-                    this.doWorkWithSlicingExecutor( () -> PoolSlicer.filter( pools,
-                                                                             slicers,
-                                                                             pool.getMetadata(),
-                                                                             super.getBaselineMetadata( pool ),
-                                                                             metaTransformer ) );
+            // Filter by threshold using the feature as a hook to tie a pool to a threshold. Sweep the sorted pairs
+            // when possible, which sorts each pool once for all thresholds
+            if ( thresholds.values()
+                           .stream()
+                           .allMatch( ThresholdSweep::canFilter ) )
+            {
+                sliced = this.doWorkWithSlicingExecutor( () -> ThresholdSweep.filter( pools,
+                                                                                      thresholds,
+                                                                                      pool.getMetadata(),
+                                                                                      baselineMetadata,
+                                                                                      metaTransformer ) );
+            }
+            else
+            {
+                Map<FeatureTuple, Predicate<Pair<Double, Double>>> slicers =
+                        ThresholdSlicer.getFiltersFromThresholds( thresholds,
+                                                                  SingleValuedStatisticsProcessor::getFilterForSingleValuedPairs );
+
+                sliced = this.doWorkWithSlicingExecutor( () -> PoolSlicer.filter( pools,
+                                                                                  slicers,
+                                                                                  pool.getMetadata(),
+                                                                                  baselineMetadata,
+                                                                                  metaTransformer ) );
+            }
 
             this.processSingleValuedPairs( sliced,
                                            futures,
@@ -533,30 +623,46 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
                 threshold -> pair -> Pair.of( threshold.test( pair.getLeft() ),
                                               threshold.test( pair.getRight() ) );
 
+        // Decompose by feature
+        Map<FeatureTuple, Pool<Pair<Double, Double>>> pools =
+                PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() );
+        PoolMetadata baselineMetadata = super.getBaselineMetadata( pool );
+
         // Iterate the thresholds
         for ( Map<FeatureTuple, ThresholdOuter> thresholds : decomposedThresholds )
         {
-            Map<FeatureTuple, Function<Pair<Double, Double>, Pair<Boolean, Boolean>>> transformers =
-                    ThresholdSlicer.getTransformersFromThresholds( thresholds,
-                                                                   transformerGenerator );
-
             // Add the threshold to the metadata
             ThresholdOuter outer = ThresholdSlicer.compose( Set.copyOf( thresholds.values() ) );
             OneOrTwoThresholds composed = OneOrTwoThresholds.of( outer );
             UnaryOperator<PoolMetadata> metaTransformer =
                     untransformed -> PoolMetadata.of( untransformed, composed );
 
-            // Decompose by feature
-            Map<FeatureTuple, Pool<Pair<Double, Double>>> pools =
-                    PoolSlicer.decompose( pool, PoolSlicer.getFeatureMapper() );
+            Pool<Pair<Boolean, Boolean>> transformed;
 
-            // Transform by threshold using the feature as a hook to tie a pool to a threshold
-            Pool<Pair<Boolean, Boolean>> transformed =
-                    this.doWorkWithSlicingExecutor( () -> PoolSlicer.transform( pools,
-                                                                                transformers,
-                                                                                pool.getMetadata(),
-                                                                                this.getBaselineMetadata( pool ),
-                                                                                metaTransformer ) );
+            // Transform by threshold using the feature as a hook to tie a pool to a threshold. Sweep the sorted pairs
+            // when possible, which sorts each pool once for all thresholds
+            if ( thresholds.values()
+                           .stream()
+                           .allMatch( ThresholdSweep::canTransform ) )
+            {
+                transformed = this.doWorkWithSlicingExecutor( () -> ThresholdSweep.transform( pools,
+                                                                                              thresholds,
+                                                                                              pool.getMetadata(),
+                                                                                              baselineMetadata,
+                                                                                              metaTransformer ) );
+            }
+            else
+            {
+                Map<FeatureTuple, Function<Pair<Double, Double>, Pair<Boolean, Boolean>>> transformers =
+                        ThresholdSlicer.getTransformersFromThresholds( thresholds,
+                                                                       transformerGenerator );
+
+                transformed = this.doWorkWithSlicingExecutor( () -> PoolSlicer.transform( pools,
+                                                                                          transformers,
+                                                                                          pool.getMetadata(),
+                                                                                          baselineMetadata,
+                                                                                          metaTransformer ) );
+            }
 
             super.processDichotomousPairs( transformed,
                                            futures );
@@ -756,6 +862,110 @@ public class SingleValuedStatisticsProcessor extends StatisticsProcessor<Pool<Ti
         return null;
     }
 
+    /**
+     * Returns <code>true</code> when the only metrics are single-valued scores that implement
+     * {@link wres.metrics.Incremental} and the only thresholds are "all data" thresholds, otherwise
+     * <code>false</code>.
+     *
+     * @return true if the statistics can be computed incrementally, otherwise false
+     */
+
+    private boolean isIncremental()
+    {
+        return Objects.nonNull( this.singleValuedScore )
+               && this.singleValuedScore.isIncremental()
+               && !this.hasMetrics( SampleDataGroup.DICHOTOMOUS )
+               && !this.hasMetrics( SampleDataGroup.SINGLE_VALUED_TIME_SERIES )
+               && !this.hasMetrics( SampleDataGroup.SINGLE_VALUED, StatisticType.DIAGRAM )
+               && !this.hasMetrics( SampleDataGroup.SINGLE_VALUED, StatisticType.BOXPLOT_PER_POOL )
+               && super.hasOnlyAllDataThresholds();
+    }
+
+    /**
+     * Accumulates the single-valued scores incrementally. Equivalent to {@link #apply(Pool)} for the metrics and
+     * thresholds allowed by {@link #isIncremental()}.
+     */
+
+    private class SingleValuedAccumulator implements StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>>
+    {
+        /** The accumulator for the single-valued scores. */
+        private final MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator scores;
+
+        /** The threshold with which to qualify the pool metadata, which is set on receipt of the first chunk. */
+        private OneOrTwoThresholds threshold;
+
+        /** The number of pairs added. */
+        private long sampleSize;
+
+        @Override
+        public void add( Pool<TimeSeries<Pair<Double, Double>>> chunk )
+        {
+            Objects.requireNonNull( chunk, "Expected a non-null chunk as input to the metric accumulator." );
+
+            if ( Objects.isNull( this.threshold ) )
+            {
+                this.threshold = SingleValuedStatisticsProcessor.this.getComposedThreshold( chunk );
+            }
+
+            OneOrTwoThresholds composed = this.threshold;
+            Pool<Pair<Double, Double>> unpacked = PoolSlicer.transform( PoolSlicer.unpack( chunk ),
+                                                                        pair -> pair,
+                                                                        meta -> PoolMetadata.of( meta, composed ) );
+
+            LOGGER.debug( "Adding a chunk of {} single-valued pairs to the metric accumulator for pool {}.",
+                          unpacked.get()
+                                  .size(),
+                          unpacked.getMetadata() );
+
+            this.scores.add( unpacked );
+            this.sampleSize += unpacked.get()
+                                       .size();
+        }
+
+        @Override
+        public StatisticsStore complete()
+        {
+            StatisticsStore.Builder builder = new StatisticsStore.Builder();
+
+            // Don't compute statistics for empty pairs, in keeping with the calculation for an entire pool
+            if ( this.sampleSize == 0 )
+            {
+                LOGGER.debug( "Skipping the calculation of statistics for an empty pool of pairs." );
+
+                return builder.build();
+            }
+
+            List<DoubleScoreStatisticOuter> statistics = this.scores.complete();
+
+            // Allow the sample size through without constraint
+            int minimumSampleSize = SingleValuedStatisticsProcessor.this.getMinimumSampleSize();
+            if ( this.sampleSize < minimumSampleSize )
+            {
+                LOGGER.debug( "While accumulating pairs, discovered {} pairs, which is fewer than the minimum sample "
+                              + "size of {} pairs. Only the sample size will be reported.",
+                              this.sampleSize,
+                              minimumSampleSize );
+
+                statistics = statistics.stream()
+                                       .filter( next -> next.getMetricName() == MetricConstants.SAMPLE_SIZE )
+                                       .toList();
+            }
+
+            builder.addDoubleScoreStatistics( CompletableFuture.completedFuture( statistics ) );
+
+            return builder.build();
+        }
+
+        /**
+         * Hidden constructor.
+         */
+
+        private SingleValuedAccumulator()
+        {
+            this.scores = SingleValuedStatisticsProcessor.this.singleValuedScore.getAccumulator();
+        }
+    }
+
     /**
      * Validates the state of the processor.
      * @throws DeclarationException if the state is invalid for any reason
@@ -0,0 +1,35 @@
+package wres.pipeline.statistics;
+
+import wres.datamodel.pools.Pool;
+import wres.datamodel.statistics.StatisticsStore;
+
+/**
+ * Accumulates the statistics for a large pool incrementally, consuming the pool in smaller chunks, one at a time. Only
+ * the intermediate statistics are retained between chunks. The chunks should partition the pool, i.e., each pair
+ * should appear in exactly one chunk. Create an accumulator with {@link StatisticsProcessor#getAccumulator()}.
+ *
+ * @param <S> the pool type
+ * @author James Brown
+ */
+
+public interface StatisticsAccumulator<S extends Pool<?>>
+{
+    /**
+     * Adds the next chunk of a pool.
+     *
+     * @param chunk the chunk
+     * @throws NullPointerException if the chunk is null
+     * @throws wres.metrics.MetricCalculationException if the statistics could not be computed
+     */
+
+    void add( S chunk );
+
+    /**
+     * Completes the statistics for the chunks added so far.
+     *
+     * @return the statistics
+     * @throws wres.metrics.MetricCalculationException if the statistics could not be completed
+     */
+
+    StatisticsStore complete();
+}
@@ -6,6 +6,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -22,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.config.yaml.components.ThresholdType;
+import wres.datamodel.pools.DichotomousPairs;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.types.OneOrTwoDoubles;
@@ -35,6 +37,7 @@ import wres.datamodel.statistics.StatisticsStore;
 import wres.datamodel.statistics.ScoreStatistic;
 import wres.datamodel.statistics.Statistic;
 import wres.datamodel.thresholds.MetricsAndThresholds;
+import wres.datamodel.thresholds.OneOrTwoThresholds;
 import wres.datamodel.thresholds.ThresholdOuter;
 import wres.config.yaml.components.ThresholdOperator;
 import wres.config.yaml.components.ThresholdOrientation;
@@ -186,6 +189,37 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
                                               this.getSlicingExecutor() );
     }
 
+    /**
+     * Returns an accumulator that computes the statistics incrementally from a sequence of chunks that partition a
+     * pool, if the statistics can be computed incrementally. The statistics are equivalent to those obtained by
+     * applying this processor to the pool as a whole, other than by floating point error. By default, returns an
+     * empty optional.
+     *
+     * @return an accumulator, if the statistics can be computed incrementally
+     */
+
+    public Optional<StatisticsAccumulator<S>> getAccumulator()
+    {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a function that computes the statistics from a pool of pairs without time-series, if the statistics do
+     * not depend on the time-series. The pairs are the event values of the time-series in the pool consumed by
+     * {@link #apply(Object)}, i.e., of type <code>U</code> when that pool contains time-series of type
+     * <code>U</code>, and the statistics are equivalent to those obtained by applying this processor to the pool of
+     * time-series. This allows for the statistics of a pool that is resampled by index to be computed without
+     * creating any time-series. By default, returns an empty optional.
+     *
+     * @param <U> the type of pair
+     * @return a function that computes the statistics from pairs, if the statistics do not depend on the time-series
+     */
+
+    public <U> Optional<Function<Pool<U>, StatisticsStore>> getPairsProcessor()
+    {
+        return Optional.empty();
+    }
+
     /**
      * Returns true if metrics are available for the input {@link SampleDataGroup} and {@link StatisticType}, false
      * otherwise.
@@ -355,6 +389,55 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
                                                      next -> typesFilter.apply( next.getValue() ) ) );
     }
 
+    /**
+     * Returns the composed "all data" threshold for the features within the prescribed pool, which qualifies the pool
+     * metadata of the statistics.
+     *
+     * @param pool the pool
+     * @return the composed threshold
+     * @throws MetricCalculationException if there are no thresholds for the features in the pool
+     */
+
+    OneOrTwoThresholds getComposedThreshold( Pool<?> pool )
+    {
+        FeatureGroup featureGroup = pool.getMetadata()
+                                        .getFeatureGroup();
+        Map<FeatureTuple, Set<ThresholdOuter>> filteredThresholds =
+                this.getFilteredThresholds( this.getThresholds(),
+                                            featureGroup,
+                                            ThresholdType.PROBABILITY,
+                                            ThresholdType.VALUE );
+
+        Set<ThresholdOuter> thresholds = filteredThresholds.values()
+                                                           .stream()
+                                                           .flatMap( Set::stream )
+                                                           .collect( Collectors.toSet() );
+
+        if ( thresholds.isEmpty() )
+        {
+            throw new MetricCalculationException( "Could not find any thresholds for feature tuples within feature "
+                                                  + "group "
+                                                  + featureGroup
+                                                  + "." );
+        }
+
+        ThresholdOuter outer = ThresholdSlicer.compose( thresholds );
+        return OneOrTwoThresholds.of( outer );
+    }
+
+    /**
+     * @return true if the only thresholds are "all data" thresholds, otherwise false
+     */
+
+    boolean hasOnlyAllDataThresholds()
+    {
+        return this.getThresholds()
+                   .values()
+                   .stream()
+                   .flatMap( Set::stream )
+                   .allMatch( ThresholdOuter::isAllDataThreshold );
+    }
+
     /**
      * Performs work on the thread pool intended for slicing and dicing pooled datasets.
      *
@@ -427,20 +510,9 @@ public abstract class StatisticsProcessor<S extends Pool<?>> implements Function
 
     private int getSampleSizeForDichotomousPairs( Pool<Pair<Boolean, Boolean>> pairs )
     {
-        int occurrences = 0;
-        int nonOccurrences = 0;
-
-        for ( Pair<Boolean, Boolean> next : pairs.get() )
-        {
-            if ( Boolean.TRUE.equals( next.getLeft() ) )
-            {
-                occurrences++;
-            }
-            else
-            {
-                nonOccurrences++;
-            }
-        }
+        DichotomousPairs dichotomous = DichotomousPairs.of( pairs.get() );
+        int occurrences = dichotomous.getTrueTrue() + dichotomous.getTrueFalse();
+        int nonOccurrences = dichotomous.getFalseTrue() + dichotomous.getFalseFalse();
 
         return Math.min( occurrences, nonOccurrences );
     }
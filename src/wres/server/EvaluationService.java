@@ -4,12 +4,9 @@ import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileDescriptor;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintStream;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.net.URI;
@@ -17,16 +14,18 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.inject.Singleton;
 import jakarta.servlet.ServletContextEvent;
@@ -42,6 +41,7 @@ import jakarta.ws.rs.core.Response;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import jakarta.ws.rs.core.StreamingOutput;
 import org.glassfish.jersey.server.ChunkedOutput;
 import org.redisson.Redisson;
@@ -58,7 +58,6 @@ import wres.Functions;
 import wres.Main;
 import wres.io.database.locking.DatabaseLockFailed;
 import wres.messages.generated.EvaluationStatusOuterClass;
-import wres.pipeline.Canceller;
 import wres.pipeline.InternalWresException;
 import wres.pipeline.UserInputException;
 import wres.system.DatabaseSettings;
@@ -75,9 +74,9 @@ import wres.system.SystemSettings;
  * evaluation/close
  * Takes in a job message as a byte[] and can support features like sending std out/error and database management
  * but it must be opened and closed by the caller and sent as a job instead of just a project config
- * NOTE: Currently there is a 1:1 relationship between a server and an evaluation. That is to say each server can only
- * serve 1 evaluation at a time. For this reason we are currently using Atomic variables to track certain states and
- * information on an evaluation.
+ * NOTE: A server can serve several evaluations at once, up to the limit set by the wres.maximumServerEvaluations
+ * system property, which is one by default. Each evaluation has its own status, canceller and standard streams. A
+ * request to start an evaluation when the limit is reached is refused with a 503 status until an evaluation is closed.
  */
 
 @Path( "/evaluation" )
@@ -93,6 +92,7 @@ public class EvaluationService implements ServletContextListener
     private static final String REDIS_PORT_SYSTEM_PROPERTY_NAME = "wres.redisPort";
     private static final String REDIS_TIMEOUT_IN_HOURS_SYSTEM_PROPERTY_NAME = "wres.redisTimeoutInHours";
     private static final String ENABLE_SERVER_CACHE_SYSTEM_PROPERTY_NAME = "wres.enableServerCache";
+    private static final String MAXIMUM_EVALUATIONS_SYSTEM_PROPERTY_NAME = "wres.maximumServerEvaluations";
 
     /** A shared map of job metadata by ID */
     private static final RMapCache<String, EvaluationMetadata> EVALUATION_METADATA_MAP;
@@ -106,26 +106,25 @@ public class EvaluationService implements ServletContextListener
         STDOUT
     }
 
-    private static final AtomicReference<EvaluationStatusOuterClass.EvaluationStatus> EVALUATION_STAGE =
-            new AtomicReference<>( AWAITING );
+    /** The evaluations open, by identifier. */
+    private static final Map<Long, ServerEvaluation> EVALUATIONS = new ConcurrentHashMap<>();
 
-    private static final AtomicLong EVALUATION_ID = new AtomicLong( -1 );
+    /** The maximum number of evaluations open at once. */
+    private static final int MAXIMUM_EVALUATIONS = EvaluationService.getMaximumEvaluations();
 
-    private static final AtomicReference<Canceller> EVALUATION_CANCELLER = new AtomicReference<>();
+    /** One permit for each evaluation that may be open at once. */
+    private static final Semaphore EVALUATION_PERMITS = new Semaphore( MAXIMUM_EVALUATIONS, true );
 
-    private Future<Response> evaluationResponse;
+    /** Runs the evaluations, which share one thread for each evaluation that may be open at once. */
+    private static final ExecutorService EVALUATION_EXECUTOR =
+            Executors.newFixedThreadPool( MAXIMUM_EVALUATIONS,
+                                          new BasicThreadFactory.Builder().namingPattern( "Server Evaluation %d" )
+                                                                          .build() );
 
     private static final int ONE_MINUTE_IN_MILLISECONDS = 60000;
 
-    private static Thread timeoutThread;
-
-    private ChunkedOutput<String> errorStream;
-
-    private ByteArrayOutputStream byteErrorStream;
-
-    private ChunkedOutput<String> outStream;
-
-    private ByteArrayOutputStream byteOutputStream;
+    /** The interval at which the captured standard streams are sent to a caller. */
+    private static final int STREAM_INTERVAL_IN_MILLISECONDS = 100;
 
     /** A shared bag of output resource references by request id */
     // The cache is here for expedience, this information could be persisted
@@ -256,8 +255,7 @@ public class EvaluationService implements ServletContextListener
     @Produces( MediaType.TEXT_PLAIN )
     public Response readyForWork()
     {
-        if ( ( EVALUATION_STAGE.get().equals( CLOSED ) || EVALUATION_STAGE.get().equals( AWAITING ) )
-             && EVALUATION_ID.get() == -1 )
+        if ( EVALUATION_PERMITS.availablePermits() > 0 )
         {
             return Response.ok( "The Server can accept a new job \n" )
                            .build();
@@ -279,7 +277,8 @@ public class EvaluationService implements ServletContextListener
     public Response getStatus( @PathParam( "id" ) Long id )
     {
         // Check if the request is for an ongoing evaluation or one that's cached
-        if ( EVALUATION_ID.get() != id )
+        ServerEvaluation evaluation = EVALUATIONS.get( id );
+        if ( Objects.isNull( evaluation ) )
         {
             // If evaluation is still in cache, pull results from there
             EvaluationMetadata cachedEntry = getCachedEntry( id );
@@ -292,7 +291,7 @@ public class EvaluationService implements ServletContextListener
                            .entity( "Unable to find project status with that ID. Check the persisted logs " + id )
                            .build();
         }
-        return Response.ok( EVALUATION_STAGE.get().toString() )
+        return Response.ok( evaluation.getStage().toString() )
                        .build();
     }
 
@@ -307,7 +306,8 @@ public class EvaluationService implements ServletContextListener
     public Response getOutStream( @PathParam( "id" ) Long id )
     {
         // Check if the request is for an ongoing evaluation or one that's cached
-        if ( EVALUATION_ID.get() != id )
+        ServerEvaluation evaluation = EVALUATIONS.get( id );
+        if ( Objects.isNull( evaluation ) )
         {
             // If evaluation is still in cache, just pull results from there
             EvaluationMetadata cachedEntry = getCachedEntry( id );
@@ -321,7 +321,7 @@ public class EvaluationService implements ServletContextListener
                            .build();
         }
 
-        return Response.ok( outStream )
+        return Response.ok( evaluation.getChunkedOutput( WhichStream.STDOUT ) )
                        .build();
     }
 
@@ -336,7 +336,8 @@ public class EvaluationService implements ServletContextListener
     public Response getErrorStream( @PathParam( "id" ) Long id )
     {
         // Check if the request is for an ongoing evaluation or one that's cached
-        if ( EVALUATION_ID.get() != id )
+        ServerEvaluation evaluation = EVALUATIONS.get( id );
+        if ( Objects.isNull( evaluation ) )
         {
             // If evaluation is still in cache, just pull results from there
             EvaluationMetadata cachedEntry = getCachedEntry( id );
@@ -350,7 +351,7 @@ public class EvaluationService implements ServletContextListener
                            .build();
         }
 
-        return Response.ok( errorStream )
+        return Response.ok( evaluation.getChunkedOutput( WhichStream.STDERR ) )
                        .build();
     }
 
@@ -370,15 +371,14 @@ public class EvaluationService implements ServletContextListener
                                       @QueryParam( "dbName" ) String name,
                                       @QueryParam( "dbPort" ) String port )
     {
-        if ( EVALUATION_ID.get() > 0
-             || !( EVALUATION_STAGE.get().equals( CLOSED )
-                   || EVALUATION_STAGE.get().equals( AWAITING ) ) )
+        // Back-pressure when the maximum number of evaluations is open
+        if ( !EVALUATION_PERMITS.tryAcquire() )
         {
-            return Response.status( Response.Status.BAD_REQUEST )
-                           .entity( String.format(
-                                   "There was a project found with id: %d in state: %s. Please /close/{ID} this project first",
-                                   EVALUATION_ID.get(),
-                                   EVALUATION_STAGE.get() ) )
+            return Response.status( Response.Status.SERVICE_UNAVAILABLE )
+                           .entity( String.format( "The server already has the maximum number of evaluations open, "
+                                                   + "which is %d. Please /close/{ID} an evaluation first or try "
+                                                   + "again later",
+                                                   MAXIMUM_EVALUATIONS ) )
                            .build();
         }
 
@@ -386,15 +386,25 @@ public class EvaluationService implements ServletContextListener
         // in edge cases. A while loop seems complex. Thanks to Ted Hopp
         // on StackOverflow question id 5827023.
         long projectId = RANDOM.nextLong() & Long.MAX_VALUE;
-        updateStatus( OPENED, projectId );
-        EVALUATION_ID.set( projectId );
+        ServerEvaluation evaluation = ServerEvaluation.of( projectId );
+        EVALUATIONS.put( projectId, evaluation );
+        updateStatus( OPENED, evaluation );
 
         // Sets up stream redirect to avoid missing log statements
-        streamRedirectSetup();
+        streamRedirectSetup( evaluation );
 
-        updateSystemSettingsIfNeeded( host, name, port );
+        try
+        {
+            SystemSettings settings = updateSystemSettingsIfNeeded( host, name, port );
 
-        evaluationResponse = startEvaluation( projectDeclaration, projectId );
+            evaluation.setResponse( startEvaluation( projectDeclaration, evaluation, settings ) );
+        }
+        catch ( RuntimeException e )
+        {
+            // The evaluation will not run, so its worker no longer holds a place
+            releasePlace( evaluation );
+            throw e;
+        }
 
         return Response.ok( Response.Status.CREATED )
                        .entity( projectId )
@@ -402,7 +412,7 @@ public class EvaluationService implements ServletContextListener
     }
 
     /**
-     * Closes an evaluation that was Opened (Wont interupt ongoing evaluations)
+     * Closes every evaluation that has completed (Wont interupt ongoing evaluations)
      * @return Good Response
      */
     @POST
@@ -410,14 +420,42 @@ public class EvaluationService implements ServletContextListener
     @Produces( MediaType.TEXT_PLAIN )
     public Response closeEvaluation()
     {
-        if ( !EVALUATION_STAGE.get().equals( COMPLETED ) )
+        List<ServerEvaluation> completed = EVALUATIONS.values()
+                                                      .stream()
+                                                      .filter( e -> e.getStage()
+                                                                     .equals( COMPLETED ) )
+                                                      .toList();
+        if ( completed.isEmpty() )
         {
             LOGGER.info( "No Evaluation to close" );
             return Response.status( Response.Status.NOT_FOUND )
                            .entity( "There is no evaluation that needs to be closed" )
                            .build();
         }
-        close();
+        completed.forEach( EvaluationService::close );
+        return Response.ok( "Evaluation closed" )
+                       .build();
+    }
+
+    /**
+     * Closes an evaluation that has completed (Wont interupt ongoing evaluations)
+     * @param id the ID of the evaluation to close
+     * @return Good Response
+     */
+    @POST
+    @Path( "/close/{id}" )
+    @Produces( MediaType.TEXT_PLAIN )
+    public Response closeEvaluation( @PathParam( "id" ) Long id )
+    {
+        ServerEvaluation evaluation = EVALUATIONS.get( id );
+        if ( Objects.isNull( evaluation ) || !evaluation.getStage().equals( COMPLETED ) )
+        {
+            LOGGER.info( "No Evaluation to close with ID {}", id );
+            return Response.status( Response.Status.NOT_FOUND )
+                           .entity( "There is no completed evaluation with that ID that needs to be closed" )
+                           .build();
+        }
+        close( evaluation );
         return Response.ok( "Evaluation closed" )
                        .build();
     }
@@ -432,7 +470,8 @@ public class EvaluationService implements ServletContextListener
     @Produces( MediaType.TEXT_PLAIN )
     public Response getEvaluationResult( @PathParam( "id" ) Long id )
     {
-        if ( EVALUATION_ID.get() != id || Objects.isNull( evaluationResponse ) )
+        ServerEvaluation evaluation = EVALUATIONS.get( id );
+        if ( Objects.isNull( evaluation ) || Objects.isNull( evaluation.getResponse() ) )
         {
             EvaluationMetadata cachedEntry = getCachedEntry( id );
             if ( cachedEntry.hasOutputs() )
@@ -457,7 +496,8 @@ public class EvaluationService implements ServletContextListener
 
         try
         {
-            return evaluationResponse.get();
+            return evaluation.getResponse()
+                             .get();
         }
         catch ( ExecutionException e )
         {
@@ -488,7 +528,8 @@ public class EvaluationService implements ServletContextListener
     {
 
         // Check that there is an ongoing evaluation to be canceled
-        if ( EVALUATION_ID.get() != id || !EVALUATION_STAGE.get().equals( ONGOING ) )
+        ServerEvaluation evaluation = EVALUATIONS.get( id );
+        if ( Objects.isNull( evaluation ) || !evaluation.getStage().equals( ONGOING ) )
         {
             return Response.status( Response.Status.BAD_REQUEST )
                            .entity( "There was not an ongoing evaluation with that ID to cancel" )
@@ -496,7 +537,8 @@ public class EvaluationService implements ServletContextListener
         }
 
         // Cancel evaluation tied to this canceler
-        EVALUATION_CANCELLER.get().cancel();
+        evaluation.getCanceller()
+                  .cancel();
 
         return Response.status( Response.Status.OK )
                        .entity( "Successfully canceled evaluation" )
@@ -525,14 +567,14 @@ public class EvaluationService implements ServletContextListener
         }
 
         // Checks if database information has changed in the jobMessage and swap to that database
-        updateSystemSettingsIfNeeded( host, name, port );
+        SystemSettings settings = updateSystemSettingsIfNeeded( host, name, port );
 
         Functions.SharedResources sharedResources =
-                new Functions.SharedResources( systemSettings,
+                new Functions.SharedResources( settings,
                                                "migratedatabase",
                                                Collections.emptyList() );
 
-        logJobHeaderInformation();
+        logJobHeaderInformation( settings );
         ExecutionResult result = Functions.migrateDatabase( sharedResources );
 
         if ( result.failed() )
@@ -569,16 +611,16 @@ public class EvaluationService implements ServletContextListener
         }
 
         // Checks if database information has changed in the jobMessage and swap to that database
-        updateSystemSettingsIfNeeded( host, name, port );
+        SystemSettings settings = updateSystemSettingsIfNeeded( host, name, port );
 
         try
         {
             Functions.SharedResources sharedResources =
-                    new Functions.SharedResources( systemSettings,
+                    new Functions.SharedResources( settings,
                                                    "cleandatabase",
                                                    Collections.emptyList() );
 
-            logJobHeaderInformation();
+            logJobHeaderInformation( settings );
             Functions.cleanDatabase( sharedResources );
         }
         catch ( IllegalStateException | DatabaseLockFailed se )
@@ -666,127 +708,166 @@ public class EvaluationService implements ServletContextListener
     /**
      * Starts an opened Evaluation
      * @param projectDeclaration the declaration we are evaluating
-     * @param id the evaluation identifier
+     * @param evaluation the evaluation
+     * @param settings the system settings
      * @return a Future<Response> of the evaluation
      */
-    private Future<Response> startEvaluation( String projectDeclaration, Long id )
+    private Future<Response> startEvaluation( String projectDeclaration,
+                                              ServerEvaluation evaluation,
+                                              SystemSettings settings )
     {
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-
-        return executorService.submit( () -> {
-            updateStatus( ONGOING, id );
-
-            LOGGER.info( "Kicking off evaluation on server with the internal ID of: {}", id );
-            Set<java.nio.file.Path> outputPaths;
-            Canceller canceller = Canceller.of();
+        // Capture the standard streams written by this evaluation, including by the threads of its executors
+        Callable<Response> task = StandardStreamRouter.bind( evaluation, () -> {
             try
             {
-                // Print system setting at the top of the job log to help debug
-                logJobHeaderInformation();
+                // Closed while waiting to run, such as by the timeout of an opened evaluation?
+                if ( evaluation.isClosed() )
+                {
+                    LOGGER.warn( "Evaluation {} was closed before it started, so it will not run.",
+                                 evaluation.getId() );
+
+                    return Response.status( Response.Status.CONFLICT )
+                                   .entity( "The evaluation was closed before it started" )
+                                   .build();
+                }
 
-                // Execute an evaluation
-                EVALUATION_CANCELLER.set( canceller );
+                return this.runEvaluation( projectDeclaration, evaluation, settings );
+            }
+            finally
+            {
+                // The worker no longer holds a place, whether or not the evaluation is closed
+                releasePlace( evaluation );
+            }
+        } );
 
-                Functions.SharedResources sharedResources =
-                        new Functions.SharedResources( systemSettings,
-                                                       "execute",
-                                                       List.of( projectDeclaration ) );
+        return EVALUATION_EXECUTOR.submit( task );
+    }
 
-                ExecutionResult result = Functions.evaluate( sharedResources, EVALUATION_CANCELLER.get() );
+    /**
+     * Runs an opened Evaluation
+     * @param projectDeclaration the declaration we are evaluating
+     * @param evaluation the evaluation
+     * @param settings the system settings
+     * @return the Response of the evaluation
+     */
+    private Response runEvaluation( String projectDeclaration,
+                                    ServerEvaluation evaluation,
+                                    SystemSettings settings )
+    {
+        long id = evaluation.getId();
+        updateStatus( ONGOING, evaluation );
 
-                // We rely on these log statements for tying IDs together easier while debugging.
-                // Check findJobID.sh in the scripts directory to see how this is used before changing/removing
-                LOGGER.info( "Evaluation with internal ID {} and evaluation ID of {} has returned",
-                             id,
-                             result.getEvaluationId() );
+        LOGGER.info( "Kicking off evaluation on server with the internal ID of: {}", id );
+        Set<java.nio.file.Path> outputPaths;
+        try
+        {
+            // Print system setting at the top of the job log to help debug
+            logJobHeaderInformation( settings );
 
-                // get files written
-                outputPaths = result.getResources();
+            // Execute an evaluation
+            Functions.SharedResources sharedResources =
+                    new Functions.SharedResources( settings,
+                                                   "execute",
+                                                   List.of( projectDeclaration ) );
 
-                // Persist outputs into cache
-                if ( EvaluationService.serverCacheEnabled )
-                {
-                    EvaluationMetadata evaluationMetadata = getCachedEntry( id );
-                    evaluationMetadata.setOutputs( outputPaths );
-                    persistInformation( id, evaluationMetadata );
-                }
+            ExecutionResult result = Functions.evaluate( sharedResources,
+                                                         evaluation.getCanceller(),
+                                                         StandardStreamRouter.getThreadFactory( evaluation ) );
 
-                // Check if evaluation was canceled or failed
-                if ( result.cancelled() )
-                {
-                    String failureMessage = "The evaluation was canceled";
-                    // Print the stack exception so it is stored in the stdOut of the job
-                    LOGGER.info( failureMessage );
-                    updateStatus( COMPLETED, id );
+            // We rely on these log statements for tying IDs together easier while debugging.
+            // Check findJobID.sh in the scripts directory to see how this is used before changing/removing
+            LOGGER.info( "Evaluation with internal ID {} and evaluation ID of {} has returned",
+                         id,
+                         result.getEvaluationId() );
 
-                    return Response.status( Response.Status.CONFLICT )
-                                   .entity( failureMessage )
-                                   .build();
-                }
-                else if ( result.failed() )
-                {
-                    String failureMessage = "The evaluation failed with the following stack trace: ";
-                    // Print the stack exception so it is stored in the stdOut of the job
-                    LOGGER.info( failureMessage, result.getException() );
+            // get files written
+            outputPaths = result.getResources();
 
-                    updateStatus( COMPLETED, id );
-                    return Response.status( Response.Status.INTERNAL_SERVER_ERROR )
-                                   .entity( failureMessage + result.getException() )
-                                   .build();
-                }
+            // Persist outputs into cache
+            if ( EvaluationService.serverCacheEnabled )
+            {
+                EvaluationMetadata evaluationMetadata = getCachedEntry( id );
+                evaluationMetadata.setOutputs( outputPaths );
+                persistInformation( id, evaluationMetadata );
             }
-            catch ( UserInputException e )
+
+            // Check if evaluation was canceled or failed
+            if ( result.cancelled() )
             {
-                String failureMessage = "I received something I could not parse. The top-level exception was";
-                LOGGER.info( failureMessage, e );
-                updateStatus( COMPLETED, id );
-                return Response.status( Response.Status.BAD_REQUEST )
-                               .entity( failureMessage + e.getMessage() )
+                String failureMessage = "The evaluation was canceled";
+                // Print the stack exception so it is stored in the stdOut of the job
+                LOGGER.info( failureMessage );
+                updateStatus( COMPLETED, evaluation );
+
+                return Response.status( Response.Status.CONFLICT )
+                               .entity( failureMessage )
                                .build();
             }
-            catch ( InternalWresException iwe )
+            else if ( result.failed() )
             {
-                String failureMessage = "WRES experienced an internal issue. The top-level exception was";
-                LOGGER.info( failureMessage, iwe );
-                updateStatus( COMPLETED, id );
+                String failureMessage = "The evaluation failed with the following stack trace: ";
+                // Print the stack exception so it is stored in the stdOut of the job
+                LOGGER.info( failureMessage, result.getException() );
+
+                updateStatus( COMPLETED, evaluation );
                 return Response.status( Response.Status.INTERNAL_SERVER_ERROR )
-                               .entity( failureMessage + iwe.getMessage() )
+                               .entity( failureMessage + result.getException() )
                                .build();
             }
-            catch ( RuntimeException r )
+        }
+        catch ( UserInputException e )
+        {
+            String failureMessage = "I received something I could not parse. The top-level exception was";
+            LOGGER.info( failureMessage, e );
+            updateStatus( COMPLETED, evaluation );
+            return Response.status( Response.Status.BAD_REQUEST )
+                           .entity( failureMessage + e.getMessage() )
+                           .build();
+        }
+        catch ( InternalWresException iwe )
+        {
+            String failureMessage = "WRES experienced an internal issue. The top-level exception was";
+            LOGGER.info( failureMessage, iwe );
+            updateStatus( COMPLETED, evaluation );
+            return Response.status( Response.Status.INTERNAL_SERVER_ERROR )
+                           .entity( failureMessage + iwe.getMessage() )
+                           .build();
+        }
+        catch ( RuntimeException r )
+        {
+            // When we encounter an unexpected exception we want to set the status to closed before propagating the exception
+            updateStatus( COMPLETED, evaluation );
+            throw r;
+        }
+
+        // Put output paths in a stream to send to user
+        StreamingOutput streamingOutput = outputStream -> {
+            Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream ) );
+            for ( java.nio.file.Path path : outputPaths )
             {
-                // When we encounter an unexpected exception we want to set the status to closed before propagating the exception
-                updateStatus( COMPLETED, id );
-                throw r;
+                writer.write( path.toString() + "\n" );
             }
+            writer.flush();
+            writer.close();
+        };
 
-            // Put output paths in a stream to send to user
-            StreamingOutput streamingOutput = outputStream -> {
-                Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream ) );
-                for ( java.nio.file.Path path : outputPaths )
-                {
-                    writer.write( path.toString() + "\n" );
-                }
-                writer.flush();
-                writer.close();
-            };
-
-            updateStatus( COMPLETED, id );
+        updateStatus( COMPLETED, evaluation );
 
-            return Response.ok( streamingOutput )
-                           .build();
-        } );
+        return Response.ok( streamingOutput )
+                       .build();
     }
 
-    private void updateStatus( EvaluationStatusOuterClass.EvaluationStatus evaluationStatus, Long id )
+    private void updateStatus( EvaluationStatusOuterClass.EvaluationStatus evaluationStatus,
+                               ServerEvaluation evaluation )
     {
+        long id = evaluation.getId();
         if ( EvaluationService.serverCacheEnabled )
         {
             EvaluationMetadata evaluationMetadata = getCachedEntry( id );
             evaluationMetadata.setStatus( evaluationStatus );
             persistInformation( id, evaluationMetadata );
         }
-        EVALUATION_STAGE.set( evaluationStatus );
+        evaluation.setStage( evaluationStatus );
 
         // Creates a timeout thread to verify that a project does not stay in one of our "transition" states (OPEN/COMPLETED)
         if ( evaluationStatus.equals( COMPLETED ) || evaluationStatus.equals( OPENED ) )
@@ -794,71 +875,72 @@ public class EvaluationService implements ServletContextListener
             // OPENED jobs cover the step of server setup before automatically going to ONGOING
             // COMPLETED jobs cover evaluations that have finished, but results have not been retrieved
             // After results have been retrieved the user closes the job or it is done automatically and results are lost
-            evaluationTimeoutThread();
+            evaluationTimeoutThread( evaluation );
+        }
+        // Not a transition state, so stop any timeout thread
+        else
+        {
+            evaluation.setTimeoutThread( null );
         }
     }
 
     /**
      * Sets up the redirect of the std out and err stream during the opening of the job
+     * @param evaluation the evaluation whose streams should be redirected
      */
-    private void streamRedirectSetup()
+    private void streamRedirectSetup( ServerEvaluation evaluation )
     {
-        // Create new stream to redirect output to
-        byteOutputStream = new ByteArrayOutputStream();
-        PrintStream outPrintStream = new PrintStream( byteOutputStream );
-        outStream = new ChunkedOutput<>( String.class );
-
-        // Create new stream to redirect output to
-        byteErrorStream = new ByteArrayOutputStream();
-        PrintStream errorPrintStream = new PrintStream( byteErrorStream );
-        errorStream = new ChunkedOutput<>( String.class );
-
-        // redirect the error stream
-        System.setErr( errorPrintStream );
-
-        // redirect the out stream
-        System.setOut( outPrintStream );
+        // Route the standard streams to the streams captured for each evaluation
+        StandardStreamRouter.install();
 
         // Start the thread that will send the information from the byteArrayOutputStream to the output ChunkedOutput we are returning
-        startChunkedOutputThread( byteOutputStream, outStream, WhichStream.STDOUT );
+        startChunkedOutputThread( evaluation, WhichStream.STDOUT );
 
         // Start the thread that will send the information from the byteArrayOutputStream to the output ChunkedOutput we are returning
-        startChunkedOutputThread( byteErrorStream, errorStream, WhichStream.STDERR );
-        LOGGER.info( "Thread redirect setup finished" );
+        startChunkedOutputThread( evaluation, WhichStream.STDERR );
+        LOGGER.info( "Thread redirect setup finished for evaluation {}", evaluation.getId() );
     }
 
     /**
      * Creates a thread that will send messages from the stream to the provided ChunkedOutput.
-     * @param redirectStream the redirect stream
-     * @param output the chunked outputs stream
+     * @param evaluation the evaluation
      * @param whichStream if this is the stdout or stderr thread
      */
-    private void startChunkedOutputThread( ByteArrayOutputStream redirectStream,
-                                           ChunkedOutput<String> output,
+    private void startChunkedOutputThread( ServerEvaluation evaluation,
                                            WhichStream whichStream )
     {
+        ByteArrayOutputStream redirectStream = evaluation.getCapturedStream( whichStream );
+        ChunkedOutput<String> output = evaluation.getChunkedOutput( whichStream );
+
         new Thread( () -> {
             try ( redirectStream; output )
             {
                 int offset = 0;
 
-                while ( !EVALUATION_STAGE.get().equals( CLOSED ) && !EVALUATION_STAGE.get().equals( AWAITING ) )
+                while ( !evaluation.getStage().equals( CLOSED ) && !evaluation.getStage().equals( AWAITING ) )
                 {
                     if ( redirectStream.size() > offset )
                     {
                         offset = writeOutput( redirectStream, output, offset );
                     }
+
+                    Thread.sleep( STREAM_INTERVAL_IN_MILLISECONDS );
                 }
 
                 // After the evaluation is closed, send any more information missed in the last loop
                 // This helps avoid logs being cut off if a lot of information is sent at the end of an evaluation
                 writeOutput( redirectStream, output, offset );
-                storeLogsInCache( redirectStream, whichStream );
+                storeLogsInCache( redirectStream, whichStream, evaluation.getId() );
             }
             catch ( IOException e )
             {
                 LOGGER.warn( "Unable to start a chunked output thread with the exception:", e );
             }
+            catch ( InterruptedException e )
+            {
+                LOGGER.warn( "Interrupted while sending the chunked output of evaluation {}.", evaluation.getId() );
+                Thread.currentThread().interrupt();
+            }
         } ).start();
     }
 
@@ -895,14 +977,16 @@ public class EvaluationService implements ServletContextListener
      * Stores all the stdOut or stdErr logs in the cache
      * @param redirectStream the stream we are taking information from
      * @param whichStream if this is the stdout or stderr out stream
+     * @param id the evaluation identifier
      */
     private void storeLogsInCache( ByteArrayOutputStream redirectStream,
-                                   WhichStream whichStream )
+                                   WhichStream whichStream,
+                                   long id )
     {
         if ( EvaluationService.serverCacheEnabled )
         {
             // Persist the log in cache
-            EvaluationMetadata evaluationMetadata = getCachedEntry( EVALUATION_ID.get() );
+            EvaluationMetadata evaluationMetadata = getCachedEntry( id );
             if ( whichStream.equals( WhichStream.STDOUT ) )
             {
                 evaluationMetadata.setStdout( redirectStream.toString( StandardCharsets.UTF_8 ) );
@@ -911,45 +995,57 @@ public class EvaluationService implements ServletContextListener
             {
                 evaluationMetadata.setStderr( redirectStream.toString( StandardCharsets.UTF_8 ) );
             }
-            persistInformation( EVALUATION_ID.get(), evaluationMetadata );
+            persistInformation( id, evaluationMetadata );
         }
     }
 
     /**
-     * Closes the current evaluation by setting all atomic values to expected states and resetting standard streams
+     * Closes an evaluation, which stops its timeout thread and frees its place for a new evaluation once its worker
+     * has also finished. An evaluation that times out while its worker is still running keeps its place until then
+     * @param evaluation the evaluation to close
      */
-    private static void close()
+    private static void close( ServerEvaluation evaluation )
     {
-        LOGGER.info( "Closing Evaluation" );
-        // Project closed gracefully, stop the timeout thread
-        if ( Objects.nonNull( timeoutThread ) )
+        // Only close an evaluation once
+        if ( EVALUATIONS.remove( evaluation.getId(), evaluation ) && evaluation.close() )
         {
-            timeoutThread.interrupt();
+            LOGGER.info( "Closing Evaluation {}", evaluation.getId() );
+            releasePlace( evaluation );
         }
+    }
 
-        // Set Atomic values to a state to accept new projects
-        EVALUATION_STAGE.set( CLOSED );
-        EVALUATION_ID.set( -1 );
-
-        // Reset Standard Streams
-        System.setOut( new PrintStream( new FileOutputStream( FileDescriptor.out ) ) );
-        System.setErr( new PrintStream( new FileOutputStream( FileDescriptor.err ) ) );
+    /**
+     * Releases one hold on the place of an evaluation and frees the place for a new evaluation when no holds remain
+     * @param evaluation the evaluation
+     */
+    private static void releasePlace( ServerEvaluation evaluation )
+    {
+        if ( evaluation.releasePlace() )
+        {
+            LOGGER.debug( "Freed the place of evaluation {}", evaluation.getId() );
+            EVALUATION_PERMITS.release();
+        }
     }
 
     /**
      * Creates a thread that will time out stale evaluations if they do not change status as expected in a prompt manner
      * This is used to stop worker servers from being occupied by an errant Evaluation
+     * @param evaluation the evaluation to time out
      */
-    private static void evaluationTimeoutThread()
+    private static void evaluationTimeoutThread( ServerEvaluation evaluation )
     {
         Runnable timeoutRunnable = () -> {
             try
             {
                 Thread.sleep( ONE_MINUTE_IN_MILLISECONDS );
-                if ( EVALUATION_STAGE.get().equals( OPENED ) || EVALUATION_STAGE.get().equals( COMPLETED ) )
+                EvaluationStatusOuterClass.EvaluationStatus stage = evaluation.getStage();
+                if ( stage.equals( OPENED ) || stage.equals( COMPLETED ) )
                 {
-                    LOGGER.warn( "There was not an expected status transition; timeout thread closing project in status {}", EVALUATION_STAGE.get() );
-                    close();
+                    LOGGER.warn( "There was not an expected status transition; timeout thread closing project {} in "
+                                 + "status {}",
+                                 evaluation.getId(),
+                                 stage );
+                    close( evaluation );
                 }
             }
             catch ( InterruptedException interruptedException )
@@ -959,17 +1055,18 @@ public class EvaluationService implements ServletContextListener
             }
         };
 
-        timeoutThread = new Thread( timeoutRunnable );
+        Thread timeoutThread = new Thread( timeoutRunnable );
+        evaluation.setTimeoutThread( timeoutThread );
         timeoutThread.start();
     }
 
-    private void logJobHeaderInformation()
+    private void logJobHeaderInformation( SystemSettings settings )
     {
         // Print some information about the software version and runtime
         if ( LOGGER.isInfoEnabled() )
         {
             LOGGER.info( Main.getVersionDescription() );
-            LOGGER.info( Main.getVerboseRuntimeDescription( systemSettings ) );
+            LOGGER.info( Main.getVerboseRuntimeDescription( settings ) );
         }
     }
 
@@ -978,8 +1075,9 @@ public class EvaluationService implements ServletContextListener
      * @param host the database host if a user wants to specify
      * @param name the database name if a user wants to specify
      * @param port the database port if a user wants to specify
+     * @return the system settings to use for the job
      */
-    private static void updateSystemSettingsIfNeeded( String host, String name, String port )
+    private static synchronized SystemSettings updateSystemSettingsIfNeeded( String host, String name, String port )
     {
         boolean databaseChangeDetected = false;
 
@@ -1016,6 +1114,8 @@ public class EvaluationService implements ServletContextListener
 
             systemSettings = systemSettings.toBuilder().databaseConfiguration( databaseBuilder.build() ).build();
         }
+
+        return systemSettings;
     }
 
     /**
@@ -1106,8 +1206,7 @@ public class EvaluationService implements ServletContextListener
     public void contextDestroyed( ServletContextEvent event )
     {
         // Reset Standard Streams
-        System.setOut( new PrintStream( new FileOutputStream( FileDescriptor.out ) ) );
-        System.setErr( new PrintStream( new FileOutputStream( FileDescriptor.err ) ) );
+        StandardStreamRouter.reset();
         LOGGER.info( "CONTEXT HAS BEEN DESTROYED" );
         // Shuts down cache instance (Not server)
         if ( Objects.nonNull( redissonClient ) )
@@ -1115,18 +1214,24 @@ public class EvaluationService implements ServletContextListener
             redissonClient.shutdown();
         }
 
+        // Stop any evaluations still running
+        EVALUATION_EXECUTOR.shutdownNow();
+
         // Close ChunkedOutput streams
         try
         {
-            if ( !outStream.isClosed() )
+            for ( ServerEvaluation evaluation : EVALUATIONS.values() )
             {
-                outStream.close();
-                byteOutputStream.close();
-            }
-            if ( !errorStream.isClosed() )
-            {
-                errorStream.close();
-                byteErrorStream.close();
+                for ( WhichStream whichStream : WhichStream.values() )
+                {
+                    ChunkedOutput<String> output = evaluation.getChunkedOutput( whichStream );
+                    if ( !output.isClosed() )
+                    {
+                        output.close();
+                        evaluation.getCapturedStream( whichStream )
+                                  .close();
+                    }
+                }
             }
         }
         catch ( IOException e )
@@ -1134,4 +1239,36 @@ public class EvaluationService implements ServletContextListener
             throw new UncheckedIOException( e );
         }
     }
+
+    /**
+     * Reads the maximum number of evaluations open at once from a system property.
+     * @return the maximum number of evaluations
+     */
+
+    private static int getMaximumEvaluations()
+    {
+        String maximum = System.getProperty( MAXIMUM_EVALUATIONS_SYSTEM_PROPERTY_NAME );
+        if ( Objects.nonNull( maximum ) )
+        {
+            try
+            {
+                int parsed = Integer.parseInt( maximum );
+                if ( parsed > 0 )
+                {
+                    LOGGER.info( "The server will open up to {} evaluations at once.", parsed );
+                    return parsed;
+                }
+            }
+            catch ( NumberFormatException e )
+            {
+                LOGGER.debug( "Failed to parse the maximum number of evaluations: {}.", maximum, e );
+            }
+
+            LOGGER.warn( "The system property {} must be an integer greater than zero, but was {}. Using 1.",
+                         MAXIMUM_EVALUATIONS_SYSTEM_PROPERTY_NAME,
+                         maximum );
+        }
+
+        return 1;
+    }
 }
@@ -0,0 +1,223 @@
+package wres.server;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.ws.rs.core.Response;
+import net.jcip.annotations.ThreadSafe;
+import org.glassfish.jersey.server.ChunkedOutput;
+
+import wres.messages.generated.EvaluationStatusOuterClass.EvaluationStatus;
+import wres.pipeline.Canceller;
+import wres.server.EvaluationService.WhichStream;
+
+/**
+ * The state of one evaluation served by an {@link EvaluationService}, which is isolated from the state of any other
+ * evaluation served at the same time. Includes the status, the {@link Canceller}, the standard streams captured
+ * while the evaluation is open and the eventual response.
+ *
+ * @author James Brown
+ */
+
+@ThreadSafe
+class ServerEvaluation
+{
+    /** The evaluation identifier. */
+    private final long id;
+
+    /** The evaluation status. */
+    private final AtomicReference<EvaluationStatus> stage = new AtomicReference<>( EvaluationStatus.AWAITING );
+
+    /** The canceller. */
+    private final Canceller canceller = Canceller.of();
+
+    /** The standard output stream captured. */
+    private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+
+    /** The standard error stream captured. */
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    /** The standard output stream to return to a caller. */
+    private final ChunkedOutput<String> stdoutChunks = new ChunkedOutput<>( String.class );
+
+    /** The standard error stream to return to a caller. */
+    private final ChunkedOutput<String> stderrChunks = new ChunkedOutput<>( String.class );
+
+    /** The response, once started. */
+    private final AtomicReference<Future<Response>> response = new AtomicReference<>();
+
+    /** A thread that times out an evaluation that remains in a transitional status. */
+    private final AtomicReference<Thread> timeoutThread = new AtomicReference<>();
+
+    /** Is true when the evaluation has been closed. */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /** The number of holds on the place of the evaluation among those that may be open at once. There is one hold for
+     * the open evaluation, which is released on closing, and one for the worker that runs it, which is released when
+     * the worker finishes. */
+    private final AtomicInteger placeHolds = new AtomicInteger( 2 );
+
+    /**
+     * Creates an instance.
+     * @param id the evaluation identifier
+     * @return the evaluation
+     */
+
+    static ServerEvaluation of( long id )
+    {
+        return new ServerEvaluation( id );
+    }
+
+    /**
+     * @return the evaluation identifier
+     */
+
+    long getId()
+    {
+        return this.id;
+    }
+
+    /**
+     * @return the evaluation status
+     */
+
+    EvaluationStatus getStage()
+    {
+        return this.stage.get();
+    }
+
+    /**
+     * @param stage the evaluation status
+     */
+
+    void setStage( EvaluationStatus stage )
+    {
+        this.stage.set( stage );
+    }
+
+    /**
+     * @return the canceller
+     */
+
+    Canceller getCanceller()
+    {
+        return this.canceller;
+    }
+
+    /**
+     * @param whichStream the stream
+     * @return the captured stream
+     */
+
+    ByteArrayOutputStream getCapturedStream( WhichStream whichStream )
+    {
+        if ( whichStream == WhichStream.STDOUT )
+        {
+            return this.stdout;
+        }
+
+        return this.stderr;
+    }
+
+    /**
+     * @param whichStream the stream
+     * @return the chunked output to return to a caller
+     */
+
+    ChunkedOutput<String> getChunkedOutput( WhichStream whichStream )
+    {
+        if ( whichStream == WhichStream.STDOUT )
+        {
+            return this.stdoutChunks;
+        }
+
+        return this.stderrChunks;
+    }
+
+    /**
+     * @return the response or null if the evaluation has not started
+     */
+
+    Future<Response> getResponse()
+    {
+        return this.response.get();
+    }
+
+    /**
+     * @param response the response
+     */
+
+    void setResponse( Future<Response> response )
+    {
+        this.response.set( response );
+    }
+
+    /**
+     * Sets a thread that times out the evaluation, interrupting any existing one.
+     * @param timeoutThread the timeout thread
+     */
+
+    void setTimeoutThread( Thread timeoutThread )
+    {
+        Thread existing = this.timeoutThread.getAndSet( timeoutThread );
+        if ( Objects.nonNull( existing ) )
+        {
+            existing.interrupt();
+        }
+    }
+
+    /**
+     * @return true if the evaluation has been closed, otherwise false
+     */
+
+    boolean isClosed()
+    {
+        return this.closed.get();
+    }
+
+    /**
+     * Closes the evaluation, stopping any timeout thread.
+     * @return true if the evaluation was closed by this call, false if it was already closed
+     */
+
+    boolean close()
+    {
+        if ( !this.closed.compareAndSet( false, true ) )
+        {
+            return false;
+        }
+
+        this.stage.set( EvaluationStatus.CLOSED );
+        Thread existing = this.timeoutThread.getAndSet( null );
+        if ( Objects.nonNull( existing ) )
+        {
+            existing.interrupt();
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases one hold on the place of the evaluation. Each hold must be released once only.
+     * @return true if no holds remain and the place may be freed, otherwise false
+     */
+
+    boolean releasePlace()
+    {
+        return this.placeHolds.decrementAndGet() == 0;
+    }
+
+    /**
+     * Hidden constructor.
+     * @param id the evaluation identifier
+     */
+
+    private ServerEvaluation( long id )
+    {
+        this.id = id;
+    }
+}
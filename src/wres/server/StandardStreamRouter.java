@@ -0,0 +1,191 @@
+package wres.server;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.jcip.annotations.ThreadSafe;
+
+import wres.server.EvaluationService.WhichStream;
+
+/**
+ * <p>A standard stream that routes each write to the stream captured for the evaluation bound to the writing thread,
+ * which allows several evaluations to capture their standard streams at once. An evaluation is bound explicitly to
+ * each thread that does its work, namely the thread that runs it (see {@link #bind(ServerEvaluation, Callable)}) and
+ * the threads of the executors created by the evaluation (see {@link #getThreadFactory(ServerEvaluation)}). A binding
+ * is never inherited, so a thread that is created by an evaluation thread but shared with other evaluations, such as
+ * the thread of a shared pool, is not bound to the evaluation that happened to create it. A write from a thread with
+ * no evaluation bound, or whose evaluation is closed, goes to the original standard stream.
+ *
+ * @author James Brown
+ */
+
+@ThreadSafe
+class StandardStreamRouter extends OutputStream
+{
+    /** The evaluation bound to the current thread, if any. */
+    private static final ThreadLocal<ServerEvaluation> EVALUATION = new ThreadLocal<>();
+
+    /** Is true when the routed streams have been installed. */
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+
+    /** The stream to route. */
+    private final WhichStream whichStream;
+
+    /** The original standard stream. */
+    private final OutputStream original;
+
+    /**
+     * Installs the routed streams as the standard streams, unless already installed.
+     */
+
+    static void install()
+    {
+        if ( INSTALLED.compareAndSet( false, true ) )
+        {
+            System.setOut( new PrintStream( new StandardStreamRouter( WhichStream.STDOUT,
+                                                                      new FileOutputStream( FileDescriptor.out ) ),
+                                            true ) );
+            System.setErr( new PrintStream( new StandardStreamRouter( WhichStream.STDERR,
+                                                                      new FileOutputStream( FileDescriptor.err ) ),
+                                            true ) );
+        }
+    }
+
+    /**
+     * Restores the original standard streams.
+     */
+
+    static void reset()
+    {
+        INSTALLED.set( false );
+        System.setOut( new PrintStream( new FileOutputStream( FileDescriptor.out ) ) );
+        System.setErr( new PrintStream( new FileOutputStream( FileDescriptor.err ) ) );
+    }
+
+    /**
+     * Returns a task that runs the prescribed task with the evaluation bound to the running thread. Any evaluation
+     * bound to the running thread beforehand is bound again once the task completes.
+     * @param <V> the type of result
+     * @param evaluation the evaluation
+     * @param task the task
+     * @return the task with the evaluation bound
+     * @throws NullPointerException if any input is null
+     */
+
+    static <V> Callable<V> bind( ServerEvaluation evaluation, Callable<V> task )
+    {
+        Objects.requireNonNull( evaluation );
+        Objects.requireNonNull( task );
+
+        return () -> {
+            ServerEvaluation existing = EVALUATION.get();
+            EVALUATION.set( evaluation );
+            try
+            {
+                return task.call();
+            }
+            finally
+            {
+                StandardStreamRouter.restore( existing );
+            }
+        };
+    }
+
+    /**
+     * Returns a thread factory whose threads are bound to the prescribed evaluation for as long as they run.
+     * @param evaluation the evaluation
+     * @return the thread factory
+     * @throws NullPointerException if the evaluation is null
+     */
+
+    static ThreadFactory getThreadFactory( ServerEvaluation evaluation )
+    {
+        Objects.requireNonNull( evaluation );
+
+        ThreadFactory delegate = Executors.defaultThreadFactory();
+        return runnable -> delegate.newThread( () -> {
+            EVALUATION.set( evaluation );
+            try
+            {
+                runnable.run();
+            }
+            finally
+            {
+                EVALUATION.remove();
+            }
+        } );
+    }
+
+    @Override
+    public void write( int b ) throws IOException
+    {
+        this.getTarget()
+            .write( b );
+    }
+
+    @Override
+    public void write( byte[] b, int off, int len ) throws IOException
+    {
+        this.getTarget()
+            .write( b, off, len );
+    }
+
+    @Override
+    public void flush() throws IOException
+    {
+        this.getTarget()
+            .flush();
+    }
+
+    /**
+     * Restores an earlier binding of the current thread.
+     * @param evaluation the evaluation to bind, possibly null
+     */
+
+    private static void restore( ServerEvaluation evaluation )
+    {
+        if ( Objects.isNull( evaluation ) )
+        {
+            EVALUATION.remove();
+        }
+        else
+        {
+            EVALUATION.set( evaluation );
+        }
+    }
+
+    /**
+     * @return the stream to write for the current thread
+     */
+
+    private OutputStream getTarget()
+    {
+        ServerEvaluation evaluation = EVALUATION.get();
+        if ( Objects.isNull( evaluation ) || evaluation.isClosed() )
+        {
+            return this.original;
+        }
+
+        return evaluation.getCapturedStream( this.whichStream );
+    }
+
+    /**
+     * Hidden constructor.
+     * @param whichStream the stream to route
+     * @param original the original standard stream
+     */
+
+    private StandardStreamRouter( WhichStream whichStream, OutputStream original )
+    {
+        this.whichStream = whichStream;
+        this.original = original;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -800,6 +801,143 @@ class EventsGeneratorTest
         assertEquals( 2, actual.size() );
     }
 
+    @Test
+    void testEventDetectionReusesEventsDetectedForFeatureInAnotherFeatureGroup()
+    {
+        TimeSeriesUpscaler<Double> upscaler = TimeSeriesOfDoubleUpscaler.of();
+        EventDetectionParameters parameters = EventDetectionParametersBuilder.builder()
+                                                                             .windowSize( Duration.ofHours( 6 ) )
+                                                                             .minimumEventDuration( Duration.ZERO )
+                                                                             .halfLife( Duration.ofHours( 2 ) )
+                                                                             .build();
+        EventDetector detector = EventDetectorFactory.getEventDetector( EventDetectionMethod.REGINA_OGDEN,
+                                                                        parameters );
+        EventsGenerator generator = new EventsGenerator( upscaler,
+                                                         upscaler,
+                                                         upscaler,
+                                                         upscaler,
+                                                         "qux",
+                                                         detector );
+
+        TimeSeries<Double> timeSeries = this.getTestTimeSeriesWithOffset( Duration.ZERO );
+
+        // Mock a retriever factory
+        Mockito.when( this.leftRetriever.get() )
+               .thenReturn( Stream.of( timeSeries ) );
+        Mockito.when( this.retrieverFactory.getLeftRetriever( Mockito.anySet(), Mockito.any() ) )
+               .thenReturn( this.leftRetriever );
+
+        EventDetection eventDeclaration = EventDetectionBuilder.builder()
+                                                               .method( EventDetectionMethod.REGINA_OGDEN )
+                                                               .parameters( parameters )
+                                                               .datasets( Set.of( EventDetectionDataset.OBSERVED ) )
+                                                               .build();
+
+        EvaluationDeclaration declaration = EvaluationDeclarationBuilder.builder()
+                                                                        .eventDetection( eventDeclaration )
+                                                                        .build();
+
+        // Two feature groups that share the same observed feature
+        Geometry geometry = MessageUtilities.getGeometry( "bar" );
+        GeometryTuple geoTupleOne = MessageUtilities.getGeometryTuple( geometry,
+                                                                       MessageUtilities.getGeometry( "baz" ),
+                                                                       null );
+        GeometryTuple geoTupleTwo = MessageUtilities.getGeometryTuple( geometry,
+                                                                       MessageUtilities.getGeometry( "qux" ),
+                                                                       null );
+        FeatureGroup groupOne = FeatureGroup.of( MessageUtilities.getGeometryGroup( null, geoTupleOne ) );
+        FeatureGroup groupTwo = FeatureGroup.of( MessageUtilities.getGeometryGroup( null, geoTupleTwo ) );
+
+        Project project = Mockito.mock( Project.class );
+        Mockito.when( project.getFeatureGroups() )
+               .thenReturn( Set.of( groupOne, groupTwo ) );
+        Mockito.when( project.getDeclaration() )
+               .thenReturn( declaration );
+
+        Set<TimeWindowOuter> one = generator.doEventDetection( project, groupOne, this.retrieverFactory );
+        Set<TimeWindowOuter> two = generator.doEventDetection( project, groupTwo, this.retrieverFactory );
+
+        assertEquals( one, two );
+        assertEquals( 2, one.size() );
+
+        // The observed time-series were retrieved once only
+        Mockito.verify( this.retrieverFactory, Mockito.times( 1 ) )
+               .getLeftRetriever( Mockito.anySet(), Mockito.any() );
+    }
+
+    @Test
+    void testEventDetectionReusesEventsDetectedInAnotherEvaluationOfTheSameData()
+    {
+        TimeSeriesUpscaler<Double> upscaler = TimeSeriesOfDoubleUpscaler.of();
+        EventDetectionParameters parameters = EventDetectionParametersBuilder.builder()
+                                                                             .windowSize( Duration.ofHours( 6 ) )
+                                                                             .minimumEventDuration( Duration.ZERO )
+                                                                             .halfLife( Duration.ofHours( 2 ) )
+                                                                             .build();
+        EventDetector detector = EventDetectorFactory.getEventDetector( EventDetectionMethod.REGINA_OGDEN,
+                                                                        parameters );
+
+        // Two evaluations that share a cache of detected events
+        Map<EventsGenerator.DetectionKey, Set<TimeWindowOuter>> shared = new ConcurrentHashMap<>();
+        EventsGenerator first = new EventsGenerator( upscaler, upscaler, upscaler, upscaler, "qux", detector, shared );
+        EventsGenerator second = new EventsGenerator( upscaler, upscaler, upscaler, upscaler, "qux", detector, shared );
+
+        TimeSeries<Double> timeSeries = this.getTestTimeSeriesWithOffset( Duration.ZERO );
+
+        // Mock a retriever factory
+        Mockito.when( this.leftRetriever.get() )
+               .thenAnswer( invocation -> Stream.of( timeSeries ) );
+        Mockito.when( this.retrieverFactory.getLeftRetriever( Mockito.anySet(), Mockito.any() ) )
+               .thenReturn( this.leftRetriever );
+
+        EventDetection eventDeclaration = EventDetectionBuilder.builder()
+                                                               .method( EventDetectionMethod.REGINA_OGDEN )
+                                                               .parameters( parameters )
+                                                               .datasets( Set.of( EventDetectionDataset.OBSERVED ) )
+                                                               .build();
+
+        EvaluationDeclaration declaration = EvaluationDeclarationBuilder.builder()
+                                                                        .eventDetection( eventDeclaration )
+                                                                        .build();
+
+        Geometry geometry = MessageUtilities.getGeometry( "bar" );
+        GeometryTuple geoTuple = MessageUtilities.getGeometryTuple( geometry, geometry, null );
+        FeatureGroup group = FeatureGroup.of( MessageUtilities.getGeometryGroup( null, geoTuple ) );
+
+        Project project = Mockito.mock( Project.class );
+        Mockito.when( project.getFeatureGroups() )
+               .thenReturn( Set.of( group ) );
+        Mockito.when( project.getDeclaration() )
+               .thenReturn( declaration );
+        Mockito.when( project.getHash() )
+               .thenReturn( "abc" );
+
+        Set<TimeWindowOuter> one = first.doEventDetection( project, group, this.retrieverFactory );
+        Set<TimeWindowOuter> two = second.doEventDetection( project, group, this.retrieverFactory );
+
+        assertEquals( one, two );
+        assertEquals( 2, one.size() );
+
+        // The observed time-series were retrieved once only
+        Mockito.verify( this.retrieverFactory, Mockito.times( 1 ) )
+               .getLeftRetriever( Mockito.anySet(), Mockito.any() );
+
+        // Another evaluation of different data detects the events again
+        Project anotherProject = Mockito.mock( Project.class );
+        Mockito.when( anotherProject.getFeatureGroups() )
+               .thenReturn( Set.of( group ) );
+        Mockito.when( anotherProject.getDeclaration() )
+               .thenReturn( declaration );
+        Mockito.when( anotherProject.getHash() )
+               .thenReturn( "def" );
+
+        Set<TimeWindowOuter> three = second.doEventDetection( anotherProject, group, this.retrieverFactory );
+
+        assertEquals( one, three );
+        Mockito.verify( this.retrieverFactory, Mockito.times( 2 ) )
+               .getLeftRetriever( Mockito.anySet(), Mockito.any() );
+    }
+
     /**
      * Generates a test time-series.
      * @param offset the offset to apply
@@ -2,7 +2,9 @@ package wres.pipeline.pooling;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -12,6 +14,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import wres.config.yaml.components.DataType;
@@ -25,10 +28,12 @@ import wres.config.yaml.components.TimeInterval;
 import wres.config.yaml.components.TimeIntervalBuilder;
 import wres.config.yaml.components.TimePools;
 import wres.config.yaml.components.TimePoolsBuilder;
+import wres.config.yaml.components.Variable;
 import wres.config.yaml.components.VariableBuilder;
 import wres.datamodel.messages.MessageFactory;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.space.Feature;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.time.TimeSeries;
 import wres.io.project.Project;
@@ -200,4 +205,96 @@ class PoolFactoryTest
 
         Assertions.assertEquals( 48, actualPoolIds.size() );
     }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void testGetSingleValuedPoolChunksRetrievesOneFeatureAtATime()
+    {
+        LeadTimeInterval leadTimes = LeadTimeIntervalBuilder.builder()
+                                                            .minimum( Duration.ofHours( 1 ) )
+                                                            .maximum( Duration.ofHours( 24 ) )
+                                                            .build();
+        Dataset left = DatasetBuilder.builder()
+                                     .type( DataType.OBSERVATIONS )
+                                     .variable( VariableBuilder.builder().name( "DISCHARGE" )
+                                                               .build() )
+                                     .build();
+
+        Dataset right = DatasetBuilder.builder()
+                                      .type( DataType.SINGLE_VALUED_FORECASTS )
+                                      .variable( VariableBuilder.builder().name( "STREAMFLOW" )
+                                                                .build() )
+                                      .build();
+        EvaluationDeclaration declaration =
+                EvaluationDeclarationBuilder.builder()
+                                            .unit( CFS )
+                                            .leadTimes( leadTimes )
+                                            .left( left )
+                                            .right( right )
+                                            .build();
+
+        Evaluation evaluationDescription = MessageFactory.parse( declaration );
+
+        Geometry keyOne = MessageUtilities.getGeometry( "DRRC2", null, null, null );
+        Geometry keyTwo = MessageUtilities.getGeometry( "DRRC2HSF", null, null, null );
+        GeometryTuple geoTupleOne = MessageUtilities.getGeometryTuple( keyOne, keyOne, null );
+        GeometryTuple geoTupleTwo = MessageUtilities.getGeometryTuple( keyTwo, keyTwo, null );
+        GeometryGroup geoGroup = GeometryGroup.newBuilder()
+                                              .setRegionName( "aGroup" )
+                                              .addGeometryTuples( geoTupleOne )
+                                              .addGeometryTuples( geoTupleTwo )
+                                              .build();
+        FeatureGroup featureGroup = FeatureGroup.of( geoGroup );
+
+        Project project = Mockito.mock( Project.class );
+        Mockito.when( project.getDeclaration() )
+               .thenReturn( declaration );
+        Mockito.when( project.getId() )
+               .thenReturn( 12345L );
+        Mockito.when( project.getLeftVariable() )
+               .thenReturn( new Variable( "DISCHARGE", null, null ) );
+        Mockito.when( project.getRightVariable() )
+               .thenReturn( new Variable( "STREAMFLOW", null, null ) );
+        Mockito.when( project.getFeatureGroups() )
+               .thenReturn( Set.of( featureGroup ) );
+        Mockito.when( project.getMeasurementUnit() )
+               .thenReturn( CFS );
+
+        RetrieverFactory<Double, Double, Double> retrieverFactory = Mockito.mock( SingleValuedRetrieverFactory.class );
+        Mockito.when( retrieverFactory.getLeftRetriever( Mockito.anySet(), Mockito.any() ) )
+               .thenReturn( Stream::of );
+        Mockito.when( retrieverFactory.getRightRetriever( Mockito.anySet(), Mockito.any() ) )
+               .thenReturn( Stream::of );
+
+        PoolFactory poolFactory = PoolFactory.of( project );
+        PoolRequest poolRequest = poolFactory.getPoolRequests( evaluationDescription, null )
+                                             .get( 0 );
+
+        Iterator<Pool<TimeSeries<Pair<Double, Double>>>> chunks =
+                poolFactory.getSingleValuedPoolChunks( poolRequest, retrieverFactory )
+                           .get();
+
+        // Nothing is retrieved until a chunk is requested
+        Assertions.assertTrue( chunks.hasNext() );
+        Mockito.verify( retrieverFactory, Mockito.never() )
+               .getRightRetriever( Mockito.anySet(), Mockito.any() );
+
+        List<Pool<TimeSeries<Pair<Double, Double>>>> actual = new ArrayList<>();
+        chunks.forEachRemaining( actual::add );
+
+        Assertions.assertEquals( 2, actual.size() );
+
+        // Each chunk carries the metadata of the pool as a whole
+        Assertions.assertTrue( actual.stream()
+                                     .allMatch( next -> next.getMetadata()
+                                                            .equals( poolRequest.getMetadata() ) ) );
+
+        // Each chunk is retrieved for one feature
+        ArgumentCaptor<Set<Feature>> features = ArgumentCaptor.forClass( Set.class );
+        Mockito.verify( retrieverFactory, Mockito.times( 2 ) )
+               .getRightRetriever( features.capture(), Mockito.any() );
+        Assertions.assertTrue( features.getAllValues()
+                                       .stream()
+                                       .allMatch( next -> next.size() == 1 ) );
+    }
 }
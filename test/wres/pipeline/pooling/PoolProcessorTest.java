@@ -0,0 +1,261 @@
+package wres.pipeline.pooling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import wres.datamodel.messages.MessageFactory;
+import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.PoolRequest;
+import wres.datamodel.pools.PoolSlicer;
+import wres.datamodel.space.Feature;
+import wres.datamodel.space.FeatureGroup;
+import wres.datamodel.space.FeatureTuple;
+import wres.datamodel.statistics.StatisticsStore;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.events.EvaluationMessager;
+import wres.pipeline.EvaluationEvent;
+import wres.pipeline.pooling.PoolProcessingResult.Status;
+import wres.pipeline.statistics.StatisticsAccumulator;
+import wres.pipeline.statistics.StatisticsProcessor;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.Evaluation;
+import wres.statistics.generated.Geometry;
+import wres.statistics.generated.GeometryTuple;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+import wres.statistics.generated.TimeWindow;
+
+/**
+ * Tests the {@link PoolProcessor}.
+ *
+ * @author James Brown
+ */
+
+class PoolProcessorTest
+{
+    /** A time. */
+    private static final String T0 = "2551-03-17T00:00:00Z";
+
+    /** The pool with two features. */
+    private Pool<TimeSeries<Pair<Double, Double>>> pool;
+
+    /** The monitor. */
+    private EvaluationEvent monitor;
+
+    /** The pool group tracker. */
+    private PoolGroupTracker tracker;
+
+    /** The pool request. */
+    private PoolRequest poolRequest;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        Pool<TimeSeries<Pair<Double, Double>>> one = PoolProcessorTest.getMiniPool( "FOO", 1.0, 2.0 );
+        Pool<TimeSeries<Pair<Double, Double>>> two = PoolProcessorTest.getMiniPool( "BAR", 3.0, 4.0, 5.0 );
+
+        this.pool = new Pool.Builder<TimeSeries<Pair<Double, Double>>>().addPool( one )
+                                                                         .addPool( two )
+                                                                         .build();
+        this.monitor = Mockito.mock( EvaluationEvent.class );
+        this.poolRequest = PoolRequest.of( this.pool.getMetadata() );
+        this.tracker = Mockito.mock( PoolGroupTracker.class );
+        Mockito.when( this.tracker.getGroupId( this.poolRequest ) )
+               .thenReturn( "aGroup" );
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void testGetCreatesStatisticsIncrementallyFromChunksOfPool()
+    {
+        StatisticsStore empty = new StatisticsStore.Builder().build();
+
+        // Two processors, each with an accumulator
+        List<StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>>> accumulators = new ArrayList<>();
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors = new ArrayList<>();
+        for ( int i = 0; i < 2; i++ )
+        {
+            StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> accumulator =
+                    Mockito.mock( StatisticsAccumulator.class );
+            Mockito.when( accumulator.complete() )
+                   .thenReturn( empty );
+            StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>> processor =
+                    Mockito.mock( StatisticsProcessor.class );
+            Mockito.when( processor.getAccumulator() )
+                   .thenReturn( Optional.of( accumulator ) );
+            accumulators.add( accumulator );
+            processors.add( processor );
+        }
+
+        Supplier<Pool<TimeSeries<Pair<Double, Double>>>> poolSupplier = Mockito.mock( Supplier.class );
+        Supplier<Iterator<Pool<TimeSeries<Pair<Double, Double>>>>> chunkSupplier =
+                () -> this.pool.getMiniPools()
+                               .stream()
+                               .map( next -> Pool.of( next.get(), this.pool.getMetadata() ) )
+                               .iterator();
+
+        PoolProcessor<Double, Double> processor = this.getPoolProcessor( poolSupplier, chunkSupplier, processors );
+        PoolProcessingResult result = processor.get();
+
+        assertEquals( Status.STATISTICS_PUBLICATION_SKIPPED, result.getStatus() );
+
+        // The pool was consumed in chunks
+        Mockito.verify( poolSupplier, Mockito.never() )
+               .get();
+
+        for ( StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> accumulator : accumulators )
+        {
+            ArgumentCaptor<Pool<TimeSeries<Pair<Double, Double>>>> chunks = ArgumentCaptor.forClass( Pool.class );
+            Mockito.verify( accumulator, Mockito.times( 2 ) )
+                   .add( chunks.capture() );
+            Mockito.verify( accumulator )
+                   .complete();
+
+            // Each chunk carries the metadata of the pool as a whole
+            List<Pool<TimeSeries<Pair<Double, Double>>>> actual = chunks.getAllValues();
+            assertTrue( actual.stream()
+                              .allMatch( next -> next.getMetadata()
+                                                     .equals( this.pool.getMetadata() ) ) );
+            assertEquals( 2, PoolSlicer.getEventCount( actual.get( 0 ) ) );
+            assertEquals( 3, PoolSlicer.getEventCount( actual.get( 1 ) ) );
+        }
+
+        // The pool is registered once, chunk by chunk, rather than once for each processor
+        Mockito.verify( this.monitor, Mockito.times( 2 ) )
+               .registerPool( Mockito.any(), Mockito.anyLong(), Mockito.anyLong() );
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    void testGetCreatesStatisticsFromPoolWhenAProcessorCannotAccumulate()
+    {
+        StatisticsStore empty = new StatisticsStore.Builder().build();
+
+        StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> accumulator =
+                Mockito.mock( StatisticsAccumulator.class );
+        StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>> incremental =
+                Mockito.mock( StatisticsProcessor.class );
+        Mockito.when( incremental.getAccumulator() )
+               .thenReturn( Optional.of( accumulator ) );
+        Mockito.when( incremental.apply( this.pool ) )
+               .thenReturn( empty );
+
+        StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>> notIncremental =
+                Mockito.mock( StatisticsProcessor.class );
+        Mockito.when( notIncremental.getAccumulator() )
+               .thenReturn( Optional.empty() );
+        Mockito.when( notIncremental.apply( this.pool ) )
+               .thenReturn( empty );
+
+        Supplier<Pool<TimeSeries<Pair<Double, Double>>>> poolSupplier = Mockito.mock( Supplier.class );
+        Mockito.when( poolSupplier.get() )
+               .thenReturn( this.pool );
+        Supplier<Iterator<Pool<TimeSeries<Pair<Double, Double>>>>> chunkSupplier = Mockito.mock( Supplier.class );
+
+        PoolProcessor<Double, Double> processor = this.getPoolProcessor( poolSupplier,
+                                                                         chunkSupplier,
+                                                                         List.of( incremental, notIncremental ) );
+        processor.get();
+
+        Mockito.verify( poolSupplier )
+               .get();
+        Mockito.verify( chunkSupplier, Mockito.never() )
+               .get();
+        Mockito.verify( accumulator, Mockito.never() )
+               .add( Mockito.any() );
+        Mockito.verify( incremental )
+               .apply( this.pool );
+        Mockito.verify( notIncremental )
+               .apply( this.pool );
+    }
+
+    /**
+     * Creates a pool processor that does not publish statistics.
+     * @param poolSupplier the pool supplier
+     * @param chunkSupplier the pool chunk supplier
+     * @param processors the metric processors
+     * @return the pool processor
+     */
+
+    private PoolProcessor<Double, Double> getPoolProcessor( Supplier<Pool<TimeSeries<Pair<Double, Double>>>> poolSupplier,
+                                                            Supplier<Iterator<Pool<TimeSeries<Pair<Double, Double>>>>> chunkSupplier,
+                                                            List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors )
+    {
+        return new PoolProcessor.Builder<Double, Double>().setEvaluation( Mockito.mock( EvaluationMessager.class ) )
+                                                          .setMonitor( this.monitor )
+                                                          .setPoolSupplier( poolSupplier )
+                                                          .setPoolChunkSupplier( chunkSupplier )
+                                                          .setPoolRequest( this.poolRequest )
+                                                          .setPoolGroupTracker( this.tracker )
+                                                          .setMetricProcessors( processors )
+                                                          .setTraceCountEstimator( next -> next.get()
+                                                                                               .size() )
+                                                          .setPublishStatistics( false )
+                                                          .build();
+    }
+
+    /**
+     * Creates a pool for one feature that contains one time-series with the prescribed values.
+     * @param featureName the feature name
+     * @param values the values
+     * @return the pool
+     */
+
+    private static Pool<TimeSeries<Pair<Double, Double>>> getMiniPool( String featureName, double... values )
+    {
+        Instant t0 = Instant.parse( T0 );
+        Geometry geometry = MessageUtilities.getGeometry( featureName );
+        GeometryTuple geometryTuple = MessageUtilities.getGeometryTuple( geometry, geometry, null );
+        FeatureTuple featureTuple = FeatureTuple.of( geometryTuple );
+        FeatureGroup featureGroup = FeatureGroup.of( MessageFactory.getGeometryGroup( featureTuple ) );
+
+        SortedSet<Event<Pair<Double, Double>>> events = new TreeSet<>();
+        for ( int i = 0; i < values.length; i++ )
+        {
+            events.add( Event.of( t0.plus( Duration.ofHours( i + 1L ) ), Pair.of( values[i], values[i] ) ) );
+        }
+
+        TimeSeriesMetadata seriesMetadata = TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0, t0 ),
+                                                                   null,
+                                                                   "STREAMFLOW",
+                                                                   Feature.of( geometry ),
+                                                                   "CMS" );
+
+        TimeWindow timeWindow = MessageUtilities.getTimeWindow( t0,
+                                                                t0,
+                                                                Duration.ZERO,
+                                                                Duration.ofHours( values.length ) );
+        Evaluation evaluation = Evaluation.newBuilder()
+                                          .setRightVariableName( "STREAMFLOW" )
+                                          .setMeasurementUnit( "CMS" )
+                                          .build();
+        wres.statistics.generated.Pool poolDescription = MessageFactory.getPool( featureGroup,
+                                                                                 TimeWindowOuter.of( timeWindow ),
+                                                                                 null,
+                                                                                 null,
+                                                                                 false );
+
+        return Pool.of( List.of( TimeSeries.of( seriesMetadata, events ) ),
+                        PoolMetadata.of( evaluation, poolDescription ) );
+    }
+}
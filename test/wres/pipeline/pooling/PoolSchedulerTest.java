@@ -0,0 +1,262 @@
+package wres.pipeline.pooling;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests the {@link PoolScheduler}.
+ *
+ * @author James Brown
+ */
+class PoolSchedulerTest
+{
+    /** The maximum heap size to simulate. */
+    private static final long MAXIMUM_HEAP = 1_000_000;
+
+    /** The heap use after the last collection to simulate. */
+    private static final long LIVE_HEAP = 100_000;
+
+    /** An executor. */
+    private ExecutorService executor;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.executor = Executors.newFixedThreadPool( 4 );
+    }
+
+    @Test
+    void testScheduleRunsPoolsOneLocalityAtATime() throws ExecutionException, InterruptedException
+    {
+        List<String> started = Collections.synchronizedList( new ArrayList<>() );
+        List<TestPool> pools = List.of( new TestPool( "A", "A1", started ),
+                                        new TestPool( "B", "B1", started ),
+                                        new TestPool( "A", "A2", started ),
+                                        new TestPool( "B", "B2", started ) );
+
+        PoolScheduler scheduler = PoolScheduler.of( this.executor, 1, 0 );
+        scheduler.schedule( pools, TestPool::locality, r -> {
+                 } )
+                 .get();
+
+        assertAll( () -> assertEquals( List.of( "A1", "A2", "B1", "B2" ), started ),
+                   () -> assertEquals( 0, scheduler.getQueueDepth() ),
+                   () -> assertEquals( 0, scheduler.getInFlightPools() ) );
+    }
+
+    @Test
+    void testScheduleAdmitsNoMorePoolsThanTheMaximumInFlight() throws ExecutionException, InterruptedException
+    {
+        ConcurrencyCounter counter = new ConcurrencyCounter();
+        List<Supplier<PoolProcessingResult>> pools = new ArrayList<>();
+        for ( int i = 0; i < 12; i++ )
+        {
+            pools.add( counter::run );
+        }
+
+        PoolScheduler scheduler = PoolScheduler.of( this.executor, 2, 0 );
+        scheduler.schedule( pools, p -> "A", r -> {
+                 } )
+                 .get();
+
+        assertTrue( counter.maximum.get() <= 2 );
+    }
+
+    @Test
+    void testScheduleAdmitsOnePoolAtATimeWhenTheHeapIsExhausted() throws ExecutionException, InterruptedException
+    {
+        ConcurrencyCounter counter = new ConcurrencyCounter();
+        List<Supplier<PoolProcessingResult>> pools = new ArrayList<>();
+        for ( int i = 0; i < 8; i++ )
+        {
+            pools.add( counter::run );
+        }
+
+        PoolScheduler scheduler = new PoolScheduler( this.executor, 4, 50, MAXIMUM_HEAP, () -> MAXIMUM_HEAP );
+        scheduler.schedule( pools, p -> "A", r -> {
+                 } )
+                 .get();
+
+        assertAll( () -> assertEquals( 1, counter.maximum.get() ),
+                   () -> assertEquals( 0, scheduler.getInFlightBytes() ) );
+    }
+
+    @Test
+    void testScheduleAdmitsTheMaximumInFlightWhenGarbageGrowsBetweenReleases()
+    {
+        // The heap use grows with garbage on every reading, but the heap use after the last collection does not
+        AtomicLong garbage = new AtomicLong();
+        MemoryPoolMXBean heapPool = Mockito.mock( MemoryPoolMXBean.class );
+        Mockito.when( heapPool.getUsage() )
+               .thenAnswer( invocation -> this.getMemoryUsage( LIVE_HEAP + garbage.addAndGet( 25_000 ) ) );
+        Mockito.when( heapPool.getCollectionUsage() )
+               .thenReturn( this.getMemoryUsage( LIVE_HEAP ) );
+
+        // Run each pool on request
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        PoolScheduler scheduler = new PoolScheduler( tasks::add,
+                                                     4,
+                                                     50,
+                                                     MAXIMUM_HEAP,
+                                                     () -> PoolScheduler.getLiveHeap( List.of( heapPool ) ) );
+
+        List<Supplier<PoolProcessingResult>> pools = new ArrayList<>();
+        for ( int i = 0; i < 20; i++ )
+        {
+            pools.add( () -> null );
+        }
+
+        CompletableFuture<Object> future = scheduler.schedule( pools, p -> "A", r -> {
+        } );
+
+        List<Integer> actual = new ArrayList<>();
+        while ( !tasks.isEmpty() )
+        {
+            actual.add( scheduler.getInFlightPools() );
+            tasks.poll()
+                 .run();
+        }
+
+        // The maximum is in flight until the queue is empty, although the garbage exceeds the heap budget
+        List<Integer> expected = new ArrayList<>( Collections.nCopies( 17, 4 ) );
+        expected.addAll( List.of( 3, 2, 1 ) );
+
+        assertAll( () -> assertEquals( expected, actual ),
+                   () -> assertTrue( future.isDone() ),
+                   () -> assertTrue( garbage.get() > MAXIMUM_HEAP / 2 ) );
+    }
+
+    @Test
+    void testGetLiveHeapUsesTheCurrentHeapUseUntilTheFirstCollection()
+    {
+        MemoryPoolMXBean heapPool = Mockito.mock( MemoryPoolMXBean.class );
+        Mockito.when( heapPool.getUsage() )
+               .thenReturn( this.getMemoryUsage( 300 ) );
+        Mockito.when( heapPool.getCollectionUsage() )
+               .thenReturn( this.getMemoryUsage( 0 ) );
+
+        MemoryPoolMXBean uncollectedPool = Mockito.mock( MemoryPoolMXBean.class );
+        Mockito.when( uncollectedPool.getUsage() )
+               .thenReturn( this.getMemoryUsage( 20 ) );
+
+        List<MemoryPoolMXBean> heapPools = List.of( heapPool, uncollectedPool );
+
+        assertEquals( 320, PoolScheduler.getLiveHeap( heapPools ) );
+
+        // After the first collection
+        Mockito.when( heapPool.getCollectionUsage() )
+               .thenReturn( this.getMemoryUsage( 100 ) );
+
+        assertEquals( 120, PoolScheduler.getLiveHeap( heapPools ) );
+    }
+
+    @Test
+    void testScheduleCompletesExceptionallyWhenOnePoolFails()
+    {
+        List<Supplier<PoolProcessingResult>> pools = new ArrayList<>();
+        pools.add( () -> null );
+        pools.add( () -> {
+            throw new IllegalStateException( "A pool failed." );
+        } );
+        pools.add( () -> null );
+
+        PoolScheduler scheduler = PoolScheduler.of( this.executor, 1, 0 );
+        CompletableFuture<Object> future = scheduler.schedule( pools, p -> "A", r -> {
+        } );
+
+        ExecutionException actual = assertThrows( ExecutionException.class, future::get );
+
+        assertAll( () -> assertTrue( actual.getCause() instanceof IllegalStateException ),
+                   () -> assertEquals( 1, scheduler.getQueueDepth() ) );
+    }
+
+    @Test
+    void testCreationThrowsExpectedExceptionWhenHeapPercentIsInvalid()
+    {
+        assertThrows( IllegalArgumentException.class, () -> PoolScheduler.of( this.executor, 1, 101 ) );
+    }
+
+    @AfterEach
+    void runAfterEachTest() throws InterruptedException
+    {
+        this.executor.shutdownNow();
+        this.executor.awaitTermination( 1, TimeUnit.SECONDS );
+    }
+
+    /**
+     * @param used the bytes used
+     * @return the memory usage
+     */
+    private MemoryUsage getMemoryUsage( long used )
+    {
+        return new MemoryUsage( 0, used, used, -1 );
+    }
+
+    /**
+     * A pool that records its name on starting.
+     * @param locality the locality
+     * @param name the name
+     * @param started the names of the pools started
+     */
+    private record TestPool( String locality, String name, List<String> started )
+            implements Supplier<PoolProcessingResult>
+    {
+        @Override
+        public PoolProcessingResult get()
+        {
+            this.started.add( this.name );
+            return null;
+        }
+    }
+
+    /**
+     * Counts the maximum number of pools running at once.
+     */
+    private static class ConcurrencyCounter
+    {
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger maximum = new AtomicInteger();
+
+        private PoolProcessingResult run()
+        {
+            int now = this.current.incrementAndGet();
+            this.maximum.accumulateAndGet( now, Math::max );
+
+            try
+            {
+                Thread.sleep( 5 );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread()
+                      .interrupt();
+            }
+
+            this.current.decrementAndGet();
+            return null;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
@@ -19,6 +21,7 @@ import org.apache.commons.math3.util.Precision;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -54,6 +57,7 @@ import wres.datamodel.thresholds.OneOrTwoThresholds;
 import wres.datamodel.thresholds.ThresholdOuter;
 import wres.datamodel.thresholds.ThresholdSlicer;
 import wres.datamodel.thresholds.ThresholdException;
+import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeWindowOuter;
 import wres.metrics.MetricParameterException;
@@ -1882,6 +1886,138 @@ class EnsembleStatisticsProcessorTest
         assertEquals( expectedProbabilityScores, actualProbabilityScores );
     }
 
+    @Test
+    void testAccumulatorMatchesApplyForIncrementalScores() throws IOException
+    {
+        EvaluationDeclaration declaration =
+                TestDeclarationGenerator.getDeclarationForEnsembleForecastsWithoutThresholds();
+
+        // Ensemble scores, including a skill score, and scores of the ensemble mean
+        Set<Metric> metrics = Set.of( new Metric( MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE, null ),
+                                      new Metric( MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SKILL_SCORE, null ),
+                                      new Metric( MetricConstants.SAMPLE_SIZE, null ),
+                                      new Metric( MetricConstants.MEAN_ERROR, null ),
+                                      new Metric( MetricConstants.ROOT_MEAN_SQUARE_ERROR, null ) );
+        EvaluationDeclaration finalDeclaration = EvaluationDeclarationBuilder.builder( declaration )
+                                                                             .metrics( metrics )
+                                                                             .build();
+        finalDeclaration = DeclarationInterpolator.interpolate( finalDeclaration, false );
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Ensemble>>>>> processors =
+                EnsembleStatisticsProcessorTest.ofMetricProcessorForEnsemblePairs( finalDeclaration );
+        Pool<TimeSeries<Pair<Double, Ensemble>>> pairs = TestDataFactory.getTimeSeriesOfEnsemblePairsOne();
+
+        assertFalse( processors.isEmpty() );
+
+        for ( StatisticsProcessor<Pool<TimeSeries<Pair<Double, Ensemble>>>> processor : processors )
+        {
+            StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Ensemble>>>> accumulator =
+                    processor.getAccumulator()
+                             .orElseThrow();
+
+            for ( Pool<TimeSeries<Pair<Double, Ensemble>>> chunk : EnsembleStatisticsProcessorTest.getChunks( pairs ) )
+            {
+                accumulator.add( chunk );
+            }
+
+            List<DoubleScoreStatisticOuter> actual = accumulator.complete()
+                                                                .getDoubleScoreStatistics();
+            List<DoubleScoreStatisticOuter> expected = processor.apply( pairs )
+                                                                .getDoubleScoreStatistics();
+
+            assertEquals( expected.size(), actual.size() );
+
+            for ( DoubleScoreStatisticOuter nextExpected : expected )
+            {
+                DoubleScoreStatisticOuter nextActual = Slicer.filter( actual, nextExpected.getMetricName() )
+                                                             .get( 0 );
+
+                assertEquals( nextExpected.getPoolMetadata(), nextActual.getPoolMetadata() );
+                assertEquals( nextExpected.getComponent( MetricConstants.MAIN )
+                                          .getStatistic()
+                                          .getValue(),
+                              nextActual.getComponent( MetricConstants.MAIN )
+                                        .getStatistic()
+                                        .getValue(),
+                              1E-10 );
+            }
+        }
+    }
+
+    @Test
+    void testGetAccumulatorIsEmptyWhenStatisticsCannotBeAccumulated()
+    {
+        // Value thresholds, diagrams and discrete probability metrics are not incremental
+        EvaluationDeclaration declaration =
+                TestDeclarationGenerator.getDeclarationForEnsembleForecastsWithAllValidMetricsAndValueThresholds();
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Ensemble>>>>> processors =
+                EnsembleStatisticsProcessorTest.ofMetricProcessorForEnsemblePairs( declaration );
+
+        assertFalse( processors.isEmpty() );
+        assertTrue( processors.stream()
+                              .allMatch( next -> next.getAccumulator()
+                                                     .isEmpty() ) );
+    }
+
+    /**
+     * Partitions a pool into three chunks, each with the metadata of the pool: the first half of each time-series, an
+     * empty chunk and the second half of each time-series. The baseline time-series are partitioned in the same way.
+     *
+     * @param pool the pool
+     * @return the chunks
+     */
+
+    private static List<Pool<TimeSeries<Pair<Double, Ensemble>>>> getChunks( Pool<TimeSeries<Pair<Double, Ensemble>>> pool )
+    {
+        Pool<TimeSeries<Pair<Double, Ensemble>>> baselinePool = pool.getBaselineData();
+        PoolMetadata baselineMetadata = baselinePool.getMetadata();
+        List<List<TimeSeries<Pair<Double, Ensemble>>>> main = EnsembleStatisticsProcessorTest.split( pool.get() );
+        List<List<TimeSeries<Pair<Double, Ensemble>>>> baseline =
+                EnsembleStatisticsProcessorTest.split( baselinePool.get() );
+
+        return List.of( Pool.of( main.get( 0 ), pool.getMetadata(), baseline.get( 0 ), baselineMetadata, null ),
+                        Pool.of( List.of(), pool.getMetadata(), List.of(), baselineMetadata, null ),
+                        Pool.of( main.get( 1 ), pool.getMetadata(), baseline.get( 1 ), baselineMetadata, null ) );
+    }
+
+    /**
+     * Splits each time-series into a head and a tail.
+     *
+     * @param series the time-series
+     * @return the heads and the tails
+     */
+
+    private static List<List<TimeSeries<Pair<Double, Ensemble>>>> split( List<TimeSeries<Pair<Double, Ensemble>>> series )
+    {
+        List<TimeSeries<Pair<Double, Ensemble>>> heads = new ArrayList<>();
+        List<TimeSeries<Pair<Double, Ensemble>>> tails = new ArrayList<>();
+
+        for ( TimeSeries<Pair<Double, Ensemble>> next : series )
+        {
+            SortedSet<Event<Pair<Double, Ensemble>>> head = new TreeSet<>();
+            SortedSet<Event<Pair<Double, Ensemble>>> tail = new TreeSet<>();
+            int middle = next.getEvents()
+                             .size() / 2;
+            for ( Event<Pair<Double, Ensemble>> event : next.getEvents() )
+            {
+                if ( head.size() < middle )
+                {
+                    head.add( event );
+                }
+                else
+                {
+                    tail.add( event );
+                }
+            }
+
+            heads.add( TimeSeries.of( next.getMetadata(), head ) );
+            tails.add( TimeSeries.of( next.getMetadata(), tail ) );
+        }
+
+        return List.of( heads, tails );
+    }
+
     /**
      * @param declaration the declaration
      * @return the processors
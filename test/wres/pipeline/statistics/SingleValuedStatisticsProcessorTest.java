@@ -1,6 +1,7 @@
 package wres.pipeline.statistics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -12,7 +13,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
@@ -52,6 +56,7 @@ import wres.datamodel.statistics.DurationScoreStatisticOuter;
 import wres.datamodel.statistics.DurationDiagramStatisticOuter;
 import wres.datamodel.statistics.StatisticsStore;
 import wres.datamodel.thresholds.*;
+import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeWindowOuter;
 import wres.metrics.MetricParameterException;
@@ -1139,6 +1144,200 @@ public final class SingleValuedStatisticsProcessorTest
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testAccumulatorMatchesApplyForIncrementalScores() throws InterruptedException
+    {
+        EvaluationDeclaration declaration =
+                TestDeclarationGenerator.getDeclarationForSingleValuedForecastsWithoutThresholds();
+
+        Set<Metric> metrics = Set.of( new Metric( MetricConstants.MEAN_ERROR, null ),
+                                      new Metric( MetricConstants.MEAN_ABSOLUTE_ERROR, null ),
+                                      new Metric( MetricConstants.ROOT_MEAN_SQUARE_ERROR, null ),
+                                      new Metric( MetricConstants.PEARSON_CORRELATION_COEFFICIENT, null ),
+                                      new Metric( MetricConstants.SAMPLE_SIZE, null ) );
+        EvaluationDeclaration finalDeclaration = EvaluationDeclarationBuilder.builder( declaration )
+                                                                             .metrics( metrics )
+                                                                             .build();
+        finalDeclaration = DeclarationInterpolator.interpolate( finalDeclaration, false );
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors =
+                SingleValuedStatisticsProcessorTest.ofMetricProcessorForSingleValuedPairs( finalDeclaration );
+        Pool<TimeSeries<Pair<Double, Double>>> pairs = TestDataFactory.getTimeSeriesOfSingleValuedPairsSix();
+
+        for ( StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>> processor : processors )
+        {
+            StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> accumulator =
+                    processor.getAccumulator()
+                             .orElseThrow();
+
+            for ( Pool<TimeSeries<Pair<Double, Double>>> chunk : SingleValuedStatisticsProcessorTest.getChunks( pairs ) )
+            {
+                accumulator.add( chunk );
+            }
+
+            List<DoubleScoreStatisticOuter> actual = accumulator.complete()
+                                                                .getDoubleScoreStatistics();
+            List<DoubleScoreStatisticOuter> expected = processor.apply( pairs )
+                                                                .getDoubleScoreStatistics();
+
+            assertEquals( expected.size(), actual.size() );
+
+            for ( DoubleScoreStatisticOuter nextExpected : expected )
+            {
+                DoubleScoreStatisticOuter nextActual = Slicer.filter( actual, nextExpected.getMetricName() )
+                                                             .get( 0 );
+
+                assertEquals( nextExpected.getPoolMetadata(), nextActual.getPoolMetadata() );
+                assertEquals( 0, nextActual.getStatistic()
+                                           .getSampleSize() );
+                assertEquals( nextExpected.getComponent( MetricConstants.MAIN )
+                                          .getStatistic()
+                                          .getValue(),
+                              nextActual.getComponent( MetricConstants.MAIN )
+                                        .getStatistic()
+                                        .getValue(),
+                              1E-10 );
+            }
+        }
+    }
+
+    @Test
+    public void testAccumulatorProducesNoStatisticsWhenNoPairsAdded() throws InterruptedException
+    {
+        EvaluationDeclaration declaration =
+                TestDeclarationGenerator.getDeclarationForSingleValuedForecastsWithoutThresholds();
+
+        Set<Metric> metrics = Set.of( new Metric( MetricConstants.MEAN_ERROR, null ) );
+        EvaluationDeclaration finalDeclaration = EvaluationDeclarationBuilder.builder( declaration )
+                                                                             .metrics( metrics )
+                                                                             .build();
+        finalDeclaration = DeclarationInterpolator.interpolate( finalDeclaration, false );
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors =
+                SingleValuedStatisticsProcessorTest.ofMetricProcessorForSingleValuedPairs( finalDeclaration );
+        Pool<TimeSeries<Pair<Double, Double>>> pairs = TestDataFactory.getTimeSeriesOfSingleValuedPairsSix();
+        Pool<TimeSeries<Pair<Double, Double>>> empty = Pool.of( List.of(), pairs.getMetadata() );
+
+        StatisticsAccumulator<Pool<TimeSeries<Pair<Double, Double>>>> accumulator =
+                processors.get( 0 )
+                          .getAccumulator()
+                          .orElseThrow();
+        accumulator.add( empty );
+
+        assertTrue( accumulator.complete()
+                               .getDoubleScoreStatistics()
+                               .isEmpty() );
+    }
+
+    @Test
+    public void testGetAccumulatorIsEmptyWhenStatisticsCannotBeAccumulated()
+    {
+        // Box plots are not incremental
+        EvaluationDeclaration withoutThresholds =
+                TestDeclarationGenerator.getDeclarationForSingleValuedForecastsWithoutThresholds();
+
+        // Dichotomous metrics and value thresholds are not incremental
+        EvaluationDeclaration withThresholds =
+                TestDeclarationGenerator.getDeclarationForSingleValuedForecastsWithThresholds();
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors = new ArrayList<>();
+        processors.addAll( SingleValuedStatisticsProcessorTest.ofMetricProcessorForSingleValuedPairs( withoutThresholds ) );
+        processors.addAll( SingleValuedStatisticsProcessorTest.ofMetricProcessorForSingleValuedPairs( withThresholds ) );
+
+        assertFalse( processors.isEmpty() );
+        assertTrue( processors.stream()
+                              .allMatch( next -> next.getAccumulator()
+                                                     .isEmpty() ) );
+    }
+
+    @Test
+    public void testPairsProcessorMatchesApply() throws InterruptedException
+    {
+        EvaluationDeclaration declaration =
+                TestDeclarationGenerator.getDeclarationForSingleValuedForecastsWithThresholds();
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors =
+                SingleValuedStatisticsProcessorTest.ofMetricProcessorForSingleValuedPairs( declaration );
+        Pool<TimeSeries<Pair<Double, Double>>> pairs = TestDataFactory.getTimeSeriesOfSingleValuedPairsSix();
+
+        assertFalse( processors.isEmpty() );
+
+        for ( StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>> processor : processors )
+        {
+            Function<Pool<Pair<Double, Double>>, StatisticsStore> pairsProcessor =
+                    processor.<Pair<Double, Double>>getPairsProcessor()
+                             .orElseThrow();
+
+            StatisticsStore expected = processor.apply( pairs );
+            StatisticsStore actual = pairsProcessor.apply( PoolSlicer.unpack( pairs ) );
+
+            assertEquals( new HashSet<>( expected.getDoubleScoreStatistics() ),
+                          new HashSet<>( actual.getDoubleScoreStatistics() ) );
+            assertEquals( new HashSet<>( expected.getDiagramStatistics() ),
+                          new HashSet<>( actual.getDiagramStatistics() ) );
+        }
+    }
+
+    @Test
+    public void testGetPairsProcessorIsEmptyWhenStatisticsRequireTimeSeries()
+    {
+        EvaluationDeclaration declaration =
+                TestDeclarationGenerator.getDeclarationForSingleValuedForecastsWithoutThresholds();
+
+        Set<Metric> metrics = Set.of( new Metric( MetricConstants.TIME_TO_PEAK_ERROR, null ) );
+        EvaluationDeclaration finalDeclaration = EvaluationDeclarationBuilder.builder( declaration )
+                                                                             .metrics( metrics )
+                                                                             .build();
+        finalDeclaration = DeclarationInterpolator.interpolate( finalDeclaration, false );
+
+        List<StatisticsProcessor<Pool<TimeSeries<Pair<Double, Double>>>>> processors =
+                SingleValuedStatisticsProcessorTest.ofMetricProcessorForSingleValuedPairs( finalDeclaration );
+
+        assertFalse( processors.isEmpty() );
+        assertTrue( processors.stream()
+                              .allMatch( next -> next.getPairsProcessor()
+                                                     .isEmpty() ) );
+    }
+
+    /**
+     * Partitions a pool into three chunks, each with the metadata of the pool: the first half of each time-series, an
+     * empty chunk and the second half of each time-series.
+     * @param pool the pool
+     * @return the chunks
+     */
+
+    private static List<Pool<TimeSeries<Pair<Double, Double>>>> getChunks( Pool<TimeSeries<Pair<Double, Double>>> pool )
+    {
+        List<TimeSeries<Pair<Double, Double>>> first = new ArrayList<>();
+        List<TimeSeries<Pair<Double, Double>>> second = new ArrayList<>();
+
+        for ( TimeSeries<Pair<Double, Double>> series : pool.get() )
+        {
+            SortedSet<Event<Pair<Double, Double>>> head = new TreeSet<>();
+            SortedSet<Event<Pair<Double, Double>>> tail = new TreeSet<>();
+            int middle = series.getEvents()
+                               .size() / 2;
+            for ( Event<Pair<Double, Double>> event : series.getEvents() )
+            {
+                if ( head.size() < middle )
+                {
+                    head.add( event );
+                }
+                else
+                {
+                    tail.add( event );
+                }
+            }
+
+            first.add( TimeSeries.of( series.getMetadata(), head ) );
+            second.add( TimeSeries.of( series.getMetadata(), tail ) );
+        }
+
+        return List.of( Pool.of( first, pool.getMetadata() ),
+                        Pool.of( List.of(), pool.getMetadata() ),
+                        Pool.of( second, pool.getMetadata() ) );
+    }
+
     /**
      * @param declaration the declaration
      * @return the processors
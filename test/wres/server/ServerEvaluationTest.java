@@ -0,0 +1,131 @@
+package wres.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import wres.messages.generated.EvaluationStatusOuterClass.EvaluationStatus;
+
+/**
+ * Tests the {@link ServerEvaluation}.
+ *
+ * @author James Brown
+ */
+
+class ServerEvaluationTest
+{
+    @Test
+    void testPlaceIsNotFreedWhenClosedWhileWorkerRuns()
+    {
+        ServerEvaluation evaluation = ServerEvaluation.of( 1 );
+
+        // Timed out while the worker runs
+        assertTrue( evaluation.close() );
+        assertFalse( evaluation.releasePlace() );
+
+        // The worker finishes
+        assertTrue( evaluation.releasePlace() );
+    }
+
+    @Test
+    void testPlaceIsNotFreedWhenWorkerFinishesBeforeClose()
+    {
+        ServerEvaluation evaluation = ServerEvaluation.of( 1 );
+
+        // The worker finishes
+        assertFalse( evaluation.releasePlace() );
+
+        // The evaluation is closed
+        assertTrue( evaluation.close() );
+        assertTrue( evaluation.releasePlace() );
+    }
+
+    @Test
+    void testCloseOnce()
+    {
+        ServerEvaluation evaluation = ServerEvaluation.of( 1 );
+
+        assertTrue( evaluation.close() );
+        assertFalse( evaluation.close() );
+        assertTrue( evaluation.isClosed() );
+        assertSame( EvaluationStatus.CLOSED, evaluation.getStage() );
+    }
+
+    @Test
+    void testConcurrentEvaluationsFreeEachPlaceOnce() throws Exception
+    {
+        ServerEvaluation one = ServerEvaluation.of( 1 );
+        ServerEvaluation two = ServerEvaluation.of( 2 );
+
+        // The places freed, like the permits of the service
+        AtomicInteger freed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch( 4 );
+
+        ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            // For each evaluation, a worker finishes and a timeout closes at the same time
+            Future<?> oneWorker = executor.submit( () -> this.release( one, start, freed ) );
+            Future<?> oneTimeout = executor.submit( () -> {
+                one.close();
+                this.release( one, start, freed );
+            } );
+            Future<?> twoWorker = executor.submit( () -> this.release( two, start, freed ) );
+            Future<?> twoTimeout = executor.submit( () -> {
+                two.close();
+                this.release( two, start, freed );
+            } );
+
+            oneWorker.get( 1, TimeUnit.MINUTES );
+            oneTimeout.get( 1, TimeUnit.MINUTES );
+            twoWorker.get( 1, TimeUnit.MINUTES );
+            twoTimeout.get( 1, TimeUnit.MINUTES );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals( 2, freed.get() );
+        assertTrue( one.isClosed() );
+        assertTrue( two.isClosed() );
+    }
+
+    /**
+     * Waits for the other holders to start and then releases one hold on the place of an evaluation, counting the
+     * place as freed when no holds remain.
+     * @param evaluation the evaluation
+     * @param start the latch to count down and await
+     * @param freed the count of places freed
+     */
+
+    private void release( ServerEvaluation evaluation, CountDownLatch start, AtomicInteger freed )
+    {
+        start.countDown();
+
+        try
+        {
+            start.await( 1, TimeUnit.MINUTES );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+        }
+
+        if ( evaluation.releasePlace() )
+        {
+            freed.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package wres.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wres.server.EvaluationService.WhichStream;
+
+/**
+ * Tests the {@link StandardStreamRouter}.
+ *
+ * @author James Brown
+ */
+
+class StandardStreamRouterTest
+{
+    /** The number of lines written by each evaluation. */
+    private static final int LINES = 1000;
+
+    /** An executor that runs two evaluations at once. */
+    private ExecutorService executor;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        StandardStreamRouter.install();
+        this.executor = Executors.newFixedThreadPool( 2 );
+    }
+
+    @AfterEach
+    void runAfterEachTest()
+    {
+        this.executor.shutdownNow();
+        StandardStreamRouter.reset();
+    }
+
+    @Test
+    void testConcurrentEvaluationsCaptureOnlyTheirOwnStreams() throws Exception
+    {
+        ServerEvaluation one = ServerEvaluation.of( 1 );
+        ServerEvaluation two = ServerEvaluation.of( 2 );
+
+        // Start writing at the same time
+        CountDownLatch start = new CountDownLatch( 2 );
+        Future<Void> first = this.executor.submit( StandardStreamRouter.bind( one, this.getWriter( "one", start ) ) );
+        Future<Void> second = this.executor.submit( StandardStreamRouter.bind( two, this.getWriter( "two", start ) ) );
+        first.get( 1, TimeUnit.MINUTES );
+        second.get( 1, TimeUnit.MINUTES );
+
+        this.assertCapturedOnly( one, "one" );
+        this.assertCapturedOnly( two, "two" );
+    }
+
+    @Test
+    void testThreadsFromThreadFactoryAreBoundToTheEvaluation() throws Exception
+    {
+        ServerEvaluation one = ServerEvaluation.of( 1 );
+        ServerEvaluation two = ServerEvaluation.of( 2 );
+
+        CountDownLatch start = new CountDownLatch( 2 );
+        ExecutorService oneExecutor = Executors.newSingleThreadExecutor( StandardStreamRouter.getThreadFactory( one ) );
+        ExecutorService twoExecutor = Executors.newSingleThreadExecutor( StandardStreamRouter.getThreadFactory( two ) );
+
+        try
+        {
+            Future<Void> first = oneExecutor.submit( this.getWriter( "one", start ) );
+            Future<Void> second = twoExecutor.submit( this.getWriter( "two", start ) );
+            first.get( 1, TimeUnit.MINUTES );
+            second.get( 1, TimeUnit.MINUTES );
+        }
+        finally
+        {
+            oneExecutor.shutdownNow();
+            twoExecutor.shutdownNow();
+        }
+
+        this.assertCapturedOnly( one, "one" );
+        this.assertCapturedOnly( two, "two" );
+    }
+
+    @Test
+    void testBindingIsNotInheritedByThreadsCreatedByAnEvaluation() throws Exception
+    {
+        ServerEvaluation one = ServerEvaluation.of( 1 );
+
+        Callable<Void> task = () -> {
+            System.out.println( "bound" );
+
+            // A plain thread created by the evaluation thread, such as the thread of a shared pool
+            ThreadFactory factory = Executors.defaultThreadFactory();
+            Thread child = factory.newThread( () -> System.out.println( "unbound" ) );
+            child.start();
+            child.join();
+            return null;
+        };
+
+        this.executor.submit( StandardStreamRouter.bind( one, task ) )
+                     .get( 1, TimeUnit.MINUTES );
+
+        String captured = this.getCaptured( one, WhichStream.STDOUT );
+        assertTrue( captured.contains( "bound" ) );
+        assertFalse( captured.contains( "unbound" ) );
+    }
+
+    @Test
+    void testBindingIsRestoredAfterTask() throws Exception
+    {
+        ServerEvaluation one = ServerEvaluation.of( 1 );
+        ServerEvaluation two = ServerEvaluation.of( 2 );
+
+        Callable<Void> inner = () -> {
+            System.out.println( "inner" );
+            return null;
+        };
+
+        Callable<Void> outer = () -> {
+            StandardStreamRouter.bind( two, inner )
+                                .call();
+            System.out.println( "outer" );
+            return null;
+        };
+
+        this.executor.submit( StandardStreamRouter.bind( one, outer ) )
+                     .get( 1, TimeUnit.MINUTES );
+
+        assertEquals( "outer" + System.lineSeparator(), this.getCaptured( one, WhichStream.STDOUT ) );
+        assertEquals( "inner" + System.lineSeparator(), this.getCaptured( two, WhichStream.STDOUT ) );
+
+        // No binding remains on the pooled thread
+        this.executor.submit( () -> System.out.println( "after" ) )
+                     .get( 1, TimeUnit.MINUTES );
+
+        assertFalse( this.getCaptured( one, WhichStream.STDOUT )
+                         .contains( "after" ) );
+    }
+
+    @Test
+    void testClosedEvaluationDoesNotCaptureStreams() throws Exception
+    {
+        ServerEvaluation one = ServerEvaluation.of( 1 );
+        one.close();
+
+        Callable<Void> task = () -> {
+            System.out.println( "closed" );
+            return null;
+        };
+
+        this.executor.submit( StandardStreamRouter.bind( one, task ) )
+                     .get( 1, TimeUnit.MINUTES );
+
+        assertEquals( "", this.getCaptured( one, WhichStream.STDOUT ) );
+    }
+
+    /**
+     * Creates a task that waits for another writer to start and then writes a prescribed number of lines to each
+     * standard stream.
+     * @param name the name to write
+     * @param start the latch to count down and await
+     * @return the task
+     */
+
+    private Callable<Void> getWriter( String name, CountDownLatch start )
+    {
+        return () -> {
+            start.countDown();
+            start.await( 1, TimeUnit.MINUTES );
+
+            for ( int i = 0; i < LINES; i++ )
+            {
+                System.out.println( name );
+                System.err.println( name );
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * Asserts that each stream captured by an evaluation contains only the lines written by its writer.
+     * @param evaluation the evaluation
+     * @param name the name written by its writer
+     */
+
+    private void assertCapturedOnly( ServerEvaluation evaluation, String name )
+    {
+        String expected = ( name + System.lineSeparator() ).repeat( LINES );
+        assertEquals( expected, this.getCaptured( evaluation, WhichStream.STDOUT ) );
+        assertEquals( expected, this.getCaptured( evaluation, WhichStream.STDERR ) );
+    }
+
+    /**
+     * @param evaluation the evaluation
+     * @param whichStream the stream
+     * @return the text captured
+     */
+
+    private String getCaptured( ServerEvaluation evaluation, WhichStream whichStream )
+    {
+        return evaluation.getCapturedStream( whichStream )
+                         .toString( StandardCharsets.UTF_8 );
+    }
+}
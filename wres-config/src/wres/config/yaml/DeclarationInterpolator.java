@@ -933,6 +933,18 @@ public class DeclarationInterpolator
             formatsBuilder.setPairs( pairsBuilder );
         }
 
+        if ( formatsBuilder.hasColumnar() )
+        {
+            Outputs.ColumnarFormat.Builder columnarBuilder = formatsBuilder.getColumnarBuilder();
+            Outputs.NumericFormat.Builder numericBuilder = columnarBuilder.getOptionsBuilder();
+            if ( Objects.nonNull( builder.durationFormat() ) )
+            {
+                numericBuilder.setLeadUnit( Outputs.DurationUnit.valueOf( builder.durationFormat().name() ) );
+            }
+            columnarBuilder.setOptions( numericBuilder );
+            formatsBuilder.setColumnar( columnarBuilder );
+        }
+
         // Set the new format info
         builder.formats( new Formats( formatsBuilder.build() ) );
     }
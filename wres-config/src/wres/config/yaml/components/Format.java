@@ -26,6 +26,8 @@ public enum Format
     @JsonProperty( "netcdf2" ) NETCDF2,
     /** Protocol Buffers. */
     @JsonProperty( "protobuf" ) PROTOBUF,
+    /** Statistics in a columnar layout. */
+    @JsonProperty( "columnar" ) COLUMNAR,
     /** A bag of graphics formats. This is not part of the declaration language, but is used internally. */
     GRAPHIC;
 
@@ -62,6 +62,11 @@ public record Formats( Outputs outputs )
     /** Default Protobuf format. **/
     public static final Outputs.ProtobufFormat PROTOBUF_FORMAT = Outputs.ProtobufFormat.getDefaultInstance();
 
+    /** Default columnar format. **/
+    public static final Outputs.ColumnarFormat COLUMNAR_FORMAT = Outputs.ColumnarFormat.newBuilder()
+                                                                                   .setOptions( DEFAULT_NUMERIC_FORMAT )
+                                                                                   .build();
+
     /** Default pair format. **/
     public static final Outputs.PairFormat PAIR_FORMAT = Outputs.PairFormat.newBuilder()
                                                                            .setOptions( DEFAULT_NUMERIC_FORMAT )
@@ -107,6 +107,7 @@ public class FormatsDeserializer extends JsonDeserializer<Formats>
             case CSV -> builder.setCsv( Formats.CSV_FORMAT );
             case CSV2 -> builder.setCsv2( Formats.CSV2_FORMAT );
             case PROTOBUF -> builder.setProtobuf( Formats.PROTOBUF_FORMAT );
+            case COLUMNAR -> builder.setColumnar( Formats.COLUMNAR_FORMAT );
             case PAIRS -> builder.setPairs( Formats.PAIR_FORMAT );
             default -> throw new IllegalArgumentException( "Unrecognized format '" + format + "'." );
         }
@@ -161,6 +162,7 @@ public class FormatsDeserializer extends JsonDeserializer<Formats>
             case CSV -> builder.setCsv( Formats.CSV_FORMAT );
             case CSV2 -> builder.setCsv2( Formats.CSV2_FORMAT );
             case PROTOBUF -> builder.setProtobuf( Formats.PROTOBUF_FORMAT );
+            case COLUMNAR -> builder.setColumnar( Formats.COLUMNAR_FORMAT );
             case PAIRS -> builder.setPairs( Formats.PAIR_FORMAT );
             default -> throw new IllegalArgumentException( "Unrecognized format '" + format + "'." );
         }
@@ -39,6 +39,10 @@ public class FormatsSerializer extends JsonSerializer<Formats>
         {
             writer.writeString( "netcdf2" );
         }
+        if ( outputs.hasColumnar() )
+        {
+            writer.writeString( "columnar" );
+        }
 
         // The numeric formats do not have effective parameters because the decimal precision is abstracted away, one
         // for all formats currently
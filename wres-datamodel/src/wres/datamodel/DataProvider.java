@@ -222,6 +222,54 @@ public interface DataProvider extends AutoCloseable
      */
     Integer[] getIntegerArray( final String columnName );
 
+    /**
+     * Returns the <code>double</code> array in the named column without boxing each value. The default implementation
+     * unboxes the {@link #getDoubleArray(String)}, so implementations that can read primitive values directly should
+     * override it.
+     *
+     * @param columnName The name of the column containing the desired <code>double</code> array
+     * @return The <code>double</code> values contained within the desired column, with any null value replaced by
+     * {@link MissingValues#DOUBLE}
+     * @throws IllegalStateException Thrown if the data has been closed down or the column name doesn't exist
+     * @throws IndexOutOfBoundsException Thrown if the data is empty
+     */
+    default double[] getPrimitiveDoubleArray( final String columnName )
+    {
+        Double[] boxed = this.getDoubleArray( columnName );
+        double[] values = new double[boxed.length];
+
+        for ( int i = 0; i < boxed.length; i++ )
+        {
+            values[i] = boxed[i] == null ? MissingValues.DOUBLE : boxed[i];
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the <code>int</code> array in the named column without boxing each value. The default implementation
+     * unboxes the {@link #getIntegerArray(String)}, so implementations that can read primitive values directly should
+     * override it.
+     *
+     * @param columnName The name of the column containing the desired <code>int</code> array
+     * @return The <code>int</code> values contained within the desired column
+     * @throws IllegalStateException Thrown if the data has been closed down or the column name doesn't exist
+     * @throws IndexOutOfBoundsException Thrown if the data is empty
+     * @throws NullPointerException if any value is null
+     */
+    default int[] getPrimitiveIntegerArray( final String columnName )
+    {
+        Integer[] boxed = this.getIntegerArray( columnName );
+        int[] values = new int[boxed.length];
+
+        for ( int i = 0; i < boxed.length; i++ )
+        {
+            values[i] = boxed[i];
+        }
+
+        return values;
+    }
+
     /**
      * @param columnName The name of the column containing a time
      *                   representation
@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -52,6 +53,17 @@ class BootstrapPool<T>
     /** Whether the pool contains forecasts. */
     private final boolean hasForecasts;
 
+    /** The event values of the {@link #ordered} time-series, one time-series after another. */
+    private final List<T> eventValues;
+
+    /** The position within the {@link #eventValues} of the first event of each {@link #ordered} time-series. */
+    private final int[] seriesOffsets;
+
+    /** The position within the {@link #ordered} time-series of the first time-series in each list of
+     * {@link #timeSeriesEvents}, mapped by number of events. Each list contains the ordered time-series from that
+     * position onwards. */
+    private final Map<Integer, Integer> firstSeriesIndexes;
+
     /**
      * Creates an instance.
      * @param <T> the type of pool event value
@@ -111,6 +123,67 @@ class BootstrapPool<T>
         return this.ordered;
     }
 
+    /**
+     * Returns the event values of the time-series returned by {@link #getOrderedTimeSeries()}, one time-series after
+     * another and each time-series in valid time order.
+     *
+     * @return the event values
+     */
+
+    List<T> getEventValues()
+    {
+        return this.eventValues;
+    }
+
+    /**
+     * Returns the position within {@link #getEventValues()} of the event that is sampled by a resample index for a
+     * time-series with the prescribed number of events. The resample index refers to the time-series returned by
+     * {@link #getTimeSeriesWithAtLeastThisManyEvents(int)} when the pool contains forecasts, otherwise
+     * {@link #getTimeSeriesWithAllEvents()}.
+     *
+     * @param eventCount the number of events in the time-series to resample
+     * @param index the resample index, which contains the time-series index and the event index
+     * @return the position of the sampled event value
+     * @throws IndexOutOfBoundsException if the resample index is out of bounds
+     * @throws IllegalArgumentException if there are no time-series with the prescribed number of events
+     */
+
+    int getEventValueIndex( int eventCount, int[] index )
+    {
+        int minimumEventCount = this.timeSeriesEvents.firstKey();
+        if ( this.hasForecasts() )
+        {
+            minimumEventCount = eventCount;
+        }
+
+        List<List<Event<T>>> eventsToSample = this.getTimeSeriesWithAtLeastThisManyEvents( minimumEventCount );
+
+        if ( eventsToSample.size() <= index[0] )
+        {
+            throw new IndexOutOfBoundsException( "While attempting to resample a time-series at index "
+                                                 + index[0]
+                                                 + ", discovered a maximum time-series index of "
+                                                 + ( eventsToSample.size() - 1 )
+                                                 + ", which is smaller than the required index." );
+        }
+
+        if ( eventsToSample.get( index[0] )
+                           .size() <= index[1] )
+        {
+            throw new IndexOutOfBoundsException( "While attempting to resample a time-series event at index "
+                                                 + index[1]
+                                                 + " of the time-series at index "
+                                                 + index[0]
+                                                 + ", discovered a maximum time-series event index of "
+                                                 + ( eventsToSample.get( index[0] )
+                                                                   .size() - 1 )
+                                                 + ", which is smaller than the required index." );
+        }
+
+        int seriesIndex = this.firstSeriesIndexes.get( minimumEventCount ) + index[0];
+        return this.seriesOffsets[seriesIndex] + index[1];
+    }
+
     /**
      * Returns the absolute durations between the first valid times in consecutive time-series, as well as between the
      * first and last time-series.
@@ -312,6 +385,31 @@ class BootstrapPool<T>
         }
 
         this.timeSeriesEvents = Collections.unmodifiableSortedMap( innerTimeSeriesEvents );
+
+        // Flatten the event values in the same order, noting where each time-series and each list of time-series
+        // begins. The time-series with at least a given number of events are those from the first time-series with
+        // that number of events onwards
+        List<T> innerEventValues = new ArrayList<>();
+        Map<Integer, Integer> innerFirstSeriesIndexes = new HashMap<>();
+        int seriesCount = groupedBySize.stream()
+                                       .mapToInt( List::size )
+                                       .sum();
+        this.seriesOffsets = new int[seriesCount];
+        int seriesIndex = 0;
+        for ( Map.Entry<Integer, List<TimeSeries<T>>> nextEntry : bySize.entrySet() )
+        {
+            innerFirstSeriesIndexes.put( nextEntry.getKey(), seriesIndex );
+            for ( TimeSeries<T> nextSeries : nextEntry.getValue() )
+            {
+                this.seriesOffsets[seriesIndex] = innerEventValues.size();
+                nextSeries.getEvents()
+                          .forEach( next -> innerEventValues.add( next.getValue() ) );
+                seriesIndex++;
+            }
+        }
+
+        this.eventValues = Collections.unmodifiableList( innerEventValues );
+        this.firstSeriesIndexes = Collections.unmodifiableMap( innerFirstSeriesIndexes );
         this.pool = pool;
         this.hasForecasts = this.pool.get()
                                      .stream()
@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import wres.config.yaml.components.CrossPairMethod;
 import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.PoolSlicer;
 import wres.datamodel.pools.pairs.CrossPairs;
 import wres.datamodel.space.FeatureGroup;
 import wres.datamodel.time.Event;
@@ -84,6 +85,10 @@ public class StationaryBootstrapResampler<T>
      * "mini-pool". */
     private final List<BootstrapPool<T>> baseline;
 
+    /** The event values of each "mini-pool" in the order of the {@link #main} and {@link #baseline} time-series,
+     * from which the event values of a realization are gathered by index. */
+    private final List<Pool<T>> gatherSources;
+
     /** The original pool. */
     private final Pool<TimeSeries<T>> pool;
 
@@ -137,6 +142,102 @@ public class StationaryBootstrapResampler<T>
      */
 
     public Pool<TimeSeries<T>> resample()
+    {
+        return this.resample( this.generateIndexes(), true );
+    }
+
+    /**
+     * Generates the indexes of a realization of the pool without resampling the pool. The indexes are drawn from the
+     * random number generator supplied on construction, so this method should be called from one thread at a time and
+     * in a fixed order to obtain reproducible realizations. The pool may then be resampled from the indexes with
+     * {@link #resample(Indexes)}, which may be called from any thread.
+     *
+     * @return the indexes of a realization
+     */
+
+    public Indexes generateIndexes()
+    {
+        // Generate the common indexes to resample across mini pools and both the main/baseline pairs. This assumes
+        // perfect statistical dependence across the mini pools and main/baseline pairs
+        List<ResampleIndexes> indexes = this.generateResampleIndexes( this.main.get( 0 ) );
+        return new Indexes( indexes );
+    }
+
+    /**
+     * Generates a realization of the pool from the prescribed indexes. The time-series are resampled on the calling
+     * thread, which allows for several realizations to be resampled in parallel, one per thread.
+     *
+     * @see #generateIndexes()
+     * @param indexes the indexes of the realization
+     * @return a realization
+     * @throws NullPointerException if the indexes are null
+     * @throws ResamplingException if an exception was enountered on resampling
+     */
+
+    public Pool<TimeSeries<T>> resample( Indexes indexes )
+    {
+        Objects.requireNonNull( indexes );
+
+        return this.resample( indexes, false );
+    }
+
+    /**
+     * Generates the event values of a realization of the pool from the prescribed indexes. The event values are
+     * gathered by index from the event values of the pool, without creating any time-series, and are equal to
+     * <code>PoolSlicer.unpack( this.resample( indexes ) )</code>, including the mini-pools. A columnar view of the
+     * realization, such as a {@link wres.datamodel.pools.SingleValuedPairColumns}, is gathered from the primitive
+     * arrays of the corresponding view of the pool, which is created once and shared by all realizations. Use this
+     * method when the statistics do not depend on the time-series within the realization.
+     *
+     * @see #generateIndexes()
+     * @see PoolSlicer#gather(Pool, int[], int[])
+     * @param indexes the indexes of the realization
+     * @return the event values of a realization
+     * @throws NullPointerException if the indexes are null
+     */
+
+    public Pool<T> gather( Indexes indexes )
+    {
+        Objects.requireNonNull( indexes );
+
+        Pool.Builder<T> poolBuilder = new Pool.Builder<>();
+        poolBuilder.setMetadata( this.pool.getMetadata() )
+                   .setClimatology( this.pool.getClimatology() );
+
+        if ( this.pool.hasBaseline() )
+        {
+            poolBuilder.setMetadataForBaseline( this.pool.getBaselineData()
+                                                         .getMetadata() );
+        }
+
+        // Gather the samples using the common sample structure/indexes across the mini-pools and main/baseline series
+        for ( int i = 0; i < this.main.size(); i++ )
+        {
+            int[] nextMain = this.getGatherIndexes( this.main.get( i ), indexes.indexes );
+            int[] nextBaseline = null;
+
+            if ( this.pool.hasBaseline() )
+            {
+                nextBaseline = this.getGatherIndexes( this.baseline.get( i ), indexes.indexes );
+            }
+
+            poolBuilder.addPool( PoolSlicer.gather( this.gatherSources.get( i ), nextMain, nextBaseline ) );
+        }
+
+        return poolBuilder.build();
+    }
+
+    /**
+     * Generates a realization of the pool from the prescribed indexes.
+     *
+     * @param resampleIndexes the indexes of the realization
+     * @param parallel is true to resample the time-series in parallel with the resample executor, false to resample
+     *                 them on the calling thread
+     * @return a realization
+     * @throws ResamplingException if an exception was enountered on resampling
+     */
+
+    private Pool<TimeSeries<T>> resample( Indexes resampleIndexes, boolean parallel )
     {
         Pool.Builder<TimeSeries<T>> poolBuilder = new Pool.Builder<>();
         poolBuilder.setMetadata( this.pool.getMetadata() )
@@ -148,15 +249,13 @@ public class StationaryBootstrapResampler<T>
                                                          .getMetadata() );
         }
 
-        // Generate the common indexes to resample across mini pools and both the main/baseline pairs. This assumes
-        // perfect statistical dependence across the mini pools and main/baseline pairs
-        List<ResampleIndexes> indexes = this.generateResampleIndexes( this.main.get( 0 ) );
+        List<ResampleIndexes> indexes = resampleIndexes.indexes;
 
         // Generate the samples using the common sample structure/indexes across the mini-pools and main/baseline series
         for ( int i = 0; i < this.main.size(); i++ )
         {
             BootstrapPool<T> nextPool = this.main.get( i );
-            List<TimeSeries<T>> nextMain = this.resample( nextPool, indexes );
+            List<TimeSeries<T>> nextMain = this.resample( nextPool, indexes, parallel );
             Pool.Builder<TimeSeries<T>> innerPoolBuilder = new Pool.Builder<>();
             innerPoolBuilder.setMetadata( nextPool.getPool()
                                                   .getMetadata() )
@@ -167,7 +266,7 @@ public class StationaryBootstrapResampler<T>
             if ( this.pool.hasBaseline() )
             {
                 BootstrapPool<T> nextBaselinePool = this.baseline.get( i );
-                List<TimeSeries<T>> nextBaseline = this.resample( nextBaselinePool, indexes );
+                List<TimeSeries<T>> nextBaseline = this.resample( nextBaselinePool, indexes, parallel );
                 innerPoolBuilder.setMetadataForBaseline( nextBaselinePool.getPool()
                                                                          .getMetadata() )
                                 .setClimatology( nextBaselinePool.getPool()
@@ -672,10 +771,13 @@ public class StationaryBootstrapResampler<T>
      *
      * @param pool the pool to resample
      * @param resampleIndexes the indexes to resample
+     * @param parallel is true to resample the time-series in parallel, false to resample them on the calling thread
      * @return the resampled pool
      */
 
-    private List<TimeSeries<T>> resample( BootstrapPool<T> pool, List<ResampleIndexes> resampleIndexes )
+    private List<TimeSeries<T>> resample( BootstrapPool<T> pool,
+                                          List<ResampleIndexes> resampleIndexes,
+                                          boolean parallel )
     {
         List<TimeSeries<T>> resampledPool = new ArrayList<>();
 
@@ -685,6 +787,19 @@ public class StationaryBootstrapResampler<T>
                                                      .flatMap( List::stream )
                                                      .toList();
 
+        // Resample on the calling thread, which may itself belong to the resample executor
+        if ( !parallel )
+        {
+            for ( int i = 0; i < sizeOrder.size(); i++ )
+            {
+                TimeSeries<T> nextSeries = sizeOrder.get( i );
+                UnaryOperator<TimeSeries<T>> resampler = this.getTimeSeriesResampler( pool, resampleIndexes, i );
+                resampledPool.add( resampler.apply( nextSeries ) );
+            }
+
+            return Collections.unmodifiableList( resampledPool );
+        }
+
         // Execute the time-series resampling in parallel as this can be time-consuming for large time-series, mainly
         // adding the time-series events to a sorted set. This will only improve performance when the series count is
         // greater than one, so not for a single, long, time-series
@@ -722,6 +837,44 @@ public class StationaryBootstrapResampler<T>
         return Collections.unmodifiableList( resampledPool );
     }
 
+    /**
+     * Generates the positions of the resampled event values within {@link BootstrapPool#getEventValues()}, one for
+     * each event of each time-series in the pool. The positions use the ordering imposed by
+     * {@link #generateResampleIndexes(BootstrapPool)}, as for {@link #resample(BootstrapPool, List, boolean)}.
+     *
+     * @param pool the pool to resample
+     * @param resampleIndexes the indexes to resample
+     * @return the positions of the resampled event values
+     */
+
+    private int[] getGatherIndexes( BootstrapPool<T> pool, List<ResampleIndexes> resampleIndexes )
+    {
+        // IMPORTANT: Use the same ordering that was used to generate the indexes
+        List<TimeSeries<T>> sizeOrder = pool.getOrderedTimeSeries()
+                                            .stream()
+                                            .flatMap( List::stream )
+                                            .toList();
+
+        int[] gathered = new int[pool.getEventValues()
+                                     .size()];
+        int position = 0;
+        for ( int i = 0; i < sizeOrder.size(); i++ )
+        {
+            int eventCount = sizeOrder.get( i )
+                                      .getEvents()
+                                      .size();
+            List<int[]> indexes = resampleIndexes.get( i )
+                                                 .indexes();
+            for ( int j = 0; j < eventCount; j++ )
+            {
+                gathered[position] = pool.getEventValueIndex( eventCount, indexes.get( j ) );
+                position++;
+            }
+        }
+
+        return gathered;
+    }
+
     /**
      * Creates a function that resamples a time-series.
      * @param pool the pool
@@ -906,6 +1059,7 @@ public class StationaryBootstrapResampler<T>
 
         this.main = Collections.unmodifiableList( innerMain );
         this.baseline = Collections.unmodifiableList( innerBaseline );
+        this.gatherSources = this.getGatherSources( this.main, this.baseline );
 
         if ( LOGGER.isDebugEnabled() )
         {
@@ -982,6 +1136,40 @@ public class StationaryBootstrapResampler<T>
         }
     }
 
+    /**
+     * Creates the pools of event values from which realizations are gathered, one for each "mini-pool".
+     * @param main the main time-series to resample, one for each "mini-pool"
+     * @param baseline the baseline time-series to resample, one for each "mini-pool", possibly empty
+     * @return the pools of event values
+     */
+
+    private List<Pool<T>> getGatherSources( List<BootstrapPool<T>> main, List<BootstrapPool<T>> baseline )
+    {
+        List<Pool<T>> sources = new ArrayList<>();
+        for ( int i = 0; i < main.size(); i++ )
+        {
+            BootstrapPool<T> nextPool = main.get( i );
+            Pool.Builder<T> builder = new Pool.Builder<T>().setMetadata( nextPool.getPool()
+                                                                                 .getMetadata() )
+                                                           .setClimatology( nextPool.getPool()
+                                                                                    .getClimatology() )
+                                                           .addData( nextPool.getEventValues() );
+            if ( !baseline.isEmpty() )
+            {
+                BootstrapPool<T> nextBaselinePool = baseline.get( i );
+                builder.setMetadataForBaseline( nextBaselinePool.getPool()
+                                                                .getMetadata() )
+                       .setClimatology( nextBaselinePool.getPool()
+                                                        .getClimatology() )
+                       .addDataForBaseline( nextBaselinePool.getEventValues() );
+            }
+
+            sources.add( builder.build() );
+        }
+
+        return Collections.unmodifiableList( sources );
+    }
+
     /**
      * Cross-pairs all mini-pools and main/baseline time-series in the inputs.
      * @param pool the pool for which cross-pairing is needed
@@ -1349,6 +1537,34 @@ public class StationaryBootstrapResampler<T>
         return 1.0 / meanBlocksPerOffset;
     }
 
+    /**
+     * The indexes of one realization of a pool, which are generated by {@link #generateIndexes()} and resampled by
+     * {@link #resample(Indexes)} or gathered by {@link #gather(Indexes)}. The indexes are much smaller than the
+     * realization they describe.
+     */
+
+    public static final class Indexes
+    {
+        /** The indexes to resample, one for each time-series in the size-ordered pool. */
+        private final List<ResampleIndexes> indexes;
+
+        /**
+         * Hidden constructor.
+         * @param indexes the indexes
+         */
+
+        private Indexes( List<ResampleIndexes> indexes )
+        {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.indexes.toString();
+        }
+    }
+
     /**
      * A record that contains the indexes to resample for a prescribed time-series. Each index pair refers to a
      * position within a {@link BootstrapPool} for the time-series returned by
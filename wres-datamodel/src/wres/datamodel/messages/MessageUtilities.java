@@ -175,6 +175,13 @@ public class MessageUtilities
             return compare;
         }
 
+        compare = Boolean.compare( first.hasColumnar(), second.hasColumnar() );
+
+        if ( compare != 0 )
+        {
+            return compare;
+        }
+
         compare = Boolean.compare( first.hasNetcdf(), second.hasNetcdf() );
 
         if ( compare != 0 )
@@ -0,0 +1,243 @@
+package wres.datamodel.pools;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * <p>An immutable list of dichotomous pairs that stores the left and right outcomes in two bit sets and counts the
+ * pairs in each cell of the 2x2 contingency table on construction. A {@link Pool} keeps a list of this type without
+ * copying it, so that a pool of dichotomous pairs occupies two bits per pair and the consumers of the pool, such as
+ * the contingency table, can read the cell counts without iterating the pairs. The list is equal to any other list
+ * that contains the same pairs in the same order.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public class DichotomousPairs extends AbstractList<Pair<Boolean, Boolean>> implements RandomAccess
+{
+    /** A dichotomous pair that is shared by all lists. */
+    private static final Pair<Boolean, Boolean> TRUE_TRUE = Pair.of( true, true );
+
+    /** A dichotomous pair that is shared by all lists. */
+    private static final Pair<Boolean, Boolean> TRUE_FALSE = Pair.of( true, false );
+
+    /** A dichotomous pair that is shared by all lists. */
+    private static final Pair<Boolean, Boolean> FALSE_TRUE = Pair.of( false, true );
+
+    /** A dichotomous pair that is shared by all lists. */
+    private static final Pair<Boolean, Boolean> FALSE_FALSE = Pair.of( false, false );
+
+    /** The left outcomes. */
+    private final BitSet left;
+
+    /** The right outcomes. */
+    private final BitSet right;
+
+    /** The number of pairs. */
+    private final int size;
+
+    /** The number of pairs whose left and right outcomes both occurred. */
+    private final int trueTrue;
+
+    /** The number of pairs whose left outcome occurred and right outcome did not occur. */
+    private final int trueFalse;
+
+    /** The number of pairs whose left outcome did not occur and right outcome occurred. */
+    private final int falseTrue;
+
+    /**
+     * Returns the prescribed pairs as a {@link DichotomousPairs}, packing them if required.
+     *
+     * @param pairs the pairs
+     * @return the pairs
+     * @throws NullPointerException if the pairs are null or contain a null pair or outcome
+     */
+
+    public static DichotomousPairs of( List<Pair<Boolean, Boolean>> pairs )
+    {
+        Objects.requireNonNull( pairs );
+
+        if ( pairs instanceof DichotomousPairs dichotomous )
+        {
+            return dichotomous;
+        }
+
+        int count = pairs.size();
+        BitSet leftInner = new BitSet( count );
+        BitSet rightInner = new BitSet( count );
+
+        int index = 0;
+        for ( Pair<Boolean, Boolean> next : pairs )
+        {
+            leftInner.set( index, next.getLeft() );
+            rightInner.set( index, next.getRight() );
+            index++;
+        }
+
+        return new DichotomousPairs( leftInner, rightInner, count );
+    }
+
+    /**
+     * Creates an instance from the outcomes of each pair. The bit sets are not copied and must not be modified.
+     *
+     * @param left the left outcomes
+     * @param right the right outcomes
+     * @param size the number of pairs
+     * @return the pairs
+     * @throws NullPointerException if either bit set is null
+     * @throws IllegalArgumentException if the size is negative or either bit set contains an outcome beyond the size
+     */
+
+    static DichotomousPairs of( BitSet left, BitSet right, int size )
+    {
+        return new DichotomousPairs( left, right, size );
+    }
+
+    /**
+     * Concatenates the prescribed lists in order.
+     *
+     * @param pairs the lists to concatenate
+     * @return the concatenated pairs
+     * @throws NullPointerException if the lists are null
+     */
+
+    static DichotomousPairs concatenate( List<DichotomousPairs> pairs )
+    {
+        Objects.requireNonNull( pairs );
+
+        if ( pairs.size() == 1 )
+        {
+            return pairs.get( 0 );
+        }
+
+        int count = pairs.stream()
+                         .mapToInt( DichotomousPairs::size )
+                         .sum();
+        BitSet leftInner = new BitSet( count );
+        BitSet rightInner = new BitSet( count );
+
+        int start = 0;
+        for ( DichotomousPairs next : pairs )
+        {
+            DichotomousPairs.copy( next.left, leftInner, start );
+            DichotomousPairs.copy( next.right, rightInner, start );
+            start += next.size;
+        }
+
+        return new DichotomousPairs( leftInner, rightInner, count );
+    }
+
+    @Override
+    public Pair<Boolean, Boolean> get( int index )
+    {
+        Objects.checkIndex( index, this.size );
+
+        if ( this.left.get( index ) )
+        {
+            return this.right.get( index ) ? TRUE_TRUE : TRUE_FALSE;
+        }
+
+        return this.right.get( index ) ? FALSE_TRUE : FALSE_FALSE;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * @return the number of pairs whose left and right outcomes both occurred, i.e., the true positives
+     */
+
+    public int getTrueTrue()
+    {
+        return this.trueTrue;
+    }
+
+    /**
+     * @return the number of pairs whose left outcome occurred and right outcome did not, i.e., the false negatives
+     */
+
+    public int getTrueFalse()
+    {
+        return this.trueFalse;
+    }
+
+    /**
+     * @return the number of pairs whose left outcome did not occur and right outcome did, i.e., the false positives
+     */
+
+    public int getFalseTrue()
+    {
+        return this.falseTrue;
+    }
+
+    /**
+     * @return the number of pairs whose left and right outcomes both did not occur, i.e., the true negatives
+     */
+
+    public int getFalseFalse()
+    {
+        return this.size - this.trueTrue - this.trueFalse - this.falseTrue;
+    }
+
+    /**
+     * Copies the set bits of the source into the target, offset by the prescribed start index.
+     *
+     * @param source the source
+     * @param target the target
+     * @param start the start index within the target
+     */
+
+    private static void copy( BitSet source, BitSet target, int start )
+    {
+        for ( int i = source.nextSetBit( 0 ); i >= 0; i = source.nextSetBit( i + 1 ) )
+        {
+            target.set( start + i );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param left the left outcomes
+     * @param right the right outcomes
+     * @param size the number of pairs
+     * @throws NullPointerException if either bit set is null
+     * @throws IllegalArgumentException if the size is negative or either bit set contains an outcome beyond the size
+     */
+
+    private DichotomousPairs( BitSet left, BitSet right, int size )
+    {
+        Objects.requireNonNull( left );
+        Objects.requireNonNull( right );
+
+        if ( size < 0 || left.length() > size || right.length() > size )
+        {
+            throw new IllegalArgumentException( "Cannot create dichotomous pairs with a size of " + size
+                                                + " from outcomes that extend to "
+                                                + Math.max( left.length(), right.length() )
+                                                + "." );
+        }
+
+        this.left = left;
+        this.right = right;
+        this.size = size;
+
+        BitSet both = ( BitSet ) left.clone();
+        both.and( right );
+
+        this.trueTrue = both.cardinality();
+        this.trueFalse = left.cardinality() - this.trueTrue;
+        this.falseTrue = right.cardinality() - this.trueTrue;
+    }
+}
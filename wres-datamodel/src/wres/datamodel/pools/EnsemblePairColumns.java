@@ -0,0 +1,173 @@
+package wres.datamodel.pools;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.jcip.annotations.Immutable;
+
+import wres.datamodel.types.Ensemble;
+
+/**
+ * <p>A columnar view of the ensemble pairs within a {@link Pool}, which stores the left values in a primitive array
+ * and the ensemble members of each pair in a parallel array of primitive arrays, sorted in ascending order. The view
+ * is created once per pool, on demand, and is then shared by all consumers of the pool, such as the metrics in a
+ * collection, which avoids unboxing and sorting the same ensemble members once per metric. The view does not include
+ * any baseline pairs. For the baseline pairs, use the view of {@link Pool#getBaselineData()}. When the pairs were
+ * gathered from another pool, such as a resampled pool, the view is gathered from the arrays of the source view, so the
+ * members of each pair are sorted once only.
+ *
+ * <p>The arrays are shared and must not be modified.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public class EnsemblePairColumns
+{
+    /** The left values. */
+    private final double[] left;
+
+    /** The ensemble members, one array per pair, each sorted in ascending order. */
+    private final double[][] sortedMembers;
+
+    /**
+     * Returns the columnar view of the prescribed pool, creating it on first request.
+     *
+     * @param pool the pool
+     * @return the columnar view
+     * @throws NullPointerException if the pool is null
+     */
+
+    public static EnsemblePairColumns of( Pool<Pair<Double, Ensemble>> pool )
+    {
+        Objects.requireNonNull( pool );
+
+        return pool.getView( EnsemblePairColumns.class,
+                             EnsemblePairColumns::new,
+                             EnsemblePairColumns::gather,
+                             EnsemblePairColumns::concatenate );
+    }
+
+    /**
+     * Returns the left values. The array is shared and must not be modified.
+     *
+     * @return the left values
+     */
+
+    public double[] getLeft()
+    {
+        return this.left;
+    }
+
+    /**
+     * Returns the ensemble members, one array per pair, each sorted in ascending order. The arrays are shared and
+     * must not be modified.
+     *
+     * @return the sorted ensemble members
+     */
+
+    public double[][] getSortedMembers()
+    {
+        return this.sortedMembers;
+    }
+
+    /**
+     * @return the number of pairs
+     */
+
+    public int size()
+    {
+        return this.left.length;
+    }
+
+    /**
+     * Gathers a view by index. The sorted members of each pair are shared with the source view.
+     *
+     * @param source the source view
+     * @param indexes the indexes to gather
+     * @return the gathered view
+     */
+
+    private static EnsemblePairColumns gather( EnsemblePairColumns source, int[] indexes )
+    {
+        double[] left = new double[indexes.length];
+        double[][] sortedMembers = new double[indexes.length][];
+
+        for ( int i = 0; i < indexes.length; i++ )
+        {
+            left[i] = source.left[indexes[i]];
+            sortedMembers[i] = source.sortedMembers[indexes[i]];
+        }
+
+        return new EnsemblePairColumns( left, sortedMembers );
+    }
+
+    /**
+     * Concatenates several views. The sorted members of each pair are shared with the input views.
+     *
+     * @param views the views
+     * @return the concatenated view
+     */
+
+    private static EnsemblePairColumns concatenate( List<EnsemblePairColumns> views )
+    {
+        if ( views.size() == 1 )
+        {
+            return views.get( 0 );
+        }
+
+        int size = views.stream()
+                        .mapToInt( EnsemblePairColumns::size )
+                        .sum();
+        double[] left = new double[size];
+        double[][] sortedMembers = new double[size][];
+
+        int start = 0;
+        for ( EnsemblePairColumns next : views )
+        {
+            System.arraycopy( next.left, 0, left, start, next.size() );
+            System.arraycopy( next.sortedMembers, 0, sortedMembers, start, next.size() );
+            start += next.size();
+        }
+
+        return new EnsemblePairColumns( left, sortedMembers );
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param left the left values
+     * @param sortedMembers the sorted members
+     */
+
+    private EnsemblePairColumns( double[] left, double[][] sortedMembers )
+    {
+        this.left = left;
+        this.sortedMembers = sortedMembers;
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param pool the pool
+     */
+
+    private EnsemblePairColumns( Pool<Pair<Double, Ensemble>> pool )
+    {
+        List<Pair<Double, Ensemble>> pairs = pool.get();
+        int size = pairs.size();
+
+        this.left = new double[size];
+        this.sortedMembers = new double[size][];
+
+        for ( int i = 0; i < size; i++ )
+        {
+            Pair<Double, Ensemble> next = pairs.get( i );
+            this.left[i] = next.getLeft();
+            this.sortedMembers[i] = next.getRight()
+                                        .getSortedMembers();
+        }
+    }
+}
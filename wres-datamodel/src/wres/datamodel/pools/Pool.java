@@ -3,7 +3,11 @@ package wres.datamodel.pools;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -57,6 +61,24 @@ public class Pool<T> implements Supplier<List<T>>
     /** View of the baseline pool. */
     private final Pool<T> baselinePool;
 
+    /** The pool from which the pairs of this pool were gathered by index, if any, which allows a view of this pool to
+     * be gathered from the view of the source pool. Does not contribute to the state of the pool. */
+    private final Pool<T> gatherSource;
+
+    /** The indexes of the pairs within the {@link #gatherSource}, or null if the pairs are those of the source. */
+    private final int[] gatherIndexes;
+
+    /** The indexes of the baseline pairs within the baseline of the {@link #gatherSource}, or null if the pairs are
+     * those of the source. */
+    private final int[] baselineGatherIndexes;
+
+    /** Lock for creating the {@link #views}. */
+    private final Object viewLock = new Object();
+
+    /** The views of the pooled data, such as a columnar view, by type of view. Each view is created on demand and
+     * shared by all consumers. Does not contribute to the state of the pool. */
+    private final Map<Class<?>, Object> views = new ConcurrentHashMap<>();
+
     /**
      * Returns the pooled data.
      *
@@ -284,6 +306,16 @@ public class Pool<T> implements Supplier<List<T>>
          */
         private final List<T> baselineSampleData = new ArrayList<>();
 
+        /**
+         * Dichotomous pairs, which are kept compactly unless other pairs are added.
+         */
+        private final List<DichotomousPairs> dichotomousSampleData = new ArrayList<>();
+
+        /**
+         * Dichotomous pairs for baseline, which are kept compactly unless other pairs are added.
+         */
+        private final List<DichotomousPairs> baselineDichotomousSampleData = new ArrayList<>();
+
         /**
          * Mini-pools if this pool was built from smaller pools.
          */
@@ -308,6 +340,24 @@ public class Pool<T> implements Supplier<List<T>>
 
         private PoolMetadata baselineMeta;
 
+        /**
+         * The pool from which the pairs were gathered.
+         */
+
+        private Pool<T> gatherSource;
+
+        /**
+         * The indexes of the gathered pairs.
+         */
+
+        private int[] gatherIndexes;
+
+        /**
+         * The indexes of the gathered baseline pairs.
+         */
+
+        private int[] baselineGatherIndexes;
+
         /**
          * Sets the metadata associated with the input.
          *
@@ -359,6 +409,7 @@ public class Pool<T> implements Supplier<List<T>>
 
         public Builder<T> addData( T sample )
         {
+            Builder.unpack( this.sampleData, this.dichotomousSampleData );
             this.sampleData.add( sample );
 
             return this;
@@ -375,6 +426,7 @@ public class Pool<T> implements Supplier<List<T>>
 
         public Builder<T> addDataForBaseline( T baselineSample )
         {
+            Builder.unpack( this.baselineSampleData, this.baselineDichotomousSampleData );
             this.baselineSampleData.add( baselineSample );
 
             return this;
@@ -391,7 +443,7 @@ public class Pool<T> implements Supplier<List<T>>
         {
             if ( Objects.nonNull( sampleData ) )
             {
-                this.sampleData.addAll( sampleData );
+                Builder.addAll( this.sampleData, this.dichotomousSampleData, sampleData );
             }
 
             return this;
@@ -409,7 +461,7 @@ public class Pool<T> implements Supplier<List<T>>
         {
             if ( Objects.nonNull( baselineSampleData ) )
             {
-                this.baselineSampleData.addAll( baselineSampleData );
+                Builder.addAll( this.baselineSampleData, this.baselineDichotomousSampleData, baselineSampleData );
             }
 
             return this;
@@ -430,7 +482,7 @@ public class Pool<T> implements Supplier<List<T>>
             LOGGER.debug( "Adding pool {} to the builder.", pool.getMetadata() );
 
             this.miniPools.add( pool );
-            this.sampleData.addAll( pool.get() );
+            Builder.addAll( this.sampleData, this.dichotomousSampleData, pool.get() );
 
             // Merge metadata? Yes, if the existing metadata is not null and not equal
             if ( Objects.nonNull( this.mainMeta ) && !this.mainMeta.equals( pool.getMetadata() ) )
@@ -447,7 +499,7 @@ public class Pool<T> implements Supplier<List<T>>
             if ( pool.hasBaseline() )
             {
                 Pool<T> base = pool.getBaselineData();
-                this.baselineSampleData.addAll( base.get() );
+                Builder.addAll( this.baselineSampleData, this.baselineDichotomousSampleData, base.get() );
 
                 // Merge metadata? Yes, if the existing metadata is not null and not equal
                 if ( Objects.nonNull( this.baselineMeta ) && !this.baselineMeta.equals( base.getMetadata() ) )
@@ -468,6 +520,26 @@ public class Pool<T> implements Supplier<List<T>>
             return this;
         }
 
+        /**
+         * Sets the pool from which the pairs were gathered by index. The pairs themselves must be added separately.
+         *
+         * @param gatherSource the source pool
+         * @param gatherIndexes the indexes of the pairs within the source pool, null if the pairs are those of the
+         *            source
+         * @param baselineGatherIndexes the indexes of the baseline pairs within the baseline of the source pool, null
+         *            if the pairs are those of the source or there is no baseline
+         * @return the builder
+         */
+
+        Builder<T> setGatherSource( Pool<T> gatherSource, int[] gatherIndexes, int[] baselineGatherIndexes )
+        {
+            this.gatherSource = gatherSource;
+            this.gatherIndexes = gatherIndexes;
+            this.baselineGatherIndexes = baselineGatherIndexes;
+
+            return this;
+        }
+
         /**
          * Builds the metric input.
          *
@@ -479,6 +551,70 @@ public class Pool<T> implements Supplier<List<T>>
             return new Pool<>( this );
         }
 
+        /**
+         * Adds pairs to the prescribed data. A {@link DichotomousPairs} is kept compactly unless other pairs have been
+         * added, in which case all pairs are unpacked.
+         *
+         * @param <S> the type of pooled data
+         * @param data the data
+         * @param dichotomousData the dichotomous data, which is never populated alongside the data
+         * @param toAdd the pairs to add
+         */
+
+        private static <S> void addAll( List<S> data, List<DichotomousPairs> dichotomousData, List<S> toAdd )
+        {
+            List<?> wildcard = toAdd;
+            if ( wildcard instanceof DichotomousPairs dichotomous && data.isEmpty() )
+            {
+                dichotomousData.add( dichotomous );
+            }
+            else
+            {
+                Builder.unpack( data, dichotomousData );
+                data.addAll( toAdd );
+            }
+        }
+
+        /**
+         * Moves any dichotomous pairs into the prescribed data.
+         *
+         * @param <S> the type of pooled data
+         * @param data the data
+         * @param dichotomousData the dichotomous data
+         */
+
+        @SuppressWarnings( "unchecked" )
+        private static <S> void unpack( List<S> data, List<DichotomousPairs> dichotomousData )
+        {
+            for ( DichotomousPairs next : dichotomousData )
+            {
+                data.addAll( ( List<S> ) ( List<?> ) next );
+            }
+
+            dichotomousData.clear();
+        }
+
+        /**
+         * Returns an immutable list of the prescribed data.
+         *
+         * @param <S> the type of pooled data
+         * @param data the data
+         * @param dichotomousData the dichotomous data, which is never populated alongside the data
+         * @return the immutable data
+         * @throws NullPointerException if the data contains a null item
+         */
+
+        @SuppressWarnings( "unchecked" )
+        private static <S> List<S> getData( List<S> data, List<DichotomousPairs> dichotomousData )
+        {
+            if ( !dichotomousData.isEmpty() )
+            {
+                return ( List<S> ) ( List<?> ) DichotomousPairs.concatenate( dichotomousData );
+            }
+
+            return List.copyOf( data );
+        }
+
     }
 
     /**
@@ -491,8 +627,11 @@ public class Pool<T> implements Supplier<List<T>>
     private Pool( Builder<T> b )
     {
         // Ensure safe types that do not allow nulls. Construction will throw an NPE if there is a null item
-        this.sampleData = List.copyOf( b.sampleData );
+        this.sampleData = Builder.getData( b.sampleData, b.dichotomousSampleData );
         this.miniPools = List.copyOf( b.miniPools );
+        this.gatherSource = b.gatherSource;
+        this.gatherIndexes = b.gatherIndexes;
+        this.baselineGatherIndexes = b.baselineGatherIndexes;
         this.mainMeta = b.mainMeta;
         this.climatology = b.climatology;
 
@@ -500,9 +639,11 @@ public class Pool<T> implements Supplier<List<T>>
         this.baselineMeta = b.baselineMeta;
 
         // Baseline data? If metadata supplied or some data supplied, yes.
-        if ( Objects.nonNull( this.baselineMeta ) || !b.baselineSampleData.isEmpty() )
+        if ( Objects.nonNull( this.baselineMeta )
+             || !b.baselineSampleData.isEmpty()
+             || !b.baselineDichotomousSampleData.isEmpty() )
         {
-            this.baselineSampleData = List.copyOf( b.baselineSampleData );
+            this.baselineSampleData = Builder.getData( b.baselineSampleData, b.baselineDichotomousSampleData );
         }
         else
         {
@@ -536,6 +677,147 @@ public class Pool<T> implements Supplier<List<T>>
         this.baselinePool = this.getBaselinePool();
     }
 
+    /**
+     * Returns a view of the pooled data, creating it on first request. The view is then shared by all consumers of
+     * this pool, such as the metrics that are computed from the same pool on different threads. One view is cached
+     * for each type of view.
+     *
+     * @param <V> the type of view
+     * @param type the type of view
+     * @param creator the function that creates the view
+     * @return the view
+     * @throws NullPointerException if any input is null
+     */
+
+    <V> V getView( Class<V> type, Function<Pool<T>, V> creator )
+    {
+        Objects.requireNonNull( type );
+        Objects.requireNonNull( creator );
+
+        Object current = this.views.get( type );
+
+        if ( Objects.isNull( current ) )
+        {
+            // Create outside of a mapping function because the creator may request other views of this pool
+            synchronized ( this.viewLock )
+            {
+                current = this.views.get( type );
+
+                if ( Objects.isNull( current ) )
+                {
+                    current = Objects.requireNonNull( creator.apply( this ) );
+                    this.views.put( type, current );
+                }
+            }
+        }
+
+        return type.cast( current );
+    }
+
+    /**
+     * Returns a view of the pooled data, creating it on first request. When the pairs were gathered from another pool,
+     * the view is gathered from the view of the source pool, which is shared by all pools gathered from that source.
+     * When the pool is composed of mini-pools whose pairs were gathered, the view is concatenated from the views of the
+     * mini-pools. Otherwise, the view is created from the pooled data.
+     *
+     * @see PoolSlicer#gather(Pool, int[], int[])
+     * @param <V> the type of view
+     * @param type the type of view
+     * @param creator the function that creates the view from the pooled data
+     * @param gatherer the function that gathers a view from the view of a source pool and the indexes to gather
+     * @param concatenator the function that concatenates the views of several mini-pools
+     * @return the view
+     * @throws NullPointerException if any input is null
+     */
+
+    <V> V getView( Class<V> type,
+                   Function<Pool<T>, V> creator,
+                   BiFunction<V, int[], V> gatherer,
+                   Function<List<V>, V> concatenator )
+    {
+        Objects.requireNonNull( creator );
+        Objects.requireNonNull( gatherer );
+        Objects.requireNonNull( concatenator );
+
+        return this.getView( type, pool -> pool.createView( type, creator, gatherer, concatenator ) );
+    }
+
+    /**
+     * Returns the pool from which the pairs of this pool were gathered by index, if any.
+     *
+     * @see PoolSlicer#gather(Pool, int[], int[])
+     * @return the source pool or null
+     */
+
+    Pool<T> getGatherSource()
+    {
+        return this.gatherSource;
+    }
+
+    /**
+     * Returns the indexes of the pairs of this pool within the {@link #getGatherSource()}. The array is shared and must
+     * not be modified.
+     *
+     * @return the indexes or null if the pairs are those of the source pool
+     */
+
+    int[] getGatherIndexes()
+    {
+        return this.gatherIndexes;
+    }
+
+    /**
+     * Creates a view of the pooled data.
+     *
+     * @see #getView(Class, Function, BiFunction, Function)
+     * @param <V> the type of view
+     * @param type the type of view
+     * @param creator the function that creates the view from the pooled data
+     * @param gatherer the function that gathers a view from the view of a source pool and the indexes to gather
+     * @param concatenator the function that concatenates the views of several mini-pools
+     * @return the view
+     */
+
+    private <V> V createView( Class<V> type,
+                              Function<Pool<T>, V> creator,
+                              BiFunction<V, int[], V> gatherer,
+                              Function<List<V>, V> concatenator )
+    {
+        // Gathered from another pool? Then gather the view from the view of the source pool
+        if ( Objects.nonNull( this.gatherSource ) )
+        {
+            V source = this.gatherSource.getView( type, creator, gatherer, concatenator );
+
+            if ( Objects.isNull( this.gatherIndexes ) )
+            {
+                return source;
+            }
+
+            return gatherer.apply( source, this.gatherIndexes );
+        }
+
+        // Composed of gathered mini-pools and nothing else? Then concatenate their views
+        List<Pool<T>> miniPoolsInner = this.getMiniPools();
+        if ( miniPoolsInner.get( 0 ) != this
+             && miniPoolsInner.stream()
+                              .allMatch( next -> Objects.nonNull( next.gatherSource ) )
+             && miniPoolsInner.stream()
+                              .mapToInt( next -> next.get()
+                                                     .size() )
+                              .sum() == this.sampleData.size() )
+        {
+            List<V> views = new ArrayList<>( miniPoolsInner.size() );
+            for ( Pool<T> next : miniPoolsInner )
+            {
+                views.add( next.getView( type, creator, gatherer, concatenator ) );
+            }
+
+            return concatenator.apply( views );
+        }
+
+        return creator.apply( this );
+    }
+
     /**
      * Returns the baseline data as a {@link Pool} or null if no baseline is defined.
      *
@@ -559,10 +841,19 @@ public class Pool<T> implements Supplier<List<T>>
         {
             if ( next.hasBaseline() )
             {
-                Pool<T> nextBaseline = new Builder<T>().setMetadata( next.baselineMeta )
-                                                       .addData( next.baselineSampleData )
-                                                       .setClimatology( next.climatology )
-                                                       .build();
+                Builder<T> nextBuilder = new Builder<T>().setMetadata( next.baselineMeta )
+                                                         .addData( next.baselineSampleData )
+                                                         .setClimatology( next.climatology );
+
+                // Preserve the source of any gathered pairs
+                if ( Objects.nonNull( next.gatherSource ) )
+                {
+                    nextBuilder.setGatherSource( next.gatherSource.getBaselineData(),
+                                                 next.baselineGatherIndexes,
+                                                 null );
+                }
+
+                Pool<T> nextBaseline = nextBuilder.build();
 
                 builder.addPool( nextBaseline );
             }
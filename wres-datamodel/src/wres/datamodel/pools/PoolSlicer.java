@@ -1,5 +1,6 @@
 package wres.datamodel.pools;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -459,6 +460,97 @@ public class PoolSlicer
         return poolBuilder.build();
     }
 
+    /**
+     * Gathers the pairs of a pool by index, including any baseline pairs, which creates a pool whose pairs are shared
+     * with the input pool, such as a resampled pool. A pair may be gathered more than once. The gathered pool has the
+     * metadata and climatology of the input pool and no mini-pools. A columnar view of the gathered pool, such as a
+     * {@link SingleValuedPairColumns}, is gathered from the primitive arrays of the corresponding view of the input
+     * pool, which is created once and then shared by all pools gathered from the input pool.
+     *
+     * @param <T> the type of pooled data
+     * @param pool the pool whose pairs should be gathered
+     * @param indexes the indexes of the pairs to gather
+     * @param baselineIndexes the indexes of the baseline pairs to gather, required when the pool has a baseline
+     * @return the gathered pool
+     * @throws NullPointerException if any required input is null
+     * @throws IndexOutOfBoundsException if any index is out of bounds
+     */
+
+    public static <T> Pool<T> gather( Pool<T> pool, int[] indexes, int[] baselineIndexes )
+    {
+        Objects.requireNonNull( pool, PoolSlicer.NULL_INPUT_EXCEPTION );
+        Objects.requireNonNull( indexes );
+
+        Pool.Builder<T> poolBuilder = new Pool.Builder<T>().setMetadata( pool.getMetadata() )
+                                                           .setClimatology( pool.getClimatology() )
+                                                           .addData( PoolSlicer.gather( pool.get(), indexes ) );
+
+        int[] baselineIndexesToGather = null;
+        if ( pool.hasBaseline() )
+        {
+            Objects.requireNonNull( baselineIndexes, "Specify the indexes of the baseline pairs to gather." );
+
+            Pool<T> baseline = pool.getBaselineData();
+            poolBuilder.setMetadataForBaseline( baseline.getMetadata() )
+                       .addDataForBaseline( PoolSlicer.gather( baseline.get(), baselineIndexes ) );
+            baselineIndexesToGather = baselineIndexes.clone();
+        }
+
+        return poolBuilder.setGatherSource( pool, indexes.clone(), baselineIndexesToGather )
+                          .build();
+    }
+
+    /**
+     * Transforms the metadata of a pool without transforming the pairs, preserving any mini-pools. Unlike
+     * {@link #transform(Pool, Function, UnaryOperator)} with an identity function, the columnar views of each
+     * mini-pool, such as a {@link SingleValuedPairColumns}, are shared with the corresponding mini-pool of the input
+     * pool.
+     *
+     * @param <T> the type of pooled data
+     * @param pool the pool
+     * @param metaTransformer the metadata transformer
+     * @return the pool with transformed metadata
+     * @throws NullPointerException if any input is null
+     */
+
+    public static <T> Pool<T> transformMetadata( Pool<T> pool, UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Objects.requireNonNull( pool, PoolSlicer.NULL_INPUT_EXCEPTION );
+        Objects.requireNonNull( metaTransformer, PoolSlicer.NULL_META_MAPPER_EXCEPTION );
+
+        Pool.Builder<T> poolBuilder = new Pool.Builder<T>().setClimatology( pool.getClimatology() );
+
+        // Preserve any small pools
+        for ( Pool<T> next : pool.getMiniPools() )
+        {
+            PoolMetadata nextMetadata = metaTransformer.apply( next.getMetadata() );
+            Pool.Builder<T> nextBuilder = new Pool.Builder<T>().setMetadata( nextMetadata )
+                                                               .setClimatology( next.getClimatology() )
+                                                               .addData( next.get() )
+                                                               .setGatherSource( next, null, null );
+
+            if ( next.hasBaseline() )
+            {
+                Pool<T> nextBaseline = next.getBaselineData();
+                nextBuilder.setMetadataForBaseline( metaTransformer.apply( nextBaseline.getMetadata() ) )
+                           .addDataForBaseline( nextBaseline.get() );
+            }
+
+            poolBuilder.addPool( nextBuilder.build() );
+        }
+
+        // Set the overall metadata
+        poolBuilder.setMetadata( metaTransformer.apply( pool.getMetadata() ) );
+
+        if ( pool.hasBaseline() )
+        {
+            poolBuilder.setMetadataForBaseline( metaTransformer.apply( pool.getBaselineData()
+                                                                           .getMetadata() ) );
+        }
+
+        return poolBuilder.build();
+    }
+
     /**
      * Decomposes a pool into a collection of mini-pools based on the mini-pools available and a prescribed attribute
      * of the pool metadata.
@@ -816,6 +908,27 @@ public class PoolSlicer
                && adjustedPoolFirst.build().equals( adjustedPoolSecond.build() );
     }
 
+    /**
+     * Gathers the prescribed items by index.
+     *
+     * @param <T> the type of item
+     * @param items the items
+     * @param indexes the indexes of the items to gather
+     * @return the gathered items
+     */
+
+    private static <T> List<T> gather( List<T> items, int[] indexes )
+    {
+        List<T> gathered = new ArrayList<>( indexes.length );
+
+        for ( int next : indexes )
+        {
+            gathered.add( items.get( next ) );
+        }
+
+        return gathered;
+    }
+
     /**
      * Unpacks a pool of time-series into their raw event values, eliminating the time-series view.
      * 
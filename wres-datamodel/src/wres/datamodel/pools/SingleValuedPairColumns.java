@@ -0,0 +1,167 @@
+package wres.datamodel.pools;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * <p>A columnar view of the single-valued pairs within a {@link Pool}, which stores the left and right values in
+ * parallel primitive arrays. The view is created once per pool, on demand, and is then shared by all consumers of the
+ * pool, such as the metrics in a collection, which avoids unboxing the same pairs once per metric. The view does not
+ * include any baseline pairs. For the baseline pairs, use the view of {@link Pool#getBaselineData()}. When the pairs
+ * were gathered from another pool, such as a resampled pool, the view is gathered from the arrays of the source view.
+ *
+ * <p>The arrays are shared and must not be modified.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public class SingleValuedPairColumns
+{
+    /** The left values. */
+    private final double[] left;
+
+    /** The right values. */
+    private final double[] right;
+
+    /**
+     * Returns the columnar view of the prescribed pool, creating it on first request.
+     *
+     * @param pool the pool
+     * @return the columnar view
+     * @throws NullPointerException if the pool is null
+     */
+
+    public static SingleValuedPairColumns of( Pool<Pair<Double, Double>> pool )
+    {
+        Objects.requireNonNull( pool );
+
+        return pool.getView( SingleValuedPairColumns.class,
+                             SingleValuedPairColumns::new,
+                             SingleValuedPairColumns::gather,
+                             SingleValuedPairColumns::concatenate );
+    }
+
+    /**
+     * Returns the left values. The array is shared and must not be modified.
+     *
+     * @return the left values
+     */
+
+    public double[] getLeft()
+    {
+        return this.left;
+    }
+
+    /**
+     * Returns the right values. The array is shared and must not be modified.
+     *
+     * @return the right values
+     */
+
+    public double[] getRight()
+    {
+        return this.right;
+    }
+
+    /**
+     * @return the number of pairs
+     */
+
+    public int size()
+    {
+        return this.left.length;
+    }
+
+    /**
+     * Gathers a view by index.
+     *
+     * @param source the source view
+     * @param indexes the indexes to gather
+     * @return the gathered view
+     */
+
+    private static SingleValuedPairColumns gather( SingleValuedPairColumns source, int[] indexes )
+    {
+        double[] left = new double[indexes.length];
+        double[] right = new double[indexes.length];
+
+        for ( int i = 0; i < indexes.length; i++ )
+        {
+            left[i] = source.left[indexes[i]];
+            right[i] = source.right[indexes[i]];
+        }
+
+        return new SingleValuedPairColumns( left, right );
+    }
+
+    /**
+     * Concatenates several views.
+     *
+     * @param views the views
+     * @return the concatenated view
+     */
+
+    private static SingleValuedPairColumns concatenate( List<SingleValuedPairColumns> views )
+    {
+        if ( views.size() == 1 )
+        {
+            return views.get( 0 );
+        }
+
+        int size = views.stream()
+                        .mapToInt( SingleValuedPairColumns::size )
+                        .sum();
+        double[] left = new double[size];
+        double[] right = new double[size];
+
+        int start = 0;
+        for ( SingleValuedPairColumns next : views )
+        {
+            System.arraycopy( next.left, 0, left, start, next.size() );
+            System.arraycopy( next.right, 0, right, start, next.size() );
+            start += next.size();
+        }
+
+        return new SingleValuedPairColumns( left, right );
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param left the left values
+     * @param right the right values
+     */
+
+    private SingleValuedPairColumns( double[] left, double[] right )
+    {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param pool the pool
+     */
+
+    private SingleValuedPairColumns( Pool<Pair<Double, Double>> pool )
+    {
+        List<Pair<Double, Double>> pairs = pool.get();
+        int size = pairs.size();
+
+        this.left = new double[size];
+        this.right = new double[size];
+
+        for ( int i = 0; i < size; i++ )
+        {
+            Pair<Double, Double> next = pairs.get( i );
+            this.left[i] = next.getLeft();
+            this.right[i] = next.getRight();
+        }
+    }
+}
@@ -0,0 +1,719 @@
+package wres.datamodel.pools;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import wres.config.yaml.components.ThresholdOperator;
+import wres.config.yaml.components.ThresholdOrientation;
+import wres.datamodel.thresholds.ThresholdOuter;
+import wres.datamodel.types.OneOrTwoDoubles;
+
+/**
+ * <p>Slices a pool of single-valued pairs by many thresholds without rescanning the pool for each threshold. The left
+ * and right values of each mini-pool are sorted once, on demand, and the sorted order is shared by all thresholds. The
+ * pairs that meet a threshold then occupy a contiguous range of the sorted order, which is found by binary search.
+ * The pairs within the range are returned in their original order, so that the sliced pools are equal to those
+ * obtained by filtering or transforming the pool with {@link ThresholdOuter#test(double)}. The transformed pools
+ * contain {@link DichotomousPairs}, which hold the outcomes of the sweep in bit sets and count the pairs in each
+ * cell of the contingency table without creating a pair per threshold.
+ *
+ * <p>Only thresholds that apply to one side of a pair can be used to filter pools; a threshold that applies to both
+ * sides, such as {@link ThresholdOrientation#LEFT_AND_RIGHT}, should be used with
+ * {@link PoolSlicer#filter(Map, Map, PoolMetadata, PoolMetadata, UnaryOperator)} instead. See
+ * {@link #canFilter(ThresholdOuter)} and {@link #canTransform(ThresholdOuter)}.
+ *
+ * @author James Brown
+ * @see PoolSlicer
+ */
+
+@ThreadSafe
+public class ThresholdSweep
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( ThresholdSweep.class );
+
+    /** The tolerance for {@link ThresholdOperator#EQUAL}, as used by {@link ThresholdOuter#test(double)}. */
+    private static final double EQUAL_TOLERANCE = .00000001;
+
+    /** The mini-pool. */
+    private final Pool<Pair<Double, Double>> pool;
+
+    /** The main pairs. */
+    private final Column main;
+
+    /** The baseline pairs or null. */
+    private final Column baseline;
+
+    /**
+     * Returns <code>true</code> if the threshold can be used to filter pools with a sweep, otherwise
+     * <code>false</code>. A threshold can be used to filter pools when it applies to one side of a pair and its
+     * bounds are defined.
+     *
+     * @param threshold the threshold
+     * @return true if the threshold can be used to filter pools, otherwise false
+     * @throws NullPointerException if the threshold is null
+     */
+
+    public static boolean canFilter( ThresholdOuter threshold )
+    {
+        Objects.requireNonNull( threshold );
+
+        return ThresholdSweep.canTransform( threshold )
+               && ThresholdSweep.isOneSided( threshold );
+    }
+
+    /**
+     * Returns <code>true</code> if the threshold can be used to transform pools into dichotomous pools with a sweep,
+     * otherwise <code>false</code>. A threshold can be used to transform pools when its bounds are defined.
+     *
+     * @param threshold the threshold
+     * @return true if the threshold can be used to transform pools, otherwise false
+     * @throws NullPointerException if the threshold is null
+     */
+
+    public static boolean canTransform( ThresholdOuter threshold )
+    {
+        Objects.requireNonNull( threshold );
+
+        OneOrTwoDoubles bounds = ThresholdSweep.getBounds( threshold );
+
+        if ( Objects.isNull( bounds )
+             || Objects.isNull( bounds.first() )
+             || Double.isNaN( bounds.first() ) )
+        {
+            return false;
+        }
+
+        return threshold.getOperator() != ThresholdOperator.BETWEEN
+               || ( Objects.nonNull( bounds.second() ) && !Double.isNaN( bounds.second() ) );
+    }
+
+    /**
+     * Applies an attribute-specific threshold to the corresponding attribute-specific pool and returns the union of
+     * the subsets that meet each threshold. Equivalent to
+     * {@link PoolSlicer#filter(Map, Map, PoolMetadata, PoolMetadata, UnaryOperator)} with a predicate that tests the
+     * side of each pair to which the threshold applies.
+     *
+     * @param <T> the metadata attribute
+     * @param pools the pools to filter
+     * @param thresholds the thresholds, each of which must meet {@link #canFilter(ThresholdOuter)}
+     * @param composedMetadata the metadata for the composition
+     * @param composedBaselineMetadata the metadata for the baseline composition
+     * @param metaTransformer the metadata transformer, not null
+     * @return the union of the subsets, each subset filtered by an attribute-specific threshold
+     * @throws NullPointerException if any required input is null
+     * @throws IllegalArgumentException if any threshold cannot be used to filter pools
+     * @throws PoolException if the pool could not be filtered for any reason
+     */
+
+    public static <T extends Comparable<T>> Pool<Pair<Double, Double>>
+    filter( Map<T, Pool<Pair<Double, Double>>> pools,
+            Map<T, ThresholdOuter> thresholds,
+            PoolMetadata composedMetadata,
+            PoolMetadata composedBaselineMetadata,
+            UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Objects.requireNonNull( thresholds );
+
+        for ( ThresholdOuter next : thresholds.values() )
+        {
+            if ( !ThresholdSweep.canFilter( next ) )
+            {
+                throw new IllegalArgumentException( "Cannot filter a pool with threshold " + next
+                                                    + " because it does not apply to exactly one side of each pair "
+                                                    + "or its bounds are undefined." );
+            }
+        }
+
+        return ThresholdSweep.slice( pools,
+                                     thresholds,
+                                     composedMetadata,
+                                     composedBaselineMetadata,
+                                     metaTransformer,
+                                     ( sweep, threshold ) -> sweep.filter( threshold, metaTransformer ) );
+    }
+
+    /**
+     * Applies an attribute-specific threshold to the corresponding attribute-specific pool, transforming each pair
+     * into a dichotomous pair whose left and right sides indicate whether the corresponding side of the input pair
+     * meets the threshold. Returns the union of the transformed pools. Equivalent to
+     * {@link PoolSlicer#transform(Map, Map, PoolMetadata, PoolMetadata, UnaryOperator)} with a transformer that tests
+     * both sides of each pair.
+     *
+     * @param <T> the metadata attribute
+     * @param pools the pools to transform
+     * @param thresholds the thresholds, each of which must meet {@link #canTransform(ThresholdOuter)}
+     * @param composedMetadata the metadata for the composition
+     * @param composedBaselineMetadata the metadata for the baseline composition
+     * @param metaTransformer the metadata transformer, not null
+     * @return the union of the transformed pools
+     * @throws NullPointerException if any required input is null
+     * @throws IllegalArgumentException if any threshold cannot be used to transform pools
+     * @throws PoolException if the pool could not be transformed for any reason
+     */
+
+    public static <T extends Comparable<T>> Pool<Pair<Boolean, Boolean>>
+    transform( Map<T, Pool<Pair<Double, Double>>> pools,
+               Map<T, ThresholdOuter> thresholds,
+               PoolMetadata composedMetadata,
+               PoolMetadata composedBaselineMetadata,
+               UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Objects.requireNonNull( thresholds );
+
+        for ( ThresholdOuter next : thresholds.values() )
+        {
+            if ( !ThresholdSweep.canTransform( next ) )
+            {
+                throw new IllegalArgumentException( "Cannot transform a pool with threshold " + next
+                                                    + " because its bounds are undefined." );
+            }
+        }
+
+        return ThresholdSweep.slice( pools,
+                                     thresholds,
+                                     composedMetadata,
+                                     composedBaselineMetadata,
+                                     metaTransformer,
+                                     ( sweep, threshold ) -> sweep.transform( threshold, metaTransformer ) );
+    }
+
+    /**
+     * Returns the sweep for a mini-pool, creating it on first request.
+     *
+     * @param pool the mini-pool
+     * @return the sweep
+     */
+
+    private static ThresholdSweep of( Pool<Pair<Double, Double>> pool )
+    {
+        return pool.getView( ThresholdSweep.class, ThresholdSweep::new );
+    }
+
+    /**
+     * Slices each attribute-specific pool with the corresponding threshold and returns the union of the sliced pools.
+     *
+     * @param <T> the metadata attribute
+     * @param <U> the sliced pool data type
+     * @param pools the pools to slice
+     * @param thresholds the thresholds
+     * @param composedMetadata the metadata for the composition
+     * @param composedBaselineMetadata the metadata for the baseline composition
+     * @param metaTransformer the metadata transformer
+     * @param slicer the function that slices a mini-pool
+     * @return the union of the sliced pools
+     * @throws NullPointerException if any required input is null
+     * @throws PoolException if the pool could not be sliced for any reason
+     */
+
+    private static <T extends Comparable<T>, U> Pool<U>
+    slice( Map<T, Pool<Pair<Double, Double>>> pools,
+           Map<T, ThresholdOuter> thresholds,
+           PoolMetadata composedMetadata,
+           PoolMetadata composedBaselineMetadata,
+           UnaryOperator<PoolMetadata> metaTransformer,
+           BiFunction<ThresholdSweep, ThresholdOuter, Pool<U>> slicer )
+    {
+        Objects.requireNonNull( pools );
+        Objects.requireNonNull( composedMetadata );
+        Objects.requireNonNull( metaTransformer );
+
+        Pool.Builder<U> poolBuilder = new Pool.Builder<>();
+        Set<T> keysWithoutThreshold = new HashSet<>();
+
+        for ( Map.Entry<T, Pool<Pair<Double, Double>>> nextEntry : pools.entrySet() )
+        {
+            T nextKey = nextEntry.getKey();
+            Pool<Pair<Double, Double>> nextPool = nextEntry.getValue();
+            ThresholdOuter nextThreshold = thresholds.get( nextKey );
+
+            if ( Objects.isNull( nextThreshold ) )
+            {
+                keysWithoutThreshold.add( nextKey );
+                continue;
+            }
+
+            Pool.Builder<U> nextBuilder = new Pool.Builder<>();
+
+            if ( nextPool.hasClimatology() )
+            {
+                nextBuilder.setClimatology( nextPool.getClimatology() );
+            }
+
+            // Preserve any small pools
+            for ( Pool<Pair<Double, Double>> nextMiniPool : nextPool.getMiniPools() )
+            {
+                ThresholdSweep sweep = ThresholdSweep.of( nextMiniPool );
+                nextBuilder.addPool( slicer.apply( sweep, nextThreshold ) );
+            }
+
+            nextBuilder.setMetadata( metaTransformer.apply( nextPool.getMetadata() ) );
+
+            if ( nextPool.hasBaseline() )
+            {
+                nextBuilder.setMetadataForBaseline( metaTransformer.apply( nextPool.getBaselineData()
+                                                                                   .getMetadata() ) );
+            }
+
+            poolBuilder.addPool( nextBuilder.build() );
+        }
+
+        // Set the overall metadata
+        poolBuilder.setMetadata( metaTransformer.apply( composedMetadata ) );
+
+        if ( Objects.nonNull( composedBaselineMetadata ) )
+        {
+            poolBuilder.setMetadataForBaseline( metaTransformer.apply( composedBaselineMetadata ) );
+        }
+
+        // Handle cases with no data or some missing data
+        if ( !pools.isEmpty()
+             && keysWithoutThreshold.size() == pools.size() )
+        {
+            throw new PoolException( "Failed to apply attribute-specific thresholds to a pool. This probably occurred "
+                                     + "because one of the smaller pools from which the pool was constructed had "
+                                     + "incorrect metadata. Failed to identify a threshold for any of these metadata "
+                                     + "attribute instances: "
+                                     + keysWithoutThreshold
+                                     + ". These thresholds were available: "
+                                     + thresholds.keySet()
+                                     + "." );
+        }
+        else if ( !keysWithoutThreshold.isEmpty() && LOGGER.isDebugEnabled() )
+        {
+            LOGGER.debug( "When slicing a pool into smaller pools by metadata attribute, failed to correlate some "
+                          + "attributes with thresholds: {}. Consequently, no sliced pool was identified for any of "
+                          + "these attribute instances and they will not be included in the evaluation.",
+                          keysWithoutThreshold );
+        }
+
+        return poolBuilder.build();
+    }
+
+    /**
+     * Filters the mini-pool with a threshold.
+     *
+     * @param threshold the threshold
+     * @param metaTransformer the metadata transformer
+     * @return the filtered pool
+     */
+
+    private Pool<Pair<Double, Double>> filter( ThresholdOuter threshold,
+                                               UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        boolean left = ThresholdSweep.isLeft( threshold );
+
+        Pool.Builder<Pair<Double, Double>> builder = new Pool.Builder<>();
+        builder.addData( this.main.filter( threshold, left ) )
+               .setMetadata( metaTransformer.apply( this.pool.getMetadata() ) );
+
+        if ( this.pool.hasClimatology() )
+        {
+            builder.setClimatology( this.pool.getClimatology() );
+        }
+
+        if ( Objects.nonNull( this.baseline ) )
+        {
+            builder.addDataForBaseline( this.baseline.filter( threshold, left ) )
+                   .setMetadataForBaseline( metaTransformer.apply( this.pool.getBaselineData()
+                                                                            .getMetadata() ) );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Transforms the mini-pool into dichotomous pairs with a threshold.
+     *
+     * @param threshold the threshold
+     * @param metaTransformer the metadata transformer
+     * @return the transformed pool
+     */
+
+    private Pool<Pair<Boolean, Boolean>> transform( ThresholdOuter threshold,
+                                                    UnaryOperator<PoolMetadata> metaTransformer )
+    {
+        Pool.Builder<Pair<Boolean, Boolean>> builder = new Pool.Builder<>();
+        builder.addData( this.main.transform( threshold ) )
+               .setMetadata( metaTransformer.apply( this.pool.getMetadata() ) )
+               .setClimatology( this.pool.getClimatology() );
+
+        if ( Objects.nonNull( this.baseline ) )
+        {
+            builder.addDataForBaseline( this.baseline.transform( threshold ) )
+                   .setMetadataForBaseline( metaTransformer.apply( this.pool.getBaselineData()
+                                                                            .getMetadata() ) );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param threshold the threshold
+     * @return whether the threshold applies to one side of a pair
+     */
+
+    private static boolean isOneSided( ThresholdOuter threshold )
+    {
+        return switch ( threshold.getOrientation() )
+        {
+            case LEFT, RIGHT, ANY_RIGHT, RIGHT_MEAN -> true;
+            case LEFT_AND_RIGHT, LEFT_AND_ANY_RIGHT, LEFT_AND_RIGHT_MEAN -> false;
+        };
+    }
+
+    /**
+     * @param threshold the threshold
+     * @return whether the threshold applies to the left side of a pair
+     */
+
+    private static boolean isLeft( ThresholdOuter threshold )
+    {
+        return threshold.getOrientation() == ThresholdOrientation.LEFT;
+    }
+
+    /**
+     * @param threshold the threshold
+     * @return the bounds tested by {@link ThresholdOuter#test(double)}
+     */
+
+    private static OneOrTwoDoubles getBounds( ThresholdOuter threshold )
+    {
+        if ( threshold.hasValues() )
+        {
+            return threshold.getValues();
+        }
+
+        return threshold.getProbabilities();
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param pool the mini-pool
+     */
+
+    private ThresholdSweep( Pool<Pair<Double, Double>> pool )
+    {
+        this.pool = pool;
+        this.main = new Column( pool.get() );
+
+        if ( pool.hasBaseline() )
+        {
+            this.baseline = new Column( pool.getBaselineData()
+                                            .get() );
+        }
+        else
+        {
+            this.baseline = null;
+        }
+    }
+
+    /**
+     * The pairs of a mini-pool together with their left and right values in sorted order, each of which is sorted on
+     * first use.
+     */
+
+    @ThreadSafe
+    private static class Column
+    {
+        /** The pairs. */
+        private final List<Pair<Double, Double>> pairs;
+
+        /** The left values in sorted order. */
+        @GuardedBy( "this" )
+        private SortedValues left;
+
+        /** The right values in sorted order. */
+        @GuardedBy( "this" )
+        private SortedValues right;
+
+        /**
+         * Returns the pairs that meet the threshold, in their original order.
+         * @param threshold the threshold
+         * @param isLeft is true to test the left side, false to test the right side
+         * @return the pairs that meet the threshold
+         */
+
+        private List<Pair<Double, Double>> filter( ThresholdOuter threshold, boolean isLeft )
+        {
+            BitSet mask = this.getSortedValues( isLeft )
+                              .getMask( threshold );
+            List<Pair<Double, Double>> filtered = new ArrayList<>( mask.cardinality() );
+
+            for ( int i = mask.nextSetBit( 0 ); i >= 0; i = mask.nextSetBit( i + 1 ) )
+            {
+                filtered.add( this.pairs.get( i ) );
+            }
+
+            return filtered;
+        }
+
+        /**
+         * Returns a dichotomous pair for each pair, in the original order. The pairs are counted by contingency table
+         * cell from the outcomes of the sweep and are not unpacked.
+         * @param threshold the threshold
+         * @return the dichotomous pairs
+         */
+
+        private DichotomousPairs transform( ThresholdOuter threshold )
+        {
+            BitSet leftMask = this.getSortedValues( true )
+                                  .getMask( threshold );
+            BitSet rightMask = this.getSortedValues( false )
+                                   .getMask( threshold );
+
+            return DichotomousPairs.of( leftMask, rightMask, this.pairs.size() );
+        }
+
+        /**
+         * @param isLeft is true to return the left values, false to return the right values
+         * @return the sorted values
+         */
+
+        private synchronized SortedValues getSortedValues( boolean isLeft )
+        {
+            if ( isLeft )
+            {
+                if ( Objects.isNull( this.left ) )
+                {
+                    this.left = SortedValues.of( this.pairs, true );
+                }
+
+                return this.left;
+            }
+
+            if ( Objects.isNull( this.right ) )
+            {
+                this.right = SortedValues.of( this.pairs, false );
+            }
+
+            return this.right;
+        }
+
+        /**
+         * Creates an instance.
+         * @param pairs the pairs
+         */
+
+        private Column( List<Pair<Double, Double>> pairs )
+        {
+            this.pairs = pairs;
+        }
+    }
+
+    /**
+     * The values of one side of the pairs in sorted order, with any NaN values last.
+     *
+     * @param values the sorted values
+     * @param order the position of each sorted value in the pairs
+     * @param count the number of sorted values that are not NaN
+     */
+
+    private record SortedValues( double[] values, int[] order, int count )
+    {
+        /**
+         * Sorts one side of the pairs.
+         * @param pairs the pairs
+         * @param isLeft is true to sort the left values, false to sort the right values
+         * @return the sorted values
+         */
+
+        private static SortedValues of( List<Pair<Double, Double>> pairs, boolean isLeft )
+        {
+            int size = pairs.size();
+            double[] unsorted = new double[size];
+
+            for ( int i = 0; i < size; i++ )
+            {
+                Pair<Double, Double> next = pairs.get( i );
+                unsorted[i] = isLeft ? next.getLeft() : next.getRight();
+            }
+
+            int[] order = SortedValues.sort( unsorted );
+            double[] sorted = new double[size];
+            int count = 0;
+
+            for ( int i = 0; i < size; i++ )
+            {
+                sorted[i] = unsorted[order[i]];
+
+                if ( !Double.isNaN( sorted[i] ) )
+                {
+                    count++;
+                }
+            }
+
+            return new SortedValues( sorted, order, count );
+        }
+
+        /**
+         * Returns the positions of the pairs whose values meet the threshold.
+         * @param threshold the threshold
+         * @return the positions of the pairs that meet the threshold
+         */
+
+        private BitSet getMask( ThresholdOuter threshold )
+        {
+            OneOrTwoDoubles bounds = ThresholdSweep.getBounds( threshold );
+            double lower = bounds.first();
+
+            // The values that meet the threshold are those that are neither below nor above the range, which is
+            // contiguous in sorted order because each condition is monotonic in the value
+            DoublePredicate isNotBelow;
+            DoublePredicate isAbove;
+
+            switch ( threshold.getOperator() )
+            {
+                case GREATER ->
+                {
+                    isNotBelow = v -> v > lower;
+                    isAbove = v -> false;
+                }
+                case GREATER_EQUAL ->
+                {
+                    isNotBelow = v -> v >= lower;
+                    isAbove = v -> false;
+                }
+                case LESS ->
+                {
+                    isNotBelow = v -> true;
+                    isAbove = v -> v >= lower;
+                }
+                case LESS_EQUAL ->
+                {
+                    isNotBelow = v -> true;
+                    isAbove = v -> v > lower;
+                }
+                case BETWEEN ->
+                {
+                    double upper = bounds.second();
+                    isNotBelow = v -> v >= lower;
+                    isAbove = v -> v >= upper;
+                }
+                case EQUAL ->
+                {
+                    isNotBelow = v -> v - lower > -EQUAL_TOLERANCE;
+                    isAbove = v -> v - lower >= EQUAL_TOLERANCE;
+                }
+                default -> throw new IllegalStateException( "Unrecognized threshold operator: "
+                                                            + threshold.getOperator()
+                                                            + "." );
+            }
+
+            int start = this.search( isNotBelow );
+            int stop = Math.max( start, this.search( isAbove ) );
+
+            BitSet mask = new BitSet( this.order.length );
+
+            for ( int i = start; i < stop; i++ )
+            {
+                mask.set( this.order[i] );
+            }
+
+            return mask;
+        }
+
+        /**
+         * Returns the position of the first value that meets a condition, which is false for a prefix of the values
+         * that are not NaN and true for the remainder.
+         * @param condition the condition
+         * @return the position of the first value that meets the condition or the count of values that are not NaN
+         */
+
+        private int search( DoublePredicate condition )
+        {
+            int low = 0;
+            int high = this.count;
+
+            while ( low < high )
+            {
+                int middle = ( low + high ) >>> 1;
+
+                if ( condition.test( this.values[middle] ) )
+                {
+                    high = middle;
+                }
+                else
+                {
+                    low = middle + 1;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * Returns the positions of the values in ascending order of value, with any NaN values last. Uses a bottom-up
+         * merge sort of the positions to avoid boxing.
+         * @param values the values
+         * @return the positions in sorted order
+         */
+
+        private static int[] sort( double[] values )
+        {
+            int size = values.length;
+            int[] from = new int[size];
+            int[] to = new int[size];
+
+            for ( int i = 0; i < size; i++ )
+            {
+                from[i] = i;
+            }
+
+            for ( int width = 1; width < size; width <<= 1 )
+            {
+                for ( int start = 0; start < size; start += width << 1 )
+                {
+                    int middle = Math.min( start + width, size );
+                    int end = Math.min( start + ( width << 1 ), size );
+                    int i = start;
+                    int j = middle;
+                    int k = start;
+
+                    while ( i < middle && j < end )
+                    {
+                        if ( Double.compare( values[from[j]], values[from[i]] ) < 0 )
+                        {
+                            to[k++] = from[j++];
+                        }
+                        else
+                        {
+                            to[k++] = from[i++];
+                        }
+                    }
+
+                    while ( i < middle )
+                    {
+                        to[k++] = from[i++];
+                    }
+
+                    while ( j < end )
+                    {
+                        to[k++] = from[j++];
+                    }
+                }
+
+                int[] swap = from;
+                from = to;
+                to = swap;
+            }
+
+            return from;
+        }
+    }
+}
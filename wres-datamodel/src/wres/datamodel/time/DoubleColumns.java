@@ -0,0 +1,294 @@
+package wres.datamodel.time;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SortedSet;
+
+import org.apache.commons.math3.util.Precision;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * <p>A columnar representation of the events within a {@link TimeSeries} of {@link Double}, which stores the valid
+ * times and values in parallel primitive arrays. The events are materialized as {@link DoubleEvent} on demand.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public final class DoubleColumns extends EventColumns<Double>
+{
+    /** The event values, shared across views. */
+    private final double[] values;
+
+    /**
+     * Creates an instance from primitive arrays of valid times and values. The arrays are copied and sorted by valid
+     * time, as needed.
+     *
+     * @param epochSeconds the valid times in epoch seconds
+     * @param values the event values
+     * @return the columns
+     * @throws NullPointerException if either input is null
+     * @throws IllegalArgumentException if the inputs have different lengths or contain duplicate valid times
+     */
+
+    public static DoubleColumns of( long[] epochSeconds, double[] values )
+    {
+        Objects.requireNonNull( epochSeconds );
+        Objects.requireNonNull( values );
+
+        if ( epochSeconds.length != values.length )
+        {
+            throw new IllegalArgumentException( "Expected the same number of valid times ("
+                                                + epochSeconds.length
+                                                + ") as values ("
+                                                + values.length
+                                                + ")." );
+        }
+
+        Builder builder = new Builder( epochSeconds.length );
+        for ( int i = 0; i < epochSeconds.length; i++ )
+        {
+            builder.addEvent( epochSeconds[i], values[i] );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Creates an instance from a sorted set of events or returns <code>null</code> if one or more events cannot be
+     * represented in columnar form. See {@link EventColumns#isRepresentable(Instant)}.
+     *
+     * @param events the events
+     * @return the columns or null
+     * @throws NullPointerException if the events are null
+     */
+
+    public static DoubleColumns of( SortedSet<Event<Double>> events )
+    {
+        Objects.requireNonNull( events );
+
+        if ( events instanceof DoubleColumns columns )
+        {
+            return columns;
+        }
+
+        Builder builder = new Builder( events.size() );
+        for ( Event<Double> next : events )
+        {
+            if ( Objects.isNull( next.getValue() )
+                 || !EventColumns.isRepresentable( next.getTime() ) )
+            {
+                return null;
+            }
+
+            builder.addEvent( next.getTime()
+                                  .getEpochSecond(),
+                              next.getValue() );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the event value at the prescribed index as a primitive double.
+     *
+     * @param index the index, relative to the first event in this view
+     * @return the event value
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public double getDouble( int index )
+    {
+        return this.values[this.getAbsoluteIndex( index )];
+    }
+
+    /**
+     * Returns a copy of the event values.
+     *
+     * @return the event values
+     */
+
+    public double[] getValues()
+    {
+        return Arrays.copyOfRange( this.values, this.getStart(), this.getEnd() );
+    }
+
+    @Override
+    public Double getValue( int index )
+    {
+        return this.getDouble( index );
+    }
+
+    @Override
+    public Event<Double> getEvent( int index )
+    {
+        return DoubleEvent.of( this.getTime( index ), this.getDouble( index ) );
+    }
+
+    @Override
+    public DoubleColumns subColumns( int fromIndex, int toIndex )
+    {
+        return ( DoubleColumns ) super.subColumns( fromIndex, toIndex );
+    }
+
+    @Override
+    boolean isValueEqual( int index, Object value )
+    {
+        return value instanceof Double doubleValue
+               && Precision.equalsIncludingNaN( doubleValue, this.getDouble( index ), Precision.EPSILON );
+    }
+
+    @Override
+    DoubleColumns view( int absoluteStart, int absoluteEnd )
+    {
+        return new DoubleColumns( this.getSharedEpochSeconds(), this.values, absoluteStart, absoluteEnd );
+    }
+
+    /**
+     * Builds an instance incrementally. The events are sorted once on {@link #build()}.
+     */
+
+    public static class Builder
+    {
+        /** The valid times. */
+        private long[] epochSeconds;
+
+        /** The values. */
+        private double[] values;
+
+        /** The number of events added. */
+        private int size;
+
+        /**
+         * Creates a builder with a default initial capacity.
+         */
+
+        public Builder()
+        {
+            this( 16 );
+        }
+
+        /**
+         * Creates a builder with an initial capacity.
+         *
+         * @param initialCapacity the initial capacity
+         * @throws IllegalArgumentException if the capacity is negative
+         */
+
+        public Builder( int initialCapacity )
+        {
+            if ( initialCapacity < 0 )
+            {
+                throw new IllegalArgumentException( "The initial capacity cannot be negative: "
+                                                    + initialCapacity
+                                                    + "." );
+            }
+
+            this.epochSeconds = new long[initialCapacity];
+            this.values = new double[initialCapacity];
+        }
+
+        /**
+         * Adds an event.
+         *
+         * @param time the valid time
+         * @param value the value
+         * @return the builder
+         * @throws NullPointerException if the time is null
+         * @throws IllegalArgumentException if the time cannot be represented in columnar form
+         */
+
+        public Builder addEvent( Instant time, double value )
+        {
+            Objects.requireNonNull( time );
+
+            if ( !EventColumns.isRepresentable( time ) )
+            {
+                throw new IllegalArgumentException( "Cannot add an event with a valid time of '"
+                                                    + time
+                                                    + "' to a columnar time-series because the valid time contains "
+                                                    + "fractional seconds." );
+            }
+
+            return this.addEvent( time.getEpochSecond(), value );
+        }
+
+        /**
+         * Adds an event.
+         *
+         * @param epochSecond the valid time in epoch seconds
+         * @param value the value
+         * @return the builder
+         */
+
+        public Builder addEvent( long epochSecond, double value )
+        {
+            if ( this.size == this.epochSeconds.length )
+            {
+                int capacity = Math.max( 16, this.size + ( this.size >> 1 ) );
+                this.epochSeconds = Arrays.copyOf( this.epochSeconds, capacity );
+                this.values = Arrays.copyOf( this.values, capacity );
+            }
+
+            this.epochSeconds[this.size] = epochSecond;
+            this.values[this.size] = value;
+            this.size++;
+
+            return this;
+        }
+
+        /**
+         * @return the number of events added
+         */
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        /**
+         * Builds the columns, sorting by valid time as needed.
+         *
+         * @return the columns
+         * @throws IllegalArgumentException if there are duplicate events by valid time
+         */
+
+        public DoubleColumns build()
+        {
+            long[] times = Arrays.copyOf( this.epochSeconds, this.size );
+            double[] vals = Arrays.copyOf( this.values, this.size );
+
+            int[] order = EventColumns.getSortedIndexes( times, this.size );
+            if ( Objects.nonNull( order ) )
+            {
+                for ( int i = 0; i < order.length; i++ )
+                {
+                    times[i] = this.epochSeconds[order[i]];
+                    vals[i] = this.values[order[i]];
+                }
+            }
+
+            EventColumns.validateTimes( times );
+
+            return new DoubleColumns( times, vals, 0, times.length );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param epochSeconds the valid times
+     * @param values the values
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     */
+
+    private DoubleColumns( long[] epochSeconds, double[] values, int start, int end )
+    {
+        super( epochSeconds, start, end );
+
+        this.values = values;
+    }
+}
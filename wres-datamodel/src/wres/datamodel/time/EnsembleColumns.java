@@ -0,0 +1,271 @@
+package wres.datamodel.time;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+
+import net.jcip.annotations.Immutable;
+
+import wres.datamodel.types.Ensemble;
+import wres.datamodel.types.Ensemble.Labels;
+
+/**
+ * A columnar representation of the events within a {@link TimeSeries} of {@link Ensemble}, which stores the valid
+ * times in a primitive array and the ensemble members in a parallel array of primitive arrays, one per valid time.
+ * All events share the same {@link Labels}. The {@link Ensemble} values are materialized on demand.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+public final class EnsembleColumns extends EventColumns<Ensemble>
+{
+    /** The ensemble members, one array per valid time, shared across views. */
+    private final double[][] members;
+
+    /** The labels, which are shared by all events. */
+    private final Labels labels;
+
+    /**
+     * Returns the ensemble member labels.
+     *
+     * @return the labels
+     */
+
+    public Labels getLabels()
+    {
+        return this.labels;
+    }
+
+    /**
+     * Returns the ensemble member at the prescribed event index and member index.
+     *
+     * @param index the event index, relative to the first event in this view
+     * @param memberIndex the member index
+     * @return the member value
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+
+    public double getMember( int index, int memberIndex )
+    {
+        return this.members[this.getAbsoluteIndex( index )][memberIndex];
+    }
+
+    /**
+     * Returns a copy of the ensemble members at the prescribed event index.
+     *
+     * @param index the event index, relative to the first event in this view
+     * @return the members
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public double[] getMembers( int index )
+    {
+        return this.members[this.getAbsoluteIndex( index )].clone();
+    }
+
+    @Override
+    public Ensemble getValue( int index )
+    {
+        // Copies the members
+        return Ensemble.of( this.members[this.getAbsoluteIndex( index )], this.labels );
+    }
+
+    @Override
+    public EnsembleColumns subColumns( int fromIndex, int toIndex )
+    {
+        return ( EnsembleColumns ) super.subColumns( fromIndex, toIndex );
+    }
+
+    @Override
+    boolean isValueEqual( int index, Object value )
+    {
+        return value instanceof Ensemble ensemble
+               && this.labels.equals( ensemble.getLabels() )
+               && Arrays.equals( this.members[this.getAbsoluteIndex( index )], ensemble.getMembers() );
+    }
+
+    @Override
+    EnsembleColumns view( int absoluteStart, int absoluteEnd )
+    {
+        return new EnsembleColumns( this.getSharedEpochSeconds(),
+                                    this.members,
+                                    this.labels,
+                                    absoluteStart,
+                                    absoluteEnd );
+    }
+
+    /**
+     * Builds an instance incrementally. The events are sorted once on {@link #build()}.
+     */
+
+    public static class Builder
+    {
+        /** The labels. */
+        private final Labels labels;
+
+        /** The number of labels. */
+        private final int labelCount;
+
+        /** The valid times. */
+        private long[] epochSeconds;
+
+        /** The members. */
+        private double[][] members;
+
+        /** The number of events added. */
+        private int size;
+
+        /**
+         * Creates a builder whose events share the prescribed labels, with a default initial capacity.
+         *
+         * @param labels the labels
+         * @throws NullPointerException if the labels are null
+         */
+
+        public Builder( Labels labels )
+        {
+            this( labels, 16 );
+        }
+
+        /**
+         * Creates a builder whose events share the prescribed labels, with an initial capacity.
+         *
+         * @param labels the labels
+         * @param initialCapacity the initial capacity
+         * @throws NullPointerException if the labels are null
+         * @throws IllegalArgumentException if the capacity is negative
+         */
+
+        public Builder( Labels labels, int initialCapacity )
+        {
+            Objects.requireNonNull( labels );
+
+            if ( initialCapacity < 0 )
+            {
+                throw new IllegalArgumentException( "The initial capacity cannot be negative: "
+                                                    + initialCapacity
+                                                    + "." );
+            }
+
+            this.labels = labels;
+            this.labelCount = labels.getLabels().length;
+            this.epochSeconds = new long[initialCapacity];
+            this.members = new double[initialCapacity][];
+        }
+
+        /**
+         * Adds an event. The members are copied.
+         *
+         * @param time the valid time
+         * @param members the ensemble members, ordered according to the labels
+         * @return the builder
+         * @throws NullPointerException if either input is null
+         * @throws IllegalArgumentException if the time cannot be represented in columnar form or the number of members
+         *            is inconsistent with the labels
+         */
+
+        public Builder addEvent( Instant time, double[] members )
+        {
+            Objects.requireNonNull( time );
+            Objects.requireNonNull( members );
+
+            if ( !EventColumns.isRepresentable( time ) )
+            {
+                throw new IllegalArgumentException( "Cannot add an event with a valid time of '"
+                                                    + time
+                                                    + "' to a columnar time-series because the valid time contains "
+                                                    + "fractional seconds." );
+            }
+
+            return this.addEvent( time.getEpochSecond(), members.clone() );
+        }
+
+        /**
+         * @return the number of events added
+         */
+
+        public int size()
+        {
+            return this.size;
+        }
+
+        /**
+         * Adds an event, adopting the members without copying them.
+         *
+         * @param epochSecond the valid time in epoch seconds
+         * @param members the ensemble members, ordered according to the labels, which are not copied
+         * @return the builder
+         * @throws IllegalArgumentException if the number of members is inconsistent with the labels
+         */
+
+        Builder addEvent( long epochSecond, double[] members )
+        {
+            if ( this.labelCount > 0 && this.labelCount != members.length )
+            {
+                throw new IllegalArgumentException( "Expected the same number of members (" + members.length
+                                                    + ") as labels ("
+                                                    + this.labelCount
+                                                    + ")." );
+            }
+
+            if ( this.size == this.epochSeconds.length )
+            {
+                int capacity = Math.max( 16, this.size + ( this.size >> 1 ) );
+                this.epochSeconds = Arrays.copyOf( this.epochSeconds, capacity );
+                this.members = Arrays.copyOf( this.members, capacity );
+            }
+
+            this.epochSeconds[this.size] = epochSecond;
+            this.members[this.size] = members;
+            this.size++;
+
+            return this;
+        }
+
+        /**
+         * Builds the columns, sorting by valid time as needed.
+         *
+         * @return the columns
+         * @throws IllegalArgumentException if there are duplicate events by valid time
+         */
+
+        public EnsembleColumns build()
+        {
+            long[] times = Arrays.copyOf( this.epochSeconds, this.size );
+            double[][] vals = Arrays.copyOf( this.members, this.size );
+
+            int[] order = EventColumns.getSortedIndexes( times, this.size );
+            if ( Objects.nonNull( order ) )
+            {
+                for ( int i = 0; i < order.length; i++ )
+                {
+                    times[i] = this.epochSeconds[order[i]];
+                    vals[i] = this.members[order[i]];
+                }
+            }
+
+            EventColumns.validateTimes( times );
+
+            return new EnsembleColumns( times, vals, this.labels, 0, times.length );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param epochSeconds the valid times
+     * @param members the members
+     * @param labels the labels
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     */
+
+    private EnsembleColumns( long[] epochSeconds, double[][] members, Labels labels, int start, int end )
+    {
+        super( epochSeconds, start, end );
+
+        this.members = members;
+        this.labels = labels;
+    }
+}
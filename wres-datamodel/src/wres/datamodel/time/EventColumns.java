@@ -0,0 +1,505 @@
+package wres.datamodel.time;
+
+import java.time.Instant;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.stream.IntStream;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * <p>A columnar representation of the events within a {@link TimeSeries}. The event valid times are stored as a
+ * primitive array of epoch seconds, sorted in ascending order on construction, and the event values are stored by a
+ * concrete subclass in parallel primitive arrays. Exposes a read-only {@link SortedSet} view of the events for
+ * compatibility with {@link TimeSeries#getEvents()}, whereby each {@link Event} is created on demand.
+ *
+ * <p>The events are ordered by valid time alone, since duplicates by valid time are not allowed. Accordingly, the
+ * {@link #headSet(Event)}, {@link #tailSet(Event)} and {@link #subSet(Event, Event)} views consider the valid time of
+ * the prescribed event only. These views share the underlying arrays and do not copy.
+ *
+ * <p>A columnar representation can only contain valid times that are whole epoch seconds. See
+ * {@link #isRepresentable(Instant)}.
+ *
+ * @param <T> the type of event value
+ * @author James Brown
+ */
+
+@Immutable
+public abstract class EventColumns<T> extends AbstractSet<Event<T>> implements SortedSet<Event<T>>
+{
+    /** The valid times in epoch seconds, shared across views. */
+    private final long[] epochSeconds;
+
+    /** The index of the first event within the shared arrays, inclusive. */
+    private final int start;
+
+    /** The index of the last event within the shared arrays, exclusive. */
+    private final int end;
+
+    /**
+     * Returns <code>true</code> if the prescribed time can be stored in a columnar representation, otherwise
+     * <code>false</code>.
+     *
+     * @param time the time
+     * @return true if the time has no fractional seconds, otherwise false
+     * @throws NullPointerException if the time is null
+     */
+
+    public static boolean isRepresentable( Instant time )
+    {
+        Objects.requireNonNull( time );
+
+        return time.getNano() == 0;
+    }
+
+    /**
+     * Returns the event value at the prescribed index.
+     *
+     * @param index the index, relative to the first event in this view
+     * @return the event value
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public abstract T getValue( int index );
+
+    /**
+     * Returns a view of the events between the prescribed indexes, which are relative to the start of this view.
+     *
+     * @param fromIndex the lower index, inclusive
+     * @param toIndex the upper index, exclusive
+     * @return the view
+     * @throws IndexOutOfBoundsException if the indexes are out of bounds
+     */
+
+    public EventColumns<T> subColumns( int fromIndex, int toIndex )
+    {
+        Objects.checkFromToIndex( fromIndex, toIndex, this.size() );
+
+        if ( fromIndex == 0 && toIndex == this.size() )
+        {
+            return this;
+        }
+
+        return this.view( this.start + fromIndex, this.start + toIndex );
+    }
+
+    /**
+     * Returns the event at the prescribed index.
+     *
+     * @param index the index, relative to the first event in this view
+     * @return the event
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public Event<T> getEvent( int index )
+    {
+        return Event.of( this.getTime( index ), this.getValue( index ) );
+    }
+
+    /**
+     * Returns the valid time at the prescribed index.
+     *
+     * @param index the index, relative to the first event in this view
+     * @return the valid time
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public Instant getTime( int index )
+    {
+        return Instant.ofEpochSecond( this.getEpochSecond( index ) );
+    }
+
+    /**
+     * Returns the valid time at the prescribed index in epoch seconds.
+     *
+     * @param index the index, relative to the first event in this view
+     * @return the valid time in epoch seconds
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    public long getEpochSecond( int index )
+    {
+        Objects.checkIndex( index, this.size() );
+
+        return this.epochSeconds[this.start + index];
+    }
+
+    /**
+     * Returns a copy of the valid times in epoch seconds.
+     *
+     * @return the valid times
+     */
+
+    public long[] getEpochSeconds()
+    {
+        long[] returnMe = new long[this.size()];
+        System.arraycopy( this.epochSeconds, this.start, returnMe, 0, returnMe.length );
+        return returnMe;
+    }
+
+    /**
+     * Returns the index of the event whose valid time matches the prescribed time, otherwise
+     * <code>(-(insertion point) - 1)</code>, in keeping with {@link java.util.Arrays#binarySearch(long[], long)}.
+     *
+     * @param time the valid time
+     * @return the index of the event with the prescribed time or a negative index
+     * @throws NullPointerException if the time is null
+     */
+
+    public int indexOf( Instant time )
+    {
+        Objects.requireNonNull( time );
+
+        int lower = this.getLowerBound( time );
+
+        if ( lower < this.size()
+             && time.getNano() == 0
+             && this.getEpochSecond( lower ) == time.getEpochSecond() )
+        {
+            return lower;
+        }
+
+        return -lower - 1;
+    }
+
+    /**
+     * Returns the index of the first event whose valid time is equal to or later than the prescribed time or the size
+     * of this view if no such event exists.
+     *
+     * @param time the time
+     * @return the index of the first event at or after the time
+     * @throws NullPointerException if the time is null
+     */
+
+    public int getLowerBound( Instant time )
+    {
+        Objects.requireNonNull( time );
+
+        // A time with fractional seconds cannot be matched, so the first candidate is the next whole second
+        long seconds = time.getEpochSecond();
+        if ( time.getNano() > 0 )
+        {
+            seconds = seconds + 1;
+        }
+
+        return this.search( seconds, false );
+    }
+
+    /**
+     * Returns the index of the first event whose valid time is later than the prescribed time or the size of this
+     * view if no such event exists.
+     *
+     * @param time the time
+     * @return the index of the first event after the time
+     * @throws NullPointerException if the time is null
+     */
+
+    public int getUpperBound( Instant time )
+    {
+        Objects.requireNonNull( time );
+
+        return this.search( time.getEpochSecond(), true );
+    }
+
+    @Override
+    public int size()
+    {
+        return this.end - this.start;
+    }
+
+    @Override
+    public boolean contains( Object o )
+    {
+        if ( !( o instanceof Event<?> event ) || Objects.isNull( event.getTime() ) )
+        {
+            return false;
+        }
+
+        int index = this.indexOf( event.getTime() );
+
+        return index >= 0 && this.isValueEqual( index, event.getValue() );
+    }
+
+    @Override
+    public Iterator<Event<T>> iterator()
+    {
+        return IntStream.range( 0, this.size() )
+                        .mapToObj( this::getEvent )
+                        .iterator();
+    }
+
+    /**
+     * Returns <code>null</code> because the events are ordered by their natural ordering, which is by valid time.
+     *
+     * @return null
+     */
+
+    @Override
+    public Comparator<? super Event<T>> comparator()
+    {
+        return null;
+    }
+
+    @Override
+    public SortedSet<Event<T>> subSet( Event<T> fromElement, Event<T> toElement )
+    {
+        Objects.requireNonNull( fromElement );
+        Objects.requireNonNull( toElement );
+
+        int from = this.getLowerBound( fromElement.getTime() );
+        int to = Math.max( from, this.getLowerBound( toElement.getTime() ) );
+
+        return this.subColumns( from, to );
+    }
+
+    @Override
+    public SortedSet<Event<T>> headSet( Event<T> toElement )
+    {
+        Objects.requireNonNull( toElement );
+
+        return this.subColumns( 0, this.getLowerBound( toElement.getTime() ) );
+    }
+
+    @Override
+    public SortedSet<Event<T>> tailSet( Event<T> fromElement )
+    {
+        Objects.requireNonNull( fromElement );
+
+        return this.subColumns( this.getLowerBound( fromElement.getTime() ), this.size() );
+    }
+
+    @Override
+    public Event<T> first()
+    {
+        if ( this.isEmpty() )
+        {
+            throw new NoSuchElementException( "Cannot return the first event of an empty time-series." );
+        }
+
+        return this.getEvent( 0 );
+    }
+
+    @Override
+    public Event<T> last()
+    {
+        if ( this.isEmpty() )
+        {
+            throw new NoSuchElementException( "Cannot return the last event of an empty time-series." );
+        }
+
+        return this.getEvent( this.size() - 1 );
+    }
+
+    /**
+     * Returns <code>true</code> if the value at the prescribed index is equal to the prescribed value.
+     *
+     * @param index the index, relative to the first event in this view
+     * @param value the value to test
+     * @return true if the value is equal, otherwise false
+     */
+
+    abstract boolean isValueEqual( int index, Object value );
+
+    /**
+     * Returns a view of the events between the prescribed indexes, which are absolute indexes into the shared arrays.
+     *
+     * @param absoluteStart the start index, inclusive
+     * @param absoluteEnd the end index, exclusive
+     * @return the view
+     */
+
+    abstract EventColumns<T> view( int absoluteStart, int absoluteEnd );
+
+    /**
+     * Returns the absolute index into the shared arrays for the prescribed index.
+     *
+     * @param index the index, relative to the first event in this view
+     * @return the absolute index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+
+    int getAbsoluteIndex( int index )
+    {
+        Objects.checkIndex( index, this.size() );
+
+        return this.start + index;
+    }
+
+    /**
+     * @return the start index of this view within the shared arrays, inclusive
+     */
+
+    int getStart()
+    {
+        return this.start;
+    }
+
+    /**
+     * @return the end index of this view within the shared arrays, exclusive
+     */
+
+    int getEnd()
+    {
+        return this.end;
+    }
+
+    /**
+     * @return the shared array of valid times in epoch seconds
+     */
+
+    long[] getSharedEpochSeconds()
+    {
+        return this.epochSeconds;
+    }
+
+    /**
+     * Validates that the prescribed times are sorted in strictly ascending order, i.e., without duplicates.
+     *
+     * @param epochSeconds the times to validate
+     * @throws IllegalArgumentException if the times are not strictly ascending
+     */
+
+    static void validateTimes( long[] epochSeconds )
+    {
+        for ( int i = 1; i < epochSeconds.length; i++ )
+        {
+            if ( epochSeconds[i] <= epochSeconds[i - 1] )
+            {
+                throw new IllegalArgumentException( "While building a time-series, discovered a duplicate event by "
+                                                    + "valid time at '"
+                                                    + Instant.ofEpochSecond( epochSeconds[i] )
+                                                    + "', which is not allowed." );
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes that sort the prescribed times in ascending order or <code>null</code> if the times are
+     * already sorted. The sort is stable, so that the indexes of equal times remain in their original order, and is a
+     * bottom-up merge sort of primitive indexes, which avoids boxing each index.
+     *
+     * @param epochSeconds the times
+     * @param size the number of times to consider
+     * @return the sorted indexes or null if the times are already sorted
+     */
+
+    static int[] getSortedIndexes( long[] epochSeconds, int size )
+    {
+        boolean sorted = true;
+        for ( int i = 1; i < size; i++ )
+        {
+            if ( epochSeconds[i] < epochSeconds[i - 1] )
+            {
+                sorted = false;
+                break;
+            }
+        }
+
+        if ( sorted )
+        {
+            return null;
+        }
+
+        int[] from = new int[size];
+        int[] to = new int[size];
+
+        for ( int i = 0; i < size; i++ )
+        {
+            from[i] = i;
+        }
+
+        for ( int width = 1; width < size; width <<= 1 )
+        {
+            for ( int start = 0; start < size; start += width << 1 )
+            {
+                int middle = Math.min( start + width, size );
+                int end = Math.min( start + ( width << 1 ), size );
+                int i = start;
+                int j = middle;
+                int k = start;
+
+                while ( i < middle && j < end )
+                {
+                    if ( epochSeconds[from[j]] < epochSeconds[from[i]] )
+                    {
+                        to[k++] = from[j++];
+                    }
+                    else
+                    {
+                        to[k++] = from[i++];
+                    }
+                }
+
+                while ( i < middle )
+                {
+                    to[k++] = from[i++];
+                }
+
+                while ( j < end )
+                {
+                    to[k++] = from[j++];
+                }
+            }
+
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+
+        return from;
+    }
+
+    /**
+     * Binary search for the first index whose time is greater than (or equal to, when not strict) the prescribed
+     * time.
+     *
+     * @param seconds the time in epoch seconds
+     * @param strict is true to find the first time greater than the prescribed time, false for greater or equal
+     * @return the relative index, which may be equal to the size of this view
+     */
+
+    private int search( long seconds, boolean strict )
+    {
+        int low = this.start;
+        int high = this.end;
+        while ( low < high )
+        {
+            int mid = ( low + high ) >>> 1;
+            long next = this.epochSeconds[mid];
+            if ( next < seconds || ( strict && next == seconds ) )
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low - this.start;
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param epochSeconds the valid times in epoch seconds
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @throws NullPointerException if the times are null
+     * @throws IndexOutOfBoundsException if the indexes are out of bounds
+     */
+
+    EventColumns( long[] epochSeconds, int start, int end )
+    {
+        Objects.requireNonNull( epochSeconds );
+        Objects.checkFromToIndex( start, end, epochSeconds.length );
+
+        this.epochSeconds = epochSeconds;
+        this.start = start;
+        this.end = end;
+    }
+}
@@ -166,6 +166,43 @@ class RescalingHelper
                                                             Unit<?> desiredUnit,
                                                             SortedSet<Instant> endsAt,
                                                             boolean lenient )
+    {
+        return RescalingHelper.upscale( timeSeries,
+                                        upscaler,
+                                        null,
+                                        desiredTimeScale,
+                                        existingUnit,
+                                        desiredUnit,
+                                        endsAt,
+                                        lenient );
+    }
+
+    /**
+     * Conducts upscaling of a time-series, first using a {@link WindowUpscaler} to upscale the values whose intervals
+     * are complete and regular and then grouping the events of any remaining intervals to upscale with the
+     * prescribed function.
+     *
+     * @param <T> the type of event value to upscale
+     * @param timeSeries the time-series, required
+     * @param upscaler the function that upscales the event values
+     * @param windowUpscaler an upscaler for complete and regular intervals, optional
+     * @param desiredTimeScale the desired time scale, required
+     * @param existingUnit the existing measurement unit, optional
+     * @param desiredUnit the desired measurement unit, optional
+     * @param endsAt the set of times at which upscaled values should end, required
+     * @param lenient is true to upscale irregularly spaced data (e.g., due to missing values)
+     * @return the upscaled time-series and associated validation events
+     * @throws NullPointerException if any required input is null
+     */
+
+    static <T> RescaledTimeSeriesPlusValidation<T> upscale( TimeSeries<T> timeSeries,
+                                                            Function<SortedSet<Event<T>>, T> upscaler,
+                                                            WindowUpscaler<T> windowUpscaler,
+                                                            TimeScaleOuter desiredTimeScale,
+                                                            Unit<?> existingUnit,
+                                                            Unit<?> desiredUnit,
+                                                            SortedSet<Instant> endsAt,
+                                                            boolean lenient )
     {
         Objects.requireNonNull( timeSeries );
         Objects.requireNonNull( desiredTimeScale );
@@ -282,6 +319,7 @@ class RescalingHelper
         // True upscaling needed
         return RescalingHelper.upscaleWithChangeOfPeriod( timeSeries,
                                                           upscaler,
+                                                          windowUpscaler,
                                                           desiredTimeScale,
                                                           endsAt,
                                                           validationEvents,
@@ -355,6 +393,7 @@ class RescalingHelper
      * @param <T> the type of event value to upscale
      * @param timeSeries the time-series
      * @param upscaler the function that upscales the event values
+     * @param windowUpscaler an upscaler for complete and regular intervals, possibly null
      * @param desiredTimeScale the desired time scale
      * @param endsAt the set of times at which upscaled values should end
      * @param validationEvents the validation events
@@ -365,6 +404,7 @@ class RescalingHelper
 
     private static <T> RescaledTimeSeriesPlusValidation<T> upscaleWithChangeOfPeriod( TimeSeries<T> timeSeries,
                                                                                       Function<SortedSet<Event<T>>, T> upscaler,
+                                                                                      WindowUpscaler<T> windowUpscaler,
                                                                                       TimeScaleOuter desiredTimeScale,
                                                                                       SortedSet<Instant> endsAt,
                                                                                       List<EvaluationStatusMessage> validationEvents,
@@ -379,15 +419,59 @@ class RescalingHelper
         // Create a mutable copy of the validation events to add more, as needed
         validationEvents = new ArrayList<>( validationEvents );
 
+        // Upscale the complete and regular intervals without grouping, where possible
+        Map<Instant, T> upscaledWindows = Collections.emptyMap();
+        SortedSet<Instant> endsAtToGroup = endsAt;
+
+        if ( Objects.nonNull( windowUpscaler ) && !desiredTimeScale.hasMonthDays() )
+        {
+            SortedSet<Instant> endsAtTime = endsAt;
+
+            // No times at which values should end, so start at the beginning
+            if ( endsAtTime.isEmpty() )
+            {
+                endsAtTime = RescalingHelper.getEndTimesFromSeries( timeSeries, desiredTimeScale );
+            }
+
+            upscaledWindows = windowUpscaler.upscale( timeSeries.getEvents(),
+                                                      endsAtTime,
+                                                      desiredTimeScale.getPeriod() );
+
+            SortedSet<Instant> remaining = new TreeSet<>( endsAtTime );
+            remaining.removeAll( upscaledWindows.keySet() );
+            endsAtToGroup = Collections.unmodifiableSortedSet( remaining );
+
+            LOGGER.trace( "Upscaled {} of {} intervals without grouping events.",
+                          upscaledWindows.size(),
+                          endsAtTime.size() );
+        }
+
         // Get the grouped events to upscale
-        Map<Instant, SortedSet<Event<T>>> groups = RescalingHelper.getGroupedEventsToUpscale( timeSeries,
-                                                                                              desiredTimeScale,
-                                                                                              endsAt,
-                                                                                              validationEvents );
+        Map<Instant, SortedSet<Event<T>>> groups = Collections.emptyMap();
+
+        // An empty set of end times means derive them from the series, so only group when some intervals remain
+        if ( upscaledWindows.isEmpty() || !endsAtToGroup.isEmpty() )
+        {
+            groups = RescalingHelper.getGroupedEventsToUpscale( timeSeries,
+                                                                desiredTimeScale,
+                                                                endsAtToGroup,
+                                                                validationEvents );
+        }
+        else
+        {
+            validationEvents.add( GROUPED_EVENTS_MESSAGE );
+        }
 
         // Process the groups whose events are evenly-spaced and have no missing values, otherwise skip and log
         TimeSeries.Builder<T> builder = new TimeSeries.Builder<>();
 
+        // Add the values upscaled without grouping
+        for ( Map.Entry<Instant, T> nextWindow : upscaledWindows.entrySet() )
+        {
+            Event<T> upscaled = Event.of( nextWindow.getKey(), nextWindow.getValue() );
+            builder.addEvent( upscaled );
+        }
+
         // Upscale each group, if possible
         for ( Map.Entry<Instant, SortedSet<Event<T>>> nextGroup : groups.entrySet() )
         {
@@ -1179,6 +1263,29 @@ class RescalingHelper
         return DID_NOT_DETECT_AN_ATTEMPT_TO_ACCUMULATE;
     }
 
+    /**
+     * Upscales the events of a time-series to values that end at prescribed times, for those intervals that can be
+     * upscaled without grouping the events, such as complete intervals within a regular time-series. The events within
+     * any other interval are grouped and upscaled separately.
+     *
+     * @param <T> the type of event value
+     */
+
+    @FunctionalInterface
+    interface WindowUpscaler<T>
+    {
+        /**
+         * Upscales the events whose valid times fall within each right-closed interval, <code>(end-period,end]</code>.
+         *
+         * @param events the events to upscale
+         * @param endsAt the times at which the intervals end
+         * @param period the period of each interval
+         * @return the upscaled values for the intervals that were upscaled, mapped by interval end time
+         */
+
+        Map<Instant, T> upscale( SortedSet<Event<T>> events, SortedSet<Instant> endsAt, Duration period );
+    }
+
     /**
      * A smaller class that wraps a collection of {@link EvaluationStatusMessage} as they relate to a particular group of
      * time-series events to rescale, plus a flag that indicates whether that group of time-series events can be
@@ -0,0 +1,454 @@
+package wres.datamodel.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedSet;
+
+import net.jcip.annotations.Immutable;
+
+import wres.datamodel.MissingValues;
+import wres.statistics.generated.TimeScale.TimeScaleFunction;
+
+/**
+ * <p>Upscales a regular time-series of {@link Double} values by sliding a window over the event values in a primitive
+ * array, which takes linear time in the number of events, regardless of the number of overlapping intervals. The
+ * {@link TimeScaleFunction#MEAN} and {@link TimeScaleFunction#TOTAL} are computed with a running sum and the
+ * {@link TimeScaleFunction#MINIMUM} and {@link TimeScaleFunction#MAXIMUM} with a monotonic deque.
+ *
+ * <p>Only those intervals that are complete are upscaled, i.e., intervals whose end times coincide with the regular
+ * time-step of the time-series and whose events all fall within the time-series. When the time-series is irregular,
+ * no intervals are upscaled. Any other intervals should be upscaled by grouping their events, which includes the
+ * validation of those groups. The upscaled values are the same as those obtained by grouping because a complete
+ * interval within a regular time-series always contains evenly spaced events.
+ *
+ * <p>When the upscaling is lenient, the non-finite values are ignored, otherwise the upscaled value is
+ * {@link MissingValues#DOUBLE} when the function is undefined for the values within the interval.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+final class SlidingWindowUpscaler implements RescalingHelper.WindowUpscaler<Double>
+{
+    /** The function to apply. */
+    private final TimeScaleFunction function;
+
+    /** Is true to ignore non-finite values, false to return {@link MissingValues#DOUBLE} when they are present. */
+    private final boolean isLenient;
+
+    /**
+     * Returns an instance.
+     *
+     * @param function the function to apply
+     * @param isLenient is true to ignore non-finite values, false otherwise
+     * @return an instance
+     * @throws NullPointerException if the function is null
+     * @throws IllegalArgumentException if the function is not supported
+     */
+
+    static SlidingWindowUpscaler of( TimeScaleFunction function, boolean isLenient )
+    {
+        return new SlidingWindowUpscaler( function, isLenient );
+    }
+
+    /**
+     * @param function the function
+     * @return true if the function is supported, otherwise false
+     */
+
+    static boolean isSupported( TimeScaleFunction function )
+    {
+        return function == TimeScaleFunction.MEAN
+               || function == TimeScaleFunction.TOTAL
+               || function == TimeScaleFunction.MINIMUM
+               || function == TimeScaleFunction.MAXIMUM;
+    }
+
+    @Override
+    public Map<Instant, Double> upscale( SortedSet<Event<Double>> events, SortedSet<Instant> endsAt, Duration period )
+    {
+        Objects.requireNonNull( events );
+        Objects.requireNonNull( endsAt );
+        Objects.requireNonNull( period );
+
+        if ( events.size() < 2 || endsAt.isEmpty() )
+        {
+            return Collections.emptyMap();
+        }
+
+        Iterator<Event<Double>> iterator = events.iterator();
+        Instant first = iterator.next()
+                                .getTime();
+        Duration timeStep = Duration.between( first,
+                                              iterator.next()
+                                                      .getTime() );
+
+        // The period must span two or more whole time-steps, otherwise grouping is needed to validate each interval
+        if ( period.compareTo( timeStep.multipliedBy( 2 ) ) < 0
+             || !period.minus( timeStep.multipliedBy( period.dividedBy( timeStep ) ) )
+                       .isZero() )
+        {
+            return Collections.emptyMap();
+        }
+
+        double[] values = SlidingWindowUpscaler.getValuesIfRegular( events, timeStep );
+
+        // Irregular
+        if ( Objects.isNull( values ) )
+        {
+            return Collections.emptyMap();
+        }
+
+        int width = Math.toIntExact( period.dividedBy( timeStep ) );
+        double[] upscaled = this.slide( values, width );
+
+        // Find the complete intervals
+        Map<Instant, Double> results = new HashMap<>();
+        for ( Instant nextEnd : endsAt )
+        {
+            Duration offset = Duration.between( first, nextEnd );
+            if ( offset.isNegative() )
+            {
+                continue;
+            }
+
+            long index = offset.dividedBy( timeStep );
+            if ( offset.equals( timeStep.multipliedBy( index ) )
+                 && index >= width - 1L
+                 && index < values.length )
+            {
+                results.put( nextEnd, upscaled[( int ) index] );
+            }
+        }
+
+        return Collections.unmodifiableMap( results );
+    }
+
+    /**
+     * Slides a window of the prescribed width over the values and applies the function to each window.
+     *
+     * @param values the values
+     * @param width the window width
+     * @return the upscaled values, indexed by the last value in each window
+     */
+
+    private double[] slide( double[] values, int width )
+    {
+        if ( this.function == TimeScaleFunction.MEAN || this.function == TimeScaleFunction.TOTAL )
+        {
+            return this.slideSum( values, width );
+        }
+
+        return this.slideExtreme( values, width );
+    }
+
+    /**
+     * Slides a window over the values using a compensated running sum.
+     *
+     * @param values the values
+     * @param width the window width
+     * @return the upscaled values, indexed by the last value in each window
+     */
+
+    private double[] slideSum( double[] values, int width )
+    {
+        double[] upscaled = new double[values.length];
+
+        // Neumaier summation avoids drift in the running sum
+        double sum = 0;
+        double compensation = 0;
+        int count = 0;
+        int excluded = 0;
+
+        for ( int i = 0; i < values.length; i++ )
+        {
+            double next = values[i];
+            if ( Double.isFinite( next ) )
+            {
+                double total = sum + next;
+                compensation += SlidingWindowUpscaler.getError( sum, next, total );
+                sum = total;
+                count++;
+            }
+            else
+            {
+                excluded++;
+            }
+
+            int leaving = i - width;
+            if ( leaving >= 0 )
+            {
+                double last = values[leaving];
+                if ( Double.isFinite( last ) )
+                {
+                    double total = sum - last;
+                    compensation += SlidingWindowUpscaler.getError( sum, -last, total );
+                    sum = total;
+                    count--;
+                }
+                else
+                {
+                    excluded--;
+                }
+            }
+
+            if ( i >= width - 1 )
+            {
+                upscaled[i] = this.getSumOrMean( sum + compensation, count, excluded );
+            }
+        }
+
+        return upscaled;
+    }
+
+    /**
+     * Slides a window over the values using a monotonic deque of indexes, whose values are increasing for a minimum
+     * and decreasing for a maximum.
+     *
+     * @param values the values
+     * @param width the window width
+     * @return the upscaled values, indexed by the last value in each window
+     */
+
+    private double[] slideExtreme( double[] values, int width )
+    {
+        double[] upscaled = new double[values.length];
+        boolean isMinimum = this.function == TimeScaleFunction.MINIMUM;
+
+        // Indexes only increase, so the deque fits in one array
+        int[] deque = new int[values.length];
+        int head = 0;
+        int tail = 0;
+        int count = 0;
+        int excluded = 0;
+
+        for ( int i = 0; i < values.length; i++ )
+        {
+            double next = values[i];
+            if ( this.isIncluded( next ) )
+            {
+                while ( tail > head && SlidingWindowUpscaler.isDominated( values[deque[tail - 1]], next, isMinimum ) )
+                {
+                    tail--;
+                }
+
+                deque[tail++] = i;
+                count++;
+            }
+            else
+            {
+                excluded++;
+            }
+
+            int leaving = i - width;
+            if ( leaving >= 0 )
+            {
+                if ( this.isIncluded( values[leaving] ) )
+                {
+                    count--;
+                }
+                else
+                {
+                    excluded--;
+                }
+
+                if ( tail > head && deque[head] == leaving )
+                {
+                    head++;
+                }
+            }
+
+            if ( i >= width - 1 )
+            {
+                upscaled[i] = this.getExtreme( values, deque, head, tail, count, excluded );
+            }
+        }
+
+        return upscaled;
+    }
+
+    /**
+     * @param sum the sum of the included values
+     * @param count the number of included values
+     * @param excluded the number of excluded values
+     * @return the sum or mean, else {@link MissingValues#DOUBLE}
+     */
+
+    private double getSumOrMean( double sum, int count, int excluded )
+    {
+        if ( this.isUndefined( count, excluded ) )
+        {
+            return MissingValues.DOUBLE;
+        }
+
+        double upscaled = sum;
+        if ( this.function == TimeScaleFunction.MEAN )
+        {
+            upscaled = sum / count;
+        }
+
+        return SlidingWindowUpscaler.getDoubleOrMissing( upscaled );
+    }
+
+    /**
+     * @param values the values
+     * @param deque the deque
+     * @param head the head of the deque
+     * @param tail the tail of the deque, exclusive
+     * @param count the number of included values
+     * @param excluded the number of excluded values
+     * @return the extreme value, else {@link MissingValues#DOUBLE}
+     */
+
+    private double getExtreme( double[] values, int[] deque, int head, int tail, int count, int excluded )
+    {
+        if ( this.isUndefined( count, excluded ) || tail == head )
+        {
+            return MissingValues.DOUBLE;
+        }
+
+        return SlidingWindowUpscaler.getDoubleOrMissing( values[deque[head]] );
+    }
+
+    /**
+     * @param count the number of included values
+     * @param excluded the number of excluded values
+     * @return true if the function is undefined for the window, otherwise false
+     */
+
+    private boolean isUndefined( int count, int excluded )
+    {
+        return count == 0 || ( !this.isLenient && excluded > 0 );
+    }
+
+    /**
+     * Determines whether a value is included in the running minimum or maximum. When upscaling leniently, all
+     * non-finite values are ignored. Otherwise, infinite values participate in the minimum or maximum and any
+     * not-a-number value renders the window undefined, consistent with {@link Math#min(double, double)} and
+     * {@link Math#max(double, double)}.
+     *
+     * @param value the value
+     * @return true if the value is included, otherwise false
+     */
+
+    private boolean isIncluded( double value )
+    {
+        if ( this.isLenient )
+        {
+            return Double.isFinite( value );
+        }
+
+        return !Double.isNaN( value );
+    }
+
+    /**
+     * @param existing the value at the tail of the deque
+     * @param next the next value
+     * @param isMinimum is true for a minimum, false for a maximum
+     * @return true if the existing value can never be the extreme value of a window that contains the next value
+     */
+
+    private static boolean isDominated( double existing, double next, boolean isMinimum )
+    {
+        if ( isMinimum )
+        {
+            return existing >= next;
+        }
+
+        return existing <= next;
+    }
+
+    /**
+     * @param sum the sum before adding
+     * @param added the value added
+     * @param total the sum after adding
+     * @return the rounding error of the addition
+     */
+
+    private static double getError( double sum, double added, double total )
+    {
+        if ( Math.abs( sum ) >= Math.abs( added ) )
+        {
+            return ( sum - total ) + added;
+        }
+
+        return ( added - total ) + sum;
+    }
+
+    /**
+     * @param value the value
+     * @return the value or {@link MissingValues#DOUBLE} if the value is not finite
+     */
+
+    private static double getDoubleOrMissing( double value )
+    {
+        if ( MissingValues.isMissingValue( value ) )
+        {
+            return MissingValues.DOUBLE;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the event values in a primitive array if the events are evenly spaced by the prescribed time-step.
+     *
+     * @param events the events
+     * @param timeStep the time-step
+     * @return the event values or null if the events are not evenly spaced
+     */
+
+    private static double[] getValuesIfRegular( SortedSet<Event<Double>> events, Duration timeStep )
+    {
+        double[] values = new double[events.size()];
+        Iterator<Event<Double>> iterator = events.iterator();
+        Event<Double> firstEvent = iterator.next();
+        values[0] = firstEvent.getValue();
+        Instant last = firstEvent.getTime();
+        int index = 1;
+
+        while ( iterator.hasNext() )
+        {
+            Event<Double> next = iterator.next();
+            Instant time = next.getTime();
+            if ( !Duration.between( last, time )
+                          .equals( timeStep ) )
+            {
+                return null; // NOSONAR
+            }
+
+            values[index++] = next.getValue();
+            last = time;
+        }
+
+        return values;
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param function the function to apply
+     * @param isLenient is true to ignore non-finite values, false otherwise
+     * @throws NullPointerException if the function is null
+     * @throws IllegalArgumentException if the function is not supported
+     */
+
+    private SlidingWindowUpscaler( TimeScaleFunction function, boolean isLenient )
+    {
+        Objects.requireNonNull( function );
+
+        if ( !SlidingWindowUpscaler.isSupported( function ) )
+        {
+            throw new IllegalArgumentException( "Unsupported function for sliding window upscaling: " + function
+                                                + "." );
+        }
+
+        this.function = function;
+        this.isLenient = isLenient;
+    }
+}
@@ -18,12 +18,18 @@ import org.slf4j.LoggerFactory;
 import net.jcip.annotations.Immutable;
 
 import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.types.Ensemble;
 
 import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
 
 /**
  * <p>A time-series contains a time-ordered set of {@link Event}, together with {@link TimeSeriesMetadata}.
  *
+ * <p>The events may be stored in a columnar representation, {@link EventColumns}, whereby the valid times and values
+ * are stored in primitive arrays and the {@link Event} are created on demand. A columnar representation is used when
+ * the events are supplied as {@link EventColumns} or when all events are {@link DoubleEvent} or {@link Ensemble} with
+ * the same labels and the valid times are representable in columnar form. See {@link #hasColumns()}.
+ *
  * @param <T> the type of time-series event value
  * @author James Brown
  * @author Jesse Bickel
@@ -85,6 +91,34 @@ public class TimeSeries<T>
         return this.events; // Rendered immutable on construction
     }
 
+    /**
+     * Returns the columnar representation of the events or <code>null</code> if {@link #hasColumns()} returns
+     * <code>false</code>.
+     *
+     * @return the columns or null
+     */
+
+    public EventColumns<T> getColumns()
+    {
+        if ( this.events instanceof EventColumns<T> columns )
+        {
+            return columns;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns <code>true</code> if the events are stored in a columnar representation, otherwise <code>false</code>.
+     *
+     * @return true if the events are columnar, otherwise false
+     */
+
+    public boolean hasColumns()
+    {
+        return this.events instanceof EventColumns<T>;
+    }
+
     /**
      * Returns the {@link TimeSeriesMetadata}. 
      *
@@ -189,6 +223,12 @@ public class TimeSeries<T>
 
         private TimeSeriesMetadata metadata;
 
+        /**
+         * The events in columnar form, which are used instead of the {@link #events} when set.
+         */
+
+        private EventColumns<T> columns;
+
         /**
          * Adds an event. This is the preferred method to build a time-series incrementally.
          *
@@ -202,6 +242,8 @@ public class TimeSeries<T>
         {
             Objects.requireNonNull( event );
 
+            this.unpackColumns();
+
             boolean successfullyAdded = this.events.add( event );
 
             if ( !successfullyAdded )
@@ -222,7 +264,8 @@ public class TimeSeries<T>
          * set of events. Otherwise, favor {@link #addEvent(Event)} to build incrementally. Do not build a set of 
          * events locally and then call this method, as it will be less performant than building incrementally with 
          * {@link #addEvent(Event)}, although more performant than using the same pattern with 
-         * {@link #addEvents(SortedSet)} (i.e., avoid both where possible, but especially the latter).
+         * {@link #addEvents(SortedSet)} (i.e., avoid both where possible, but especially the latter). When the events
+         * are {@link EventColumns}, they are adopted without copying.
          *
          * @param events the events
          * @return the builder
@@ -234,6 +277,17 @@ public class TimeSeries<T>
         {
             Objects.requireNonNull( events );
 
+            // Columnar events are guaranteed unique by valid time
+            if ( events instanceof EventColumns<T> eventColumns )
+            {
+                this.columns = eventColumns;
+                this.events = new TreeSet<>( Comparator.comparing( Event::getTime ) );
+
+                return this;
+            }
+
+            this.columns = null;
+
             // Must be as many instants as events, in keeping with the comparator used when this class builds the sorted
             // set, i.e., duplicates by valid time are not allowed
             Set<Instant> instants = events.stream()
@@ -299,6 +353,7 @@ public class TimeSeries<T>
         public Builder<T> clear()
         {
             this.events.clear();
+            this.columns = null;
             this.metadata = null;
 
             return this;
@@ -315,6 +370,114 @@ public class TimeSeries<T>
             return new TimeSeries<>( this );
         }
 
+        /**
+         * Moves any columnar events into the sorted set of events so that further events can be added.
+         */
+
+        private void unpackColumns()
+        {
+            if ( Objects.nonNull( this.columns ) )
+            {
+                SortedSet<Event<T>> unpacked = new TreeSet<>( Comparator.comparing( Event::getTime ) );
+                unpacked.addAll( this.columns );
+                this.events = unpacked;
+                this.columns = null;
+            }
+        }
+
+        /**
+         * Returns the events in columnar form when they were supplied in columnar form, when all events are
+         * {@link DoubleEvent} or when all event values are {@link Ensemble} with the same {@link Ensemble.Labels}, and
+         * the valid times can be represented in columnar form, otherwise <code>null</code>.
+         *
+         * @return the columns or null
+         */
+
+        private EventColumns<T> getColumns()
+        {
+            if ( Objects.nonNull( this.columns ) )
+            {
+                return this.columns;
+            }
+
+            if ( this.events.isEmpty() )
+            {
+                return null;
+            }
+
+            Event<T> first = this.events.first();
+            if ( first instanceof DoubleEvent )
+            {
+                return this.getDoubleColumns();
+            }
+
+            if ( first.getValue() instanceof Ensemble ensemble )
+            {
+                return this.getEnsembleColumns( ensemble.getLabels() );
+            }
+
+            return null;
+        }
+
+        /**
+         * Returns the events in columnar form when all events are {@link DoubleEvent} that can be represented in
+         * columnar form, otherwise <code>null</code>.
+         *
+         * @return the columns or null
+         */
+
+        @SuppressWarnings( "unchecked" )
+        private EventColumns<T> getDoubleColumns()
+        {
+            DoubleColumns.Builder builder = new DoubleColumns.Builder( this.events.size() );
+            for ( Event<T> next : this.events )
+            {
+                if ( !( next instanceof DoubleEvent doubleEvent )
+                     || !EventColumns.isRepresentable( doubleEvent.getTime() ) )
+                {
+                    return null;
+                }
+
+                builder.addEvent( doubleEvent.getTime()
+                                             .getEpochSecond(),
+                                  doubleEvent.getValue() );
+            }
+
+            // All events are double events, so the type is known
+            return ( EventColumns<T> ) builder.build();
+        }
+
+        /**
+         * Returns the events in columnar form when all event values are {@link Ensemble} with the prescribed labels and
+         * the valid times can be represented in columnar form, otherwise <code>null</code>. The columns share the
+         * prescribed labels.
+         *
+         * @param labels the labels
+         * @return the columns or null
+         */
+
+        @SuppressWarnings( "unchecked" )
+        private EventColumns<T> getEnsembleColumns( Ensemble.Labels labels )
+        {
+            EnsembleColumns.Builder builder = new EnsembleColumns.Builder( labels, this.events.size() );
+            for ( Event<T> next : this.events )
+            {
+                if ( !( next.getValue() instanceof Ensemble ensemble )
+                     || !labels.equals( ensemble.getLabels() )
+                     || !EventColumns.isRepresentable( next.getTime() ) )
+                {
+                    return null;
+                }
+
+                // The members are a copy, so adopt them
+                builder.addEvent( next.getTime()
+                                      .getEpochSecond(),
+                                  ensemble.getMembers() );
+            }
+
+            // All event values are ensembles, so the type is known
+            return ( EventColumns<T> ) builder.build();
+        }
     }
 
     /**
@@ -328,9 +491,19 @@ public class TimeSeries<T>
         // Do not use a comparator based on valid time here because this would lead to an inconsistency with equals 
         // when comparing the set of events based on valid times alone. This guard on duplicates by valid time is only 
         // required when building the time-series
-        SortedSet<Event<T>> localEvents = new TreeSet<>();
-        localEvents.addAll( builder.events );
-        this.events = Collections.unmodifiableSortedSet( localEvents );
+        EventColumns<T> columns = builder.getColumns();
+        if ( Objects.nonNull( columns ) )
+        {
+            // Immutable on construction
+            this.events = columns;
+        }
+        else
+        {
+            SortedSet<Event<T>> localEvents = new TreeSet<>();
+            localEvents.addAll( builder.events );
+            this.events = Collections.unmodifiableSortedSet( localEvents );
+        }
+
         this.metadata = builder.metadata;
 
         if ( Objects.isNull( this.metadata ) )
@@ -346,9 +519,12 @@ public class TimeSeries<T>
             Objects.requireNonNull( nextEntry.getValue() );
         }
 
-        // No null events
-        this.getEvents()
-            .forEach( Objects::requireNonNull );
+        // No null events, which is guaranteed for columnar events
+        if ( !this.hasColumns() )
+        {
+            this.getEvents()
+                .forEach( Objects::requireNonNull );
+        }
 
         // Log absence of timescale
         if ( Objects.isNull( this.getMetadata().getTimeScale() ) )
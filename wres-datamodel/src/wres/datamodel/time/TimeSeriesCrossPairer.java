@@ -4,12 +4,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -163,20 +167,19 @@ public class TimeSeriesCrossPairer<S, T>
                                                   List<TimeSeries<Q>> againstThese,
                                                   CrossPairMethod method )
     {
-        List<TimeSeries<P>> filterTheseMutable = new ArrayList<>( filterThese );
+        // Index the time-series to filter by reference time, rather than scanning them for each time-series to check
+        ReferenceTimeIndex<P> index = new ReferenceTimeIndex<>( filterThese, method );
         List<TimeSeries<P>> returnMe = new ArrayList<>();
 
         // Iterate through the time-series to filter
         for ( TimeSeries<Q> next : againstThese )
         {
-            // Find the nearest time-series by reference time
-            TimeSeries<P> nearest =
-                    this.getNearestByReferenceTimesWithMatchingValidTimes( filterTheseMutable, next, method );
+            ValidTimes validTimes = ValidTimes.of( next );
+            Set<Instant> validTimesToCheck = validTimes.times();
 
-            Set<Instant> validTimesToCheck = next.getEvents()
-                                                 .stream()
-                                                 .map( Event::getTime )
-                                                 .collect( Collectors.toSet() );
+            // Find the nearest time-series by reference time
+            Nearest nearestIndex = index.getNearest( next, validTimes );
+            TimeSeries<P> nearest = this.getNearestOrEmpty( index, nearestIndex, filterThese, next );
 
             SortedSet<Event<P>> events = nearest.getEvents()
                                                 .stream()
@@ -214,7 +217,7 @@ public class TimeSeriesCrossPairer<S, T>
                 returnMe.add( nextSeries );
 
                 // Use one time-series only once
-                filterTheseMutable.remove( nearest );
+                index.remove( nearestIndex.index() );
             }
             else
             {
@@ -226,73 +229,29 @@ public class TimeSeriesCrossPairer<S, T>
     }
 
     /**
-     * Finds a time-series within the list of time-series whose reference times are nearest to those of the 
-     * prescribed time-series and at least some valid times match exactly. Nearest means the first time-series with
-     * identical reference times, else the first time-series whose common reference times differ by the minimum total
-     * duration (first if there are several such cases).
+     * Returns the nearest time-series or an empty one if there is no nearest time-series.
      *
-     * @param <P> the type of data to be inspected
-     * @param <Q> the type of data to match against
+     * @param <P> the type of data to filter
+     * @param <Q> the type of data to filter against
+     * @param index the index of time-series in which to look
+     * @param nearest the nearest time-series to check
      * @param lookInHere the list in which to look
      * @param lookNearToMe the time-series whose reference times will be matched as closely as possible
-     * @param method the cross-pairing method
-     * @return the nearest time-series by reference times
-     * @throws PairingException if there are no reference times in any one time-series
+     * @return the nearest time-series or any empty one
      */
 
-    private <P, Q> TimeSeries<P> getNearestByReferenceTimesWithMatchingValidTimes( List<TimeSeries<P>> lookInHere,
-                                                                                   TimeSeries<Q> lookNearToMe,
-                                                                                   CrossPairMethod method )
+    private <P, Q> TimeSeries<P> getNearestOrEmpty( ReferenceTimeIndex<P> index,
+                                                    Nearest nearest,
+                                                    List<TimeSeries<P>> lookInHere,
+                                                    TimeSeries<Q> lookNearToMe )
     {
-        // Default to empty
-        TimeSeries<P> nearest = null;
-        Duration durationError = TimeWindowOuter.DURATION_MAX;
-
-        Map<ReferenceTimeType, Instant> refTimesToCheck = lookNearToMe.getReferenceTimes();
-
-        Set<Instant> validTimesToCheck = lookNearToMe.getEvents()
-                                                     .stream()
-                                                     .map( Event::getTime )
-                                                     .collect( Collectors.toSet() );
-
-        for ( TimeSeries<P> next : lookInHere )
+        TimeSeries<P> nearestSeries = null;
+        if ( nearest.index() >= 0 )
         {
-            // Some common valid times?
-            if ( next.getEvents()
-                     .stream()
-                     .anyMatch( e -> validTimesToCheck.contains( e.getTime() ) ) )
-            {
-                // Equivalent reference times?
-                if ( refTimesToCheck.equals( next.getReferenceTimes() ) )
-                {
-                    return next;
-                }
-
-                // Find the approximate nearest
-                // Find the total duration error for all reference times in the next series
-                // relative to the series to check
-                Duration nextError = this.getTotalDurationBetweenCommonTimeTypes( lookNearToMe,
-                                                                                  next,
-                                                                                  method );
-
-                // If the existing nearest is null, this is the new nearest
-                if ( Objects.isNull( nearest ) )
-                {
-                    nearest = next;
-                    durationError = nextError;
-                    continue;
-                }
-
-                // Is it nearer than the current nearest?
-                if ( nextError.compareTo( durationError ) < 0 )
-                {
-                    nearest = next;
-                    durationError = nextError;
-                }
-            }
+            nearestSeries = index.get( nearest.index() );
         }
 
-        return this.getNearestOrEmpty( nearest, durationError, lookInHere, lookNearToMe );
+        return this.getNearestOrEmpty( nearestSeries, nearest.error(), lookInHere, lookNearToMe );
     }
 
     /**
@@ -341,6 +300,8 @@ public class TimeSeriesCrossPairer<S, T>
     /**
      * Returns the total absolute duration between the common reference time types in each input.
      *
+     * @param <P> the type of data in the first time-series
+     * @param <Q> the type of data in the second time-series
      * @param first the first time-series
      * @param second the second time-series
      * @param method the cross-pairing method
@@ -348,9 +309,9 @@ public class TimeSeriesCrossPairer<S, T>
      * @throws PairingException if there are no reference times in either input
      */
 
-    private <P, Q> Duration getTotalDurationBetweenCommonTimeTypes( TimeSeries<P> first,
-                                                                    TimeSeries<Q> second,
-                                                                    CrossPairMethod method )
+    private static <P, Q> Duration getTotalDurationBetweenCommonTimeTypes( TimeSeries<P> first,
+                                                                           TimeSeries<Q> second,
+                                                                           CrossPairMethod method )
     {
         Map<ReferenceTimeType, Instant> firstTimes = first.getReferenceTimes();
         Map<ReferenceTimeType, Instant> secondTimes = second.getReferenceTimes();
@@ -410,4 +371,410 @@ public class TimeSeriesCrossPairer<S, T>
 
         return returnMe;
     }
+
+    /**
+     * The position of the nearest time-series within a {@link ReferenceTimeIndex} and the total duration between its
+     * reference times and the reference times of the time-series to match.
+     *
+     * @param index the index of the nearest time-series or -1 if there is no nearest time-series
+     * @param error the total duration error
+     */
+
+    private record Nearest( int index, Duration error ) {}
+
+    /**
+     * The valid times of a time-series to match, together with their bounds.
+     *
+     * @param times the valid times
+     * @param earliest the earliest valid time or null if there are no valid times
+     * @param latest the latest valid time or null if there are no valid times
+     */
+
+    private record ValidTimes( Set<Instant> times, Instant earliest, Instant latest )
+    {
+        /**
+         * Creates an instance from a time-series.
+         * @param <Q> the type of time-series data
+         * @param series the time-series
+         * @return the valid times
+         */
+
+        private static <Q> ValidTimes of( TimeSeries<Q> series )
+        {
+            Set<Instant> times = series.getEvents()
+                                       .stream()
+                                       .map( Event::getTime )
+                                       .collect( Collectors.toSet() );
+
+            if ( times.isEmpty() )
+            {
+                return new ValidTimes( times, null, null );
+            }
+
+            return new ValidTimes( times,
+                                   series.getEvents()
+                                         .first()
+                                         .getTime(),
+                                   series.getEvents()
+                                         .last()
+                                         .getTime() );
+        }
+    }
+
+    /**
+     * <p>An index of time-series to filter, which supports the discovery of the nearest time-series by reference time
+     * without scanning every time-series. Time-series that have been used are marked as removed, rather than being
+     * removed from a list.
+     *
+     * <p>When each time-series has exactly one reference time and, for {@link CrossPairMethod#EXACT}, all reference
+     * times have the same type, then the time-series are indexed by reference time and the nearest time-series is found
+     * by searching outwards from the reference time to match. Otherwise, the time-series are scanned in order. In both
+     * cases, the nearest time-series is identical to that found by scanning in order: the first time-series with
+     * identical reference times, else the first time-series whose reference times differ by the minimum total
+     * duration, considering only time-series that share one or more valid times with the time-series to match.
+     *
+     * @param <P> the type of time-series data
+     */
+
+    private static class ReferenceTimeIndex<P>
+    {
+        /** The time-series in order. */
+        private final List<TimeSeries<P>> series;
+
+        /** The cross-pairing method. */
+        private final CrossPairMethod method;
+
+        /** Whether each time-series has been removed. */
+        private final boolean[] removed;
+
+        /** The earliest valid time of each time-series or null if the time-series is empty. */
+        private final Instant[] earliestValidTimes;
+
+        /** The latest valid time of each time-series or null if the time-series is empty. */
+        private final Instant[] latestValidTimes;
+
+        /** The time-series positions by reference time, in order, when each time-series has one reference time. */
+        private final NavigableMap<Instant, List<Integer>> byReferenceTime;
+
+        /** The common reference time type when {@link #byReferenceTime} is available. */
+        private final ReferenceTimeType referenceTimeType;
+
+        /**
+         * Returns the time-series at the prescribed position.
+         * @param index the position
+         * @return the time-series
+         */
+
+        private TimeSeries<P> get( int index )
+        {
+            return this.series.get( index );
+        }
+
+        /**
+         * Removes the time-series at the prescribed position.
+         * @param index the position
+         */
+
+        private void remove( int index )
+        {
+            this.removed[index] = true;
+        }
+
+        /**
+         * Finds the nearest time-series.
+         *
+         * @param <Q> the type of data to match against
+         * @param lookNearToMe the time-series whose reference times will be matched as closely as possible
+         * @param validTimesToCheck the valid times of the time-series to match
+         * @return the nearest time-series
+         * @throws PairingException if there are no reference times in any one time-series
+         */
+
+        private <Q> Nearest getNearest( TimeSeries<Q> lookNearToMe, ValidTimes validTimesToCheck )
+        {
+            Map<ReferenceTimeType, Instant> refTimesToCheck = lookNearToMe.getReferenceTimes();
+
+            if ( Objects.nonNull( this.byReferenceTime )
+                 && refTimesToCheck.size() == 1
+                 && ( this.method == CrossPairMethod.FUZZY
+                      || ( Objects.nonNull( this.referenceTimeType )
+                           && refTimesToCheck.containsKey( this.referenceTimeType ) ) ) )
+            {
+                return this.getNearestByReferenceTime( refTimesToCheck, validTimesToCheck );
+            }
+
+            return this.getNearestByScanning( lookNearToMe, validTimesToCheck );
+        }
+
+        /**
+         * Finds the nearest time-series by searching outwards from the single reference time to match.
+         *
+         * @param refTimesToCheck the reference times to match
+         * @param validTimesToCheck the valid times to match
+         * @return the nearest time-series
+         */
+
+        private Nearest getNearestByReferenceTime( Map<ReferenceTimeType, Instant> refTimesToCheck,
+                                                   ValidTimes validTimesToCheck )
+        {
+            Map.Entry<ReferenceTimeType, Instant> refTime = refTimesToCheck.entrySet()
+                                                                           .iterator()
+                                                                           .next();
+            Instant time = refTime.getValue();
+
+            // Identical reference times come first, else the first with a zero duration error
+            List<Integer> atTime = this.byReferenceTime.get( time );
+            if ( Objects.nonNull( atTime ) )
+            {
+                int firstMatched = -1;
+                for ( Integer next : atTime )
+                {
+                    if ( this.hasCommonValidTimes( next, validTimesToCheck ) )
+                    {
+                        if ( refTimesToCheck.equals( this.series.get( next )
+                                                                .getReferenceTimes() ) )
+                        {
+                            return new Nearest( next, Duration.ZERO );
+                        }
+
+                        if ( firstMatched < 0 )
+                        {
+                            firstMatched = next;
+                        }
+                    }
+                }
+
+                if ( firstMatched >= 0 )
+                {
+                    return new Nearest( firstMatched, Duration.ZERO );
+                }
+            }
+
+            // Search outwards, considering equidistant reference times together
+            Iterator<Map.Entry<Instant, List<Integer>>> earlier = this.byReferenceTime.headMap( time, false )
+                                                                                      .descendingMap()
+                                                                                      .entrySet()
+                                                                                      .iterator();
+            Iterator<Map.Entry<Instant, List<Integer>>> later = this.byReferenceTime.tailMap( time, false )
+                                                                                    .entrySet()
+                                                                                    .iterator();
+            Map.Entry<Instant, List<Integer>> nextEarlier = earlier.hasNext() ? earlier.next() : null;
+            Map.Entry<Instant, List<Integer>> nextLater = later.hasNext() ? later.next() : null;
+
+            while ( Objects.nonNull( nextEarlier ) || Objects.nonNull( nextLater ) )
+            {
+                Duration earlierError = Objects.isNull( nextEarlier ) ? null
+                                                                      : Duration.between( nextEarlier.getKey(), time );
+                Duration laterError = Objects.isNull( nextLater ) ? null
+                                                                  : Duration.between( time, nextLater.getKey() );
+
+                Duration error;
+                if ( Objects.isNull( laterError )
+                     || ( Objects.nonNull( earlierError ) && earlierError.compareTo( laterError ) <= 0 ) )
+                {
+                    error = earlierError;
+                }
+                else
+                {
+                    error = laterError;
+                }
+
+                int nearest = Integer.MAX_VALUE;
+                if ( Objects.nonNull( nextEarlier ) && error.equals( earlierError ) )
+                {
+                    nearest = Math.min( nearest, this.getFirstWithCommonValidTimes( nextEarlier.getValue(),
+                                                                                    validTimesToCheck ) );
+                    nextEarlier = earlier.hasNext() ? earlier.next() : null;
+                }
+
+                if ( Objects.nonNull( nextLater ) && error.equals( laterError ) )
+                {
+                    nearest = Math.min( nearest, this.getFirstWithCommonValidTimes( nextLater.getValue(),
+                                                                                    validTimesToCheck ) );
+                    nextLater = later.hasNext() ? later.next() : null;
+                }
+
+                if ( nearest < Integer.MAX_VALUE )
+                {
+                    return new Nearest( nearest, error );
+                }
+            }
+
+            return new Nearest( -1, TimeWindowOuter.DURATION_MAX );
+        }
+
+        /**
+         * Finds the nearest time-series by scanning the time-series in order.
+         *
+         * @param <Q> the type of data to match against
+         * @param lookNearToMe the time-series whose reference times will be matched as closely as possible
+         * @param validTimesToCheck the valid times to match
+         * @return the nearest time-series
+         * @throws PairingException if there are no reference times in any one time-series
+         */
+
+        private <Q> Nearest getNearestByScanning( TimeSeries<Q> lookNearToMe, ValidTimes validTimesToCheck )
+        {
+            int nearest = -1;
+            Duration durationError = TimeWindowOuter.DURATION_MAX;
+
+            Map<ReferenceTimeType, Instant> refTimesToCheck = lookNearToMe.getReferenceTimes();
+
+            for ( int i = 0; i < this.series.size(); i++ )
+            {
+                // Some common valid times?
+                if ( this.hasCommonValidTimes( i, validTimesToCheck ) )
+                {
+                    TimeSeries<P> next = this.series.get( i );
+
+                    // Equivalent reference times?
+                    if ( refTimesToCheck.equals( next.getReferenceTimes() ) )
+                    {
+                        return new Nearest( i, Duration.ZERO );
+                    }
+
+                    // Find the approximate nearest
+                    // Find the total duration error for all reference times in the next series
+                    // relative to the series to check
+                    Duration nextError = TimeSeriesCrossPairer.getTotalDurationBetweenCommonTimeTypes( lookNearToMe,
+                                                                                                      next,
+                                                                                                      this.method );
+
+                    // Is it nearer than the current nearest or the first?
+                    if ( nearest < 0 || nextError.compareTo( durationError ) < 0 )
+                    {
+                        nearest = i;
+                        durationError = nextError;
+                    }
+                }
+            }
+
+            return new Nearest( nearest, durationError );
+        }
+
+        /**
+         * Returns the first time-series in the list of positions that has not been removed and has one or more common
+         * valid times, otherwise {@link Integer#MAX_VALUE}.
+         * @param positions the positions in order
+         * @param validTimesToCheck the valid times
+         * @return the first position with common valid times or {@link Integer#MAX_VALUE}
+         */
+
+        private int getFirstWithCommonValidTimes( List<Integer> positions, ValidTimes validTimesToCheck )
+        {
+            for ( Integer next : positions )
+            {
+                if ( this.hasCommonValidTimes( next, validTimesToCheck ) )
+                {
+                    return next;
+                }
+            }
+
+            return Integer.MAX_VALUE;
+        }
+
+        /**
+         * Returns <code>true</code> if the time-series at the prescribed position has not been removed and contains
+         * one or more of the prescribed valid times, otherwise <code>false</code>.
+         * @param index the position
+         * @param validTimesToCheck the valid times
+         * @return true if there are common valid times, otherwise false
+         */
+
+        private boolean hasCommonValidTimes( int index, ValidTimes validTimesToCheck )
+        {
+            Instant earliest = this.earliestValidTimes[index];
+            Instant latest = this.latestValidTimes[index];
+
+            // Removed or empty or no overlapping valid times?
+            if ( this.removed[index]
+                 || Objects.isNull( earliest )
+                 || Objects.isNull( validTimesToCheck.earliest() )
+                 || latest.isBefore( validTimesToCheck.earliest() )
+                 || earliest.isAfter( validTimesToCheck.latest() ) )
+            {
+                return false;
+            }
+
+            TimeSeries<P> next = this.series.get( index );
+            Set<Instant> times = validTimesToCheck.times();
+
+            // Fewer times to check than events? Then look up the times to check
+            if ( next.hasColumns()
+                 && times.size() < next.getEvents()
+                                       .size() )
+            {
+                EventColumns<P> columns = next.getColumns();
+                return times.stream()
+                            .anyMatch( e -> columns.indexOf( e ) >= 0 );
+            }
+
+            return next.getEvents()
+                       .stream()
+                       .anyMatch( e -> times.contains( e.getTime() ) );
+        }
+
+        /**
+         * Creates an instance.
+         * @param series the time-series to index
+         * @param method the cross-pairing method
+         */
+
+        private ReferenceTimeIndex( List<TimeSeries<P>> series, CrossPairMethod method )
+        {
+            this.series = List.copyOf( series );
+            this.method = method;
+            this.removed = new boolean[series.size()];
+            this.earliestValidTimes = new Instant[series.size()];
+            this.latestValidTimes = new Instant[series.size()];
+
+            NavigableMap<Instant, List<Integer>> byTime = new TreeMap<>();
+            Set<ReferenceTimeType> types = EnumSet.noneOf( ReferenceTimeType.class );
+            boolean singleReferenceTimes = true;
+
+            for ( int i = 0; i < this.series.size(); i++ )
+            {
+                TimeSeries<P> next = this.series.get( i );
+                if ( !next.getEvents()
+                          .isEmpty() )
+                {
+                    this.earliestValidTimes[i] = next.getEvents()
+                                                     .first()
+                                                     .getTime();
+                    this.latestValidTimes[i] = next.getEvents()
+                                                   .last()
+                                                   .getTime();
+                }
+
+                Map<ReferenceTimeType, Instant> referenceTimes = next.getReferenceTimes();
+                if ( referenceTimes.size() == 1 )
+                {
+                    Map.Entry<ReferenceTimeType, Instant> referenceTime = referenceTimes.entrySet()
+                                                                                       .iterator()
+                                                                                       .next();
+                    types.add( referenceTime.getKey() );
+                    byTime.computeIfAbsent( referenceTime.getValue(), k -> new ArrayList<>() )
+                          .add( i );
+                }
+                else
+                {
+                    singleReferenceTimes = false;
+                }
+            }
+
+            // Exact matching requires a common type of reference time to search by reference time alone
+            if ( singleReferenceTimes
+                 && ( method == CrossPairMethod.FUZZY || types.size() <= 1 ) )
+            {
+                this.byReferenceTime = byTime;
+                this.referenceTimeType = types.isEmpty() ? null : types.iterator()
+                                                                       .next();
+            }
+            else
+            {
+                this.byReferenceTime = null;
+                this.referenceTimeType = null;
+            }
+        }
+    }
 }
@@ -36,6 +36,10 @@ import wres.datamodel.messages.EvaluationStatusMessage;
  * (0Z,6Z,12Z,18Z,0Z] to form an average that ends at 0Z and spans a period of PT24H, the four-point average is taken 
  * for the values at 6Z, 12Z, 18Z and 0Z and not the five-point average. Indeed, if these values represented an average 
  * over PT1H, rather than instantaneous values, then the five-point average would consider a PT25H period.
+ *
+ * <p>When the time-series is regular, the complete intervals are upscaled by sliding a window over the event values,
+ * which avoids grouping the same events once per overlapping interval. See {@link SlidingWindowUpscaler}. The events
+ * within any other intervals are grouped.
  * 
  * @author James Brown
  */
@@ -144,10 +148,18 @@ public class TimeSeriesOfDoubleUpscaler implements TimeSeriesUpscaler<Double>
             timeScaleToUse = TimeScaleOuter.of( desiredTimeScale.getPeriod(), TimeScaleFunction.MEAN );
         }
 
-        // Rescale
-        ToDoubleFunction<SortedSet<Event<Double>>> upscaler = this.getDoubleUpscaler( timeScaleToUse.getFunction() );
+        // Rescale, sliding a window over the complete intervals of a regular time-series where possible
+        TimeScaleFunction function = timeScaleToUse.getFunction();
+        ToDoubleFunction<SortedSet<Event<Double>>> upscaler = this.getDoubleUpscaler( function );
+        SlidingWindowUpscaler windowUpscaler = null;
+        if ( SlidingWindowUpscaler.isSupported( function ) )
+        {
+            windowUpscaler = SlidingWindowUpscaler.of( function, this.isLenient() );
+        }
+
         RescaledTimeSeriesPlusValidation<Double> rescaled = RescalingHelper.upscale( timeSeries,
                                                                                      upscaler::applyAsDouble,
+                                                                                     windowUpscaler,
                                                                                      timeScaleToUse,
                                                                                      existingUnit,
                                                                                      desiredUnit,
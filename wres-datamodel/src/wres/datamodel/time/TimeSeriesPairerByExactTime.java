@@ -150,6 +150,12 @@ public class TimeSeriesPairerByExactTime<L, R> implements TimeSeriesPairer<L, R>
                                             .build();
         }
 
+        // Columnar events on both sides? Then merge the sorted valid times without mapping
+        if ( left.hasColumns() && right.hasColumns() )
+        {
+            return this.pairColumns( left, right, referenceTimes );
+        }
+
         // Map the left admissible values by valid time
         Map<Instant, Event<L>> mapper = new HashMap<>();
         left.getEvents()
@@ -197,6 +203,90 @@ public class TimeSeriesPairerByExactTime<L, R> implements TimeSeriesPairer<L, R>
         return builder.build();
     }
 
+    /**
+     * Pairs two time-series whose events are both stored in columnar form by merging their sorted valid times in one
+     * pass.
+     *
+     * @param left the left time-series
+     * @param right the right time-series
+     * @param referenceTimes the reference times for the paired time-series
+     * @return the paired time-series
+     */
+
+    private TimeSeries<Pair<L, R>> pairColumns( TimeSeries<L> left,
+                                                TimeSeries<R> right,
+                                                Map<ReferenceTimeType, Instant> referenceTimes )
+    {
+        EventColumns<L> leftColumns = left.getColumns();
+        EventColumns<R> rightColumns = right.getColumns();
+
+        TimeSeriesMetadata metadata =
+                new TimeSeriesMetadata.Builder( left.getMetadata() ).setReferenceTimes( referenceTimes )
+                                                                    .build();
+        TimeSeries.Builder<Pair<L, R>> builder = new TimeSeries.Builder<Pair<L, R>>().setMetadata( metadata );
+
+        int leftInadmissible = 0;
+        int rightInadmissible = 0;
+        int leftIndex = 0;
+        int leftSize = leftColumns.size();
+
+        for ( int rightIndex = 0; rightIndex < rightColumns.size(); rightIndex++ )
+        {
+            long rightTime = rightColumns.getEpochSecond( rightIndex );
+
+            // Advance the left to the right valid time, counting any inadmissible values skipped
+            while ( leftIndex < leftSize && leftColumns.getEpochSecond( leftIndex ) < rightTime )
+            {
+                if ( !this.leftAdmissibleValue.test( leftColumns.getValue( leftIndex ) ) )
+                {
+                    leftInadmissible++;
+                }
+
+                leftIndex++;
+            }
+
+            R rightValue = rightColumns.getValue( rightIndex );
+            boolean rightAdmissible = this.rightAdmissibleValue.test( rightValue );
+
+            if ( !rightAdmissible )
+            {
+                rightInadmissible++;
+            }
+
+            // Matching valid time?
+            if ( leftIndex < leftSize && leftColumns.getEpochSecond( leftIndex ) == rightTime )
+            {
+                L leftValue = leftColumns.getValue( leftIndex );
+                boolean leftAdmissible = this.leftAdmissibleValue.test( leftValue );
+
+                if ( !leftAdmissible )
+                {
+                    leftInadmissible++;
+                }
+                else if ( rightAdmissible )
+                {
+                    Pair<L, R> pair = Pair.of( leftValue, rightValue );
+                    builder.addEvent( Event.of( rightColumns.getTime( rightIndex ), pair ) );
+                }
+
+                leftIndex++;
+            }
+        }
+
+        // Count any remaining inadmissible values on the left
+        for ( ; leftIndex < leftSize; leftIndex++ )
+        {
+            if ( !this.leftAdmissibleValue.test( leftColumns.getValue( leftIndex ) ) )
+            {
+                leftInadmissible++;
+            }
+        }
+
+        this.logInadmissibleCases( left, right, leftInadmissible, rightInadmissible );
+
+        return builder.build();
+    }
+
     /**
      * Validates the time-scale information for pairing.
      * 
@@ -1,5 +1,6 @@
 package wres.datamodel.time;
 
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -388,41 +389,154 @@ public final class TimeSeriesSlicer
             return builder.build();
         }
 
+        // Columnar events? The events within the window form a contiguous range, so search for the range and return a
+        // view without copying
+        if ( input.hasColumns() )
+        {
+            EventColumns<T> columns = input.getColumns();
+            Pair<Instant, Instant> bounds = TimeSeriesSlicer.getValidTimeBounds( timeWindow, referenceTimes );
+            int start = columns.getUpperBound( bounds.getLeft() );
+            int stop = Math.max( start, columns.getUpperBound( bounds.getRight() ) );
+
+            return builder.setEvents( columns.subColumns( start, stop ) )
+                          .build();
+        }
+
         // Iterate through the events and include events within the window
         for ( Event<T> nextEvent : input.getEvents() )
         {
-            Instant nextValidTime = nextEvent.getTime();
-            boolean isContained = TimeSeriesSlicer.isContained( nextValidTime,
-                                                                timeWindow.getEarliestValidTime(),
-                                                                timeWindow.getLatestValidTime() );
-            // Within valid time bounds
-            if ( isContained )
+            // Contained?
+            if ( TimeSeriesSlicer.isContained( nextEvent.getTime(), timeWindow, referenceTimes ) )
             {
-                // Add an event if the lead duration with respect to all reference times
-                // falls within the time window or there are no reference times
-                for ( Instant nextReference : referenceTimes.values() )
-                {
-                    Duration leadDuration = Duration.between( nextReference, nextValidTime );
+                builder.addEvent( nextEvent );
+            }
+        }
 
-                    // Inside the right-closed period?
-                    if ( !TimeSeriesSlicer.isContained( leadDuration,
-                                                        timeWindow.getEarliestLeadDuration(),
-                                                        timeWindow.getLatestLeadDuration() ) )
-                    {
-                        isContained = false;
-                        break;
-                    }
-                }
+        return builder.build();
+    }
+
+    /**
+     * Returns the lower exclusive and upper inclusive bounds on the valid times that are contained by the time window,
+     * in keeping with {@link #isContained(Instant, TimeWindowOuter, Map)}. The lead duration bounds are converted to
+     * valid time bounds for each reference time and all bounds are intersected. A period whose lower bound is not
+     * earlier than its upper bound contains its upper bound only.
+     *
+     * @param timeWindow the time window
+     * @param referenceTimes the reference times to consider when calculating lead durations
+     * @return the lower exclusive and upper inclusive bounds on the valid times
+     */
+
+    private static Pair<Instant, Instant> getValidTimeBounds( TimeWindowOuter timeWindow,
+                                                              Map<ReferenceTimeType, Instant> referenceTimes )
+    {
+        Instant upper = timeWindow.getLatestValidTime();
+        Instant lower = TimeSeriesSlicer.getLowerExclusive( timeWindow.getEarliestValidTime(), upper );
+
+        Duration earliestLead = timeWindow.getEarliestLeadDuration();
+        Duration latestLead = timeWindow.getLatestLeadDuration();
+
+        for ( Instant nextReference : referenceTimes.values() )
+        {
+            Instant nextUpper = TimeSeriesSlicer.plus( nextReference, latestLead );
+            Instant nextLower = TimeSeriesSlicer.plus( nextReference, earliestLead );
+
+            if ( earliestLead.compareTo( latestLead ) >= 0 )
+            {
+                nextLower = TimeSeriesSlicer.getLowerExclusive( nextUpper, nextUpper );
             }
 
-            // Contained?
-            if ( isContained )
+            if ( nextLower.isAfter( lower ) )
             {
-                builder.addEvent( nextEvent );
+                lower = nextLower;
+            }
+
+            if ( nextUpper.isBefore( upper ) )
+            {
+                upper = nextUpper;
             }
         }
 
-        return builder.build();
+        return Pair.of( lower, upper );
+    }
+
+    /**
+     * Returns the lower exclusive bound of a right-closed period, which is the prescribed lower bound when it is earlier
+     * than the upper bound, otherwise the instant immediately before the upper bound, because such a period contains
+     * its upper bound only.
+     *
+     * @param lowerExclusive the lower exclusive bound
+     * @param upperInclusive the upper inclusive bound
+     * @return the adjusted lower exclusive bound
+     */
+
+    private static Instant getLowerExclusive( Instant lowerExclusive, Instant upperInclusive )
+    {
+        if ( lowerExclusive.isBefore( upperInclusive ) || upperInclusive.equals( Instant.MIN ) )
+        {
+            return lowerExclusive;
+        }
+
+        return upperInclusive.minusNanos( 1 );
+    }
+
+    /**
+     * Adds a duration to an instant, saturating at {@link Instant#MIN} or {@link Instant#MAX} on overflow.
+     *
+     * @param instant the instant
+     * @param duration the duration
+     * @return the sum
+     */
+
+    private static Instant plus( Instant instant, Duration duration )
+    {
+        try
+        {
+            return instant.plus( duration );
+        }
+        catch ( DateTimeException | ArithmeticException e )
+        {
+            return duration.isNegative() ? Instant.MIN : Instant.MAX;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the valid time is within the valid time bounds of the time window and the lead
+     * duration with respect to all reference times is within the lead duration bounds of the time window, otherwise
+     * <code>false</code>. The bounds are right-closed.
+     *
+     * @param validTime the valid time
+     * @param timeWindow the time window
+     * @param referenceTimes the reference times to consider when calculating lead durations
+     * @return true if the valid time is contained, otherwise false
+     */
+
+    private static boolean isContained( Instant validTime,
+                                        TimeWindowOuter timeWindow,
+                                        Map<ReferenceTimeType, Instant> referenceTimes )
+    {
+        boolean isContained = TimeSeriesSlicer.isContained( validTime,
+                                                            timeWindow.getEarliestValidTime(),
+                                                            timeWindow.getLatestValidTime() );
+        // Within valid time bounds
+        if ( isContained )
+        {
+            // Contained if the lead duration with respect to all reference times
+            // falls within the time window or there are no reference times
+            for ( Instant nextReference : referenceTimes.values() )
+            {
+                Duration leadDuration = Duration.between( nextReference, validTime );
+
+                // Inside the right-closed period?
+                if ( !TimeSeriesSlicer.isContained( leadDuration,
+                                                    timeWindow.getEarliestLeadDuration(),
+                                                    timeWindow.getLatestLeadDuration() ) )
+                {
+                    return false;
+                }
+            }
+        }
+
+        return isContained;
     }
 
     /**
@@ -1567,6 +1681,17 @@ public final class TimeSeriesSlicer
         TimeSeries.Builder<S> snippedSeries = new TimeSeries.Builder<>();
         snippedSeries.setMetadata( toSnip.getMetadata() );
 
+        // Columnar events? Then return a view of the events between the bounds, inclusive
+        if ( toSnip.hasColumns() )
+        {
+            EventColumns<S> columns = toSnip.getColumns();
+            int start = columns.getLowerBound( lower );
+            int stop = Math.max( start, columns.getUpperBound( upper ) );
+
+            return snippedSeries.setEvents( columns.subColumns( start, stop ) )
+                                .build();
+        }
+
         // Iterate the tailset of events that starts with a valid time at the lower bound
         SortedSet<Event<S>> toSnipEvents = toSnip.getEvents();
         SortedSet<Event<S>> tailSet = toSnipEvents;
@@ -1780,7 +1905,7 @@ public final class TimeSeriesSlicer
      * @return true if the time is within (lowerExclusive, upperInclusive], otherwise false
      */
 
-    private static boolean isContained( Instant time, Instant lowerExclusive, Instant upperInclusive )
+    static boolean isContained( Instant time, Instant lowerExclusive, Instant upperInclusive )
     {
         Objects.requireNonNull( time );
 
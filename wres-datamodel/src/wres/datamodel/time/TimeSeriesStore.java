@@ -1,7 +1,13 @@
 package wres.datamodel.time;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
@@ -16,9 +22,13 @@ import net.jcip.annotations.Immutable;
 import wres.config.yaml.components.DatasetOrientation;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.space.Feature;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
 
 /**
- * Store of {@link TimeSeries} that is built incrementally with a {@link Builder}.
+ * Store of {@link TimeSeries} that is built incrementally with a {@link Builder}. On construction, the time-series are
+ * indexed by orientation, feature and variable name, together with the valid time and reference time bounds of each
+ * time-series, so that each retrieval only considers candidate time-series and skips any time-series whose events
+ * fall entirely outside a prescribed time window.
  * @author James Brown
  */
 
@@ -52,6 +62,12 @@ public class TimeSeriesStore
     /** Baseline-ish time-series of {@link Ensemble}. **/
     private final List<TimeSeries<Ensemble>> baselineEnsembleSeries;
 
+    /** Index of time-series of {@link Double} by orientation. */
+    private final Map<DatasetOrientation, SeriesIndex<Double>> singleValuedIndex;
+
+    /** Index of time-series of {@link Ensemble} by orientation. */
+    private final Map<DatasetOrientation, SeriesIndex<Ensemble>> ensembleIndex;
+
     /**
      * Returns all single-valued series by feature.
      * @param orientation the orientation
@@ -69,18 +85,10 @@ public class TimeSeriesStore
         Objects.requireNonNull( orientation );
         Objects.requireNonNull( features );
 
-        return TimeSeriesStore.getSingleValuedStore( this.leftSingleValuedSeries,
-                                                     this.rightSingleValuedSeries,
-                                                     this.baselineSingleValuedSeries,
-                                                     this.covariateSingleValuedSeries,
-                                                     orientation )
-                              .stream()
-                              .filter( next -> features.contains( next.getMetadata()
-                                                                      .getFeature() )
-                                               && ( Objects.isNull( variableName )
-                                                    || Objects.equals( next.getMetadata()
-                                                                           .getVariableName(),
-                                                                       variableName ) ) );
+        return this.singleValuedIndex.get( orientation )
+                                     .get( features, variableName )
+                                     .stream()
+                                     .map( IndexedSeries::series );
     }
 
     /**
@@ -136,19 +144,11 @@ public class TimeSeriesStore
         Objects.requireNonNull( orientation );
         Objects.requireNonNull( features );
 
-        return TimeSeriesStore.getSingleValuedStore( this.leftSingleValuedSeries,
-                                                     this.rightSingleValuedSeries,
-                                                     this.baselineSingleValuedSeries,
-                                                     this.covariateSingleValuedSeries,
-                                                     orientation )
-                              .stream()
-                              .filter( next -> features.contains( next.getMetadata()
-                                                                      .getFeature() )
-                                               && ( Objects.isNull( variableName )
-                                                    || Objects.equals( next.getMetadata()
-                                                                           .getVariableName(),
-                                                                       variableName ) ) )
-                              .map( next -> TimeSeriesSlicer.filter( next, timeWindow ) );
+        return this.singleValuedIndex.get( orientation )
+                                     .get( features, variableName )
+                                     .stream()
+                                     .filter( next -> next.mayIntersect( timeWindow ) )
+                                     .map( next -> TimeSeriesSlicer.filter( next.series(), timeWindow ) );
     }
 
     /**
@@ -171,20 +171,11 @@ public class TimeSeriesStore
         Objects.requireNonNull( orientation );
         Objects.requireNonNull( features );
 
-        return TimeSeriesStore.getEnsembleStore( this.leftEnsembleSeries,
-                                                 this.rightEnsembleSeries,
-                                                 this.baselineEnsembleSeries,
-                                                 this.covariateEnsembleSeries,
-                                                 orientation )
-                              .stream()
-                              .filter( next -> features.contains( next.getMetadata()
-                                                                      .getFeature() )
-                                               && ( Objects.isNull( variableName )
-                                                    || Objects.equals( next.getMetadata()
-                                                                           .getVariableName(),
-                                                                       variableName ) ) )
-                              .map( next -> TimeSeriesSlicer.filter( next,
-                                                                     timeWindow ) );
+        return this.ensembleIndex.get( orientation )
+                                 .get( features, variableName )
+                                 .stream()
+                                 .filter( next -> next.mayIntersect( timeWindow ) )
+                                 .map( next -> TimeSeriesSlicer.filter( next.series(), timeWindow ) );
     }
 
     /**
@@ -359,6 +350,224 @@ public class TimeSeriesStore
         };
     }
 
+    /**
+     * Creates an index for each orientation.
+     * @param <T> the time-series event value type
+     * @param left the left series
+     * @param right the right series
+     * @param baseline the baseline series
+     * @param covariate the covariate series
+     * @return the indexes
+     */
+
+    private static <T> Map<DatasetOrientation, SeriesIndex<T>> getIndexes( List<TimeSeries<T>> left,
+                                                                           List<TimeSeries<T>> right,
+                                                                           List<TimeSeries<T>> baseline,
+                                                                           List<TimeSeries<T>> covariate )
+    {
+        Map<DatasetOrientation, SeriesIndex<T>> indexes = new EnumMap<>( DatasetOrientation.class );
+        indexes.put( DatasetOrientation.LEFT, new SeriesIndex<>( left ) );
+        indexes.put( DatasetOrientation.RIGHT, new SeriesIndex<>( right ) );
+        indexes.put( DatasetOrientation.BASELINE, new SeriesIndex<>( baseline ) );
+        indexes.put( DatasetOrientation.COVARIATE, new SeriesIndex<>( covariate ) );
+        return indexes;
+    }
+
+    /**
+     * A time-series with its position in the store and the bounds of its valid times.
+     * @param <T> the time-series event value type
+     * @param order the position of the time-series within the store
+     * @param series the time-series
+     * @param earliestValidTime the earliest valid time or null if the time-series is empty
+     * @param latestValidTime the latest valid time or null if the time-series is empty
+     */
+
+    private record IndexedSeries<T>( int order,
+                                     TimeSeries<T> series,
+                                     Instant earliestValidTime,
+                                     Instant latestValidTime )
+    {
+        /**
+         * Creates an instance.
+         * @param <T> the time-series event value type
+         * @param order the position of the time-series within the store
+         * @param series the time-series
+         * @return the indexed series
+         */
+
+        private static <T> IndexedSeries<T> of( int order, TimeSeries<T> series )
+        {
+            if ( series.getEvents()
+                       .isEmpty() )
+            {
+                return new IndexedSeries<>( order, series, null, null );
+            }
+
+            if ( series.hasColumns() )
+            {
+                EventColumns<T> columns = series.getColumns();
+                return new IndexedSeries<>( order,
+                                            series,
+                                            columns.getTime( 0 ),
+                                            columns.getTime( columns.size() - 1 ) );
+            }
+
+            return new IndexedSeries<>( order,
+                                        series,
+                                        series.getEvents()
+                                              .first()
+                                              .getTime(),
+                                        series.getEvents()
+                                              .last()
+                                              .getTime() );
+        }
+
+        /**
+         * Returns <code>false</code> if the time-series definitely has no events within the time window, otherwise
+         * <code>true</code>, in keeping with {@link TimeSeriesSlicer#filter(TimeSeries, TimeWindowOuter)}.
+         * @param timeWindow the time window
+         * @return false if the time-series has no events within the time window, otherwise true
+         */
+
+        private boolean mayIntersect( TimeWindowOuter timeWindow )
+        {
+            if ( Objects.isNull( this.earliestValidTime() ) )
+            {
+                return false;
+            }
+
+            // Right-closed valid time bounds
+            Instant lower = timeWindow.getEarliestValidTime();
+            Instant upper = timeWindow.getLatestValidTime();
+            boolean unbounded = lower.equals( Instant.MIN ) && upper.equals( Instant.MAX );
+            if ( !unbounded
+                 && ( this.earliestValidTime()
+                          .isAfter( upper )
+                      || ( !this.latestValidTime()
+                                .isAfter( lower )
+                           && this.latestValidTime()
+                                  .isBefore( upper ) ) ) )
+            {
+                return false;
+            }
+
+            // Some reference times, but none within bounds?
+            Map<ReferenceTimeType, Instant> referenceTimes = this.series()
+                                                                 .getReferenceTimes();
+            return referenceTimes.isEmpty()
+                   || referenceTimes.values()
+                                    .stream()
+                                    .anyMatch( next -> TimeSeriesSlicer.isContained( next,
+                                                                                     timeWindow.getEarliestReferenceTime(),
+                                                                                     timeWindow.getLatestReferenceTime() ) );
+        }
+    }
+
+    /**
+     * An index of time-series by feature and variable name.
+     * @param <T> the time-series event value type
+     */
+
+    private static class SeriesIndex<T>
+    {
+        /** The time-series by feature and variable name. */
+        private final Map<Feature, Map<String, List<IndexedSeries<T>>>> series;
+
+        /**
+         * Returns the time-series that match the prescribed features and variable name in store order.
+         * @param features the features
+         * @param variableName the variable name, optional
+         * @return the matching time-series
+         */
+
+        private List<IndexedSeries<T>> get( Set<Feature> features, String variableName )
+        {
+            List<IndexedSeries<T>> candidates = new ArrayList<>();
+            int groups = 0;
+
+            // Iterate the smaller of the two feature collections
+            if ( features.size() <= this.series.size() )
+            {
+                for ( Feature next : features )
+                {
+                    groups += this.addCandidates( this.series.get( next ), variableName, candidates );
+                }
+            }
+            else
+            {
+                for ( Map.Entry<Feature, Map<String, List<IndexedSeries<T>>>> next : this.series.entrySet() )
+                {
+                    if ( features.contains( next.getKey() ) )
+                    {
+                        groups += this.addCandidates( next.getValue(), variableName, candidates );
+                    }
+                }
+            }
+
+            // Candidates from more than one group? Then restore the store order
+            if ( groups > 1 )
+            {
+                candidates.sort( Comparator.comparingInt( IndexedSeries::order ) );
+            }
+
+            return candidates;
+        }
+
+        /**
+         * Adds the time-series with the prescribed variable name to the candidates.
+         * @param byVariable the time-series by variable name, possibly null
+         * @param variableName the variable name, optional
+         * @param candidates the candidates to update
+         * @return the number of groups of time-series added
+         */
+
+        private int addCandidates( Map<String, List<IndexedSeries<T>>> byVariable,
+                                   String variableName,
+                                   List<IndexedSeries<T>> candidates )
+        {
+            if ( Objects.isNull( byVariable ) )
+            {
+                return 0;
+            }
+
+            if ( Objects.nonNull( variableName ) )
+            {
+                List<IndexedSeries<T>> matched = byVariable.get( variableName );
+                if ( Objects.isNull( matched ) )
+                {
+                    return 0;
+                }
+
+                candidates.addAll( matched );
+                return 1;
+            }
+
+            byVariable.values()
+                      .forEach( candidates::addAll );
+            return byVariable.size();
+        }
+
+        /**
+         * Creates an instance.
+         * @param series the time-series to index
+         */
+
+        private SeriesIndex( List<TimeSeries<T>> series )
+        {
+            Map<Feature, Map<String, List<IndexedSeries<T>>>> index = new HashMap<>();
+            for ( int i = 0; i < series.size(); i++ )
+            {
+                TimeSeries<T> next = series.get( i );
+                TimeSeriesMetadata metadata = next.getMetadata();
+                index.computeIfAbsent( metadata.getFeature(), k -> new HashMap<>() )
+                     .computeIfAbsent( metadata.getVariableName(), k -> new ArrayList<>() )
+                     .add( IndexedSeries.of( i, next ) );
+            }
+
+            this.series = index;
+        }
+    }
+
     /**
      * Creates an instance.
      * @param builder the builder
@@ -377,6 +586,14 @@ public class TimeSeriesStore
         this.baselineEnsembleSeries = List.copyOf( builder.baselineEnsembleSeries );
         this.covariateSingleValuedSeries = List.copyOf( builder.covariateSingleValuedSeries );
         this.covariateEnsembleSeries = List.copyOf( builder.covariateEnsembleSeries );
+        this.singleValuedIndex = TimeSeriesStore.getIndexes( this.leftSingleValuedSeries,
+                                                             this.rightSingleValuedSeries,
+                                                             this.baselineSingleValuedSeries,
+                                                             this.covariateSingleValuedSeries );
+        this.ensembleIndex = TimeSeriesStore.getIndexes( this.leftEnsembleSeries,
+                                                         this.rightEnsembleSeries,
+                                                         this.baselineEnsembleSeries,
+                                                         this.covariateEnsembleSeries );
 
         if ( LOGGER.isInfoEnabled() )
         {
@@ -2,6 +2,7 @@ package wres.datamodel.bootstrap;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.PoolSlicer;
 import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.space.Feature;
 import wres.datamodel.time.Event;
@@ -555,6 +557,121 @@ class StationaryBootstrapResamplerTest
                                                 .size() ) );
     }
 
+    @Test
+    void testResampleFromIndexesMatchesResampleWithSameSeed()
+    {
+        TimeSeries.Builder<Double> builder = new TimeSeries.Builder<Double>()
+                .setMetadata( StationaryBootstrapResamplerTest.getBoilerplateMetadata( null ) );
+        Instant start = Instant.parse( "1988-10-04T17:00:00Z" );
+        for ( int i = 0; i < 20; i++ )
+        {
+            builder.addEvent( Event.of( start.plus( Duration.ofHours( i ) ), i + 1.0 ) );
+        }
+
+        Pool<TimeSeries<Double>> pool = Pool.of( List.of( builder.build() ), PoolMetadata.of() );
+
+        StationaryBootstrapResampler<Double> resampler = StationaryBootstrapResampler.of( pool,
+                                                                                          3,
+                                                                                          Duration.ofHours( 1 ),
+                                                                                          new Well512a( 7 ),
+                                                                                          ForkJoinPool.commonPool() );
+        StationaryBootstrapResampler<Double> indexResampler =
+                StationaryBootstrapResampler.of( pool,
+                                                 3,
+                                                 Duration.ofHours( 1 ),
+                                                 new Well512a( 7 ),
+                                                 ForkJoinPool.commonPool() );
+
+        // Generate several sets of indexes in order, then resample them in reverse order
+        List<StationaryBootstrapResampler.Indexes> indexes = List.of( indexResampler.generateIndexes(),
+                                                                      indexResampler.generateIndexes(),
+                                                                      indexResampler.generateIndexes() );
+        List<Pool<TimeSeries<Double>>> expected = List.of( resampler.resample(),
+                                                           resampler.resample(),
+                                                           resampler.resample() );
+
+        Pool<TimeSeries<Double>> third = indexResampler.resample( indexes.get( 2 ) );
+        Pool<TimeSeries<Double>> second = indexResampler.resample( indexes.get( 1 ) );
+        Pool<TimeSeries<Double>> first = indexResampler.resample( indexes.get( 0 ) );
+
+        assertAll( () -> assertEquals( expected.get( 0 ), first ),
+                   () -> assertEquals( expected.get( 1 ), second ),
+                   () -> assertEquals( expected.get( 2 ), third ) );
+    }
+
+    @Test
+    void testGatherFromIndexesMatchesUnpackedResampleWhenPoolContainsMinipoolsAndBaseline()
+    {
+        Pool<TimeSeries<Double>> poolOne = StationaryBootstrapResamplerTest.getForecastPool( 0.0 );
+        Pool<TimeSeries<Double>> poolTwo = StationaryBootstrapResamplerTest.getForecastPool( 100.0 );
+        Pool<TimeSeries<Double>> pool = new Pool.Builder<TimeSeries<Double>>().addPool( poolOne )
+                                                                              .addPool( poolTwo )
+                                                                              .build();
+
+        StationaryBootstrapResampler<Double> resampler = StationaryBootstrapResampler.of( pool,
+                                                                                          2,
+                                                                                          Duration.ofHours( 1 ),
+                                                                                          new Well512a( 11 ),
+                                                                                          ForkJoinPool.commonPool() );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            StationaryBootstrapResampler.Indexes indexes = resampler.generateIndexes();
+            Pool<Double> expected = PoolSlicer.unpack( resampler.resample( indexes ) );
+            Pool<Double> actual = resampler.gather( indexes );
+
+            assertAll( () -> assertEquals( expected.get(), actual.get() ),
+                       () -> assertEquals( expected.getBaselineData()
+                                                   .get(),
+                                           actual.getBaselineData()
+                                                 .get() ),
+                       () -> assertEquals( expected.getMiniPools()
+                                                   .get( 1 )
+                                                   .get(),
+                                           actual.getMiniPools()
+                                                 .get( 1 )
+                                                 .get() ),
+                       () -> assertEquals( expected.getMetadata(), actual.getMetadata() ) );
+        }
+    }
+
+    /**
+     * Creates a pool of forecasts with a baseline whose time-series contain different numbers of events.
+     * @param offset the offset to add to each value
+     * @return the pool
+     */
+
+    private static Pool<TimeSeries<Double>> getForecastPool( double offset )
+    {
+        List<TimeSeries<Double>> main = new ArrayList<>();
+        List<TimeSeries<Double>> baseline = new ArrayList<>();
+        Instant first = Instant.parse( "1988-10-04T16:00:00Z" );
+        double value = offset;
+        for ( int i = 0; i < 4; i++ )
+        {
+            Instant referenceTime = first.plus( Duration.ofHours( i ) );
+            TimeSeries.Builder<Double> mainBuilder = new TimeSeries.Builder<Double>()
+                    .setMetadata( StationaryBootstrapResamplerTest.getBoilerplateMetadata( referenceTime ) );
+            TimeSeries.Builder<Double> baselineBuilder = new TimeSeries.Builder<Double>()
+                    .setMetadata( StationaryBootstrapResamplerTest.getBoilerplateMetadata( referenceTime ) );
+
+            // Series with three and five events
+            int eventCount = 3 + ( i % 2 ) * 2;
+            for ( int j = 1; j <= eventCount; j++ )
+            {
+                Instant validTime = referenceTime.plus( Duration.ofHours( j ) );
+                mainBuilder.addEvent( Event.of( validTime, value ) );
+                baselineBuilder.addEvent( Event.of( validTime, value + 1000.0 ) );
+                value++;
+            }
+
+            main.add( mainBuilder.build() );
+            baseline.add( baselineBuilder.build() );
+        }
+
+        return Pool.of( main, PoolMetadata.of(), baseline, PoolMetadata.of( true ), null );
+    }
+
     /**
      * @return some boilerplate metadata
      */
@@ -0,0 +1,140 @@
+package wres.datamodel.pools;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link DichotomousPairs}.
+ *
+ * @author James Brown
+ */
+
+class DichotomousPairsTest
+{
+    /** Pairs for testing, which include each cell of the contingency table. */
+    private static final List<Pair<Boolean, Boolean>> PAIRS = List.of( Pair.of( true, true ),
+                                                                       Pair.of( false, false ),
+                                                                       Pair.of( true, false ),
+                                                                       Pair.of( false, true ),
+                                                                       Pair.of( true, true ),
+                                                                       Pair.of( false, false ),
+                                                                       Pair.of( false, false ) );
+
+    /** Metadata for testing. */
+    private static final PoolMetadata META = PoolMetadata.of();
+
+    @Test
+    void testOfPacksPairsInOrderAndCountsCells()
+    {
+        DichotomousPairs actual = DichotomousPairs.of( PAIRS );
+
+        assertAll( () -> assertEquals( PAIRS, actual ),
+                   () -> assertEquals( actual, PAIRS ),
+                   () -> assertEquals( PAIRS.hashCode(), actual.hashCode() ),
+                   () -> assertEquals( 2, actual.getTrueTrue() ),
+                   () -> assertEquals( 1, actual.getTrueFalse() ),
+                   () -> assertEquals( 1, actual.getFalseTrue() ),
+                   () -> assertEquals( 3, actual.getFalseFalse() ) );
+    }
+
+    @Test
+    void testOfReturnsDichotomousPairs()
+    {
+        DichotomousPairs pairs = DichotomousPairs.of( PAIRS );
+
+        assertSame( pairs, DichotomousPairs.of( pairs ) );
+    }
+
+    @Test
+    void testOfBitSets()
+    {
+        BitSet left = new BitSet();
+        left.set( 0 );
+        left.set( 2 );
+        BitSet right = new BitSet();
+        right.set( 0 );
+        right.set( 3 );
+
+        // Trailing pairs whose outcomes did not occur
+        DichotomousPairs actual = DichotomousPairs.of( left, right, 5 );
+
+        List<Pair<Boolean, Boolean>> expected = List.of( Pair.of( true, true ),
+                                                         Pair.of( false, false ),
+                                                         Pair.of( true, false ),
+                                                         Pair.of( false, true ),
+                                                         Pair.of( false, false ) );
+
+        assertAll( () -> assertEquals( expected, actual ),
+                   () -> assertEquals( 2, actual.getFalseFalse() ) );
+    }
+
+    @Test
+    void testConcatenate()
+    {
+        List<Pair<Boolean, Boolean>> second = List.of( Pair.of( false, true ), Pair.of( true, true ) );
+        DichotomousPairs actual = DichotomousPairs.concatenate( List.of( DichotomousPairs.of( PAIRS ),
+                                                                         DichotomousPairs.of( List.of() ),
+                                                                         DichotomousPairs.of( second ) ) );
+
+        List<Pair<Boolean, Boolean>> expected = new ArrayList<>( PAIRS );
+        expected.addAll( second );
+
+        assertAll( () -> assertEquals( expected, actual ),
+                   () -> assertEquals( 3, actual.getTrueTrue() ),
+                   () -> assertEquals( 1, actual.getTrueFalse() ),
+                   () -> assertEquals( 2, actual.getFalseTrue() ),
+                   () -> assertEquals( 3, actual.getFalseFalse() ) );
+    }
+
+    @Test
+    void testPoolKeepsDichotomousPairsUntilOtherPairsAreAdded()
+    {
+        DichotomousPairs first = DichotomousPairs.of( PAIRS );
+        DichotomousPairs second = DichotomousPairs.of( List.of( Pair.of( false, true ) ) );
+
+        Pool<Pair<Boolean, Boolean>> compact = new Pool.Builder<Pair<Boolean, Boolean>>().addData( first )
+                                                                                          .addData( second )
+                                                                                          .setMetadata( META )
+                                                                                          .build();
+
+        Pool<Pair<Boolean, Boolean>> unpacked = new Pool.Builder<Pair<Boolean, Boolean>>().addData( first )
+                                                                                           .addData( Pair.of( false,
+                                                                                                              true ) )
+                                                                                           .setMetadata( META )
+                                                                                           .build();
+
+        assertAll( () -> assertTrue( compact.get() instanceof DichotomousPairs ),
+                   () -> assertEquals( 8, compact.get()
+                                                 .size() ),
+                   () -> assertEquals( compact, unpacked ) );
+    }
+
+    @Test
+    void testListIsImmutable()
+    {
+        DichotomousPairs pairs = DichotomousPairs.of( PAIRS );
+        Pair<Boolean, Boolean> pair = Pair.of( true, true );
+
+        assertThrows( UnsupportedOperationException.class, () -> pairs.add( pair ) );
+    }
+
+    @Test
+    void testOfBitSetsThrowsExpectedExceptionWhenOutcomesExceedSize()
+    {
+        BitSet left = new BitSet();
+        left.set( 3 );
+        BitSet right = new BitSet();
+
+        assertThrows( IllegalArgumentException.class, () -> DichotomousPairs.of( left, right, 3 ) );
+    }
+}
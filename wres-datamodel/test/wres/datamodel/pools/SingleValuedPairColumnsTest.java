@@ -0,0 +1,143 @@
+package wres.datamodel.pools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link SingleValuedPairColumns}.
+ *
+ * @author James Brown
+ */
+
+class SingleValuedPairColumnsTest
+{
+    /** A pool for testing. */
+    private Pool<Pair<Double, Double>> pool;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.pool = new Pool.Builder<Pair<Double, Double>>().addData( List.of( Pair.of( 1.0, 2.0 ),
+                                                                               Pair.of( 3.0, 4.0 ),
+                                                                               Pair.of( 5.0, 6.0 ) ) )
+                                                            .setMetadata( PoolMetadata.of() )
+                                                            .addDataForBaseline( List.of( Pair.of( 7.0, 8.0 ) ) )
+                                                            .setMetadataForBaseline( PoolMetadata.of( true ) )
+                                                            .build();
+    }
+
+    @Test
+    void testOf()
+    {
+        SingleValuedPairColumns actual = SingleValuedPairColumns.of( this.pool );
+
+        assertEquals( 3, actual.size() );
+        assertArrayEquals( new double[] { 1.0, 3.0, 5.0 }, actual.getLeft() );
+        assertArrayEquals( new double[] { 2.0, 4.0, 6.0 }, actual.getRight() );
+    }
+
+    @Test
+    void testOfBaseline()
+    {
+        SingleValuedPairColumns actual = SingleValuedPairColumns.of( this.pool.getBaselineData() );
+
+        assertEquals( 1, actual.size() );
+        assertArrayEquals( new double[] { 7.0 }, actual.getLeft() );
+        assertArrayEquals( new double[] { 8.0 }, actual.getRight() );
+    }
+
+    @Test
+    void testOfReturnsSharedView()
+    {
+        SingleValuedPairColumns first = SingleValuedPairColumns.of( this.pool );
+        SingleValuedPairColumns second = SingleValuedPairColumns.of( this.pool );
+
+        assertSame( first, second );
+    }
+
+    @Test
+    void testOfReturnsSharedViewWhenAnotherTypeOfViewIsCreated()
+    {
+        SingleValuedPairColumns first = SingleValuedPairColumns.of( this.pool );
+
+        // Another type of view is cached alongside the columnar view and does not replace it
+        Object other = this.pool.getView( Object.class, p -> new Object() );
+        SingleValuedPairColumns second = SingleValuedPairColumns.of( this.pool );
+
+        assertSame( first, second );
+        assertSame( other, this.pool.getView( Object.class, p -> new Object() ) );
+    }
+
+    @Test
+    void testOfGatheredPoolGathersViewOfSourcePool()
+    {
+        Pool<Pair<Double, Double>> gathered = PoolSlicer.gather( this.pool, new int[] { 2, 0, 2 }, new int[] { 0, 0 } );
+        SingleValuedPairColumns actual = SingleValuedPairColumns.of( gathered );
+        SingleValuedPairColumns actualBaseline = SingleValuedPairColumns.of( gathered.getBaselineData() );
+
+        assertArrayEquals( new double[] { 5.0, 1.0, 5.0 }, actual.getLeft() );
+        assertArrayEquals( new double[] { 6.0, 2.0, 6.0 }, actual.getRight() );
+        assertArrayEquals( new double[] { 7.0, 7.0 }, actualBaseline.getLeft() );
+        assertArrayEquals( new double[] { 8.0, 8.0 }, actualBaseline.getRight() );
+
+        // The view is the same as the view created from the pairs
+        SingleValuedPairColumns unboxed = SingleValuedPairColumns.of( new Pool.Builder<Pair<Double, Double>>()
+                                                                              .addData( gathered.get() )
+                                                                              .setMetadata( PoolMetadata.of() )
+                                                                              .build() );
+        assertArrayEquals( unboxed.getLeft(), actual.getLeft() );
+        assertArrayEquals( unboxed.getRight(), actual.getRight() );
+    }
+
+    @Test
+    void testOfPoolOfGatheredMiniPoolsConcatenatesViews()
+    {
+        Pool<Pair<Double, Double>> gathered =
+                new Pool.Builder<Pair<Double, Double>>().addPool( PoolSlicer.gather( this.pool,
+                                                                                     new int[] { 1 },
+                                                                                     new int[] { 0 } ) )
+                                                        .addPool( PoolSlicer.gather( this.pool,
+                                                                                     new int[] { 0, 2 },
+                                                                                     new int[] { 0 } ) )
+                                                        .build();
+
+        SingleValuedPairColumns actual = SingleValuedPairColumns.of( gathered );
+        SingleValuedPairColumns actualBaseline = SingleValuedPairColumns.of( gathered.getBaselineData() );
+
+        assertArrayEquals( new double[] { 3.0, 1.0, 5.0 }, actual.getLeft() );
+        assertArrayEquals( new double[] { 4.0, 2.0, 6.0 }, actual.getRight() );
+        assertArrayEquals( new double[] { 7.0, 7.0 }, actualBaseline.getLeft() );
+    }
+
+    @Test
+    void testOfPoolWithTransformedMetadataReturnsSharedView()
+    {
+        SingleValuedPairColumns expected = SingleValuedPairColumns.of( this.pool );
+        Pool<Pair<Double, Double>> transformed = PoolSlicer.transformMetadata( this.pool, meta -> meta );
+
+        assertSame( expected, SingleValuedPairColumns.of( transformed ) );
+    }
+
+    @Test
+    void testOfWithEmptyPool()
+    {
+        Pool<Pair<Double, Double>> empty = Pool.of( List.of(), PoolMetadata.of() );
+        SingleValuedPairColumns actual = SingleValuedPairColumns.of( empty );
+
+        assertEquals( 0, actual.size() );
+    }
+
+    @Test
+    void testOfThrowsExpectedExceptionWithNullPool()
+    {
+        assertThrows( NullPointerException.class, () -> SingleValuedPairColumns.of( null ) );
+    }
+}
@@ -0,0 +1,220 @@
+package wres.datamodel.pools;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import wres.config.yaml.components.ThresholdOperator;
+import wres.config.yaml.components.ThresholdOrientation;
+import wres.datamodel.Slicer;
+import wres.datamodel.thresholds.ThresholdOuter;
+import wres.datamodel.types.OneOrTwoDoubles;
+
+/**
+ * Tests the {@link ThresholdSweep}.
+ *
+ * @author James Brown
+ */
+
+class ThresholdSweepTest
+{
+    /** A metadata transformer that does nothing. */
+    private static final UnaryOperator<PoolMetadata> IDENTITY = meta -> meta;
+
+    @Test
+    void testFilterMatchesPoolSlicerForEachOperator()
+    {
+        Map<String, Pool<Pair<Double, Double>>> pools = this.getPools();
+        PoolMetadata baselineMetadata = PoolMetadata.of( true );
+
+        for ( ThresholdOperator operator : ThresholdOperator.values() )
+        {
+            for ( ThresholdOrientation orientation : List.of( ThresholdOrientation.LEFT, ThresholdOrientation.RIGHT ) )
+            {
+                ThresholdOuter threshold = this.getThreshold( operator, orientation );
+                Map<String, ThresholdOuter> thresholds = Map.of( "A", threshold, "B", threshold );
+                Predicate<Pair<Double, Double>> predicate = orientation == ThresholdOrientation.LEFT
+                                                            ? Slicer.left( threshold )
+                                                            : Slicer.right( threshold );
+                Map<String, Predicate<Pair<Double, Double>>> filters = Map.of( "A", predicate, "B", predicate );
+
+                Pool<Pair<Double, Double>> expected = PoolSlicer.filter( pools,
+                                                                         filters,
+                                                                         PoolMetadata.of(),
+                                                                         baselineMetadata,
+                                                                         IDENTITY );
+                Pool<Pair<Double, Double>> actual = ThresholdSweep.filter( pools,
+                                                                           thresholds,
+                                                                           PoolMetadata.of(),
+                                                                           baselineMetadata,
+                                                                           IDENTITY );
+
+                assertAll( () -> assertEquals( expected, actual, threshold.toString() ),
+                           () -> assertEquals( expected.getBaselineData()
+                                                       .get(),
+                                               actual.getBaselineData()
+                                                     .get(),
+                                               threshold.toString() ),
+                           () -> assertEquals( expected.getMiniPools()
+                                                       .size(),
+                                               actual.getMiniPools()
+                                                     .size() ) );
+            }
+        }
+    }
+
+    @Test
+    void testTransformMatchesPoolSlicerForEachOperator()
+    {
+        Map<String, Pool<Pair<Double, Double>>> pools = this.getPools();
+        PoolMetadata baselineMetadata = PoolMetadata.of( true );
+
+        for ( ThresholdOperator operator : ThresholdOperator.values() )
+        {
+            ThresholdOuter threshold = this.getThreshold( operator, ThresholdOrientation.LEFT_AND_RIGHT );
+            Map<String, ThresholdOuter> thresholds = Map.of( "A", threshold, "B", threshold );
+            Function<Pair<Double, Double>, Pair<Boolean, Boolean>> transformer =
+                    pair -> Pair.of( threshold.test( pair.getLeft() ), threshold.test( pair.getRight() ) );
+            Map<String, Function<Pair<Double, Double>, Pair<Boolean, Boolean>>> transformers =
+                    Map.of( "A", transformer, "B", transformer );
+
+            Pool<Pair<Boolean, Boolean>> expected = PoolSlicer.transform( pools,
+                                                                          transformers,
+                                                                          PoolMetadata.of(),
+                                                                          baselineMetadata,
+                                                                          IDENTITY );
+            Pool<Pair<Boolean, Boolean>> actual = ThresholdSweep.transform( pools,
+                                                                            thresholds,
+                                                                            PoolMetadata.of(),
+                                                                            baselineMetadata,
+                                                                            IDENTITY );
+
+            assertAll( () -> assertEquals( expected, actual, threshold.toString() ),
+                       () -> assertEquals( expected.getBaselineData()
+                                                   .get(),
+                                           actual.getBaselineData()
+                                                 .get(),
+                                           threshold.toString() ),
+                       // The pairs are held compactly, including when composed from the mini-pools
+                       () -> assertTrue( actual.get() instanceof DichotomousPairs, threshold.toString() ),
+                       () -> assertTrue( actual.getBaselineData()
+                                               .get() instanceof DichotomousPairs, threshold.toString() ) );
+        }
+    }
+
+    @Test
+    void testCanFilter()
+    {
+        ThresholdOuter left = this.getThreshold( ThresholdOperator.GREATER, ThresholdOrientation.LEFT );
+        ThresholdOuter both = this.getThreshold( ThresholdOperator.GREATER, ThresholdOrientation.LEFT_AND_RIGHT );
+        ThresholdOuter undefined = ThresholdOuter.of( OneOrTwoDoubles.of( Double.NaN ),
+                                                      ThresholdOperator.GREATER,
+                                                      ThresholdOrientation.LEFT );
+
+        assertAll( () -> assertTrue( ThresholdSweep.canFilter( left ) ),
+                   () -> assertFalse( ThresholdSweep.canFilter( both ) ),
+                   () -> assertTrue( ThresholdSweep.canTransform( both ) ),
+                   () -> assertFalse( ThresholdSweep.canFilter( undefined ) ),
+                   () -> assertFalse( ThresholdSweep.canTransform( undefined ) ) );
+    }
+
+    @Test
+    void testFilterThrowsExpectedExceptionForThresholdOnBothSides()
+    {
+        Map<String, Pool<Pair<Double, Double>>> pools = this.getPools();
+        ThresholdOuter both = this.getThreshold( ThresholdOperator.GREATER, ThresholdOrientation.LEFT_AND_RIGHT );
+        Map<String, ThresholdOuter> thresholds = Map.of( "A", both );
+        PoolMetadata metadata = PoolMetadata.of();
+
+        assertThrows( IllegalArgumentException.class,
+                      () -> ThresholdSweep.filter( pools, thresholds, metadata, null, IDENTITY ) );
+    }
+
+    /**
+     * @param operator the operator
+     * @param orientation the orientation
+     * @return a threshold
+     */
+
+    private ThresholdOuter getThreshold( ThresholdOperator operator, ThresholdOrientation orientation )
+    {
+        if ( operator == ThresholdOperator.BETWEEN )
+        {
+            return ThresholdOuter.of( OneOrTwoDoubles.of( 2.0, 7.0 ), operator, orientation );
+        }
+
+        return ThresholdOuter.of( OneOrTwoDoubles.of( 5.0 ), operator, orientation );
+    }
+
+    /**
+     * @return two pools, each with a baseline and two mini-pools, whose pairs include ties and missing values
+     */
+
+    private Map<String, Pool<Pair<Double, Double>>> getPools()
+    {
+        Random random = new Random( 12345 );
+        Map<String, Pool<Pair<Double, Double>>> pools = new TreeMap<>();
+
+        for ( String key : List.of( "A", "B" ) )
+        {
+            Pool.Builder<Pair<Double, Double>> builder = new Pool.Builder<>();
+
+            for ( int i = 0; i < 2; i++ )
+            {
+                builder.addPool( Pool.of( this.getPairs( random ),
+                                          PoolMetadata.of(),
+                                          this.getPairs( random ),
+                                          PoolMetadata.of( true ),
+                                          null ) );
+            }
+
+            pools.put( key, builder.build() );
+        }
+
+        return pools;
+    }
+
+    /**
+     * @param random the random number generator
+     * @return some pairs with ties and missing values
+     */
+
+    private List<Pair<Double, Double>> getPairs( Random random )
+    {
+        List<Pair<Double, Double>> pairs = new ArrayList<>();
+
+        for ( int i = 0; i < 500; i++ )
+        {
+            double left = random.nextInt( 10 );
+            double right = random.nextDouble() * 10;
+
+            if ( i % 37 == 0 )
+            {
+                left = Double.NaN;
+            }
+
+            if ( i % 41 == 0 )
+            {
+                right = Double.NaN;
+            }
+
+            pairs.add( Pair.of( left, right ) );
+        }
+
+        return pairs;
+    }
+}
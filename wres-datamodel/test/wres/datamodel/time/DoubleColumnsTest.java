@@ -0,0 +1,129 @@
+package wres.datamodel.time;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DoubleColumns}.
+ *
+ * @author James Brown
+ */
+
+public class DoubleColumnsTest
+{
+    private static final Instant T1 = Instant.parse( "2123-12-01T06:00:00Z" );
+    private static final Instant T2 = Instant.parse( "2123-12-01T12:00:00Z" );
+    private static final Instant T3 = Instant.parse( "2123-12-01T18:00:00Z" );
+
+    /** The columns to test. */
+    private DoubleColumns columns;
+
+    @Before
+    public void runBeforeEachTest()
+    {
+        // Unsorted on input
+        this.columns = new DoubleColumns.Builder().addEvent( T3, 3.0 )
+                                                  .addEvent( T1, 1.0 )
+                                                  .addEvent( T2, 2.0 )
+                                                  .build();
+    }
+
+    @Test
+    public void testBuildSortsByValidTime()
+    {
+        assertArrayEquals( new long[] { T1.getEpochSecond(), T2.getEpochSecond(), T3.getEpochSecond() },
+                           this.columns.getEpochSeconds() );
+        assertArrayEquals( new double[] { 1.0, 2.0, 3.0 }, this.columns.getValues(), 0.0 );
+    }
+
+    @Test
+    public void testGetSortedIndexesIsStableAndConsidersOnlyTheSize()
+    {
+        long[] sorted = { 1, 2, 2, 3 };
+        long[] unsorted = { 5, 1, 3, 1, 5, 0, -1 };
+
+        assertNull( EventColumns.getSortedIndexes( sorted, sorted.length ) );
+        // Equal times remain in their original order and the times beyond the size are ignored
+        assertArrayEquals( new int[] { 5, 1, 3, 2, 0, 4 }, EventColumns.getSortedIndexes( unsorted, 6 ) );
+    }
+
+    @Test
+    public void testEqualsEquivalentSetOfEvents()
+    {
+        SortedSet<Event<Double>> expected = new TreeSet<>();
+        expected.add( Event.of( T1, 1.0 ) );
+        expected.add( Event.of( T2, 2.0 ) );
+        expected.add( Event.of( T3, 3.0 ) );
+
+        assertEquals( expected, this.columns );
+        assertEquals( this.columns, expected );
+        assertEquals( expected.hashCode(), this.columns.hashCode() );
+        assertEquals( List.of( DoubleEvent.of( T1, 1.0 ), DoubleEvent.of( T2, 2.0 ), DoubleEvent.of( T3, 3.0 ) ),
+                      List.copyOf( this.columns ) );
+    }
+
+    @Test
+    public void testContains()
+    {
+        assertTrue( this.columns.contains( Event.of( T2, 2.0 ) ) );
+        assertFalse( this.columns.contains( Event.of( T2, 2.5 ) ) );
+        assertFalse( this.columns.contains( Event.of( T2.plusNanos( 1 ), 2.0 ) ) );
+    }
+
+    @Test
+    public void testViewsAreBoundedByValidTime()
+    {
+        assertEquals( 2, this.columns.tailSet( Event.of( T2, Double.NaN ) )
+                                     .size() );
+        assertEquals( 1, this.columns.headSet( Event.of( T2, Double.NaN ) )
+                                     .size() );
+        assertEquals( 1, this.columns.subSet( Event.of( T2, 0.0 ), Event.of( T3, 0.0 ) )
+                                     .size() );
+        assertEquals( DoubleEvent.of( T3, 3.0 ), this.columns.tailSet( Event.of( T2.plusSeconds( 1 ), 0.0 ) )
+                                                             .first() );
+
+        DoubleColumns view = this.columns.subColumns( 1, 3 );
+        assertEquals( 2.0, view.getDouble( 0 ), 0.0 );
+        assertEquals( 1, view.indexOf( T3 ) );
+        assertEquals( -1, view.indexOf( T1 ) );
+    }
+
+    @Test
+    public void testBuildThrowsExpectedExceptionOnDuplicateTime()
+    {
+        DoubleColumns.Builder builder = new DoubleColumns.Builder().addEvent( T1, 1.0 )
+                                                                   .addEvent( T1, 2.0 );
+
+        assertThrows( IllegalArgumentException.class, builder::build );
+    }
+
+    @Test
+    public void testAddEventThrowsExpectedExceptionOnFractionalSeconds()
+    {
+        DoubleColumns.Builder builder = new DoubleColumns.Builder();
+        Instant time = T1.plusMillis( 1 );
+
+        assertThrows( IllegalArgumentException.class, () -> builder.addEvent( time, 1.0 ) );
+    }
+
+    @Test
+    public void testViewsAreReadOnly()
+    {
+        Event<Double> event = DoubleEvent.of( T1, 1.0 );
+
+        assertThrows( UnsupportedOperationException.class, () -> this.columns.add( event ) );
+        assertThrows( UnsupportedOperationException.class, () -> this.columns.remove( event ) );
+    }
+}
@@ -0,0 +1,130 @@
+package wres.datamodel.time;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import wres.datamodel.types.Ensemble;
+import wres.datamodel.types.Ensemble.Labels;
+
+/**
+ * Tests the {@link EnsembleColumns}.
+ *
+ * @author James Brown
+ */
+
+public class EnsembleColumnsTest
+{
+    private static final Instant T1 = Instant.parse( "2123-12-01T06:00:00Z" );
+    private static final Instant T2 = Instant.parse( "2123-12-01T12:00:00Z" );
+    private static final Instant T3 = Instant.parse( "2123-12-01T18:00:00Z" );
+
+    /** The labels. */
+    private static final Labels LABELS = Labels.of( "a", "b" );
+
+    /** The columns to test. */
+    private EnsembleColumns columns;
+
+    @Before
+    public void runBeforeEachTest()
+    {
+        // Unsorted on input
+        this.columns = new EnsembleColumns.Builder( LABELS ).addEvent( T3, new double[] { 3.0, 30.0 } )
+                                                            .addEvent( T1, new double[] { 1.0, 10.0 } )
+                                                            .addEvent( T2, new double[] { 2.0, 20.0 } )
+                                                            .build();
+    }
+
+    @Test
+    public void testBuildSortsByValidTime()
+    {
+        assertArrayEquals( new long[] { T1.getEpochSecond(), T2.getEpochSecond(), T3.getEpochSecond() },
+                           this.columns.getEpochSeconds() );
+        assertArrayEquals( new double[] { 1.0, 10.0 }, this.columns.getMembers( 0 ), 0.0 );
+        assertEquals( 20.0, this.columns.getMember( 1, 1 ), 0.0 );
+        assertArrayEquals( new double[] { 3.0, 30.0 }, this.columns.getMembers( 2 ), 0.0 );
+    }
+
+    @Test
+    public void testEventsShareTheLabels()
+    {
+        assertSame( LABELS, this.columns.getLabels() );
+        assertTrue( this.columns.stream()
+                                .allMatch( next -> next.getValue()
+                                                       .getLabels() == LABELS ) );
+    }
+
+    @Test
+    public void testEqualsEquivalentSetOfEvents()
+    {
+        SortedSet<Event<Ensemble>> expected = new TreeSet<>();
+        expected.add( Event.of( T1, Ensemble.of( new double[] { 1.0, 10.0 }, LABELS ) ) );
+        expected.add( Event.of( T2, Ensemble.of( new double[] { 2.0, 20.0 }, LABELS ) ) );
+        expected.add( Event.of( T3, Ensemble.of( new double[] { 3.0, 30.0 }, LABELS ) ) );
+
+        assertEquals( expected, this.columns );
+        assertEquals( this.columns, expected );
+        assertEquals( expected.hashCode(), this.columns.hashCode() );
+    }
+
+    @Test
+    public void testContains()
+    {
+        assertTrue( this.columns.contains( Event.of( T2, Ensemble.of( new double[] { 2.0, 20.0 }, LABELS ) ) ) );
+        assertFalse( this.columns.contains( Event.of( T2, Ensemble.of( new double[] { 2.0, 21.0 }, LABELS ) ) ) );
+        assertFalse( this.columns.contains( Event.of( T2, Ensemble.of( new double[] { 2.0, 20.0 },
+                                                                       Labels.of( "a", "c" ) ) ) ) );
+    }
+
+    @Test
+    public void testSubColumnsAreBoundedByIndex()
+    {
+        EnsembleColumns view = this.columns.subColumns( 1, 3 );
+
+        assertEquals( 2, view.size() );
+        assertArrayEquals( new double[] { 2.0, 20.0 }, view.getMembers( 0 ), 0.0 );
+        assertEquals( 1, view.indexOf( T3 ) );
+        assertEquals( -1, view.indexOf( T1 ) );
+        assertSame( LABELS, view.getLabels() );
+    }
+
+    @Test
+    public void testAddEventCopiesTheMembers()
+    {
+        double[] members = { 1.0, 10.0 };
+        EnsembleColumns copied = new EnsembleColumns.Builder( LABELS ).addEvent( T1, members )
+                                                                      .build();
+        members[0] = 5.0;
+
+        assertEquals( 1.0, copied.getMember( 0, 0 ), 0.0 );
+    }
+
+    @Test
+    public void testBuildThrowsExpectedExceptionOnDuplicateTime()
+    {
+        EnsembleColumns.Builder builder = new EnsembleColumns.Builder( LABELS );
+        builder.addEvent( T1, new double[] { 1.0, 2.0 } )
+               .addEvent( T1, new double[] { 3.0, 4.0 } );
+
+        assertThrows( IllegalArgumentException.class, builder::build );
+    }
+
+    @Test
+    public void testAddEventThrowsExpectedExceptionOnInconsistentMembers()
+    {
+        EnsembleColumns.Builder builder = new EnsembleColumns.Builder( LABELS );
+        double[] members = { 1.0 };
+
+        assertThrows( IllegalArgumentException.class, () -> builder.addEvent( T1, members ) );
+    }
+}
@@ -1,13 +1,17 @@
 package wres.datamodel.time;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -867,4 +871,120 @@ class TimeSeriesCrossPairerTest
                                          .size() );
     }
 
+
+    @Test
+    void testCrossPairSelectsFirstOfEquidistantReferenceTimesInListOrder()
+    {
+        TimeSeries<Pair<Integer, Integer>> later = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                               SECOND,
+                                                                               THIRD,
+                                                                               1 );
+        TimeSeries<Pair<Integer, Integer>> earlier = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                                 ZEROTH,
+                                                                                 THIRD,
+                                                                                 2 );
+        TimeSeries<Pair<Integer, Integer>> baseline = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                                  FIRST,
+                                                                                  THIRD,
+                                                                                  3 );
+
+        CrossPairs<Pair<Integer, Integer>, Pair<Integer, Integer>> actual =
+                this.instance.apply( List.of( later, earlier ), List.of( baseline ) );
+
+        CrossPairs<Pair<Integer, Integer>, Pair<Integer, Integer>> expected =
+                CrossPairs.of( List.of( later ), List.of( baseline ) );
+
+        assertEquals( expected, actual );
+    }
+
+    @Test
+    void testCrossPairPrefersNearestReferenceTimeWithCommonValidTimes()
+    {
+        // Nearest by reference time, but no common valid times
+        TimeSeries<Pair<Integer, Integer>> nearest = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                                 FIRST,
+                                                                                 FOURTH,
+                                                                                 1 );
+        TimeSeries<Pair<Integer, Integer>> furthest = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                                  ZEROTH,
+                                                                                  THIRD,
+                                                                                  2 );
+        TimeSeries<Pair<Integer, Integer>> nearer = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                                SECOND,
+                                                                                THIRD,
+                                                                                3 );
+        TimeSeries<Pair<Integer, Integer>> baseline = this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                                                  FIRST.plus( Duration.ofHours( 1 ) ),
+                                                                                  THIRD,
+                                                                                  4 );
+
+        CrossPairs<Pair<Integer, Integer>, Pair<Integer, Integer>> actual =
+                this.instance.apply( List.of( nearest, furthest, nearer ), List.of( baseline ) );
+
+        CrossPairs<Pair<Integer, Integer>, Pair<Integer, Integer>> expected =
+                CrossPairs.of( List.of( nearer ), List.of( baseline ) );
+
+        assertEquals( expected, actual );
+    }
+
+    /**
+     * Checks that cross-pairing scales sub-quadratically with the number of time-series. Each list contains many
+     * time-series, each of which has a distinct reference time and shares valid times with several others. A quadratic
+     * implementation does not complete within the timeout.
+     */
+
+    @Test
+    @Timeout( value = 60, unit = TimeUnit.SECONDS )
+    void testCrossPairScalesWithManyTimeSeries()
+    {
+        int seriesCount = 20_000;
+        List<TimeSeries<Pair<Integer, Integer>>> main = new ArrayList<>();
+        List<TimeSeries<Pair<Integer, Integer>>> baseline = new ArrayList<>();
+
+        for ( int i = 0; i < seriesCount; i++ )
+        {
+            Instant referenceTime = ZEROTH.plus( Duration.ofHours( i ) );
+
+            // Main series are issued on the hour, baseline series at quarter past
+            main.add( this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                  referenceTime,
+                                                  referenceTime.plus( Duration.ofHours( 6 ) ),
+                                                  i ) );
+            baseline.add( this.getSeriesWithOneEvent( ReferenceTimeType.T0,
+                                                      referenceTime.plus( Duration.ofMinutes( 15 ) ),
+                                                      referenceTime.plus( Duration.ofHours( 6 ) ),
+                                                      i ) );
+        }
+
+        TimeSeriesCrossPairer<Pair<Integer, Integer>, Pair<Integer, Integer>> fuzzy =
+                TimeSeriesCrossPairer.of( CrossPairMethod.FUZZY );
+        CrossPairs<Pair<Integer, Integer>, Pair<Integer, Integer>> actual = fuzzy.apply( main, baseline );
+
+        assertAll( () -> assertEquals( main, actual.getFirstPairs() ),
+                   () -> assertEquals( baseline, actual.getSecondPairs() ) );
+    }
+
+    /**
+     * Creates a time-series with one event.
+     * @param type the reference time type
+     * @param referenceTime the reference time
+     * @param validTime the valid time
+     * @param value the value
+     * @return the time-series
+     */
+
+    private TimeSeries<Pair<Integer, Integer>> getSeriesWithOneEvent( ReferenceTimeType type,
+                                                                      Instant referenceTime,
+                                                                      Instant validTime,
+                                                                      int value )
+    {
+        TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Collections.singletonMap( type, referenceTime ),
+                                                             TimeScaleOuter.of(),
+                                                             CHICKENS,
+                                                             GEORGIA,
+                                                             KG_H );
+        return new Builder<Pair<Integer, Integer>>().setMetadata( metadata )
+                                                     .addEvent( Event.of( validTime, Pair.of( value, value ) ) )
+                                                     .build();
+    }
 }
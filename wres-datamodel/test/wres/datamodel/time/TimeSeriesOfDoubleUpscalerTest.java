@@ -520,6 +520,83 @@ public class TimeSeriesOfDoubleUpscalerTest
         assertEquals( expected, actual );
     }
 
+    @Test
+    public void testUpscaleRegularObservationsToOverlappingMeans()
+    {
+        // Ten hourly values with one missing value
+        Instant first = Instant.parse( "2079-12-03T00:00:00Z" );
+        TimeSeriesMetadata metadata = getBoilerplateMetadataWithTimeScale( TimeScaleOuter.of() );
+        Builder<Double> builder = new Builder<Double>().setMetadata( metadata );
+        SortedSet<Instant> endsAt = new TreeSet<>();
+        for ( int i = 0; i < 10; i++ )
+        {
+            Instant time = first.plus( Duration.ofHours( i ) );
+            double value = i == 5 ? MissingValues.DOUBLE : i + 1.0;
+            builder.addEvent( Event.of( time, value ) );
+            endsAt.add( time );
+        }
+
+        TimeSeries<Double> timeSeries = builder.build();
+
+        // The desired scale: means over PT4H that end every hour
+        TimeScaleOuter desiredTimeScale = TimeScaleOuter.of( Duration.ofHours( 4 ), TimeScaleFunction.MEAN );
+
+        TimeSeries<Double> actual = this.upscaler.upscale( timeSeries, desiredTimeScale, endsAt, UNIT )
+                                                 .getTimeSeries();
+
+        // The first three intervals are incomplete and four intervals contain the missing value
+        TimeSeriesMetadata expectedMetadata = getBoilerplateMetadataWithTimeScale( desiredTimeScale );
+        TimeSeries<Double> expected =
+                new Builder<Double>().addEvent( Event.of( first.plus( Duration.ofHours( 3 ) ), 2.5 ) )
+                                     .addEvent( Event.of( first.plus( Duration.ofHours( 4 ) ), 3.5 ) )
+                                     .addEvent( Event.of( first.plus( Duration.ofHours( 5 ) ), MissingValues.DOUBLE ) )
+                                     .addEvent( Event.of( first.plus( Duration.ofHours( 6 ) ), MissingValues.DOUBLE ) )
+                                     .addEvent( Event.of( first.plus( Duration.ofHours( 7 ) ), MissingValues.DOUBLE ) )
+                                     .addEvent( Event.of( first.plus( Duration.ofHours( 8 ) ), MissingValues.DOUBLE ) )
+                                     .addEvent( Event.of( first.plus( Duration.ofHours( 9 ) ), 8.5 ) )
+                                     .setMetadata( expectedMetadata )
+                                     .build();
+
+        assertEquals( expected, actual );
+    }
+
+    @Test
+    public void testUpscaleRegularObservationsToOverlappingMaximumsLeniently()
+    {
+        // Ten hourly values with one missing value
+        Instant first = Instant.parse( "2079-12-03T00:00:00Z" );
+        TimeSeriesMetadata metadata = getBoilerplateMetadataWithTimeScale( TimeScaleOuter.of() );
+        Builder<Double> builder = new Builder<Double>().setMetadata( metadata );
+        SortedSet<Instant> endsAt = new TreeSet<>();
+        for ( int i = 0; i < 10; i++ )
+        {
+            Instant time = first.plus( Duration.ofHours( i ) );
+            double value = i == 5 ? MissingValues.DOUBLE : 10.0 - i;
+            builder.addEvent( Event.of( time, value ) );
+            endsAt.add( time );
+        }
+
+        TimeSeries<Double> timeSeries = builder.build();
+
+        // The desired scale: maximums over PT3H that end every hour
+        TimeScaleOuter desiredTimeScale = TimeScaleOuter.of( Duration.ofHours( 3 ), TimeScaleFunction.MAXIMUM );
+
+        TimeSeries<Double> actual = TimeSeriesOfDoubleUpscaler.of( true )
+                                                              .upscale( timeSeries, desiredTimeScale, endsAt, UNIT )
+                                                              .getTimeSeries();
+
+        // The incomplete intervals are upscaled leniently and the missing value is ignored
+        TimeSeriesMetadata expectedMetadata = getBoilerplateMetadataWithTimeScale( desiredTimeScale );
+        Builder<Double> expectedBuilder = new Builder<Double>().setMetadata( expectedMetadata );
+        double[] expectedValues = new double[] { 10.0, 10.0, 10.0, 9.0, 8.0, 7.0, 6.0, 4.0, 4.0, 3.0 };
+        for ( int i = 0; i < 10; i++ )
+        {
+            expectedBuilder.addEvent( Event.of( first.plus( Duration.ofHours( i ) ), expectedValues[i] ) );
+        }
+
+        assertEquals( expectedBuilder.build(), actual );
+    }
+
     @Test
     public void testValidationFailsIfDownscalingRequested()
     {
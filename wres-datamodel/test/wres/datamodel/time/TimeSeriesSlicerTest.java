@@ -282,6 +282,51 @@ final class TimeSeriesSlicerTest
         assertEquals( Duration.ofHours( 51 ), actualDuration );
     }
 
+    @Test
+    void testFilterColumnarSeriesMatchesFilterOfEventsForEachTimeWindow()
+    {
+        TimeSeriesMetadata metadata = getBoilerplateMetadataWithT0( T1985_01_01T00_00_00Z );
+        TimeSeries.Builder<Double> columnarBuilder = new TimeSeries.Builder<Double>().setMetadata( metadata );
+        TimeSeries.Builder<Double> eventBuilder = new TimeSeries.Builder<Double>().setMetadata( metadata );
+
+        for ( int i = 1; i < 7; i++ )
+        {
+            Instant time = T1985_01_01T00_00_00Z.plus( Duration.ofHours( i ) );
+            columnarBuilder.addEvent( DoubleEvent.of( time, i ) );
+            eventBuilder.addEvent( Event.of( time, ( double ) i ) );
+        }
+
+        TimeSeries<Double> columnar = columnarBuilder.build();
+        TimeSeries<Double> events = eventBuilder.build();
+
+        assertTrue( columnar.hasColumns() );
+        assertFalse( events.hasColumns() );
+
+        List<TimeWindow> windows =
+                List.of( MessageUtilities.getTimeWindow(),
+                         MessageUtilities.getTimeWindow( T1985_01_01T01_00_00Z, T1985_01_01T03_00_00Z ),
+                         MessageUtilities.getTimeWindow( T1985_01_01T02_00_00Z, T1985_01_01T02_00_00Z ),
+                         MessageUtilities.getTimeWindow( Duration.ofHours( 1 ), Duration.ofHours( 4 ) ),
+                         MessageUtilities.getTimeWindow( Duration.ofHours( 3 ), Duration.ofHours( 3 ) ),
+                         MessageUtilities.getTimeWindow( Duration.ofMinutes( 150 ), Duration.ofMinutes( 330 ) ),
+                         MessageUtilities.getTimeWindow( Duration.ofHours( 10 ), Duration.ofHours( 12 ) ),
+                         MessageUtilities.getTimeWindow( null,
+                                                         null,
+                                                         T1985_01_01T02_00_00Z,
+                                                         T1985_01_02T00_00_00Z,
+                                                         Duration.ZERO,
+                                                         Duration.ofHours( 5 ) ) );
+
+        for ( TimeWindow next : windows )
+        {
+            TimeWindowOuter window = TimeWindowOuter.of( next );
+
+            assertEquals( TimeSeriesSlicer.filter( events, window ),
+                          TimeSeriesSlicer.filter( columnar, window ),
+                          "Unexpected filtered series for time window " + window + "." );
+        }
+    }
+
     @Test
     void testFilterByEvent()
     {
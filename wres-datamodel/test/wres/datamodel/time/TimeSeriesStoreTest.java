@@ -161,4 +161,71 @@ class TimeSeriesStoreTest
                                                         "covariate" )
                                 .toList() );
     }
+
+    @Test
+    void testGetRightSingleValuedSeriesWithinTimeWindow()
+    {
+        TimeWindowOuter timeWindow =
+                TimeWindowOuter.of( MessageUtilities.getTimeWindow( Instant.parse( "2123-12-01T06:00:00Z" ),
+                                                                    Instant.parse( "2123-12-01T07:00:00Z" ) ) );
+
+        assertEquals( List.of( this.rightSingleValued ),
+                      this.store.getSingleValuedSeries( timeWindow,
+                                                        DatasetOrientation.RIGHT,
+                                                        Set.of( this.feature ),
+                                                        "right" )
+                                .toList() );
+    }
+
+    @Test
+    void testGetRightSingleValuedSeriesSkipsSeriesOutsideTimeWindow()
+    {
+        TimeWindowOuter validTimeWindow =
+                TimeWindowOuter.of( MessageUtilities.getTimeWindow( Instant.parse( "2123-12-01T07:00:00Z" ),
+                                                                    Instant.parse( "2123-12-01T08:00:00Z" ) ) );
+
+        assertEquals( List.of(),
+                      this.store.getSingleValuedSeries( validTimeWindow,
+                                                        DatasetOrientation.RIGHT,
+                                                        Set.of( this.feature ),
+                                                        "right" )
+                                .toList() );
+
+        TimeWindowOuter referenceTimeWindow =
+                TimeWindowOuter.of( MessageUtilities.getTimeWindow( Instant.parse( "2123-12-01T06:00:00Z" ),
+                                                                    Instant.parse( "2123-12-01T12:00:00Z" ),
+                                                                    Instant.MIN,
+                                                                    Instant.MAX ) );
+
+        assertEquals( List.of(),
+                      this.store.getSingleValuedSeries( referenceTimeWindow,
+                                                        DatasetOrientation.RIGHT,
+                                                        Set.of( this.feature ),
+                                                        "right" )
+                                .toList() );
+    }
+
+    @Test
+    void testGetSingleValuedSeriesForUnknownFeatureOrVariable()
+    {
+        Feature unknown = Feature.of( MessageUtilities.getGeometry( "unknown" ) );
+
+        assertEquals( List.of(),
+                      this.store.getSingleValuedSeries( DatasetOrientation.LEFT,
+                                                        Set.of( unknown ),
+                                                        "left" )
+                                .toList() );
+
+        assertEquals( List.of(),
+                      this.store.getSingleValuedSeries( DatasetOrientation.LEFT,
+                                                        Set.of( this.feature ),
+                                                        "unknown" )
+                                .toList() );
+
+        assertEquals( List.of( this.leftSingleValued ),
+                      this.store.getSingleValuedSeries( DatasetOrientation.LEFT,
+                                                        Set.of( this.feature, unknown ),
+                                                        null )
+                                .toList() );
+    }
 }
@@ -1,6 +1,7 @@
 package wres.datamodel.time;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -258,6 +259,100 @@ public class TimeSeriesTest
         assertTrue( exception.getMessage().startsWith( "While building a time-series, attempted to add an event" ) );
     }
 
+    /**
+     * Tests that a {@link TimeSeries} built from {@link DoubleEvent} is columnar and equal to a {@link TimeSeries} built
+     * from the equivalent default events.
+     */
+
+    @Test
+    public void testTimeSeriesOfDoubleEventsIsColumnarAndEqualToDefaultEvents()
+    {
+        TimeSeries<Double> columnar =
+                new Builder<Double>().setMetadata( this.metadata )
+                                     .addEvent( DoubleEvent.of( Instant.parse( "2123-12-01T18:00:00Z" ), 3.0 ) )
+                                     .addEvent( DoubleEvent.of( Instant.parse( "2123-12-01T06:00:00Z" ), 1.0 ) )
+                                     .addEvent( DoubleEvent.of( Instant.parse( "2123-12-01T12:00:00Z" ), 2.0 ) )
+                                     .build();
+
+        assertTrue( columnar.hasColumns() );
+        assertEquals( 3, columnar.getColumns()
+                                 .size() );
+        assertEquals( this.testSeries, columnar );
+        assertEquals( columnar, this.testSeries );
+        assertEquals( this.testSeries.hashCode(), columnar.hashCode() );
+        assertEquals( this.events, columnar.getEvents() );
+    }
+
+    /**
+     * Tests that a {@link TimeSeries} of {@link Ensemble} with the same labels is columnar and shares the labels, and
+     * that a {@link TimeSeries} of {@link Ensemble} with different labels is not columnar.
+     */
+
+    @Test
+    public void testTimeSeriesOfEnsemblesIsColumnarWhenTheLabelsAreTheSame()
+    {
+        Instant first = Instant.parse( "2123-12-01T06:00:00Z" );
+        Instant second = Instant.parse( "2123-12-01T12:00:00Z" );
+        Ensemble.Labels labels = Ensemble.Labels.of( "a", "b" );
+        Ensemble one = Ensemble.of( new double[] { 1.0, 2.0 }, labels );
+        Ensemble two = Ensemble.of( new double[] { 3.0, 4.0 }, labels );
+
+        TimeSeries<Ensemble> columnar = new Builder<Ensemble>().setMetadata( this.metadata )
+                                                               .addEvent( Event.of( second, two ) )
+                                                               .addEvent( Event.of( first, one ) )
+                                                               .build();
+
+        assertTrue( columnar.hasColumns() );
+        assertTrue( columnar.getColumns() instanceof EnsembleColumns );
+        assertTrue( columnar.getEvents()
+                            .stream()
+                            .allMatch( next -> next.getValue()
+                                                   .getLabels() == labels ) );
+
+        SortedSet<Event<Ensemble>> expected = new TreeSet<>();
+        expected.add( Event.of( first, one ) );
+        expected.add( Event.of( second, two ) );
+
+        assertEquals( expected, columnar.getEvents() );
+
+        Ensemble three = Ensemble.of( new double[] { 3.0, 4.0 }, Ensemble.Labels.of( "a", "c" ) );
+        TimeSeries<Ensemble> notColumnar = new Builder<Ensemble>().setMetadata( this.metadata )
+                                                                  .addEvent( Event.of( first, one ) )
+                                                                  .addEvent( Event.of( second, three ) )
+                                                                  .build();
+
+        assertFalse( notColumnar.hasColumns() );
+    }
+
+    /**
+     * Tests that a {@link TimeSeries} built from {@link EventColumns} adopts the columns and that further events can be
+     * added.
+     */
+
+    @Test
+    public void testBuilderAdoptsColumnsAndAcceptsFurtherEvents()
+    {
+        DoubleColumns columns = DoubleColumns.of( new long[] { 7200, 3600 }, new double[] { 2.0, 1.0 } );
+
+        TimeSeries<Double> adopted = new Builder<Double>().setMetadata( this.metadata )
+                                                          .setEvents( columns )
+                                                          .build();
+
+        assertTrue( adopted.getColumns() == columns );
+
+        TimeSeries<Double> extended = new Builder<Double>().setMetadata( this.metadata )
+                                                           .setEvents( columns )
+                                                           .addEvent( Event.of( Instant.ofEpochSecond( 10800 ), 3.0 ) )
+                                                           .build();
+
+        SortedSet<Event<Double>> expected = new TreeSet<>();
+        expected.add( Event.of( Instant.ofEpochSecond( 3600 ), 1.0 ) );
+        expected.add( Event.of( Instant.ofEpochSecond( 7200 ), 2.0 ) );
+        expected.add( Event.of( Instant.ofEpochSecond( 10800 ), 3.0 ) );
+
+        assertEquals( expected, extended.getEvents() );
+    }
+
     /**
      * Tests the {@link TimeSeries#toString()}.
      */
@@ -5,8 +5,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,8 +14,6 @@ import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import com.google.protobuf.Timestamp;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.math3.stat.descriptive.rank.Median;
 import org.apache.commons.math3.stat.ranking.NaNStrategy;
 import org.slf4j.Logger;
@@ -28,7 +24,7 @@ import wres.config.yaml.components.EventDetectionParametersBuilder;
 import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
-import wres.datamodel.time.TimeSeriesSlicer;
+import wres.datamodel.time.TimeSeriesMetadata;
 import wres.datamodel.time.TimeWindowOuter;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.TimeWindow;
@@ -46,9 +42,6 @@ public class ReginaOgdenEventDetector implements EventDetector
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( ReginaOgdenEventDetector.class );
 
-    /** Median calculator. */
-    private static final Median MEDIAN = new Median().withNaNStrategy( NaNStrategy.REMOVED );
-
     /** The detection parameters. */
     private final EventDetectionParameters parameters;
 
@@ -111,36 +104,42 @@ public class ReginaOgdenEventDetector implements EventDetector
     private Set<TimeWindowOuter> detectEvents( TimeSeries<Double> timeSeries,
                                                EventDetectionParameters parameters )
     {
-        parameters = this.setDefaultParameterValues( parameters, timeSeries );
+        // Unpack the time-series once and work with the arrays thereafter
+        Series series = Series.of( timeSeries );
+
+        parameters = this.setDefaultParameterValues( parameters, series );
 
         // Smooth the time-series
-        TimeSeries<Double> smoothed = this.exponentialMovingAverage( timeSeries, parameters.halfLife() );
+        Series smoothed = this.exponentialMovingAverage( series, parameters.halfLife() );
 
         // Detrend the time-series
-        TimeSeries<Double> detrended = this.detrend( smoothed, parameters.halfLife(), parameters.windowSize() );
+        double[] detrended = this.detrend( smoothed, parameters.halfLife(), parameters.windowSize() );
 
         // Mark the events based on the smoothed, detrended flow
-        TimeSeries<Boolean> mapped = TimeSeriesSlicer.transform( detrended,
-                                                                 t -> t > 0.0,
-                                                                 m -> m );
+        boolean[] mapped = new boolean[detrended.length];
+        for ( int i = 0; i < detrended.length; i++ )
+        {
+            mapped[i] = detrended[i] > 0.0;
+        }
 
         // Filter events by duration
-        TimeSeries<Boolean> filtered = this.filterEventsByDuration( mapped, parameters.minimumEventDuration() );
+        this.filterEventsByDuration( smoothed, mapped, parameters.minimumEventDuration() );
 
         // Get the provisional events
-        Set<TimeWindowOuter> provisional = this.getEventBoundaries( filtered );
+        Set<TimeWindowOuter> provisional = this.getEventBoundaries( smoothed.times(), mapped );
 
         // Refine the events
-        return this.refineEvents( detrended, provisional, parameters.startRadius() );
+        return this.refineEvents( smoothed.times(), detrended, provisional, parameters.startRadius() );
     }
 
+
     /**
      * Sets the default parameter values, inspecting the timeseries where useful.
      * @param parameters parameters
-     * @param timeSeries the time-series
+     * @param series the time-series
      */
     private EventDetectionParameters setDefaultParameterValues( EventDetectionParameters parameters,
-                                                                TimeSeries<Double> timeSeries )
+                                                                Series series )
     {
         EventDetectionParametersBuilder builder = EventDetectionParametersBuilder.builder( parameters );
         if ( Objects.isNull( builder.minimumEventDuration() )
@@ -162,7 +161,7 @@ public class ReginaOgdenEventDetector implements EventDetector
             builder.minimumEventDuration( Duration.ZERO );
         }
 
-        this.setSeriesSpecificParameterDefaults( builder, timeSeries, parameters );
+        this.setSeriesSpecificParameterDefaults( builder, series, parameters );
 
         return builder.build();
     }
@@ -171,18 +170,18 @@ public class ReginaOgdenEventDetector implements EventDetector
      * Sets the time-series specific event detection parameter estimates.
      *
      * @param builder the builder
-     * @param timeSeries the time-series
+     * @param series the time-series
      * @param parameters the declared parameters
      */
     private void setSeriesSpecificParameterDefaults( EventDetectionParametersBuilder builder,
-                                                     TimeSeries<Double> timeSeries,
+                                                     Series series,
                                                      EventDetectionParameters parameters )
     {
         // Calculate the series-specific parameter defaults
         if ( Objects.isNull( builder.halfLife() )
              || Objects.isNull( builder.windowSize() ) )
         {
-            Duration averageTimestep = this.getAverageTimestep( timeSeries );
+            Duration averageTimestep = this.getAverageTimestep( series );
 
             if ( Objects.isNull( builder.halfLife() ) )
             {
@@ -241,62 +240,49 @@ public class ReginaOgdenEventDetector implements EventDetector
     /**
      * Derives the event boundaries from the supplied dichotomous events.
      *
-     * @param dichotomousEvents the event markers
+     * @param times the event times
+     * @param dichotomousEvents the event markers, one for each time
      * @return the event boundaries
-     * @throws NullPointerException if the input is null
+     * @throws NullPointerException if any input is null
      */
-    private Set<TimeWindowOuter> getEventBoundaries( TimeSeries<Boolean> dichotomousEvents )
+    private Set<TimeWindowOuter> getEventBoundaries( Instant[] times, boolean[] dichotomousEvents )
     {
+        Objects.requireNonNull( times );
         Objects.requireNonNull( dichotomousEvents );
 
         // Short circuit
-        if ( dichotomousEvents.getEvents()
-                              .isEmpty() )
+        if ( dichotomousEvents.length == 0 )
         {
             return Set.of();
         }
 
         Set<TimeWindowOuter> timeWindows = new TreeSet<>();
 
-        TimeWindow.Builder currentEvent = null;
-
-        Event<Boolean> lastEvent = null;
-        for ( Event<Boolean> nextEvent : dichotomousEvents.getEvents() )
+        int i = 0;
+        while ( i < dichotomousEvents.length )
         {
-            if ( Boolean.TRUE.equals( nextEvent.getValue() ) )
+            if ( !dichotomousEvents[i] )
             {
-                if ( Objects.isNull( currentEvent ) )
-                {
-                    Timestamp nextTime = MessageUtilities.getTimestamp( nextEvent.getTime() );
-                    currentEvent = MessageUtilities.getTimeWindow()
-                                                   .toBuilder()
-                                                   .setEarliestValidTime( nextTime );
-                }
+                i++;
+                continue;
             }
-            else
+
+            // Find the last marker in the run of events
+            int last = i;
+            while ( last + 1 < dichotomousEvents.length
+                    && dichotomousEvents[last + 1] )
             {
-                if ( Objects.nonNull( currentEvent ) )
-                {
-                    Timestamp nextTime = MessageUtilities.getTimestamp( lastEvent.getTime() );
-                    currentEvent.setLatestValidTime( nextTime );
-                    TimeWindow timeWindow = currentEvent.build();
-                    TimeWindowOuter wrapped = TimeWindowOuter.of( timeWindow );
-                    timeWindows.add( wrapped );
-                    currentEvent = null;
-                }
+                last++;
             }
 
-            lastEvent = nextEvent;
-        }
+            TimeWindow timeWindow = MessageUtilities.getTimeWindow()
+                                                    .toBuilder()
+                                                    .setEarliestValidTime( MessageUtilities.getTimestamp( times[i] ) )
+                                                    .setLatestValidTime( MessageUtilities.getTimestamp( times[last] ) )
+                                                    .build();
+            timeWindows.add( TimeWindowOuter.of( timeWindow ) );
 
-        // Mop up an ongoing event
-        if ( Objects.nonNull( currentEvent ) )
-        {
-            Timestamp nextTime = MessageUtilities.getTimestamp( lastEvent.getTime() );
-            currentEvent.setLatestValidTime( nextTime );
-            TimeWindow timeWindow = currentEvent.build();
-            TimeWindowOuter wrapped = TimeWindowOuter.of( timeWindow );
-            timeWindows.add( wrapped );
+            i = last + 1;
         }
 
         return Collections.unmodifiableSet( timeWindows );
@@ -305,24 +291,21 @@ public class ReginaOgdenEventDetector implements EventDetector
     /**
      * Removes the trend component from the prescribed time-series.
      *
-     * @param timeSeries the time-series.
+     * @param series the time-series.
      * @param halfLife the half-life
      * @param smoothingWindow the smoothing window duration
-     * @return the detrended series
+     * @return the detrended values
      * @throws EventDetectionException if the smoothing window spans fewer than two time-steps, on average
      */
-    private TimeSeries<Double> detrend( TimeSeries<Double> timeSeries, Duration halfLife, Duration smoothingWindow )
+    private double[] detrend( Series series, Duration halfLife, Duration smoothingWindow )
     {
-        Objects.requireNonNull( timeSeries );
+        Objects.requireNonNull( series );
         Objects.requireNonNull( halfLife );
 
-        double[] eventValues = timeSeries.getEvents()
-                                         .stream()
-                                         .mapToDouble( Event::getValue )
-                                         .toArray();
+        double[] eventValues = series.values();
 
         // Calculate the window size in integer steps
-        long windowSize = this.getWindowSizeFromDuration( timeSeries, smoothingWindow );
+        long windowSize = this.getWindowSizeFromDuration( series, smoothingWindow );
 
         if ( windowSize < 2 )
         {
@@ -336,93 +319,80 @@ public class ReginaOgdenEventDetector implements EventDetector
                                                + "window size for smoothing and try again." );
         }
 
-        double[] trend = this.rollingMinimum( eventValues, windowSize );
-
-        double[] detrended = new double[eventValues.length];
+        // Model the trend as the maximum of a forward and backward rolling minimum and subtract it
+        double[] forward = ReginaOgdenEventDetector.rollingMinimum( eventValues, windowSize, false );
+        double[] backward = ReginaOgdenEventDetector.rollingMinimum( eventValues, windowSize, true );
 
-        // Subtract the trend and remove the residuals
+        double[] detrended = forward;
         for ( int i = 0; i < detrended.length; i++ )
         {
-            detrended[i] = eventValues[i] - trend[i];
+            detrended[i] = eventValues[i] - Math.max( forward[i], backward[i] );
         }
 
-        double residual = MEDIAN.evaluate( detrended ) * 2.0;
+        // Remove the residuals. The median is not thread-safe, so use one instance per series
+        Median median = new Median().withNaNStrategy( NaNStrategy.REMOVED );
+        double residual = median.evaluate( detrended ) * 2.0;
 
-        SortedSet<Event<Double>> detrendedEvents = new TreeSet<>();
-        Iterator<Event<Double>> iterator = timeSeries.getEvents()
-                                                     .iterator();
-        int current = 0;
-        while ( iterator.hasNext() )
+        for ( int i = 0; i < detrended.length; i++ )
         {
-            Event<Double> nextValue = iterator.next();
-
-            double value = Math.max( 0.0, detrended[current] - residual );
-
-            Event<Double> detrendedEvent = Event.of( nextValue.getTime(), value );
-            detrendedEvents.add( detrendedEvent );
-            current++;
+            detrended[i] = Math.max( 0.0, detrended[i] - residual );
         }
 
-        return TimeSeries.of( timeSeries.getMetadata(), detrendedEvents );
+        return detrended;
     }
 
     /**
      * Creates an exponential moving average of a time-series, handling missing values.
      *
-     * @param timeSeries the time-series
+     * @param series the time-series
      * @param halfLife the half life
      * @return the smoothed series
      */
-    private TimeSeries<Double> exponentialMovingAverage( TimeSeries<Double> timeSeries,
-                                                         Duration halfLife )
+    private Series exponentialMovingAverage( Series series,
+                                             Duration halfLife )
     {
-        Objects.requireNonNull( timeSeries );
+        Objects.requireNonNull( series );
         Objects.requireNonNull( halfLife );
 
-        if ( timeSeries.getEvents()
-                       .size() < 2 )
+        Instant[] times = series.times();
+        double[] values = series.values();
+
+        if ( times.length < 2 )
         {
-            LOGGER.debug( "Cannot exponentially smooth a time-series with fewer than two values: {}.", timeSeries );
-            return timeSeries;
+            LOGGER.debug( "Cannot exponentially smooth a time-series with fewer than two values: {}.",
+                          series.metadata() );
+            return series;
         }
 
-        Iterator<Event<Double>> iterator = timeSeries.getEvents()
-                                                     .iterator();
+        Instant[] smoothedTimes = new Instant[times.length];
+        double[] smoothedValues = new double[values.length];
 
-        Event<Double> firstEvent = iterator.next();
-        double lastValue = firstEvent.getValue();
+        // Initialize with first value
+        smoothedTimes[0] = times[0];
+        smoothedValues[0] = values[0];
+        int count = 1;
 
+        double lastValue = values[0];
         double weight = 1.0;
-
-        SortedSet<Event<Double>> smoothed = new TreeSet<>();
-        smoothed.add( firstEvent ); // Initialize with first value
-        Instant lastTime = firstEvent.getTime();
+        Instant lastTime = times[0];
         long halfLifeMillis = halfLife.toMillis();
-        while ( iterator.hasNext() )
+        for ( int i = 1; i < times.length; i++ )
         {
-            Event<Double> currentValue = iterator.next();
+            double currentValue = values[i];
 
             // Calculate alpha based on the current timestep
-            Duration timestep = Duration.between( lastTime, currentValue.getTime() );
+            Duration timestep = Duration.between( lastTime, times[i] );
             long timestepMillis = timestep.toMillis();
 
             double alpha = 1.0 - Math.exp( -Math.log( 2 ) / halfLifeMillis * timestepMillis );
 
-            // Current value is missing
-            if ( Double.isNaN( currentValue.getValue() ) )
+            // Current value is missing, so carry forward the previous value, which is missing when no value has been
+            // present so far
+            if ( Double.isNaN( currentValue ) )
             {
-                // First event, then insert NaN
-                if ( currentValue == firstEvent )
-                {
-                    Event<Double> smoothedEvent = Event.of( currentValue.getTime(), Double.NaN );
-                    smoothed.add( smoothedEvent );
-                }
-                // Carry forward previous value
-                else
-                {
-                    Event<Double> smoothedEvent = Event.of( currentValue.getTime(), lastValue );
-                    smoothed.add( smoothedEvent );
-                }
+                smoothedTimes[count] = times[i];
+                smoothedValues[count] = lastValue;
+                count++;
 
                 // Decay the weight
                 weight = weight * ( 1.0 - alpha );
@@ -433,37 +403,40 @@ public class ReginaOgdenEventDetector implements EventDetector
                 // Last value is missing
                 if ( Double.isNaN( lastValue ) )
                 {
-                    lastValue = currentValue.getValue();
+                    lastValue = currentValue;
                 }
                 // Current and last value are both present
                 else
                 {
-                    double smoothedValue = alpha * currentValue.getValue()
+                    double smoothedValue = alpha * currentValue
                                            + ( 1.0 - alpha ) * lastValue * weight;
                     lastValue = smoothedValue;
-                    Event<Double> smoothedEvent = Event.of( currentValue.getTime(), smoothedValue );
-                    smoothed.add( smoothedEvent );
+                    smoothedTimes[count] = times[i];
+                    smoothedValues[count] = smoothedValue;
+                    count++;
                 }
                 weight = weight * ( 1.0 - alpha ) + alpha;
             }
 
-            lastTime = currentValue.getTime();
+            lastTime = times[i];
         }
 
-        return TimeSeries.of( timeSeries.getMetadata(), smoothed );
+        return new Series( series.metadata(),
+                           Arrays.copyOf( smoothedTimes, count ),
+                           Arrays.copyOf( smoothedValues, count ) );
     }
 
     /**
      * Calculates the average duration between time-steps and returns the whole number of times this average fits inside
      * the smoothing window.
      *
-     * @param timeSeries the time-series to inspect
+     * @param series the time-series to inspect
      * @param smoothingWindow the smoothing window duration
      */
 
-    private long getWindowSizeFromDuration( TimeSeries<Double> timeSeries, Duration smoothingWindow )
+    private long getWindowSizeFromDuration( Series series, Duration smoothingWindow )
     {
-        Duration averageTimestep = this.getAverageTimestep( timeSeries );
+        Duration averageTimestep = this.getAverageTimestep( series );
 
         return smoothingWindow.dividedBy( averageTimestep );
     }
@@ -471,23 +444,17 @@ public class ReginaOgdenEventDetector implements EventDetector
     /**
      * Calculates the modal time-step in the series.
      *
-     * @param timeSeries the time-series to inspect
+     * @param series the time-series to inspect
      */
 
-    private Duration getAverageTimestep( TimeSeries<Double> timeSeries )
+    private Duration getAverageTimestep( Series series )
     {
-
-        List<Duration> durations = new ArrayList<>();
-        Instant lastTime = null;
-        for ( Event<Double> next : timeSeries.getEvents() )
+        Instant[] times = series.times();
+        List<Duration> durations = new ArrayList<>( times.length );
+        for ( int i = 1; i < times.length; i++ )
         {
-            Instant nextTime = next.getTime();
-            if ( Objects.nonNull( lastTime ) )
-            {
-                Duration between = Duration.between( lastTime, nextTime );
-                durations.add( between );
-            }
-            lastTime = nextTime;
+            Duration between = Duration.between( times[i - 1], times[i] );
+            durations.add( between );
         }
 
         return durations.stream()
@@ -500,214 +467,200 @@ public class ReginaOgdenEventDetector implements EventDetector
                         .orElseThrow( () -> new EventDetectionException( "Insufficient data to calculate the modal "
                                                                          + "timestep for event detection. The "
                                                                          + "time-series had the following metadata: "
-                                                                         + timeSeries.getMetadata() ) );
+                                                                         + series.metadata() ) );
     }
 
     /**
-     * Calculates a rolling minimum.
+     * Calculates a rolling minimum in linear time using a monotonic queue of candidate minima. In keeping with
+     * {@link Math#min(double, double)}, the minimum is {@link Double#NaN} whenever the window contains a missing
+     * value. A window that is smaller than one step contains only the value itself, so the minimum is the value.
      *
      * @param values the time-series values in time order
      * @param windowSize the window size
+     * @param backward is true to look forward in time from each value, as though applying the filter to the reversed
+     *            values, false to look backward in time
      * @return the rolling minimum
      */
-    private double[] rollingMinimum( double[] values, long windowSize )
+    static double[] rollingMinimum( double[] values, long windowSize, boolean backward )
     {
-        // Forward pass
-        double[] forwardFiltered = this.rollingMinimumInner( values, windowSize );
-
-        // Reverse pass (flip the time series and values)
-        double[] reversedValues = new double[forwardFiltered.length];
-        System.arraycopy( values, 0, reversedValues, 0, values.length );
-        ArrayUtils.reverse( reversedValues );
+        if ( windowSize < 1 )
+        {
+            return values.clone();
+        }
 
-        // Backward pass on reversed data
-        double[] backwardFiltered = this.rollingMinimumInner( reversedValues, windowSize );
+        int count = values.length;
+        double[] result = new double[count];
 
-        // Reverse the backward result to align with the original time series
-        ArrayUtils.reverse( backwardFiltered );
+        // The steps whose values are candidate minima, in ascending order of value
+        int[] candidates = new int[count];
+        int head = 0;
+        int tail = 0;
+        long lastMissing = Long.MIN_VALUE;
 
-        // Combine forward and backward passes by taking the maximum
-        double[] finalResult = new double[values.length];
-        for ( int i = 0; i < values.length; i++ )
+        for ( int step = 0; step < count; step++ )
         {
-            finalResult[i] = Math.max( forwardFiltered[i], backwardFiltered[i] );
-        }
+            int index = backward ? count - 1 - step : step;
+            double value = values[index];
 
-        return finalResult;
-    }
+            if ( Double.isNaN( value ) )
+            {
+                lastMissing = step;
+            }
+            else
+            {
+                // Discard the candidates that can no longer be the minimum
+                while ( tail > head
+                        && Double.compare( values[backward ? count - 1 - candidates[tail - 1] : candidates[tail - 1]],
+                                           value ) >= 0 )
+                {
+                    tail--;
+                }
 
-    /**
-     * Calculates a rolling minimum value from the input.
-     * @param values the values
-     * @param windowSize the window size
-     * @return the rolling minimum
-     */
-    private double[] rollingMinimumInner( double[] values, long windowSize )
-    {
-        double[] result = new double[values.length];
-        Arrays.fill( result, Double.NaN );
+                candidates[tail++] = step;
+            }
 
-        for ( int i = 0; i < values.length; i++ )
-        {
-            long start = Math.max( 0, ( i + 1 ) - windowSize );
-            double min = values[i];
+            // Discard the candidates that have left the window
+            long windowStart = step + 1 - windowSize;
+            while ( tail > head
+                    && candidates[head] < windowStart )
+            {
+                head++;
+            }
 
-            for ( int j = i; j >= start; j-- )
+            if ( lastMissing >= windowStart )
             {
-                min = Math.min( min, values[j] );
+                result[index] = Double.NaN;
+            }
+            else
+            {
+                result[index] = values[backward ? count - 1 - candidates[head] : candidates[head]];
             }
-            result[i] = min;
         }
+
         return result;
     }
 
     /**
-     * Finds the time associated with the minimum value in the series using a search window.
+     * Finds the time associated with the minimum value in the series using a search window. When several values
+     * share the minimum, the earliest time is returned.
      * @param origin the origin
      * @param radius the search radius
-     * @param timeSeries the time-series
+     * @param times the event times in time order
+     * @param values the event values
      * @return the time of the local minimum
      */
     private Instant findLocalMinimum( Instant origin,
                                       Duration radius,
-                                      TimeSeries<Double> timeSeries )
+                                      Instant[] times,
+                                      double[] values )
     {
         Objects.requireNonNull( origin );
         Objects.requireNonNull( radius );
-        Objects.requireNonNull( timeSeries );
+        Objects.requireNonNull( times );
+        Objects.requireNonNull( values );
 
-        // Convert radius to duration and subtract one instant from the left bound because the snip method is
-        // right-closed
-        Instant left = origin.minus( radius )
-                             .minus( Duration.ofNanos( 1 ) );
+        // Find the times within the closed interval around the origin
+        Instant left = origin.minus( radius );
         Instant right = origin.plus( radius );
 
-        TimeWindow window = MessageUtilities.getTimeWindow( left, right );
-        TimeWindowOuter wrapped = TimeWindowOuter.of( window );
+        int start = Arrays.binarySearch( times, left );
+        if ( start < 0 )
+        {
+            start = -start - 1;
+        }
 
-        // Snip the series to the bounds
-        TimeSeries<Double> snipped = TimeSeriesSlicer.snip( timeSeries, wrapped );
+        int stop = Arrays.binarySearch( times, right );
+        stop = stop < 0 ? -stop - 1 : stop + 1;
 
-        if ( snipped.getEvents()
-                    .isEmpty() )
+        if ( start >= stop )
         {
+            TimeWindow window = MessageUtilities.getTimeWindow( left.minus( Duration.ofNanos( 1 ) ), right );
             throw new IllegalArgumentException( "Could not find any time-series values within the search window: "
-                                                + wrapped
+                                                + TimeWindowOuter.of( window )
                                                 + "." );
         }
 
-        // Sort the events by value
-        SortedSet<Event<Double>> sorted = new TreeSet<>( Comparator.comparingDouble( Event::getValue ) );
-        sorted.addAll( snipped.getEvents() );
+        int minimum = start;
+        for ( int i = start + 1; i < stop; i++ )
+        {
+            if ( Double.compare( values[i], values[minimum] ) < 0 )
+            {
+                minimum = i;
+            }
+        }
 
-        return sorted.iterator()
-                     .next()
-                     .getTime();
+        return times[minimum];
     }
 
     /**
-     * Retains only those events that span a minimum duration.
+     * Retains only those events that span a minimum duration, updating the event markers in place.
      *
-     * @param dichotomousEvents the time-series of event markers
+     * @param series the time-series whose times correspond to the event markers
+     * @param dichotomousEvents the event markers
      * @param minimumEventDuration the minimum event duration
-     * @return the adjusted series with only those events included that span the minimum duration
      * @throws NullPointerException if any input is null
      */
-    private TimeSeries<Boolean> filterEventsByDuration( TimeSeries<Boolean> dichotomousEvents,
-                                                        Duration minimumEventDuration )
+    private void filterEventsByDuration( Series series,
+                                         boolean[] dichotomousEvents,
+                                         Duration minimumEventDuration )
     {
+        Objects.requireNonNull( series );
         Objects.requireNonNull( dichotomousEvents );
         Objects.requireNonNull( minimumEventDuration );
 
-        if ( minimumEventDuration == Duration.ZERO )
+        if ( minimumEventDuration.isZero() )
         {
             LOGGER.debug( "Events were not filtered by duration because the minimum duration was {}.", Duration.ZERO );
 
-            return dichotomousEvents;
+            return;
         }
 
-        // Create a series with only events
-        TimeSeries<Boolean> eventSeries = TimeSeriesSlicer.filterByEvent( dichotomousEvents, Event::getValue );
-
-        // Short-circuit
-        if ( eventSeries.getEvents()
-                        .isEmpty() )
-        {
-            LOGGER.debug( "Events were not filtered by duration because no events were detected." );
-
-            return dichotomousEvents;
-        }
-
-        // Determine whether the events meet the minimum span
-        SortedSet<Event<Boolean>> adjustedEvents = new TreeSet<>();
-        Iterator<Event<Boolean>> eventIterator = dichotomousEvents.getEvents()
-                                                                  .iterator();
+        Instant[] times = series.times();
 
         // If the timescale period is non-instantaneous, then add to the event duration
-        Duration scaleAdjustment = this.getTimeScaleAdjustment( dichotomousEvents.getTimeScale() );
+        Duration scaleAdjustment = this.getTimeScaleAdjustment( series.metadata()
+                                                                      .getTimeScale() );
 
-        while ( eventIterator.hasNext() )
+        int i = 0;
+        while ( i < dichotomousEvents.length )
         {
-            Event<Boolean> start = eventIterator.next();
-
             // Event is beginning, find the end and the span
-            if ( Boolean.TRUE.equals( start.getValue() ) )
+            if ( !dichotomousEvents[i] )
+            {
+                i++;
+                continue;
+            }
+
+            LOGGER.debug( "Event started at {}", times[i] );
+
+            int start = i;
+            int last = i;
+            while ( last + 1 < dichotomousEvents.length
+                    && dichotomousEvents[last + 1] )
             {
-                LOGGER.debug( "Event started at {}", start );
+                last++;
+            }
 
-                SortedSet<Event<Boolean>> gathered = new TreeSet<>();
-                gathered.add( start );
-                Event<Boolean> last = start;
-                while ( eventIterator.hasNext() )  // NOSONAR only one conceptual break when event ends
-                {
-                    Event<Boolean> next = eventIterator.next();
-
-                    // Event is formally ending
-                    if ( Boolean.FALSE.equals( next.getValue() ) )
-                    {
-                        SortedSet<Event<Boolean>> validEvents = this.getValidEvents( start.getTime(),
-                                                                                     last.getTime(),
-                                                                                     scaleAdjustment,
-                                                                                     minimumEventDuration,
-                                                                                     gathered );
-                        // Add the new state for all values within the event period
-                        adjustedEvents.addAll( validEvents );
-
-                        // Add the current non-event
-                        adjustedEvents.add( next );
-
-                        break;
-                    }
-                    // Ending because no more values, so next is last
-                    else if ( !eventIterator.hasNext() )
-                    {
-                        SortedSet<Event<Boolean>> validEvents = this.getValidEvents( start.getTime(),
-                                                                                     next.getTime(),
-                                                                                     scaleAdjustment,
-                                                                                     minimumEventDuration,
-                                                                                     gathered );
-                        adjustedEvents.addAll( validEvents );
-
-                        // Add the current event
-                        adjustedEvents.add( next );
-
-                        break;
-                    }
-                    else
-                    {
-                        gathered.add( next );
-                    }
-
-                    last = next;
-                }
+            // Event is formally ending, so adjust all values within the event period
+            if ( last + 1 < dichotomousEvents.length )
+            {
+                this.setValidEvents( times[start], times[last], scaleAdjustment, minimumEventDuration,
+                                     dichotomousEvents, start, last + 1 );
             }
+            // Ending because no more values, so adjust all values except the last, which remains an event
+            else if ( last > start )
+            {
+                this.setValidEvents( times[start], times[last], scaleAdjustment, minimumEventDuration,
+                                     dichotomousEvents, start, last );
+            }
+            // An event that starts at the last time cannot span any duration
             else
             {
-                adjustedEvents.add( start );
+                dichotomousEvents[start] = false;
             }
-        }
 
-        return TimeSeries.of( dichotomousEvents.getMetadata(), adjustedEvents );
+            i = last + 1;
+        }
     }
 
     /**
@@ -716,14 +669,17 @@ public class ReginaOgdenEventDetector implements EventDetector
      * @param endTime the event end time
      * @param scaleAdjustment the timescale adjustment
      * @param minimumEventDuration the minimum event duration
-     * @param gathered the gathered data to adjust
-     * @return the valid events
+     * @param dichotomousEvents the event markers to adjust
+     * @param fromIndex the index of the first marker to adjust, inclusive
+     * @param toIndex the index of the last marker to adjust, exclusive
      */
-    private SortedSet<Event<Boolean>> getValidEvents( Instant startTime,
-                                                      Instant endTime,
-                                                      Duration scaleAdjustment,
-                                                      Duration minimumEventDuration,
-                                                      SortedSet<Event<Boolean>> gathered )
+    private void setValidEvents( Instant startTime,
+                                 Instant endTime,
+                                 Duration scaleAdjustment,
+                                 Duration minimumEventDuration,
+                                 boolean[] dichotomousEvents,
+                                 int fromIndex,
+                                 int toIndex )
     {
         // Are the gathered values within an event of appropriate span?
         Duration duration = Duration.between( startTime, endTime )
@@ -731,9 +687,7 @@ public class ReginaOgdenEventDetector implements EventDetector
 
         boolean valid = duration.compareTo( minimumEventDuration ) >= 0;
 
-        return gathered.stream()
-                       .map( e -> Event.of( e.getTime(), valid ) )
-                       .collect( Collectors.toCollection( TreeSet::new ) );
+        Arrays.fill( dichotomousEvents, fromIndex, toIndex, valid );
     }
 
     /**
@@ -758,17 +712,20 @@ public class ReginaOgdenEventDetector implements EventDetector
     /**
      * Refines the event points, returning a revised series of events.
      *
-     * @param timeSeries the time-series
+     * @param times the event times in time order
+     * @param values the event values
      * @param events the provisional events to refine
      * @param startRadius the start radius for searching
      * @return the refined event markers
      * @throws NullPointerException if any input is null
      */
-    private Set<TimeWindowOuter> refineEvents( TimeSeries<Double> timeSeries,
+    private Set<TimeWindowOuter> refineEvents( Instant[] times,
+                                               double[] values,
                                                Set<TimeWindowOuter> events,
                                                Duration startRadius )
     {
-        Objects.requireNonNull( timeSeries );
+        Objects.requireNonNull( times );
+        Objects.requireNonNull( values );
         Objects.requireNonNull( events );
         Objects.requireNonNull( startRadius );
 
@@ -784,7 +741,8 @@ public class ReginaOgdenEventDetector implements EventDetector
             Instant eventStart = nextEvent.getEarliestValidTime();
             Instant refinedStart = this.findLocalMinimum( eventStart,
                                                           startRadius,
-                                                          timeSeries );
+                                                          times,
+                                                          values );
 
             TimeWindow adjusted = nextEvent.getTimeWindow()
                                            .toBuilder()
@@ -797,6 +755,40 @@ public class ReginaOgdenEventDetector implements EventDetector
         return Collections.unmodifiableSet( adjustedWindows );
     }
 
+    /**
+     * A time-series unpacked into arrays of times and values in time order.
+     *
+     * @param metadata the time-series metadata
+     * @param times the event times
+     * @param values the event values
+     */
+    private record Series( TimeSeriesMetadata metadata, Instant[] times, double[] values )
+    {
+        /**
+         * Unpacks a time-series.
+         *
+         * @param timeSeries the time-series
+         * @return the unpacked series
+         */
+        private static Series of( TimeSeries<Double> timeSeries )
+        {
+            SortedSet<Event<Double>> events = timeSeries.getEvents();
+            Instant[] times = new Instant[events.size()];
+            double[] values = new double[events.size()];
+
+            int i = 0;
+            for ( Event<Double> next : events )
+            {
+                times[i] = next.getTime();
+                values[i] = next.getValue();
+                i++;
+            }
+
+            return new Series( timeSeries.getMetadata(), times, values );
+        }
+    }
+
+
     /**
      * Hidden constructor.
      * @param parameters the event detection parameters
@@ -832,4 +824,4 @@ public class ReginaOgdenEventDetector implements EventDetector
 
         this.parameters = parameters;
     }
-}
+}
\ No newline at end of file
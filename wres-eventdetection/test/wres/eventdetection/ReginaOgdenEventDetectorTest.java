@@ -7,7 +7,10 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import wres.config.yaml.components.EventDetectionParameters;
 import wres.config.yaml.components.EventDetectionParametersBuilder;
@@ -260,6 +263,49 @@ class ReginaOgdenEventDetectorTest
         assertEquals( expected, actual );
     }
 
+    @Test
+    void testRollingMinimumMatchesWindowedMinimumWithMissingValues()
+    {
+        double[] values = new double[] { 5.0, 3.0, Double.NaN, 4.0, 1.0, 2.0, 2.0, 6.0, 0.5, 7.0, 8.0, 9.0 };
+        long windowSize = 3;
+
+        double[] actualForward = ReginaOgdenEventDetector.rollingMinimum( values, windowSize, false );
+        double[] actualBackward = ReginaOgdenEventDetector.rollingMinimum( values, windowSize, true );
+
+        double[] expectedForward = new double[values.length];
+        double[] expectedBackward = new double[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            expectedForward[i] = values[i];
+            for ( int j = Math.max( 0, i + 1 - ( int ) windowSize ); j <= i; j++ )
+            {
+                expectedForward[i] = Math.min( expectedForward[i], values[j] );
+            }
+
+            expectedBackward[i] = values[i];
+            for ( int j = i; j < Math.min( values.length, i + ( int ) windowSize ); j++ )
+            {
+                expectedBackward[i] = Math.min( expectedBackward[i], values[j] );
+            }
+        }
+
+        assertAll( () -> assertArrayEquals( expectedForward, actualForward ),
+                   () -> assertArrayEquals( expectedBackward, actualBackward ) );
+    }
+
+    @Test
+    void testRollingMinimumIsIdentityWhenWindowIsSmallerThanOneStep()
+    {
+        double[] values = new double[] { 5.0, 3.0, Double.NaN, 4.0, 1.0 };
+
+        double[] actualZero = ReginaOgdenEventDetector.rollingMinimum( values, 0, false );
+        double[] actualNegative = ReginaOgdenEventDetector.rollingMinimum( values, -2, true );
+
+        assertAll( () -> assertArrayEquals( values, actualZero ),
+                   () -> assertArrayEquals( values, actualNegative ),
+                   () -> assertNotSame( values, actualZero ) );
+    }
+
     /**
      * @param addNoise is true to add noise, false otherwise
      * @return the test series
@@ -276,6 +276,46 @@ public class DatabaseDataProvider implements DataProvider
         }
     }
 
+    /**
+     * Returns the Java array that backs an SQL array in the named column and releases the SQL array.
+     *
+     * @param columnName the column name
+     * @return the inner array
+     * @throws IllegalStateException if the data is not accessible
+     */
+
+    private Object getArrayAndRelease( String columnName )
+    {
+        Array outer = null;
+
+        try
+        {
+            outer = this.resultSet.getArray( columnName );
+            return outer.getArray();
+        }
+        catch ( SQLException e )
+        {
+            throw new IllegalStateException( THE_DATA_IS_NOT_ACCESSIBLE, e );
+        }
+        finally
+        {
+            // Unfortunately, Closeable was not used in JDBC
+            if ( Objects.nonNull( outer ) )
+            {
+                try
+                {
+                    outer.free();
+                }
+                catch ( SQLException se )
+                {
+                    LOGGER.warn( COULD_NOT_RELEASE_RESOURCES_FOR_COLUMN_IN,
+                                 columnName,
+                                 this.resultSet );
+                }
+            }
+        }
+    }
+
     @Override
     public Object getObject( String columnName )
     {
@@ -589,6 +629,88 @@ public class DatabaseDataProvider implements DataProvider
         return rawResult;
     }
 
+    @Override
+    public double[] getPrimitiveDoubleArray( String columnName )
+    {
+        Object inner = this.getArrayAndRelease( columnName );
+
+        // A driver may supply primitives directly
+        if ( inner instanceof double[] d )
+        {
+            return d;
+        }
+        else if ( inner instanceof Object[] toTransform )
+        {
+            // Unbox once, translating NULL in wres DB to missing value in wres Java
+            double[] result = new double[toTransform.length];
+            for ( int i = 0; i < toTransform.length; i++ )
+            {
+                if ( toTransform[i] instanceof Number n )
+                {
+                    result[i] = n.doubleValue();
+                }
+                else if ( Objects.isNull( toTransform[i] ) )
+                {
+                    result[i] = MissingValues.DOUBLE;
+                }
+                else
+                {
+                    throw new ClassCastException( COULD_NOT_CAST_THE_INPUT_TYPE_OF
+                                                  + toTransform[i].getClass()
+                                                  + "' to a double." );
+                }
+            }
+
+            return result;
+        }
+
+        throw new ClassCastException( COULD_NOT_CAST_THE_INPUT_TYPE_OF
+                                      + inner.getClass()
+                                      + "' to a double[]." );
+    }
+
+    @Override
+    public int[] getPrimitiveIntegerArray( String columnName )
+    {
+        Object inner = this.getArrayAndRelease( columnName );
+
+        // A driver may supply primitives directly
+        if ( inner instanceof int[] v )
+        {
+            return v;
+        }
+        else if ( inner instanceof Object[] toTransform )
+        {
+            int[] result = new int[toTransform.length];
+            for ( int i = 0; i < toTransform.length; i++ )
+            {
+                if ( toTransform[i] instanceof Number n )
+                {
+                    result[i] = n.intValue();
+                }
+                else if ( Objects.isNull( toTransform[i] ) )
+                {
+                    throw new NullPointerException( "Discovered a null value at index " + i
+                                                    + " of the array in column '"
+                                                    + columnName
+                                                    + "', which cannot be read as an int." );
+                }
+                else
+                {
+                    throw new ClassCastException( COULD_NOT_CAST_THE_INPUT_TYPE_OF
+                                                  + toTransform[i].getClass()
+                                                  + "' to an int." );
+                }
+            }
+
+            return result;
+        }
+
+        throw new ClassCastException( COULD_NOT_CAST_THE_INPUT_TYPE_OF
+                                      + inner.getClass()
+                                      + "' to a int[]." );
+    }
+
     @Override
     public BigDecimal getBigDecimal( String columnName )
     {
@@ -3,6 +3,7 @@ package wres.io.database;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -48,6 +49,21 @@ public class DatabaseOperations
     /** Re-used string. */
     private static final String TRUNCATE_TABLE = "TRUNCATE TABLE ";
 
+    /** The header that begins a binary copy: the signature, the flags field and the header extension length. */
+    private static final byte[] BINARY_COPY_HEADER = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', ( byte ) 0xFF, '\r', '\n', 0,
+                                                       0, 0, 0, 0,
+                                                       0, 0, 0, 0 };
+
+    /** The size of the buffer used to stream a binary copy to the database. */
+    private static final int BINARY_COPY_BUFFER_SIZE = 65_536;
+
+    /** The maximum size of one row of <code>wres.TimeSeriesValue</code> in a binary copy: a field count, followed by
+     * the length and value of each field. */
+    private static final int TIME_SERIES_VALUE_ROW_SIZE = Short.BYTES
+                                                          + Integer.BYTES + Integer.BYTES
+                                                          + Integer.BYTES + Integer.BYTES
+                                                          + Integer.BYTES + Double.BYTES;
+
     /**
      * The log parameters.
      * @param arguments the arguments used to run the application, at least two
@@ -297,6 +313,46 @@ public class DatabaseOperations
         }
     }
 
+    /**
+     * Inserts time-series values into the database. For a postgres database, the values are copied in binary format,
+     * which avoids formatting each value as text. Otherwise, the values are inserted in text form.
+     *
+     * @param database the database
+     * @param tableName the table name, which must have the columns in {@link TimeSeriesValueBuffer#COLUMN_NAMES}
+     * @param values the values
+     * @throws NullPointerException if any input is null
+     * @throws IllegalArgumentException if there are no values
+     * @throws IngestException if the values could not be inserted
+     */
+
+    public static void insertTimeSeriesValues( Database database,
+                                               String tableName,
+                                               TimeSeriesValueBuffer values )
+    {
+        Objects.requireNonNull( database );
+        Objects.requireNonNull( tableName );
+        Objects.requireNonNull( values );
+
+        if ( values.isEmpty() )
+        {
+            throw new IllegalArgumentException( "Cannot insert values unless some values are provided." );
+        }
+
+        if ( database.getSettings()
+                     .getDatabaseType() == DatabaseType.POSTGRESQL )
+        {
+            DatabaseOperations.pgCopyBinary( database, tableName, values );
+        }
+        else
+        {
+            DatabaseOperations.insert( database,
+                                       tableName,
+                                       TimeSeriesValueBuffer.COLUMN_NAMES,
+                                       values.toTextRows(),
+                                       new boolean[TimeSeriesValueBuffer.COLUMN_NAMES.size()] );
+        }
+    }
+
     /**
      * Logs information about the execution of the WRES into the database for aid in remote debugging.
      * @param database the database
@@ -770,6 +826,122 @@ public class DatabaseOperations
         }
     }
 
+    /**
+     * Copies time-series values to the indicated table within a postgres database in binary format.
+     * @param database the database
+     * @param tableName The table name.
+     * @param values The values to copy.
+     * @throws IngestException Thrown if an error was encountered when trying to copy data to the database.
+     */
+
+    private static void pgCopyBinary( Database database,
+                                      String tableName,
+                                      TimeSeriesValueBuffer values )
+    {
+        StringJoiner columns = new StringJoiner( ",", " ( ", " )" );
+
+        TimeSeriesValueBuffer.COLUMN_NAMES.forEach( columns::add );
+
+        String copyDefinition = "COPY "
+                                + tableName
+                                + columns
+                                + " FROM STDIN WITH ( FORMAT binary )";
+
+        CopyIn copyIn = null;
+
+        try ( Connection connection = database.getConnection() )
+        {
+            PGConnection pgConnection = connection.unwrap( PGConnection.class );
+            CopyManager manager = pgConnection.getCopyAPI();
+            copyIn = manager.copyIn( copyDefinition );
+
+            ByteBuffer buffer = ByteBuffer.allocate( BINARY_COPY_BUFFER_SIZE );
+            buffer.put( BINARY_COPY_HEADER );
+
+            for ( int i = 0; i < values.size(); i++ )
+            {
+                if ( buffer.remaining() < TIME_SERIES_VALUE_ROW_SIZE )
+                {
+                    DatabaseOperations.writeToCopy( buffer, copyIn );
+                }
+
+                DatabaseOperations.putTimeSeriesValueRow( values, i, buffer );
+            }
+
+            // End of data
+            if ( buffer.remaining() < Short.BYTES )
+            {
+                DatabaseOperations.writeToCopy( buffer, copyIn );
+            }
+
+            buffer.putShort( ( short ) -1 );
+            DatabaseOperations.writeToCopy( buffer, copyIn );
+
+            long rowsCopied = copyIn.endCopy();
+
+            LOGGER.debug( "Copied {} rows of time-series values to {} in binary format.", rowsCopied, tableName );
+        }
+        catch ( SQLException e )
+        {
+            if ( copyIn != null )
+            {
+                try
+                {
+                    copyIn.cancelCopy();
+                }
+                catch ( SQLException se )
+                {
+                    LOGGER.warn( "Failed to cancel copy operation on table {}.",
+                                 tableName,
+                                 se );
+                }
+            }
+
+            throw new IngestException( "Time-series values could not be copied to the database.", e );
+        }
+    }
+
+    /**
+     * Adds one row of time-series values to the buffer in the binary copy format.
+     * @param values the values
+     * @param row the row index
+     * @param buffer the buffer
+     */
+
+    static void putTimeSeriesValueRow( TimeSeriesValueBuffer values, int row, ByteBuffer buffer )
+    {
+        buffer.putShort( ( short ) TimeSeriesValueBuffer.COLUMN_NAMES.size() );
+
+        buffer.putInt( Integer.BYTES );
+        buffer.putInt( values.getTimeSeriesId( row ) );
+
+        buffer.putInt( Integer.BYTES );
+        buffer.putInt( values.getLead( row ) );
+
+        if ( values.isNullValue( row ) )
+        {
+            buffer.putInt( -1 );
+        }
+        else
+        {
+            buffer.putInt( Double.BYTES );
+            buffer.putDouble( values.getValue( row ) );
+        }
+    }
+
+    /**
+     * Writes the contents of the buffer to the copy operation and clears the buffer.
+     * @param buffer the buffer
+     * @param copyIn the copy operation
+     * @throws SQLException if the copy failed for any reason
+     */
+
+    private static void writeToCopy( ByteBuffer buffer, CopyIn copyIn ) throws SQLException
+    {
+        copyIn.writeToCopy( buffer.array(), 0, buffer.position() );
+        buffer.clear();
+    }
+
     /**
      * Copies a row to the database.
      * @param row the row
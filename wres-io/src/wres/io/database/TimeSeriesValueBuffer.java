@@ -0,0 +1,253 @@
+package wres.io.database;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * <p>A buffer of rows for the <code>wres.TimeSeriesValue</code> table, which stores the columns in parallel primitive
+ * arrays. Copy the rows to the database with {@link DatabaseOperations#insertTimeSeriesValues(Database, String,
+ * TimeSeriesValueBuffer)}.
+ *
+ * <p>The columns are <code>timeseries_id</code> (integer), <code>lead</code> (integer) and <code>series_value</code>
+ * (double precision, nullable), in that order.
+ *
+ * @author James Brown
+ */
+
+@NotThreadSafe
+public final class TimeSeriesValueBuffer
+{
+    /** The column names in the order they appear in each row. */
+    public static final List<String> COLUMN_NAMES = List.of( "timeseries_id", "lead", "series_value" );
+
+    /** The time-series identifiers. */
+    private int[] timeSeriesIds;
+
+    /** The lead durations. */
+    private int[] leads;
+
+    /** The time-series values. */
+    private double[] values;
+
+    /** The rows whose time-series value is null. */
+    private final BitSet nulls;
+
+    /** The number of rows. */
+    private int size;
+
+    /**
+     * Creates a buffer with the prescribed initial capacity.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+
+    public TimeSeriesValueBuffer( int initialCapacity )
+    {
+        if ( initialCapacity < 0 )
+        {
+            throw new IllegalArgumentException( "The initial capacity cannot be negative: "
+                                                + initialCapacity
+                                                + "." );
+        }
+
+        this.timeSeriesIds = new int[initialCapacity];
+        this.leads = new int[initialCapacity];
+        this.values = new double[initialCapacity];
+        this.nulls = new BitSet();
+    }
+
+    /**
+     * Adds a row.
+     *
+     * @param timeSeriesId the time-series identifier
+     * @param lead the lead duration
+     * @param value the time-series value, possibly null
+     * @throws IllegalArgumentException if the time-series identifier is larger than the column allows
+     */
+
+    public void add( long timeSeriesId, int lead, Double value )
+    {
+        if ( timeSeriesId > Integer.MAX_VALUE || timeSeriesId < Integer.MIN_VALUE )
+        {
+            throw new IllegalArgumentException( "The time-series identifier "
+                                                + timeSeriesId
+                                                + " is too large for the timeseries_id column." );
+        }
+
+        if ( this.size == this.timeSeriesIds.length )
+        {
+            int capacity = Math.max( 16, this.size + ( this.size >> 1 ) );
+            this.timeSeriesIds = Arrays.copyOf( this.timeSeriesIds, capacity );
+            this.leads = Arrays.copyOf( this.leads, capacity );
+            this.values = Arrays.copyOf( this.values, capacity );
+        }
+
+        this.timeSeriesIds[this.size] = ( int ) timeSeriesId;
+        this.leads[this.size] = lead;
+
+        if ( Objects.isNull( value ) )
+        {
+            this.nulls.set( this.size );
+        }
+        else
+        {
+            this.values[this.size] = value;
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Adds the rows of one time-series in bulk. A non-finite value is stored as null.
+     *
+     * @param timeSeriesId the time-series identifier
+     * @param leads the lead durations
+     * @param values the time-series values
+     * @throws NullPointerException if any array is null
+     * @throws IllegalArgumentException if the arrays have different lengths or the time-series identifier is larger
+     *            than the column allows
+     */
+
+    public void addAll( long timeSeriesId, int[] leads, double[] values )
+    {
+        Objects.requireNonNull( leads );
+        Objects.requireNonNull( values );
+
+        if ( leads.length != values.length )
+        {
+            throw new IllegalArgumentException( "Expected as many lead durations as values, but found "
+                                                + leads.length
+                                                + " lead durations and "
+                                                + values.length
+                                                + " values." );
+        }
+
+        if ( timeSeriesId > Integer.MAX_VALUE || timeSeriesId < Integer.MIN_VALUE )
+        {
+            throw new IllegalArgumentException( "The time-series identifier "
+                                                + timeSeriesId
+                                                + " is too large for the timeseries_id column." );
+        }
+
+        int count = leads.length;
+        int required = this.size + count;
+
+        if ( required > this.timeSeriesIds.length )
+        {
+            int capacity = Math.max( required, Math.max( 16, this.size + ( this.size >> 1 ) ) );
+            this.timeSeriesIds = Arrays.copyOf( this.timeSeriesIds, capacity );
+            this.leads = Arrays.copyOf( this.leads, capacity );
+            this.values = Arrays.copyOf( this.values, capacity );
+        }
+
+        Arrays.fill( this.timeSeriesIds, this.size, required, ( int ) timeSeriesId );
+        System.arraycopy( leads, 0, this.leads, this.size, count );
+        System.arraycopy( values, 0, this.values, this.size, count );
+
+        for ( int i = 0; i < count; i++ )
+        {
+            if ( !Double.isFinite( values[i] ) )
+            {
+                this.nulls.set( this.size + i );
+            }
+        }
+
+        this.size = required;
+    }
+
+    /**
+     * @return the number of rows
+     */
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * @return true if the buffer contains no rows, otherwise false
+     */
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * @param row the row index
+     * @return the time-series identifier
+     * @throws IndexOutOfBoundsException if the row index is out of bounds
+     */
+
+    int getTimeSeriesId( int row )
+    {
+        Objects.checkIndex( row, this.size );
+        return this.timeSeriesIds[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the lead duration
+     * @throws IndexOutOfBoundsException if the row index is out of bounds
+     */
+
+    int getLead( int row )
+    {
+        Objects.checkIndex( row, this.size );
+        return this.leads[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return true if the time-series value is null, otherwise false
+     * @throws IndexOutOfBoundsException if the row index is out of bounds
+     */
+
+    boolean isNullValue( int row )
+    {
+        Objects.checkIndex( row, this.size );
+        return this.nulls.get( row );
+    }
+
+    /**
+     * @param row the row index
+     * @return the time-series value, which is meaningless when {@link #isNullValue(int)}
+     * @throws IndexOutOfBoundsException if the row index is out of bounds
+     */
+
+    double getValue( int row )
+    {
+        Objects.checkIndex( row, this.size );
+        return this.values[row];
+    }
+
+    /**
+     * Returns the rows in text form, which is used when the database does not support a binary copy.
+     *
+     * @return the rows in text form
+     */
+
+    List<String[]> toTextRows()
+    {
+        String[][] rows = new String[this.size][];
+        for ( int i = 0; i < this.size; i++ )
+        {
+            String value = null;
+            if ( !this.nulls.get( i ) )
+            {
+                value = Double.toString( this.values[i] );
+            }
+
+            rows[i] = new String[] { Integer.toString( this.timeSeriesIds[i] ),
+                    Integer.toString( this.leads[i] ),
+                    value };
+        }
+
+        return Arrays.asList( rows );
+    }
+}
@@ -4,8 +4,6 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
@@ -20,20 +18,20 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
-import org.apache.commons.codec.binary.Hex;
-import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.config.yaml.components.DataType;
+import wres.datamodel.DataProvider;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.MissingValues;
 import wres.datamodel.scale.TimeScaleOuter;
@@ -42,6 +40,7 @@ import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesMetadata;
 import wres.datamodel.time.TimeSeriesSlicer;
+import wres.io.database.DataScripter;
 import wres.io.database.DatabaseOperations;
 import wres.io.database.caching.DatabaseCaches;
 import wres.io.database.caching.DataSources;
@@ -114,6 +113,12 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
     /** A thread pool to process ingests. */
     private final ExecutorService executor;
 
+    /** The features of the sources identified with the legacy hashing scheme, null until known. */
+    private volatile Set<Long> legacyFeatures;
+
+    /** A lock that guards the discovery of legacy sources. */
+    private final Object legacySourcesLock = new Object();
+
     /**
      * Builds an instance incrementally.
      */
@@ -462,7 +467,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
         if ( source.performedInsert() )
         {
             // Try to lock source with an advisory lock
-            if ( this.lockSource( source, timeSeries, innerLockManager ) )
+            if ( this.lockSource( source, innerLockManager ) )
             {
                 try
                 {
@@ -511,7 +516,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
     {
         DataType dataType = TimeSeriesSlicer.getDataType( timeSeries );
 
-        Set<Pair<CountDownLatch, CountDownLatch>> latches =
+        Set<CompletableFuture<Void>> copied =
                 this.insertSingleValuedTimeSeries( this.getSystemSettings(),
                                                    this.getDatabase(),
                                                    this.getCaches()
@@ -520,7 +525,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
                                                    source.getId() );
 
         // Finalize, which marks the source complete
-        return this.finalizeNewSource( source, dataType, latches, dataSource );
+        return this.finalizeNewSource( source, dataType, copied, dataSource );
     }
 
     /**
@@ -670,7 +675,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
         if ( source.performedInsert() )
         {
             // Try to lock source with an advisory lock
-            if ( this.lockSource( source, timeSeries, innerLockManager ) )
+            if ( this.lockSource( source, innerLockManager ) )
             {
                 try
                 {
@@ -719,7 +724,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
     {
         DataType dataType = TimeSeriesSlicer.getDataType( timeSeries );
 
-        Set<Pair<CountDownLatch, CountDownLatch>> latches =
+        Set<CompletableFuture<Void>> copied =
                 this.insertEnsembleTimeSeries( this.getSystemSettings(),
                                                this.getDatabase(),
                                                this.getCaches()
@@ -728,7 +733,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
                                                source.getId() );
 
         // Finalize, which marks the source complete
-        return this.finalizeNewSource( source, dataType, latches, dataSource );
+        return this.finalizeNewSource( source, dataType, copied, dataSource );
     }
 
     /**
@@ -794,21 +799,14 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
 
     /**
      * Attempts to lock a source aka time-series.
-     * @param <T> the type of time-series event value
      * @param source the source to lock
-     * @param timeSeries the time-series
      * @param lockManager the lock manager
      * @return whether the lock was acquired
      */
 
-    private <T> boolean lockSource( SourceDetails source, TimeSeries<T> timeSeries, DatabaseLockManager lockManager )
+    private boolean lockSource( SourceDetails source, DatabaseLockManager lockManager )
     {
-        if ( LOGGER.isDebugEnabled() && Objects.nonNull( timeSeries ) )
-        {
-            byte[] rawHash = this.identifyTimeSeries( timeSeries );
-            String hash = Hex.encodeHexString( rawHash, false );
-            LOGGER.debug( "{} is responsible for source {}", this, hash );
-        }
+        LOGGER.debug( "{} is responsible for source {}", this, source.getHash() );
 
         try
         {
@@ -876,8 +874,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
 
     private <T> SourceDetails saveTimeSeriesSource( TimeSeries<T> timeSeries, URI uri )
     {
-        byte[] rawHash = this.identifyTimeSeries( timeSeries );
-        String hash = Hex.encodeHexString( rawHash, false );
+        String hash = this.identifyTimeSeries( timeSeries, uri );
 
         Database innerDatabase = this.getDatabase();
         SourceDetails source = this.createSourceDetails( hash );
@@ -928,14 +925,14 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
      *
      * @param source the source details
      * @param dataType the data type
-     * @param latches the latches used to coordinate with other ingest tasks
+     * @param copied the futures that complete when the values have been copied, possibly by other ingest tasks
      * @param dataSource the data source
      * @return the ingest results
      */
 
     private List<IngestResult> finalizeNewSource( SourceDetails source,
                                                   DataType dataType,
-                                                  Set<Pair<CountDownLatch, CountDownLatch>> latches,
+                                                  Set<CompletableFuture<Void>> copied,
                                                   DataSource dataSource )
     {
         /* Mark the given source completed because the caller was in charge of
@@ -945,25 +942,15 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
          * that another task has finished it or by finishing it right here and now.
          *
          * Due to #64922 (empty WRDS AHPS data sources) and #65049 (empty CSV
-         * data sources), this class tolerates an empty Set of latches and logs a
+         * data sources), this class tolerates an empty Set of futures and logs a
          * warning (prior behavior was to throw IllegalArgumentException).
          */
 
-        // Make sure the ingest is actually complete by sending
-        // a signal that we sit and await the ingest of values prior to
-        // marking them complete.
-        for ( Pair<CountDownLatch, CountDownLatch> latchPair : latches )
-        {
-            // Say "I am about to sit here and wait, y'all..."
-            latchPair.getLeft()
-                     .countDown();
-        }
-
-        if ( !latches.isEmpty() )
+        if ( !copied.isEmpty() )
         {
             try
             {
-                this.flush( latches, source );
+                this.flush( copied, source );
             }
             catch ( InterruptedException ie )
             {
@@ -1059,7 +1046,7 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
 
             // First, try to safely remove it, which requires an exclusive lock
             boolean removed = false;
-            if ( this.lockSource( source, null, this.getLockManager() ) )
+            if ( this.lockSource( source, this.getLockManager() ) )
             {
                 try
                 {
@@ -1130,68 +1117,78 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
     /**
      * Attempts to flush ingested data to the database.
      *
-     * @param latches the latches
+     * @param copied the futures that complete when the values have been copied
      * @param source the source
      * @throws InterruptedException if the flush was interrupted
+     * @throws IngestException if the values could not be copied
      */
 
-    private void flush( Set<Pair<CountDownLatch, CountDownLatch>> latches, SourceDetails source )
+    private void flush( Set<CompletableFuture<Void>> copied, SourceDetails source )
             throws InterruptedException
     {
-        Duration eachWait = Duration.ofMillis( 1 );
+        Duration eachWait = Duration.ofMillis( this.getSystemSettings()
+                                                   .getMaximumCopyDelay() );
 
-        for ( Pair<CountDownLatch, CountDownLatch> latchPair : latches )
+        for ( CompletableFuture<Void> nextCopied : copied )
         {
-            // Wait a moment for another task to save my data before
-            // doing it myself.
-            boolean dataFinished = latchPair.getRight()
-                                            .await( eachWait.toMillis(),
-                                                    TimeUnit.MILLISECONDS );
-            if ( !dataFinished )
+            try
             {
-                LOGGER.debug( "Sick of waiting for another task, saving data myself! {}, {}",
-                              source,
-                              latchPair );
-                boolean thisFlushed = IngestedValues.flush( this.database,
-                                                            latchPair );
-
-                // It is still necessary to double-check that the data has
-                // actually been written, because even if we call flush(),
-                // there is no guarantee that this was the task that wrote.
-                // However, because we called flush, we or someone must be
-                // doing the write at this point. Wait indefinitely for it.
-                // On the other hand, if the other task died while
-                // attempting the copy, we cannot sit here and wait forever.
-                // If we truly completed it, await() call would return
-                // immediately. If we did not successfully complete, then we
-                // should be ready to give up after a time to break
-                // deadlock.
-                if ( !thisFlushed )
+                // Wait a moment for another task to save my data, as part of
+                // a larger batch, before doing it myself.
+                if ( !this.await( nextCopied, eachWait ) )
                 {
-                    boolean done = latchPair.getRight()
-                                            .await( PATIENCE_LEVEL.toMillis(),
-                                                    TimeUnit.MILLISECONDS );
-
-                    // This is uncomfortable for sure, and a better way
-                    // should be found than making an assumption that the
-                    // other task failed. The thing we are working around is
-                    // that get() may be called on this task prior to get()
-                    // on the task responsible for marking completed, while
-                    // that other task has had an exception that does not
-                    // propagate.
-                    if ( !done )
+                    LOGGER.debug( "Sick of waiting for another task, saving data myself! {}, {}",
+                                  source,
+                                  nextCopied );
+                    boolean thisFlushed = IngestedValues.flush( this.database,
+                                                                nextCopied );
+
+                    // If another task is doing the copy, wait for it. On the
+                    // other hand, if the other task died while attempting the
+                    // copy, we cannot sit here and wait forever. A failed copy
+                    // completes the future exceptionally, so this is only a
+                    // last resort to break deadlock.
+                    if ( !thisFlushed
+                         && !this.await( nextCopied, PATIENCE_LEVEL ) )
                     {
-                        throw new IngestException(
-                                "Another task did not "
-                                + "ingest and complete "
-                                + latchPair
-                                + " within "
-                                + PATIENCE_LEVEL
-                                + ", therefore assuming "
-                                + "it failed." );
+                        throw new IngestException( "Another task did not "
+                                                   + "ingest and complete "
+                                                   + nextCopied
+                                                   + " within "
+                                                   + PATIENCE_LEVEL
+                                                   + ", therefore assuming "
+                                                   + "it failed." );
                     }
                 }
             }
+            catch ( ExecutionException e )
+            {
+                throw new IngestException( "Failed to ingest the values of source " + source + ".", e.getCause() );
+            }
+        }
+    }
+
+    /**
+     * Waits for values to be copied.
+     *
+     * @param copied the future that completes when the values have been copied
+     * @param wait the maximum time to wait
+     * @return true if the values were copied, false if the wait elapsed first
+     * @throws InterruptedException if the wait was interrupted
+     * @throws ExecutionException if the values could not be copied
+     */
+
+    private boolean await( CompletableFuture<Void> copied, Duration wait )
+            throws InterruptedException, ExecutionException
+    {
+        try
+        {
+            copied.get( wait.toMillis(), TimeUnit.MILLISECONDS );
+            return true;
+        }
+        catch ( TimeoutException e )
+        {
+            return false;
         }
     }
 
@@ -1238,14 +1235,14 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
      * @param ensemblesCache the ensembles cache
      * @param timeSeries the time-series to insert
      * @param sourceId the source identifier
-     * @return a set of latch pairs, the left of which indicates "waiting" and the right indicates "completed"
+     * @return the futures that complete when the values have been copied
      */
 
-    private Set<Pair<CountDownLatch, CountDownLatch>> insertSingleValuedTimeSeries( SystemSettings systemSettings,
-                                                                                    Database database,
-                                                                                    Ensembles ensemblesCache,
-                                                                                    TimeSeries<Double> timeSeries,
-                                                                                    long sourceId )
+    private Set<CompletableFuture<Void>> insertSingleValuedTimeSeries( SystemSettings systemSettings,
+                                                                       Database database,
+                                                                       Ensembles ensemblesCache,
+                                                                       TimeSeries<Double> timeSeries,
+                                                                       long sourceId )
     {
         if ( timeSeries.getEvents()
                        .isEmpty() )
@@ -1260,14 +1257,13 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
                                                       ensemblesCache,
                                                       timeSeries,
                                                       sourceId );
-        Set<Pair<CountDownLatch, CountDownLatch>> innerLatches = this.insertTimeSeriesValuesRows( systemSettings,
-                                                                                                  database,
-                                                                                                  timeSeriesId,
-                                                                                                  timeSeries );
-
-        Set<Pair<CountDownLatch, CountDownLatch>> latches = new HashSet<>( innerLatches );
+        CompletableFuture<Void> copied = this.insertTimeSeriesValuesRows( systemSettings,
+                                                                          database,
+                                                                          timeSeriesId,
+                                                                          this.getReferenceDatetime( timeSeries ),
+                                                                          timeSeries.getEvents() );
 
-        return Collections.unmodifiableSet( latches );
+        return Collections.singleton( copied );
     }
 
     /**
@@ -1276,14 +1272,14 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
      * @param ensemblesCache the ensembles cache
      * @param timeSeries the time-series to insert
      * @param sourceId the source identifier
-     * @return a set of latch pairs, the left of which indicates "waiting" and the right indicates "completed"
+     * @return the futures that complete when the values have been copied
      */
 
-    private Set<Pair<CountDownLatch, CountDownLatch>> insertEnsembleTimeSeries( SystemSettings systemSettings,
-                                                                                Database database,
-                                                                                Ensembles ensemblesCache,
-                                                                                TimeSeries<Ensemble> timeSeries,
-                                                                                long sourceId )
+    private Set<CompletableFuture<Void>> insertEnsembleTimeSeries( SystemSettings systemSettings,
+                                                                   Database database,
+                                                                   Ensembles ensemblesCache,
+                                                                   TimeSeries<Ensemble> timeSeries,
+                                                                   long sourceId )
     {
         if ( timeSeries.getEvents()
                        .isEmpty() )
@@ -1291,7 +1287,8 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
             throw new IllegalArgumentException( "TimeSeries must not be empty." );
         }
 
-        Set<Pair<CountDownLatch, CountDownLatch>> latches = new HashSet<>();
+        Set<CompletableFuture<Void>> copied = new HashSet<>();
+        Instant referenceDatetime = this.getReferenceDatetime( timeSeries );
 
         TimeSeriesMetadata metadata = timeSeries.getMetadata();
         this.insertReferenceTimeRows( database, sourceId, metadata.getReferenceTimes() );
@@ -1309,16 +1306,16 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
                                                                           timeSeries,
                                                                           ensembleId,
                                                                           sourceId );
-            Set<Pair<CountDownLatch, CountDownLatch>> nextLatches = this.insertEnsembleTrace( systemSettings,
-                                                                                              database,
-                                                                                              timeSeries,
-                                                                                              timeSeriesId,
-                                                                                              trace.getValue() );
+            CompletableFuture<Void> nextCopied = this.insertTimeSeriesValuesRows( systemSettings,
+                                                                                  database,
+                                                                                  timeSeriesId,
+                                                                                  referenceDatetime,
+                                                                                  trace.getValue() );
 
-            latches.addAll( nextLatches );
+            copied.add( nextCopied );
         }
 
-        return Collections.unmodifiableSet( latches );
+        return Collections.unmodifiableSet( copied );
     }
 
     /**
@@ -1398,99 +1395,47 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
         return id;
     }
 
-    /**
-     * @param systemSettings the system settings
-     * @param database the database
-     * @param originalTimeSeries the time-series to insert
-     * @param timeSeriesIdForTrace the trace identifier
-     * @param ensembleTrace the trace values
-     * @return a set of latch pairs, the left of which indicates "waiting" and the right indicates "completed"
-     */
-
-    private Set<Pair<CountDownLatch, CountDownLatch>> insertEnsembleTrace( SystemSettings systemSettings,
-                                                                           Database database,
-                                                                           TimeSeries<Ensemble> originalTimeSeries,
-                                                                           long timeSeriesIdForTrace,
-                                                                           SortedSet<Event<Double>> ensembleTrace )
-    {
-        Instant referenceDatetime = this.getReferenceDatetime( originalTimeSeries );
-
-        Set<Pair<CountDownLatch, CountDownLatch>> latches = new HashSet<>();
-
-        for ( Event<Double> event : ensembleTrace )
-        {
-            Pair<CountDownLatch, CountDownLatch> nextLatch = this.insertTimeSeriesValuesRow( systemSettings,
-                                                                                             database,
-                                                                                             timeSeriesIdForTrace,
-                                                                                             referenceDatetime,
-                                                                                             event );
-            latches.add( nextLatch );
-        }
-
-        return Collections.unmodifiableSet( latches );
-    }
-
     /**
      * @param systemSettings the system settings
      * @param database the database
      * @param timeSeriesId the trace identifier
-     * @param timeSeries the time-series to ingest
-     * @return a set of latch pairs, the left of which indicates "waiting" and the right indicates "completed"
+     * @param referenceDatetime the reference time
+     * @param events the events to ingest
+     * @return a future that completes when the values have been copied
      * @throws IngestException if ingest failed for any reason
      */
 
-    private Set<Pair<CountDownLatch, CountDownLatch>> insertTimeSeriesValuesRows( SystemSettings systemSettings,
-                                                                                  Database database,
-                                                                                  long timeSeriesId,
-                                                                                  TimeSeries<Double> timeSeries )
+    private CompletableFuture<Void> insertTimeSeriesValuesRows( SystemSettings systemSettings,
+                                                                Database database,
+                                                                long timeSeriesId,
+                                                                Instant referenceDatetime,
+                                                                SortedSet<Event<Double>> events )
     {
-        Instant referenceDatetime = this.getReferenceDatetime( timeSeries );
-
-        Set<Pair<CountDownLatch, CountDownLatch>> latches = new HashSet<>();
+        int[] leads = new int[events.size()];
+        double[] values = new double[events.size()];
+        int i = 0;
 
-        for ( Event<Double> event : timeSeries.getEvents() )
+        for ( Event<Double> event : events )
         {
-            Pair<CountDownLatch, CountDownLatch> nextLatch = this.insertTimeSeriesValuesRow( systemSettings,
-                                                                                             database,
-                                                                                             timeSeriesId,
-                                                                                             referenceDatetime,
-                                                                                             event );
-            latches.add( nextLatch );
-        }
-
-        return Collections.unmodifiableSet( latches );
-    }
+            Duration leadDuration = Duration.between( referenceDatetime, event.getTime() );
+            double value = event.getValue();
 
-    /**
-     * @param systemSettings the system settings
-     * @param database the database
-     * @param timeSeriesId the trace identifier
-     * @param referenceDatetime the reference time
-     * @param valueAndValidDateTime the event
-     * @return a pair of latches, the left of which indicates "waiting" and the right indicates "completed"
-     */
-
-    private Pair<CountDownLatch, CountDownLatch> insertTimeSeriesValuesRow( SystemSettings systemSettings,
-                                                                            Database database,
-                                                                            long timeSeriesId,
-                                                                            Instant referenceDatetime,
-                                                                            Event<Double> valueAndValidDateTime )
-    {
-        Instant validDatetime = valueAndValidDateTime.getTime();
-        Duration leadDuration = Duration.between( referenceDatetime, validDatetime );
-        Double valueToAdd = valueAndValidDateTime.getValue();
+            // When the Java-land value matches WRES Missing Value, use NULL in DB.
+            if ( MissingValues.isMissingValue( value ) )
+            {
+                value = Double.NaN;
+            }
 
-        // When the Java-land value matches WRES Missing Value, use NULL in DB.
-        if ( MissingValues.isMissingValue( valueToAdd ) )
-        {
-            valueToAdd = null;
+            leads[i] = ( int ) leadDuration.toMinutes();
+            values[i] = value;
+            i++;
         }
 
-        return IngestedValues.addTimeSeriesValue( systemSettings,
-                                                  database,
-                                                  timeSeriesId,
-                                                  ( int ) leadDuration.toMinutes(),
-                                                  valueToAdd );
+        return IngestedValues.addTimeSeriesValues( systemSettings,
+                                                   database,
+                                                   timeSeriesId,
+                                                   leads,
+                                                   values );
     }
 
     /**
@@ -1665,36 +1610,110 @@ public class DatabaseTimeSeriesIngester implements TimeSeriesIngester
     }
 
     /**
+     * Identifies a time-series by its natural key or hash. When the hash is not already known to the database and the
+     * database contains vector sources for the same feature that were identified with the legacy scheme, the legacy
+     * hash is recomputed and used instead when it identifies an existing source. This allows databases populated by
+     * earlier versions of this application to continue deduplicating time-series, while confining the cost of the
+     * legacy hash to the features that were ingested with the legacy scheme. See {@link TimeSeriesDigest}.
+     *
      * @param timeSeries the time-series
-     * @return the time-series MD5 checksum
+     * @param uri the uri to help with messaging
+     * @return the time-series hash
+     * @throws IngestException if the hash could not be computed or the database could not be inspected
      */
 
-    private byte[] identifyTimeSeries( TimeSeries<?> timeSeries )
+    private String identifyTimeSeries( TimeSeries<?> timeSeries, URI uri )
     {
-        MessageDigest md5Name;
+        String hash = TimeSeriesDigest.identify( timeSeries );
 
         try
         {
-            md5Name = MessageDigest.getInstance( "MD5" );
+            Set<Long> legacy = this.getLegacyFeatures();
+
+            if ( !legacy.isEmpty()
+                 && legacy.contains( this.getFeatureId( timeSeries.getMetadata()
+                                                                  .getFeature() ) ) )
+            {
+                DataSources dataSources = this.getCaches()
+                                              .getDataSourcesCache();
+
+                if ( Objects.isNull( dataSources.getSource( hash ) ) )
+                {
+                    String legacyHash = TimeSeriesDigest.identifyLegacy( timeSeries );
+
+                    if ( Objects.nonNull( dataSources.getSource( legacyHash ) ) )
+                    {
+                        LOGGER.debug( "Identified a time-series from source '{}' with legacy hash {}.",
+                                      uri,
+                                      legacyHash );
+
+                        return legacyHash;
+                    }
+                }
+            }
         }
-        catch ( NoSuchAlgorithmException nsae )
+        catch ( SQLException se )
         {
-            throw new IngestException( "Couldn't use MD5 algorithm.",
-                                       nsae );
+            throw new IngestException( "While identifying a time-series from source '"
+                                       + uri
+                                       + "', failed to look for an existing source with the same hash.",
+                                       se );
         }
 
-        DigestUtils digestUtils = new DigestUtils( md5Name );
+        return hash;
+    }
+
+    /**
+     * Finds the features of any vector sources that were identified with the legacy hashing scheme. The database is
+     * inspected once per ingester because the sources ingested by this application are identified with the current
+     * scheme. A legacy hash can only match a source with the same feature, so the legacy hash is only worth computing
+     * for these features.
+     *
+     * @return the features of the legacy sources, possibly empty
+     * @throws SQLException if the database could not be inspected
+     */
 
-        // Here assuming that the toString represents all state of a timeseries.
-        byte[] hash = digestUtils.digest( timeSeries.toString() );
+    private Set<Long> getLegacyFeatures() throws SQLException
+    {
+        Set<Long> legacy = this.legacyFeatures;
 
-        if ( hash.length < 16 )
+        if ( Objects.isNull( legacy ) )
         {
-            throw new IngestException( "The MD5 sum of " + timeSeries
-                                       + " was shorter than expected." );
+            synchronized ( this.legacySourcesLock )
+            {
+                legacy = this.legacyFeatures;
+
+                if ( Objects.isNull( legacy ) )
+                {
+                    DataScripter script = new DataScripter( this.getDatabase() );
+                    script.setHighPriority( true );
+                    script.addLine( "SELECT DISTINCT feature_id" );
+                    script.addLine( "FROM wres.Source" );
+                    script.addLine( "WHERE is_point_data = ?" );
+                    script.addTab().addLine( "AND hash NOT LIKE ?" );
+                    script.addArgument( true );
+                    script.addArgument( TimeSeriesDigest.VERSION_PREFIX + "%" );
+
+                    Set<Long> features = new HashSet<>();
+
+                    try ( DataProvider data = script.getData() )
+                    {
+                        while ( data.next() )
+                        {
+                            features.add( data.getLong( "feature_id" ) );
+                        }
+                    }
+
+                    LOGGER.debug( "Discovered {} features with legacy source hashes in the database.",
+                                  features.size() );
+
+                    legacy = Collections.unmodifiableSet( features );
+                    this.legacyFeatures = legacy;
+                }
+            }
         }
 
-        return hash;
+        return legacy;
     }
 
     /**
@@ -0,0 +1,255 @@
+package wres.io.ingesting.database;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.types.Ensemble;
+import wres.io.ingesting.IngestException;
+
+/**
+ * <p>Computes the natural key or hash of a time-series source, which is used to identify time-series that were
+ * ingested previously.
+ *
+ * <p>The current scheme streams the time-series metadata and the event times and values into an MD5 digest as
+ * bytes, without building a string representation of the whole time-series. Hashes from the current scheme begin
+ * with the {@link #VERSION_PREFIX}. Hashes from the legacy scheme, which is the MD5 of the time-series string
+ * representation, are plain hexadecimal strings. Hashes from the legacy scheme remain in databases that were
+ * populated by earlier versions of this application and may be recomputed with {@link #identifyLegacy(TimeSeries)}
+ * when looking for a time-series whose hash was not found under the current scheme.
+ *
+ * @author James Brown
+ */
+
+final class TimeSeriesDigest
+{
+    /** The prefix of a hash computed with the current scheme. */
+    static final String VERSION_PREFIX = "2-";
+
+    /** The size of the buffer in bytes, which is flushed to the digest when full. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The size of the largest fixed-length record, which is an event time followed by a double value. */
+    private static final int MAXIMUM_RECORD_SIZE = 1 + Long.BYTES + Integer.BYTES + 1 + Double.BYTES;
+
+    /** Tag for an event whose value is a double. */
+    private static final byte DOUBLE_VALUE = 1;
+
+    /** Tag for an event whose value is an ensemble. */
+    private static final byte ENSEMBLE_VALUE = 2;
+
+    /** Tag for an event whose value is another type. */
+    private static final byte OTHER_VALUE = 3;
+
+    /** Tag for an event whose value is null. */
+    private static final byte NULL_VALUE = 4;
+
+    /** Tag for an event. */
+    private static final byte EVENT = 5;
+
+    /** Tag for ensemble labels that are the same as the labels of the previous event. */
+    private static final byte SAME_LABELS = 0;
+
+    /** Tag for ensemble labels that differ from the labels of the previous event. */
+    private static final byte NEW_LABELS = 1;
+
+    /**
+     * Computes the hash of a time-series with the current scheme.
+     *
+     * @param timeSeries the time-series
+     * @return the hash
+     * @throws NullPointerException if the time-series is null
+     * @throws IngestException if the hash could not be computed
+     */
+
+    static String identify( TimeSeries<?> timeSeries )
+    {
+        Objects.requireNonNull( timeSeries );
+
+        MessageDigest digest = TimeSeriesDigest.getMessageDigest();
+        ByteBuffer buffer = ByteBuffer.allocate( BUFFER_SIZE );
+
+        // The metadata is small, so its string representation is cheap
+        TimeSeriesDigest.putString( timeSeries.getMetadata()
+                                              .toString(), digest, buffer );
+
+        Ensemble.Labels lastLabels = null;
+        for ( Event<?> event : timeSeries.getEvents() )
+        {
+            TimeSeriesDigest.ensureCapacity( MAXIMUM_RECORD_SIZE, digest, buffer );
+
+            Instant time = event.getTime();
+            buffer.put( EVENT );
+            buffer.putLong( time.getEpochSecond() );
+            buffer.putInt( time.getNano() );
+
+            Object value = event.getValue();
+            if ( value instanceof Double doubleValue )
+            {
+                buffer.put( DOUBLE_VALUE );
+                buffer.putLong( Double.doubleToLongBits( doubleValue ) );
+            }
+            else if ( value instanceof Ensemble ensemble )
+            {
+                buffer.put( ENSEMBLE_VALUE );
+                lastLabels = TimeSeriesDigest.putEnsemble( ensemble, lastLabels, digest, buffer );
+            }
+            else if ( Objects.isNull( value ) )
+            {
+                buffer.put( NULL_VALUE );
+            }
+            else
+            {
+                buffer.put( OTHER_VALUE );
+                TimeSeriesDigest.putString( value.toString(), digest, buffer );
+            }
+        }
+
+        buffer.flip();
+        digest.update( buffer );
+
+        return VERSION_PREFIX + Hex.encodeHexString( digest.digest(), false );
+    }
+
+    /**
+     * Computes the hash of a time-series with the legacy scheme, which is the MD5 of the string representation of the
+     * time-series.
+     *
+     * @param timeSeries the time-series
+     * @return the legacy hash
+     * @throws NullPointerException if the time-series is null
+     * @throws IngestException if the hash could not be computed
+     */
+
+    static String identifyLegacy( TimeSeries<?> timeSeries )
+    {
+        Objects.requireNonNull( timeSeries );
+
+        DigestUtils digestUtils = new DigestUtils( TimeSeriesDigest.getMessageDigest() );
+
+        // Here assuming that the toString represents all state of a timeseries.
+        byte[] hash = digestUtils.digest( timeSeries.toString() );
+
+        return Hex.encodeHexString( hash, false );
+    }
+
+    /**
+     * Adds an ensemble to the digest.
+     *
+     * @param ensemble the ensemble
+     * @param lastLabels the labels of the previous ensemble, possibly null
+     * @param digest the digest
+     * @param buffer the buffer
+     * @return the labels of the ensemble
+     */
+
+    private static Ensemble.Labels putEnsemble( Ensemble ensemble,
+                                                Ensemble.Labels lastLabels,
+                                                MessageDigest digest,
+                                                ByteBuffer buffer )
+    {
+        double[] members = ensemble.getMembers();
+        TimeSeriesDigest.ensureCapacity( Integer.BYTES, digest, buffer );
+        buffer.putInt( members.length );
+
+        for ( double member : members )
+        {
+            TimeSeriesDigest.ensureCapacity( Double.BYTES, digest, buffer );
+            buffer.putLong( Double.doubleToLongBits( member ) );
+        }
+
+        // The labels are typically the same for every event, so only add them when they change
+        Ensemble.Labels labels = ensemble.getLabels();
+        TimeSeriesDigest.ensureCapacity( 1, digest, buffer );
+        if ( Objects.equals( labels, lastLabels ) )
+        {
+            buffer.put( SAME_LABELS );
+        }
+        else
+        {
+            buffer.put( NEW_LABELS );
+            String[] names = labels.getLabels();
+            TimeSeriesDigest.ensureCapacity( Integer.BYTES, digest, buffer );
+            buffer.putInt( names.length );
+            for ( String name : names )
+            {
+                TimeSeriesDigest.putString( name, digest, buffer );
+            }
+        }
+
+        return labels;
+    }
+
+    /**
+     * Adds a string to the digest, preceded by its length, in order to separate adjacent strings.
+     *
+     * @param string the string
+     * @param digest the digest
+     * @param buffer the buffer
+     */
+
+    private static void putString( String string, MessageDigest digest, ByteBuffer buffer )
+    {
+        byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+        TimeSeriesDigest.ensureCapacity( Integer.BYTES, digest, buffer );
+        buffer.putInt( bytes.length );
+
+        // Flush and then bypass the buffer
+        buffer.flip();
+        digest.update( buffer );
+        buffer.clear();
+        digest.update( bytes );
+    }
+
+    /**
+     * Flushes the buffer to the digest if the buffer has less than the required capacity remaining.
+     *
+     * @param required the required capacity in bytes
+     * @param digest the digest
+     * @param buffer the buffer
+     */
+
+    private static void ensureCapacity( int required, MessageDigest digest, ByteBuffer buffer )
+    {
+        if ( buffer.remaining() < required )
+        {
+            buffer.flip();
+            digest.update( buffer );
+            buffer.clear();
+        }
+    }
+
+    /**
+     * @return an MD5 message digest
+     * @throws IngestException if the algorithm is unavailable
+     */
+
+    private static MessageDigest getMessageDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance( "MD5" );
+        }
+        catch ( NoSuchAlgorithmException nsae )
+        {
+            throw new IngestException( "Couldn't use MD5 algorithm.",
+                                       nsae );
+        }
+    }
+
+    /**
+     * Do not construct.
+     */
+
+    private TimeSeriesDigest()
+    {
+    }
+}
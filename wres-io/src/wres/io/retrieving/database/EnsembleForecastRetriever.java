@@ -2,10 +2,12 @@ package wres.io.retrieving.database;
 
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -43,6 +45,20 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
 
     private final Ensembles ensemblesCache;
 
+    /**
+     * The member layouts, indexed by the ordered ensemble identifiers of a database row. There are typically very few
+     * distinct layouts, such as one for each forecast system.
+     */
+
+    private final Map<LayoutKey, MemberLayout> memberLayouts = new ConcurrentHashMap<>();
+
+    /**
+     * The most recent member layout, which avoids a map lookup for the common case of consecutive rows with the same
+     * layout.
+     */
+
+    private volatile MemberLayout lastMemberLayout;
+
     /**
      * Builder.
      */
@@ -198,53 +214,89 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
     /**
      * <p>Returns a function that obtains the measured value.
      *
-     * <p>TODO: include the labels too, once they are needed. See #56214-37 for the amended script. When processing these,
-     * obtain the labels from a local cache, because they will be repeated across many ensembles, typically, and 
-     * String[] are comparatively expensive.
+     * <p>The member values are read as primitives and permuted into label order using a {@link MemberLayout}, which is
+     * resolved once for each distinct sequence of ensemble identifiers and shares one set of {@link Labels}.
      *
      * @return a function to obtain the measured value
      */
 
-    private Function<DataProvider, Event<Ensemble>> getDataSupplier()
+    Function<DataProvider, Event<Ensemble>> getDataSupplier()
     {
         return provider -> {
 
-            Double[] members = provider.getDoubleArray( "ensemble_members" );
-            Integer[] ids = provider.getIntegerArray( "ensemble_ids" );
+            double[] members = provider.getPrimitiveDoubleArray( "ensemble_members" );
+            int[] ids = provider.getPrimitiveIntegerArray( "ensemble_ids" );
             Instant validTime = provider.getInstant( "valid_time" );
 
-            // Re-duplication is handled in the superclass, so do not consider here, instead map by label
-            Map<String, Double> ensemble = new TreeMap<>();
+            // Re-duplication is handled in the superclass, so do not consider here
+            MemberLayout layout = this.getMemberLayout( ids );
+            double[] ordered = layout.order( members );
+
+            return Event.of( validTime, Ensemble.of( ordered, layout.labels() ) );
+        };
+    }
+
+    /**
+     * Returns the member layout for the prescribed ensemble identifiers, creating it as needed.
+     *
+     * @param ids the ensemble identifiers of a database row
+     * @return the member layout
+     */
+
+    private MemberLayout getMemberLayout( int[] ids )
+    {
+        MemberLayout last = this.lastMemberLayout;
 
-            // Iterate the members, map the units and discover the names and add to the map
-            for ( int i = 0; i < members.length; i++ )
+        if ( Objects.nonNull( last ) && Arrays.equals( last.ids(), ids ) )
+        {
+            return last;
+        }
+
+        MemberLayout layout = this.memberLayouts.computeIfAbsent( new LayoutKey( ids ),
+                                                                  k -> this.createMemberLayout( k.ids() ) );
+        this.lastMemberLayout = layout;
+
+        return layout;
+    }
+
+    /**
+     * Creates a member layout, ordering the members by name. When two identifiers map to the same name, the later
+     * member is used.
+     *
+     * @param ids the ensemble identifiers
+     * @return the member layout
+     * @throws DataAccessException if an ensemble identifier could not be mapped to a name
+     */
+
+    private MemberLayout createMemberLayout( int[] ids )
+    {
+        // Map the names to the positions of the members
+        Map<String, Integer> positions = new TreeMap<>();
+
+        for ( int i = 0; i < ids.length; i++ )
+        {
+            // Get the name from the cache
+            try
+            {
+                String name = this.getEnsemblesCache()
+                                  .getEnsembleName( ids[i] );
+                positions.put( name, i );
+            }
+            catch ( SQLException e )
             {
-                // Get the name from the cache
-                String name;
-                try
-                {
-                    name = this.getEnsemblesCache()
-                               .getEnsembleName( ids[i] );
-                }
-                catch ( SQLException e )
-                {
-                    throw new DataAccessException( "While attempting to map an ensemble identifier to a name.", e );
-                }
-
-                ensemble.put( name, members[i] );
+                throw new DataAccessException( "While attempting to map an ensemble identifier to a name.", e );
             }
+        }
 
-            // Labels are cached centrally
-            String[] names = ensemble.keySet()
-                                     .toArray( new String[0] );
-            Labels labels = Labels.of( names );
-            double[] unboxed = ensemble.values()
-                                       .stream()
-                                       .mapToDouble( Double::doubleValue )
-                                       .toArray();
+        // Labels are cached centrally
+        String[] names = positions.keySet()
+                                  .toArray( new String[0] );
+        int[] order = positions.values()
+                               .stream()
+                               .mapToInt( Integer::intValue )
+                               .toArray();
 
-            return Event.of( validTime, Ensemble.of( unboxed, labels ) );
-        };
+        return new MemberLayout( ids.clone(), Labels.of( names ), order );
     }
 
     /**
@@ -318,6 +370,60 @@ class EnsembleForecastRetriever extends TimeSeriesRetriever<Ensemble>
         return scripter.toString();
     }
 
+    /**
+     * A key for the ensemble identifiers of a database row, which compares the identifiers by value.
+     * @param ids the ensemble identifiers
+     */
+
+    private record LayoutKey( int[] ids )
+    {
+        @Override
+        public boolean equals( Object o )
+        {
+            return o instanceof LayoutKey other && Arrays.equals( this.ids, other.ids );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Arrays.hashCode( this.ids );
+        }
+
+        @Override
+        public String toString()
+        {
+            return Arrays.toString( this.ids );
+        }
+    }
+
+    /**
+     * The layout of the members in a database row.
+     * @param ids the ensemble identifiers in row order
+     * @param labels the labels in name order
+     * @param order the row position of the member for each label
+     */
+
+    private record MemberLayout( int[] ids, Labels labels, int[] order )
+    {
+        /**
+         * Permutes the member values of a row into label order.
+         * @param members the member values in row order
+         * @return the member values in label order
+         */
+
+        private double[] order( double[] members )
+        {
+            double[] ordered = new double[this.order.length];
+
+            for ( int i = 0; i < ordered.length; i++ )
+            {
+                ordered[i] = members[this.order[i]];
+            }
+
+            return ordered;
+        }
+    }
+
     /**
      * Construct.
      ** @throws NullPointerException if any required input is null
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -55,6 +56,9 @@ class SingleValuedGriddedRetriever extends TimeSeriesRetriever<Double>
     /** Is <code>true</code> to retrieve a forecast type, <code>false</code> for a non-forecast type. */
     private final Boolean isForecast;
 
+    /** An optional executor on which to read the gridded sources. */
+    private final Executor readingExecutor;
+
     @Override
     boolean isForecast()
     {
@@ -87,6 +91,26 @@ class SingleValuedGriddedRetriever extends TimeSeriesRetriever<Double>
             return this;
         }
 
+        /**
+         * An optional executor on which to read the gridded sources.
+         */
+
+        private Executor readingExecutor;
+
+        /**
+         * Sets an executor on which to read the gridded sources in parallel. When unset, the sources are read on the
+         * calling thread.
+         *
+         * @param readingExecutor the executor
+         * @return the builder
+         */
+
+        Builder setReadingExecutor( Executor readingExecutor )
+        {
+            this.readingExecutor = readingExecutor;
+            return this;
+        }
+
         /**
          * Builds an instance.
          *
@@ -243,7 +267,15 @@ class SingleValuedGriddedRetriever extends TimeSeriesRetriever<Double>
         Objects.requireNonNull( request );
 
         // Obtain the response
-        Map<Feature, Stream<TimeSeries<Double>>> response = GridReader.getSingleValuedTimeSeries( request );
+        Map<Feature, Stream<TimeSeries<Double>>> response;
+        if ( Objects.nonNull( this.readingExecutor ) )
+        {
+            response = GridReader.getSingleValuedTimeSeries( request, this.readingExecutor );
+        }
+        else
+        {
+            response = GridReader.getSingleValuedTimeSeries( request );
+        }
 
         // Pooling all features, since this retriever does not provide a per-feature API
         Stream<TimeSeries<Double>> concatenated = Stream.of();
@@ -289,6 +321,7 @@ class SingleValuedGriddedRetriever extends TimeSeriesRetriever<Double>
         super( builder, "TSRT.reference_time", "S.lead" );
 
         this.isForecast = builder.isForecast;
+        this.readingExecutor = builder.readingExecutor;
 
         // Validate
         Objects.requireNonNull( this.getDatasetOrientation(),
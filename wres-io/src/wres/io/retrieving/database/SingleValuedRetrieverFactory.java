@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.time.MonthDay;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -73,6 +74,9 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
     /** Declared <code>desiredTimeScale</code>, if any. */
     private final TimeScaleOuter desiredTimeScale;
 
+    /** An optional executor on which to read gridded sources. */
+    private final Executor griddedReadingExecutor;
+
     /**
      * Returns an instance.
      *
@@ -89,7 +93,32 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
     {
         return new SingleValuedRetrieverFactory( project,
                                                  database,
-                                                 caches );
+                                                 caches,
+                                                 null );
+    }
+
+    /**
+     * Returns an instance that reads any gridded sources in parallel on the prescribed executor.
+     *
+     * @param project the project
+     * @param database the database
+     * @param caches the caches
+     * @param griddedReadingExecutor the executor on which to read gridded sources
+     * @return a factory instance
+     * @throws NullPointerException if any input is null
+     */
+
+    public static SingleValuedRetrieverFactory of( Project project,
+                                                   Database database,
+                                                   DatabaseCaches caches,
+                                                   Executor griddedReadingExecutor )
+    {
+        Objects.requireNonNull( griddedReadingExecutor );
+
+        return new SingleValuedRetrieverFactory( project,
+                                                 database,
+                                                 caches,
+                                                 griddedReadingExecutor );
     }
 
     @Override
@@ -209,6 +238,7 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
             {
                 builder = this.getGriddedRetrieverBuilder( dataset.type() )
                               .setIsForecast( isConfiguredAsForecast )
+                              .setReadingExecutor( this.griddedReadingExecutor )
                               .setFeatures( features );
             }
             else
@@ -377,12 +407,14 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
      * @param project the project
      * @param database the database,
      * @param caches the caches
-     * @throws NullPointerException if any input is null
+     * @param griddedReadingExecutor an optional executor on which to read gridded sources
+     * @throws NullPointerException if any required input is null
      */
 
     private SingleValuedRetrieverFactory( Project project,
                                           Database database,
-                                          DatabaseCaches caches )
+                                          DatabaseCaches caches,
+                                          Executor griddedReadingExecutor )
     {
         Objects.requireNonNull( project );
         Objects.requireNonNull( database );
@@ -391,6 +423,7 @@ public class SingleValuedRetrieverFactory implements RetrieverFactory<Double, Do
         this.project = project;
         this.database = database;
         this.caches = caches;
+        this.griddedReadingExecutor = griddedReadingExecutor;
 
         this.leftDataset = DeclarationUtilities.getDeclaredDataset( project.getDeclaration(),
                                                                     DatasetOrientation.LEFT );
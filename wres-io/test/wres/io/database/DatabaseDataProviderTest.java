@@ -0,0 +1,164 @@
+package wres.io.database;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import wres.datamodel.MissingValues;
+
+/**
+ * Tests the {@link DatabaseDataProvider}.
+ *
+ * @author James Brown
+ */
+
+class DatabaseDataProviderTest
+{
+    /** Column name. */
+    private static final String COLUMN = "values";
+
+    @Test
+    void testGetPrimitiveDoubleArrayAdoptsPrimitiveArray() throws SQLException
+    {
+        double[] values = new double[] { 1.0, 2.0, 3.0 };
+        Array array = this.getArray( values );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        assertSame( values, provider.getPrimitiveDoubleArray( COLUMN ) );
+        Mockito.verify( array )
+               .free();
+    }
+
+    @Test
+    void testGetPrimitiveDoubleArrayUnboxesNumbersAndReplacesNullWithMissingValue() throws SQLException
+    {
+        Array array = this.getArray( new Object[] { 1.0, null, 3, 4.5f, new BigDecimal( "5.25" ) } );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        double[] expected = new double[] { 1.0, MissingValues.DOUBLE, 3.0, 4.5, 5.25 };
+
+        assertArrayEquals( expected, provider.getPrimitiveDoubleArray( COLUMN ) );
+        Mockito.verify( array )
+               .free();
+    }
+
+    @Test
+    void testGetPrimitiveDoubleArrayThrowsExpectedExceptionForUnexpectedType() throws SQLException
+    {
+        Array array = this.getArray( new Object[] { 1.0, "2.0" } );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        assertThrows( ClassCastException.class, () -> provider.getPrimitiveDoubleArray( COLUMN ) );
+        Mockito.verify( array )
+               .free();
+    }
+
+    @Test
+    void testGetPrimitiveIntegerArrayAdoptsPrimitiveArray() throws SQLException
+    {
+        int[] values = new int[] { 3, 1, 2 };
+        Array array = this.getArray( values );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        assertSame( values, provider.getPrimitiveIntegerArray( COLUMN ) );
+        Mockito.verify( array )
+               .free();
+    }
+
+    @Test
+    void testGetPrimitiveIntegerArrayUnboxesNumbers() throws SQLException
+    {
+        Array array = this.getArray( new Object[] { 3, 1L, ( short ) 2 } );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        assertArrayEquals( new int[] { 3, 1, 2 }, provider.getPrimitiveIntegerArray( COLUMN ) );
+    }
+
+    @Test
+    void testGetPrimitiveIntegerArrayThrowsExpectedExceptionForNull() throws SQLException
+    {
+        Array array = this.getArray( new Integer[] { 1, null } );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        NullPointerException actual = assertThrows( NullPointerException.class,
+                                                    () -> provider.getPrimitiveIntegerArray( COLUMN ) );
+
+        assertEquals( "Discovered a null value at index 1 of the array in column 'values', which cannot be read as "
+                      + "an int.",
+                      actual.getMessage() );
+        Mockito.verify( array )
+               .free();
+    }
+
+    @Test
+    void testGetPrimitiveIntegerArrayThrowsExpectedExceptionForUnexpectedType() throws SQLException
+    {
+        Array array = this.getArray( new Object[] { 1, "2" } );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        assertThrows( ClassCastException.class, () -> provider.getPrimitiveIntegerArray( COLUMN ) );
+    }
+
+    @Test
+    void testGetPrimitiveDoubleArrayThrowsExpectedExceptionWhenArrayIsInaccessible() throws SQLException
+    {
+        Array array = Mockito.mock( Array.class );
+        Mockito.when( array.getArray() )
+               .thenThrow( new SQLException( "Closed." ) );
+        DatabaseDataProvider provider = this.getProvider( array );
+
+        assertThrows( IllegalStateException.class, () -> provider.getPrimitiveDoubleArray( COLUMN ) );
+        Mockito.verify( array )
+               .free();
+    }
+
+    /**
+     * Returns a mocked SQL array that wraps the prescribed Java array.
+     * @param inner the Java array
+     * @return the SQL array
+     * @throws SQLException if the mocking fails unexpectedly
+     */
+
+    private Array getArray( Object inner ) throws SQLException
+    {
+        Array array = Mockito.mock( Array.class );
+        Mockito.when( array.getArray() )
+               .thenReturn( inner );
+        return array;
+    }
+
+    /**
+     * Returns a provider with one column that contains the prescribed array.
+     * @param array the array
+     * @return the provider
+     * @throws SQLException if the mocking fails unexpectedly
+     */
+
+    private DatabaseDataProvider getProvider( Array array ) throws SQLException
+    {
+        ResultSetMetaData metadata = Mockito.mock( ResultSetMetaData.class );
+        Mockito.when( metadata.getColumnCount() )
+               .thenReturn( 1 );
+        Mockito.when( metadata.getColumnLabel( 1 ) )
+               .thenReturn( COLUMN );
+
+        ResultSet resultSet = Mockito.mock( ResultSet.class );
+        Mockito.when( resultSet.getMetaData() )
+               .thenReturn( metadata );
+        Mockito.when( resultSet.getArray( COLUMN ) )
+               .thenReturn( array );
+
+        return new DatabaseDataProvider( Mockito.mock( Connection.class ), resultSet );
+    }
+}
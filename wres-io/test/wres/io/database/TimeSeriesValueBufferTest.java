@@ -0,0 +1,130 @@
+package wres.io.database;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TimeSeriesValueBuffer} and its encoding in the binary copy format.
+ *
+ * @author James Brown
+ */
+
+class TimeSeriesValueBufferTest
+{
+    @Test
+    void testAddGrowsBuffer()
+    {
+        TimeSeriesValueBuffer buffer = new TimeSeriesValueBuffer( 0 );
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            buffer.add( i, i * 60, ( double ) i );
+        }
+
+        assertEquals( 100, buffer.size() );
+        assertEquals( 99, buffer.getTimeSeriesId( 99 ) );
+        assertEquals( 5940, buffer.getLead( 99 ) );
+        assertEquals( 99.0, buffer.getValue( 99 ) );
+    }
+
+    @Test
+    void testAddNullValue()
+    {
+        TimeSeriesValueBuffer buffer = new TimeSeriesValueBuffer( 2 );
+        buffer.add( 1, 60, null );
+        buffer.add( 1, 120, 3.5 );
+
+        assertTrue( buffer.isNullValue( 0 ) );
+        assertFalse( buffer.isNullValue( 1 ) );
+    }
+
+    @Test
+    void testAddAllGrowsBufferAndStoresNonFiniteValuesAsNull()
+    {
+        TimeSeriesValueBuffer buffer = new TimeSeriesValueBuffer( 1 );
+        buffer.add( 1, 0, 1.0 );
+        buffer.addAll( 2, new int[] { 60, 120, 180 }, new double[] { 2.5, Double.NaN, 3.5 } );
+
+        assertEquals( 4, buffer.size() );
+        assertEquals( 2, buffer.getTimeSeriesId( 3 ) );
+        assertEquals( 180, buffer.getLead( 3 ) );
+        assertEquals( 3.5, buffer.getValue( 3 ) );
+        assertFalse( buffer.isNullValue( 1 ) );
+        assertTrue( buffer.isNullValue( 2 ) );
+    }
+
+    @Test
+    void testAddAllThrowsExpectedExceptionWhenColumnsDiffer()
+    {
+        TimeSeriesValueBuffer buffer = new TimeSeriesValueBuffer( 1 );
+        int[] leads = new int[] { 60 };
+        double[] values = new double[] { 1.0, 2.0 };
+
+        assertThrows( IllegalArgumentException.class, () -> buffer.addAll( 1, leads, values ) );
+    }
+
+    @Test
+    void testToTextRows()
+    {
+        TimeSeriesValueBuffer buffer = new TimeSeriesValueBuffer( 2 );
+        buffer.add( 1, 60, null );
+        buffer.add( 2, 120, 3.5 );
+
+        List<String[]> actual = buffer.toTextRows();
+
+        assertEquals( 2, actual.size() );
+        assertArrayEquals( new String[] { "1", "60", null }, actual.get( 0 ) );
+        assertArrayEquals( new String[] { "2", "120", "3.5" }, actual.get( 1 ) );
+    }
+
+    @Test
+    void testPutTimeSeriesValueRow()
+    {
+        TimeSeriesValueBuffer values = new TimeSeriesValueBuffer( 2 );
+        values.add( 7, 360, 2.25 );
+        values.add( 8, 720, null );
+
+        ByteBuffer buffer = ByteBuffer.allocate( 64 );
+        DatabaseOperations.putTimeSeriesValueRow( values, 0, buffer );
+        DatabaseOperations.putTimeSeriesValueRow( values, 1, buffer );
+
+        // 30 bytes for a row with a value, 22 bytes for a row with a null value
+        assertEquals( 52, buffer.position() );
+
+        buffer.flip();
+
+        // First row
+        assertEquals( 3, buffer.getShort() );
+        assertEquals( 4, buffer.getInt() );
+        assertEquals( 7, buffer.getInt() );
+        assertEquals( 4, buffer.getInt() );
+        assertEquals( 360, buffer.getInt() );
+        assertEquals( 8, buffer.getInt() );
+        assertEquals( 2.25, buffer.getDouble() );
+
+        // Second row
+        assertEquals( 3, buffer.getShort() );
+        assertEquals( 4, buffer.getInt() );
+        assertEquals( 8, buffer.getInt() );
+        assertEquals( 4, buffer.getInt() );
+        assertEquals( 720, buffer.getInt() );
+        assertEquals( -1, buffer.getInt() );
+    }
+
+    @Test
+    void testAddThrowsExpectedExceptionWhenIdentifierIsTooLarge()
+    {
+        TimeSeriesValueBuffer buffer = new TimeSeriesValueBuffer( 1 );
+        long identifier = Integer.MAX_VALUE + 1L;
+
+        assertThrows( IllegalArgumentException.class, () -> buffer.add( identifier, 0, 1.0 ) );
+    }
+}
@@ -0,0 +1,259 @@
+package wres.io.ingesting.database;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import wres.io.database.Database;
+import wres.io.database.DatabaseOperations;
+import wres.io.database.TimeSeriesValueBuffer;
+import wres.io.ingesting.IngestException;
+import wres.system.SystemSettings;
+
+/**
+ * Tests the {@link IngestedValues}. The copy to the database is stubbed, which only applies to the test thread, so
+ * each test copies its values on the test thread.
+ *
+ * @author James Brown
+ */
+
+class IngestedValuesTest
+{
+    /** A database, which is not used directly. */
+    private Database database;
+
+    /** The stubbed database operations. */
+    private MockedStatic<DatabaseOperations> operations;
+
+    /** The batches of values copied. */
+    private List<TimeSeriesValueBuffer> copied;
+
+    @BeforeEach
+    void runBeforeEachTest()
+    {
+        this.database = Mockito.mock( Database.class );
+        this.copied = Collections.synchronizedList( new ArrayList<>() );
+        this.operations = Mockito.mockStatic( DatabaseOperations.class );
+        this.operations.when( () -> DatabaseOperations.insertTimeSeriesValues( Mockito.any(),
+                                                                               Mockito.any(),
+                                                                               Mockito.any() ) )
+                       .thenAnswer( invocation -> this.copied.add( invocation.getArgument( 2 ) ) );
+    }
+
+    @Test
+    void testFlushCopiesPartialBatchOfAnotherTask() throws Exception
+    {
+        SystemSettings systemSettings = SystemSettings.builder()
+                                                      .maximumCopies( 100 )
+                                                      .build();
+
+        // Add a partial batch on another thread
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CompletableFuture<Void> future;
+
+        try
+        {
+            future = executor.submit( () -> IngestedValues.addTimeSeriesValues( systemSettings,
+                                                                                this.database,
+                                                                                1,
+                                                                                new int[] { 60, 120, 180 },
+                                                                                new double[] { 1.0, 2.0, 3.0 } ) )
+                             .get( 1, TimeUnit.MINUTES );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertFalse( future.isDone() );
+
+        // Take over the batch on this thread
+        boolean first = IngestedValues.flush( this.database, future );
+        boolean second = IngestedValues.flush( this.database, future );
+
+        assertAll( () -> assertTrue( first ),
+                   () -> assertFalse( second ),
+                   () -> assertTrue( future.isDone() ),
+                   () -> assertFalse( future.isCompletedExceptionally() ),
+                   () -> assertEquals( 1, this.copied.size() ),
+                   () -> assertEquals( 3, this.copied.get( 0 )
+                                                     .size() ),
+                   () -> assertEquals( 180, this.copied.get( 0 )
+                                                       .getLead( 2 ) ) );
+    }
+
+    @Test
+    void testFailedCopyCompletesFutureExceptionally()
+    {
+        this.operations.when( () -> DatabaseOperations.insertTimeSeriesValues( Mockito.any(),
+                                                                               Mockito.any(),
+                                                                               Mockito.any() ) )
+                       .thenThrow( new IllegalStateException( "The database is unavailable." ) );
+
+        SystemSettings systemSettings = SystemSettings.builder()
+                                                      .maximumCopies( 2 )
+                                                      .build();
+
+        CompletableFuture<Void> future = IngestedValues.addTimeSeriesValues( systemSettings,
+                                                                             this.database,
+                                                                             1,
+                                                                             new int[] { 60 },
+                                                                             new double[] { 1.0 } );
+
+        // Fill the batch, which is copied on this thread
+        int[] leads = { 120 };
+        double[] values = { 2.0 };
+        assertThrows( IngestException.class,
+                      () -> IngestedValues.addTimeSeriesValues( systemSettings, this.database, 1, leads, values ) );
+
+        CompletionException actual = assertThrows( CompletionException.class, future::join );
+
+        assertAll( () -> assertTrue( future.isCompletedExceptionally() ),
+                   () -> assertInstanceOf( IngestException.class, actual.getCause() ),
+                   () -> assertInstanceOf( IllegalStateException.class, actual.getCause()
+                                                                              .getCause() ),
+                   // The failed batch is no longer buffered
+                   () -> assertFalse( IngestedValues.flush( this.database, future ) ) );
+    }
+
+    @Test
+    void testFailedFlushCompletesFutureExceptionally()
+    {
+        this.operations.when( () -> DatabaseOperations.insertTimeSeriesValues( Mockito.any(),
+                                                                               Mockito.any(),
+                                                                               Mockito.any() ) )
+                       .thenThrow( new IllegalStateException( "The database is unavailable." ) );
+
+        SystemSettings systemSettings = SystemSettings.builder()
+                                                      .maximumCopies( 100 )
+                                                      .build();
+
+        CompletableFuture<Void> future = IngestedValues.addTimeSeriesValues( systemSettings,
+                                                                             this.database,
+                                                                             1,
+                                                                             new int[] { 60 },
+                                                                             new double[] { 1.0 } );
+
+        assertThrows( IngestException.class, () -> IngestedValues.flush( this.database, future ) );
+
+        CompletionException actual = assertThrows( CompletionException.class, future::join );
+
+        assertInstanceOf( IngestException.class, actual.getCause() );
+    }
+
+    @Test
+    void testAddTimeSeriesValuesConcurrentlyAcrossStripes() throws Exception
+    {
+        // Large enough that no batch is filled, so that all batches are copied by flushing on this thread
+        SystemSettings systemSettings = SystemSettings.builder()
+                                                      .maximumCopies( 1_000_000 )
+                                                      .build();
+
+        int threadCount = 8;
+        int seriesPerThread = 250;
+        int[] leads = { 60, 120, 180, 240 };
+        double[] values = { 1.0, 2.0, 3.0, 4.0 };
+
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+        CountDownLatch start = new CountDownLatch( 1 );
+        List<Future<List<CompletableFuture<Void>>>> tasks = new ArrayList<>();
+
+        try
+        {
+            for ( int i = 0; i < threadCount; i++ )
+            {
+                int first = i * seriesPerThread;
+                tasks.add( executor.submit( () -> {
+                    start.await();
+                    List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+                    for ( int j = first; j < first + seriesPerThread; j++ )
+                    {
+                        futures.add( IngestedValues.addTimeSeriesValues( systemSettings,
+                                                                         this.database,
+                                                                         j,
+                                                                         leads,
+                                                                         values ) );
+                    }
+
+                    return futures;
+                } ) );
+            }
+
+            start.countDown();
+
+            Set<CompletableFuture<Void>> futures = new HashSet<>();
+            for ( Future<List<CompletableFuture<Void>>> task : tasks )
+            {
+                futures.addAll( task.get( 1, TimeUnit.MINUTES ) );
+            }
+
+            // Copy each batch once
+            int flushed = 0;
+            for ( CompletableFuture<Void> future : futures )
+            {
+                if ( IngestedValues.flush( this.database, future ) )
+                {
+                    flushed++;
+                }
+            }
+
+            // Each series was copied once, in full
+            Set<Long> seriesIds = new HashSet<>();
+            int valueCount = 0;
+            for ( TimeSeriesValueBuffer buffer : this.copied )
+            {
+                for ( int i = 0; i < buffer.size(); i++ )
+                {
+                    seriesIds.add( buffer.getTimeSeriesId( i ) );
+                }
+
+                valueCount += buffer.size();
+            }
+
+            int expectedValueCount = threadCount * seriesPerThread * leads.length;
+            int actualValueCount = valueCount;
+            int actualFlushed = flushed;
+
+            assertAll( () -> assertEquals( futures.size(), actualFlushed ),
+                       () -> assertEquals( futures.size(), this.copied.size() ),
+                       () -> assertTrue( futures.stream()
+                                                .allMatch( next -> next.isDone()
+                                                                   && !next.isCompletedExceptionally() ) ),
+                       () -> assertEquals( expectedValueCount, actualValueCount ),
+                       () -> assertEquals( threadCount * seriesPerThread, seriesIds.size() ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @AfterEach
+    void runAfterEachTest()
+    {
+        this.operations.close();
+    }
+}
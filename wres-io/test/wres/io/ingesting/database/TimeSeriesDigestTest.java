@@ -0,0 +1,127 @@
+package wres.io.ingesting.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.types.Ensemble;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * Tests the {@link TimeSeriesDigest}.
+ *
+ * @author James Brown
+ */
+
+class TimeSeriesDigestTest
+{
+    /** Metadata for testing. */
+    private static final TimeSeriesMetadata METADATA =
+            TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0, Instant.parse( "2023-04-01T00:00:00Z" ) ),
+                                   TimeScaleOuter.of(),
+                                   "Q",
+                                   Feature.of( MessageUtilities.getGeometry( "F" ) ),
+                                   "[ft_i]3/s" );
+
+    /** A time for testing. */
+    private static final Instant T_ONE = Instant.parse( "2023-04-01T01:00:00Z" );
+
+    /** A time for testing. */
+    private static final Instant T_TWO = Instant.parse( "2023-04-01T02:00:00Z" );
+
+    @Test
+    void testIdentifyIsStable()
+    {
+        TimeSeries<Double> one = this.getSingleValuedSeries( METADATA, 30.0, 37.0 );
+        TimeSeries<Double> two = this.getSingleValuedSeries( METADATA, 30.0, 37.0 );
+
+        String actual = TimeSeriesDigest.identify( one );
+
+        assertEquals( actual, TimeSeriesDigest.identify( two ) );
+        assertTrue( actual.startsWith( TimeSeriesDigest.VERSION_PREFIX ) );
+        assertEquals( TimeSeriesDigest.VERSION_PREFIX.length() + 32, actual.length() );
+    }
+
+    @Test
+    void testIdentifyDetectsChangedValue()
+    {
+        TimeSeries<Double> one = this.getSingleValuedSeries( METADATA, 30.0, 37.0 );
+        TimeSeries<Double> two = this.getSingleValuedSeries( METADATA, 30.0, 37.5 );
+
+        assertNotEquals( TimeSeriesDigest.identify( one ), TimeSeriesDigest.identify( two ) );
+    }
+
+    @Test
+    void testIdentifyDetectsChangedMetadata()
+    {
+        TimeSeriesMetadata otherMetadata = METADATA.toBuilder()
+                                                   .setUnit( "CMS" )
+                                                   .build();
+        TimeSeries<Double> one = this.getSingleValuedSeries( METADATA, 30.0, 37.0 );
+        TimeSeries<Double> two = this.getSingleValuedSeries( otherMetadata, 30.0, 37.0 );
+
+        assertNotEquals( TimeSeriesDigest.identify( one ), TimeSeriesDigest.identify( two ) );
+    }
+
+    @Test
+    void testIdentifyDetectsChangedEnsembleLabels()
+    {
+        Ensemble.Labels labels = Ensemble.Labels.of( "1", "2" );
+        Ensemble.Labels otherLabels = Ensemble.Labels.of( "1", "3" );
+        TimeSeries<Ensemble> one =
+                new TimeSeries.Builder<Ensemble>().setMetadata( METADATA )
+                                                  .addEvent( Event.of( T_ONE,
+                                                                       Ensemble.of( new double[] { 1.0, 2.0 },
+                                                                                    labels ) ) )
+                                                  .build();
+        TimeSeries<Ensemble> two =
+                new TimeSeries.Builder<Ensemble>().setMetadata( METADATA )
+                                                  .addEvent( Event.of( T_ONE,
+                                                                       Ensemble.of( new double[] { 1.0, 2.0 },
+                                                                                    otherLabels ) ) )
+                                                  .build();
+
+        assertNotEquals( TimeSeriesDigest.identify( one ), TimeSeriesDigest.identify( two ) );
+    }
+
+    @Test
+    void testIdentifyLegacyMatchesDigestOfString()
+    {
+        TimeSeries<Double> series = this.getSingleValuedSeries( METADATA, 30.0, 37.0 );
+
+        String expected = Hex.encodeHexString( DigestUtils.md5( series.toString() ), false );
+        String actual = TimeSeriesDigest.identifyLegacy( series );
+
+        assertEquals( expected, actual );
+        assertFalse( actual.startsWith( TimeSeriesDigest.VERSION_PREFIX ) );
+    }
+
+    /**
+     * @param metadata the metadata
+     * @param first the first value
+     * @param second the second value
+     * @return a single-valued time-series
+     */
+
+    private TimeSeries<Double> getSingleValuedSeries( TimeSeriesMetadata metadata, double first, double second )
+    {
+        return new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                               .addEvent( Event.of( T_ONE, first ) )
+                                               .addEvent( Event.of( T_TWO, second ) )
+                                               .build();
+    }
+}
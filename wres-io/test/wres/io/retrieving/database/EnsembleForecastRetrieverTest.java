@@ -1,7 +1,9 @@
 package wres.io.retrieving.database;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import static wres.io.retrieving.database.RetrieverTestHelper.*;
 
@@ -16,6 +18,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -40,15 +43,18 @@ import wres.config.yaml.components.DatasetOrientation;
 import wres.config.yaml.components.EvaluationDeclaration;
 import wres.config.yaml.components.EvaluationDeclarationBuilder;
 import wres.config.yaml.components.FeaturesBuilder;
+import wres.datamodel.DataProvider;
 import wres.datamodel.time.TimeSeriesMetadata;
 import wres.datamodel.types.Ensemble;
 import wres.datamodel.types.Ensemble.Labels;
 import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.time.EnsembleColumns;
 import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.io.TestData;
 import wres.io.database.ConnectionSupplier;
 import wres.io.database.caching.DatabaseCaches;
+import wres.io.database.caching.Ensembles;
 import wres.io.database.TestDatabase;
 import wres.io.ingesting.IngestResult;
 import wres.io.ingesting.database.DatabaseTimeSeriesIngester;
@@ -209,6 +215,15 @@ public class EnsembleForecastRetrieverTest
 
         // Actual series equals expected series
         assertEquals( expectedSeries, actualSeries );
+
+        // Actual series is columnar and the events share one set of labels
+        assertTrue( actualSeries.getColumns() instanceof EnsembleColumns );
+        EnsembleColumns columns = ( EnsembleColumns ) actualSeries.getColumns();
+        assertEquals( expectedLabels, columns.getLabels() );
+        assertTrue( actualSeries.getEvents()
+                                .stream()
+                                .allMatch( next -> next.getValue()
+                                                       .getLabels() == columns.getLabels() ) );
     }
 
     @Test
@@ -276,6 +291,85 @@ public class EnsembleForecastRetrieverTest
         assertEquals( NO_IDENTIFIER_ERROR, expected.getMessage() );
     }
 
+    @Test
+    public void testDataSupplierPermutesMembersIntoLabelOrder() throws SQLException
+    {
+        Ensembles ensembles = this.getEnsemblesCache( Map.of( 3, "c", 1, "a", 2, "b" ) );
+        Function<DataProvider, Event<Ensemble>> supplier = this.getRetriever( ensembles )
+                                                               .getDataSupplier();
+
+        Instant validTime = Instant.parse( "2023-04-01T01:00:00Z" );
+        Event<Ensemble> actual = supplier.apply( this.getRow( new double[] { 30.0, 10.0, 20.0 },
+                                                              new int[] { 3, 1, 2 },
+                                                              validTime ) );
+
+        Event<Ensemble> expected = Event.of( validTime,
+                                             Ensemble.of( new double[] { 10.0, 20.0, 30.0 },
+                                                          Labels.of( "a", "b", "c" ) ) );
+
+        assertEquals( expected, actual );
+    }
+
+    @Test
+    public void testDataSupplierCreatesOneLayoutForEachOrderOfIdentifiers() throws SQLException
+    {
+        Ensembles ensembles = this.getEnsemblesCache( Map.of( 1, "a", 2, "b", 3, "c" ) );
+        Function<DataProvider, Event<Ensemble>> supplier = this.getRetriever( ensembles )
+                                                               .getDataSupplier();
+
+        Instant validTime = Instant.parse( "2023-04-01T01:00:00Z" );
+        DataProvider first = this.getRow( new double[] { 10.0, 20.0, 30.0 }, new int[] { 1, 2, 3 }, validTime );
+        DataProvider second = this.getRow( new double[] { 30.0, 20.0, 10.0 }, new int[] { 3, 2, 1 }, validTime );
+
+        // Alternate between the two layouts so that both the most recent layout and the cached layouts are used
+        Event<Ensemble> one = supplier.apply( first );
+        Event<Ensemble> two = supplier.apply( second );
+        Event<Ensemble> three = supplier.apply( first );
+        Event<Ensemble> four = supplier.apply( second );
+
+        Labels expectedLabels = Labels.of( "a", "b", "c" );
+        Event<Ensemble> expected = Event.of( validTime,
+                                             Ensemble.of( new double[] { 10.0, 20.0, 30.0 }, expectedLabels ) );
+
+        assertEquals( expected, one );
+        assertEquals( expected, two );
+        assertEquals( expected, three );
+        assertEquals( expected, four );
+
+        // Each layout shares the same labels
+        assertSame( one.getValue()
+                       .getLabels(),
+                    two.getValue()
+                       .getLabels() );
+
+        // Each name is resolved once for each of the two layouts and never again
+        Mockito.verify( ensembles, Mockito.times( 2 ) )
+               .getEnsembleName( 1 );
+        Mockito.verify( ensembles, Mockito.times( 2 ) )
+               .getEnsembleName( 2 );
+        Mockito.verify( ensembles, Mockito.times( 2 ) )
+               .getEnsembleName( 3 );
+    }
+
+    @Test
+    public void testDataSupplierUsesTheLaterMemberWhenNamesAreDuplicated() throws SQLException
+    {
+        Ensembles ensembles = this.getEnsemblesCache( Map.of( 1, "a", 2, "b", 3, "a" ) );
+        Function<DataProvider, Event<Ensemble>> supplier = this.getRetriever( ensembles )
+                                                               .getDataSupplier();
+
+        Instant validTime = Instant.parse( "2023-04-01T01:00:00Z" );
+        Event<Ensemble> actual = supplier.apply( this.getRow( new double[] { 10.0, 20.0, 30.0 },
+                                                              new int[] { 1, 2, 3 },
+                                                              validTime ) );
+
+        Event<Ensemble> expected = Event.of( validTime,
+                                             Ensemble.of( new double[] { 30.0, 20.0 },
+                                                          Labels.of( "a", "b" ) ) );
+
+        assertEquals( expected, actual );
+    }
+
     @After
     public void tearDown() throws Exception
     {
@@ -412,4 +506,63 @@ public class EnsembleForecastRetrieverTest
                              results );
     }
 
+    /**
+     * Returns a retriever with the prescribed ensembles cache.
+     * @param ensembles the ensembles cache
+     * @return the retriever
+     */
+
+    private EnsembleForecastRetriever getRetriever( Ensembles ensembles )
+    {
+        return new EnsembleForecastRetriever.Builder().setEnsemblesCache( ensembles )
+                                                      .setMeasurementUnitsCache( this.caches.getMeasurementUnitsCache() )
+                                                      .setFeaturesCache( this.caches.getFeaturesCache() )
+                                                      .setDatabase( this.wresDatabase )
+                                                      .setProjectId( PROJECT_ID )
+                                                      .setVariable( VARIABLE )
+                                                      .setFeatures( Set.of( FEATURE ) )
+                                                      .setDatasetOrientation( orientation )
+                                                      .build();
+    }
+
+    /**
+     * Returns a mocked ensembles cache that maps the prescribed identifiers to names.
+     * @param names the names by identifier
+     * @return the ensembles cache
+     * @throws SQLException if the mocking fails unexpectedly
+     */
+
+    private Ensembles getEnsemblesCache( Map<Integer, String> names ) throws SQLException
+    {
+        Ensembles ensembles = Mockito.mock( Ensembles.class );
+
+        for ( Map.Entry<Integer, String> next : names.entrySet() )
+        {
+            Mockito.when( ensembles.getEnsembleName( next.getKey() ) )
+                   .thenReturn( next.getValue() );
+        }
+
+        return ensembles;
+    }
+
+    /**
+     * Returns a mocked row of ensemble members.
+     * @param members the member values
+     * @param ids the ensemble identifiers
+     * @param validTime the valid time
+     * @return the row
+     */
+
+    private DataProvider getRow( double[] members, int[] ids, Instant validTime )
+    {
+        DataProvider row = Mockito.mock( DataProvider.class );
+        Mockito.when( row.getPrimitiveDoubleArray( "ensemble_members" ) )
+               .thenReturn( members );
+        Mockito.when( row.getPrimitiveIntegerArray( "ensemble_ids" ) )
+               .thenReturn( ids );
+        Mockito.when( row.getInstant( "valid_time" ) )
+               .thenReturn( validTime );
+        return row;
+    }
+
 }
@@ -5,10 +5,28 @@ import java.util.function.ToDoubleFunction;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
- * Interface for a class of function that applies to a single-valued pair and returns a <code>double</code>.
+ * Interface for a class of function that applies to a single-valued pair and returns a <code>double</code>. The
+ * function may be applied to a boxed {@link Pair} or to the primitive left and right values of a pair, such as the
+ * values within a {@link wres.datamodel.pools.SingleValuedPairColumns}.
  * 
  * @author James Brown
  */
+@FunctionalInterface
 public interface DoubleErrorFunction extends ToDoubleFunction<Pair<Double,Double>>
 {
+    /**
+     * Applies the function to the left and right values of a pair.
+     *
+     * @param left the left value
+     * @param right the right value
+     * @return the function result
+     */
+
+    double applyAsDouble( double left, double right );
+
+    @Override
+    default double applyAsDouble( Pair<Double, Double> pair )
+    {
+        return this.applyAsDouble( pair.getLeft(), pair.getRight() );
+    }
 }
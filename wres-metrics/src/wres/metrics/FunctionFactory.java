@@ -105,7 +105,7 @@ public class FunctionFactory
 
     public static DoubleErrorFunction error()
     {
-        return a -> a.getRight() - a.getLeft();
+        return ( left, right ) -> right - left;
     }
 
     /**
@@ -117,7 +117,7 @@ public class FunctionFactory
 
     public static DoubleErrorFunction absError()
     {
-        return a -> Math.abs( a.getLeft() - a.getRight() );
+        return ( left, right ) -> Math.abs( left - right );
     }
 
     /**
@@ -129,7 +129,7 @@ public class FunctionFactory
 
     public static DoubleErrorFunction squareError()
     {
-        return a -> Math.pow( a.getLeft() - a.getRight(), 2 );
+        return ( left, right ) -> Math.pow( left - right, 2 );
     }
 
     /**
@@ -1,5 +1,8 @@
 package wres.metrics;
 
+import java.util.Iterator;
+import java.util.Objects;
+
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
 import wres.datamodel.statistics.Statistic;
@@ -8,8 +11,12 @@ import wres.datamodel.statistics.Statistic;
  * An interface that allows for a statistic to be computed incrementally. Statistics may be separated into intermediate 
  * and final. Intermediate statistics may be combined with other intermediate statistics using 
  * {@link #combine(Pool, Statistic)}. Final statistics are generated from intermediate statistics using 
- * {@link #complete(Statistic)}.
+ * {@link #complete(Statistic)}. This allows for a statistic to be computed from a large pool in bounded memory by
+ * consuming the pool in smaller chunks, one at a time, and combining the intermediate statistics. For example, see
+ * {@link #applyIncrementally(Iterator)}. The final statistic must not depend on how the pool is chunked, other than
+ * by the floating point error associated with the order of combination.
  * 
+ * @param <S> the pooled data type
  * @param <T> the intermediate statistic
  * @param <U> the final statistic
  * @author James Brown
@@ -17,11 +24,11 @@ import wres.datamodel.statistics.Statistic;
 public interface Incremental<S extends Pool<?>, T extends Statistic<?>, U extends Statistic<?>>
 {
     /**
-     * Computes the next intermediate statistic from the specified statistic, and combines with a prior intermediate 
-     * statistic.
+     * Computes the next intermediate statistic from the specified pool, and combines with a prior intermediate 
+     * statistic. When the prior statistic is null, returns the intermediate statistic for the pool alone.
      * 
      * @param pool the pool from which to compute the next statistic
-     * @param statistic the intermediate statistic to combine with the next statistic
+     * @param statistic the intermediate statistic to combine with the next statistic, null for the first pool
      * @return the combined statistic
      * @throws MetricCalculationException if the metric calculation fails
      * @throws PoolException if the prescribed input is null or unexpected
@@ -39,4 +46,34 @@ public interface Incremental<S extends Pool<?>, T extends Statistic<?>, U extend
      */
 
     U complete( T statistic );
+
+    /**
+     * Computes a final statistic from a sequence of pools, consuming each pool in turn. Only one pool from the sequence
+     * is referenced at any one time.
+     *
+     * @param pools the pools
+     * @return the final statistic
+     * @throws NullPointerException if the pools are null
+     * @throws IllegalArgumentException if there are no pools
+     * @throws MetricCalculationException if the metric calculation fails
+     * @throws PoolException if any pool is null or unexpected
+     */
+
+    default U applyIncrementally( Iterator<? extends S> pools )
+    {
+        Objects.requireNonNull( pools );
+
+        if ( !pools.hasNext() )
+        {
+            throw new IllegalArgumentException( "Cannot compute a statistic incrementally without any pools." );
+        }
+
+        T statistic = null;
+        while ( pools.hasNext() )
+        {
+            statistic = this.combine( pools.next(), statistic );
+        }
+
+        return this.complete( statistic );
+    }
 }
@@ -0,0 +1,195 @@
+package wres.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.statistics.generated.DoubleScoreStatistic;
+import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticComponent;
+import wres.statistics.generated.MetricName;
+
+/**
+ * <p>Utilities for combining the intermediate {@link DoubleScoreStatisticOuter} computed by {@link Incremental} scores
+ * from successive pools. The sample size of each intermediate statistic is recorded with the statistic and is used
+ * to weight the combination. An intermediate statistic with a sample size of zero was computed from an empty pool and
+ * contributes nothing to the combination.
+ *
+ * <p>The pool metadata of the prior statistic is retained when combining statistics, i.e., the metadata of the first
+ * pool in a sequence of pools.
+ *
+ * @author James Brown
+ */
+
+public class IncrementalScores
+{
+    /**
+     * Returns a statistic with the prescribed sample size.
+     *
+     * @param statistic the statistic
+     * @param sampleSize the sample size
+     * @return the statistic with the sample size
+     * @throws NullPointerException if the statistic is null
+     */
+
+    public static DoubleScoreStatisticOuter withSampleSize( DoubleScoreStatisticOuter statistic, int sampleSize )
+    {
+        Objects.requireNonNull( statistic );
+
+        DoubleScoreStatistic score = statistic.getStatistic()
+                                              .toBuilder()
+                                              .setSampleSize( sampleSize )
+                                              .build();
+
+        return DoubleScoreStatisticOuter.of( score, statistic.getPoolMetadata() );
+    }
+
+    /**
+     * Returns a statistic without a sample size. Use this to complete an intermediate statistic whose sample size was
+     * recorded for the purpose of combination only.
+     *
+     * @param statistic the statistic
+     * @return the statistic without a sample size
+     * @throws NullPointerException if the statistic is null
+     */
+
+    public static DoubleScoreStatisticOuter withoutSampleSize( DoubleScoreStatisticOuter statistic )
+    {
+        Objects.requireNonNull( statistic );
+
+        DoubleScoreStatistic score = statistic.getStatistic()
+                                              .toBuilder()
+                                              .clearSampleSize()
+                                              .build();
+
+        return DoubleScoreStatisticOuter.of( score, statistic.getPoolMetadata() );
+    }
+
+    /**
+     * Combines two statistics whose components are sums, such as a sum of square errors or a count, by adding the
+     * components and the sample sizes.
+     *
+     * @param next the next statistic
+     * @param prior the prior statistic, possibly null
+     * @return the combined statistic
+     * @throws NullPointerException if the next statistic is null
+     * @throws MetricCalculationException if the statistics have different components
+     */
+
+    public static DoubleScoreStatisticOuter sum( DoubleScoreStatisticOuter next, DoubleScoreStatisticOuter prior )
+    {
+        return IncrementalScores.combine( next, prior, false );
+    }
+
+    /**
+     * Combines two statistics whose components are means, such as a mean error, by weighting each component by the
+     * sample size of the statistic.
+     *
+     * @param next the next statistic
+     * @param prior the prior statistic, possibly null
+     * @return the combined statistic
+     * @throws NullPointerException if the next statistic is null
+     * @throws MetricCalculationException if the statistics have different components
+     */
+
+    public static DoubleScoreStatisticOuter mean( DoubleScoreStatisticOuter next, DoubleScoreStatisticOuter prior )
+    {
+        return IncrementalScores.combine( next, prior, true );
+    }
+
+    /**
+     * Combines two statistics.
+     *
+     * @param next the next statistic
+     * @param prior the prior statistic, possibly null
+     * @param mean is true to combine the components as means, false to combine them as sums
+     * @return the combined statistic
+     * @throws NullPointerException if the next statistic is null
+     * @throws MetricCalculationException if the statistics have different components
+     */
+
+    private static DoubleScoreStatisticOuter combine( DoubleScoreStatisticOuter next,
+                                                      DoubleScoreStatisticOuter prior,
+                                                      boolean mean )
+    {
+        Objects.requireNonNull( next );
+
+        if ( Objects.isNull( prior ) )
+        {
+            return next;
+        }
+
+        DoubleScoreStatistic nextScore = next.getStatistic();
+        DoubleScoreStatistic priorScore = prior.getStatistic();
+
+        int nextSize = nextScore.getSampleSize();
+        int priorSize = priorScore.getSampleSize();
+
+        // Nothing to combine
+        if ( nextSize == 0 )
+        {
+            return prior;
+        }
+
+        if ( priorSize == 0 )
+        {
+            return DoubleScoreStatisticOuter.of( nextScore, prior.getPoolMetadata() );
+        }
+
+        Map<MetricName, Double> nextValues = new EnumMap<>( MetricName.class );
+        for ( DoubleScoreStatisticComponent component : nextScore.getStatisticsList() )
+        {
+            nextValues.put( component.getMetric()
+                                     .getName(),
+                            component.getValue() );
+        }
+
+        if ( nextValues.size() != priorScore.getStatisticsCount() )
+        {
+            throw new MetricCalculationException( "Cannot combine the intermediate statistics for the "
+                                                  + prior.getMetricName()
+                                                  + " because they contain a different number of components." );
+        }
+
+        int size = nextSize + priorSize;
+        DoubleScoreStatistic.Builder combined = priorScore.toBuilder()
+                                                          .setSampleSize( size );
+
+        for ( int i = 0; i < combined.getStatisticsCount(); i++ )
+        {
+            DoubleScoreStatisticComponent.Builder component = combined.getStatisticsBuilder( i );
+            MetricName name = component.getMetric()
+                                       .getName();
+
+            if ( !nextValues.containsKey( name ) )
+            {
+                throw new MetricCalculationException( "Cannot combine the intermediate statistics for the "
+                                                      + prior.getMetricName()
+                                                      + " because the "
+                                                      + name
+                                                      + " component is missing from the next statistic." );
+            }
+
+            double priorValue = component.getValue();
+            double nextValue = nextValues.get( name );
+
+            double value = priorValue + nextValue;
+            if ( mean )
+            {
+                value = priorValue + ( nextValue - priorValue ) * nextSize / size;
+            }
+
+            component.setValue( value );
+        }
+
+        return DoubleScoreStatisticOuter.of( combined.build(), prior.getPoolMetadata() );
+    }
+
+    /**
+     * No argument constructor.
+     */
+
+    private IncrementalScores()
+    {
+    }
+}
@@ -38,11 +38,18 @@ import wres.metrics.categorical.ContingencyTable;
  * extend {@link ContingencyTable} and implement {@link Collectable}, the contingency table will be computed once, 
  * with all dependent scores using this result.
  *
+ * <p>Every metric in the collection is computed from the same {@link Pool} instance. Metrics that consume paired data
+ * should use the columnar view of the pool, such as {@link wres.datamodel.pools.SingleValuedPairColumns}, which is
+ * created once per pool and shared by all metrics, rather than unboxing the pairs independently.
+ *
  * <p>Build a collection with a {@link Builder#of()}.
  *
  * <p>When a group contains a collection of metrics that do not need to be computed for all inputs, a non-empty set of
  * {@link MetricConstants} may be defined. These metrics are ignored during calculation.
  *
+ * <p>When every metric in the collection implements {@link Incremental}, the collection may be computed incrementally
+ * from a sequence of pools using an {@link Accumulator}. See {@link #isIncremental()}.
+ *
  * @author James Brown
  * @param <S> the pool data type
  * @param <T> the intermediate statistics type for {@link Collectable} metrics in this collection
@@ -155,6 +162,72 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
         return this.apply( pool, filtered, cFiltered );
     }
 
+    /**
+     * Returns <code>true</code> if every metric in the collection implements {@link Incremental}, otherwise
+     * <code>false</code>.
+     *
+     * @return true if the collection can be computed incrementally, otherwise false
+     */
+
+    public boolean isIncremental()
+    {
+        return this.metrics.values()
+                           .stream()
+                           .allMatch( Incremental.class::isInstance )
+               && this.collectableMetrics.values()
+                                         .stream()
+                                         .flatMap( next -> next.values()
+                                                               .stream() )
+                                         .allMatch( Incremental.class::isInstance );
+    }
+
+    /**
+     * Creates an accumulator that computes all metrics in the collection incrementally.
+     *
+     * @see #isIncremental()
+     * @return an accumulator
+     * @throws UnsupportedOperationException if one or more metrics cannot be computed incrementally
+     */
+
+    public Accumulator getAccumulator()
+    {
+        return this.getAccumulator( this.getMetrics() );
+    }
+
+    /**
+     * Creates an accumulator that computes a subset of metrics in the collection incrementally.
+     *
+     * @see #isIncremental()
+     * @param metrics the subset of metrics to calculate
+     * @return an accumulator
+     * @throws NullPointerException if the metrics are null
+     * @throws IllegalArgumentException if the subset does not contain any metrics in the collection
+     * @throws UnsupportedOperationException if one or more metrics cannot be computed incrementally
+     */
+
+    public Accumulator getAccumulator( Set<MetricConstants> metrics )
+    {
+        Objects.requireNonNull( metrics, "Specify some metrics to calculate." );
+
+        if ( this.collected.stream()
+                           .noneMatch( metrics::contains ) )
+        {
+            throw new IllegalArgumentException( "This metric collection did not contain any of " + metrics
+                                                + ". The available metrics are: "
+                                                + this.getMetrics() );
+        }
+
+        if ( !this.isIncremental() )
+        {
+            throw new UnsupportedOperationException( "Cannot compute the metric collection incrementally because one "
+                                                     + "or more metrics does not implement Incremental: "
+                                                     + this.getMetrics()
+                                                     + "." );
+        }
+
+        return new Accumulator( metrics );
+    }
+
     /**
      * @return the metrics in the collection.
      */
@@ -179,6 +252,161 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
         return joiner.toString();
     }
 
+    /**
+     * Computes all metrics in the collection incrementally, consuming one pool at a time with {@link #add(Pool)} and
+     * completing the statistics with {@link #complete()}. Only the intermediate statistics are retained between pools.
+     * The intermediate statistic for each group of {@link Collectable} metrics is computed once per pool. Not thread
+     * safe: add the pools from one thread or synchronize externally.
+     */
+
+    public class Accumulator
+    {
+        /** The groups of metrics that share an intermediate statistic. */
+        private final List<IncrementalGroup<S, U>> groups;
+
+        /** The number of pools added. */
+        private int poolCount;
+
+        /**
+         * Adds a pool.
+         *
+         * @param pool the pool
+         * @throws NullPointerException if the pool is null
+         * @throws MetricCalculationException if the calculation fails for any reason
+         */
+
+        public void add( S pool )
+        {
+            Objects.requireNonNull( pool, "Specify a non-null pool to add to the metric accumulator." );
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for ( IncrementalGroup<S, U> next : this.groups )
+            {
+                futures.add( CompletableFuture.runAsync( () -> next.combine( pool ),
+                                                         MetricCollection.this.metricPool ) );
+            }
+
+            MetricCollection.this.waitFor( futures );
+
+            this.poolCount++;
+        }
+
+        /**
+         * Completes the statistics for the pools added so far.
+         *
+         * @return the statistics
+         * @throws IllegalStateException if no pools were added
+         * @throws MetricCalculationException if the calculation fails for any reason
+         */
+
+        public List<U> complete()
+        {
+            if ( this.poolCount == 0 )
+            {
+                throw new IllegalStateException( "Cannot complete the metric accumulator without any pools." );
+            }
+
+            List<U> returnMe = new ArrayList<>();
+            for ( IncrementalGroup<S, U> next : this.groups )
+            {
+                returnMe.addAll( next.complete() );
+            }
+
+            return Collections.unmodifiableList( returnMe );
+        }
+
+        /**
+         * Hidden constructor.
+         *
+         * @param metrics the metrics to calculate
+         */
+
+        private Accumulator( Set<MetricConstants> metrics )
+        {
+            List<IncrementalGroup<S, U>> localGroups = new ArrayList<>();
+
+            // One group for each group of collectable metrics, whose intermediate statistic is shared
+            for ( Map<MetricConstants, Collectable<S, T, U>> next : MetricCollection.this.collectableMetrics.values() )
+            {
+                List<Incremental<S, Statistic<?>, U>> group = new ArrayList<>();
+                next.entrySet()
+                    .stream()
+                    .filter( metric -> metrics.contains( metric.getKey() ) )
+                    .forEach( metric -> group.add( MetricCollection.asIncremental( metric.getValue() ) ) );
+
+                if ( !group.isEmpty() )
+                {
+                    localGroups.add( new IncrementalGroup<>( group ) );
+                }
+            }
+
+            // One group for each ordinary metric
+            for ( Entry<MetricConstants, Metric<S, U>> next : MetricCollection.this.metrics.entrySet() )
+            {
+                if ( metrics.contains( next.getKey() ) )
+                {
+                    Incremental<S, Statistic<?>, U> metric = MetricCollection.asIncremental( next.getValue() );
+                    localGroups.add( new IncrementalGroup<>( List.of( metric ) ) );
+                }
+            }
+
+            this.groups = Collections.unmodifiableList( localGroups );
+        }
+    }
+
+    /**
+     * A group of {@link Incremental} metrics that share an intermediate statistic, together with the intermediate
+     * statistic accumulated so far.
+     *
+     * @param <S> the pool type
+     * @param <U> the statistic type
+     */
+
+    private static class IncrementalGroup<S extends Pool<?>, U extends Statistic<?>>
+    {
+        /** The metrics, the first of which computes the shared intermediate statistic. */
+        private final List<Incremental<S, Statistic<?>, U>> metrics;
+
+        /** The intermediate statistic. */
+        private Statistic<?> statistic;
+
+        /**
+         * Combines the intermediate statistic for the prescribed pool with the accumulated statistic.
+         *
+         * @param pool the pool
+         */
+
+        private void combine( S pool )
+        {
+            this.statistic = this.metrics.get( 0 )
+                                         .combine( pool, this.statistic );
+        }
+
+        /**
+         * @return the final statistic for each metric
+         */
+
+        private List<U> complete()
+        {
+            List<U> returnMe = new ArrayList<>();
+            for ( Incremental<S, Statistic<?>, U> next : this.metrics )
+            {
+                returnMe.add( next.complete( this.statistic ) );
+            }
+
+            return returnMe;
+        }
+
+        /**
+         * @param metrics the metrics
+         */
+
+        private IncrementalGroup( List<Incremental<S, Statistic<?>, U>> metrics )
+        {
+            this.metrics = metrics;
+        }
+    }
+
     /**
      * A builder to build the immutable collection.
      *
@@ -376,6 +604,50 @@ public class MetricCollection<S extends Pool<?>, T extends Statistic<?>, U exten
         return returnMe;
     }
 
+    /**
+     * Waits for the prescribed futures to complete.
+     *
+     * @param futures the futures
+     * @throws MetricCalculationException if any future completes exceptionally or the wait is interrupted
+     */
+
+    private void waitFor( List<CompletableFuture<Void>> futures )
+    {
+        try
+        {
+            CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) )
+                             .get();
+        }
+        catch ( ExecutionException e )
+        {
+            throw new MetricCalculationException( "Incremental computation of the metric collection failed: ", e );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+
+            throw new MetricCalculationException( "Incremental computation of the metric collection was cancelled: ",
+                                                  e );
+        }
+    }
+
+    /**
+     * Casts a metric that implements {@link Incremental}. The type of intermediate statistic is erased, which is safe
+     * because each intermediate statistic is only ever combined and completed by metrics of the same group.
+     *
+     * @param <S> the pool type
+     * @param <U> the statistic type
+     * @param metric the metric
+     * @return the incremental metric
+     */
+
+    @SuppressWarnings( "unchecked" )
+    private static <S extends Pool<?>, U extends Statistic<?>> Incremental<S, Statistic<?>, U>
+    asIncremental( Metric<S, U> metric )
+    {
+        return ( Incremental<S, Statistic<?>, U> ) metric;
+    }
+
     /**
      * Hidden constructor.
      *
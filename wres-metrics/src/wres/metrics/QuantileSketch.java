@@ -0,0 +1,357 @@
+package wres.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import wres.datamodel.MissingValues;
+
+/**
+ * <p>A mergeable sketch of a sample of double values that approximates the sample quantiles in bounded memory. The
+ * sketch follows the design of Karnin, Lang and Liberty (2016), "Optimal Quantile Approximation in Streams",
+ * whereby the values are retained in a hierarchy of compactors. When a compactor is full, its values are sorted and
+ * every other value is promoted to the compactor above with twice the weight. The capacity of each compactor
+ * decreases geometrically with depth below the top compactor, so the number of values retained is bounded by
+ * approximately three times the sketch size, regardless of the number of values added.
+ *
+ * <p>The sketch size controls the accuracy. The normalized rank error of a quantile estimated from the sketch is
+ * declared by {@link #getNormalizedRankError(int)}, which is the error that is not exceeded with a probability of
+ * approximately 0.99 (e.g., approximately 1.3% of the sample size for a sketch size of 200). The sample size, the
+ * count of missing values, the minimum and the maximum are exact. Missing values, as defined by
+ * {@link MissingValues#isMissingValue(double)}, are counted, but not sketched.
+ *
+ * <p>The coin flips that select the promoted values are seeded, so that the sketch is reproducible for a given
+ * sequence of additions and merges.
+ *
+ * @author James Brown
+ */
+
+@NotThreadSafe
+final class QuantileSketch
+{
+    /** The default sketch size. */
+    static final int DEFAULT_SIZE = 200;
+
+    /** The smallest sketch size allowed. */
+    static final int MINIMUM_SIZE = 8;
+
+    /** The decay rate of the compactor capacity with depth below the top compactor. */
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    /** The smallest capacity of a compactor. */
+    private static final int MINIMUM_CAPACITY = 2;
+
+    /** The seed for the coin flips. */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /** The sketch size. */
+    private final int size;
+
+    /** The coin flips. */
+    private final SplittableRandom random;
+
+    /** The compactors, indexed by height. The weight of each value in a compactor is two raised to its height. */
+    private double[][] compactors;
+
+    /** The number of values in each compactor. */
+    private int[] counts;
+
+    /** The number of compactors. */
+    private int height;
+
+    /** The number of values retained across all compactors. */
+    private int retained;
+
+    /** The maximum number of values to retain across all compactors before compacting. */
+    private int maximumRetained;
+
+    /** The number of non-missing values added. */
+    private long count;
+
+    /** The number of missing values added. */
+    private long missingCount;
+
+    /** The smallest non-missing value added. */
+    private double minimum;
+
+    /** The largest non-missing value added. */
+    private double maximum;
+
+    /**
+     * Returns the normalized rank error of a quantile estimated from a sketch of the prescribed size, which is not
+     * exceeded with a probability of approximately 0.99.
+     *
+     * @param size the sketch size
+     * @return the normalized rank error
+     * @throws IllegalArgumentException if the size is smaller than the {@link #MINIMUM_SIZE}
+     */
+
+    static double getNormalizedRankError( int size )
+    {
+        QuantileSketch.validateSize( size );
+
+        return 2.296 / Math.pow( size, 0.9723 );
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param size the sketch size
+     * @throws IllegalArgumentException if the size is smaller than the {@link #MINIMUM_SIZE}
+     */
+
+    QuantileSketch( int size )
+    {
+        QuantileSketch.validateSize( size );
+
+        this.size = size;
+        this.random = new SplittableRandom( SEED );
+        this.compactors = new double[0][];
+        this.counts = new int[0];
+        this.minimum = Double.POSITIVE_INFINITY;
+        this.maximum = Double.NEGATIVE_INFINITY;
+        this.grow();
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     */
+
+    void add( double value )
+    {
+        if ( MissingValues.isMissingValue( value ) )
+        {
+            this.missingCount++;
+            return;
+        }
+
+        this.count++;
+        this.minimum = Math.min( this.minimum, value );
+        this.maximum = Math.max( this.maximum, value );
+
+        this.append( 0, value );
+
+        if ( this.retained >= this.maximumRetained )
+        {
+            this.compress();
+        }
+    }
+
+    /**
+     * Merges the prescribed sketch into this sketch. The prescribed sketch is unchanged.
+     *
+     * @param other the sketch to merge
+     * @throws NullPointerException if the other sketch is null
+     */
+
+    void merge( QuantileSketch other )
+    {
+        Objects.requireNonNull( other );
+
+        while ( this.height < other.height )
+        {
+            this.grow();
+        }
+
+        for ( int h = 0; h < other.height; h++ )
+        {
+            for ( int i = 0; i < other.counts[h]; i++ )
+            {
+                this.append( h, other.compactors[h][i] );
+            }
+        }
+
+        this.count += other.count;
+        this.missingCount += other.missingCount;
+        this.minimum = Math.min( this.minimum, other.minimum );
+        this.maximum = Math.max( this.maximum, other.maximum );
+
+        while ( this.retained >= this.maximumRetained )
+        {
+            this.compress();
+        }
+    }
+
+    /**
+     * @return the number of values added, including missing values
+     */
+
+    long size()
+    {
+        return this.count + this.missingCount;
+    }
+
+    /**
+     * @return the number of values retained by the sketch
+     */
+
+    int retained()
+    {
+        return this.retained;
+    }
+
+    /**
+     * Returns a sample that contains one value for each value added. The non-missing values are sorted and each
+     * retained value is repeated in proportion to its weight. The smallest and largest non-missing values are exact.
+     * The missing values follow the non-missing values and are set to {@link MissingValues#DOUBLE}. Thus, the sample
+     * size is exact and the rank of each sample value is accurate to within the declared error bound.
+     *
+     * @return a sample that approximates the values added
+     * @throws IllegalStateException if the sample is too large for an array
+     */
+
+    double[] toArray()
+    {
+        long total = this.size();
+        if ( total > Integer.MAX_VALUE - 8 )
+        {
+            throw new IllegalStateException( "The sketched sample is too large to expand into an array: " + total
+                                             + "." );
+        }
+
+        double[] sample = new double[( int ) total];
+        int index = 0;
+        for ( int h = 0; h < this.height; h++ )
+        {
+            int weight = 1 << h;
+            for ( int i = 0; i < this.counts[h]; i++ )
+            {
+                Arrays.fill( sample, index, index + weight, this.compactors[h][i] );
+                index += weight;
+            }
+        }
+
+        Arrays.sort( sample, 0, index );
+
+        if ( index > 0 )
+        {
+            sample[0] = this.minimum;
+            sample[index - 1] = this.maximum;
+        }
+
+        Arrays.fill( sample, index, sample.length, MissingValues.DOUBLE );
+
+        return sample;
+    }
+
+    /**
+     * Appends a value to the compactor at the prescribed height, growing the compactor as needed.
+     *
+     * @param h the height
+     * @param value the value
+     */
+
+    private void append( int h, double value )
+    {
+        double[] compactor = this.compactors[h];
+        if ( this.counts[h] == compactor.length )
+        {
+            compactor = Arrays.copyOf( compactor, Math.max( MINIMUM_SIZE, compactor.length << 1 ) );
+            this.compactors[h] = compactor;
+        }
+
+        compactor[this.counts[h]++] = value;
+        this.retained++;
+    }
+
+    /**
+     * Compacts the lowest compactor that is at or above capacity, adding a new compactor on top as needed.
+     */
+
+    private void compress()
+    {
+        for ( int h = 0; h < this.height; h++ )
+        {
+            if ( this.counts[h] >= this.getCapacity( h ) )
+            {
+                if ( h + 1 >= this.height )
+                {
+                    this.grow();
+                }
+
+                this.compact( h );
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sorts the compactor at the prescribed height and promotes every other value to the compactor above. When the
+     * number of values is odd, the smallest value remains.
+     *
+     * @param h the height
+     */
+
+    private void compact( int h )
+    {
+        double[] compactor = this.compactors[h];
+        int n = this.counts[h];
+        Arrays.sort( compactor, 0, n );
+
+        int remaining = n & 1;
+        int offset = remaining + ( this.random.nextBoolean() ? 1 : 0 );
+        for ( int i = offset; i < n; i += 2 )
+        {
+            this.append( h + 1, compactor[i] );
+        }
+
+        this.retained -= n - remaining;
+        this.counts[h] = remaining;
+    }
+
+    /**
+     * Adds a compactor on top.
+     */
+
+    private void grow()
+    {
+        this.compactors = Arrays.copyOf( this.compactors, this.height + 1 );
+        this.compactors[this.height] = new double[0];
+        this.counts = Arrays.copyOf( this.counts, this.height + 1 );
+        this.height++;
+
+        int total = 0;
+        for ( int h = 0; h < this.height; h++ )
+        {
+            total += this.getCapacity( h );
+        }
+
+        this.maximumRetained = total;
+    }
+
+    /**
+     * @param h the height
+     * @return the capacity of the compactor at the prescribed height
+     */
+
+    private int getCapacity( int h )
+    {
+        int depth = this.height - h - 1;
+        int capacity = ( int ) Math.ceil( this.size * Math.pow( CAPACITY_DECAY, depth ) );
+        return Math.max( MINIMUM_CAPACITY, capacity );
+    }
+
+    /**
+     * Validates the sketch size.
+     *
+     * @param size the size
+     * @throws IllegalArgumentException if the size is smaller than the {@link #MINIMUM_SIZE}
+     */
+
+    private static void validateSize( int size )
+    {
+        if ( size < MINIMUM_SIZE )
+        {
+            throw new IllegalArgumentException( "The sketch size must be "
+                                                + MINIMUM_SIZE
+                                                + " or larger: "
+                                                + size
+                                                + "." );
+        }
+    }
+}
@@ -18,11 +18,13 @@ import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 import wres.statistics.generated.MetricName;
 
 /**
- * Constructs a {@link Metric} that returns the sample size.
+ * Constructs a {@link Metric} that returns the sample size. Implements {@link Incremental}, whereby the sample size
+ * is additive across pools.
  * 
  * @author James Brown
  */
-class SampleSize<S extends Pool<?>> implements Score<S, DoubleScoreStatisticOuter>
+class SampleSize<S extends Pool<?>> implements Score<S, DoubleScoreStatisticOuter>,
+        Incremental<S, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /**
      * Default logger.
@@ -95,6 +97,27 @@ class SampleSize<S extends Pool<?>> implements Score<S, DoubleScoreStatisticOute
         return DoubleScoreStatisticOuter.of( score, pool.getMetadata() );
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( S pool, DoubleScoreStatisticOuter statistic )
+    {
+        DoubleScoreStatisticOuter next = this.apply( pool );
+        next = IncrementalScores.withSampleSize( next, pool.get()
+                                                           .size() );
+
+        return IncrementalScores.sum( next, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
+
+        return IncrementalScores.withoutSampleSize( statistic );
+    }
+
     @Override
     public MetricConstants getMetricName()
     {
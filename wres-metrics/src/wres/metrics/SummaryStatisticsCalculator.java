@@ -53,6 +53,13 @@ import wres.statistics.generated.Statistics;
  * Callers should use the APIs advertised by this class, rather than the class itself, as that will allow the
  * implementation to be swapped for a database variant, when a database schema is available. See #45466.
  *
+ * <p>Optionally, the samples of double statistics may be approximated in bounded memory using mergeable quantile
+ * sketches, rather than retaining every value. In that case, the sample size, minimum and maximum of each sample are
+ * exact and the rank of each sample value is accurate to within the error declared by
+ * {@link #getNormalizedRankError(int)}. Values are added to one of several sketches for each sample according to the
+ * thread that adds them and the sketches are merged on calculating the summary statistics. The samples of duration
+ * statistics are always exact.
+ *
  * @author James Brown
  */
 
@@ -68,12 +75,15 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                   .filter( Objects::nonNull )
                                   .toList();
 
+    /** The number of sketches per sample when approximating the samples, which must be a power of two. */
+    private static final int SKETCH_STRIPE_COUNT = 4;
+
     /** The cached samples of score statistics. */
-    private final Map<MetricNames, MutableDoubleList> doubleScores;
+    private final Map<MetricNames, DoubleSample> doubleScores;
 
     /** The cached sample of diagram statistics with each column containing one sample and each row containing all
      * samples for one index of the diagram component. */
-    private final Map<MetricNames, List<MutableDoubleList>> diagrams;
+    private final Map<MetricNames, List<DoubleSample>> diagrams;
 
     /** The cached sample of duration score statistics. */
     private final Map<MetricNames, List<Duration>> durationScores;
@@ -114,8 +124,9 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
     /** Time units for duration statistics. */
     private final ChronoUnit timeUnit;
 
-    /** Locks the creation of new diagram row slots within the {@link #diagrams}. */
-    private final ReentrantLock diagramRowSlotCreationLock = new ReentrantLock();
+    /** The size of the quantile sketches used to approximate the samples of double statistics, else zero to retain
+     * every value. */
+    private final int sketchSize;
 
     /** A transformer that aggregates the raw statistics metadata to reflect the dimension over which the summary
      * statistics were calculated. For example, when summarizing over features, the feature metadata should be
@@ -153,7 +164,53 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                                 boxplotStatistics,
                                                 filter,
                                                 metadataTransformer,
-                                                timeUnits );
+                                                timeUnits,
+                                                0 );
+    }
+
+    /**
+     * Creates an instance that optionally approximates the samples of double statistics in bounded memory using
+     * quantile sketches of the prescribed size. A larger sketch is more accurate and uses more memory. See
+     * {@link #getNormalizedRankError(int)} for the accuracy of a given sketch size.
+     * @param scalarStatistics the scalar summary statistics to calculate
+     * @param diagramStatistics the diagram summary statistics to calculate
+     * @param boxplotStatistics the box plot summary statistics to calculate
+     * @param filter an optional filter
+     * @param metadataTransformer a transformer that adapts the statistics metadata to reflect the summary performed
+     * @param timeUnits the optional time units to use for duration statistics
+     * @param sketchSize the size of the quantile sketches or zero to retain every value
+     * @return an instance
+     * @throws IllegalArgumentException if all lists of statistics are null or empty or the sketch size is invalid
+     */
+    public static SummaryStatisticsCalculator of( Set<ScalarSummaryStatisticFunction> scalarStatistics,
+                                                  Set<DiagramSummaryStatisticFunction> diagramStatistics,
+                                                  Set<BoxplotSummaryStatisticFunction> boxplotStatistics,
+                                                  Predicate<Statistics> filter,
+                                                  BinaryOperator<Statistics> metadataTransformer,
+                                                  ChronoUnit timeUnits,
+                                                  int sketchSize )
+    {
+        return new SummaryStatisticsCalculator( scalarStatistics,
+                                                diagramStatistics,
+                                                boxplotStatistics,
+                                                filter,
+                                                metadataTransformer,
+                                                timeUnits,
+                                                sketchSize );
+    }
+
+    /**
+     * Returns the normalized rank error of a sample value when approximating the samples with quantile sketches of
+     * the prescribed size. The error is expressed as a fraction of the sample size and is not exceeded with a
+     * probability of approximately 0.99. For example, with a sketch size of 200, the rank of each sample value is
+     * accurate to within approximately 1.3% of the sample size.
+     * @param sketchSize the sketch size
+     * @return the normalized rank error
+     * @throws IllegalArgumentException if the sketch size is invalid
+     */
+    public static double getNormalizedRankError( int sketchSize )
+    {
+        return QuantileSketch.getNormalizedRankError( sketchSize );
     }
 
     /**
@@ -320,7 +377,7 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                                              .getName(),
                                                     null );
 
-                MutableDoubleList samples = this.getOrAddDoubleScoreSlot( name );
+                DoubleSample samples = this.getOrAddDoubleScoreSlot( name );
                 double scoreValue = component.getValue();
                 samples.add( scoreValue );
             }
@@ -332,11 +389,10 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
      * @param name the named metric
      * @return the slot
      */
-    private MutableDoubleList getOrAddDoubleScoreSlot( MetricNames name )
+    private DoubleSample getOrAddDoubleScoreSlot( MetricNames name )
     {
-        // Add a thread-safe mutable list
-        this.doubleScores.putIfAbsent( name, new DoubleArrayList().asSynchronized() );
-        return this.doubleScores.get( name );
+        // Add a thread-safe sample
+        return this.doubleScores.computeIfAbsent( name, n -> this.getNewDoubleSample() );
     }
 
     /**
@@ -397,12 +453,12 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                                     component.getMetric()
                                                              .getName(),
                                                     component.getName() );
-                List<MutableDoubleList> samples = this.getOrAddDiagramSlot( name );
+                List<DoubleSample> samples = this.getOrAddDiagramSlot( name );
 
                 int valuesCount = component.getValuesCount();
                 for ( int i = 0; i < valuesCount; i++ )
                 {
-                    MutableDoubleList row = this.getOrAddDiagramRowSlot( samples, i );
+                    DoubleSample row = this.getOrAddDiagramRowSlot( samples, i );
                     double value = component.getValues( i );
                     row.add( value );
                 }
@@ -415,10 +471,10 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
      * @param name the named metric
      * @return the slot
      */
-    private List<MutableDoubleList> getOrAddDiagramSlot( MetricNames name )
+    private List<DoubleSample> getOrAddDiagramSlot( MetricNames name )
     {
-        // Add a thread-safe list (of lists)
-        this.diagrams.putIfAbsent( name, new FastList<MutableDoubleList>().asSynchronized() );
+        // Add a thread-safe list (of samples)
+        this.diagrams.putIfAbsent( name, new FastList<DoubleSample>().asSynchronized() );
         return this.diagrams.get( name );
     }
 
@@ -428,31 +484,39 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
      * @param slotIndex the slot index required
      * @return the diagram row slot
      */
-    private MutableDoubleList getOrAddDiagramRowSlot( List<MutableDoubleList> slots, int slotIndex )
+    private DoubleSample getOrAddDiagramRowSlot( List<DoubleSample> slots, int slotIndex )
     {
-        try
+        // Synchronize on the slots to ensure that the check on list size, creation and addition of a new sample are
+        // all atomic. Even though the outer list is a thread-safe variant, this entire sequence needs to be atomic
+        // otherwise multiple threads could enter the "add sample" step below (the multiple samples then being added
+        // atomically, but duplicated). The synchronized list uses itself as the lock, so only those threads that
+        // update the same diagram contend for it
+        synchronized ( slots )
         {
-            // Lock to ensure that the check on list size, creation and addition of a new list are all atomic. Even
-            // though the outer list is a thread-safe variant, this entire sequence needs to be atomic otherwise
-            // multiple threads could enter the "add list" step below (the multiple lists then being added atomically,
-            // but duplicated)
-            this.diagramRowSlotCreationLock.lock();
-
             if ( slotIndex < slots.size() )
             {
                 return slots.get( slotIndex );
             }
 
-            // Add a thread-safe list
-            MutableDoubleList newSlot = new DoubleArrayList().asSynchronized();
+            // Add a thread-safe sample
+            DoubleSample newSlot = this.getNewDoubleSample();
             slots.add( newSlot );
 
             return newSlot;
         }
-        finally
+    }
+
+    /**
+     * @return a new, thread-safe, sample of double statistics
+     */
+    private DoubleSample getNewDoubleSample()
+    {
+        if ( this.sketchSize > 0 )
         {
-            this.diagramRowSlotCreationLock.unlock();
+            return new SketchedSample( this.sketchSize );
         }
+
+        return new ExactSample();
     }
 
     /**
@@ -656,7 +720,7 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                                     component.getMetric()
                                                              .getName(),
                                                     null );
-                MutableDoubleList samples = this.doubleScores.get( name );
+                DoubleSample samples = this.doubleScores.get( name );
                 double[] raw = samples.toArray();
                 double statisticValue = summaryStatistic.applyAsDouble( raw );
                 component.setValue( statisticValue );
@@ -723,10 +787,10 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                                     component.getMetric()
                                                              .getName(),
                                                     component.getName() );
-                List<MutableDoubleList> samples = this.diagrams.get( name );
+                List<DoubleSample> samples = this.diagrams.get( name );
                 component.clearValues();
 
-                for ( MutableDoubleList nextSamples : samples )
+                for ( DoubleSample nextSamples : samples )
                 {
                     double[] nextSampleArray = nextSamples.toArray();
                     double statisticValue = summaryStatistic.applyAsDouble( nextSampleArray );
@@ -785,14 +849,14 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
     private List<DiagramStatistic> calculateDiagramStatisticForDoubleScores( DiagramSummaryStatisticFunction diagram )
     {
         List<DiagramStatistic> diagramList = new ArrayList<>();
-        for ( Map.Entry<MetricNames, MutableDoubleList> nextScore : this.doubleScores.entrySet() )
+        for ( Map.Entry<MetricNames, DoubleSample> nextScore : this.doubleScores.entrySet() )
         {
             MetricNames name = nextScore.getKey();
             String nameString = name.metricName()
                                     .toString();
             String componentNameString = name.componentName()
                                              .toString();
-            MutableDoubleList scores = nextScore.getValue();
+            DoubleSample scores = nextScore.getValue();
             double[] rawScores = scores.toArray();
             DoubleScoreStatistic.Builder b = this.doubleScoreTemplates.get( name.metricName() );
 
@@ -849,13 +913,13 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
     private List<BoxplotStatistic> calculateBoxplotStatisticForDoubleScores( BoxplotSummaryStatisticFunction boxplot )
     {
         List<BoxplotStatistic> boxplotList = new ArrayList<>();
-        for ( Map.Entry<MetricNames, MutableDoubleList> nextScore : this.doubleScores.entrySet() )
+        for ( Map.Entry<MetricNames, DoubleSample> nextScore : this.doubleScores.entrySet() )
         {
             MetricNames name = nextScore.getKey();
             String nameString = name.metricName()
                                     .toString();
 
-            MutableDoubleList scores = nextScore.getValue();
+            DoubleSample scores = nextScore.getValue();
             double[] rawScores = scores.toArray();
             DoubleScoreStatistic.Builder b = this.doubleScoreTemplates.get( name.metricName() );
 
@@ -1004,7 +1068,8 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
      * @param filter an optional filter
      * @param metadataAggregator a transformer that adapts the statistics metadata to reflect the summary performed
      * @param timeUnits the optional time units to use for duration statistics
-     * @throws IllegalArgumentException if all lists of statistics are null or empty
+     * @param sketchSize the size of the quantile sketches or zero to retain every value
+     * @throws IllegalArgumentException if all lists of statistics are null or empty or the sketch size is invalid
      * @throws NullPointerException if the metadata transformer is null
      */
     private SummaryStatisticsCalculator( Set<ScalarSummaryStatisticFunction> scalarStatistics,
@@ -1012,10 +1077,20 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
                                          Set<BoxplotSummaryStatisticFunction> boxplotStatistics,
                                          Predicate<Statistics> filter,
                                          BinaryOperator<Statistics> metadataAggregator,
-                                         ChronoUnit timeUnits )
+                                         ChronoUnit timeUnits,
+                                         int sketchSize )
     {
         Objects.requireNonNull( metadataAggregator );
 
+        if ( sketchSize != 0 && sketchSize < QuantileSketch.MINIMUM_SIZE )
+        {
+            throw new IllegalArgumentException( "The sketch size must be zero or "
+                                                + QuantileSketch.MINIMUM_SIZE
+                                                + " or larger: "
+                                                + sketchSize
+                                                + "." );
+        }
+
         // Replace null with empty lists
         if ( Objects.isNull( scalarStatistics ) )
         {
@@ -1060,6 +1135,7 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
         }
 
         this.metadataAggregator = metadataAggregator;
+        this.sketchSize = sketchSize;
         this.scalarStatistics = scalarStatistics;
         this.diagramStatistics = diagramStatistics;
         this.boxplotStatistics = boxplotStatistics;
@@ -1088,4 +1164,98 @@ public class SummaryStatisticsCalculator implements Supplier<List<Statistics>>,
     private record MetricNames( MetricName metricName,
                                 MetricName componentName,
                                 String qualifier ) {}
+
+    /**
+     * A thread-safe sample of double statistics.
+     */
+    private interface DoubleSample
+    {
+        /**
+         * Adds a value to the sample.
+         * @param value the value
+         */
+        void add( double value );
+
+        /**
+         * @return the sample values
+         */
+        double[] toArray();
+    }
+
+    /**
+     * A sample that retains every value.
+     */
+    private static class ExactSample implements DoubleSample
+    {
+        /** The values. */
+        private final MutableDoubleList values = new DoubleArrayList().asSynchronized();
+
+        @Override
+        public void add( double value )
+        {
+            this.values.add( value );
+        }
+
+        @Override
+        public double[] toArray()
+        {
+            return this.values.toArray();
+        }
+    }
+
+    /**
+     * A sample that is approximated in bounded memory with quantile sketches. Each value is added to one of several
+     * sketches according to the thread that adds it, so that threads rarely contend for the same sketch. The sketches
+     * are merged when the sample values are requested.
+     */
+    private static class SketchedSample implements DoubleSample
+    {
+        /** The sketch size. */
+        private final int size;
+
+        /** The sketches, each guarded by its own monitor. */
+        private final QuantileSketch[] stripes;
+
+        /**
+         * Creates an instance.
+         * @param size the sketch size
+         */
+        private SketchedSample( int size )
+        {
+            this.size = size;
+            this.stripes = new QuantileSketch[SKETCH_STRIPE_COUNT];
+            for ( int i = 0; i < SKETCH_STRIPE_COUNT; i++ )
+            {
+                this.stripes[i] = new QuantileSketch( size );
+            }
+        }
+
+        @Override
+        public void add( double value )
+        {
+            long threadId = Thread.currentThread()
+                                  .getId();
+            QuantileSketch stripe = this.stripes[( int ) ( threadId & ( SKETCH_STRIPE_COUNT - 1 ) )];
+
+            synchronized ( stripe )
+            {
+                stripe.add( value );
+            }
+        }
+
+        @Override
+        public double[] toArray()
+        {
+            QuantileSketch merged = new QuantileSketch( this.size );
+            for ( QuantileSketch stripe : this.stripes )
+            {
+                synchronized ( stripe )
+                {
+                    merged.merge( stripe );
+                }
+            }
+
+            return merged.toArray();
+        }
+    }
 }
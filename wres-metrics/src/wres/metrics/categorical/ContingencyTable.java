@@ -1,16 +1,18 @@
 package wres.metrics.categorical;
 
 import java.util.Objects;
-import java.util.function.Consumer;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import wres.config.MetricConstants;
+import wres.datamodel.pools.DichotomousPairs;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.datamodel.units.Units;
 import wres.metrics.Collectable;
+import wres.metrics.Incremental;
+import wres.metrics.IncrementalScores;
 import wres.metrics.Metric;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.DoubleScoreMetric;
@@ -24,12 +26,16 @@ import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
  * associated with each of the N possible outcomes of an N-category variable. The rows of the contingency
  * table store the number of predicted outcomes and the columns store the number of observed outcomes.
  * </p>
+ * <p>
+ * Implements {@link Incremental}, whereby the counts are additive across pools.
+ * </p>
  *
  * @author James Brown
  */
 
 public class ContingencyTable implements Metric<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter>,
-                                         Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                                         Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+                                         Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /**
      * Basic description of the metric.
@@ -117,36 +123,17 @@ public class ContingencyTable implements Metric<Pool<Pair<Boolean, Boolean>>, Do
         final int outcomes = 2;
         final double[][] returnMe = new double[outcomes][outcomes];
 
-        // Function that returns the index within the contingency table to increment
-        final Consumer<Pair<Boolean, Boolean>> f = a -> {
-            boolean left = a.getLeft();
-            boolean right = a.getRight();
-
-            // True positives aka hits
-            if ( left && right )
-            {
-                returnMe[0][0] += 1;
-            }
-            // True negatives 
-            else if ( !left && !right )
-            {
-                returnMe[1][1] += 1;
-            }
-            // False positives aka false alarms
-            else if ( !left )
-            {
-                returnMe[0][1] += 1;
-            }
-            // False negatives aka misses
-            else
-            {
-                returnMe[1][0] += 1;
-            }
-        };
-
-        // Increment the count in a serial stream as the lambda is stateful
-        pool.get()
-            .forEach( f );
+        // Count the pairs by cell, which are counted on construction when the pool was transformed by a sweep
+        DichotomousPairs pairs = DichotomousPairs.of( pool.get() );
+
+        // True positives aka hits
+        returnMe[0][0] = pairs.getTrueTrue();
+        // False positives aka false alarms
+        returnMe[0][1] = pairs.getFalseTrue();
+        // False negatives aka misses
+        returnMe[1][0] = pairs.getTrueFalse();
+        // True negatives
+        returnMe[1][1] = pairs.getFalseFalse();
 
         // Name the outcomes for a 2x2 contingency table
         DoubleScoreStatistic table =
@@ -208,6 +195,25 @@ public class ContingencyTable implements Metric<Pool<Pair<Boolean, Boolean>>, Do
         return MetricConstants.CONTINGENCY_TABLE;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Boolean, Boolean>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        DoubleScoreStatisticOuter next = this.getIntermediate( pool );
+        next = IncrementalScores.withSampleSize( next, pool.get()
+                                                           .size() );
+
+        return IncrementalScores.sum( next, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        Objects.requireNonNull( statistic );
+
+        // No pool is required because the contingency table is sufficient
+        return this.applyIntermediate( IncrementalScores.withoutSampleSize( statistic ), null );
+    }
+
     /**
      * Hidden constructor.
      */
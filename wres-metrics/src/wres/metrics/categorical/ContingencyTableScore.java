@@ -11,18 +11,21 @@ import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
+import wres.metrics.Incremental;
 import wres.metrics.Metric;
 import wres.metrics.MetricCalculationException;
 import wres.metrics.Score;
 
 /**
- * A generic implementation of an error score that applies to the components of a {@link ContingencyTable}.
+ * A generic implementation of an error score that applies to the components of a {@link ContingencyTable}. Implements
+ * {@link Incremental}, whereby the intermediate statistic is the {@link ContingencyTable}.
  * 
  * @author James Brown
  */
 
 abstract class ContingencyTableScore implements Score<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter>,
-        Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        Collectable<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /** A {@link ContingencyTable} to compute. */
     private final ContingencyTable table;
@@ -47,6 +50,29 @@ abstract class ContingencyTableScore implements Score<Pool<Pair<Boolean, Boolean
         return this.table.apply( s );
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Boolean, Boolean>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( this.nullString );
+        }
+
+        return this.table.combine( pool, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( this.nullString );
+        }
+
+        // No pool is required because the contingency table is sufficient
+        return this.applyIntermediate( this.table.complete( statistic ), null );
+    }
+
     @Override
     public boolean isDecomposable()
     {
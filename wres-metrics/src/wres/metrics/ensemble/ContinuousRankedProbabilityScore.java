@@ -5,20 +5,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import wres.datamodel.types.Ensemble;
+import wres.datamodel.pools.EnsemblePairColumns;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
-import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.DecomposableScore;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
+import wres.metrics.IncrementalScores;
 import wres.metrics.ProbabilityScore;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
@@ -38,10 +42,14 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * ensemble members, and the per-forecast CRPS is computed for each group separately. The average CRPS is then computed
  * from the per-forecast CRPS values.
  *
+ * <p> Implements {@link Incremental} as a mean weighted by sample size, since the CRPS is an average of per-forecast
+ * values. This does not apply to a decomposition of the CRPS.
+ *
  * @author James Brown
  */
 public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pair<Double, Ensemble>>>
-        implements ProbabilityScore<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter>
+        implements ProbabilityScore<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /** Basic description of the metric. */
     public static final DoubleScoreMetric BASIC_METRIC =
@@ -92,18 +100,24 @@ public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pai
                       this.getMetricNameString(),
                       pool.getMetadata() );
 
+        // Use the columnar view of the pool, which contains the sorted members and is shared with other metrics
+        EnsemblePairColumns columns = EnsemblePairColumns.of( pool );
+        double[][] sortedMembers = columns.getSortedMembers();
+
         // Slice the data into groups with an equal number of ensemble members
-        Map<Integer, List<Pair<Double, Ensemble>>> grouped =
-                Slicer.filterByRightSize( pool.get() );
+        Map<Integer, List<Integer>> grouped =
+                IntStream.range( 0, columns.size() )
+                         .boxed()
+                         .collect( Collectors.groupingBy( i -> sortedMembers[i].length ) );
 
         // CRPS, currently without decomposition
         // TODO: implement the decomposition
         double crps = 0;
-        for ( Map.Entry<Integer, List<Pair<Double, Ensemble>>> nextGroup : grouped.entrySet() )
+        for ( Map.Entry<Integer, List<Integer>> nextGroup : grouped.entrySet() )
         {
             int count = nextGroup.getKey();
-            List<Pair<Double, Ensemble>> pairs = nextGroup.getValue();
-            double[] crpsSum = this.getSumCRPS( pairs, count );
+            List<Integer> indexes = nextGroup.getValue();
+            double[] crpsSum = this.getSumCRPS( columns, indexes, count );
             crps += crpsSum[0]; // Main score in index 0
         }
 
@@ -145,6 +159,32 @@ public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pai
         return MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Double, Ensemble>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify non-null input to the '" + this + "'." );
+        }
+
+        DoubleScoreStatisticOuter next = this.apply( pool );
+        next = IncrementalScores.withSampleSize( next, pool.get()
+                                                           .size() );
+
+        return IncrementalScores.mean( next, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
+
+        return IncrementalScores.withoutSampleSize( statistic );
+    }
+
     @Override
     public boolean isProper()
     {
@@ -178,24 +218,26 @@ public class ContinuousRankedProbabilityScore extends DecomposableScore<Pool<Pai
      *
      * <p>TODO: implement the decomposition
      *
-     * @param pairs the pairs
+     * @param columns the columnar view of the pairs
+     * @param indexes the indexes of the pairs to include
      * @param memberCount the number of ensemble members
      * @return the mean CRPS, with decomposition if required
      */
 
-    private double[] getSumCRPS( List<Pair<Double, Ensemble>> pairs, int memberCount )
+    private double[] getSumCRPS( EnsemblePairColumns columns, List<Integer> indexes, int memberCount )
     {
         double totCRPS = 0.0;
 
         // Form the sorted pairs: #93061
         List<double[]> sortedPairs = new ArrayList<>();
-        for ( Pair<Double, Ensemble> nextPair : pairs )
+        double[] left = columns.getLeft();
+        double[][] sortedMembers = columns.getSortedMembers();
+        for ( int index : indexes )
         {
-            // Combine and sort forecast
-            Ensemble ensemble = nextPair.getRight();
-            double[] sorted = ensemble.getSortedMembers();
+            // Combine with the sorted forecast
+            double[] sorted = sortedMembers[index];
             double[] withLeft = new double[memberCount + 1];
-            withLeft[0] = nextPair.getLeft();
+            withLeft[0] = left[index];
             System.arraycopy( sorted, 0, withLeft, 1, sorted.length );
             sortedPairs.add( withLeft );
         }
@@ -9,11 +9,17 @@ import wres.config.MetricConstants;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.PoolMetadata;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.datamodel.statistics.Statistic;
+import wres.metrics.DecomposableScore;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
+import wres.metrics.ProbabilityScore;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.MetricName;
+import wres.statistics.generated.SummaryStatistic;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticComponent;
 
@@ -23,10 +29,17 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
  * {@link ContinuousRankedProbabilityScore} associated with one set of predictions when compared to another. The perfect
  * score is 1.0. 
  * </p>
+ * <p>
+ * The skill score delegates to the {@link ContinuousRankedProbabilityScore} rather than extending it. Implements
+ * {@link Incremental}, whereby the intermediate statistic contains the {@link Scores} of the main and baseline pairs,
+ * each of which is accumulated separately, with its own sample size.
+ * </p>
  *
  * @author James Brown
  */
-public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProbabilityScore
+public class ContinuousRankedProbabilitySkillScore extends DecomposableScore<Pool<Pair<Double, Ensemble>>>
+        implements ProbabilityScore<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Ensemble>>, ContinuousRankedProbabilitySkillScore.Scores, DoubleScoreStatisticOuter>
 {
 
     /**
@@ -60,6 +73,12 @@ public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProba
                                                                     .setName( MetricName.CONTINUOUS_RANKED_PROBABILITY_SKILL_SCORE )
                                                                     .build();
 
+    /**
+     * The score from which the skill is computed.
+     */
+
+    private final ContinuousRankedProbabilityScore crps;
+
     /**
      * Returns an instance.
      *
@@ -84,28 +103,52 @@ public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProba
         }
         // CRPSS, currently without decomposition
         // TODO: implement the decomposition
-        double numerator = super.apply( pool ).getComponent( MetricConstants.MAIN )
-                                .getStatistic()
-                                .getValue();
-        double denominator = super.apply( pool.getBaselineData() ).getComponent( MetricConstants.MAIN )
-                                  .getStatistic()
-                                  .getValue();
+        DoubleScoreStatisticOuter numerator = this.crps.apply( pool );
+        DoubleScoreStatisticOuter denominator = this.crps.apply( pool.getBaselineData() );
 
-        double result = FunctionFactory.skill()
-                                       .applyAsDouble( numerator, denominator );
+        return this.getSkill( numerator, denominator, pool.getMetadata() );
+    }
 
-        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
-                                                                               .setMetric(
-                                                                                       ContinuousRankedProbabilitySkillScore.MAIN )
-                                                                               .setValue( result )
-                                                                               .build();
-        DoubleScoreStatistic score =
-                DoubleScoreStatistic.newBuilder()
-                                    .setMetric( ContinuousRankedProbabilitySkillScore.BASIC_METRIC )
-                                    .addStatistics( component )
-                                    .build();
+    @Override
+    public Scores combine( Pool<Pair<Double, Ensemble>> pool, Scores statistic )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify non-null input to the '" + this + "'." );
+        }
+        if ( !pool.hasBaseline() )
+        {
+            throw new PoolException( "Specify a non-null baseline for the '" + this + "'." );
+        }
+
+        DoubleScoreStatisticOuter priorMain = null;
+        DoubleScoreStatisticOuter priorBaseline = null;
+
+        if ( Objects.nonNull( statistic ) )
+        {
+            priorMain = statistic.main();
+            priorBaseline = statistic.baseline();
+        }
+
+        // Accumulate the scores separately because the main and baseline pairs may differ in number
+        DoubleScoreStatisticOuter main = this.crps.combine( pool, priorMain );
+        DoubleScoreStatisticOuter baseline = this.crps.combine( pool.getBaselineData(), priorBaseline );
+
+        return new Scores( main, baseline );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( Scores statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
 
-        return DoubleScoreStatisticOuter.of( score, pool.getMetadata() );
+        DoubleScoreStatisticOuter numerator = this.crps.complete( statistic.main() );
+        DoubleScoreStatisticOuter denominator = this.crps.complete( statistic.baseline() );
+
+        return this.getSkill( numerator, denominator, statistic.getPoolMetadata() );
     }
 
     @Override
@@ -132,6 +175,78 @@ public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProba
         return false;
     }
 
+    /**
+     * The intermediate statistic of the skill score, which contains the CRPS of the main and baseline pairs, each with
+     * the sample size from which it was computed.
+     *
+     * @param main the CRPS of the main pairs
+     * @param baseline the CRPS of the baseline pairs
+     */
+
+    public record Scores( DoubleScoreStatisticOuter main, DoubleScoreStatisticOuter baseline )
+            implements Statistic<Scores>
+    {
+        @Override
+        public Scores getStatistic()
+        {
+            return this;
+        }
+
+        @Override
+        public PoolMetadata getPoolMetadata()
+        {
+            return this.main()
+                       .getPoolMetadata();
+        }
+
+        @Override
+        public MetricConstants getMetricName()
+        {
+            return MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SKILL_SCORE;
+        }
+
+        @Override
+        public SummaryStatistic getSummaryStatistic()
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the skill score from the CRPS of the main and baseline pairs.
+     *
+     * @param numerator the CRPS of the main pairs
+     * @param denominator the CRPS of the baseline pairs
+     * @param metadata the pool metadata
+     * @return the skill score
+     */
+
+    private DoubleScoreStatisticOuter getSkill( DoubleScoreStatisticOuter numerator,
+                                                DoubleScoreStatisticOuter denominator,
+                                                PoolMetadata metadata )
+    {
+        double result = FunctionFactory.skill()
+                                       .applyAsDouble( numerator.getComponent( MetricConstants.MAIN )
+                                                                .getStatistic()
+                                                                .getValue(),
+                                                       denominator.getComponent( MetricConstants.MAIN )
+                                                                  .getStatistic()
+                                                                  .getValue() );
+
+        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
+                                                                               .setMetric(
+                                                                                       ContinuousRankedProbabilitySkillScore.MAIN )
+                                                                               .setValue( result )
+                                                                               .build();
+        DoubleScoreStatistic score =
+                DoubleScoreStatistic.newBuilder()
+                                    .setMetric( ContinuousRankedProbabilitySkillScore.BASIC_METRIC )
+                                    .addStatistics( component )
+                                    .build();
+
+        return DoubleScoreStatisticOuter.of( score, metadata );
+    }
+
     /**
      * Hidden constructor.
      */
@@ -139,5 +254,7 @@ public class ContinuousRankedProbabilitySkillScore extends ContinuousRankedProba
     private ContinuousRankedProbabilitySkillScore()
     {
         super();
+
+        this.crps = new ContinuousRankedProbabilityScore();
     }
 }
@@ -8,6 +8,7 @@ import wres.config.MetricConstants;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.DoubleErrorFunction;
 import wres.metrics.FunctionFactory;
@@ -79,10 +80,13 @@ public class BiasFraction extends DoubleErrorScore<Pool<Pair<Double, Double>>>
         double leftSum = 0.0;
         double errorSum = 0.0;
         DoubleErrorFunction error = FunctionFactory.error();
-        for ( Pair<Double, Double> pair : pool.get() )
+        SingleValuedPairColumns columns = SingleValuedPairColumns.of( pool );
+        double[] left = columns.getLeft();
+        double[] right = columns.getRight();
+        for ( int i = 0; i < left.length; i++ )
         {
-            leftSum += pair.getLeft();
-            errorSum += error.applyAsDouble( pair );
+            leftSum += left[i];
+            errorSum += error.applyAsDouble( left[i], right[i] );
         }
 
         double result = Double.NaN;
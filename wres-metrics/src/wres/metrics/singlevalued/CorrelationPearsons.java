@@ -10,29 +10,36 @@ import org.slf4j.LoggerFactory;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
-import wres.datamodel.Slicer;
+import wres.datamodel.pools.PoolMetadata;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.datamodel.statistics.Statistic;
 import wres.metrics.Collectable;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.metrics.MetricCollection;
 import wres.metrics.Score;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.MetricName;
+import wres.statistics.generated.SummaryStatistic;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticComponent;
 
 /**
  * Computes Pearson's product-moment correlation coefficient between the left and right sides of the {SingleValuedPairs}
  * input. Implements {@link Collectable} to avoid repeated calculations of derivative metrics, such as the
- * {@link CoefficientOfDetermination} when both appear in a {@link MetricCollection}.
+ * {@link CoefficientOfDetermination} when both appear in a {@link MetricCollection}. Implements {@link Incremental},
+ * whereby the intermediate statistic contains the {@link Moments} of the pairs, which are sufficient to compute the
+ * correlation coefficient.
  *
  * @author James Brown
  */
 public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter>,
-                                            Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                                            Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+                                            Incremental<Pool<Pair<Double, Double>>, CorrelationPearsons.Moments, DoubleScoreStatisticOuter>
 {
     /** Basic description of the metric. */
     public static final DoubleScoreMetric BASIC_METRIC = DoubleScoreMetric.newBuilder()
@@ -87,9 +94,11 @@ public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, Do
         // Minimum sample size of 1
         if ( pool.get().size() > 1 )
         {
+            // Use the columnar view of the pool, which is shared with other metrics
+            SingleValuedPairColumns columns = SingleValuedPairColumns.of( pool );
             returnMe = FunctionFactory.finiteOrMissing()
-                                      .applyAsDouble( this.correlation.correlation( Slicer.getLeftSide( pool ),
-                                                                                    Slicer.getRightSide( pool ) ) );
+                                      .applyAsDouble( this.correlation.correlation( columns.getLeft(),
+                                                                                    columns.getRight() ) );
         }
 
         DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
@@ -157,6 +166,59 @@ public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, Do
         return MetricConstants.PEARSON_CORRELATION_COEFFICIENT;
     }
 
+    @Override
+    public Moments combine( Pool<Pair<Double, Double>> pool, Moments statistic )
+    {
+        if ( Objects.isNull( pool ) )
+        {
+            throw new PoolException( "Specify non-null input to the '" + this + "'." );
+        }
+
+        Moments next = Moments.of( pool );
+
+        if ( Objects.isNull( statistic ) )
+        {
+            return next;
+        }
+
+        return statistic.combine( next );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( Moments statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
+
+        double returnMe = Double.NaN;
+
+        // Minimum sample size of 1
+        if ( statistic.count() > 1 )
+        {
+            double denominator = Math.sqrt( statistic.leftSumOfSquares() * statistic.rightSumOfSquares() );
+            returnMe = FunctionFactory.finiteOrMissing()
+                                      .applyAsDouble( statistic.sumOfProducts() / denominator );
+        }
+
+        DoubleScoreStatisticComponent component = DoubleScoreStatisticComponent.newBuilder()
+                                                                               .setMetric( CorrelationPearsons.MAIN )
+                                                                               .setValue( returnMe )
+                                                                               .build();
+
+        DoubleScoreStatistic score =
+                DoubleScoreStatistic.newBuilder()
+                                    .setMetric( CorrelationPearsons.BASIC_METRIC )
+                                    .addStatistics( component )
+                                    .build();
+
+        DoubleScoreStatisticOuter correlation = DoubleScoreStatisticOuter.of( score, statistic.metadata() );
+
+        // No pool is required because the correlation coefficient is sufficient
+        return this.applyIntermediate( correlation, null );
+    }
+
     @Override
     public String toString()
     {
@@ -164,6 +226,143 @@ public class CorrelationPearsons implements Score<Pool<Pair<Double, Double>>, Do
                    .toString();
     }
 
+    /**
+     * The sample moments of a pool of pairs that are sufficient to compute the correlation coefficient, namely the
+     * sample size, the means of the left and right sides, the sums of squared deviations from the mean of each side
+     * and the sum of the products of the deviations. Moments from separate pools are combined with the pairwise
+     * update of Chan et al. (1979), which avoids the loss of precision associated with accumulating raw sums.
+     *
+     * @param count the sample size
+     * @param leftMean the mean of the left side
+     * @param rightMean the mean of the right side
+     * @param leftSumOfSquares the sum of squared deviations from the mean of the left side
+     * @param rightSumOfSquares the sum of squared deviations from the mean of the right side
+     * @param sumOfProducts the sum of the products of the deviations from the mean of each side
+     * @param metadata the pool metadata
+     */
+
+    public record Moments( long count,
+                           double leftMean,
+                           double rightMean,
+                           double leftSumOfSquares,
+                           double rightSumOfSquares,
+                           double sumOfProducts,
+                           PoolMetadata metadata ) implements Statistic<Moments>
+    {
+        /**
+         * Computes the moments of a pool.
+         *
+         * @param pool the pool
+         * @return the moments
+         */
+
+        private static Moments of( Pool<Pair<Double, Double>> pool )
+        {
+            SingleValuedPairColumns columns = SingleValuedPairColumns.of( pool );
+            double[] left = columns.getLeft();
+            double[] right = columns.getRight();
+            int count = left.length;
+
+            double leftMean = 0.0;
+            double rightMean = 0.0;
+            for ( int i = 0; i < count; i++ )
+            {
+                leftMean += left[i];
+                rightMean += right[i];
+            }
+
+            if ( count > 0 )
+            {
+                leftMean = leftMean / count;
+                rightMean = rightMean / count;
+            }
+
+            double leftSumOfSquares = 0.0;
+            double rightSumOfSquares = 0.0;
+            double sumOfProducts = 0.0;
+            for ( int i = 0; i < count; i++ )
+            {
+                double leftDeviation = left[i] - leftMean;
+                double rightDeviation = right[i] - rightMean;
+                leftSumOfSquares += leftDeviation * leftDeviation;
+                rightSumOfSquares += rightDeviation * rightDeviation;
+                sumOfProducts += leftDeviation * rightDeviation;
+            }
+
+            return new Moments( count,
+                                leftMean,
+                                rightMean,
+                                leftSumOfSquares,
+                                rightSumOfSquares,
+                                sumOfProducts,
+                                pool.getMetadata() );
+        }
+
+        /**
+         * Combines these moments with the moments of another pool. The metadata of this instance is retained.
+         *
+         * @param other the other moments
+         * @return the combined moments
+         */
+
+        private Moments combine( Moments other )
+        {
+            if ( other.count() == 0 )
+            {
+                return this;
+            }
+
+            if ( this.count() == 0 )
+            {
+                return new Moments( other.count(),
+                                    other.leftMean(),
+                                    other.rightMean(),
+                                    other.leftSumOfSquares(),
+                                    other.rightSumOfSquares(),
+                                    other.sumOfProducts(),
+                                    this.metadata() );
+            }
+
+            double count = this.count() + (double) other.count();
+            double leftDelta = other.leftMean() - this.leftMean();
+            double rightDelta = other.rightMean() - this.rightMean();
+            double weight = this.count() * (double) other.count() / count;
+
+            return new Moments( this.count() + other.count(),
+                                this.leftMean() + leftDelta * other.count() / count,
+                                this.rightMean() + rightDelta * other.count() / count,
+                                this.leftSumOfSquares() + other.leftSumOfSquares() + leftDelta * leftDelta * weight,
+                                this.rightSumOfSquares() + other.rightSumOfSquares()
+                                + rightDelta * rightDelta * weight,
+                                this.sumOfProducts() + other.sumOfProducts() + leftDelta * rightDelta * weight,
+                                this.metadata() );
+        }
+
+        @Override
+        public Moments getStatistic()
+        {
+            return this;
+        }
+
+        @Override
+        public PoolMetadata getPoolMetadata()
+        {
+            return this.metadata();
+        }
+
+        @Override
+        public MetricConstants getMetricName()
+        {
+            return MetricConstants.PEARSON_CORRELATION_COEFFICIENT;
+        }
+
+        @Override
+        public SummaryStatistic getSummaryStatistic()
+        {
+            return null;
+        }
+    }
+
     /**
      * Hidden constructor.
      */
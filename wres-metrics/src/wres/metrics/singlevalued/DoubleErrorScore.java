@@ -10,11 +10,13 @@ import org.slf4j.LoggerFactory;
 
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.datamodel.MissingValues;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.DoubleErrorFunction;
 import wres.metrics.FunctionFactory;
+import wres.metrics.IncrementalScores;
 import wres.metrics.Score;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.DoubleScoreMetric;
@@ -62,10 +64,18 @@ public abstract class DoubleErrorScore<S extends Pool<Pair<Double, Double>>>
         double doubleScore = MissingValues.DOUBLE;
         if ( !pool.get().isEmpty() )
         {
-            double[] doubles = pool.get()
-                                   .stream()
-                                   .mapToDouble( this.getErrorFunction() )
-                                   .toArray();
+            // Use the columnar view of the pool, which is shared with other metrics
+            SingleValuedPairColumns columns = SingleValuedPairColumns.of( pool );
+            double[] left = columns.getLeft();
+            double[] right = columns.getRight();
+            DoubleErrorFunction function = this.getErrorFunction();
+
+            double[] doubles = new double[columns.size()];
+            for ( int i = 0; i < doubles.length; i++ )
+            {
+                doubles[i] = function.applyAsDouble( left[i], right[i] );
+            }
+
             doubleScore = this.getErrorAccumulator()
                               .applyAsDouble( doubles );
         }
@@ -134,6 +144,44 @@ public abstract class DoubleErrorScore<S extends Pool<Pair<Double, Double>>>
                    .toString();
     }
 
+    /**
+     * Computes the score for the prescribed pool and combines it with a prior score, weighting each score by its
+     * sample size. Only valid for a score whose error accumulator is the {@link FunctionFactory#mean()}. Supports
+     * subclasses that implement {@link wres.metrics.Incremental}.
+     *
+     * @param pool the pool
+     * @param statistic the prior score, possibly null
+     * @return the combined score with a sample size
+     * @throws PoolException if the pool is null
+     */
+
+    DoubleScoreStatisticOuter combineMean( S pool, DoubleScoreStatisticOuter statistic )
+    {
+        DoubleScoreStatisticOuter next = this.apply( pool );
+        next = IncrementalScores.withSampleSize( next, pool.get()
+                                                           .size() );
+
+        return IncrementalScores.mean( next, statistic );
+    }
+
+    /**
+     * Completes a score whose sample size was recorded by {@link #combineMean(Pool, DoubleScoreStatisticOuter)}.
+     *
+     * @param statistic the score to complete
+     * @return the completed score
+     * @throws PoolException if the statistic is null
+     */
+
+    DoubleScoreStatisticOuter completeMean( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
+
+        return IncrementalScores.withoutSampleSize( statistic );
+    }
+
     /**
      * Construct an error score with a default error function {@link FunctionFactory#error()}
      * and a default accumulator {@link FunctionFactory#mean()}.
@@ -4,11 +4,11 @@ import java.util.Objects;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.DecomposableScore;
@@ -128,8 +128,9 @@ public class KlingGuptaEfficiency extends DecomposableScore<Pool<Pair<Double, Do
         double result = Double.NaN;
 
         // Compute the components
-        double[] leftValues = Slicer.getLeftSide( pool );
-        double[] rightValues = Slicer.getRightSide( pool );
+        SingleValuedPairColumns columns = SingleValuedPairColumns.of( pool );
+        double[] leftValues = columns.getLeft();
+        double[] rightValues = columns.getRight();
 
         double meanPred = FunctionFactory.mean()
                                          .applyAsDouble( rightValues );
@@ -12,18 +12,21 @@ import wres.datamodel.pools.PoolException;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 
 /**
  * The mean absolute error applies to continuous variables and is the average unsigned difference between a
- * single-valued predictand and verifying observation. It measures the first-order bias of the predictand.
+ * single-valued predictand and verifying observation. It measures the first-order bias of the predictand. Implements
+ * {@link Incremental} as a mean weighted by sample size.
  *
  * @author James Brown
  */
 public class MeanAbsoluteError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
-        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /**
      * Basic description of the metric.
@@ -107,6 +110,18 @@ public class MeanAbsoluteError extends DoubleErrorScore<Pool<Pair<Double, Double
         return MetricConstants.MEAN_ABSOLUTE_ERROR;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Double, Double>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        return this.combineMean( pool, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        return this.completeMean( statistic );
+    }
+
     /**
      * Hidden constructor.
      */
@@ -6,12 +6,12 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.config.MetricConstants.MetricGroup;
 import wres.datamodel.pools.MeasurementUnit;
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.FunctionFactory;
@@ -124,11 +124,13 @@ public class MeanAbsoluteErrorSkillScore extends DoubleErrorScore<Pool<Pair<Doub
             // Default baseline is the average observation or so-called climatology
             else
             {
+                double[] left = SingleValuedPairColumns.of( pool )
+                                                       .getLeft();
                 double meanLeft = FunctionFactory.mean()
-                                                 .applyAsDouble( Slicer.getLeftSide( pool ) );
-                for ( Pair<Double, Double> next : pool.get() )
+                                                 .applyAsDouble( left );
+                for ( double next : left )
                 {
-                    denominator += Math.abs( next.getLeft() - meanLeft );
+                    denominator += Math.abs( next - meanLeft );
                 }
 
                 denominator = denominator / pool.get()
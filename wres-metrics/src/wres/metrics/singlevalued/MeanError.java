@@ -4,17 +4,21 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.MetricName;
 import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 
 /**
  * The mean error applies to continuous variables and is the average signed difference between a single-valued
- * predictand and a verifying observation. It measures the first-order bias of the predictand.
+ * predictand and a verifying observation. It measures the first-order bias of the predictand. Implements
+ * {@link Incremental} as a mean weighted by sample size.
  *
  * @author James Brown
  */
 public class MeanError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
+        implements Incremental<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
     /**
      * Basic description of the metric.
@@ -68,6 +72,18 @@ public class MeanError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
         return true;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Double, Double>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        return this.combineMean( pool, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        return this.completeMean( statistic );
+    }
+
     /**
      * Hidden constructor.
      */
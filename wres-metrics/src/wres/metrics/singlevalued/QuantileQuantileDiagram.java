@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
 import wres.datamodel.pools.Pool;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.datamodel.statistics.DiagramStatisticOuter;
 import wres.metrics.Diagram;
 import wres.statistics.generated.DiagramMetric;
@@ -145,15 +146,14 @@ public class QuantileQuantileDiagram extends Diagram<Pool<Pair<Double, Double>>,
         double[] observedQ = new double[quantileCount];
         double[] predictedQ = new double[quantileCount];
 
-        // Remove non-finite
-        double[] sortedLeft = Slicer.getLeftSide( pool );
-        double[] sortedRight = Slicer.getRightSide( pool );
-        sortedLeft = Arrays.stream( sortedLeft )
-                           .filter( Double::isFinite )
-                           .toArray();
-        sortedRight = Arrays.stream( sortedRight )
-                            .filter( Double::isFinite )
-                            .toArray();
+        // Remove non-finite, copying the shared columns before sorting
+        SingleValuedPairColumns columns = SingleValuedPairColumns.of( pool );
+        double[] sortedLeft = Arrays.stream( columns.getLeft() )
+                                    .filter( Double::isFinite )
+                                    .toArray();
+        double[] sortedRight = Arrays.stream( columns.getRight() )
+                                     .filter( Double::isFinite )
+                                     .toArray();
 
         // Sort in place
         Arrays.sort( sortedLeft );
@@ -12,6 +12,7 @@ import wres.datamodel.pools.PoolException;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.FunctionFactory;
+import wres.metrics.Incremental;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.MetricName;
@@ -21,12 +22,13 @@ import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticCompon
 /**
  * As with the MSE, the Root Mean Square Error (RMSE) or Root Mean Square Deviation (RMSD) is a measure of accuracy.
  * However, the RMSE is expressed in the original (unsquared) units of the predictand and no decompositions are
- * available for the RMSE.
+ * available for the RMSE. Implements {@link Incremental} by accumulating the sum of square errors and sample size.
  *
  * @author James Brown
  */
 public class RootMeanSquareError extends DoubleErrorScore<Pool<Pair<Double, Double>>>
-        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
 
     /** Basic description of the metric. */
@@ -139,6 +141,25 @@ public class RootMeanSquareError extends DoubleErrorScore<Pool<Pair<Double, Doub
         return MetricConstants.SUM_OF_SQUARE_ERROR;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Double, Double>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        // The intermediate statistic is the sum of square errors
+        return this.sse.combine( pool, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
+
+        // No pool is required because the sum of square errors and sample size are sufficient
+        return this.applyIntermediate( statistic, null );
+    }
+
     /**
      * Constructor.
      */
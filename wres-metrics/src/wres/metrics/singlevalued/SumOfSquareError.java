@@ -8,11 +8,14 @@ import org.slf4j.LoggerFactory;
 
 import wres.datamodel.pools.Pool;
 import wres.datamodel.pools.PoolException;
+import wres.datamodel.pools.SingleValuedPairColumns;
 import wres.datamodel.MissingValues;
 import wres.config.MetricConstants;
 import wres.datamodel.statistics.DoubleScoreStatisticOuter;
 import wres.metrics.Collectable;
 import wres.metrics.DecomposableScore;
+import wres.metrics.Incremental;
+import wres.metrics.IncrementalScores;
 import wres.statistics.generated.DoubleScoreMetric;
 import wres.statistics.generated.DoubleScoreStatistic;
 import wres.statistics.generated.MetricName;
@@ -20,12 +23,14 @@ import wres.statistics.generated.DoubleScoreMetric.DoubleScoreMetricComponent;
 import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticComponent;
 
 /**
- * Base class for decomposable scores that involve a sum-of-square errors.
+ * Base class for decomposable scores that involve a sum-of-square errors. Implements {@link Incremental}, whereby the
+ * intermediate statistic is the sum of square errors and its sample size, both of which are additive across pools.
  *
  * @author James Brown
  */
 public class SumOfSquareError extends DecomposableScore<Pool<Pair<Double, Double>>>
-        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+        implements Collectable<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>,
+        Incremental<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
 {
 
     /** Basic description of the metric. */
@@ -98,10 +103,15 @@ public class SumOfSquareError extends DecomposableScore<Pool<Pair<Double, Double
         if ( !input.get()
                    .isEmpty() )
         {
+            // Use the columnar view of the pool, which is shared with other metrics
+            SingleValuedPairColumns columns = SingleValuedPairColumns.of( input );
+            double[] left = columns.getLeft();
+            double[] right = columns.getRight();
+
             double sum = 0.0;
-            for ( Pair<Double, Double> next : input.get() )
+            for ( int i = 0; i < left.length; i++ )
             {
-                sum += Math.pow( next.getRight() - next.getLeft(), 2 );
+                sum += Math.pow( right[i] - left[i], 2 );
             }
             returnMe = sum;
         }
@@ -145,6 +155,27 @@ public class SumOfSquareError extends DecomposableScore<Pool<Pair<Double, Double
         return MetricConstants.SUM_OF_SQUARE_ERROR;
     }
 
+    @Override
+    public DoubleScoreStatisticOuter combine( Pool<Pair<Double, Double>> pool, DoubleScoreStatisticOuter statistic )
+    {
+        // The intermediate statistic is always the sum of square errors, including for subclasses
+        DoubleScoreStatisticOuter next = this.getIntermediate( pool );
+
+        return IncrementalScores.sum( next, statistic );
+    }
+
+    @Override
+    public DoubleScoreStatisticOuter complete( DoubleScoreStatisticOuter statistic )
+    {
+        if ( Objects.isNull( statistic ) )
+        {
+            throw new PoolException( "Specify a non-null statistic to complete for the '" + this + "'." );
+        }
+
+        // No pool is required because the sum of square errors and sample size are sufficient
+        return this.applyIntermediate( statistic, null );
+    }
+
     /**
      * Hidden constructor.
      */
@@ -1,9 +1,11 @@
 package wres.metrics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -22,6 +24,7 @@ import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import wres.datamodel.types.Ensemble;
 import wres.datamodel.types.Probability;
 import wres.datamodel.Slicer;
 import wres.config.MetricConstants;
@@ -509,6 +512,176 @@ public class MetricCollectionTest
 
     }
 
+    @Test
+    public void testAccumulatorWithSingleValuedPairs() throws MetricParameterException
+    {
+        Pool<Pair<Double, Double>> input = MetricTestDataFactory.getSingleValuedPairsOne();
+
+        // Collectable and ordinary metrics, including the Pearson correlation, whose co-moments are combined
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> collection =
+                MetricFactory.ofSingleValuedScores( this.metricPool,
+                                                    MetricConstants.PEARSON_CORRELATION_COEFFICIENT,
+                                                    MetricConstants.COEFFICIENT_OF_DETERMINATION,
+                                                    MetricConstants.SUM_OF_SQUARE_ERROR,
+                                                    MetricConstants.MEAN_SQUARE_ERROR,
+                                                    MetricConstants.ROOT_MEAN_SQUARE_ERROR,
+                                                    MetricConstants.MEAN_ERROR,
+                                                    MetricConstants.MEAN_ABSOLUTE_ERROR,
+                                                    MetricConstants.SAMPLE_SIZE );
+
+        assertTrue( collection.isIncremental() );
+
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator
+                accumulator = collection.getAccumulator();
+        MetricCollectionTest.getChunks( input )
+                            .forEach( accumulator::add );
+
+        List<DoubleScoreStatisticOuter> actual = accumulator.complete();
+        List<DoubleScoreStatisticOuter> expected = collection.apply( input );
+
+        assertEquals( expected.size(), actual.size() );
+
+        for ( DoubleScoreStatisticOuter next : expected )
+        {
+            MetricConstants name = next.getMetricName();
+            List<DoubleScoreStatisticOuter> actualScores = Slicer.filter( actual, name );
+            assertEquals( 1, actualScores.size() );
+
+            DoubleScoreStatisticOuter actualScore = actualScores.get( 0 );
+            double expectedValue = next.getComponent( MetricConstants.MAIN )
+                                       .getStatistic()
+                                       .getValue();
+            double actualValue = actualScore.getComponent( MetricConstants.MAIN )
+                                            .getStatistic()
+                                            .getValue();
+
+            // Relative tolerance for floating point error
+            assertEquals( name.toString(), expectedValue, actualValue, Math.abs( expectedValue ) * 1.0E-10 );
+
+            // The sample size recorded for the purpose of combination is cleared
+            assertEquals( 0, actualScore.getStatistic()
+                                        .getSampleSize() );
+        }
+    }
+
+    @Test
+    public void testAccumulatorWithDichotomousPairs() throws MetricParameterException
+    {
+        Pool<Pair<Boolean, Boolean>> input = MetricTestDataFactory.getDichotomousPairsOne();
+
+        // The scores share a contingency table, which is combined once per pool
+        MetricCollection<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                collection = MetricFactory.ofDichotomousScores( this.metricPool,
+                                                                MetricConstants.THREAT_SCORE,
+                                                                MetricConstants.PROBABILITY_OF_DETECTION,
+                                                                MetricConstants.PROBABILITY_OF_FALSE_DETECTION,
+                                                                MetricConstants.PEIRCE_SKILL_SCORE,
+                                                                MetricConstants.EQUITABLE_THREAT_SCORE );
+
+        assertTrue( collection.isIncremental() );
+
+        MetricCollection<Pool<Pair<Boolean, Boolean>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator
+                accumulator = collection.getAccumulator();
+        MetricCollectionTest.getChunks( input )
+                            .forEach( accumulator::add );
+
+        List<DoubleScoreStatisticOuter> actual = accumulator.complete();
+
+        // Counts are combined exactly
+        assertEquals( Set.copyOf( collection.apply( input ) ), Set.copyOf( actual ) );
+    }
+
+    @Test
+    public void testIsIncrementalIsFalseWhenAnyMetricIsNotIncremental() throws MetricParameterException
+    {
+        MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                incremental = MetricFactory.ofEnsembleScores( this.metricPool,
+                                                              MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE );
+
+        assertTrue( incremental.isIncremental() );
+
+        // The score difference is not incremental
+        MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                notIncremental =
+                MetricFactory.ofEnsembleScores( this.metricPool,
+                                                MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE,
+                                                MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE_DIFFERENCE );
+
+        assertFalse( notIncremental.isIncremental() );
+        assertThrows( UnsupportedOperationException.class, notIncremental::getAccumulator );
+    }
+
+    @Test
+    public void testAccumulatorWithEnsemblePairsAndSubsetOfMetrics() throws MetricParameterException, IOException
+    {
+        Pool<Pair<Double, Ensemble>> input = MetricTestDataFactory.getEnsemblePairsOne();
+
+        MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>
+                collection = MetricFactory.ofEnsembleScores( this.metricPool,
+                                                             MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE,
+                                                             MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SKILL_SCORE,
+                                                             MetricConstants.SAMPLE_SIZE );
+
+        assertTrue( collection.isIncremental() );
+
+        // Omit the skill score, which requires a baseline, and the chunks have no baseline
+        Set<MetricConstants> subset = Set.of( MetricConstants.CONTINUOUS_RANKED_PROBABILITY_SCORE,
+                                              MetricConstants.SAMPLE_SIZE );
+        MetricCollection<Pool<Pair<Double, Ensemble>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator
+                accumulator = collection.getAccumulator( subset );
+        MetricCollectionTest.getChunks( input )
+                            .forEach( accumulator::add );
+
+        List<DoubleScoreStatisticOuter> actual = accumulator.complete();
+        List<DoubleScoreStatisticOuter> expected = collection.apply( input, subset );
+
+        assertEquals( 2, actual.size() );
+
+        for ( DoubleScoreStatisticOuter next : expected )
+        {
+            MetricConstants name = next.getMetricName();
+            double expectedValue = next.getComponent( MetricConstants.MAIN )
+                                       .getStatistic()
+                                       .getValue();
+            double actualValue = Slicer.filter( actual, name )
+                                       .get( 0 )
+                                       .getComponent( MetricConstants.MAIN )
+                                       .getStatistic()
+                                       .getValue();
+
+            assertEquals( name.toString(), expectedValue, actualValue, Math.abs( expectedValue ) * 1.0E-10 );
+        }
+    }
+
+    @Test
+    public void testAccumulatorCompleteThrowsExpectedExceptionWhenNoPoolsAdded() throws MetricParameterException
+    {
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter> collection =
+                MetricFactory.ofSingleValuedScores( this.metricPool, MetricConstants.MEAN_ERROR );
+
+        MetricCollection<Pool<Pair<Double, Double>>, DoubleScoreStatisticOuter, DoubleScoreStatisticOuter>.Accumulator
+                accumulator = collection.getAccumulator();
+
+        assertThrows( IllegalStateException.class, accumulator::complete );
+    }
+
+    /**
+     * Partitions a pool into chunks of unequal size, including an empty chunk.
+     * @param <T> the type of pooled data
+     * @param input the pool
+     * @return the chunks
+     */
+
+    private static <T> List<Pool<T>> getChunks( Pool<T> input )
+    {
+        List<T> data = input.get();
+        int split = data.size() / 3;
+
+        return List.of( Pool.of( data.subList( 0, split ), input.getMetadata() ),
+                        Pool.of( List.of(), input.getMetadata() ),
+                        Pool.of( data.subList( split, data.size() ), input.getMetadata() ) );
+    }
+
     @After
     public void tearDownAfterEachTest()
     {
@@ -0,0 +1,139 @@
+package wres.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import wres.datamodel.MissingValues;
+
+/**
+ * Tests the {@link QuantileSketch}.
+ *
+ * @author James Brown
+ */
+
+class QuantileSketchTest
+{
+    @Test
+    void testToArrayIsExactWhenNoValuesAreCompacted()
+    {
+        QuantileSketch sketch = new QuantileSketch( QuantileSketch.DEFAULT_SIZE );
+        sketch.add( 3.0 );
+        sketch.add( 1.0 );
+        sketch.add( MissingValues.DOUBLE );
+        sketch.add( 2.0 );
+
+        double[] actual = sketch.toArray();
+
+        assertArrayEquals( new double[] { 1.0, 2.0, 3.0, MissingValues.DOUBLE }, actual );
+        assertEquals( 4, sketch.size() );
+    }
+
+    @Test
+    void testRankErrorIsWithinDeclaredBoundAndMemoryIsBounded()
+    {
+        int sampleSize = 100_000;
+        int sketchSize = 64;
+        List<Double> values = this.getShuffledValues( sampleSize );
+
+        QuantileSketch sketch = new QuantileSketch( sketchSize );
+        values.forEach( sketch::add );
+
+        this.assertRankErrorIsWithinDeclaredBound( sketch, sampleSize, sketchSize );
+        assertTrue( sketch.retained() < 4 * sketchSize );
+    }
+
+    @Test
+    void testRankErrorOfMergedSketchesIsWithinDeclaredBound()
+    {
+        int sampleSize = 100_000;
+        int sketchSize = 64;
+        List<Double> values = this.getShuffledValues( sampleSize );
+
+        QuantileSketch[] sketches = new QuantileSketch[4];
+        for ( int i = 0; i < sketches.length; i++ )
+        {
+            sketches[i] = new QuantileSketch( sketchSize );
+        }
+
+        for ( int i = 0; i < sampleSize; i++ )
+        {
+            sketches[i % sketches.length].add( values.get( i ) );
+        }
+
+        QuantileSketch merged = new QuantileSketch( sketchSize );
+        for ( QuantileSketch next : sketches )
+        {
+            merged.merge( next );
+        }
+
+        this.assertRankErrorIsWithinDeclaredBound( merged, sampleSize, sketchSize );
+    }
+
+    @Test
+    void testToArrayPreservesExtremes()
+    {
+        QuantileSketch sketch = new QuantileSketch( QuantileSketch.MINIMUM_SIZE );
+        this.getShuffledValues( 1000 )
+            .forEach( sketch::add );
+
+        double[] actual = sketch.toArray();
+
+        assertEquals( 0.0, actual[0] );
+        assertEquals( 999.0, actual[999] );
+    }
+
+    @Test
+    void testConstructionThrowsExpectedExceptionWhenSizeIsTooSmall()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new QuantileSketch( QuantileSketch.MINIMUM_SIZE - 1 ) );
+    }
+
+    /**
+     * Checks that the value at each rank of the expanded sketch is within the declared error bound of the value at
+     * the same rank of the sample 0, 1, ..., n-1, whose values are equal to their ranks.
+     *
+     * @param sketch the sketch
+     * @param sampleSize the sample size
+     * @param sketchSize the sketch size
+     */
+
+    private void assertRankErrorIsWithinDeclaredBound( QuantileSketch sketch, int sampleSize, int sketchSize )
+    {
+        double[] actual = sketch.toArray();
+
+        assertEquals( sampleSize, actual.length );
+
+        double bound = QuantileSketch.getNormalizedRankError( sketchSize ) * sampleSize;
+        for ( int i = 0; i < sampleSize; i++ )
+        {
+            assertTrue( Math.abs( actual[i] - i ) <= bound );
+        }
+    }
+
+    /**
+     * @param sampleSize the sample size
+     * @return the values 0, 1, ..., n-1 in a reproducible random order
+     */
+
+    private List<Double> getShuffledValues( int sampleSize )
+    {
+        List<Double> values = new ArrayList<>();
+        for ( int i = 0; i < sampleSize; i++ )
+        {
+            values.add( ( double ) i );
+        }
+
+        Collections.shuffle( values, new Random( 12345 ) );
+
+        return values;
+    }
+}
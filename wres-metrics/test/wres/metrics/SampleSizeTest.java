@@ -5,6 +5,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 
+import java.util.List;
+
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Test;
 
@@ -80,5 +82,43 @@ public final class SampleSizeTest
         assertEquals( "Specify non-null input to the 'SAMPLE SIZE'.", expected.getMessage() );
     }
 
+    /**
+     * Checks that combining the sample sizes of two parts of a pool, one of which is empty, and completing the result
+     * matches {@link SampleSize#apply(Pool)} for the whole pool.
+     */
+
+    @Test
+    public void testCombineAndComplete()
+    {
+        Pool<Pair<Double, Double>> input = MetricTestDataFactory.getSingleValuedPairsOne();
+        List<Pair<Double, Double>> pairs = input.get();
+        Pool<Pair<Double, Double>> first = Pool.of( pairs.subList( 0, 4 ), input.getMetadata() );
+        Pool<Pair<Double, Double>> empty = Pool.of( List.of(), input.getMetadata() );
+        Pool<Pair<Double, Double>> second = Pool.of( pairs.subList( 4, pairs.size() ), input.getMetadata() );
+
+        SampleSize<Pool<Pair<Double, Double>>> ss = SampleSize.of();
+
+        DoubleScoreStatisticOuter combined = ss.combine( first, null );
+        combined = ss.combine( empty, combined );
+        combined = ss.combine( second, combined );
+
+        DoubleScoreStatisticOuter actual = ss.complete( combined );
+        DoubleScoreStatisticOuter expected = ss.apply( input );
 
+        assertEquals( expected, actual );
+    }
+
+    /**
+     * Checks for an expected exception when completing a null statistic.
+     */
+
+    @Test
+    public void testCompleteThrowsExpectedExceptionOnNullInput()
+    {
+        SampleSize<Pool<Pair<Double, Double>>> ss = SampleSize.of();
+
+        PoolException expected = assertThrows( PoolException.class, () -> ss.complete( null ) );
+
+        assertEquals( "Specify a non-null statistic to complete for the 'SAMPLE SIZE'.", expected.getMessage() );
+    }
 }
@@ -138,6 +138,105 @@ class SummaryStatisticsCalculatorTest
         assertEquals( expected, actual );
     }
 
+    @Test
+    void testGetQuantilesForDoubleScoreWithSketchedSamples()
+    {
+        DoubleScoreMetric metric = DoubleScoreMetric.newBuilder()
+                                                    .setName( MetricName.BIAS_FRACTION )
+                                                    .build();
+
+        DoubleScoreMetric.DoubleScoreMetricComponent main =
+                DoubleScoreMetric.DoubleScoreMetricComponent.newBuilder()
+                                                            .setMinimum( Double.NEGATIVE_INFINITY )
+                                                            .setMaximum( Double.POSITIVE_INFINITY )
+                                                            .setOptimum( 0 )
+                                                            .setName( MetricName.MAIN )
+                                                            .setUnits( MeasurementUnit.DIMENSIONLESS )
+                                                            .build();
+
+        DoubleScoreStatistic.DoubleScoreStatisticComponent
+                component = DoubleScoreStatistic.DoubleScoreStatisticComponent.newBuilder()
+                                                                              .setMetric( main )
+                                                                              .setValue( 0.5 )
+                                                                              .build();
+
+        DoubleScoreStatistic score = DoubleScoreStatistic.newBuilder()
+                                                         .setMetric( metric )
+                                                         .addStatistics( component )
+                                                         .build();
+
+        Statistics nominal = Statistics.newBuilder()
+                                       .addScores( score )
+                                       .build();
+
+        SummaryStatistic q1 = MessageUtilities.getSummaryStatistic( SummaryStatistic.StatisticName.QUANTILE,
+                                                                    SummaryStatistic.StatisticDimension.RESAMPLED,
+                                                                    0.1 );
+
+        SummaryStatistic q2 = MessageUtilities.getSummaryStatistic( SummaryStatistic.StatisticName.QUANTILE,
+                                                                    SummaryStatistic.StatisticDimension.RESAMPLED,
+                                                                    0.5 );
+
+        SummaryStatistic q3 = MessageUtilities.getSummaryStatistic( SummaryStatistic.StatisticName.QUANTILE,
+                                                                    SummaryStatistic.StatisticDimension.RESAMPLED,
+                                                                    0.9 );
+
+        ScalarSummaryStatisticFunction q1f = FunctionFactory.ofScalarSummaryStatistic( q1 );
+        ScalarSummaryStatisticFunction q2f = FunctionFactory.ofScalarSummaryStatistic( q2 );
+        ScalarSummaryStatisticFunction q3f = FunctionFactory.ofScalarSummaryStatistic( q3 );
+
+        Set<ScalarSummaryStatisticFunction> quantiles = new LinkedHashSet<>();
+        quantiles.add( q1f );
+        quantiles.add( q2f );
+        quantiles.add( q3f );
+
+        SummaryStatisticsCalculator calculator =
+                SummaryStatisticsCalculator.of( quantiles,
+                                                Set.of(),
+                                                Set.of(),
+                                                null,
+                                                ( a, b ) -> a,
+                                                null,
+                                                QuantileSketch.DEFAULT_SIZE );
+
+        for ( int i = 1; i < 11; i++ )
+        {
+            Statistics.Builder next = nominal.toBuilder();
+            // Set the new score
+            next.getScoresBuilder( 0 )
+                .getStatisticsBuilder( 0 )
+                .setValue( i );
+            calculator.test( next.build() );
+        }
+
+        // The sample is smaller than the sketch size, so the sketched sample is exact
+        List<Statistics> actual = calculator.get();
+
+        Statistics.Builder expectedFirstBuilder = nominal.toBuilder()
+                                                         .setSummaryStatistic( q1 );
+        expectedFirstBuilder.getScoresBuilder( 0 )
+                            .getStatisticsBuilder( 0 )
+                            .setValue( 1.1 );
+
+        Statistics.Builder expectedSecondBuilder = nominal.toBuilder()
+                                                          .setSummaryStatistic( q2 );
+        expectedSecondBuilder.getScoresBuilder( 0 )
+                             .getStatisticsBuilder( 0 )
+                             .setValue( 5.5 );
+
+        Statistics.Builder expectedThirdBuilder = nominal.toBuilder()
+                                                         .setSummaryStatistic( q3 );
+        expectedThirdBuilder.getScoresBuilder( 0 )
+                            .getStatisticsBuilder( 0 )
+                            .setValue( 9.9 );
+
+        List<Statistics> expected = List.of( expectedFirstBuilder.build(),
+                                             expectedSecondBuilder.build(),
+                                             expectedThirdBuilder.build() );
+
+        assertEquals( expected, actual );
+    }
+
     @Test
     void testGetQuantilesForDiagram()
     {
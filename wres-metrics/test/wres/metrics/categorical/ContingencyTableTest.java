@@ -3,6 +3,8 @@ package wres.metrics.categorical;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
+import java.util.List;
+
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Before;
 import org.junit.Test;
@@ -102,4 +104,30 @@ public final class ContingencyTableTest
         assertEquals( expectedMessage, exception.getMessage() );
     }
 
+    /**
+     * Checks that combining the tables of two parts of a pool and completing the result matches
+     * {@link ContingencyTable#apply(Pool)} for the whole pool.
+     */
+
+    @Test
+    public void testCombineAndComplete()
+    {
+        Pool<Pair<Boolean, Boolean>> input = MetricTestDataFactory.getDichotomousPairsOne();
+        List<Pair<Boolean, Boolean>> pairs = input.get();
+        Pool<Pair<Boolean, Boolean>> first = Pool.of( pairs.subList( 0, 100 ), input.getMetadata() );
+        Pool<Pair<Boolean, Boolean>> second = Pool.of( pairs.subList( 100, pairs.size() ), input.getMetadata() );
+
+        DoubleScoreStatisticOuter combined = this.table.combine( first, null );
+        combined = this.table.combine( second, combined );
+
+        // The combined table carries the sample size, which is removed on completion
+        assertEquals( pairs.size(), combined.getStatistic()
+                                            .getSampleSize() );
+
+        DoubleScoreStatisticOuter actual = this.table.complete( combined );
+        DoubleScoreStatisticOuter expected = this.table.apply( input );
+
+        assertEquals( expected, actual );
+    }
+
 }
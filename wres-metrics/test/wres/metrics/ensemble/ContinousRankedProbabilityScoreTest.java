@@ -285,4 +285,54 @@ public final class ContinousRankedProbabilityScoreTest
 
         assertEquals( "Specify non-null input to the '" + this.crps.getMetricNameString() + "'.", actual.getMessage() );
     }
+
+    /**
+     * Checks that combining the scores of two parts of a pool whose ensembles vary in size and completing the result
+     * matches {@link ContinuousRankedProbabilityScore#apply(Pool)} for the whole pool.
+     */
+
+    @Test
+    public void testCombineAndComplete()
+    {
+        List<Pair<Double, Ensemble>> pairs = new ArrayList<>();
+        pairs.add( Pair.of( 25.7, Ensemble.of( 23, 43, 45, 34.2, 23, 54 ) ) );
+        pairs.add( Pair.of( 21.4, Ensemble.of( 19, 16, 57, 23, 9 ) ) );
+        pairs.add( Pair.of( 32.1, Ensemble.of( 23, 54, 23, 12, 32, 45.3, 67.1 ) ) );
+        pairs.add( Pair.of( 47.0, Ensemble.of( 12, 54, 23, 54 ) ) );
+        pairs.add( Pair.of( 12.0, Ensemble.of( 9, 8, 5 ) ) );
+        pairs.add( Pair.of( 43.0, Ensemble.of( 23, 12, 12 ) ) );
+        Pool<Pair<Double, Ensemble>> first = Pool.of( pairs.subList( 0, 2 ), PoolMetadata.of() );
+        Pool<Pair<Double, Ensemble>> second = Pool.of( pairs.subList( 2, pairs.size() ), PoolMetadata.of() );
+
+        DoubleScoreStatisticOuter combined = this.crps.combine( first, null );
+        combined = this.crps.combine( second, combined );
+
+        assertEquals( pairs.size(), combined.getStatistic()
+                                            .getSampleSize() );
+
+        DoubleScoreStatisticOuter actual = this.crps.complete( combined );
+
+        // The mean of the two scores, weighted by sample size, is the score for the whole pool
+        assertEquals( 8.734401927437641,
+                      actual.getComponent( MetricConstants.MAIN )
+                            .getStatistic()
+                            .getValue(),
+                      1E-10 );
+        assertEquals( 0, actual.getStatistic()
+                               .getSampleSize() );
+    }
+
+    /**
+     * Tests for an expected exception on calling {@link ContinuousRankedProbabilityScore#complete(DoubleScoreStatisticOuter)}
+     * with null input.
+     */
+
+    @Test
+    public void testCompleteThrowsExpectedExceptionOnNullInput()
+    {
+        PoolException actual = assertThrows( PoolException.class, () -> this.crps.complete( null ) );
+
+        assertEquals( "Specify a non-null statistic to complete for the '" + this.crps.getMetricNameString() + "'.",
+                      actual.getMessage() );
+    }
 }
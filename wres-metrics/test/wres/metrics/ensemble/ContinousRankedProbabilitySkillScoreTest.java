@@ -85,6 +85,79 @@ public final class ContinousRankedProbabilitySkillScoreTest
         assertEquals( expected, actual.getStatistic() );
     }
 
+    @Test
+    public void testCombineAndCompleteMatchesApply()
+    {
+        List<Pair<Double, Ensemble>> pairs = new ArrayList<>();
+        pairs.add( Pair.of( 25.7, Ensemble.of( 23, 43, 45, 23, 54 ) ) );
+        pairs.add( Pair.of( 21.4, Ensemble.of( 19, 16, 57, 23, 9 ) ) );
+        pairs.add( Pair.of( 32.1, Ensemble.of( 23, 54, 23, 12, 32 ) ) );
+        pairs.add( Pair.of( 47.0, Ensemble.of( 12, 54, 23, 54, 78 ) ) );
+        pairs.add( Pair.of( 12.0, Ensemble.of( 9, 8, 5, 6, 12 ) ) );
+        pairs.add( Pair.of( 43.0, Ensemble.of( 23, 12, 12, 34, 10 ) ) );
+        List<Pair<Double, Ensemble>> basePairs = new ArrayList<>();
+        basePairs.add( Pair.of( 25.7, Ensemble.of( 20, 43, 45, 23, 94 ) ) );
+        basePairs.add( Pair.of( 21.4, Ensemble.of( 19, 76, 57, 23, 9 ) ) );
+        basePairs.add( Pair.of( 32.1, Ensemble.of( 23, 53, 23, 12, 32 ) ) );
+        basePairs.add( Pair.of( 47.0, Ensemble.of( 2, 54, 23, 54, 78 ) ) );
+        basePairs.add( Pair.of( 12.1, Ensemble.of( 9, 18, 5, 6, 12 ) ) );
+
+        Pool<Pair<Double, Ensemble>> whole = Pool.of( pairs,
+                                                      PoolMetadata.of(),
+                                                      basePairs,
+                                                      PoolMetadata.of( true ),
+                                                      null );
+
+        // Chunks with a different number of main and baseline pairs, which must be weighted separately
+        Pool<Pair<Double, Ensemble>> first = Pool.of( pairs.subList( 0, 2 ),
+                                                      PoolMetadata.of(),
+                                                      basePairs.subList( 0, 4 ),
+                                                      PoolMetadata.of( true ),
+                                                      null );
+        Pool<Pair<Double, Ensemble>> second = Pool.of( pairs.subList( 2, pairs.size() ),
+                                                       PoolMetadata.of(),
+                                                       basePairs.subList( 4, basePairs.size() ),
+                                                       PoolMetadata.of( true ),
+                                                       null );
+
+        ContinuousRankedProbabilitySkillScore.Scores combined = this.crpss.combine( first, null );
+        combined = this.crpss.combine( second, combined );
+
+        assertEquals( pairs.size(), combined.main()
+                                            .getStatistic()
+                                            .getSampleSize() );
+        assertEquals( basePairs.size(), combined.baseline()
+                                                .getStatistic()
+                                                .getSampleSize() );
+
+        DoubleScoreStatisticOuter expected = this.crpss.apply( whole );
+        DoubleScoreStatisticOuter actual = this.crpss.complete( combined );
+
+        assertEquals( expected.getComponent( MetricConstants.MAIN )
+                              .getStatistic()
+                              .getValue(),
+                      actual.getComponent( MetricConstants.MAIN )
+                            .getStatistic()
+                            .getValue(),
+                      1E-10 );
+        assertEquals( 0, actual.getStatistic()
+                               .getSampleSize() );
+    }
+
+    @Test
+    public void testCombineThrowsExpectedExceptionOnInputWithMissingBaseline()
+    {
+        List<Pair<Double, Ensemble>> pairs = new ArrayList<>();
+        pairs.add( Pair.of( 25.7, Ensemble.of( 23, 43, 45, 23, 54 ) ) );
+        Pool<Pair<Double, Ensemble>> input = Pool.of( pairs, PoolMetadata.of() );
+
+        PoolException actual = assertThrows( PoolException.class,
+                                             () -> this.crpss.combine( input, null ) );
+
+        assertEquals( "Specify a non-null baseline for the 'CONTINUOUS RANKED PROBABILITY SKILL SCORE'.",
+                      actual.getMessage() );
+    }
+
     @Test
     public void testApplyWithNoData()
     {
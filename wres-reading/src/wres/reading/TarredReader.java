@@ -11,13 +11,17 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -29,8 +33,10 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import net.jcip.annotations.GuardedBy;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,7 +46,15 @@ import wres.reading.DataSource.DataDisposition;
 import wres.system.SystemSettings;
 
 /**
- * Reads from a tarred source or stream. Create one reader per source.
+ * <p>Reads from a tarred source or stream. Create one reader per source.
+ *
+ * <p>The archive stream is not thread-safe, so each archive entry is either read from the archive stream in full
+ * before its time-series are read on another thread or its time-series are read from the archive stream on the
+ * calling thread. The bytes of the archive entries that are read in full are held in memory up to a byte budget,
+ * {@link SystemSettings#getMaximumArchiveMegabytes()}, after which further entries wait for memory to become
+ * available. An archive entry that is larger than the whole budget is streamed directly to its reader when the format
+ * can be read from a stream in one pass and is otherwise spilled to a temporary file.
+ *
  * @author James Brown
  */
 
@@ -55,12 +69,30 @@ public class TarredReader implements TimeSeriesReader
     /** Error message. */
     private static final String WHILE_PROCESSING_A_TARRED_ARCHIVE = "While processing a tarred archive.";
 
+    /** The formats whose readers consume a stream in one pass and may read directly from the archive stream. */
+    private static final Set<DataDisposition> STREAMING_FORMATS = EnumSet.of( DataDisposition.CSV_WRES,
+                                                                             DataDisposition.DATACARD,
+                                                                             DataDisposition.XML_PI_TIMESERIES,
+                                                                             DataDisposition.XML_FI_TIMESERIES );
+
+    /** The prefix of a temporary file to which an archive entry is spilled. */
+    private static final String TEMPORARY_FILE_PREFIX = "wres_archive_entry_";
+
+    /** The number of bytes in a megabyte. */
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
     /** The readers for the archived data. */
     private final TimeSeriesReaderFactory readerFactory;
 
     /** A thread pool to read archive entries. */
     private final ThreadPoolExecutor executor;
 
+    /** The budget of bytes for archive entries that are held in memory. */
+    private final ByteBudget byteBudget;
+
+    /** The directory for archive entries that are spilled to temporary files or null for the default directory. */
+    private final Path temporaryDirectory;
+
     /**
      * @param readerFactory a reader factory to help read the archived data
      * @param systemSettings the system settings
@@ -70,7 +102,24 @@ public class TarredReader implements TimeSeriesReader
 
     public static TarredReader of( TimeSeriesReaderFactory readerFactory, SystemSettings systemSettings )
     {
-        return new TarredReader( readerFactory, systemSettings );
+        return new TarredReader( readerFactory, systemSettings, null );
+    }
+
+    /**
+     * @param readerFactory a reader factory to help read the archived data
+     * @param systemSettings the system settings
+     * @param temporaryDirectory the directory for archive entries that are spilled to temporary files
+     * @return an instance
+     * @throws NullPointerException if any input is null
+     */
+
+    static TarredReader of( TimeSeriesReaderFactory readerFactory,
+                            SystemSettings systemSettings,
+                            Path temporaryDirectory )
+    {
+        Objects.requireNonNull( temporaryDirectory );
+
+        return new TarredReader( readerFactory, systemSettings, temporaryDirectory );
     }
 
     @Override
@@ -230,30 +279,12 @@ public class TarredReader implements TimeSeriesReader
         if ( Objects.nonNull( archivedSource )
              && archivedSource.isFile() )
         {
-            // Create the stream, which means reading the bytes but not translating them yet
-            Stream<TimeSeriesTuple> stream = this.readTarEntry( dataSource,
-                                                                archivedSource,
-                                                                archiveStream,
-                                                                dataSource.getUri() );
-
-            // Create the next mutable list of tuples, submitting the task to the executor for delayed execution
-            Future<List<TimeSeriesTuple>> nextTuple =
-                    this.getExecutor()
-                        .submit( () -> {
-
-                            // Find the next one that produced one or more time-series
-                            if ( Objects.nonNull( stream ) )
-                            {
-                                // Close the stream on completion
-                                try ( stream )
-                                {
-                                    // Pull/read from the stream, which means translating the bytes
-                                    return stream.collect( Collectors.toCollection( ArrayList::new ) );
-                                }
-                            }
-
-                            return null;
-                        } );
+            // Create the next mutable list of tuples, submitting a task to the executor for delayed execution where
+            // the entry can be read separately from the archive stream
+            Future<List<TimeSeriesTuple>> nextTuple = this.readTarEntry( dataSource,
+                                                                         archivedSource,
+                                                                         archiveStream,
+                                                                         dataSource.getUri() );
 
             // Tasks submitted to count down
             startGettingOnTasks.countDown();
@@ -296,21 +327,33 @@ public class TarredReader implements TimeSeriesReader
     }
 
     /**
+     * Reads an archive entry. The entry is read from the archive stream in one of three ways, depending on its size
+     * and format, and the time-series are returned as a future list.
+     *
+     * <ol>
+     * <li>When the entry fits within the byte budget, its bytes are read into memory, waiting for memory to become
+     * available as needed, and its time-series are read on the executor.</li>
+     * <li>When the entry is larger than the byte budget and its format can be read from a stream in one pass, its
+     * time-series are read directly from the archive stream on the calling thread.</li>
+     * <li>Otherwise, the entry is spilled to a temporary file and its time-series are read from that file on the
+     * executor.</li>
+     * </ol>
+     *
      * @param dataSource the data source
      * @param archiveEntry the archive entry
      * @param archiveInputStream the archive input stream
      * @param tarName the named of the tar entry
-     * @return a stream of time-series
+     * @return the future time-series
      */
 
-    private Stream<TimeSeriesTuple> readTarEntry( DataSource dataSource,
-                                                  TarArchiveEntry archiveEntry,
-                                                  InputStream archiveInputStream,
-                                                  URI tarName )
+    private Future<List<TimeSeriesTuple>> readTarEntry( DataSource dataSource,
+                                                        TarArchiveEntry archiveEntry,
+                                                        InputStream archiveInputStream,
+                                                        URI tarName )
     {
         LOGGER.debug( "Attempting to read a tar entry from {}.", dataSource );
 
-        int expectedByteCount = ( int ) archiveEntry.getSize();
+        long expectedByteCount = archiveEntry.getSize();
         URI archivedFileName = URI.create( tarName + PATH_DELIM + archiveEntry.getName() );
 
         // Detect the data disposition using a markable stream
@@ -321,7 +364,7 @@ public class TarredReader implements TimeSeriesReader
         {
             LOGGER.warn( "Skipping unknown data type in {}.", archivedFileName );
 
-            return Stream.of();
+            return CompletableFuture.completedFuture( new ArrayList<>() );
         }
 
         Source originalSource = dataSource.getSource();
@@ -333,7 +376,7 @@ public class TarredReader implements TimeSeriesReader
             LOGGER.warn( "Archive entry '{}' is not being read because its data source is null.",
                          archiveEntry );
 
-            return Stream.of();
+            return CompletableFuture.completedFuture( new ArrayList<>() );
         }
 
         // Create the inner data source and stream
@@ -349,20 +392,37 @@ public class TarredReader implements TimeSeriesReader
 
         LOGGER.debug( "The tarred entry '{}' will now be read.", archivedFileName );
 
-        // Read all the bytes: unfortunately, this requires as much memory as the size of the archive entry, but 
-        // the parent/archive stream cannot be shared between low-level reader threads, in any case, because it is not 
-        // thread safe: #108595. Thus, while it would be possible to wrap the input stream with a byte-limited stream,
-        // such as an org.apache.commons.io.input.BoundedInputStream, this would expose the archive stream to async 
-        // reads, which would cause interference
-        byte[] content = new byte[expectedByteCount];
+        TimeSeriesReader reader = this.getReaderFactory()
+                                      .getReader( innerDataSource );
 
         try
         {
-            int bytesRead = bufferedStream.readNBytes( content, 0, expectedByteCount );
-            LOGGER.debug( "Read {} bytes of an expected {} bytes from {}.",
-                          bytesRead,
-                          expectedByteCount,
-                          archivedFileName );
+            // The parent/archive stream cannot be shared between low-level reader threads because it is not thread
+            // safe: #108595. Thus, an entry is either read in full before dispatching it to another thread or read on
+            // this thread
+            if ( this.byteBudget.fits( expectedByteCount ) )
+            {
+                return this.readTarEntryInMemory( innerDataSource, reader, bufferedStream, expectedByteCount );
+            }
+            else if ( STREAMING_FORMATS.contains( disposition ) )
+            {
+                LOGGER.debug( "Reading the tarred entry '{}' directly from the archive stream because its size of {} "
+                              + "bytes exceeds the byte budget.",
+                              archivedFileName,
+                              expectedByteCount );
+
+                // Do not allow the reader to close the archive stream
+                InputStream entryStream = CloseShieldInputStream.wrap( bufferedStream );
+                List<TimeSeriesTuple> tuples = TarredReader.collect( reader.read( innerDataSource, entryStream ) );
+                return CompletableFuture.completedFuture( tuples );
+            }
+
+            LOGGER.debug( "Spilling the tarred entry '{}' to a temporary file because its size of {} bytes exceeds "
+                          + "the byte budget.",
+                          archivedFileName,
+                          expectedByteCount );
+
+            return this.readTarEntryFromTemporaryFile( innerDataSource, reader, bufferedStream );
         }
         catch ( EOFException eof )
         {
@@ -388,13 +448,159 @@ public class TarredReader implements TimeSeriesReader
                                      + "'",
                                      ioe );
         }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+            throw new ReadException( WHILE_PROCESSING_A_TARRED_ARCHIVE, e );
+        }
+    }
 
-        InputStream streamToRead = new ByteArrayInputStream( content );
+    /**
+     * Reads the bytes of an archive entry into memory and submits a task to read the time-series from them. The bytes
+     * are reserved from the byte budget until the task completes.
+     *
+     * @param innerDataSource the data source of the archive entry
+     * @param reader the reader
+     * @param entryStream the stream of the archive entry
+     * @param expectedByteCount the size of the archive entry
+     * @return the future time-series
+     * @throws IOException if the entry could not be read
+     * @throws InterruptedException if interrupted while waiting for memory to become available
+     */
 
-        TimeSeriesReader reader = this.getReaderFactory()
-                                      .getReader( innerDataSource );
+    private Future<List<TimeSeriesTuple>> readTarEntryInMemory( DataSource innerDataSource,
+                                                                TimeSeriesReader reader,
+                                                                InputStream entryStream,
+                                                                long expectedByteCount )
+            throws IOException, InterruptedException
+    {
+        this.byteBudget.reserve( expectedByteCount );
+
+        try
+        {
+            byte[] content = new byte[( int ) expectedByteCount];
+            int bytesRead = entryStream.readNBytes( content, 0, content.length );
+            LOGGER.debug( "Read {} bytes of an expected {} bytes from {}.",
+                          bytesRead,
+                          expectedByteCount,
+                          innerDataSource.getUri() );
+
+            return this.getExecutor()
+                       .submit( () -> {
+                           try
+                           {
+                               // Pull/read from the stream, which means translating the bytes
+                               return TarredReader.collect( reader.read( innerDataSource,
+                                                                         new ByteArrayInputStream( content ) ) );
+                           }
+                           finally
+                           {
+                               this.byteBudget.release( expectedByteCount );
+                           }
+                       } );
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            this.byteBudget.release( expectedByteCount );
+            throw e;
+        }
+    }
+
+    /**
+     * Copies an archive entry to a temporary file and submits a task to read the time-series from that file. The file
+     * is deleted when the task completes.
+     *
+     * @param innerDataSource the data source of the archive entry
+     * @param reader the reader
+     * @param entryStream the stream of the archive entry
+     * @return the future time-series
+     * @throws IOException if the entry could not be copied
+     */
+
+    private Future<List<TimeSeriesTuple>> readTarEntryFromTemporaryFile( DataSource innerDataSource,
+                                                                         TimeSeriesReader reader,
+                                                                         InputStream entryStream )
+            throws IOException
+    {
+        Path temporaryFile = this.createTemporaryFile();
+
+        try
+        {
+            long bytesCopied = Files.copy( CloseShieldInputStream.wrap( entryStream ),
+                                           temporaryFile,
+                                           StandardCopyOption.REPLACE_EXISTING );
+
+            LOGGER.debug( "Spilled {} bytes from {} to {}.", bytesCopied, innerDataSource.getUri(), temporaryFile );
+
+            return this.getExecutor()
+                       .submit( () -> {
+                           try ( InputStream fileStream =
+                                         new BufferedInputStream( Files.newInputStream( temporaryFile ) ) )
+                           {
+                               return TarredReader.collect( reader.read( innerDataSource, fileStream ) );
+                           }
+                           finally
+                           {
+                               TarredReader.deleteTemporaryFile( temporaryFile );
+                           }
+                       } );
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            TarredReader.deleteTemporaryFile( temporaryFile );
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a temporary file for an archive entry.
+     *
+     * @return the temporary file
+     * @throws IOException if the file could not be created
+     */
+
+    private Path createTemporaryFile() throws IOException
+    {
+        if ( Objects.isNull( this.temporaryDirectory ) )
+        {
+            return Files.createTempFile( TEMPORARY_FILE_PREFIX, null );
+        }
 
-        return reader.read( innerDataSource, streamToRead );
+        return Files.createTempFile( this.temporaryDirectory, TEMPORARY_FILE_PREFIX, null );
+    }
+
+    /**
+     * Pulls the time-series from a stream, which means translating the bytes, and closes the stream.
+     *
+     * @param stream the stream
+     * @return the time-series
+     */
+
+    private static List<TimeSeriesTuple> collect( Stream<TimeSeriesTuple> stream )
+    {
+        try ( stream )
+        {
+            return stream.collect( Collectors.toCollection( ArrayList::new ) );
+        }
+    }
+
+    /**
+     * Deletes a temporary file, logging any failure.
+     *
+     * @param temporaryFile the temporary file
+     */
+
+    private static void deleteTemporaryFile( Path temporaryFile )
+    {
+        try
+        {
+            Files.deleteIfExists( temporaryFile );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to delete a temporary file, {}.", temporaryFile, e );
+        }
     }
 
     /**
@@ -419,10 +625,13 @@ public class TarredReader implements TimeSeriesReader
      * Hidden constructor.
      * @param readerFactory the reader factory, required
      * @param systemSettings the system settings
-     * @throws NullPointerException if either input is null
+     * @param temporaryDirectory the directory for temporary files or null for the default directory
+     * @throws NullPointerException if either the readerFactory or systemSettings is null
      */
 
-    private TarredReader( TimeSeriesReaderFactory readerFactory, SystemSettings systemSettings )
+    private TarredReader( TimeSeriesReaderFactory readerFactory,
+                          SystemSettings systemSettings,
+                          Path temporaryDirectory )
     {
         Objects.requireNonNull( readerFactory );
         Objects.requireNonNull( systemSettings );
@@ -443,5 +652,72 @@ public class TarredReader implements TimeSeriesReader
         // Abort policy, but it should not be hit because we throttle submission of tasks to the count of maximum 
         // threads and wait to submit another until after one has get() return.
         this.executor.setRejectedExecutionHandler( new ThreadPoolExecutor.AbortPolicy() );
+
+        this.byteBudget = new ByteBudget( systemSettings.getMaximumArchiveMegabytes() * BYTES_PER_MEGABYTE );
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * A budget of bytes that may be reserved and released by several threads.
+     */
+
+    private static final class ByteBudget
+    {
+        /** The total number of bytes. */
+        private final long capacity;
+
+        /** The number of bytes available. */
+        @GuardedBy( "this" )
+        private long available;
+
+        /**
+         * @param capacity the total number of bytes
+         */
+
+        private ByteBudget( long capacity )
+        {
+            this.capacity = Math.max( 0, capacity );
+            this.available = this.capacity;
+        }
+
+        /**
+         * @param bytes the number of bytes
+         * @return true if the bytes fit within the total budget and an array, otherwise false
+         */
+
+        private boolean fits( long bytes )
+        {
+            return bytes <= this.capacity
+                   && bytes <= Integer.MAX_VALUE - 8;
+        }
+
+        /**
+         * Reserves the prescribed number of bytes, waiting until they are available.
+         *
+         * @param bytes the number of bytes
+         * @throws InterruptedException if interrupted while waiting
+         */
+
+        private synchronized void reserve( long bytes ) throws InterruptedException
+        {
+            while ( this.available < bytes )
+            {
+                this.wait();
+            }
+
+            this.available -= bytes;
+        }
+
+        /**
+         * Releases the prescribed number of bytes.
+         *
+         * @param bytes the number of bytes
+         */
+
+        private synchronized void release( long bytes )
+        {
+            this.available += bytes;
+            this.notifyAll();
+        }
     }
 }
@@ -0,0 +1,438 @@
+package wres.reading.netcdf.grid;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.locationtech.jts.geom.Coordinate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import thredds.client.catalog.ServiceType;
+import ucar.ma2.Array;
+import ucar.ma2.Index;
+import ucar.ma2.InvalidRangeException;
+import ucar.ma2.Range;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.dataset.CoordinateAxis;
+import ucar.nc2.dataset.DatasetUrl;
+import ucar.nc2.dataset.NetcdfDataset;
+import ucar.nc2.dataset.NetcdfDatasets;
+import ucar.nc2.dt.GridCoordSystem;
+import ucar.nc2.dt.GridDatatype;
+import ucar.nc2.dt.grid.GridDataset;
+
+import wres.datamodel.DataUtilities;
+import wres.datamodel.MissingValues;
+import wres.datamodel.space.Feature;
+import wres.reading.netcdf.Netcdf;
+
+/**
+ * <p>Extracts the values of several features from one gridded file. The file is opened once and the values are
+ * gathered from the smallest 2-D slab of the grid that contains all of the features, which is read once, unless the
+ * features are scattered across the grid, in which case one slab is read for each tile of the grid that contains
+ * any features.
+ *
+ * <p>The grid cell that contains each feature is found once per grid definition and cached, because locating a cell
+ * from a geographic coordinate is expensive and every file with the same grid definition has the same cells. The
+ * cache is bounded by the number of cells. A feature outside the grid has a value of {@link MissingValues#DOUBLE}.
+ *
+ * @author James Brown
+ */
+
+final class GridExtractor
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( GridExtractor.class );
+
+    /** The time index to read, which is always the first time. */
+    private static final int TIME_INDEX = 0;
+
+    /** The vertical index to read, which is always the first level. */
+    private static final int Z_INDEX = 0;
+
+    /** The number of cells on each side of a tile of the grid when the cells to read are scattered. */
+    private static final int TILE_SIZE = 32;
+
+    /** The number of cells that may always be read as one slab. */
+    private static final int MINIMUM_SLAB_CELLS = TILE_SIZE * TILE_SIZE;
+
+    /** The number of cells that may be read as one slab for each requested cell when the cells are scattered. */
+    private static final int CELLS_PER_REQUESTED_CELL = 8;
+
+    /** The maximum number of grid cells to cache. */
+    private static final int MAXIMUM_CELLS = 100_000;
+
+    /** The grid cells of the features, indexed by grid definition and feature WKT. */
+    private static final Cache<CellKey, Cell> CELLS = Caffeine.newBuilder()
+                                                              .maximumSize( MAXIMUM_CELLS )
+                                                              .build();
+
+    /**
+     * Reads the values of the prescribed features from a gridded file.
+     *
+     * @param path the path to the gridded file
+     * @param variableName the variable name
+     * @param features the features to read
+     * @param isForecast is true to read the reference time of a forecast, false to use the valid time
+     * @return the values, one for each feature in the order prescribed
+     * @throws NullPointerException if any input is null
+     * @throws IOException if the file could not be read or the variable does not exist
+     */
+
+    static GridValues read( String path, String variableName, List<Feature> features, boolean isForecast )
+            throws IOException
+    {
+        Objects.requireNonNull( path );
+        Objects.requireNonNull( variableName );
+        Objects.requireNonNull( features );
+
+        // This is underlying THREDDS code. It generally expects some semi-remote location for its data, but we're
+        // local, so we're using
+        DatasetUrl url = DatasetUrl.create( ServiceType.File, path );
+
+        try ( NetcdfDataset dataset = NetcdfDatasets.acquireDataset( url, null );
+              GridDataset gridDataset = new GridDataset( dataset ) )
+        {
+            GridDatatype variable = gridDataset.findGridDatatype( variableName );
+
+            // #95028, couldn't find the declared variable
+            if ( Objects.isNull( variable ) )
+            {
+                throw new IOException( "Unable to read the gridded dataset from " + path
+                                       + " because the "
+                                       + "declared variable name "
+                                       + variableName
+                                       + " was not discovered inside the dataset. Please "
+                                       + "correct the declared variable name or the source and try again." );
+            }
+
+            Cell[] cells = GridExtractor.getCells( variable.getCoordinateSystem(), features );
+            double[] values = GridExtractor.readValues( variable, cells );
+
+            // Read the times from the original file, rather than the enhanced dataset
+            NetcdfFile file = dataset.getReferencedFile();
+            if ( Objects.isNull( file ) )
+            {
+                file = dataset;
+            }
+
+            Instant validTime = Netcdf.getTime( file );
+            Instant issueTime = validTime;
+            if ( isForecast )
+            {
+                issueTime = Netcdf.getReferenceTime( file );
+            }
+
+            return new GridValues( values, variable.getUnitsString(), issueTime, validTime );
+        }
+        catch ( InvalidRangeException e )
+        {
+            throw new IOException( "Unable to read the gridded dataset from " + path + ".", e );
+        }
+    }
+
+    /**
+     * Reads the values of the prescribed cells from the slabs of the grid that contain them.
+     *
+     * @see #getSlabs(Cell[])
+     * @param variable the variable
+     * @param cells the cells
+     * @return the cell values
+     * @throws IOException if the values could not be read
+     * @throws InvalidRangeException if a slab is invalid
+     */
+
+    private static double[] readValues( GridDatatype variable, Cell[] cells ) throws IOException, InvalidRangeException
+    {
+        double[] values = new double[cells.length];
+        Arrays.fill( values, MissingValues.DOUBLE );
+
+        List<Slab> slabs = GridExtractor.getSlabs( cells );
+
+        LOGGER.debug( "Reading {} cells from {} slabs of the grid.", cells.length, slabs.size() );
+
+        for ( Slab slab : slabs )
+        {
+            GridExtractor.readSlab( variable, cells, slab, values );
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the slabs of the grid to read in order to obtain the values of the prescribed cells. When the smallest
+     * slab that contains all of the cells is not much larger than the number of cells, that slab is read once.
+     * Otherwise, the cells are scattered and the grid is divided into tiles, reading the smallest slab that contains
+     * the cells within each tile that contains any cells, so that the number of values read is bounded by the number
+     * of cells rather than the size of the grid.
+     *
+     * @param cells the cells
+     * @return the slabs, which contain all cells within the grid
+     */
+
+    static List<Slab> getSlabs( Cell[] cells )
+    {
+        List<Integer> inGrid = new ArrayList<>();
+        for ( int i = 0; i < cells.length; i++ )
+        {
+            if ( cells[i].isInGrid() )
+            {
+                inGrid.add( i );
+            }
+        }
+
+        // No cells within the grid
+        if ( inGrid.isEmpty() )
+        {
+            return List.of();
+        }
+
+        Slab all = Slab.of( cells, inGrid );
+        long limit = Math.max( MINIMUM_SLAB_CELLS, ( long ) CELLS_PER_REQUESTED_CELL * inGrid.size() );
+        if ( all.size() <= limit )
+        {
+            return List.of( all );
+        }
+
+        // Group the cells by tile, ordering the tiles by row
+        Map<Long, List<Integer>> tiles = new TreeMap<>();
+        for ( Integer next : inGrid )
+        {
+            Cell cell = cells[next];
+            long tile = ( ( long ) ( cell.y() / TILE_SIZE ) << 32 ) | ( cell.x() / TILE_SIZE );
+            tiles.computeIfAbsent( tile, k -> new ArrayList<>() )
+                 .add( next );
+        }
+
+        return tiles.values()
+                    .stream()
+                    .map( next -> Slab.of( cells, next ) )
+                    .toList();
+    }
+
+    /**
+     * Reads the values of the cells within a slab of the grid.
+     *
+     * @param variable the variable
+     * @param cells the cells
+     * @param slab the slab
+     * @param values the values to populate
+     * @throws IOException if the values could not be read
+     * @throws InvalidRangeException if the slab is invalid
+     */
+
+    private static void readSlab( GridDatatype variable, Cell[] cells, Slab slab, double[] values )
+            throws IOException, InvalidRangeException
+    {
+        GridDatatype subset = variable.makeSubset( null,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   new Range( slab.minimumY(), slab.maximumY() ),
+                                                   new Range( slab.minimumX(), slab.maximumX() ) );
+
+        // The slab has dimensions (y, x) in the last two positions
+        Array array = subset.readDataSlice( TIME_INDEX, Z_INDEX, -1, -1 );
+        int rank = array.getRank();
+        Index index = array.getIndex();
+
+        for ( Integer i : slab.cells() )
+        {
+            Cell cell = cells[i];
+
+            if ( rank >= 2 )
+            {
+                index.setDim( rank - 2, cell.y() - slab.minimumY() );
+                index.setDim( rank - 1, cell.x() - slab.minimumX() );
+                values[i] = array.getDouble( index );
+            }
+            // Unexpected shape, so read the cell alone
+            else
+            {
+                values[i] = variable.readDataSlice( TIME_INDEX, Z_INDEX, cell.y(), cell.x() )
+                                    .getDouble( 0 );
+            }
+        }
+    }
+
+    /**
+     * Returns the grid cells of the prescribed features, using the cache where possible.
+     *
+     * @param system the coordinate system of the grid
+     * @param features the features
+     * @return the cells, one for each feature
+     */
+
+    private static Cell[] getCells( GridCoordSystem system, List<Feature> features )
+    {
+        GridDefinition definition = GridDefinition.of( system );
+
+        Cell[] featureCells = new Cell[features.size()];
+        for ( int i = 0; i < featureCells.length; i++ )
+        {
+            String wkt = features.get( i )
+                                 .getWkt();
+            featureCells[i] = CELLS.get( new CellKey( definition, wkt ),
+                                         k -> GridExtractor.findCell( system, k.wkt() ) );
+        }
+
+        return featureCells;
+    }
+
+    /**
+     * Finds the grid cell that contains a point feature.
+     *
+     * @param system the coordinate system of the grid
+     * @param wkt the point feature WKT
+     * @return the cell
+     */
+
+    private static Cell findCell( GridCoordSystem system, String wkt )
+    {
+        // Parse a point from a point WKT, ignoring srid. TODO: do an affine transform, not just parse a point.
+        Coordinate point = DataUtilities.getLonLatFromPointWkt( wkt );
+
+        // Returns XY from YX parameters
+        int[] xIndexYIndex = system.findXYindexFromLatLon( point.getY(), point.getX(), null );
+        Cell cell = new Cell( xIndexYIndex[0], xIndexYIndex[1] );
+
+        if ( !cell.isInGrid() )
+        {
+            LOGGER.debug( "The feature {} is outside the grid.", wkt );
+        }
+
+        return cell;
+    }
+
+    /**
+     * The values of several features read from one gridded file.
+     * @param values the values, one for each feature
+     * @param measurementUnit the measurement unit
+     * @param issueTime the issue time
+     * @param validTime the valid time
+     */
+    record GridValues( double[] values, String measurementUnit, Instant issueTime, Instant validTime )
+    {
+    }
+
+    /**
+     * A grid cell.
+     * @param x the x index, negative if outside the grid
+     * @param y the y index, negative if outside the grid
+     */
+    record Cell( int x, int y )
+    {
+        /**
+         * @return true if the cell is within the grid, otherwise false
+         */
+        boolean isInGrid()
+        {
+            return this.x >= 0 && this.y >= 0;
+        }
+    }
+
+    /**
+     * A rectangular slab of the grid and the cells within it.
+     * @param minimumX the minimum x index
+     * @param maximumX the maximum x index
+     * @param minimumY the minimum y index
+     * @param maximumY the maximum y index
+     * @param cells the indexes of the cells within the slab
+     */
+    record Slab( int minimumX, int maximumX, int minimumY, int maximumY, List<Integer> cells )
+    {
+        /**
+         * @param cells the cells
+         * @param indexes the indexes of the cells to contain, which are within the grid
+         * @return the smallest slab that contains the prescribed cells
+         */
+        private static Slab of( Cell[] cells, List<Integer> indexes )
+        {
+            int minimumX = Integer.MAX_VALUE;
+            int maximumX = Integer.MIN_VALUE;
+            int minimumY = Integer.MAX_VALUE;
+            int maximumY = Integer.MIN_VALUE;
+
+            for ( Integer next : indexes )
+            {
+                Cell cell = cells[next];
+                minimumX = Math.min( minimumX, cell.x() );
+                maximumX = Math.max( maximumX, cell.x() );
+                minimumY = Math.min( minimumY, cell.y() );
+                maximumY = Math.max( maximumY, cell.y() );
+            }
+
+            return new Slab( minimumX, maximumX, minimumY, maximumY, List.copyOf( indexes ) );
+        }
+
+        /**
+         * @return the number of cells in the slab
+         */
+        long size()
+        {
+            return ( long ) ( this.maximumX - this.minimumX + 1 ) * ( this.maximumY - this.minimumY + 1 );
+        }
+    }
+
+    /**
+     * The key of a cached grid cell.
+     * @param definition the grid definition
+     * @param wkt the feature WKT
+     */
+    private record CellKey( GridDefinition definition, String wkt )
+    {
+    }
+
+    /**
+     * The definition of a grid, which determines the cell that contains each geographic coordinate.
+     * @param projection the projection parameters
+     * @param xSize the number of cells in the x direction
+     * @param ySize the number of cells in the y direction
+     * @param xMinimum the minimum x coordinate
+     * @param xMaximum the maximum x coordinate
+     * @param yMinimum the minimum y coordinate
+     * @param yMaximum the maximum y coordinate
+     */
+    private record GridDefinition( String projection,
+                                   long xSize,
+                                   long ySize,
+                                   double xMinimum,
+                                   double xMaximum,
+                                   double yMinimum,
+                                   double yMaximum )
+    {
+        /**
+         * @param system the coordinate system of the grid
+         * @return the grid definition
+         */
+        private static GridDefinition of( GridCoordSystem system )
+        {
+            CoordinateAxis xAxis = system.getXHorizAxis();
+            CoordinateAxis yAxis = system.getYHorizAxis();
+
+            return new GridDefinition( system.getProjection()
+                                             .paramsToString(),
+                                       xAxis.getSize(),
+                                       yAxis.getSize(),
+                                       xAxis.getMinValue(),
+                                       xAxis.getMaxValue(),
+                                       yAxis.getMinValue(),
+                                       yAxis.getMaxValue() );
+        }
+    }
+
+    /**
+     * Do not construct.
+     */
+
+    private GridExtractor()
+    {
+    }
+}
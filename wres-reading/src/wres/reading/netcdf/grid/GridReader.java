@@ -1,10 +1,5 @@
 package wres.reading.netcdf.grid;
 
-import org.locationtech.jts.geom.Coordinate;
-import thredds.client.catalog.ServiceType;
-import ucar.nc2.NetcdfFile;
-
-import wres.datamodel.DataUtilities;
 import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.space.Feature;
 import wres.datamodel.time.DoubleEvent;
@@ -12,38 +7,30 @@ import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeries.Builder;
 import wres.datamodel.time.TimeSeriesMetadata;
-import wres.reading.netcdf.Netcdf;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import ucar.ma2.Array;
-
-import ucar.nc2.dataset.DatasetUrl;
-import ucar.nc2.dataset.NetcdfDataset;
-import ucar.nc2.dataset.NetcdfDatasets;
-import ucar.nc2.dt.GridDatatype;
-import ucar.nc2.dt.grid.GridDataset;
-
 import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
 
 /**
@@ -51,12 +38,11 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
  */
 public class GridReader
 {
-    private static final Object READER_LOCK = new Object();
-    private static final Map<String, GridFileReader> FILE_READERS = new ConcurrentHashMap<>();
     private static final Logger LOGGER = LoggerFactory.getLogger( GridReader.class );
 
     /**
-     * Returns a single-valued time-series response for the input request.
+     * Returns a single-valued time-series response for the input request. Reads the paths sequentially on the calling
+     * thread.
      *
      * @param request the request
      * @return the time-series response
@@ -66,8 +52,27 @@ public class GridReader
 
     public static Map<Feature, Stream<TimeSeries<Double>>> getSingleValuedTimeSeries( GridRequest request )
             throws IOException
+    {
+        return GridReader.getSingleValuedTimeSeries( request, Runnable::run );
+    }
+
+    /**
+     * Returns a single-valued time-series response for the input request. Reads each path once, gathering the values
+     * of all features from one slab of the grid, and reads the paths in parallel on the prescribed executor.
+     *
+     * @param request the request
+     * @param executor the executor on which to read the paths
+     * @return the time-series response
+     * @throws IOException if the gridded values cannot be read for any reason
+     * @throws InvalidGridRequestException if the request is invalid
+     */
+
+    public static Map<Feature, Stream<TimeSeries<Double>>> getSingleValuedTimeSeries( GridRequest request,
+                                                                                      Executor executor )
+            throws IOException
     {
         Objects.requireNonNull( request );
+        Objects.requireNonNull( executor );
 
         // #90061-117
         if ( request.paths()
@@ -83,46 +88,39 @@ public class GridReader
             LOGGER.debug( "Processing the following request for gridded data {}.", request );
         }
 
-        GridValue griddedValue;
+        List<Feature> features = List.copyOf( request.features() );
 
-        Queue<String> paths = new LinkedList<>( request.paths() );
+        // Read the paths in parallel
+        List<CompletableFuture<GridExtractor.GridValues>> futures = new ArrayList<>();
+        for ( String path : request.paths() )
+        {
+            CompletableFuture<GridExtractor.GridValues> future =
+                    CompletableFuture.supplyAsync( () -> GridReader.read( path, request, features ), executor );
+            futures.add( future );
+        }
 
         // Events per feature, where each event is indexed by reference time in a pair
         Map<Feature, List<Pair<Instant, Event<Double>>>> eventsPerFeature = new HashMap<>();
 
         String measurementUnit = "UNKNOWN";
 
-        while ( !paths.isEmpty() )
+        // Gather the values in path order
+        for ( CompletableFuture<GridExtractor.GridValues> future : futures )
         {
-            String path = paths.remove();
-            GridFileReader reader = GridReader.getReader( path, request.isForecast() );
+            GridExtractor.GridValues griddedValues = GridReader.getGridValues( future, futures );
+            double[] values = griddedValues.values();
 
-            if ( reader.isLocked() )
-            {
-                paths.add( path );
-            }
-            else
+            for ( int i = 0; i < values.length; i++ )
             {
-                for ( Feature feature : request.features() )
-                {
-                    List<Pair<Instant, Event<Double>>> events = eventsPerFeature.get( feature );
-                    if ( Objects.isNull( events ) )
-                    {
-                        events = new ArrayList<>();
-                        eventsPerFeature.put( feature, events );
-                    }
-
-                    // We'll need to eventually iterate through time, but now is
-                    // not the... time!
-                    griddedValue = reader.read( request.variableName(),
-                                                feature.getWkt() );
-
-                    Event<Double> event = DoubleEvent.of( griddedValue.validTime(), griddedValue.value() );
-                    Pair<Instant, Event<Double>> eventPlusIssueTime = Pair.of( griddedValue.issueTime(), event );
-                    events.add( eventPlusIssueTime );
-                    measurementUnit = griddedValue.measurementUnit();
-                }
+                List<Pair<Instant, Event<Double>>> events =
+                        eventsPerFeature.computeIfAbsent( features.get( i ), k -> new ArrayList<>() );
+
+                Event<Double> event = DoubleEvent.of( griddedValues.validTime(), values[i] );
+                Pair<Instant, Event<Double>> eventPlusIssueTime = Pair.of( griddedValues.issueTime(), event );
+                events.add( eventPlusIssueTime );
             }
+
+            measurementUnit = griddedValues.measurementUnit();
         }
 
         Map<Feature, Stream<TimeSeries<Double>>> seriesPerFeature = new HashMap<>();
@@ -252,153 +250,56 @@ public class GridReader
     }
 
     /**
-     * Creates a reader.
-     * @param filePath the file path
-     * @param isForecast whether the data associated with the path is a forecast
-     * @return a reader
+     * Reads the values of the requested features from one path.
+     *
+     * @param path the path
+     * @param request the request
+     * @param features the features to read
+     * @return the values
+     * @throws UncheckedIOException if the values could not be read
      */
-    private static GridFileReader getReader( final String filePath, final boolean isForecast )
+
+    private static GridExtractor.GridValues read( String path, GridRequest request, List<Feature> features )
     {
-        synchronized ( READER_LOCK )
+        try
         {
-            GridFileReader reader;
-
-            // If the reader isn't in the collection, add it
-            if ( !GridReader.FILE_READERS.containsKey( filePath ) )
-            {
-                reader = new GridFileReader( filePath, isForecast );
-                GridReader.FILE_READERS.put( filePath, reader );
-            }
-            else
-            {
-                reader = GridReader.FILE_READERS.get( filePath );
-            }
-
-            return reader;
+            return GridExtractor.read( path, request.variableName(), features, request.isForecast() );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
         }
     }
 
     /**
-     * A gridded value.
-     * @param value the value
-     * @param measurementUnit the measurement unit
-     * @param issueTime the issue time
-     * @param validTime the valid time
+     * Waits for the values read from one path. On failure, cancels the reading of any paths that have not started.
+     *
+     * @param future the future values
+     * @param futures all future values
+     * @return the values
+     * @throws IOException if the values could not be read
      */
-    private record GridValue( double value, String measurementUnit, Instant issueTime, Instant validTime )
-    {
-    }
 
-    /**
-     * Reader.
-     */
-    private static class GridFileReader
+    private static GridExtractor.GridValues getGridValues( CompletableFuture<GridExtractor.GridValues> future,
+                                                           List<CompletableFuture<GridExtractor.GridValues>> futures )
+            throws IOException
     {
-        GridFileReader( final String path, final boolean isForecast )
+        try
         {
-            this.path = path;
-            this.isForecast = isForecast;
-            this.readLock = new ReentrantLock();
+            return future.join();
         }
-
-        GridValue read( String variableName, String wkt )
-                throws IOException
+        catch ( CompletionException | CancellationException e )
         {
-            // Time always 0 for now
-            int time = 0;
-            this.readLock.lock();
-
-            Coordinate point = getLatLonCoordFromSridWkt( wkt );
-
-            // This is underlying THREDDS code. It generally expects some semi-remote location for its data, but we're
-            // local, so we're using
-            DatasetUrl url = DatasetUrl.create( ServiceType.File, this.path );
-
-            try ( NetcdfDataset dataset = NetcdfDatasets.acquireDataset( url, null );
-                  GridDataset gridDataset = new GridDataset( dataset ) )
-            {
-                GridDatatype variable = gridDataset.findGridDatatype( variableName );
-
-                // #95028, couldn't find the declared variable
-                if ( Objects.isNull( variable ) )
-                {
-                    throw new IOException( "Unable to read the gridded dataset from " + this.path
-                                           + " because the "
-                                           + "declared variable name "
-                                           + variableName
-                                           + " was not discovered inside the dataset. Please "
-                                           + "correct the declared variable name or the source and try again." );
-                }
-
-                // Returns XY from YX parameters
-                int[] xIndexYIndex = variable.getCoordinateSystem()
-                                             .findXYindexFromLatLon( point.getY(), point.getX(), null );
-
-                // readDataSlice takes (time, z, y, x) as parameters. Since the previous call was XY, we need to flip
-                // the two, yielding indexes 1 then 0
-                Array data = variable.readDataSlice( time, 0, xIndexYIndex[1], xIndexYIndex[0] );
+            futures.forEach( f -> f.cancel( false ) );
 
-                double value = data.getDouble( 0 );
-
-                return new GridValue( value, variable.getUnitsString(), this.getIssueTime(), this.getValidTime() );
-            }
-            finally
+            Throwable cause = e.getCause();
+            if ( cause instanceof UncheckedIOException u )
             {
-                this.readLock.unlock();
+                throw u.getCause();
             }
-        }
 
-        boolean isLocked()
-        {
-            return this.readLock.isLocked();
-        }
-
-        /**
-         * Parse a point from a point WKT, ignoring srid.
-         * TODO: do an affine transform, not just parse a point.
-         */
-        private static Coordinate getLatLonCoordFromSridWkt( String wkt )
-        {
-            return DataUtilities.getLonLatFromPointWkt( wkt );
+            throw new IOException( "Failed to read a gridded dataset.", e );
         }
-
-        private Instant getValidTime() throws IOException
-        {
-            if ( this.validTime == null )
-            {
-                DatasetUrl url = DatasetUrl.create( ServiceType.File, this.path );
-                try ( NetcdfFile file = NetcdfDatasets.acquireFile( url, null ) )
-                {
-                    this.validTime = Netcdf.getTime( file );
-                }
-            }
-
-            return this.validTime;
-        }
-
-        private Instant getIssueTime() throws IOException
-        {
-            if ( this.issueTime == null && this.isForecast )
-            {
-                DatasetUrl url = DatasetUrl.create( ServiceType.File, this.path );
-                try ( NetcdfFile file = NetcdfDatasets.acquireFile( url, null ) )
-                {
-                    this.issueTime = Netcdf.getReferenceTime( file );
-                }
-            }
-            else if ( this.issueTime == null )
-            {
-                this.issueTime = this.getValidTime();
-            }
-
-            return this.issueTime;
-        }
-
-        private final String path;
-        private Instant issueTime = null;
-        private Instant validTime = null;
-        private final ReentrantLock readLock;
-        private final boolean isForecast;
     }
 
     /**
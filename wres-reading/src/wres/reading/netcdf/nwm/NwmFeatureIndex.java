@@ -0,0 +1,463 @@
+package wres.reading.netcdf.nwm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import net.jcip.annotations.Immutable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>An index from NWM feature identifiers to their positions within the feature variable of an NWM geometry, which
+ * allows for a binary search of the features, regardless of their order within the feature variable.
+ *
+ * <p>The features of an NWM geometry are fixed for a given model version and domain. Thus, an index is shared by every
+ * netCDF resource with the same geometry within this process and is persisted to a sidecar file that is re-used by
+ * later evaluations, which avoids reading the full feature variable from each resource. The sidecar directory may be
+ * set with the system property <code>wres.nwmFeatureIndexDirectory</code> and is otherwise a directory within the
+ * temporary directory. Failure to read or write a sidecar is not fatal: the index is built from the feature variable
+ * instead. A caller should validate the features at the positions it reads and
+ * {@link #rebuild(NwmFeatureIndex, Path, Supplier)} an index read from a sidecar that does not match, since the sidecar
+ * may be stale. An index that was built from the features of another resource is not rebuilt because its geometry is
+ * known to be current.
+ *
+ * @author James Brown
+ */
+
+@Immutable
+class NwmFeatureIndex
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( NwmFeatureIndex.class );
+
+    /** The system property that names the sidecar directory. */
+    private static final String DIRECTORY_PROPERTY = "wres.nwmFeatureIndexDirectory";
+
+    /** The sidecar directory. */
+    private static final Path DEFAULT_DIRECTORY = NwmFeatureIndex.getDefaultDirectory();
+
+    /** A number that begins every sidecar file, "WNFI", which guards against reading some other file. */
+    private static final int MAGIC_NUMBER = 0x574E4649;
+
+    /** The extension of a sidecar file. */
+    private static final String EXTENSION = ".idx";
+
+    /** The indexes read within this process, by geometry key. */
+    private static final Map<String, NwmFeatureIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /** The geometry key. */
+    private final String key;
+
+    /** The feature identifiers in ascending order. */
+    private final long[] sortedFeatureIds;
+
+    /** The position in the feature variable of each sorted feature identifier or null if the features are sorted. */
+    private final int[] positions;
+
+    /** Whether the index was read from a sidecar, rather than built from a feature variable. */
+    private final boolean fromSidecar;
+
+    /**
+     * Creates a geometry key from the attributes of an NWM geometry. The key is also the name of the sidecar file, so
+     * any characters that are not safe in a file name are replaced.
+     * @param version the NWM version or some other description of the geometry, such as the domain
+     * @param featureVariable the name of the feature variable
+     * @param featureCount the number of features
+     * @return the geometry key
+     * @throws NullPointerException if any nullable input is null
+     */
+
+    static String getKey( String version, String featureVariable, long featureCount )
+    {
+        Objects.requireNonNull( version );
+        Objects.requireNonNull( featureVariable );
+
+        String key = version + "_" + featureVariable + "_" + featureCount;
+        return key.replaceAll( "[^A-Za-z0-9._-]", "_" );
+    }
+
+    /**
+     * Creates an index from the features in the order they appear in the feature variable.
+     * @param key the geometry key
+     * @param featureIds the feature identifiers
+     * @return the index
+     * @throws NullPointerException if any input is null
+     */
+
+    static NwmFeatureIndex of( String key, long[] featureIds )
+    {
+        Objects.requireNonNull( key );
+        Objects.requireNonNull( featureIds );
+
+        long[] sorted = featureIds.clone();
+        Arrays.sort( sorted );
+
+        if ( Arrays.equals( sorted, featureIds ) )
+        {
+            return new NwmFeatureIndex( key, sorted, null, false );
+        }
+
+        int[] positions = new int[sorted.length];
+        Arrays.fill( positions, -1 );
+
+        for ( int i = 0; i < featureIds.length; i++ )
+        {
+            int slot = Arrays.binarySearch( sorted, featureIds[i] );
+
+            // Allow for duplicate identifiers: use the first unassigned slot with the same identifier
+            while ( slot > 0 && sorted[slot - 1] == featureIds[i] )
+            {
+                slot--;
+            }
+
+            while ( positions[slot] >= 0 )
+            {
+                slot++;
+            }
+
+            positions[slot] = i;
+        }
+
+        return new NwmFeatureIndex( key, sorted, positions, false );
+    }
+
+    /**
+     * Returns the index for a geometry, reading it from the default sidecar directory or, failing that, building it
+     * from the features supplied and then writing it to the sidecar directory.
+     * @param key the geometry key
+     * @param featureReader a reader for the features in the order they appear in the feature variable
+     * @return the index
+     * @throws NullPointerException if any input is null
+     */
+
+    static NwmFeatureIndex get( String key, Supplier<long[]> featureReader )
+    {
+        return NwmFeatureIndex.get( key, DEFAULT_DIRECTORY, featureReader );
+    }
+
+    /**
+     * Returns the index for a geometry, reading it from the sidecar directory or, failing that, building it from the
+     * features supplied and then writing it to the sidecar directory. Only one index is read or built for each key
+     * within this process.
+     * @param key the geometry key
+     * @param directory the sidecar directory
+     * @param featureReader a reader for the features in the order they appear in the feature variable
+     * @return the index
+     * @throws NullPointerException if any input is null
+     */
+
+    static NwmFeatureIndex get( String key, Path directory, Supplier<long[]> featureReader )
+    {
+        Objects.requireNonNull( key );
+        Objects.requireNonNull( directory );
+        Objects.requireNonNull( featureReader );
+
+        return INDEXES.computeIfAbsent( key, k -> NwmFeatureIndex.readOrBuild( k, directory, featureReader ) );
+    }
+
+    /**
+     * Replaces a stale index with an index built from the features supplied, writing it to the default sidecar
+     * directory.
+     * @param stale the stale index
+     * @param featureReader a reader for the features in the order they appear in the feature variable
+     * @return the index that replaced the stale index
+     * @throws NullPointerException if any input is null
+     */
+
+    static NwmFeatureIndex rebuild( NwmFeatureIndex stale, Supplier<long[]> featureReader )
+    {
+        return NwmFeatureIndex.rebuild( stale, DEFAULT_DIRECTORY, featureReader );
+    }
+
+    /**
+     * Replaces a stale index with an index built from the features supplied, writing it to the sidecar directory. If
+     * the stale index was already replaced, the replacement is returned and the features are not read.
+     * @param stale the stale index
+     * @param directory the sidecar directory
+     * @param featureReader a reader for the features in the order they appear in the feature variable
+     * @return the index that replaced the stale index
+     * @throws NullPointerException if any input is null
+     */
+
+    static NwmFeatureIndex rebuild( NwmFeatureIndex stale, Path directory, Supplier<long[]> featureReader )
+    {
+        Objects.requireNonNull( stale );
+        Objects.requireNonNull( directory );
+        Objects.requireNonNull( featureReader );
+
+        return INDEXES.compute( stale.getKey(), ( k, v ) -> {
+            if ( Objects.nonNull( v ) && v != stale )
+            {
+                return v;
+            }
+
+            LOGGER.warn( "Rebuilding the NWM feature index for geometry {} because its sidecar did not match the "
+                         + "features read.",
+                         k );
+
+            return NwmFeatureIndex.build( k, directory, featureReader );
+        } );
+    }
+
+    /**
+     * Finds the position of a feature in the feature variable.
+     * @param featureId the feature identifier
+     * @return the position or a negative integer if the feature was not found
+     */
+
+    int indexOf( long featureId )
+    {
+        int slot = Arrays.binarySearch( this.sortedFeatureIds, featureId );
+
+        if ( slot < 0 || Objects.isNull( this.positions ) )
+        {
+            return slot;
+        }
+
+        return this.positions[slot];
+    }
+
+    /**
+     * @return the number of features
+     */
+
+    int size()
+    {
+        return this.sortedFeatureIds.length;
+    }
+
+    /**
+     * @return the geometry key
+     */
+
+    String getKey()
+    {
+        return this.key;
+    }
+
+    /**
+     * @return true if the index was read from a sidecar, false if it was built from a feature variable
+     */
+
+    boolean isFromSidecar()
+    {
+        return this.fromSidecar;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "NWM feature index for geometry " + this.key + " with " + this.size() + " features";
+    }
+
+    /**
+     * Reads an index from the sidecar directory or builds and writes one.
+     * @param key the geometry key
+     * @param directory the sidecar directory
+     * @param featureReader a reader for the features
+     * @return the index
+     */
+
+    private static NwmFeatureIndex readOrBuild( String key, Path directory, Supplier<long[]> featureReader )
+    {
+        Path path = NwmFeatureIndex.getSidecarPath( directory, key );
+
+        if ( Files.isRegularFile( path ) )
+        {
+            try
+            {
+                NwmFeatureIndex index = NwmFeatureIndex.read( key, path );
+                LOGGER.debug( "Read the NWM feature index for geometry {} from {}.", key, path );
+                return index;
+            }
+            catch ( IOException e )
+            {
+                LOGGER.warn( "Failed to read the NWM feature index sidecar at {}. The index will be rebuilt.",
+                             path,
+                             e );
+            }
+        }
+
+        return NwmFeatureIndex.build( key, directory, featureReader );
+    }
+
+    /**
+     * Builds an index and writes it to the sidecar directory, replacing any existing sidecar.
+     * @param key the geometry key
+     * @param directory the sidecar directory
+     * @param featureReader a reader for the features
+     * @return the index
+     */
+
+    private static NwmFeatureIndex build( String key, Path directory, Supplier<long[]> featureReader )
+    {
+        Path path = NwmFeatureIndex.getSidecarPath( directory, key );
+        NwmFeatureIndex index = NwmFeatureIndex.of( key, featureReader.get() );
+
+        try
+        {
+            NwmFeatureIndex.write( index, path );
+            LOGGER.debug( "Wrote the NWM feature index for geometry {} to {}.", key, path );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to write the NWM feature index sidecar to {}. The index will not be re-used by later "
+                         + "evaluations.",
+                         path,
+                         e );
+        }
+
+        return index;
+    }
+
+    /**
+     * Reads an index from a sidecar file.
+     * @param key the geometry key
+     * @param path the path to the sidecar
+     * @return the index
+     * @throws IOException if the sidecar could not be read or is invalid
+     */
+
+    private static NwmFeatureIndex read( String key, Path path ) throws IOException
+    {
+        try ( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( path ) ) ) )
+        {
+            if ( in.readInt() != MAGIC_NUMBER )
+            {
+                throw new IOException( "The file at " + path + " is not an NWM feature index." );
+            }
+
+            int count = in.readInt();
+
+            if ( count < 0 )
+            {
+                throw new IOException( "The NWM feature index at " + path + " has a negative feature count." );
+            }
+
+            boolean hasPositions = in.readBoolean();
+            long[] sorted = new long[count];
+            for ( int i = 0; i < count; i++ )
+            {
+                sorted[i] = in.readLong();
+            }
+
+            int[] positions = null;
+            if ( hasPositions )
+            {
+                positions = new int[count];
+                for ( int i = 0; i < count; i++ )
+                {
+                    positions[i] = in.readInt();
+                }
+            }
+
+            return new NwmFeatureIndex( key, sorted, positions, true );
+        }
+    }
+
+    /**
+     * Writes an index to a sidecar file, replacing any existing file atomically where supported.
+     * @param index the index
+     * @param path the path to the sidecar
+     * @throws IOException if the sidecar could not be written
+     */
+
+    private static void write( NwmFeatureIndex index, Path path ) throws IOException
+    {
+        Files.createDirectories( path.getParent() );
+        Path temporary = Files.createTempFile( path.getParent(), index.getKey(), ".tmp" );
+
+        try
+        {
+            try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream(
+                    temporary ) ) ) )
+            {
+                out.writeInt( MAGIC_NUMBER );
+                out.writeInt( index.sortedFeatureIds.length );
+                out.writeBoolean( Objects.nonNull( index.positions ) );
+
+                for ( long featureId : index.sortedFeatureIds )
+                {
+                    out.writeLong( featureId );
+                }
+
+                if ( Objects.nonNull( index.positions ) )
+                {
+                    for ( int position : index.positions )
+                    {
+                        out.writeInt( position );
+                    }
+                }
+            }
+
+            try
+            {
+                Files.move( temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+            }
+            catch ( AtomicMoveNotSupportedException e )
+            {
+                Files.move( temporary, path, StandardCopyOption.REPLACE_EXISTING );
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists( temporary );
+        }
+    }
+
+    /**
+     * @param directory the sidecar directory
+     * @param key the geometry key
+     * @return the path to the sidecar
+     */
+
+    private static Path getSidecarPath( Path directory, String key )
+    {
+        return directory.resolve( key + EXTENSION );
+    }
+
+    /**
+     * @return the sidecar directory from the system property or the default
+     */
+
+    private static Path getDefaultDirectory()
+    {
+        String directory = System.getProperty( DIRECTORY_PROPERTY );
+
+        if ( Objects.nonNull( directory ) && !directory.isBlank() )
+        {
+            return Paths.get( directory );
+        }
+
+        return Paths.get( System.getProperty( "java.io.tmpdir" ), "wres_nwm_feature_index" );
+    }
+
+    /**
+     * Hidden constructor.
+     * @param key the geometry key
+     * @param sortedFeatureIds the sorted feature identifiers
+     * @param positions the position of each sorted feature identifier or null if the features are sorted
+     * @param fromSidecar whether the index was read from a sidecar
+     */
+
+    private NwmFeatureIndex( String key, long[] sortedFeatureIds, int[] positions, boolean fromSidecar )
+    {
+        this.key = key;
+        this.sortedFeatureIds = sortedFeatureIds;
+        this.positions = positions;
+        this.fromSidecar = fromSidecar;
+    }
+}
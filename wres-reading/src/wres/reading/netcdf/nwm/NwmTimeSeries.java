@@ -23,14 +23,12 @@ import java.util.TreeSet;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
@@ -84,6 +82,12 @@ class NwmTimeSeries implements Closeable
 
     private static final int CONCURRENT_READS = 6;
 
+    /**
+     * The largest gap between two indices that are read in the same contiguous range of a gather read. A separate
+     * read of a remote resource costs much more than reading a few kilobytes of unrequested values.
+     */
+    static final int MAXIMUM_GATHER_GAP = 4096;
+
     private static final int POOL_OBJECT_LIFESPAN = 30000;
     private static final String ATTRIBUTE_FOUND_FOR_VARIABLE = "' attribute found for variable '";
     private static final String IN_NET_CDF_DATA = " in netCDF data.";
@@ -305,7 +309,7 @@ class NwmTimeSeries implements Closeable
             }
         }
 
-        this.featureCache = new NWMFeatureCache( this.netcdfFiles );
+        this.featureCache = new NWMFeatureCache();
 
         // Nothing missing
         if ( netcdfUris.size() == this.netcdfFiles.size() )
@@ -1108,110 +1112,107 @@ class NwmTimeSeries implements Closeable
 
 
     /**
-     * <p>ctually read nc data from a variable, targeted to given indices.
+     * <p>Actually read nc data from a variable, targeted to given indices.
      *
-     * <p>It is OK for indices to be unsorted, e.g. for minIndex to appear anywhere
-     * in indices and maxIndex to appear anywhere in indices.
+     * <p>It is OK for indices to be unsorted. The indices are read with a gather read, which coalesces nearby indices
+     * into a few contiguous ranges, rather than one range from the smallest index to the largest index.
      *
      * <p>No value in indices passed may be negative.
      *
      * @param variable The variable to read data from.
-     * @param indices The indices to read.
-     * @param minIndex Caller-supplied minimum from indices (avoid searching 2x)
-     * @param maxIndex Caller-supplied maximum from indices (avoid searching 2x)
-     * @return An int[] with same cardinality and order as indices argument.
+     * @param plan The gather plan for the indices to read.
+     * @return An int[] with same cardinality and order as the indices of the plan.
      */
     private static int[] readRawInts( Variable variable,
-                                      int[] indices,
-                                      int minIndex,
-                                      int maxIndex )
+                                      GatherPlan plan )
     {
-        Objects.requireNonNull( variable );
-        Objects.requireNonNull( indices );
-
-        String variableName = variable.getFullName();
+        Array[] arrays = NwmTimeSeries.readRanges( variable, plan );
+        int[] result = new int[plan.rangeOfIndex().length];
 
-        if ( indices.length < 1 )
+        for ( int i = 0; i < result.length; i++ )
         {
-            throw new IllegalArgumentException( "Must pass at least one index." );
+            result[i] = arrays[plan.rangeOfIndex()[i]].getInt( plan.offsetOfIndex()[i] );
         }
 
-        if ( minIndex < 0 )
-        {
-            throw new IllegalArgumentException( "minIndex must be positive." );
-        }
+        return result;
+    }
 
-        if ( maxIndex < 0 )
-        {
-            throw new IllegalArgumentException( "maxIndex must be positive." );
-        }
+    /**
+     * Reads long values from a variable, targeted to given indices. See {@link #readRawInts(Variable, GatherPlan)}.
+     *
+     * @param variable The variable to read data from.
+     * @param plan The gather plan for the indices to read.
+     * @return A long[] with same cardinality and order as the indices of the plan.
+     */
+    private static long[] readRawLongs( Variable variable,
+                                        GatherPlan plan )
+    {
+        Array[] arrays = NwmTimeSeries.readRanges( variable, plan );
+        long[] result = new long[plan.rangeOfIndex().length];
 
-        if ( minIndex > maxIndex )
+        for ( int i = 0; i < result.length; i++ )
         {
-            throw new IllegalArgumentException( "maxIndex must be >= minIndex." );
+            result[i] = arrays[plan.rangeOfIndex()[i]].getLong( plan.offsetOfIndex()[i] );
         }
 
-        int[] result = new int[indices.length];
-        int countOfRawValuesToRead = maxIndex - minIndex + 1;
-        int[] rawValues;
-        int[] origin = { minIndex };
-        int[] shape = { countOfRawValuesToRead };
+        return result;
+    }
 
-        try
-        {
-            Array array = variable.read( origin, shape );
-            int[] unsafeValues = ( int[] ) array.get1DJavaArray( DataType.INT );
-            rawValues = unsafeValues.clone();
-        }
-        catch ( IOException | InvalidRangeException e )
-        {
-            throw new PreReadException( "Failed to read variable "
-                                        + variableName
-                                        + " at origin "
-                                        + Arrays.toString( origin )
-                                        + " and shape "
-                                        + Arrays.toString( shape ),
-                                        e );
-        }
+    /**
+     * Reads each contiguous range of a gather plan from a variable.
+     *
+     * @param variable The variable to read data from.
+     * @param plan The gather plan.
+     * @return One array for each range of the plan.
+     * @throws PreReadException When a range could not be read or the count of values read is unexpected.
+     */
+    private static Array[] readRanges( Variable variable,
+                                       GatherPlan plan )
+    {
+        Objects.requireNonNull( variable );
+        Objects.requireNonNull( plan );
 
-        if ( rawValues.length != countOfRawValuesToRead )
-        {
-            throw new PreReadException(
-                    "Expected to read exactly " + countOfRawValuesToRead
-                    + " values from variable "
-                    + variableName
-                    + " instead got "
-                    + rawValues.length );
-        }
+        String variableName = variable.getFullName();
+        Array[] arrays = new Array[plan.origins().length];
 
-        // Write the values to the result array. Skip past unrequested values.
-        for ( int i = 0, lastRawIndex = -1; i < indices.length; i++ )
+        for ( int i = 0; i < arrays.length; i++ )
         {
-            if ( i == 0 )
+            int[] origin = { plan.origins()[i] };
+            int[] shape = { plan.shapes()[i] };
+
+            try
             {
-                result[0] = rawValues[0];
-                lastRawIndex = 0;
+                arrays[i] = variable.read( origin, shape );
             }
-            else
+            catch ( IOException | InvalidRangeException e )
+            {
+                throw new PreReadException( "Failed to read variable "
+                                            + variableName
+                                            + " at origin "
+                                            + Arrays.toString( origin )
+                                            + " and shape "
+                                            + Arrays.toString( shape ),
+                                            e );
+            }
+
+            if ( arrays[i].getSize() != shape[0] )
             {
-                // The distance between the indices passed implies the spot
-                // in the (superset) of rawValues array returned.
-                int rawIndexHop = indices[i] - indices[i - 1];
-                int currentRawIndex = lastRawIndex + rawIndexHop;
-                result[i] = rawValues[currentRawIndex];
-                lastRawIndex = currentRawIndex;
+                throw new PreReadException(
+                        "Expected to read exactly " + shape[0]
+                        + " values from variable "
+                        + variableName
+                        + " instead got "
+                        + arrays[i].getSize() );
             }
         }
 
-        LOGGER.debug(
-                "Asked variable {} for range {} through {} to get values at indices {}, got raw count {}, distilled to {}",
-                variableName,
-                minIndex,
-                maxIndex,
-                indices,
-                rawValues.length,
-                result );
-        return result;
+        LOGGER.debug( "Read variable {} in {} ranges with origins {} and shapes {}.",
+                      variableName,
+                      arrays.length,
+                      plan.origins(),
+                      plan.shapes() );
+
+        return arrays;
     }
 
 
@@ -1436,54 +1437,19 @@ class NwmTimeSeries implements Closeable
             }
 
             List<FeatureIdWithItsIndex> features = new ArrayList<>( featureIds.length );
+            int[] indexes = featureCache.findFeatureIndexes( profile,
+                                                             netcdfFile,
+                                                             featureIds );
 
-            // Discover the minimum and maximum indexes requested while getting
-            // them from the featureCache in order to know the nc range to read.
-            // Initialize to extreme values to detect when nothing was found
-            // and to have some assurance that "less than" and "greater than"
-            // will work from the start of the loop.
-            int minIndex = Integer.MAX_VALUE;
-            int maxIndex = Integer.MIN_VALUE;
-
-            for ( long featureId : featureIds )
+            for ( int i = 0; i < featureIds.length; i++ )
             {
-                FeatureIdWithItsIndex feature;
-                int indexOfFeature = featureCache.findFeatureIndex( profile,
-                                                                    netcdfFile,
-                                                                    featureId );
-                feature = new FeatureIdWithItsIndex( featureId, indexOfFeature );
+                FeatureIdWithItsIndex feature = new FeatureIdWithItsIndex( featureIds[i], indexes[i] );
                 features.add( feature );
 
                 if ( !feature.found() )
                 {
                     this.featuresNotFound.add( feature.featureId() );
-                    continue;
                 }
-
-                if ( feature.index() < minIndex )
-                {
-                    minIndex = feature.index();
-                }
-
-                if ( feature.index() > maxIndex )
-                {
-                    maxIndex = feature.index();
-                }
-            }
-
-            if ( minIndex == Integer.MAX_VALUE
-                 || maxIndex == Integer.MIN_VALUE )
-            {
-                if ( LOGGER.isDebugEnabled() )
-                {
-                    LOGGER.debug( "No features found, minIndex==MAX? {}, maxIndex==MIN? {}, features requested: {}",
-                                  minIndex == Integer.MAX_VALUE,
-                                  maxIndex == Integer.MIN_VALUE,
-                                  featureIds );
-                }
-
-                return new NWMDoubleReadOutcome( Collections.emptyList(),
-                                                 this.featuresNotFound );
             }
 
             // Filtered for non-existent feature ids:
@@ -1496,7 +1462,16 @@ class NwmTimeSeries implements Closeable
                                                .mapToLong( FeatureIdWithItsIndex::featureId )
                                                .toArray();
 
+            if ( indicesOfFeatures.length == 0 )
+            {
+                LOGGER.debug( "No features found, features requested: {}", featureIds );
+
+                return new NWMDoubleReadOutcome( Collections.emptyList(),
+                                                 this.featuresNotFound );
+            }
+
             Variable variableVariable = netcdfFile.findVariable( variableName );
+            GatherPlan plan = GatherPlan.of( indicesOfFeatures, MAXIMUM_GATHER_GAP );
             int[] rawVariableValues;
 
 
@@ -1505,9 +1480,7 @@ class NwmTimeSeries implements Closeable
             try
             {
                 rawVariableValues = NwmTimeSeries.readRawInts( variableVariable,
-                                                               indicesOfFeatures,
-                                                               minIndex,
-                                                               maxIndex );
+                                                               plan );
                 LOGGER.debug( "Read integer values {} corresponding to feature ids {} at indices {} from {}",
                               rawVariableValues,
                               companionFeatures,
@@ -1650,253 +1623,291 @@ class NwmTimeSeries implements Closeable
 
 
     /**
-     * Cache that stores a single copy of a feature array for a Set of netCDFs.
-     * But also compares the feature array once for each netCDF resource to
-     * validate that it is in fact an exact copy.
+     * Cache that finds the {@link NwmFeatureIndex} for each netCDF resource in a Set of netCDFs. Resources with the
+     * same geometry share an index, which is read once from the feature variable of one resource or from a sidecar.
+     * The features of each resource are validated once against the index at the positions read, rather than in full.
+     * An index read from a sidecar that does not match is stale and is rebuilt. An index built from another resource
+     * that does not match reveals non-homogeneous data.
      */
 
     private static final class NWMFeatureCache
     {
-        /**
-         * <p>The contents of the feature variable for a given netCDF resource.
-         *
-         * <p>This is a performance optimization (avoid re-reading the features).
-         * GuardedBy featureCacheGuard
-         *
-         * <p>This is kept in int[] form in order to validate new netCDF resources.
-         */
-        private long[] originalFeatures;
+        /** The name of the global attribute that contains the NWM version. */
+        private static final String VERSION_ATTRIBUTE = "NWM_version_number";
 
-        /**
-         * <p>Whether the features stored is sorted. Allows binary search if true.
-         *
-         * <p>Only one Thread should write this value after construction, the rest
-         * read it.
-         *
-         * <p>This is a performance optimization (avoid linear search of features).
-         *
-         * <p>Not certain that this needs to be volatile, but just in case...
-         *
-         * <p>GuardedBy {@link #featureCacheGuard}
-         */
-        private volatile boolean isSorted = false;
+        /** The index for each netCDF resource, once found. */
+        private final Map<NetcdfFile, NwmFeatureIndex> indexes = new ConcurrentHashMap<>();
 
-        /**
-         * <p>First Thread to set to true wins
-         * and gets to write to the featureCache. Everyone else reads.
-         */
-        private final AtomicBoolean featureCacheRaceResolver = new AtomicBoolean( false );
+        /** The netCDF resources whose features have been validated against their index. */
+        private final Set<NetcdfFile> validated = ConcurrentHashMap.newKeySet();
 
         /**
-         * <p>Guards featureCache variable.
+         * Find the index of each featureId within the given netCDF blob using the
+         * given NwmProfile and this feature cache.
+         * @param profile The profile to use (has name of feature variable).
+         * @param netcdfFile The netCDF blob to search.
+         * @param featureIds The NWM feature ids to search for.
+         * @return The index of each featureID within the feature variable, or
+         * a negative integer when not found.
+         * @throws PreReadException When the features of the netCDF blob do not match the index.
          */
-        private final CountDownLatch featureCacheGuard = new CountDownLatch( 1 );
+
+        private int[] findFeatureIndexes( NwmProfile profile,
+                                          NetcdfFile netcdfFile,
+                                          long[] featureIds )
+        {
+            NwmFeatureIndex index = this.indexes.computeIfAbsent( netcdfFile,
+                                                                  f -> NWMFeatureCache.getIndex( profile, f ) );
+            int[] found = NWMFeatureCache.findFeatureIndexes( index, featureIds );
+
+            if ( this.validated.contains( netcdfFile ) )
+            {
+                return found;
+            }
+
+            boolean valid = NWMFeatureCache.isValid( profile, netcdfFile, featureIds, found );
+
+            // A stale sidecar may report features as missing that this resource contains, and they cannot be checked
+            // without reading the feature variable in full
+            boolean missing = Arrays.stream( found )
+                                    .anyMatch( i -> i < 0 );
+
+            if ( index.isFromSidecar()
+                 && ( !valid || missing ) )
+            {
+                LOGGER.debug( "Checking the {} against the features from {}.", index, netcdfFile.getLocation() );
+                Variable featureVariable = netcdfFile.findVariable( profile.getFeatureVariable() );
+                index = NwmFeatureIndex.rebuild( index,
+                                                 () -> NWMFeatureCache.readFeatures( featureVariable, netcdfFile ) );
+                this.indexes.put( netcdfFile, index );
+                found = NWMFeatureCache.findFeatureIndexes( index, featureIds );
+
+                // Check again in case the index was rebuilt from another resource
+                valid = NWMFeatureCache.isValid( profile, netcdfFile, featureIds, found );
+            }
+
+            if ( !valid )
+            {
+                throw new PreReadException( "Non-homogeneous NWM data found. The features from "
+                                            + netcdfFile.getLocation()
+                                            + " do not match those found in a previously read "
+                                            + "netCDF resource with the same geometry." );
+            }
+
+            this.validated.add( netcdfFile );
+
+            return found;
+        }
 
         /**
-         * Tracks which netCDF resoruces have had their features validated.
+         * @param index the index
+         * @param featureIds the feature ids
+         * @return the index of each feature id or a negative integer when not found
          */
-        private final Map<NetcdfFile, AtomicBoolean> validatedFeatures;
 
-        NWMFeatureCache( Set<NetcdfFile> netcdfUris )
+        private static int[] findFeatureIndexes( NwmFeatureIndex index, long[] featureIds )
         {
-            this.validatedFeatures = new HashMap<>( netcdfUris.size() );
+            int[] found = new int[featureIds.length];
 
-            for ( NetcdfFile netcdfFile : netcdfUris )
+            for ( int i = 0; i < featureIds.length; i++ )
             {
-                AtomicBoolean notValidated = new AtomicBoolean( false );
-                this.validatedFeatures.put( netcdfFile, notValidated );
+                found[i] = index.indexOf( featureIds[i] );
             }
+
+            return found;
         }
 
         /**
-         * Find the given featureId index within the given netCDF blob using the
-         * given NwmProfile and this feature cache.
-         * @param profile The profile to use (has name of feature variable).
-         * @param netcdfFile The netCDF blob to search.
-         * @param featureId The NWM feature id to search for.
-         * @return The index of the featureID within the feature variable, or
-         * a negative integer when not found.
+         * Reads the features of a netCDF blob at the indexes found and checks that they match the features requested.
+         * @param profile the profile
+         * @param netcdfFile the netCDF blob
+         * @param featureIds the feature ids requested
+         * @param indexes the index of each feature id, negative when not found
+         * @return true if the features read match the features requested, otherwise false
          */
 
-        private int findFeatureIndex( NwmProfile profile,
-                                      NetcdfFile netcdfFile,
-                                      long featureId )
+        private static boolean isValid( NwmProfile profile,
+                                        NetcdfFile netcdfFile,
+                                        long[] featureIds,
+                                        int[] indexes )
         {
-            long[] features = this.readFeaturesAndCacheOrGetFeaturesFromCache( profile,
-                                                                               netcdfFile );
+            int[] foundIndexes = Arrays.stream( indexes )
+                                       .filter( i -> i >= 0 )
+                                       .toArray();
 
-            if ( this.isSorted )
+            if ( foundIndexes.length == 0 )
             {
-                return Arrays.binarySearch( features, featureId );
+                return true;
             }
-            else
-            {
-                LOGGER.debug( "Doing linear search of NWM features cache." );
 
-                for ( int i = 0; i < features.length; i++ )
+            long[] expected = new long[foundIndexes.length];
+            for ( int i = 0, j = 0; i < indexes.length; i++ )
+            {
+                if ( indexes[i] >= 0 )
                 {
-                    if ( features[i] == featureId )
-                    {
-                        return i;
-                    }
+                    expected[j] = featureIds[i];
+                    j++;
                 }
+            }
+
+            Variable featureVariable = netcdfFile.findVariable( profile.getFeatureVariable() );
+            GatherPlan plan = GatherPlan.of( foundIndexes, MAXIMUM_GATHER_GAP );
+
+            try
+            {
+                long[] actual = NwmTimeSeries.readRawLongs( featureVariable, plan );
+                return Arrays.equals( expected, actual );
+            }
+            catch ( PreReadException pie )
+            {
+                throw new PreReadException( "While reading features from "
+                                            + netcdfFile.getLocation(),
+                                            pie );
+            }
+        }
+
+        /**
+         * Gets the index for the geometry of a netCDF blob, which is identified by the NWM version and the name and
+         * size of the feature variable.
+         * @param profile the profile
+         * @param netcdfFile the netCDF blob
+         * @return the index
+         */
 
-                // Could not find, return a negative number.
-                return -1;
+        private static NwmFeatureIndex getIndex( NwmProfile profile, NetcdfFile netcdfFile )
+        {
+            String featureVariableName = profile.getFeatureVariable();
+            Variable featureVariable = netcdfFile.findVariable( featureVariableName );
+            assert featureVariable != null;
+
+            String version = "unknown";
+            Attribute versionAttribute = netcdfFile.findGlobalAttribute( VERSION_ATTRIBUTE );
+            if ( Objects.nonNull( versionAttribute ) && Objects.nonNull( versionAttribute.getStringValue() ) )
+            {
+                version = versionAttribute.getStringValue();
             }
+
+            String key = NwmFeatureIndex.getKey( version + "_"
+                                                 + profile.getNwmOutputType()
+                                                 + "_"
+                                                 + profile.getNwmLocationLabel(),
+                                                 featureVariableName,
+                                                 featureVariable.getSize() );
+
+            return NwmFeatureIndex.get( key, () -> NWMFeatureCache.readFeatures( featureVariable, netcdfFile ) );
         }
 
         /**
-         * Wait for the cache to be set. This method will interrupt this thread
-         * if the process of waiting for the cache is, itself, interrupted.
-         * @param netcdfFileName Name of netCDF being read.
-         * @throws PreReadException when timed out waiting on cache.
+         * Reads all features from a netCDF blob.
+         * @param featureVariable the feature variable
+         * @param netcdfFile the netCDF blob
+         * @return the features, in original positions
+         * @throws PreReadException if the features could not be read
          */
-        private void waitForCache( String netcdfFileName )
+
+        private static long[] readFeatures( Variable featureVariable, NetcdfFile netcdfFile )
         {
+            String netcdfFileName = netcdfFile.getLocation();
+
             try
             {
-                Duration timeout = Duration.ofMinutes( 10 );
-                boolean timedOut = !this.featureCacheGuard.await( timeout.toSeconds(),
-                                                                  TimeUnit.SECONDS );
-                if ( timedOut )
+                LOGGER.debug( "Reading features from {}", netcdfFileName );
+                long[] features = ( long[] ) featureVariable.read()
+                                                            .get1DJavaArray( DataType.LONG );
+                if ( features == null )
                 {
-                    throw new PreReadException(
-                            "While reading "
-                            + netcdfFileName,
-                            new TimeoutException(
-                                    "Timed out waiting for feature cache after "
-                                    + timeout ) );
+                    throw new IllegalStateException( "netCDF library returned null array when looking for NWM "
+                                                     + "features." );
                 }
+
+                // Clone to ensure that we are referring to a fresh copy, and not an internal netCDF copy.
+                return features.clone();
             }
-            catch ( InterruptedException ie )
+            catch ( IOException ioe )
             {
-                LOGGER.warn( "Interrupted while waiting for feature cache to be written", ie );
-                Thread.currentThread().interrupt();
+                throw new PreReadException( "Failed to read features from "
+                                            + netcdfFileName,
+                                            ioe );
             }
         }
+    }
 
+    /**
+     * A plan to read a set of indices from a one-dimensional variable in a few contiguous ranges, which coalesces any
+     * indices separated by no more than a maximum gap into one range.
+     *
+     * @param origins the origin of each range, in ascending order
+     * @param shapes the number of values in each range
+     * @param rangeOfIndex for each index in the order given, the range that contains it
+     * @param offsetOfIndex for each index in the order given, its offset within the range that contains it
+     */
+    record GatherPlan( int[] origins, int[] shapes, int[] rangeOfIndex, int[] offsetOfIndex )
+    {
         /**
-         * Read features and cache in instance or read from the cache. Allows us to
-         * avoid multiple reads of same data.
-         * @param profile the profile
-         * @param netcdfFile the netCDF file
-         * @return the raw 1D integer array of features, in original positions.
-         * Performs safe publication of an internal map, assumes internal
-         * caller, assumes that internal caller will not publish the map,
-         * assumes internal caller will only read from the map.
-         * @throws PreReadException From the waitForCache method, will be
-         * thrown if the wait times out.
+         * Creates a plan.
+         * @param indices the indices to read, in any order, none negative
+         * @param maximumGap the largest gap between two indices in the same range
+         * @return the plan
+         * @throws IllegalArgumentException if there are no indices, any index is negative or the gap is negative
          */
 
-        private long[] readFeaturesAndCacheOrGetFeaturesFromCache( NwmProfile profile,
-                                                                   NetcdfFile netcdfFile )
+        static GatherPlan of( int[] indices, int maximumGap )
         {
-            String netcdfFileName = netcdfFile.getLocation();
+            Objects.requireNonNull( indices );
 
-            // Check to see if this netcdf file has features already read
-            // If its already been read, then wait for the cache to be set
-            // and return what was cached.
-            AtomicBoolean validated = this.validatedFeatures.get( netcdfFile );
-            if ( validated.get() )
+            if ( indices.length < 1 )
             {
-                LOGGER.trace( "Already read netCDF resource {}, returning cached.",
-                              netcdfFileName );
-                waitForCache( netcdfFileName );
-                return this.originalFeatures;
+                throw new IllegalArgumentException( "Must pass at least one index." );
             }
-            else
+
+            if ( maximumGap < 0 )
             {
-                LOGGER.trace( "Did not yet read netCDF resource {}",
-                              netcdfFileName );
+                throw new IllegalArgumentException( "The maximum gap must not be negative." );
             }
 
-            String featureVariableName = profile.getFeatureVariable();
-            Variable featureVariable = netcdfFile.findVariable( featureVariableName );
-            assert featureVariable != null;
-
-            // Must find the location of the variable.
-            // Might be nice to assume these are sorted to do a binary search,
-            // but I think it is an unsafe assumption that the values are sorted
-            // and we are looking for the index of the feature id to use for
-            // getting a value from the actual variable needed.
-            try
+            // Sort the indices with their positions, packing both into one long
+            long[] sorted = new long[indices.length];
+            for ( int i = 0; i < indices.length; i++ )
             {
-                // Discover if this Thread is responsible for setting featureCache
-                boolean previouslySet = this.featureCacheRaceResolver.getAndSet( true );
-
-                //If this Thread is not setting the cache, then wait until the cache
-                //is set.
-                if ( previouslySet )
+                if ( indices[i] < 0 )
                 {
-                    waitForCache( netcdfFileName );
+                    throw new IllegalArgumentException( "Index " + indices[i] + " must not be negative." );
                 }
 
-                //Read the features from the netCDF file and clone them to ensure that
-                //we are referring to a fresh copy, and not an internal netCDF copy.
-                LOGGER.debug( "Reading features from {}", netcdfFileName );
-                long[] features = ( long[] ) featureVariable.read()
-                                                            .get1DJavaArray( DataType.LONG );
-                if ( features == null )
-                {
-                    throw new IllegalStateException( "netCDF library returned null array when looking for NWM features." );
-                }
-                features = features.clone();
+                sorted[i] = ( ( long ) indices[i] << 32 ) | i;
+            }
 
-                //Set the cache if this Thread is responsible for it.
-                if ( !previouslySet )
-                {
-                    LOGGER.debug( "About to set the features cache using {}",
-                                  netcdfFileName );
+            Arrays.sort( sorted );
 
-                    // In charge of setting the feature cache, do so.
-                    this.originalFeatures = features.clone();
+            int[] origins = new int[indices.length];
+            int[] ends = new int[indices.length];
+            int[] rangeOfIndex = new int[indices.length];
+            int[] offsetOfIndex = new int[indices.length];
+            int count = 0;
 
-                    // Sort the local features, compare to see if identical and
-                    // set isSorted.
-                    Arrays.sort( features );
-                    if ( Arrays.equals( features, this.originalFeatures ) )
-                    {
-                        this.isSorted = true;
-                    }
+            for ( long next : sorted )
+            {
+                int index = ( int ) ( next >>> 32 );
+                int position = ( int ) next;
 
-                    // Tell waiting Threads that featureCache hath been written.
-                    this.featureCacheGuard.countDown();
-                    LOGGER.debug( "Finished setting the features cache using {}",
-                                  netcdfFileName );
-                }
-                //Otherwise, just check the read features against the cached
-                //features to ensure they are identical.
-                else
+                if ( count == 0 || index - ends[count - 1] > maximumGap )
                 {
-                    LOGGER.debug( "About to read the features cache to compare {}",
-                                  netcdfFileName );
-
-                    // Compare the existing features with those just read, throw an
-                    // exception if they differ (by content).
-                    if ( !Arrays.equals( features, this.originalFeatures ) )
-                    {
-                        throw new PreReadException(
-                                "Non-homogeneous NWM data found. The features from "
-                                + netcdfFile.getLocation()
-                                + " do not match those found in a previously read "
-                                + "netCDF resource in the same NWM timeseries." );
-                    }
-                    LOGGER.debug( "Finished comparing {} to the features cache",
-                                  netcdfFileName );
+                    origins[count] = index;
+                    count++;
                 }
 
-                validated.set( true );
-
-                // Assumes caller will only perform reads, will not publish.
-                return this.originalFeatures;
+                ends[count - 1] = index;
+                rangeOfIndex[position] = count - 1;
+                offsetOfIndex[position] = index - origins[count - 1];
             }
-            catch ( IOException ioe )
+
+            int[] shapes = new int[count];
+            for ( int i = 0; i < count; i++ )
             {
-                throw new PreReadException( "Failed to read features from "
-                                            + netcdfFileName,
-                                            ioe );
+                shapes[i] = ends[i] - origins[i] + 1;
             }
+
+            return new GatherPlan( Arrays.copyOf( origins, count ), shapes, rangeOfIndex, offsetOfIndex );
         }
     }
 
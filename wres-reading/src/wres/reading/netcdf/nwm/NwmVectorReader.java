@@ -57,8 +57,14 @@ public class NwmVectorReader implements TimeSeriesReader
     private static final String WHEN_READING_TIME_SERIES_DATA_FROM_THE_NATIONAL_WATER_MODEL_YOU_MUST_DECLARE =
             "When reading time-series data from the National Water Model, you must declare";
 
-    /** Number of features per feature block/chunk. */
-    private static final int FEATURE_BLOCK_SIZE = 100;
+    /** Minimum number of features per feature block/chunk. */
+    private static final int MINIMUM_FEATURE_BLOCK_SIZE = 100;
+
+    /** Maximum number of features per feature block/chunk. */
+    private static final int MAXIMUM_FEATURE_BLOCK_SIZE = 1000;
+
+    /** The mean gap between sorted feature ids at or below which features are read in blocks of the maximum size. */
+    private static final long DENSE_FEATURE_GAP = 8;
 
     /** Dates error message used repeatedly. */
     private static final String DATES_ERROR_MESSAGE = "One must declare 'reference_dates' with both a 'minimum' and a "
@@ -588,7 +594,11 @@ public class NwmVectorReader implements TimeSeriesReader
 
         LOGGER.debug( "Sorted featureNwmIds: {}", featureNwmIds );
 
-        List<List<Long>> tempListOfLists = ListUtils.partition( featureNwmIds, FEATURE_BLOCK_SIZE );
+        int blockSize = NwmVectorReader.getFeatureBlockSize( featureNwmIds );
+
+        LOGGER.debug( "Reading {} NWM features in blocks of {} features.", featureNwmIds.size(), blockSize );
+
+        List<List<Long>> tempListOfLists = ListUtils.partition( featureNwmIds, blockSize );
         List<SortedSet<Long>> featureBlocks = tempListOfLists.stream()
                 .map( t -> Collections.unmodifiableSortedSet( new TreeSet<>( t ) ) )
                 .toList();
@@ -601,6 +611,40 @@ public class NwmVectorReader implements TimeSeriesReader
         return featureBlocks;
     }
 
+    /**
+     * Returns the number of features to read in each block, which depends on the spread of the feature ids. Each block
+     * is read from each netCDF resource with a gather read that coalesces nearby features into contiguous ranges, so a
+     * block of densely packed features is read in a few ranges and may be larger than a block of sparse features,
+     * which is read in up to one range per feature.
+     * @param sortedFeatureIds the feature ids in ascending order
+     * @return the block size
+     */
+
+    static int getFeatureBlockSize( List<Long> sortedFeatureIds )
+    {
+        int count = sortedFeatureIds.size();
+
+        if ( count <= MINIMUM_FEATURE_BLOCK_SIZE )
+        {
+            return MINIMUM_FEATURE_BLOCK_SIZE;
+        }
+
+        long spread = sortedFeatureIds.get( count - 1 ) - sortedFeatureIds.get( 0 ) + 1;
+
+        // Overflow
+        if ( spread <= 0 )
+        {
+            return MINIMUM_FEATURE_BLOCK_SIZE;
+        }
+
+        long meanGap = Math.max( 1, spread / count );
+
+        // Scale the block size inversely with the mean gap between features
+        long blockSize = MAXIMUM_FEATURE_BLOCK_SIZE * DENSE_FEATURE_GAP / Math.max( DENSE_FEATURE_GAP, meanGap );
+
+        return ( int ) Math.max( MINIMUM_FEATURE_BLOCK_SIZE, blockSize );
+    }
+
     /**
      * Returns the reference times from the inputs.
      * @param dataSource the data source
@@ -4,15 +4,14 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
@@ -20,8 +19,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -29,6 +26,8 @@ import org.apache.commons.math3.util.Precision;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -56,17 +55,11 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
  *
  * <p>Implementation notes:
  *
- * <p>This reader currently performs eager reading of time-series data. It relies on the Jackson framework, 
- * specifically an {@link ObjectMapper}, which maps a JSON byte array into time-series objects. An improved 
- * implementation would stream the underlying bytes into {@link TimeSeries} on demand. Thus, particularly when the 
- * underlying data source is a large file or a large stream that is not chunked at a higher level, this implementation
- * is not very memory efficient, contrary to the recommended implementation in {@link TimeSeriesReader}.
- *
- * <p>TODO: consider a more memory efficient implementation by using the Jackson streaming API. For example:
- * <a href="https://www.baeldung.com/jackson-streaming-api">Jackson</a>. As of v6.7, this is not a tremendous problem
- * because the main application of this class is reading directly from WRDS whereby the responses are chunked at a
- * higher level. However, this limitation would become more acute were there a need to read a large WRDS-formatted
- * JSON file from a local disk.
+ * <p>This reader performs incremental reading of time-series data using the Jackson streaming API. The document is
+ * read token by token and each forecast, which contains one time-series, is mapped to a {@link Forecast} and then
+ * transformed to a {@link TimeSeries} on demand. Thus, a large file or a large stream that is not chunked at a higher
+ * level can be read without holding the whole document in memory. The header, which contains the missing values, is
+ * expected to precede the forecasts. Otherwise, the forecasts are held until the header is read.
  *
  * @author James Brown
  * @author Christopher Tubbs
@@ -78,7 +71,7 @@ public class WrdsAhpsJsonReader implements TimeSeriesReader
     /** Logger. */
     private static final Logger LOGGER = LoggerFactory.getLogger( WrdsAhpsJsonReader.class );
 
-    /** Maps JSON bytes to POJOs. */
+    /** Maps JSON bytes to POJOs and creates streaming parsers. */
     private static final ObjectMapper OBJECT_MAPPER =
             new ObjectMapper().registerModule( new JavaTimeModule() )
                               .configure( DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, true );
@@ -133,11 +126,10 @@ public class WrdsAhpsJsonReader implements TimeSeriesReader
         // Validate the disposition of the data source
         ReaderUtilities.validateDataDisposition( dataSource, DataDisposition.JSON_WRDS_AHPS );
 
-        // Get the lazy supplier of time-series data
+        // Get the lazy supplier of time-series data, which reads incrementally
         Supplier<TimeSeriesTuple> supplier = this.getTimeSeriesSupplier( dataSource, inputStream );
 
-        // Generate a stream of time-series.
-        // This is merely a facade on incremental reading until the underlying supplier reads incrementally
+        // Generate a stream of time-series
         return Stream.generate( supplier )
                      // Finite stream, proceeds while a time-series is returned
                      .takeWhile( Objects::nonNull )
@@ -158,9 +150,8 @@ public class WrdsAhpsJsonReader implements TimeSeriesReader
     }
 
     /**
-     * <p>Returns a time-series supplier from the inputs. Currently, this method performs eager reading.
-     *
-     * <p> TODO: implement incremental reading using the Jackson Streaming API or similar.
+     * Returns a time-series supplier from the inputs, which reads one forecast from the stream each time a time-series
+     * is requested.
      *
      * @param dataSource the data source
      * @param inputStream the stream to read
@@ -170,128 +161,22 @@ public class WrdsAhpsJsonReader implements TimeSeriesReader
 
     private Supplier<TimeSeriesTuple> getTimeSeriesSupplier( DataSource dataSource,
                                                              InputStream inputStream )
-    {
-        AtomicInteger iterator = new AtomicInteger();
-        AtomicReference<List<TimeSeriesTuple>> timeSeriesTuples = new AtomicReference<>();
-
-        // Create a supplier that returns a time-series once complete
-        return () -> {
-
-            // Read all the time-series eagerly on first use: this will still delay any read until a terminal stream
-            // operation pulls from the supplier (which is why we use a reference holder and do not request the 
-            // time-series outside of this lambda), but it will then acquire all the time-series eagerly, i.e., now
-            if ( Objects.isNull( timeSeriesTuples.get() ) )
-            {
-                List<TimeSeriesTuple> eagerSeries = this.getTimeSeries( dataSource, inputStream );
-
-                LOGGER.debug( "Read {} time-series from {}.", eagerSeries.size(), dataSource );
-
-                timeSeriesTuples.set( eagerSeries );
-            }
-
-            List<TimeSeriesTuple> tuples = timeSeriesTuples.get();
-
-            // More time-series to return?
-            if ( iterator.get() < tuples.size() )
-            {
-                int index = iterator.getAndIncrement();
-                return tuples.get( index );
-            }
-
-            // Null sentinel to close stream
-            return null;
-        };
-    }
-
-    /**
-     * Returns the time-series from the inputs.
-     *
-     * @param dataSource the data source
-     * @param inputStream the stream to read
-     * @return a time-series supplier
-     * @throws ReadException if the data could not be read for any reason
-     */
-
-    private List<TimeSeriesTuple> getTimeSeries( DataSource dataSource,
-                                                 InputStream inputStream )
     {
         URI uri = dataSource.getUri();
 
         try
         {
-            byte[] rawForecast = inputStream.readAllBytes();
-
-            if ( Objects.isNull( rawForecast ) )
-            {
-                return Collections.emptyList();
-            }
-
-            // It is conceivable that we could tee/pipe the data to both
-            // the md5sum and the parser at the same time, but this involves
-            // more complexity and may not be worth it. For now assume that we are
-            // not going to exhaust our heap by including the whole forecast
-            // here in memory temporarily.
-
-            if ( LOGGER.isTraceEnabled() )
-            {
-                LOGGER.trace( "Time series from {} as UTF-8: {}",
-                              uri,
-                              new String( rawForecast,
-                                          StandardCharsets.UTF_8 ) );
-            }
-
-            // Notwithstanding the naming of these POJOs, they actually admit both forecasts and observations
-            ForecastResponse response = OBJECT_MAPPER.readValue( rawForecast,
-                                                                 ForecastResponse.class );
-
-            Forecast[] forecasts = response.getForecasts();
-
-            if ( Objects.isNull( forecasts ) )
-            {
-                throw new ReadException( "Failed to obtain a response from the WRDS url "
-                                         + uri
-                                         + " Was the correct URL provided in the declaration?" );
-            }
+            JsonParser parser = OBJECT_MAPPER.getFactory()
+                                             .createParser( inputStream );
 
-            // The response should include the missing values, but, in case we reuse
-            // this code later to read other forecasts, I allow for null.  If not null
-            // output the list of missing values to debug.
-            double[] missingValues = response.getHeader()
-                                             .getMissingValues();
-
-            if ( LOGGER.isDebugEnabled() )
-            {
-                if ( Objects.nonNull( missingValues ) )
-                {
-                    LOGGER.debug( "The time series specified the following missing values: {}.",
-                                  Arrays.toString( response.getHeader()
-                                                           .getMissingValues() ) );
-                }
-                else
-                {
-                    LOGGER.debug( "The time series specified no missing values." );
-                }
-            }
-
-            List<TimeSeriesTuple> results = new ArrayList<>( forecasts.length );
-
-            for ( Forecast forecast : forecasts )
-            {
-                LOGGER.debug( "Parsing {}.", forecast );
-                TimeSeriesTuple timeSeriesTuple = this.getTimeSeries( forecast,
-                                                                      missingValues,
-                                                                      dataSource );
-
-                results.add( timeSeriesTuple );
-            }
-
-            return Collections.unmodifiableList( results );
+            // Create a supplier that returns a time-series once complete
+            return new ForecastSupplier( parser, dataSource );
         }
-        catch ( IOException je )
+        catch ( IOException e )
         {
             throw new ReadException( "Failed to parse the response body from WRDS url "
                                      + uri,
-                                     je );
+                                     e );
         }
     }
 
@@ -457,6 +342,216 @@ public class WrdsAhpsJsonReader implements TimeSeriesReader
         }
     }
 
+    /**
+     * Reads the forecasts from a document incrementally, mapping each forecast to a time-series when requested. Supplies
+     * null when there are no more time-series to read.
+     */
+
+    private class ForecastSupplier implements Supplier<TimeSeriesTuple>
+    {
+        /** The parser. */
+        private final JsonParser parser;
+
+        /** The data source. */
+        private final DataSource dataSource;
+
+        /** The forecasts read before the header. */
+        private final Deque<Forecast> pending = new ArrayDeque<>();
+
+        /** The missing values, optional. */
+        private double[] missingValues;
+
+        /** Is true if the header has been read. */
+        private boolean hasHeader;
+
+        /** Is true if an array of forecasts has been found. */
+        private boolean hasForecasts;
+
+        /** Is true when the parser is within the array of forecasts. */
+        private boolean inForecasts;
+
+        /** Is true when the document has been read. */
+        private boolean isComplete;
+
+        @Override
+        public TimeSeriesTuple get()
+        {
+            try
+            {
+                TimeSeriesTuple next = null;
+                while ( Objects.isNull( next ) && !this.isComplete )
+                {
+                    next = this.next();
+                }
+
+                // Null sentinel to close stream
+                return next;
+            }
+            catch ( IOException je )
+            {
+                throw new ReadException( "Failed to parse the response body from WRDS url "
+                                         + this.dataSource.getUri(),
+                                         je );
+            }
+        }
+
+        /**
+         * Reads the next part of the document.
+         *
+         * @return the next time-series or null if the part read did not complete a time-series
+         * @throws IOException if the document could not be read
+         */
+
+        private TimeSeriesTuple next() throws IOException
+        {
+            // Forecasts that preceded the header
+            if ( this.hasHeader && !this.pending.isEmpty() )
+            {
+                return this.getTimeSeries( this.pending.poll() );
+            }
+
+            JsonToken token = this.parser.nextToken();
+
+            if ( Objects.isNull( token ) )
+            {
+                this.complete();
+                return null;
+            }
+
+            if ( this.inForecasts )
+            {
+                if ( token == JsonToken.END_ARRAY )
+                {
+                    this.inForecasts = false;
+                    return null;
+                }
+
+                // Notwithstanding the naming of these POJOs, they actually admit both forecasts and observations
+                Forecast forecast = this.parser.readValueAs( Forecast.class );
+
+                if ( Objects.isNull( forecast ) )
+                {
+                    return null;
+                }
+
+                if ( !this.hasHeader )
+                {
+                    this.pending.add( forecast );
+                    return null;
+                }
+
+                return this.getTimeSeries( forecast );
+            }
+
+            if ( token == JsonToken.FIELD_NAME && this.parser.getParsingContext()
+                                                             .getParent()
+                                                             .inRoot() )
+            {
+                String name = this.parser.currentName();
+                JsonToken value = this.parser.nextToken();
+
+                if ( ( "forecasts".equals( name ) || "timeseriesDataset".equals( name ) )
+                     && value == JsonToken.START_ARRAY )
+                {
+                    this.hasForecasts = true;
+                    this.inForecasts = true;
+                }
+                else if ( "header".equals( name ) && value == JsonToken.START_OBJECT )
+                {
+                    this.readHeader( this.parser.readValueAs( Header.class ) );
+                }
+                else
+                {
+                    this.parser.skipChildren();
+                }
+            }
+            else if ( token == JsonToken.END_OBJECT && this.parser.getParsingContext()
+                                                                  .inRoot() )
+            {
+                this.complete();
+            }
+
+            return null;
+        }
+
+        /**
+         * Reads the header.
+         *
+         * @param header the header
+         */
+
+        private void readHeader( Header header )
+        {
+            this.hasHeader = true;
+
+            // The response should include the missing values, but, in case we reuse
+            // this code later to read other forecasts, I allow for null.  If not null
+            // output the list of missing values to debug.
+            if ( Objects.nonNull( header ) )
+            {
+                this.missingValues = header.getMissingValues();
+            }
+
+            if ( LOGGER.isDebugEnabled() )
+            {
+                if ( Objects.nonNull( this.missingValues ) )
+                {
+                    LOGGER.debug( "The time series specified the following missing values: {}.",
+                                  Arrays.toString( this.missingValues ) );
+                }
+                else
+                {
+                    LOGGER.debug( "The time series specified no missing values." );
+                }
+            }
+        }
+
+        /**
+         * Completes the reading of the document.
+         */
+
+        private void complete()
+        {
+            if ( !this.hasForecasts )
+            {
+                throw new ReadException( "Failed to obtain a response from the WRDS url "
+                                         + this.dataSource.getUri()
+                                         + " Was the correct URL provided in the declaration?" );
+            }
+
+            // No header, so complete any forecasts without missing values
+            this.hasHeader = true;
+
+            if ( this.pending.isEmpty() )
+            {
+                this.isComplete = true;
+            }
+        }
+
+        /**
+         * @param forecast the forecast
+         * @return the time-series, possibly null
+         */
+
+        private TimeSeriesTuple getTimeSeries( Forecast forecast )
+        {
+            LOGGER.debug( "Parsing {}.", forecast );
+            return WrdsAhpsJsonReader.this.getTimeSeries( forecast, this.missingValues, this.dataSource );
+        }
+
+        /**
+         * Creates an instance.
+         * @param parser the parser
+         * @param dataSource the data source
+         */
+
+        private ForecastSupplier( JsonParser parser, DataSource dataSource )
+        {
+            this.parser = parser;
+            this.dataSource = dataSource;
+        }
+    }
+
     /**
      * Hidden constructor.
      */
@@ -0,0 +1,520 @@
+package wres.reading.wrds.geography;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.config.yaml.components.FeatureAuthority;
+
+/**
+ * <p>A cache of feature crosswalks, which maps the name of a feature in one feature authority to the name of the same
+ * feature in another authority, as found by a feature service. The cache has two tiers:
+ *
+ * <ol>
+ * <li>An in-memory tier, which is shared by all lookups in this process.</li>
+ * <li>An optional persistent tier, which is a directory of files, one for each feature service and pair of
+ * authorities, and which is shared by all processes that use the same directory.</li>
+ * </ol>
+ *
+ * <p>Each crosswalk expires after a time-to-live, after which it is looked up again. The persistent tier is read
+ * lazily, once per feature service and pair of authorities, and new crosswalks are appended to it. Each file is read,
+ * compacted and appended under a lock on a separate lock file, so that no process loses the crosswalks that another
+ * process appends. A persistent tier that cannot be read or written is ignored with a warning, leaving the in-memory
+ * tier.
+ *
+ * @author James Brown
+ */
+
+@ThreadSafe
+class FeatureCrosswalkCache
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( FeatureCrosswalkCache.class );
+
+    /** System property for the directory of the persistent tier. */
+    private static final String DIRECTORY_PROPERTY = "wres.featureCrosswalkCacheDirectory";
+
+    /** System property for the time-to-live in hours, where zero disables the cache. */
+    private static final String TIME_TO_LIVE_PROPERTY = "wres.featureCrosswalkCacheHours";
+
+    /** The default time-to-live in hours. */
+    private static final int DEFAULT_TIME_TO_LIVE_HOURS = 24;
+
+    /** The field delimiter within a persistent file. */
+    private static final String FIELD_DELIMITER = "\t";
+
+    /** The suffix of a persistent file. */
+    private static final String FILE_SUFFIX = ".tsv";
+
+    /** The suffix of the lock file for a persistent file. */
+    private static final String LOCK_SUFFIX = ".lock";
+
+    /** A monitor that excludes the threads of this process from a persistent file while one thread holds its lock. */
+    private static final Object FILE_LOCK_MONITOR = new Object();
+
+    /** The crosswalks for each feature service and pair of authorities. */
+    private final Map<Partition, Map<String, Crosswalk>> crosswalks = new ConcurrentHashMap<>();
+
+    /** The directory of the persistent tier or null for no persistent tier. */
+    private final Path directory;
+
+    /** The time-to-live of each crosswalk. */
+    private final Duration timeToLive;
+
+    /**
+     * Creates an instance from the system properties. The directory of the persistent tier is given by the
+     * {@code wres.featureCrosswalkCacheDirectory} system property, which defaults to a directory within the temporary
+     * directory. The time-to-live in hours is given by the {@code wres.featureCrosswalkCacheHours} system property,
+     * which defaults to 24 hours. A time-to-live of zero disables the cache.
+     *
+     * @return an instance
+     */
+
+    static FeatureCrosswalkCache fromSystemProperties()
+    {
+        String directoryName = System.getProperty( DIRECTORY_PROPERTY );
+        Path directory;
+        if ( Objects.nonNull( directoryName ) && !directoryName.isBlank() )
+        {
+            directory = Paths.get( directoryName );
+        }
+        else
+        {
+            directory = Paths.get( System.getProperty( "java.io.tmpdir" ), "wres_feature_crosswalks" );
+        }
+
+        int hours = DEFAULT_TIME_TO_LIVE_HOURS;
+        String hoursString = System.getProperty( TIME_TO_LIVE_PROPERTY );
+        if ( Objects.nonNull( hoursString ) )
+        {
+            try
+            {
+                hours = Integer.parseInt( hoursString );
+            }
+            catch ( NumberFormatException e )
+            {
+                LOGGER.warn( "Could not parse the system property {} as an integer number of hours: {}. Using the "
+                             + "default of {} hours.",
+                             TIME_TO_LIVE_PROPERTY,
+                             hoursString,
+                             DEFAULT_TIME_TO_LIVE_HOURS );
+            }
+        }
+
+        return FeatureCrosswalkCache.of( directory, Duration.ofHours( Math.max( 0, hours ) ) );
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param directory the directory of the persistent tier, null for no persistent tier
+     * @param timeToLive the time-to-live of each crosswalk, zero to disable the cache
+     * @return an instance
+     * @throws NullPointerException if the timeToLive is null
+     * @throws IllegalArgumentException if the timeToLive is negative
+     */
+
+    static FeatureCrosswalkCache of( Path directory, Duration timeToLive )
+    {
+        return new FeatureCrosswalkCache( directory, timeToLive );
+    }
+
+    /**
+     * Returns the crosswalks cached for the prescribed feature names.
+     *
+     * @param service the feature service
+     * @param from the authority of the feature names
+     * @param to the authority to find
+     * @param featureNames the feature names in the from authority
+     * @return the cached names, from authority as key and to authority as value, for each name with a live crosswalk
+     * @throws NullPointerException if any input is null
+     */
+
+    Map<String, String> get( URI service, FeatureAuthority from, FeatureAuthority to, Set<String> featureNames )
+    {
+        Objects.requireNonNull( service );
+        Objects.requireNonNull( from );
+        Objects.requireNonNull( to );
+        Objects.requireNonNull( featureNames );
+
+        if ( this.isDisabled() )
+        {
+            return Map.of();
+        }
+
+        Map<String, Crosswalk> partition = this.getPartition( new Partition( service, from, to ) );
+        Instant now = Instant.now();
+        Map<String, String> found = new HashMap<>();
+        for ( String name : featureNames )
+        {
+            Crosswalk crosswalk = partition.get( name );
+            if ( Objects.nonNull( crosswalk ) && crosswalk.expires()
+                                                          .isAfter( now ) )
+            {
+                found.put( name, crosswalk.name() );
+            }
+        }
+
+        LOGGER.debug( "Found {} of {} feature crosswalks from {} to {} in the cache.",
+                      found.size(),
+                      featureNames.size(),
+                      from,
+                      to );
+
+        return found;
+    }
+
+    /**
+     * Adds crosswalks to the cache.
+     *
+     * @param service the feature service
+     * @param from the authority of the feature names
+     * @param to the authority found
+     * @param found the names found, from authority as key and to authority as value
+     * @throws NullPointerException if any input is null
+     */
+
+    void put( URI service, FeatureAuthority from, FeatureAuthority to, Map<String, String> found )
+    {
+        Objects.requireNonNull( service );
+        Objects.requireNonNull( from );
+        Objects.requireNonNull( to );
+        Objects.requireNonNull( found );
+
+        if ( this.isDisabled() || found.isEmpty() )
+        {
+            return;
+        }
+
+        Partition key = new Partition( service, from, to );
+        Map<String, Crosswalk> partition = this.getPartition( key );
+        Instant expires = Instant.now()
+                                 .plus( this.timeToLive );
+        StringBuilder lines = new StringBuilder();
+        for ( Map.Entry<String, String> next : found.entrySet() )
+        {
+            String name = next.getKey();
+            String value = next.getValue();
+            partition.put( name, new Crosswalk( value, expires ) );
+
+            // Names with delimiters cannot be persisted
+            if ( FeatureCrosswalkCache.isPersistable( name ) && FeatureCrosswalkCache.isPersistable( value ) )
+            {
+                lines.append( name )
+                     .append( FIELD_DELIMITER )
+                     .append( value )
+                     .append( FIELD_DELIMITER )
+                     .append( expires.toEpochMilli() )
+                     .append( System.lineSeparator() );
+            }
+        }
+
+        this.append( key, lines.toString() );
+    }
+
+    /**
+     * @return true if the cache is disabled, otherwise false
+     */
+
+    private boolean isDisabled()
+    {
+        return this.timeToLive.isZero();
+    }
+
+    /**
+     * Returns the in-memory crosswalks for a partition, reading them from the persistent tier on first access.
+     * @param key the partition key
+     * @return the crosswalks
+     */
+
+    private Map<String, Crosswalk> getPartition( Partition key )
+    {
+        return this.crosswalks.computeIfAbsent( key, this::read );
+    }
+
+    /**
+     * Reads the live crosswalks for a partition from the persistent tier. Rewrites the persistent file without any
+     * expired or replaced crosswalks, when present.
+     * @param key the partition key
+     * @return the crosswalks
+     */
+
+    private Map<String, Crosswalk> read( Partition key )
+    {
+        Map<String, Crosswalk> partition = new ConcurrentHashMap<>();
+        Path path = this.getPath( key );
+
+        if ( Objects.isNull( path ) || !Files.exists( path ) )
+        {
+            return partition;
+        }
+
+        try
+        {
+            this.runLocked( path, () -> this.readAndCompact( path, partition ) );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to read the feature crosswalk cache at {}. The cache will be rebuilt.", path, e );
+        }
+
+        return partition;
+    }
+
+    /**
+     * Reads the live crosswalks from a persistent file and compacts the file when it contains any expired or
+     * replaced crosswalks. Must be called while holding the lock on the file, so that no crosswalks are appended
+     * between reading and compacting the file.
+     * @param path the path
+     * @param partition the crosswalks to populate
+     * @throws IOException if the file could not be read
+     */
+
+    private void readAndCompact( Path path, Map<String, Crosswalk> partition ) throws IOException
+    {
+        Instant now = Instant.now();
+        List<String> lines = Files.readAllLines( path, StandardCharsets.UTF_8 );
+
+        try
+        {
+            for ( String line : lines )
+            {
+                String[] fields = line.split( FIELD_DELIMITER );
+                if ( fields.length == 3 )
+                {
+                    Instant expires = Instant.ofEpochMilli( Long.parseLong( fields[2] ) );
+                    if ( expires.isAfter( now ) )
+                    {
+                        partition.put( fields[0], new Crosswalk( fields[1], expires ) );
+                    }
+                }
+            }
+        }
+        catch ( NumberFormatException e )
+        {
+            LOGGER.warn( "Failed to read the feature crosswalk cache at {}. The cache will be rebuilt.", path, e );
+        }
+
+        LOGGER.debug( "Read {} live feature crosswalks from {}.", partition.size(), path );
+
+        // Compact the file
+        if ( lines.size() > partition.size() )
+        {
+            this.rewrite( path, partition );
+        }
+    }
+
+    /**
+     * Rewrites a persistent file with the prescribed crosswalks. The crosswalks are written to a temporary file, which
+     * then replaces the persistent file atomically, so that a reader never sees a partial file. Must be called while
+     * holding the lock on the file.
+     * @param path the path
+     * @param partition the crosswalks
+     */
+
+    private void rewrite( Path path, Map<String, Crosswalk> partition )
+    {
+        try
+        {
+            Path temporary = Files.createTempFile( this.directory, "crosswalks", FILE_SUFFIX );
+            try ( BufferedWriter writer = Files.newBufferedWriter( temporary, StandardCharsets.UTF_8 ) )
+            {
+                for ( Map.Entry<String, Crosswalk> next : partition.entrySet() )
+                {
+                    writer.write( next.getKey() );
+                    writer.write( FIELD_DELIMITER );
+                    writer.write( next.getValue()
+                                      .name() );
+                    writer.write( FIELD_DELIMITER );
+                    writer.write( Long.toString( next.getValue()
+                                                     .expires()
+                                                     .toEpochMilli() ) );
+                    writer.newLine();
+                }
+            }
+
+            Files.move( temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to compact the feature crosswalk cache at {}.", path, e );
+        }
+    }
+
+    /**
+     * Appends lines to the persistent file of a partition.
+     * @param key the partition key
+     * @param lines the lines
+     */
+
+    private void append( Partition key, String lines )
+    {
+        Path path = this.getPath( key );
+
+        if ( Objects.isNull( path ) || lines.isEmpty() )
+        {
+            return;
+        }
+
+        try
+        {
+            Files.createDirectories( this.directory );
+            this.runLocked( path, () -> Files.writeString( path,
+                                                           lines,
+                                                           StandardCharsets.UTF_8,
+                                                           StandardOpenOption.CREATE,
+                                                           StandardOpenOption.APPEND ) );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Failed to write the feature crosswalk cache at {}.", path, e );
+        }
+    }
+
+    /**
+     * Runs an action on a persistent file while holding a lock that excludes all other threads and processes that
+     * use the file. The lock is taken on a separate lock file, which is never replaced, because compacting replaces
+     * the persistent file. A file lock is held on behalf of the whole process and cannot be acquired twice within it,
+     * so the threads of this process, including those of other instances, are excluded by a shared monitor.
+     * @param path the path to the persistent file
+     * @param action the action
+     * @throws IOException if the lock could not be acquired or the action failed
+     */
+
+    private void runLocked( Path path, LockedAction action ) throws IOException
+    {
+        Path lockPath = path.resolveSibling( path.getFileName() + LOCK_SUFFIX );
+
+        synchronized ( FILE_LOCK_MONITOR )
+        {
+            try ( FileChannel channel = FileChannel.open( lockPath,
+                                                          StandardOpenOption.CREATE,
+                                                          StandardOpenOption.WRITE );
+                  FileLock lock = channel.lock() )
+            {
+                LOGGER.trace( "Acquired {}.", lock );
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * @param key the partition key
+     * @return the path to the persistent file for the partition or null if there is no persistent tier
+     */
+
+    private Path getPath( Partition key )
+    {
+        if ( Objects.isNull( this.directory ) )
+        {
+            return null;
+        }
+
+        // A stable name for the feature service
+        String service = Integer.toHexString( key.service()
+                                                 .normalize()
+                                                 .toString()
+                                                 .hashCode() );
+        String name = service
+                      + "_"
+                      + key.from()
+                           .name()
+                           .toLowerCase()
+                      + "_"
+                      + key.to()
+                           .name()
+                           .toLowerCase()
+                      + FILE_SUFFIX;
+
+        return this.directory.resolve( name );
+    }
+
+    /**
+     * @param name the name
+     * @return true if the name can be persisted, otherwise false
+     */
+
+    private static boolean isPersistable( String name )
+    {
+        return Objects.nonNull( name )
+               && !name.contains( FIELD_DELIMITER )
+               && !name.contains( "\n" )
+               && !name.contains( "\r" );
+    }
+
+    /**
+     * An action on a persistent file that is run while holding the lock on the file.
+     */
+    @FunctionalInterface
+    private interface LockedAction
+    {
+        /**
+         * Runs the action.
+         * @throws IOException if the action failed
+         */
+        void run() throws IOException;
+    }
+
+    /**
+     * A feature service and pair of authorities.
+     * @param service the feature service
+     * @param from the from authority
+     * @param to the to authority
+     */
+    private record Partition( URI service, FeatureAuthority from, FeatureAuthority to )
+    {
+    }
+
+    /**
+     * A crosswalk to a feature name.
+     * @param name the feature name in the to authority
+     * @param expires the expiry time
+     */
+    private record Crosswalk( String name, Instant expires )
+    {
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param directory the directory of the persistent tier, null for no persistent tier
+     * @param timeToLive the time-to-live of each crosswalk, zero to disable the cache
+     * @throws NullPointerException if the timeToLive is null
+     * @throws IllegalArgumentException if the timeToLive is negative
+     */
+
+    private FeatureCrosswalkCache( Path directory, Duration timeToLive )
+    {
+        Objects.requireNonNull( timeToLive );
+
+        if ( timeToLive.isNegative() )
+        {
+            throw new IllegalArgumentException( "The time-to-live of a feature crosswalk cannot be negative: "
+                                                + timeToLive
+                                                + "." );
+        }
+
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+    }
+}
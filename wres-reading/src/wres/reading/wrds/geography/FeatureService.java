@@ -16,12 +16,19 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 
 import okhttp3.OkHttpClient;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -100,6 +107,12 @@ class FeatureService
                                                                     + "team for help.";
     private static final int MAX_SAFE_URL_LENGTH = 2000;
 
+    /** The maximum number of batches of features to request from a feature service at once. */
+    private static final int MAXIMUM_PARALLEL_REQUESTS = 4;
+
+    /** A cache of feature crosswalks, which is shared across evaluations. */
+    private static final FeatureCrosswalkCache CACHE = FeatureCrosswalkCache.fromSystemProperties();
+
     /**
      * Given a dimension "from" and dimension "to", look up the set of features.
      * @param evaluation The declaration to use when printing error message.
@@ -121,8 +134,37 @@ class FeatureService
                                            FeatureAuthority from,
                                            FeatureAuthority to,
                                            Set<String> featureNames )
+    {
+        return FeatureService.bulkLookup( evaluation, featureService, from, to, featureNames, CACHE );
+    }
+
+    /**
+     * Given a dimension "from" and dimension "to", look up the set of features, first from the prescribed cache of
+     * feature crosswalks and then, for any features not cached, from the feature service.
+     * @param evaluation The declaration to use when printing error message.
+     * @param featureService The featureService element, optional unless lookup
+     *                       ends up being required.
+     * @param from The known feature dimension, in which "featureNames" exist.
+     * @param to The unknown feature dimension, the dimension to search in.
+     * @param featureNames The names in the "from" dimension to look for in "to"
+     * @param cache The cache of feature crosswalks to use for a web service
+     * @return The Set of name pairs: "from" as key, "to" as value.
+     * @throws DeclarationException When a feature service was needed but null
+     * @throws ReadException When the count of features in response differs from the count of feature names
+     *                       requested, or when the requested "to" was not found in the response.
+     * @throws UnsupportedOperationException When unknown "from" or "to" given or the API version is insupported
+     * @throws NullPointerException When projectConfig or featureNames is null.
+     */
+
+    static Map<String, String> bulkLookup( EvaluationDeclaration evaluation,
+                                           wres.config.yaml.components.FeatureService featureService,
+                                           FeatureAuthority from,
+                                           FeatureAuthority to,
+                                           Set<String> featureNames,
+                                           FeatureCrosswalkCache cache )
     {
         Objects.requireNonNull( evaluation );
+        Objects.requireNonNull( cache );
         Objects.requireNonNull( featureNames );
 
         Map<String, String> locations = new HashMap<>( featureNames.size() );
@@ -174,6 +216,47 @@ class FeatureService
         }
 
         URI featureServiceBaseUri = featureService.uri();
+
+        // Only cache the responses of a web service, which are expensive to acquire
+        boolean useCache = ReaderUtilities.isWebSource( featureServiceBaseUri );
+        Set<String> missingFeatureNames = featureNames;
+        if ( useCache )
+        {
+            Map<String, String> cached = cache.get( featureServiceBaseUri, from, to, featureNames );
+            locations.putAll( cached );
+            missingFeatureNames = new HashSet<>( featureNames );
+            missingFeatureNames.removeAll( cached.keySet() );
+        }
+
+        List<Set<String>> batches = FeatureService.getBatches( featureServiceBaseUri, from, missingFeatureNames );
+        Map<String, String> found = FeatureService.getBatchesOfFeatures( from, to, featureServiceBaseUri, batches );
+        locations.putAll( found );
+
+        if ( useCache )
+        {
+            cache.put( featureServiceBaseUri, from, to, found );
+        }
+
+        LOGGER.debug( "For from={} and to={}, found these: {}",
+                      from,
+                      to,
+                      locations );
+        return Collections.unmodifiableMap( locations );
+    }
+
+    /**
+     * Splits the feature names into batches, each of which can be requested with a URL of a safe length.
+     * @param featureServiceBaseUri The base URI from which to build a full URI.
+     * @param from The known feature authority, in which "featureNames" exist.
+     * @param featureNames The names in the "from" dimension to look for in "to"
+     * @return the batches of feature names
+     */
+
+    private static List<Set<String>> getBatches( URI featureServiceBaseUri,
+                                                 FeatureAuthority from,
+                                                 Set<String> featureNames )
+    {
+        List<Set<String>> batches = new ArrayList<>();
         Set<String> batchOfFeatureNames = new HashSet<>();
 
         // Track how large the URL gets. Base uri, from, plus 2 for the slashes.
@@ -187,45 +270,91 @@ class FeatureService
         {
             int addedLength = featureName.length() + 1;
 
-            if ( totalLength + addedLength <= MAX_SAFE_URL_LENGTH )
+            if ( totalLength + addedLength > MAX_SAFE_URL_LENGTH && !batchOfFeatureNames.isEmpty() )
             {
-                LOGGER.trace( "totalLength {} + addedLength {} <= MAX_SAFE_URL_LENGTH {}",
-                              totalLength,
-                              addedLength,
-                              MAX_SAFE_URL_LENGTH );
-                batchOfFeatureNames.add( featureName );
-                totalLength += addedLength;
-                continue;
+                LOGGER.debug( "One more feature name would be unsafe length URL: {}",
+                              batchOfFeatureNames );
+                batches.add( batchOfFeatureNames );
+                batchOfFeatureNames = new HashSet<>();
+                totalLength = baseLength;
             }
 
-            LOGGER.debug( "One more feature name would be unsafe length URL: {}",
+            batchOfFeatureNames.add( featureName );
+            totalLength += addedLength;
+        }
+
+        if ( !batchOfFeatureNames.isEmpty() )
+        {
+            LOGGER.debug( "Last of the feature names to request: {}",
                           batchOfFeatureNames );
-            // At this point there are more features to go, but we hit the safe
-            // URL length limit.
-            Map<String, String> batchOfResults =
-                    FeatureService.getBatchOfFeatures( from,
-                                                       to,
-                                                       featureServiceBaseUri,
-                                                       batchOfFeatureNames );
-            locations.putAll( batchOfResults );
-            batchOfFeatureNames = new HashSet<>();
-            totalLength = baseLength;
-        }
-
-        LOGGER.debug( "Last of the feature names to request: {}",
-                      batchOfFeatureNames );
-        // Get the remaining features.
-        Map<String, String> batchOfResults =
-                FeatureService.getBatchOfFeatures( from,
-                                                   to,
-                                                   featureServiceBaseUri,
-                                                   batchOfFeatureNames );
-        locations.putAll( batchOfResults );
+            batches.add( batchOfFeatureNames );
+        }
+
+        return Collections.unmodifiableList( batches );
+    }
+
+    /**
+     * Requests the batches of features, up to {@link #MAXIMUM_PARALLEL_REQUESTS} at once.
+     * @param from The known feature authority, in which "featureNames" exist.
+     * @param to The unknown feature authority, the dimension to search in.
+     * @param featureServiceBaseUri The base URI from which to build a full URI.
+     * @param batches The batches of names in the "from" dimension to look for in "to"
+     * @return The Set of name pairs: "from" as key, "to" as value.
+     * @throws ReadException When any batch could not be read.
+     */
+
+    private static Map<String, String> getBatchesOfFeatures( FeatureAuthority from,
+                                                             FeatureAuthority to,
+                                                             URI featureServiceBaseUri,
+                                                             List<Set<String>> batches )
+    {
+        if ( batches.isEmpty() )
+        {
+            return Collections.emptyMap();
+        }
+
+        // One batch, so request directly
+        if ( batches.size() == 1 )
+        {
+            return FeatureService.getBatchOfFeatures( from, to, featureServiceBaseUri, batches.get( 0 ) );
+        }
+
+        Map<String, String> locations = new HashMap<>();
+        int threadCount = Math.min( batches.size(), MAXIMUM_PARALLEL_REQUESTS );
+        ThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern( "Feature Service Thread %d" )
+                                                                      .build();
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount, threadFactory );
+
+        try
+        {
+            List<CompletableFuture<Map<String, String>>> futures = new ArrayList<>( batches.size() );
+            for ( Set<String> batch : batches )
+            {
+                Supplier<Map<String, String>> request =
+                        () -> FeatureService.getBatchOfFeatures( from, to, featureServiceBaseUri, batch );
+                futures.add( CompletableFuture.supplyAsync( request, executor ) );
+            }
+
+            for ( CompletableFuture<Map<String, String>> future : futures )
+            {
+                locations.putAll( future.join() );
+            }
+        }
+        catch ( CompletionException e )
+        {
+            // Propagate the original exception where possible
+            if ( e.getCause() instanceof RuntimeException runtimeException )
+            {
+                throw runtimeException;
+            }
+
+            throw new ReadException( "Failed to read features from " + featureServiceBaseUri + ".", e );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
 
-        LOGGER.debug( "For from={} and to={}, found these: {}",
-                      from,
-                      to,
-                      locations );
         return Collections.unmodifiableMap( locations );
     }
 
@@ -1,13 +1,18 @@
 package wres.reading.wrds.nwm;
 
 import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import wres.reading.ReaderUtilities;
 
@@ -19,28 +24,93 @@ import wres.reading.ReaderUtilities;
  */
 public class DateTimeDeserializer extends JsonDeserializer<Instant>
 {
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( DateTimeDeserializer.class );
+
+    /** Lenient formatting in the "basic" ISO8601 format, hours and seconds are optional. */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( "yyyyMMdd'T'HH[mm[ss]]'Z'" )
+                                                                        .withZone( ReaderUtilities.UTC );
+
     @Override
     public Instant deserialize( JsonParser jp, DeserializationContext context )
             throws IOException
     {
-        JsonNode node = jp.getCodec()
-                          .readTree( jp );
+        // Parse the instant.
+        if ( jp.currentToken() != JsonToken.VALUE_STRING )
+        {
+            throw new IOException( "Could not find a datetime field in the document, which is not allowed." );
+        }
 
-        String time;
+        return DateTimeDeserializer.parse( jp.getText() );
+    }
 
-        // Parse the instant.
-        if ( node.isTextual() )
+    /**
+     * Parses a datetime string in the ISO8601 "basic" format with optional minutes and seconds. The digits are read
+     * directly from the string when the string has one of the expected lengths, which avoids the overhead of a
+     * {@link DateTimeFormatter} for the large number of datetimes in a typical document.
+     *
+     * @param time the datetime string
+     * @return the instant
+     * @throws DateTimeException if the string could not be parsed
+     */
+
+    static Instant parse( String time )
+    {
+        int length = time.length();
+
+        if ( ( length == 12 || length == 14 || length == 16 )
+             && time.charAt( 8 ) == 'T'
+             && time.charAt( length - 1 ) == 'Z' )
         {
-            time = node.asText();
+            int year = DateTimeDeserializer.getDigits( time, 0, 4 );
+            int month = DateTimeDeserializer.getDigits( time, 4, 6 );
+            int day = DateTimeDeserializer.getDigits( time, 6, 8 );
+            int hour = DateTimeDeserializer.getDigits( time, 9, 11 );
+            int minute = length > 12 ? DateTimeDeserializer.getDigits( time, 11, 13 ) : 0;
+            int second = length > 14 ? DateTimeDeserializer.getDigits( time, 13, 15 ) : 0;
+
+            // Year zero and hour 24 are resolved differently by the formatter
+            if ( year > 0 && month >= 0 && day >= 0 && hour >= 0 && hour < 24 && minute >= 0 && second >= 0 )
+            {
+                try
+                {
+                    return LocalDateTime.of( year, month, day, hour, minute, second )
+                                        .toInstant( ZoneOffset.UTC );
+                }
+                catch ( DateTimeException e )
+                {
+                    // Out of range, such as a day beyond the end of the month, which the formatter either resolves or
+                    // reports
+                    LOGGER.trace( "Deferring to the formatter to parse {}.", time, e );
+                }
+            }
         }
-        else
+
+        // Unexpected shape or value, so defer to the formatter, which also reports any error
+        return FORMATTER.parse( time, Instant::from );
+    }
+
+    /**
+     * @param time the datetime string
+     * @param start the start index, inclusive
+     * @param end the end index, exclusive
+     * @return the integer value of the digits or -1 if any character is not a digit
+     */
+
+    private static int getDigits( String time, int start, int end )
+    {
+        int value = 0;
+        for ( int i = start; i < end; i++ )
         {
-            throw new IOException( "Could not find a datetime field in the document, which is not allowed." );
+            int digit = time.charAt( i ) - '0';
+            if ( digit < 0 || digit > 9 )
+            {
+                return -1;
+            }
+
+            value = value * 10 + digit;
         }
 
-        // Lenient formatting in the "basic" ISO8601 format, hours and seconds are optional
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern( "yyyyMMdd'T'HH[mm[ss]]'Z'" )
-                                                       .withZone( ReaderUtilities.UTC );
-        return formatter.parse( time, Instant::from );
+        return value;
     }
-}
\ No newline at end of file
+}
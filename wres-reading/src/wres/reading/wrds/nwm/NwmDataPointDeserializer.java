@@ -3,10 +3,11 @@ package wres.reading.wrds.nwm;
 import java.io.IOException;
 import java.io.Serial;
 import java.time.Instant;
+import java.util.Objects;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import wres.datamodel.MissingValues;
@@ -45,25 +46,39 @@ public class NwmDataPointDeserializer extends StdDeserializer<NwmDataPoint>
     @Override
     public NwmDataPoint deserialize( JsonParser jp, DeserializationContext ctxt ) throws IOException
     {
-        JsonNode node = jp.getCodec()
-                          .readTree( jp );
-
-        JsonNode timeNode = node.get( "time" );
-        JsonParser parser = timeNode.traverse();
-        parser.setCodec( jp.getCodec() );
+        if ( jp.currentToken() == JsonToken.START_OBJECT )
+        {
+            jp.nextToken();
+        }
 
-        // Parse the instant.
-        Instant instant = INSTANT_DESERIALIZER.deserialize( parser, ctxt );
+        Instant instant = null;
 
-        // Parse the value.  Note that if the value is null, the node will not be
-        // null.  Rather, isNull will return true.  So there is no need to check
-        // explicitly for null.
+        // Note that if the value is null, the token is a null token, so the value is missing
         double value = MissingValues.DOUBLE;
-        if ( !node.get( "value" )
-                  .isNull() )
+
+        // Read the fields from the tokens without building a tree
+        for ( ; jp.currentToken() == JsonToken.FIELD_NAME; jp.nextToken() )
+        {
+            String name = jp.currentName();
+            JsonToken token = jp.nextToken();
+
+            if ( "time".equals( name ) )
+            {
+                instant = INSTANT_DESERIALIZER.deserialize( jp, ctxt );
+            }
+            else if ( "value".equals( name ) && token != JsonToken.VALUE_NULL )
+            {
+                value = jp.getValueAsDouble( MissingValues.DOUBLE );
+            }
+            else
+            {
+                jp.skipChildren();
+            }
+        }
+
+        if ( Objects.isNull( instant ) )
         {
-            value = node.get( "value" )
-                        .asDouble();
+            throw new IOException( "Could not find a datetime field in the document, which is not allowed." );
         }
 
         return new NwmDataPoint( instant, value );
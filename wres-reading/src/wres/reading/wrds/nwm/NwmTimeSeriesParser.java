@@ -0,0 +1,1040 @@
+package wres.reading.wrds.nwm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jcip.annotations.NotThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.datamodel.MissingValues;
+import wres.datamodel.scale.TimeScaleOuter;
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.DoubleEvent;
+import wres.datamodel.time.Event;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.types.Ensemble;
+import wres.reading.DataSource;
+import wres.reading.ReadException;
+import wres.reading.ReaderUtilities;
+import wres.reading.TimeSeriesTuple;
+import wres.reading.wrds.ahps.ParameterCodes;
+import wres.reading.wrds.ahps.TimeScaleFromParameterCodes;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.Geometry;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * <p>Reads time-series incrementally from a WRDS NWM JSON document using the Jackson streaming API. The document is
+ * described in {@link NwmRootDocument}. Each time-series is supplied once the feature that contains it has been read,
+ * so the memory used is proportional to the largest feature, rather than the whole document. The valid times and
+ * values of each member are read directly from the tokens into primitive buffers.
+ *
+ * <p>The variable and reference time are required to create each time-series. When a feature is read before either of
+ * these, i.e., because the variable follows the forecasts in the document or the reference time follows the features
+ * in a forecast, the feature is held until they are read. The parameter codes are expected to precede the forecasts.
+ *
+ * <p>Supplies null when there are no more time-series to read.
+ *
+ * @author James Brown
+ */
+
+@NotThreadSafe
+class NwmTimeSeriesParser implements Supplier<TimeSeriesTuple>
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( NwmTimeSeriesParser.class );
+
+    /** The initial capacity of the buffer for each member. */
+    private static final int INITIAL_MEMBER_CAPACITY = 64;
+
+    /** The parser. */
+    private final JsonParser parser;
+
+    /** The data source. */
+    private final DataSource dataSource;
+
+    /** The reference time type. */
+    private final ReferenceTimeType referenceTimeType;
+
+    /** The features read whose time-series have not yet been created, in document order. */
+    private final Deque<FeatureValues> pending;
+
+    /** The time-series created and not yet supplied, in document order. */
+    private final Deque<TimeSeriesTuple> ready;
+
+    /** The variable name. */
+    private String variableName;
+
+    /** The measurement unit. */
+    private String measurementUnit;
+
+    /** Is true if the variable has been read. */
+    private boolean hasVariable;
+
+    /** The time scale, if available. */
+    private TimeScaleOuter timeScale;
+
+    /** The number of time-series created. */
+    private int timeSeriesCount;
+
+    /** The reference time of the current forecast, if read. */
+    private Instant referenceTime;
+
+    /** The current position within the document. */
+    private Position position;
+
+    /**
+     * Creates an instance.
+     *
+     * @param mapper the object mapper, which is used to create the parser and to read small objects
+     * @param dataSource the data source
+     * @param inputStream the stream to read
+     * @return an instance
+     * @throws NullPointerException if any input is null
+     * @throws ReadException if the parser could not be created
+     */
+
+    static NwmTimeSeriesParser of( ObjectMapper mapper, DataSource dataSource, InputStream inputStream )
+    {
+        return new NwmTimeSeriesParser( mapper, dataSource, inputStream );
+    }
+
+    @Override
+    public TimeSeriesTuple get()
+    {
+        try
+        {
+            while ( this.ready.isEmpty() && this.position != Position.END )
+            {
+                this.advance();
+            }
+        }
+        catch ( IOException | DateTimeException e )
+        {
+            throw new ReadException( "Failed to read NWM data from "
+                                     + this.dataSource.getUri()
+                                     + ".",
+                                     e );
+        }
+
+        // Null sentinel to close stream
+        return this.ready.poll();
+    }
+
+    /**
+     * Reads the next part of the document, which is either one feature or one field that does not contain features.
+     *
+     * @throws IOException if the document could not be read
+     */
+
+    private void advance() throws IOException
+    {
+        JsonToken token = this.parser.nextToken();
+
+        // End of the input
+        if ( Objects.isNull( token ) )
+        {
+            this.complete();
+            return;
+        }
+
+        switch ( this.position )
+        {
+            case START -> this.readStart( token );
+            case ROOT -> this.readRootField( token );
+            case FORECASTS -> this.readForecastsElement( token );
+            case FORECAST -> this.readForecastField( token );
+            case FEATURES -> this.readFeaturesElement( token );
+            default -> throw new IllegalStateException( "Unexpected position: " + this.position + "." );
+        }
+    }
+
+    /**
+     * Reads the start of the document.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readStart( JsonToken token ) throws IOException
+    {
+        if ( token != JsonToken.START_OBJECT )
+        {
+            throw new IOException( "Expected a JSON object at the root of the document, but found " + token + "." );
+        }
+
+        this.position = Position.ROOT;
+    }
+
+    /**
+     * Reads one field of the root object.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readRootField( JsonToken token ) throws IOException
+    {
+        if ( token == JsonToken.END_OBJECT )
+        {
+            this.complete();
+            return;
+        }
+
+        String name = this.parser.currentName();
+        JsonToken value = this.parser.nextToken();
+
+        switch ( name )
+        {
+            case "_warnings" -> this.readWarnings( value );
+            case "variable" -> this.readVariable( value );
+            case "parameter_codes" -> this.readParameterCodes( value );
+            case "forecasts" ->
+            {
+                if ( value == JsonToken.START_ARRAY )
+                {
+                    this.position = Position.FORECASTS;
+                }
+                else
+                {
+                    this.parser.skipChildren();
+                }
+            }
+            default -> this.parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads the next element of the forecasts array.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readForecastsElement( JsonToken token ) throws IOException
+    {
+        if ( token == JsonToken.END_ARRAY )
+        {
+            this.position = Position.ROOT;
+        }
+        else if ( token == JsonToken.START_OBJECT )
+        {
+            this.referenceTime = null;
+            this.position = Position.FORECAST;
+        }
+        else
+        {
+            this.parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads one field of a forecast.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readForecastField( JsonToken token ) throws IOException
+    {
+        if ( token == JsonToken.END_OBJECT )
+        {
+            // The features of this forecast cannot be completed without a reference time
+            if ( this.pending.stream()
+                             .anyMatch( feature -> Objects.isNull( feature.referenceTime ) ) )
+            {
+                throw new ReadException( "Discovered a forecast without a reference time in "
+                                         + this.dataSource.getUri()
+                                         + ", which is not allowed." );
+            }
+
+            this.position = Position.FORECASTS;
+            return;
+        }
+
+        String name = this.parser.currentName();
+        JsonToken value = this.parser.nextToken();
+
+        if ( "reference_time".equals( name ) && value == JsonToken.VALUE_STRING )
+        {
+            this.referenceTime = DateTimeDeserializer.parse( this.parser.getText() );
+
+            // Complete any features of this forecast that preceded the reference time
+            for ( FeatureValues feature : this.pending )
+            {
+                if ( Objects.isNull( feature.referenceTime ) )
+                {
+                    feature.referenceTime = this.referenceTime;
+                }
+            }
+
+            this.release();
+        }
+        else if ( "features".equals( name ) && value == JsonToken.START_ARRAY )
+        {
+            this.position = Position.FEATURES;
+        }
+        else
+        {
+            this.parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads the next element of the features array.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readFeaturesElement( JsonToken token ) throws IOException
+    {
+        if ( token == JsonToken.END_ARRAY )
+        {
+            this.position = Position.FORECAST;
+        }
+        else if ( token == JsonToken.START_OBJECT )
+        {
+            FeatureValues feature = this.readFeature();
+            feature.referenceTime = this.referenceTime;
+            this.pending.add( feature );
+            this.release();
+        }
+        else
+        {
+            this.parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads a feature.
+     *
+     * @return the feature
+     * @throws IOException if the document could not be read
+     */
+
+    private FeatureValues readFeature() throws IOException
+    {
+        FeatureValues feature = new FeatureValues();
+
+        while ( this.parser.nextToken() == JsonToken.FIELD_NAME )
+        {
+            String name = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+
+            if ( "location".equals( name ) && value == JsonToken.START_OBJECT )
+            {
+                feature.featureId = this.readFeatureId();
+            }
+            else if ( "members".equals( name ) && value == JsonToken.START_ARRAY )
+            {
+                while ( this.parser.nextToken() == JsonToken.START_OBJECT )
+                {
+                    feature.members.add( this.readMember() );
+                }
+            }
+            else
+            {
+                this.parser.skipChildren();
+            }
+        }
+
+        if ( Objects.isNull( feature.featureId ) )
+        {
+            throw new ReadException( "Discovered a feature without an nwm_feature_id in "
+                                     + this.dataSource.getUri()
+                                     + ", which is not allowed." );
+        }
+
+        return feature;
+    }
+
+    /**
+     * Reads the NWM feature identifier from a location.
+     *
+     * @return the feature identifier or null
+     * @throws IOException if the document could not be read
+     */
+
+    private Integer readFeatureId() throws IOException
+    {
+        Integer featureId = null;
+
+        while ( this.parser.nextToken() == JsonToken.FIELD_NAME )
+        {
+            String name = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+
+            if ( "names".equals( name ) && value == JsonToken.START_OBJECT )
+            {
+                while ( this.parser.nextToken() == JsonToken.FIELD_NAME )
+                {
+                    String innerName = this.parser.currentName();
+                    JsonToken innerValue = this.parser.nextToken();
+
+                    if ( "nwm_feature_id".equals( innerName ) && innerValue == JsonToken.VALUE_NUMBER_INT )
+                    {
+                        featureId = this.parser.getIntValue();
+                    }
+                    else if ( "nwm_feature_id".equals( innerName ) && innerValue == JsonToken.VALUE_STRING )
+                    {
+                        featureId = this.parseFeatureId( this.parser.getText() );
+                    }
+                    else
+                    {
+                        this.parser.skipChildren();
+                    }
+                }
+            }
+            else
+            {
+                this.parser.skipChildren();
+            }
+        }
+
+        return featureId;
+    }
+
+    /**
+     * Reads a member.
+     *
+     * @return the member
+     * @throws IOException if the document could not be read
+     */
+
+    private MemberValues readMember() throws IOException
+    {
+        MemberValues member = new MemberValues();
+
+        while ( this.parser.nextToken() == JsonToken.FIELD_NAME )
+        {
+            String name = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+
+            if ( "identifier".equals( name ) && value != JsonToken.VALUE_NULL )
+            {
+                member.identifier = this.parser.getValueAsString();
+            }
+            else if ( "data_points".equals( name ) && value == JsonToken.START_ARRAY )
+            {
+                this.readDataPoints( member );
+            }
+            else
+            {
+                this.parser.skipChildren();
+            }
+        }
+
+        if ( Objects.isNull( member.identifier ) )
+        {
+            throw new ReadException( "Discovered a member without an identifier in "
+                                     + this.dataSource.getUri()
+                                     + ", which is not allowed." );
+        }
+
+        return member;
+    }
+
+    /**
+     * Reads the data points of a member.
+     *
+     * @param member the member to populate
+     * @throws IOException if the document could not be read
+     */
+
+    private void readDataPoints( MemberValues member ) throws IOException
+    {
+        JsonToken token;
+        while ( ( token = this.parser.nextToken() ) != JsonToken.END_ARRAY )
+        {
+            if ( token != JsonToken.START_OBJECT )
+            {
+                LOGGER.debug( "Found a data point that was not an object in member trace={} of {}.",
+                              member.identifier,
+                              this.dataSource.getUri() );
+                this.parser.skipChildren();
+                continue;
+            }
+
+            String time = null;
+            double value = MissingValues.DOUBLE;
+
+            while ( this.parser.nextToken() == JsonToken.FIELD_NAME )
+            {
+                String name = this.parser.currentName();
+                JsonToken fieldValue = this.parser.nextToken();
+
+                if ( "time".equals( name ) && fieldValue == JsonToken.VALUE_STRING )
+                {
+                    time = this.parser.getText();
+                }
+                else if ( "value".equals( name ) && fieldValue != JsonToken.VALUE_NULL )
+                {
+                    value = this.parser.getValueAsDouble( MissingValues.DOUBLE );
+                }
+                else
+                {
+                    this.parser.skipChildren();
+                }
+            }
+
+            if ( Objects.isNull( time ) )
+            {
+                throw new IOException( "Could not find a datetime field in the document, which is not allowed." );
+            }
+
+            member.add( DateTimeDeserializer.parse( time )
+                                            .getEpochSecond(), value );
+        }
+    }
+
+    /**
+     * Reads the warnings and logs them.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readWarnings( JsonToken token ) throws IOException
+    {
+        if ( token != JsonToken.START_ARRAY )
+        {
+            this.parser.skipChildren();
+            return;
+        }
+
+        List<String> warnings = new ArrayList<>();
+        while ( this.parser.nextToken() != JsonToken.END_ARRAY )
+        {
+            warnings.add( this.parser.getValueAsString() );
+            this.parser.skipChildren();
+        }
+
+        if ( !warnings.isEmpty() )
+        {
+            LOGGER.warn( "These warnings were in the document from {}: {}",
+                         this.dataSource.getUri(),
+                         warnings );
+        }
+    }
+
+    /**
+     * Reads the variable name and measurement unit.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readVariable( JsonToken token ) throws IOException
+    {
+        if ( token != JsonToken.START_OBJECT )
+        {
+            this.parser.skipChildren();
+            return;
+        }
+
+        while ( this.parser.nextToken() == JsonToken.FIELD_NAME )
+        {
+            String name = this.parser.currentName();
+            this.parser.nextToken();
+
+            if ( "name".equals( name ) )
+            {
+                this.variableName = this.parser.getValueAsString();
+            }
+            else if ( "unit".equals( name ) )
+            {
+                this.measurementUnit = this.parser.getValueAsString();
+            }
+            else
+            {
+                this.parser.skipChildren();
+            }
+        }
+
+        this.validateVariable();
+        this.hasVariable = true;
+
+        // Complete any features that preceded the variable
+        this.release();
+    }
+
+    /**
+     * Reads the parameter codes, which are small, and determines the time scale.
+     *
+     * @param token the current token
+     * @throws IOException if the document could not be read
+     */
+
+    private void readParameterCodes( JsonToken token ) throws IOException
+    {
+        if ( token != JsonToken.START_OBJECT )
+        {
+            this.parser.skipChildren();
+            return;
+        }
+
+        ParameterCodes parameterCodes = this.parser.readValueAs( ParameterCodes.class );
+        URI uri = this.dataSource.getUri();
+
+        if ( this.timeSeriesCount > 0 )
+        {
+            LOGGER.warn( "While reading {}, discovered parameter codes after {} time-series had been read. The time "
+                         + "scale associated with these parameter codes will only be applied to the time-series "
+                         + "that follow.",
+                         uri,
+                         this.timeSeriesCount );
+        }
+
+        this.timeScale = TimeScaleFromParameterCodes.getTimeScale( parameterCodes, uri );
+
+        LOGGER.debug( "While processing source {} discovered a time scale of {}.",
+                      uri,
+                      this.timeScale );
+    }
+
+    /**
+     * Validates the variable name and measurement unit.
+     *
+     * @throws ReadException if the variable name or measurement unit is invalid
+     */
+
+    private void validateVariable()
+    {
+        URI uri = this.dataSource.getUri();
+
+        if ( Objects.isNull( this.variableName )
+             || this.variableName.isBlank()
+             || Objects.isNull( this.measurementUnit )
+             || this.measurementUnit.isBlank() )
+        {
+            throw new ReadException( "Invalid document from WRDS (variable"
+                                     + " and/or unit value was missing): "
+                                     + "check the WRDS and WRES "
+                                     + "documentation to ensure the most "
+                                     + "up-to-date base URL is declared in"
+                                     + " the source tag. The invalid "
+                                     + "document was from "
+                                     + uri );
+        }
+    }
+
+    /**
+     * Completes the reading of the document.
+     */
+
+    private void complete()
+    {
+        this.position = Position.END;
+
+        if ( !this.hasVariable )
+        {
+            throw new ReadException( "Invalid document from WRDS (variable"
+                                     + " and/or unit missing): check the "
+                                     + "WRDS and WRES documentation to "
+                                     + "ensure the most up-to-date base "
+                                     + "URL is declared in the source tag."
+                                     + " The invalid document was from "
+                                     + this.dataSource.getUri() );
+        }
+
+        LOGGER.debug( "Read {} time-series from {}.", this.timeSeriesCount, this.dataSource );
+    }
+
+    /**
+     * Creates the time-series for the pending features, in document order, until a feature is found that cannot be
+     * completed yet.
+     */
+
+    private void release()
+    {
+        if ( !this.hasVariable )
+        {
+            return;
+        }
+
+        while ( !this.pending.isEmpty()
+                && Objects.nonNull( this.pending.peek().referenceTime ) )
+        {
+            FeatureValues feature = this.pending.poll();
+            this.ready.add( this.getTimeSeries( feature ) );
+            this.timeSeriesCount++;
+        }
+    }
+
+    /**
+     * Creates a time-series from a feature.
+     *
+     * @param feature the feature
+     * @return the time-series
+     */
+
+    private TimeSeriesTuple getTimeSeries( FeatureValues feature )
+    {
+        URI uri = this.dataSource.getUri();
+        List<MemberValues> members = feature.members;
+
+        if ( members.isEmpty() )
+        {
+            throw new ReadException( "While attempting to read NWM time-series data in WRDS JSON format for feature "
+                                     + feature.featureId
+                                     + ", encountered zero traces, which is not allowed." );
+        }
+
+        for ( MemberValues member : members )
+        {
+            member.sort( feature.referenceTime );
+        }
+
+        String locationId = Integer.toString( feature.featureId );
+        Geometry geometry = MessageUtilities.getGeometry( locationId );
+        TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Map.of( this.referenceTimeType,
+                                                                     feature.referenceTime ),
+                                                             this.timeScale,
+                                                             this.variableName,
+                                                             Feature.of( geometry ),
+                                                             this.measurementUnit );
+
+        // Single-valued
+        if ( members.size() == 1 )
+        {
+            MemberValues member = members.get( 0 );
+            TimeSeries.Builder<Double> builder = new TimeSeries.Builder<Double>().setMetadata( metadata );
+
+            for ( int i = 0; i < member.size; i++ )
+            {
+                Event<Double> event = DoubleEvent.of( Instant.ofEpochSecond( member.times[i] ),
+                                                      member.values[i] );
+                builder.addEvent( event );
+            }
+
+            TimeSeries<Double> series = builder.build();
+
+            LOGGER.debug( "Read a single-valued NWM time-series from the document, which contained {} events.",
+                          member.size );
+
+            // Validate
+            ReaderUtilities.validateAgainstEmptyTimeSeries( series, uri );
+
+            return TimeSeriesTuple.ofSingleValued( series, this.dataSource );
+        }
+
+        TimeSeries<Ensemble> series = this.getEnsembleTimeSeries( metadata, members );
+
+        LOGGER.debug( "Read an ensemble NWM time-series from the document, which contained {} events.",
+                      series.getEvents()
+                            .size() );
+
+        // Validate
+        ReaderUtilities.validateAgainstEmptyTimeSeries( series, uri );
+
+        return TimeSeriesTuple.ofEnsemble( series, this.dataSource );
+    }
+
+    /**
+     * Creates an ensemble time-series from the sorted members, whose valid times must match.
+     *
+     * @param metadata the metadata
+     * @param members the members
+     * @return the ensemble time-series
+     */
+
+    private TimeSeries<Ensemble> getEnsembleTimeSeries( TimeSeriesMetadata metadata, List<MemberValues> members )
+    {
+        // Order the members by identifier
+        List<MemberValues> sorted = new ArrayList<>( members );
+        sorted.sort( Comparator.comparing( m -> m.identifier ) );
+
+        MemberValues first = sorted.get( 0 );
+        String[] names = new String[sorted.size()];
+        for ( int i = 0; i < names.length; i++ )
+        {
+            MemberValues next = sorted.get( i );
+            names[i] = next.identifier;
+
+            if ( next.size != first.size
+                 || !Arrays.equals( next.times, 0, next.size, first.times, 0, first.size ) )
+            {
+                throw new ReadException( "Cannot build ensemble from "
+                                         + this.dataSource.getUri()
+                                         + " because the trace named "
+                                         + next.identifier
+                                         + " had different valid datetimes than the trace named "
+                                         + first.identifier
+                                         + ", which is not allowed. All traces must be dense and match valid "
+                                         + "datetimes." );
+            }
+        }
+
+        Ensemble.Labels labels = Ensemble.Labels.of( names );
+        TimeSeries.Builder<Ensemble> builder = new TimeSeries.Builder<Ensemble>().setMetadata( metadata );
+
+        for ( int i = 0; i < first.size; i++ )
+        {
+            double[] slice = new double[names.length];
+            for ( int j = 0; j < slice.length; j++ )
+            {
+                slice[j] = sorted.get( j ).values[i];
+            }
+
+            builder.addEvent( Event.of( Instant.ofEpochSecond( first.times[i] ), Ensemble.of( slice, labels ) ) );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param featureId the feature identifier string
+     * @return the feature identifier
+     * @throws ReadException if the identifier is not an integer
+     */
+
+    private int parseFeatureId( String featureId )
+    {
+        try
+        {
+            return Integer.parseInt( featureId.strip() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new ReadException( "Discovered an nwm_feature_id that is not an integer in "
+                                     + this.dataSource.getUri()
+                                     + ": "
+                                     + featureId
+                                     + ".",
+                                     e );
+        }
+    }
+
+    /**
+     * The position within the document.
+     */
+
+    private enum Position
+    {
+        /** Before the root object. */
+        START,
+        /** Within the root object. */
+        ROOT,
+        /** Within the forecasts array. */
+        FORECASTS,
+        /** Within a forecast object. */
+        FORECAST,
+        /** Within the features array of a forecast. */
+        FEATURES,
+        /** After the root object. */
+        END
+    }
+
+    /**
+     * The values read for one feature.
+     */
+
+    private static final class FeatureValues
+    {
+        /** The NWM feature identifier. */
+        private Integer featureId;
+
+        /** The reference time. */
+        private Instant referenceTime;
+
+        /** The members. */
+        private final List<MemberValues> members = new ArrayList<>( 1 );
+    }
+
+    /**
+     * The valid times, in epoch seconds, and values of one member, which are buffered in primitive arrays.
+     */
+
+    private static final class MemberValues
+    {
+        /** The identifier. */
+        private String identifier;
+
+        /** The valid times in epoch seconds. */
+        private long[] times = new long[INITIAL_MEMBER_CAPACITY];
+
+        /** The values. */
+        private double[] values = new double[INITIAL_MEMBER_CAPACITY];
+
+        /** The number of values. */
+        private int size;
+
+        /**
+         * Adds a value.
+         *
+         * @param time the valid time in epoch seconds
+         * @param value the value
+         */
+
+        private void add( long time, double value )
+        {
+            if ( this.size == this.times.length )
+            {
+                this.times = Arrays.copyOf( this.times, this.size << 1 );
+                this.values = Arrays.copyOf( this.values, this.size << 1 );
+            }
+
+            this.times[this.size] = time;
+            this.values[this.size] = value;
+            this.size++;
+        }
+
+        /**
+         * Sorts the values by valid time. The values are typically in ascending or descending order already.
+         *
+         * @param referenceTime the reference time, which is used for messaging
+         * @throws ReadException if there are duplicate valid times
+         */
+
+        private void sort( Instant referenceTime )
+        {
+            boolean ascending = true;
+            boolean descending = true;
+            for ( int i = 1; i < this.size; i++ )
+            {
+                ascending &= this.times[i] > this.times[i - 1];
+                descending &= this.times[i] < this.times[i - 1];
+            }
+
+            if ( ascending )
+            {
+                return;
+            }
+
+            if ( descending )
+            {
+                this.reverse();
+                return;
+            }
+
+            this.sortByTime();
+
+            for ( int i = 1; i < this.size; i++ )
+            {
+                if ( this.times[i] == this.times[i - 1] )
+                {
+                    throw new ReadException( "Discovered a time-series with duplicate valid datetimes, which is not "
+                                             + "allowed. The duplicate occurred for reference time "
+                                             + referenceTime
+                                             + ", valid time "
+                                             + Instant.ofEpochSecond( this.times[i] )
+                                             + " and trace name "
+                                             + this.identifier
+                                             + "." );
+                }
+            }
+        }
+
+        /**
+         * Reverses the values.
+         */
+
+        private void reverse()
+        {
+            for ( int i = 0, j = this.size - 1; i < j; i++, j-- )
+            {
+                long time = this.times[i];
+                this.times[i] = this.times[j];
+                this.times[j] = time;
+                double value = this.values[i];
+                this.values[i] = this.values[j];
+                this.values[j] = value;
+            }
+        }
+
+        /**
+         * Sorts the values by valid time in the general case.
+         */
+
+        private void sortByTime()
+        {
+            Integer[] order = new Integer[this.size];
+            for ( int i = 0; i < order.length; i++ )
+            {
+                order[i] = i;
+            }
+
+            Arrays.sort( order, Comparator.comparingLong( i -> this.times[i] ) );
+
+            long[] sortedTimes = new long[this.size];
+            double[] sortedValues = new double[this.size];
+            for ( int i = 0; i < order.length; i++ )
+            {
+                sortedTimes[i] = this.times[order[i]];
+                sortedValues[i] = this.values[order[i]];
+            }
+
+            this.times = sortedTimes;
+            this.values = sortedValues;
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     *
+     * @param mapper the object mapper, which is used to create the parser and to read small objects
+     * @param dataSource the data source
+     * @param inputStream the stream to read
+     * @throws NullPointerException if any input is null
+     * @throws ReadException if the parser could not be created
+     */
+
+    private NwmTimeSeriesParser( ObjectMapper mapper, DataSource dataSource, InputStream inputStream )
+    {
+        Objects.requireNonNull( mapper );
+        Objects.requireNonNull( dataSource );
+        Objects.requireNonNull( inputStream );
+
+        this.dataSource = dataSource;
+        this.pending = new ArrayDeque<>();
+        this.ready = new ArrayDeque<>();
+        this.position = Position.START;
+
+        URI uri = dataSource.getUri();
+
+        // Special rule: when analysis data is found, reference time not T0.
+        if ( uri.getPath()
+                .toLowerCase()
+                .contains( "analysis" ) )
+        {
+            this.referenceTimeType = ReferenceTimeType.ANALYSIS_START_TIME;
+
+            LOGGER.debug( "Analysis data found labeled in URI {}", uri );
+        }
+        else
+        {
+            this.referenceTimeType = ReferenceTimeType.T0;
+        }
+
+        try
+        {
+            this.parser = mapper.getFactory()
+                                .createParser( inputStream );
+        }
+        catch ( IOException e )
+        {
+            throw new ReadException( "Failed to read NWM data from "
+                                     + uri
+                                     + ".",
+                                     e );
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package wres.reading;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,6 +14,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -78,8 +82,108 @@ class TarredReaderTest
                 </series>\r
             </TimeSeries>""";
 
+    private static final String WATERML_STRING = """
+            {"name":"ns1:timeSeriesResponseType","declaredType":"org.cuahsi.waterml.TimeSeriesResponseType",\
+            "value":{"timeSeries":[]}}""";
+
     @Test
     void testReadObservationsFromTwoArchiveEntriesWithTwoDifferentFormatsResultsInThreeTimeSeries() throws IOException
+    {
+        // No byte budget, so the entries are streamed from the archive
+        this.assertReadObservationsFromTwoArchiveEntriesResultsInThreeTimeSeries( 0 );
+    }
+
+    @Test
+    void testReadObservationsFromTwoArchiveEntriesBufferedInMemoryResultsInThreeTimeSeries() throws IOException
+    {
+        // The entries fit within the byte budget, so they are buffered in memory
+        this.assertReadObservationsFromTwoArchiveEntriesResultsInThreeTimeSeries( 1 );
+    }
+
+    @Test
+    void testReadObservationsFromArchiveEntrySpilledToTemporaryFileDeletesTheTemporaryFile() throws IOException
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path temporaryDirectory = Files.createDirectory( fileSystem.getPath( "temp" ) );
+            DataSource dataSource = this.getTarredDataSourceWithOneWatermlEntry( fileSystem );
+
+            TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Collections.emptyMap(),
+                                                                 null,
+                                                                 QINE,
+                                                                 Feature.of( MessageUtilities.getGeometry( DRRC2 ) ),
+                                                                 CFS );
+            TimeSeries<Double> series = new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                                                        .addEvent( Event.of( T1985_06_01T13_00_00Z,
+                                                                                             1.0 ) )
+                                                                        .build();
+
+            // The entry reader sees the spilled bytes while the temporary file exists
+            AtomicReference<DataSource> innerSource = new AtomicReference<>();
+            TimeSeriesReader entryReader = Mockito.mock( TimeSeriesReader.class );
+            Mockito.when( entryReader.read( Mockito.any( DataSource.class ), Mockito.any( InputStream.class ) ) )
+                   .thenAnswer( invocation -> {
+                       assertEquals( 1, this.getFileCount( temporaryDirectory ) );
+                       InputStream stream = invocation.getArgument( 1 );
+                       assertArrayEquals( WATERML_STRING.getBytes(), stream.readAllBytes() );
+                       innerSource.set( invocation.getArgument( 0 ) );
+                       return Stream.of( TimeSeriesTuple.ofSingleValued( series, invocation.getArgument( 0 ) ) );
+                   } );
+
+            TarredReader reader = this.getTarredReader( entryReader, temporaryDirectory );
+
+            try ( Stream<TimeSeriesTuple> tupleStream = reader.read( dataSource ) )
+            {
+                List<TimeSeries<Double>> actual = tupleStream.map( TimeSeriesTuple::getSingleValuedTimeSeries )
+                                                             .toList();
+
+                assertEquals( List.of( series ), actual );
+            }
+
+            // The entry cannot be streamed and exceeds the byte budget, so it was spilled
+            assertEquals( DataDisposition.JSON_WATERML, innerSource.get()
+                                                                   .getDisposition() );
+            assertEquals( 0, this.getFileCount( temporaryDirectory ) );
+        }
+    }
+
+    @Test
+    void testReadArchiveEntrySpilledToTemporaryFileDeletesTheTemporaryFileWhenTheEntryReaderThrows()
+            throws IOException
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path temporaryDirectory = Files.createDirectory( fileSystem.getPath( "temp" ) );
+            DataSource dataSource = this.getTarredDataSourceWithOneWatermlEntry( fileSystem );
+
+            TimeSeriesReader entryReader = Mockito.mock( TimeSeriesReader.class );
+            Mockito.when( entryReader.read( Mockito.any( DataSource.class ), Mockito.any( InputStream.class ) ) )
+                   .thenAnswer( invocation -> {
+                       assertEquals( 1, this.getFileCount( temporaryDirectory ) );
+                       throw new ReadException( "Failed to read an archive entry." );
+                   } );
+
+            TarredReader reader = this.getTarredReader( entryReader, temporaryDirectory );
+
+            try ( Stream<TimeSeriesTuple> tupleStream = reader.read( dataSource ) )
+            {
+                assertThrows( ReadException.class, tupleStream::toList );
+            }
+
+            assertEquals( 0, this.getFileCount( temporaryDirectory ) );
+        }
+    }
+
+    /**
+     * Reads a tarred archive that contains one CSV entry and one PI-XML entry and asserts that three time-series are
+     * read.
+     *
+     * @param maximumArchiveMegabytes the byte budget for archive entries held in memory
+     * @throws IOException if the archive could not be written or read
+     */
+
+    private void assertReadObservationsFromTwoArchiveEntriesResultsInThreeTimeSeries( int maximumArchiveMegabytes )
+            throws IOException
     {
         try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
         {
@@ -147,6 +251,8 @@ class TarredReaderTest
                    .thenReturn( 5 );
             Mockito.when( systemSettings.getPoolObjectLifespan() )
                    .thenReturn( 30_000 );
+            Mockito.when( systemSettings.getMaximumArchiveMegabytes() )
+                   .thenReturn( maximumArchiveMegabytes );
 
             // Generator of internal format readers
             TimeSeriesReaderFactory readerFactory = TimeSeriesReaderFactory.of( null, systemSettings, null );
@@ -221,4 +327,89 @@ class TarredReaderTest
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Writes a tarred archive that contains one WaterML entry, which cannot be streamed from the archive.
+     *
+     * @param fileSystem the file system
+     * @return the data source for the archive
+     * @throws IOException if the archive could not be written
+     */
+
+    private DataSource getTarredDataSourceWithOneWatermlEntry( FileSystem fileSystem ) throws IOException
+    {
+        Path directory = fileSystem.getPath( TEST );
+        Files.createDirectory( directory );
+        Path tarPath = Files.createFile( fileSystem.getPath( TEST, "test.tar" ) );
+
+        byte[] content = WATERML_STRING.getBytes();
+
+        try ( TarArchiveOutputStream out =
+                      new TarArchiveOutputStream( new BufferedOutputStream( Files.newOutputStream( tarPath ) ) ) )
+        {
+            TarArchiveEntry archiveEntry = new TarArchiveEntry( "test/one.json" );
+            archiveEntry.setSize( content.length );
+            out.putArchiveEntry( archiveEntry );
+            out.write( content );
+            out.closeArchiveEntry();
+        }
+
+        Source fakeDeclarationSource = SourceBuilder.builder()
+                                                    .uri( tarPath.toUri() )
+                                                    .build();
+
+        Dataset dataset = DatasetBuilder.builder()
+                                        .sources( List.of( fakeDeclarationSource ) )
+                                        .variable( VariableBuilder.builder()
+                                                                  .name( QINE )
+                                                                  .build() )
+                                        .build();
+
+        return DataSource.of( DataDisposition.TARBALL,
+                              fakeDeclarationSource,
+                              dataset,
+                              Collections.emptyList(),
+                              tarPath.toUri(),
+                              DatasetOrientation.RIGHT,
+                              null );
+    }
+
+    /**
+     * Returns a reader with no byte budget that reads each archive entry with the prescribed reader.
+     *
+     * @param entryReader the reader for each archive entry
+     * @param temporaryDirectory the directory for temporary files
+     * @return the reader
+     */
+
+    private TarredReader getTarredReader( TimeSeriesReader entryReader, Path temporaryDirectory )
+    {
+        SystemSettings systemSettings = Mockito.mock( SystemSettings.class );
+        Mockito.when( systemSettings.getMaximumArchiveThreads() )
+               .thenReturn( 5 );
+        Mockito.when( systemSettings.getPoolObjectLifespan() )
+               .thenReturn( 30_000 );
+        Mockito.when( systemSettings.getMaximumArchiveMegabytes() )
+               .thenReturn( 0 );
+
+        TimeSeriesReaderFactory readerFactory = Mockito.mock( TimeSeriesReaderFactory.class );
+        Mockito.when( readerFactory.getReader( Mockito.any( DataSource.class ) ) )
+               .thenReturn( entryReader );
+
+        return TarredReader.of( readerFactory, systemSettings, temporaryDirectory );
+    }
+
+    /**
+     * @param directory the directory
+     * @return the number of files in the directory
+     * @throws IOException if the directory could not be listed
+     */
+
+    private long getFileCount( Path directory ) throws IOException
+    {
+        try ( Stream<Path> files = Files.list( directory ) )
+        {
+            return files.count();
+        }
+    }
+
+}
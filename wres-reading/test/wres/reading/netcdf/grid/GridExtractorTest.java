@@ -0,0 +1,509 @@
+package wres.reading.netcdf.grid;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ucar.ma2.Array;
+import ucar.ma2.ArrayFloat;
+import ucar.ma2.ArrayInt;
+import ucar.ma2.DataType;
+import ucar.ma2.InvalidRangeException;
+import ucar.nc2.Attribute;
+import ucar.nc2.Dimension;
+import ucar.nc2.NetcdfFile;
+import ucar.nc2.NetcdfFileWriter;
+import ucar.nc2.NetcdfFiles;
+import ucar.nc2.Variable;
+import ucar.nc2.dt.GridCoordSystem;
+import ucar.nc2.dt.GridDatatype;
+import ucar.nc2.dt.grid.GridDataset;
+import ucar.unidata.geoloc.LatLonPoint;
+
+import wres.datamodel.MissingValues;
+import wres.datamodel.space.Feature;
+import wres.statistics.MessageUtilities;
+
+/**
+ * Tests the {@link GridExtractor}. Reads small grids that are written on the Lambert conformal conic projection of
+ * the default gridded output template.
+ *
+ * @author James Brown
+ */
+
+class GridExtractorTest
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( GridExtractorTest.class );
+
+    /** The template that supplies the projection and the projection coordinates of the grids. */
+    private static final String TEMPLATE = "../dist/lib/conf/lcc_grid_template.nc";
+
+    /** The variable name. */
+    static final String VARIABLE_NAME = "streamflow";
+
+    /** The measurement unit. */
+    static final String UNIT = "m3 s-1";
+
+    /** The number of cells in the x direction. */
+    static final int X_SIZE = 12;
+
+    /** The number of cells in the y direction. */
+    static final int Y_SIZE = 8;
+
+    /** A reference time. */
+    static final Instant T0 = Instant.parse( "2551-03-17T00:00:00Z" );
+
+    /** A valid time. */
+    private static final Instant T1 = T0.plus( Duration.ofHours( 1 ) );
+
+    /** A temporary directory for the grids. */
+    @TempDir
+    static Path directory;
+
+    /** The path to a grid. */
+    private static String path;
+
+    @BeforeAll
+    static void runBeforeAllTests() throws IOException
+    {
+        path = GridExtractorTest.writeGrid( directory.resolve( "grid.nc" ), X_SIZE, Y_SIZE, T0, T1, 0 )
+                                .toString();
+    }
+
+    @Test
+    void testReadGathersValuesOfSeveralFeaturesFromOneSlab() throws IOException
+    {
+        // Cells in the corners of a slab that is smaller than the grid, plus an interior cell and a repeated cell
+        int[][] cells = new int[][] { { 2, 1 }, { 9, 6 }, { 2, 6 }, { 9, 1 }, { 5, 3 }, { 2, 1 } };
+        List<Feature> features = new ArrayList<>();
+        double[] expected = new double[cells.length];
+        for ( int i = 0; i < cells.length; i++ )
+        {
+            features.add( GridExtractorTest.getFeature( path, cells[i][0], cells[i][1] ) );
+            expected[i] = GridExtractorTest.getValue( 0, cells[i][0], cells[i][1] );
+        }
+
+        GridExtractor.GridValues actual = GridExtractor.read( path, VARIABLE_NAME, features, true );
+
+        assertAll( () -> assertArrayEquals( expected, actual.values() ),
+                   () -> assertEquals( UNIT, actual.measurementUnit() ),
+                   () -> assertEquals( T0, actual.issueTime() ),
+                   () -> assertEquals( T1, actual.validTime() ) );
+    }
+
+    @Test
+    void testReadGathersValuesFromEdgesOfGrid() throws IOException
+    {
+        int[][] cells = new int[][] { { 0, 0 }, { X_SIZE - 1, Y_SIZE - 1 } };
+        List<Feature> features = new ArrayList<>();
+        double[] expected = new double[cells.length];
+        for ( int i = 0; i < cells.length; i++ )
+        {
+            features.add( GridExtractorTest.getFeature( path, cells[i][0], cells[i][1] ) );
+            expected[i] = GridExtractorTest.getValue( 0, cells[i][0], cells[i][1] );
+        }
+
+        GridExtractor.GridValues actual = GridExtractor.read( path, VARIABLE_NAME, features, false );
+
+        assertAll( () -> assertArrayEquals( expected, actual.values() ),
+                   () -> assertEquals( T1, actual.issueTime() ) );
+    }
+
+    @Test
+    void testReadGathersValuesOfFeaturesScatteredAcrossGrid() throws IOException
+    {
+        int size = 100;
+        String scattered = GridExtractorTest.writeGrid( directory.resolve( "scattered.nc" ), size, size, T0, T1, 0 )
+                                            .toString();
+
+        // Cells in the corners of the grid, plus two neighbouring cells in the middle
+        int[][] cells = new int[][] { { 0, 0 }, { size - 1, 0 }, { 50, 50 }, { 0, size - 1 }, { 51, 50 },
+                { size - 1, size - 1 } };
+        List<Feature> features = new ArrayList<>();
+        double[] expected = new double[cells.length];
+        for ( int i = 0; i < cells.length; i++ )
+        {
+            features.add( GridExtractorTest.getFeature( scattered, cells[i][0], cells[i][1] ) );
+            expected[i] = GridExtractorTest.getValue( 0, cells[i][0], cells[i][1] );
+        }
+
+        GridExtractor.GridValues actual = GridExtractor.read( scattered, VARIABLE_NAME, features, false );
+
+        assertArrayEquals( expected, actual.values() );
+    }
+
+    @Test
+    void testGetSlabsReadsOneSlabForEachTileWhenCellsAreScattered()
+    {
+        GridExtractor.Cell[] cells = new GridExtractor.Cell[] { new GridExtractor.Cell( 0, 0 ),
+                new GridExtractor.Cell( 99, 0 ),
+                new GridExtractor.Cell( 50, 50 ),
+                new GridExtractor.Cell( -1, -1 ),
+                new GridExtractor.Cell( 0, 99 ),
+                new GridExtractor.Cell( 51, 50 ),
+                new GridExtractor.Cell( 99, 99 ) };
+
+        List<GridExtractor.Slab> actual = GridExtractor.getSlabs( cells );
+
+        // One slab for each corner and one for the two neighbouring cells, which are read together
+        long cellsRead = actual.stream()
+                               .mapToLong( GridExtractor.Slab::size )
+                               .sum();
+        long cellsContained = actual.stream()
+                                    .mapToLong( next -> next.cells()
+                                                            .size() )
+                                    .sum();
+
+        assertAll( () -> assertEquals( 5, actual.size() ),
+                   () -> assertEquals( 6, cellsRead ),
+                   () -> assertEquals( 6, cellsContained ) );
+    }
+
+    @Test
+    void testGetSlabsReadsOneSlabWhenCellsAreClustered()
+    {
+        GridExtractor.Cell[] cells = new GridExtractor.Cell[] { new GridExtractor.Cell( 2, 1 ),
+                new GridExtractor.Cell( 9, 6 ),
+                new GridExtractor.Cell( 5, 3 ) };
+
+        List<GridExtractor.Slab> actual = GridExtractor.getSlabs( cells );
+
+        assertEquals( List.of( new GridExtractor.Slab( 2, 9, 1, 6, List.of( 0, 1, 2 ) ) ), actual );
+    }
+
+    @Test
+    void testReadReturnsMissingValueForFeatureOutsideGrid() throws IOException
+    {
+        List<Feature> features = List.of( GridExtractorTest.getFeature( path, 3, 5 ),
+                                          GridExtractorTest.getFeature( "POINT ( 0.0 0.0 )" ),
+                                          GridExtractorTest.getFeature( path, 7, 2 ) );
+
+        GridExtractor.GridValues actual = GridExtractor.read( path, VARIABLE_NAME, features, false );
+
+        double[] expected = new double[] { GridExtractorTest.getValue( 0, 3, 5 ),
+                MissingValues.DOUBLE,
+                GridExtractorTest.getValue( 0, 7, 2 ) };
+
+        assertArrayEquals( expected, actual.values() );
+    }
+
+    @Test
+    void testReadReturnsMissingValuesWhenAllFeaturesAreOutsideGrid() throws IOException
+    {
+        List<Feature> features = List.of( GridExtractorTest.getFeature( "POINT ( 0.0 0.0 )" ),
+                                          GridExtractorTest.getFeature( "POINT ( 10.0 50.0 )" ) );
+
+        GridExtractor.GridValues actual = GridExtractor.read( path, VARIABLE_NAME, features, false );
+
+        assertArrayEquals( new double[] { MissingValues.DOUBLE, MissingValues.DOUBLE }, actual.values() );
+    }
+
+    @Test
+    void testReadThrowsExpectedExceptionWhenVariableIsMissing()
+    {
+        List<Feature> features = List.of( GridExtractorTest.getFeature( "POINT ( 0.0 0.0 )" ) );
+
+        assertThrows( IOException.class, () -> GridExtractor.read( path, "not_a_variable", features, false ) );
+    }
+
+    /**
+     * Benchmarks the reading of many features from many grids, gathering the values of all features from one slab of
+     * each grid against reading the value of each feature from the grid on its own. Does not run unless the system
+     * property {@code wres.benchmark} is {@code true}.
+     *
+     * @throws IOException if the benchmark fails
+     */
+
+    @Test
+    @EnabledIfSystemProperty( named = "wres.benchmark", matches = "true" )
+    void benchmarkReadAgainstReadingEachFeature() throws IOException
+    {
+        int xSize = 200;
+        int ySize = 200;
+        int featureCount = 500;
+        int fileCount = 20;
+        int warmups = 2;
+        int iterations = 5;
+
+        List<String> paths = new ArrayList<>();
+        for ( int i = 0; i < fileCount; i++ )
+        {
+            Instant validTime = T0.plus( Duration.ofHours( i + 1L ) );
+            Path next = GridExtractorTest.writeGrid( directory.resolve( "benchmark_" + i + ".nc" ),
+                                                     xSize,
+                                                     ySize,
+                                                     T0,
+                                                     validTime,
+                                                     i * 100_000 );
+            paths.add( next.toString() );
+        }
+
+        // Features spread across the grid
+        List<Feature> features = new ArrayList<>();
+        for ( int i = 0; i < featureCount; i++ )
+        {
+            int x = ( i * 37 ) % xSize;
+            int y = ( i * 53 ) % ySize;
+            features.add( GridExtractorTest.getFeature( paths.get( 0 ), x, y ) );
+        }
+
+        long slabNanos = 0;
+        long featureNanos = 0;
+
+        for ( int i = 0; i < warmups + iterations; i++ )
+        {
+            long start = System.nanoTime();
+            for ( String next : paths )
+            {
+                GridExtractor.read( next, VARIABLE_NAME, features, true );
+            }
+            long slabElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for ( String next : paths )
+            {
+                for ( Feature feature : features )
+                {
+                    GridExtractorTest.readOneFeature( next, feature );
+                }
+            }
+            long featureElapsed = System.nanoTime() - start;
+
+            if ( i >= warmups )
+            {
+                slabNanos += slabElapsed;
+                featureNanos += featureElapsed;
+            }
+        }
+
+        double reads = ( double ) featureCount * fileCount * iterations;
+
+        LOGGER.info( "Read {} features from {} grids of {} x {} cells in {} iterations after {} warm-up iterations. "
+                     + "One slab per grid: {} features/s. One read per feature: {} features/s. Speed-up: {}.",
+                     featureCount,
+                     fileCount,
+                     xSize,
+                     ySize,
+                     iterations,
+                     warmups,
+                     Math.round( reads / ( slabNanos / 1.0E9 ) ),
+                     Math.round( reads / ( featureNanos / 1.0E9 ) ),
+                     ( double ) featureNanos / slabNanos );
+    }
+
+    /**
+     * Writes a grid with one time whose projection and projection coordinates are taken from the default gridded
+     * output template. The grid is a block of cells from the middle of the template grid. The value of each cell is
+     * given by {@link #getValue(double, int, int)}.
+     *
+     * @param path the path to write
+     * @param xSize the number of cells in the x direction
+     * @param ySize the number of cells in the y direction
+     * @param referenceTime the reference time
+     * @param validTime the valid time
+     * @param offset the offset of the cell values
+     * @return the path written
+     * @throws IOException if the grid could not be written
+     */
+
+    static Path writeGrid( Path path,
+                           int xSize,
+                           int ySize,
+                           Instant referenceTime,
+                           Instant validTime,
+                           double offset )
+            throws IOException
+    {
+        try ( NetcdfFile template = NetcdfFiles.open( TEMPLATE );
+              NetcdfFileWriter writer = NetcdfFileWriter.createNew( NetcdfFileWriter.Version.netcdf3,
+                                                                    path.toString() ) )
+        {
+            Variable templateX = template.findVariable( "x" );
+            Variable templateY = template.findVariable( "y" );
+            Variable templateProjection = template.findVariable( "ProjectionCoordinateSystem" );
+            int xOrigin = ( templateX.getDimension( 0 )
+                                     .getLength() - xSize ) / 2;
+            int yOrigin = ( templateY.getDimension( 0 )
+                                     .getLength() - ySize ) / 2;
+
+            writer.addGlobalAttribute( "Conventions", "CF-1.6" );
+
+            Dimension time = writer.addDimension( null, "time", 1, false, false );
+            Dimension referenceTimeDimension = writer.addDimension( null, "reference_time", 1, false, false );
+            Dimension y = writer.addDimension( null, "y", ySize, false, false );
+            Dimension x = writer.addDimension( null, "x", xSize, false, false );
+
+            Variable timeVariable = writer.addVariable( "time", DataType.INT, List.of( time ) );
+            timeVariable.addAttribute( new Attribute( "units", "minutes since 1970-01-01 00:00:00 UTC" ) );
+            timeVariable.addAttribute( new Attribute( "standard_name", "time" ) );
+
+            Variable referenceTimeVariable =
+                    writer.addVariable( "reference_time", DataType.INT, List.of( referenceTimeDimension ) );
+            referenceTimeVariable.addAttribute( new Attribute( "units", "minutes since 1970-01-01 00:00:00 UTC" ) );
+            referenceTimeVariable.addAttribute( new Attribute( "standard_name", "forecast_reference_time" ) );
+
+            Variable yVariable = writer.addVariable( "y", templateY.getDataType(), List.of( y ) );
+            GridExtractorTest.copyAttributes( templateY, yVariable );
+            Variable xVariable = writer.addVariable( "x", templateX.getDataType(), List.of( x ) );
+            GridExtractorTest.copyAttributes( templateX, xVariable );
+
+            Variable projection = writer.addVariable( "ProjectionCoordinateSystem", DataType.INT, List.of() );
+            GridExtractorTest.copyAttributes( templateProjection, projection );
+
+            Variable values = writer.addVariable( VARIABLE_NAME, DataType.FLOAT, List.of( time, y, x ) );
+            values.addAttribute( new Attribute( "units", UNIT ) );
+            values.addAttribute( new Attribute( "grid_mapping", "ProjectionCoordinateSystem" ) );
+
+            writer.create();
+
+            writer.write( "time", GridExtractorTest.getMinutes( validTime ) );
+            writer.write( "reference_time", GridExtractorTest.getMinutes( referenceTime ) );
+            writer.write( "y", templateY.read( new int[] { yOrigin }, new int[] { ySize } ) );
+            writer.write( "x", templateX.read( new int[] { xOrigin }, new int[] { xSize } ) );
+
+            ArrayFloat.D3 cells = new ArrayFloat.D3( 1, ySize, xSize );
+            for ( int j = 0; j < ySize; j++ )
+            {
+                for ( int i = 0; i < xSize; i++ )
+                {
+                    cells.set( 0, j, i, ( float ) GridExtractorTest.getValue( offset, i, j ) );
+                }
+            }
+
+            writer.write( VARIABLE_NAME, cells );
+        }
+        catch ( InvalidRangeException e )
+        {
+            throw new IOException( "Failed to write a grid to " + path + ".", e );
+        }
+
+        return path;
+    }
+
+    /**
+     * Returns the value of a cell in a grid written by {@link #writeGrid(Path, int, int, Instant, Instant, double)}.
+     * @param offset the offset of the cell values
+     * @param x the x index
+     * @param y the y index
+     * @return the cell value
+     */
+
+    static double getValue( double offset, int x, int y )
+    {
+        return offset + y * 100.0 + x;
+    }
+
+    /**
+     * Returns a point feature at the center of a grid cell.
+     * @param path the path to the grid
+     * @param x the x index
+     * @param y the y index
+     * @return the feature
+     * @throws IOException if the grid could not be read
+     */
+
+    static Feature getFeature( String path, int x, int y ) throws IOException
+    {
+        try ( GridDataset dataset = GridDataset.open( path ) )
+        {
+            GridCoordSystem system = dataset.findGridDatatype( VARIABLE_NAME )
+                                            .getCoordinateSystem();
+            LatLonPoint point = system.getLatLon( x, y );
+            return GridExtractorTest.getFeature( "POINT ( " + point.getLongitude() + " " + point.getLatitude() + " )" );
+        }
+    }
+
+    /**
+     * @param wkt the point feature WKT
+     * @return the feature
+     */
+
+    static Feature getFeature( String wkt )
+    {
+        return Feature.of( MessageUtilities.getGeometry( wkt, null, null, wkt ) );
+    }
+
+    /**
+     * Reads the value of one feature from a grid on its own.
+     * @param path the path to the grid
+     * @param feature the feature
+     * @return the value
+     * @throws IOException if the grid could not be read
+     */
+
+    private static double readOneFeature( String path, Feature feature ) throws IOException
+    {
+        try ( GridDataset dataset = GridDataset.open( path ) )
+        {
+            GridDatatype variable = dataset.findGridDatatype( VARIABLE_NAME );
+            double[] lonLat = GridExtractorTest.getLonLat( feature.getWkt() );
+            int[] xy = variable.getCoordinateSystem()
+                               .findXYindexFromLatLon( lonLat[1], lonLat[0], null );
+            return variable.readDataSlice( 0, 0, xy[1], xy[0] )
+                           .getDouble( 0 );
+        }
+    }
+
+    /**
+     * @param wkt the point WKT written by {@link #getFeature(String, int, int)}
+     * @return the longitude and latitude
+     */
+
+    private static double[] getLonLat( String wkt )
+    {
+        String[] parts = wkt.replace( "POINT ( ", "" )
+                            .replace( " )", "" )
+                            .split( " " );
+        return new double[] { Double.parseDouble( parts[0] ), Double.parseDouble( parts[1] ) };
+    }
+
+    /**
+     * Copies the attributes of a template variable that may be written to a netCDF-3 file.
+     * @param from the template variable
+     * @param to the variable to write
+     */
+
+    private static void copyAttributes( Variable from, Variable to )
+    {
+        for ( Attribute attribute : from.getAttributes() )
+        {
+            DataType type = attribute.getDataType();
+            if ( type == DataType.STRING
+                 || type == DataType.CHAR
+                 || type == DataType.INT
+                 || type == DataType.FLOAT
+                 || type == DataType.DOUBLE )
+            {
+                to.addAttribute( new Attribute( attribute.getShortName(), attribute ) );
+            }
+        }
+    }
+
+    /**
+     * @param time the time
+     * @return the time in minutes since the epoch
+     */
+
+    private static Array getMinutes( Instant time )
+    {
+        ArrayInt.D1 minutes = new ArrayInt.D1( 1, false );
+        minutes.set( 0, ( int ) Duration.between( Instant.EPOCH, time )
+                                        .toMinutes() );
+        return minutes;
+    }
+}
@@ -0,0 +1,190 @@
+package wres.reading.netcdf.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wres.datamodel.space.Feature;
+import wres.datamodel.time.DoubleEvent;
+import wres.datamodel.time.TimeSeries;
+import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.time.TimeWindowOuter;
+import wres.statistics.MessageUtilities;
+import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+
+/**
+ * Tests the {@link GridReader}.
+ *
+ * @author James Brown
+ */
+
+class GridReaderTest
+{
+    /** The first valid time. */
+    private static final Instant T1 = GridExtractorTest.T0.plus( Duration.ofHours( 1 ) );
+
+    /** The second valid time. */
+    private static final Instant T2 = GridExtractorTest.T0.plus( Duration.ofHours( 2 ) );
+
+    @Test
+    void testGetSingleValuedTimeSeriesGathersPathsInPathOrderWhenReadInParallel( @TempDir Path directory )
+            throws IOException
+    {
+        // The first two paths contain duplicate events, which are composed into time-series in path order
+        String first = GridExtractorTest.writeGrid( directory.resolve( "first.nc" ),
+                                                    GridExtractorTest.X_SIZE,
+                                                    GridExtractorTest.Y_SIZE,
+                                                    GridExtractorTest.T0,
+                                                    T1,
+                                                    0 )
+                                        .toString();
+        String second = GridExtractorTest.writeGrid( directory.resolve( "second.nc" ),
+                                                     GridExtractorTest.X_SIZE,
+                                                     GridExtractorTest.Y_SIZE,
+                                                     GridExtractorTest.T0,
+                                                     T1,
+                                                     1000 )
+                                         .toString();
+        String third = GridExtractorTest.writeGrid( directory.resolve( "third.nc" ),
+                                                    GridExtractorTest.X_SIZE,
+                                                    GridExtractorTest.Y_SIZE,
+                                                    GridExtractorTest.T0,
+                                                    T2,
+                                                    2000 )
+                                        .toString();
+
+        Feature one = GridExtractorTest.getFeature( first, 2, 3 );
+        Feature two = GridExtractorTest.getFeature( first, 9, 5 );
+
+        GridRequest request = new GridRequest( List.of( first, second, third ),
+                                               Set.of( one, two ),
+                                               GridExtractorTest.VARIABLE_NAME,
+                                               TimeWindowOuter.of( MessageUtilities.getTimeWindow() ),
+                                               true,
+                                               null );
+
+        // Read the paths in parallel, completing them in the reverse of path order
+        Executor executor = GridReaderTest.getReversingExecutor( 3 );
+        Map<Feature, List<TimeSeries<Double>>> actual =
+                GridReaderTest.collect( GridReader.getSingleValuedTimeSeries( request, executor ) );
+
+        Map<Feature, List<TimeSeries<Double>>> expected = Map.of( one, GridReaderTest.getExpectedSeries( one, 2, 3 ),
+                                                                  two, GridReaderTest.getExpectedSeries( two, 9, 5 ) );
+
+        assertEquals( expected, actual );
+
+        // Same as reading the paths sequentially
+        Map<Feature, List<TimeSeries<Double>>> sequential =
+                GridReaderTest.collect( GridReader.getSingleValuedTimeSeries( request ) );
+
+        assertEquals( sequential, actual );
+    }
+
+    /**
+     * Returns the time-series expected for one feature, namely one time-series that contains the events of the first
+     * and third paths, followed by one time-series that contains the duplicate event of the second path.
+     * @param feature the feature
+     * @param x the x index of the feature
+     * @param y the y index of the feature
+     * @return the expected time-series
+     */
+
+    private static List<TimeSeries<Double>> getExpectedSeries( Feature feature, int x, int y )
+    {
+        TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0, GridExtractorTest.T0 ),
+                                                             null,
+                                                             GridExtractorTest.VARIABLE_NAME,
+                                                             feature,
+                                                             GridExtractorTest.UNIT );
+
+        TimeSeries<Double> first =
+                new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                                .addEvent( DoubleEvent.of( T1, GridExtractorTest.getValue( 0, x, y ) ) )
+                                                .addEvent( DoubleEvent.of( T2,
+                                                                           GridExtractorTest.getValue( 2000, x, y ) ) )
+                                                .build();
+        TimeSeries<Double> second =
+                new TimeSeries.Builder<Double>().setMetadata( metadata )
+                                                .addEvent( DoubleEvent.of( T1,
+                                                                           GridExtractorTest.getValue( 1000, x, y ) ) )
+                                                .build();
+
+        return List.of( first, second );
+    }
+
+    /**
+     * @param series the time-series per feature
+     * @return the time-series per feature, collected to lists
+     */
+
+    private static Map<Feature, List<TimeSeries<Double>>> collect( Map<Feature, Stream<TimeSeries<Double>>> series )
+    {
+        return series.entrySet()
+                     .stream()
+                     .collect( Collectors.toMap( Map.Entry::getKey,
+                                                 next -> next.getValue()
+                                                             .toList() ) );
+    }
+
+    /**
+     * Returns an executor that runs each task on its own thread and completes the tasks in the reverse of the order
+     * in which they were submitted.
+     * @param taskCount the number of tasks to be submitted
+     * @return the executor
+     */
+
+    private static Executor getReversingExecutor( int taskCount )
+    {
+        List<CountDownLatch> completed = new ArrayList<>();
+        for ( int i = 0; i < taskCount; i++ )
+        {
+            completed.add( new CountDownLatch( 1 ) );
+        }
+
+        AtomicInteger submitted = new AtomicInteger();
+
+        return task -> {
+            int index = submitted.getAndIncrement();
+            Thread thread = new Thread( () -> {
+                try
+                {
+                    // Wait for the next task to complete
+                    if ( index + 1 < taskCount )
+                    {
+                        completed.get( index + 1 )
+                                 .await( 1, TimeUnit.MINUTES );
+                    }
+
+                    task.run();
+                }
+                catch ( InterruptedException e )
+                {
+                    Thread.currentThread()
+                          .interrupt();
+                }
+                finally
+                {
+                    completed.get( index )
+                             .countDown();
+                }
+            } );
+            thread.start();
+        };
+    }
+}
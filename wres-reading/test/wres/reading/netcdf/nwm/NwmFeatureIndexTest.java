@@ -0,0 +1,141 @@
+package wres.reading.netcdf.nwm;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link NwmFeatureIndex}.
+ *
+ * @author James Brown
+ */
+class NwmFeatureIndexTest
+{
+    /** Some unsorted features. */
+    private static final long[] FEATURES = { 101, 7, 18384141, 55, 3 };
+
+    /** A sidecar directory. */
+    private Path directory;
+
+    @BeforeEach
+    void runBeforeEachTest() throws IOException
+    {
+        this.directory = Files.createTempDirectory( "wres_nwm_feature_index_test" );
+    }
+
+    @Test
+    void testIndexOfFindsPositionOfUnsortedFeatures()
+    {
+        NwmFeatureIndex index = NwmFeatureIndex.of( "foo", FEATURES );
+
+        assertAll( () -> assertEquals( 0, index.indexOf( 101 ) ),
+                   () -> assertEquals( 2, index.indexOf( 18384141 ) ),
+                   () -> assertEquals( 4, index.indexOf( 3 ) ),
+                   () -> assertTrue( index.indexOf( 8 ) < 0 ),
+                   () -> assertEquals( 5, index.size() ) );
+    }
+
+    @Test
+    void testIndexOfFindsPositionOfSortedFeatures()
+    {
+        NwmFeatureIndex index = NwmFeatureIndex.of( "foo", new long[] { 3, 7, 55 } );
+
+        assertAll( () -> assertEquals( 1, index.indexOf( 7 ) ),
+                   () -> assertTrue( index.indexOf( 8 ) < 0 ) );
+    }
+
+    @Test
+    void testGetReadsIndexFromSidecar() throws IOException
+    {
+        String key = NwmFeatureIndex.getKey( "v2.1", "feature_id", System.nanoTime() );
+        AtomicInteger reads = new AtomicInteger();
+        Supplier<long[]> reader = () -> {
+            reads.incrementAndGet();
+            return FEATURES;
+        };
+
+        NwmFeatureIndex.get( key, this.directory, reader );
+
+        // Copy the sidecar to another key, which is not yet in memory
+        String anotherKey = key + "_copy";
+        Files.copy( this.directory.resolve( key + ".idx" ), this.directory.resolve( anotherKey + ".idx" ) );
+        NwmFeatureIndex copy = NwmFeatureIndex.get( anotherKey, this.directory, reader );
+
+        assertAll( () -> assertEquals( 1, reads.get() ),
+                   () -> assertEquals( 2, copy.indexOf( 18384141 ) ),
+                   () -> assertEquals( anotherKey, copy.getKey() ),
+                   () -> assertTrue( copy.isFromSidecar() ) );
+    }
+
+    @Test
+    void testRebuildReplacesStaleSidecar() throws IOException
+    {
+        String key = NwmFeatureIndex.getKey( "v2.1", "feature_id", System.nanoTime() );
+        long[] current = { 101, 7, 18384141, 55, 4 };
+
+        // Write a sidecar for the previous features, which is stale
+        String staleKey = key + "_stale";
+        NwmFeatureIndex.get( staleKey, this.directory, () -> FEATURES );
+        Files.copy( this.directory.resolve( staleKey + ".idx" ), this.directory.resolve( key + ".idx" ) );
+
+        NwmFeatureIndex stale = NwmFeatureIndex.get( key, this.directory, () -> current );
+        NwmFeatureIndex rebuilt = NwmFeatureIndex.rebuild( stale, this.directory, () -> current );
+        NwmFeatureIndex reread = NwmFeatureIndex.get( key, this.directory, () -> FEATURES );
+
+        assertAll( () -> assertTrue( stale.isFromSidecar() ),
+                   () -> assertTrue( stale.indexOf( 4 ) < 0 ),
+                   () -> assertFalse( rebuilt.isFromSidecar() ),
+                   () -> assertEquals( 4, rebuilt.indexOf( 4 ) ),
+                   () -> assertSame( rebuilt, reread ) );
+    }
+
+    @Test
+    void testRebuildReturnsReplacementWithoutReadingFeatures() throws IOException
+    {
+        String key = NwmFeatureIndex.getKey( "v2.1", "feature_id", System.nanoTime() );
+        AtomicInteger reads = new AtomicInteger();
+        Supplier<long[]> reader = () -> {
+            reads.incrementAndGet();
+            return FEATURES;
+        };
+
+        // Read the same sidecar twice
+        NwmFeatureIndex.get( key + "_source", this.directory, reader );
+        Files.copy( this.directory.resolve( key + "_source.idx" ), this.directory.resolve( key + ".idx" ) );
+        NwmFeatureIndex stale = NwmFeatureIndex.get( key, this.directory, reader );
+
+        NwmFeatureIndex rebuilt = NwmFeatureIndex.rebuild( stale, this.directory, reader );
+        NwmFeatureIndex again = NwmFeatureIndex.rebuild( stale, this.directory, reader );
+
+        assertAll( () -> assertEquals( 2, reads.get() ),
+                   () -> assertSame( rebuilt, again ),
+                   () -> assertNotSame( stale, rebuilt ) );
+    }
+
+    @Test
+    void testGetKeyReplacesUnsafeCharacters()
+    {
+        assertEquals( "v2.1_channel_rt_conus_feature_id_2776738",
+                      NwmFeatureIndex.getKey( "v2.1 channel_rt/conus", "feature_id", 2776738 ) );
+    }
+
+    @AfterEach
+    void runAfterEachTest() throws IOException
+    {
+        FileUtils.deleteDirectory( this.directory.toFile() );
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
@@ -330,6 +331,20 @@ public class NwmTimeSeriesTest
     }
 
 
+    @Test
+    public void gatherPlanCoalescesNearbyIndicesAndPreservesOrder()
+    {
+        int[] indices = { 5000, 3, 10, 20000, 7 };
+
+        NwmTimeSeries.GatherPlan plan = NwmTimeSeries.GatherPlan.of( indices, 10 );
+
+        assertArrayEquals( new int[] { 3, 5000, 20000 }, plan.origins() );
+        assertArrayEquals( new int[] { 8, 1, 1 }, plan.shapes() );
+        assertArrayEquals( new int[] { 1, 0, 0, 2, 0 }, plan.rangeOfIndex() );
+        assertArrayEquals( new int[] { 0, 0, 7, 0, 4 }, plan.offsetOfIndex() );
+    }
+
+
     @Test
     // To try this against the real service, use a new date, remove @Ignore
     @Ignore
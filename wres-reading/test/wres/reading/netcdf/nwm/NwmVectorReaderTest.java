@@ -1,5 +1,6 @@
 package wres.reading.netcdf.nwm;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
@@ -9,6 +10,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -119,4 +121,20 @@ class NwmVectorReaderTest
         assertEquals( 24, actual.size() );
     }
 
+    @Test
+    void testGetFeatureBlockSizeIncreasesForDenseFeatures()
+    {
+        List<Long> dense = LongStream.range( 1000, 3000 )
+                                     .boxed()
+                                     .toList();
+        List<Long> sparse = LongStream.range( 0, 2000 )
+                                      .map( i -> i * 1000 )
+                                      .boxed()
+                                      .toList();
+
+        assertAll( () -> assertEquals( 1000, NwmVectorReader.getFeatureBlockSize( dense ) ),
+                   () -> assertEquals( 100, NwmVectorReader.getFeatureBlockSize( sparse ) ),
+                   () -> assertEquals( 100, NwmVectorReader.getFeatureBlockSize( List.of( 1L, 2L ) ) ) );
+    }
+
 }
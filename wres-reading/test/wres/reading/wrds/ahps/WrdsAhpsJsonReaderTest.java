@@ -487,5 +487,99 @@ class WrdsAhpsJsonReaderTest
             assertEquals( expected, actual );
         }
     }
-}
 
+    @Test
+    void testReadForecastsWhenHeaderFollowsForecastsAppliesMissingValues() throws IOException
+    {
+        String forecast = """
+                {
+                    "location": {
+                        "names": {
+                            "nwsLid": "FROV2",
+                            "nwsName": "Front Royal"
+                        }
+                    },
+                    "issuedTime": "%s",
+                    "parameterCodes": {
+                        "physicalElement": "QR",
+                        "duration": "I",
+                        "typeSource": "FF",
+                        "extremum": "Z",
+                        "probability": "Z"
+                    },
+                    "units": {
+                        "streamflow": "KCFS"
+                    },
+                    "members": [
+                        {
+                            "identifier": "1",
+                            "dataPointsList": [
+                                [
+                                    {
+                                        "time": "2021-11-14T18:00:00Z",
+                                        "value": %s
+                                    },
+                                    {
+                                        "time": "2021-11-15T00:00:00Z",
+                                        "value": 2.01
+                                    }
+                                ]
+                            ]
+                        }
+                    ]
+                }""";
+
+        String json = "{ \"forecasts\": [ "
+                      + forecast.formatted( "2021-11-14T13:46:00Z", "-999" )
+                      + ", "
+                      + forecast.formatted( "2021-11-14T14:46:00Z", "2.12" )
+                      + " ], \"header\": { \"missing_values\": [ -999, -9999 ] } }";
+
+        WrdsAhpsJsonReader reader = WrdsAhpsJsonReader.of();
+
+        try ( InputStream inputStream = new ByteArrayInputStream( json.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            List<TimeSeries<Double>> actual = tupleStream.map( TimeSeriesTuple::getSingleValuedTimeSeries )
+                                                         .toList();
+
+            Geometry geometry = MessageUtilities.getGeometry( "FROV2",
+                                                              "Front Royal",
+                                                              null,
+                                                              null );
+
+            TimeSeriesMetadata first = TimeSeriesMetadata.of( Map.of( ReferenceTimeType.ISSUED_TIME,
+                                                                      Instant.parse( "2021-11-14T13:46:00Z" ) ),
+                                                              TimeScaleOuter.of(),
+                                                              "QR",
+                                                              Feature.of( geometry ),
+                                                              "KCFS" );
+            TimeSeriesMetadata second = TimeSeriesMetadata.of( Map.of( ReferenceTimeType.ISSUED_TIME,
+                                                                       Instant.parse( "2021-11-14T14:46:00Z" ) ),
+                                                               TimeScaleOuter.of(),
+                                                               "QR",
+                                                               Feature.of( geometry ),
+                                                               "KCFS" );
+
+            // The missing value in the first forecast is only known once the header is read
+            TimeSeries<Double> firstSeries =
+                    new TimeSeries.Builder<Double>().addEvent( Event.of( Instant.parse( "2021-11-14T18:00:00Z" ),
+                                                                         Double.NaN ) )
+                                                    .addEvent( Event.of( Instant.parse( "2021-11-15T00:00:00Z" ),
+                                                                         2.01 ) )
+                                                    .setMetadata( first )
+                                                    .build();
+            TimeSeries<Double> secondSeries =
+                    new TimeSeries.Builder<Double>().addEvent( Event.of( Instant.parse( "2021-11-14T18:00:00Z" ),
+                                                                         2.12 ) )
+                                                    .addEvent( Event.of( Instant.parse( "2021-11-15T00:00:00Z" ),
+                                                                         2.01 ) )
+                                                    .setMetadata( second )
+                                                    .build();
+
+            List<TimeSeries<Double>> expected = List.of( firstSeries, secondSeries );
+
+            assertEquals( expected, actual );
+        }
+    }
+}
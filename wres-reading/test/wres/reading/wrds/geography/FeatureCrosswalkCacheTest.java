@@ -0,0 +1,134 @@
+package wres.reading.wrds.geography;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import wres.config.yaml.components.FeatureAuthority;
+
+/**
+ * Tests the {@link FeatureCrosswalkCache}.
+ */
+
+class FeatureCrosswalkCacheTest
+{
+    /** A feature service. */
+    private static final URI SERVICE = URI.create( "https://foo/api/location/v3.0/metadata" );
+
+    @Test
+    void testGetReturnsCrosswalksFromPersistentTierAndIgnoresOtherAuthorities() throws IOException
+    {
+        Path directory = Files.createTempDirectory( "wres_feature_crosswalks" );
+
+        try
+        {
+            FeatureCrosswalkCache cache = FeatureCrosswalkCache.of( directory, Duration.ofHours( 1 ) );
+            cache.put( SERVICE, FeatureAuthority.NWS_LID, FeatureAuthority.USGS_SITE_CODE, Map.of( "FOO", "01" ) );
+
+            FeatureCrosswalkCache another = FeatureCrosswalkCache.of( directory, Duration.ofHours( 1 ) );
+            Map<String, String> actual = another.get( SERVICE,
+                                                      FeatureAuthority.NWS_LID,
+                                                      FeatureAuthority.USGS_SITE_CODE,
+                                                      Set.of( "FOO", "BAR" ) );
+            Map<String, String> actualOther = another.get( SERVICE,
+                                                           FeatureAuthority.NWS_LID,
+                                                           FeatureAuthority.NWM_FEATURE_ID,
+                                                           Set.of( "FOO" ) );
+
+            assertAll( () -> assertEquals( Map.of( "FOO", "01" ), actual ),
+                       () -> assertEquals( Map.of(), actualOther ) );
+        }
+        finally
+        {
+            FileUtils.deleteDirectory( directory.toFile() );
+        }
+    }
+
+    @Test
+    void testGetReturnsNoExpiredCrosswalks() throws InterruptedException
+    {
+        FeatureCrosswalkCache cache = FeatureCrosswalkCache.of( null, Duration.ofMillis( 1 ) );
+        cache.put( SERVICE, FeatureAuthority.NWS_LID, FeatureAuthority.USGS_SITE_CODE, Map.of( "FOO", "01" ) );
+
+        Thread.sleep( 10 );
+
+        Map<String, String> actual = cache.get( SERVICE,
+                                                FeatureAuthority.NWS_LID,
+                                                FeatureAuthority.USGS_SITE_CODE,
+                                                Set.of( "FOO" ) );
+
+        assertEquals( Map.of(), actual );
+    }
+
+    @Test
+    void testCompactionKeepsCrosswalksAppendedConcurrently() throws Exception
+    {
+        Path directory = Files.createTempDirectory( "wres_feature_crosswalks" );
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+        try
+        {
+            // Replace a crosswalk, so that each new instance compacts the persistent file on reading it
+            FeatureCrosswalkCache writer = FeatureCrosswalkCache.of( directory, Duration.ofHours( 1 ) );
+            writer.put( SERVICE, FeatureAuthority.NWS_LID, FeatureAuthority.USGS_SITE_CODE, Map.of( "FOO", "01" ) );
+            writer.put( SERVICE, FeatureAuthority.NWS_LID, FeatureAuthority.USGS_SITE_CODE, Map.of( "FOO", "02" ) );
+
+            Set<String> names = IntStream.range( 0, 200 )
+                                         .mapToObj( i -> "BAR" + i )
+                                         .collect( Collectors.toSet() );
+
+            Future<?> appending = executor.submit( () -> {
+                for ( String name : names )
+                {
+                    writer.put( SERVICE,
+                                FeatureAuthority.NWS_LID,
+                                FeatureAuthority.USGS_SITE_CODE,
+                                Map.of( name, name ) );
+                }
+            } );
+
+            Future<?> compacting = executor.submit( () -> {
+                for ( int i = 0; i < 50; i++ )
+                {
+                    FeatureCrosswalkCache.of( directory, Duration.ofHours( 1 ) )
+                                         .get( SERVICE,
+                                               FeatureAuthority.NWS_LID,
+                                               FeatureAuthority.USGS_SITE_CODE,
+                                               Set.of( "FOO" ) );
+                }
+            } );
+
+            appending.get( 1, TimeUnit.MINUTES );
+            compacting.get( 1, TimeUnit.MINUTES );
+
+            FeatureCrosswalkCache reader = FeatureCrosswalkCache.of( directory, Duration.ofHours( 1 ) );
+            Map<String, String> actual = reader.get( SERVICE,
+                                                     FeatureAuthority.NWS_LID,
+                                                     FeatureAuthority.USGS_SITE_CODE,
+                                                     names );
+
+            assertEquals( names, actual.keySet() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+            FileUtils.deleteDirectory( directory.toFile() );
+        }
+    }
+}
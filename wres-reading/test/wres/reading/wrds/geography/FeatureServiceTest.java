@@ -0,0 +1,240 @@
+package wres.reading.wrds.geography;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
+
+import wres.config.yaml.components.DatasetBuilder;
+import wres.config.yaml.components.EvaluationDeclaration;
+import wres.config.yaml.components.EvaluationDeclarationBuilder;
+import wres.config.yaml.components.FeatureAuthority;
+import wres.reading.ReadException;
+
+/**
+ * Tests the {@link FeatureService}.
+ */
+
+class FeatureServiceTest
+{
+    /** The path to the feature service. */
+    private static final String SERVICE_PATH = "/api/location/v3.0/metadata";
+
+    /** A response from the feature service. */
+    private static final String RESPONSE = """
+            {
+                "deployment": {
+                    "api_url": "foo_url",
+                    "stack": "prod",
+                    "version": "v3.5.6",
+                    "api_caller": "None"
+                },
+                "locations": [
+                    {
+                        "identifiers": {
+                            "nws_lid": "FOO",
+                            "usgs_site_code": "01",
+                            "nwm_feature_id": "1"
+                        }
+                    },
+                    {
+                        "identifiers": {
+                            "nws_lid": "BAR",
+                            "usgs_site_code": "02",
+                            "nwm_feature_id": "2"
+                        }
+                    }
+                ]
+            }
+            """;
+
+    /** Stub feature service. */
+    private ClientAndServer mockServer;
+
+    /** Directory for the persistent tier of the feature crosswalk cache. */
+    private Path cacheDirectory;
+
+    @BeforeEach
+    void runBeforeEachTest() throws IOException
+    {
+        this.mockServer = ClientAndServer.startClientAndServer( 0 );
+        this.cacheDirectory = Files.createTempDirectory( "wres_feature_crosswalks" );
+    }
+
+    @Test
+    void testBulkLookupReadsFeaturesFromThePersistentCacheOnSecondLookup()
+    {
+        this.mockServer.when( HttpRequest.request()
+                                         .withPath( SERVICE_PATH + "/nws_lid/.*" )
+                                         .withMethod( "GET" ) )
+                       .respond( HttpResponse.response( RESPONSE ) );
+
+        URI serviceUri = URI.create( "http://localhost:" + this.mockServer.getLocalPort() + SERVICE_PATH );
+        wres.config.yaml.components.FeatureService featureService =
+                new wres.config.yaml.components.FeatureService( serviceUri, Set.of() );
+        EvaluationDeclaration evaluation = EvaluationDeclarationBuilder.builder()
+                                                                       .left( DatasetBuilder.builder()
+                                                                                            .build() )
+                                                                       .right( DatasetBuilder.builder()
+                                                                                             .build() )
+                                                                       .build();
+        Set<String> featureNames = Set.of( "FOO", "BAR" );
+
+        Map<String, String> first =
+                FeatureService.bulkLookup( evaluation,
+                                           featureService,
+                                           FeatureAuthority.NWS_LID,
+                                           FeatureAuthority.USGS_SITE_CODE,
+                                           featureNames,
+                                           FeatureCrosswalkCache.of( this.cacheDirectory, Duration.ofHours( 1 ) ) );
+
+        // A new cache that shares the persistent tier, as in a later evaluation
+        Map<String, String> second =
+                FeatureService.bulkLookup( evaluation,
+                                           featureService,
+                                           FeatureAuthority.NWS_LID,
+                                           FeatureAuthority.USGS_SITE_CODE,
+                                           featureNames,
+                                           FeatureCrosswalkCache.of( this.cacheDirectory, Duration.ofHours( 1 ) ) );
+
+        Map<String, String> expected = Map.of( "FOO", "01", "BAR", "02" );
+
+        assertAll( () -> assertEquals( expected, first ),
+                   () -> assertEquals( expected, second ),
+                   () -> this.mockServer.verify( HttpRequest.request()
+                                                            .withPath( SERVICE_PATH + "/nws_lid/.*" ),
+                                                 VerificationTimes.once() ) );
+    }
+
+    @Test
+    void testBulkLookupRequestsManyBatchesInParallelAndCombinesThem()
+    {
+        // Respond with the features requested
+        this.mockServer.when( HttpRequest.request()
+                                         .withPath( SERVICE_PATH + "/nws_lid/.*" )
+                                         .withMethod( "GET" ) )
+                       .respond( request -> HttpResponse.response( FeatureServiceTest.getResponse( request.getPath()
+                                                                                                          .getValue(),
+                                                                                                   false ) ) );
+
+        // Enough features to exceed the maximum length of one request
+        Set<String> featureNames = IntStream.range( 0, 500 )
+                                            .mapToObj( i -> String.format( "FEATURE%04d", i ) )
+                                            .collect( Collectors.toSet() );
+
+        Map<String, String> actual = this.bulkLookup( featureNames );
+
+        Map<String, String> expected = featureNames.stream()
+                                                   .collect( Collectors.toMap( Function.identity(),
+                                                                               name -> "USGS" + name ) );
+
+        assertAll( () -> assertEquals( expected, actual ),
+                   () -> this.mockServer.verify( HttpRequest.request()
+                                                            .withPath( SERVICE_PATH + "/nws_lid/.*" ),
+                                                 VerificationTimes.atLeast( 3 ) ) );
+    }
+
+    @Test
+    void testBulkLookupThrowsExpectedExceptionWhenOneOfManyBatchesFails()
+    {
+        // Omit a feature from the response that contains the last feature
+        this.mockServer.when( HttpRequest.request()
+                                         .withPath( SERVICE_PATH + "/nws_lid/.*" )
+                                         .withMethod( "GET" ) )
+                       .respond( request -> HttpResponse.response( FeatureServiceTest.getResponse( request.getPath()
+                                                                                                          .getValue(),
+                                                                                                   true ) ) );
+
+        Set<String> featureNames = IntStream.range( 0, 500 )
+                                            .mapToObj( i -> String.format( "FEATURE%04d", i ) )
+                                            .collect( Collectors.toSet() );
+
+        assertThrows( ReadException.class, () -> this.bulkLookup( featureNames ) );
+    }
+
+    /**
+     * Looks up the USGS site codes of the prescribed NWS identifiers from the stub feature service.
+     * @param featureNames the NWS identifiers
+     * @return the USGS site codes by NWS identifier
+     */
+
+    private Map<String, String> bulkLookup( Set<String> featureNames )
+    {
+        URI serviceUri = URI.create( "http://localhost:" + this.mockServer.getLocalPort() + SERVICE_PATH );
+        wres.config.yaml.components.FeatureService featureService =
+                new wres.config.yaml.components.FeatureService( serviceUri, Set.of() );
+        EvaluationDeclaration evaluation = EvaluationDeclarationBuilder.builder()
+                                                                       .left( DatasetBuilder.builder()
+                                                                                            .build() )
+                                                                       .right( DatasetBuilder.builder()
+                                                                                             .build() )
+                                                                       .build();
+
+        return FeatureService.bulkLookup( evaluation,
+                                          featureService,
+                                          FeatureAuthority.NWS_LID,
+                                          FeatureAuthority.USGS_SITE_CODE,
+                                          featureNames,
+                                          FeatureCrosswalkCache.of( this.cacheDirectory, Duration.ofHours( 1 ) ) );
+    }
+
+    /**
+     * Generates a response that contains each NWS identifier requested, with a USGS site code that is prefixed with
+     * "USGS".
+     * @param path the request path, which ends with the comma-separated NWS identifiers
+     * @param omitLast is true to omit the last feature, when requested
+     * @return the response
+     */
+
+    private static String getResponse( String path, boolean omitLast )
+    {
+        String names = path.substring( path.indexOf( "/nws_lid/" ) + "/nws_lid/".length() )
+                           .replace( "/", "" );
+
+        StringJoiner locations = new StringJoiner( ",",
+                                                   "{\"deployment\": {\"api_url\": \"foo_url\", \"stack\": \"prod\", "
+                                                   + "\"version\": \"v3.5.6\", \"api_caller\": \"None\"}, "
+                                                   + "\"locations\": [",
+                                                   "]}" );
+        for ( String name : names.split( "," ) )
+        {
+            if ( !omitLast || !"FEATURE0499".equals( name ) )
+            {
+                locations.add( "{\"identifiers\": {\"nws_lid\": \""
+                               + name
+                               + "\", \"usgs_site_code\": \"USGS"
+                               + name
+                               + "\"}}" );
+            }
+        }
+
+        return locations.toString();
+    }
+
+    @AfterEach
+    void runAfterEachTest() throws IOException
+    {
+        this.mockServer.stop();
+        FileUtils.deleteDirectory( this.cacheDirectory.toFile() );
+    }
+}
@@ -0,0 +1,68 @@
+package wres.reading.wrds.nwm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link DateTimeDeserializer}.
+ * @author James Brown
+ */
+
+class DateTimeDeserializerTest
+{
+    /** A formatter for the basic ISO8601 format with optional minutes and seconds, against which to compare. */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( "yyyyMMdd'T'HH[mm[ss]]'Z'" )
+                                                                        .withZone( ZoneOffset.UTC );
+
+    @Test
+    void testParseMatchesFormatter()
+    {
+        List<String> times = List.of( "20200112T01Z",
+                                      "20200112T0130Z",
+                                      "20200112T013045Z",
+                                      "20201231T235959Z",
+                                      "20200229T00Z",
+                                      // Resolved by the formatter rather than read from the digits
+                                      "20200230T01Z",
+                                      "20210229T00Z",
+                                      "20200431T00Z",
+                                      "20200112T24Z",
+                                      "20200112T2400Z" );
+
+        for ( String time : times )
+        {
+            Instant expected = FORMATTER.parse( time, Instant::from );
+
+            assertEquals( expected, DateTimeDeserializer.parse( time ), time );
+        }
+    }
+
+    @Test
+    void testParseThrowsExpectedExceptionLikeFormatter()
+    {
+        List<String> times = List.of( "20200112T0160Z",
+                                      "20200112T010060Z",
+                                      "20201312T01Z",
+                                      "20200100T01Z",
+                                      "00000112T01Z",
+                                      "2020-112T01Z",
+                                      "20200112T1Z",
+                                      "20200112T01",
+                                      "20200112X01Z",
+                                      "2020011aT01Z" );
+
+        for ( String time : times )
+        {
+            assertThrows( DateTimeException.class, () -> FORMATTER.parse( time, Instant::from ), time );
+            assertThrows( DateTimeException.class, () -> DateTimeDeserializer.parse( time ), time );
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package wres.reading.wrds.nwm;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,14 +24,19 @@ import wres.config.yaml.components.DatasetBuilder;
 import wres.config.yaml.components.DatasetOrientation;
 import wres.config.yaml.components.Source;
 import wres.config.yaml.components.SourceBuilder;
+import wres.datamodel.MissingValues;
+import wres.datamodel.scale.TimeScaleOuter;
 import wres.datamodel.space.Feature;
 import wres.datamodel.time.Event;
 import wres.datamodel.time.TimeSeries;
 import wres.datamodel.time.TimeSeriesMetadata;
+import wres.datamodel.types.Ensemble;
 import wres.reading.DataSource;
+import wres.reading.ReadException;
 import wres.reading.TimeSeriesTuple;
 import wres.statistics.MessageUtilities;
 import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
+import wres.statistics.generated.TimeScale.TimeScaleFunction;
 
 /**
  * Tests the {@link WrdsNwmJsonReader}.
@@ -36,6 +45,18 @@ import wres.statistics.generated.ReferenceTime.ReferenceTimeType;
 
 class WrdsNwmJsonReaderTest
 {
+    private static final String VARIABLE = """
+            "variable": {
+              "name": "streamflow",
+              "unit": "meter^3 / sec"
+            }""";
+
+    private static final String PARAMETER_CODES = """
+            "parameter_codes": {
+              "physicalElement": "QR",
+              "duration": "D"
+            }""";
+
     private DataSource fakeSource;
     private String jsonString;
 
@@ -156,4 +177,285 @@ class WrdsNwmJsonReaderTest
             assertEquals( expected, actual );
         }
     }
+
+    @Test
+    void testReadEnsembleForecastWhenVariableFollowsForecastsResultsInOneTimeSeries() throws IOException
+    {
+        String ensembleJson = """
+                {
+                  "forecasts": [
+                    {
+                      "features": [
+                        {
+                          "location": {
+                            "names": {
+                              "nwm_feature_id": 8588002
+                            }
+                          },
+                          "members": [
+                            {
+                              "identifier": "2",
+                              "data_points": [
+                                {
+                                  "time": "20200112T02Z",
+                                  "value": 4.0
+                                },
+                                {
+                                  "time": "20200112T01Z",
+                                  "value": null
+                                }
+                              ]
+                            },
+                            {
+                              "identifier": "1",
+                              "data_points": [
+                                {
+                                  "time": "20200112T01Z",
+                                  "value": "1.0"
+                                },
+                                {
+                                  "time": "20200112T0200Z",
+                                  "value": "2.0"
+                                }
+                              ]
+                            }
+                          ]
+                        }
+                      ],
+                      "reference_time": "20200112T00Z"
+                    }
+                  ],
+                  "variable": {
+                    "name": "streamflow",
+                    "unit": "meter^3 / sec"
+                  }
+                }""";
+
+        WrdsNwmJsonReader reader = WrdsNwmJsonReader.of();
+
+        try ( InputStream inputStream = new ByteArrayInputStream( ensembleJson.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            List<TimeSeries<Ensemble>> actual = tupleStream.map( TimeSeriesTuple::getEnsembleTimeSeries )
+                                                           .toList();
+
+            TimeSeriesMetadata metadata = TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0,
+                                                                         Instant.parse( "2020-01-12T00:00:00Z" ) ),
+                                                                 null,
+                                                                 "streamflow",
+                                                                 Feature.of( MessageUtilities.getGeometry( "8588002" ) ),
+                                                                 "meter^3 / sec" );
+
+            Ensemble.Labels labels = Ensemble.Labels.of( "1", "2" );
+            TimeSeries<Ensemble> expectedSeries =
+                    new TimeSeries.Builder<Ensemble>().addEvent( Event.of( Instant.parse( "2020-01-12T01:00:00Z" ),
+                                                                           Ensemble.of( new double[] { 1.0,
+                                                                                                MissingValues.DOUBLE },
+                                                                                        labels ) ) )
+                                                      .addEvent( Event.of( Instant.parse( "2020-01-12T02:00:00Z" ),
+                                                                           Ensemble.of( new double[] { 2.0, 4.0 },
+                                                                                        labels ) ) )
+                                                      .setMetadata( metadata )
+                                                      .build();
+
+            List<TimeSeries<Ensemble>> expected = List.of( expectedSeries );
+
+            assertEquals( expected, actual );
+        }
+    }
+
+    @Test
+    void testReadForecastWithUnsortedDataPointsResultsInSortedTimeSeries() throws IOException
+    {
+        String members = WrdsNwmJsonReaderTest.getMember( "1", "20200112T03Z", "20200112T01Z", "20200112T04Z",
+                                                          "20200112T02Z" );
+        String json = WrdsNwmJsonReaderTest.getDocument( VARIABLE, members, null );
+
+        List<TimeSeries<Double>> actual = this.readSingleValued( json );
+
+        TimeSeries<Double> expectedSeries =
+                new TimeSeries.Builder<Double>().addEvent( Event.of( Instant.parse( "2020-01-12T01:00:00Z" ), 1.0 ) )
+                                                .addEvent( Event.of( Instant.parse( "2020-01-12T02:00:00Z" ), 2.0 ) )
+                                                .addEvent( Event.of( Instant.parse( "2020-01-12T03:00:00Z" ), 3.0 ) )
+                                                .addEvent( Event.of( Instant.parse( "2020-01-12T04:00:00Z" ), 4.0 ) )
+                                                .setMetadata( WrdsNwmJsonReaderTest.getMetadata( null ) )
+                                                .build();
+
+        assertEquals( List.of( expectedSeries ), actual );
+    }
+
+    @Test
+    void testReadEnsembleForecastWithDescendingMembersResultsInOneTimeSeries() throws IOException
+    {
+        // Members in descending order of identifier, each with data points in descending order of valid time
+        String members = String.join( ",",
+                                      WrdsNwmJsonReaderTest.getMember( "3", "20200112T02Z", "20200112T01Z" ),
+                                      WrdsNwmJsonReaderTest.getMember( "2", "20200112T02Z", "20200112T01Z" ),
+                                      WrdsNwmJsonReaderTest.getMember( "1", "20200112T02Z", "20200112T01Z" ) );
+        String json = WrdsNwmJsonReaderTest.getDocument( VARIABLE, members, null );
+
+        WrdsNwmJsonReader reader = WrdsNwmJsonReader.of();
+
+        try ( InputStream inputStream = new ByteArrayInputStream( json.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            List<TimeSeries<Ensemble>> actual = tupleStream.map( TimeSeriesTuple::getEnsembleTimeSeries )
+                                                           .toList();
+
+            // The value of each data point is its position within its member, counting from one
+            Ensemble.Labels labels = Ensemble.Labels.of( "1", "2", "3" );
+            TimeSeries<Ensemble> expectedSeries =
+                    new TimeSeries.Builder<Ensemble>().addEvent( Event.of( Instant.parse( "2020-01-12T01:00:00Z" ),
+                                                                           Ensemble.of( new double[] { 2.0, 2.0, 2.0 },
+                                                                                        labels ) ) )
+                                                      .addEvent( Event.of( Instant.parse( "2020-01-12T02:00:00Z" ),
+                                                                           Ensemble.of( new double[] { 1.0, 1.0, 1.0 },
+                                                                                        labels ) ) )
+                                                      .setMetadata( WrdsNwmJsonReaderTest.getMetadata( null ) )
+                                                      .build();
+
+            assertEquals( List.of( expectedSeries ), actual );
+        }
+    }
+
+    @Test
+    void testReadForecastWithDuplicateValidTimesThrowsReadException()
+    {
+        String members = WrdsNwmJsonReaderTest.getMember( "1", "20200112T02Z", "20200112T01Z", "20200112T0200Z" );
+        String json = WrdsNwmJsonReaderTest.getDocument( VARIABLE, members, null );
+
+        assertThrows( ReadException.class, () -> this.readSingleValued( json ) );
+    }
+
+    @Test
+    void testReadForecastWithParameterCodesAfterTimeSeriesDoesNotApplyTimeScale() throws IOException
+    {
+        String members = WrdsNwmJsonReaderTest.getMember( "1", "20200112T01Z" );
+
+        // The time-series is complete before the parameter codes are read
+        String json = WrdsNwmJsonReaderTest.getDocument( VARIABLE, members, PARAMETER_CODES );
+
+        List<TimeSeries<Double>> actual = this.readSingleValued( json );
+
+        TimeSeries<Double> expectedSeries =
+                new TimeSeries.Builder<Double>().addEvent( Event.of( Instant.parse( "2020-01-12T01:00:00Z" ), 1.0 ) )
+                                                .setMetadata( WrdsNwmJsonReaderTest.getMetadata( null ) )
+                                                .build();
+
+        assertEquals( List.of( expectedSeries ), actual );
+    }
+
+    @Test
+    void testReadForecastWithParameterCodesBeforeVariableAppliesTimeScale() throws IOException
+    {
+        String members = WrdsNwmJsonReaderTest.getMember( "1", "20200112T01Z" );
+
+        // The time-series is held until the variable is read, by which time the parameter codes are known
+        String json = WrdsNwmJsonReaderTest.getDocument( null, members, PARAMETER_CODES + ",\n" + VARIABLE );
+
+        List<TimeSeries<Double>> actual = this.readSingleValued( json );
+
+        TimeScaleOuter timeScale = TimeScaleOuter.of( Duration.ofDays( 1 ), TimeScaleFunction.MEAN );
+        TimeSeries<Double> expectedSeries =
+                new TimeSeries.Builder<Double>().addEvent( Event.of( Instant.parse( "2020-01-12T01:00:00Z" ), 1.0 ) )
+                                                .setMetadata( WrdsNwmJsonReaderTest.getMetadata( timeScale ) )
+                                                .build();
+
+        assertEquals( List.of( expectedSeries ), actual );
+    }
+
+    /**
+     * @param json the document
+     * @return the single-valued time-series read from the document
+     * @throws IOException if the document could not be read
+     */
+
+    private List<TimeSeries<Double>> readSingleValued( String json ) throws IOException
+    {
+        WrdsNwmJsonReader reader = WrdsNwmJsonReader.of();
+
+        try ( InputStream inputStream = new ByteArrayInputStream( json.getBytes() );
+              Stream<TimeSeriesTuple> tupleStream = reader.read( this.fakeSource, inputStream ) )
+        {
+            return tupleStream.map( TimeSeriesTuple::getSingleValuedTimeSeries )
+                              .toList();
+        }
+    }
+
+    /**
+     * Creates a document with one forecast for one feature.
+     * @param before the root fields that precede the forecasts, optional
+     * @param members the members of the feature
+     * @param after the root fields that follow the forecasts, optional
+     * @return the document
+     */
+
+    private static String getDocument( String before, String members, String after )
+    {
+        String forecasts = """
+                "forecasts": [
+                  {
+                    "reference_time": "20200112T00Z",
+                    "features": [
+                      {
+                        "location": {
+                          "names": {
+                            "nwm_feature_id": 8588002
+                          }
+                        },
+                        "members": [ %s ]
+                      }
+                    ]
+                  }
+                ]""".formatted( members );
+
+        StringJoiner document = new StringJoiner( ",\n", "{\n", "\n}" );
+
+        if ( Objects.nonNull( before ) )
+        {
+            document.add( before );
+        }
+
+        document.add( forecasts );
+
+        if ( Objects.nonNull( after ) )
+        {
+            document.add( after );
+        }
+
+        return document.toString();
+    }
+
+    /**
+     * Creates a member whose data points have values that count from one in the order of the valid times given.
+     * @param identifier the member identifier
+     * @param validTimes the valid times
+     * @return the member
+     */
+
+    private static String getMember( String identifier, String... validTimes )
+    {
+        StringJoiner dataPoints = new StringJoiner( ", " );
+
+        for ( int i = 0; i < validTimes.length; i++ )
+        {
+            dataPoints.add( "{ \"time\": \"" + validTimes[i] + "\", \"value\": " + ( i + 1.0 ) + " }" );
+        }
+
+        return "{ \"identifier\": \"" + identifier + "\", \"data_points\": [ " + dataPoints + " ] }";
+    }
+
+    /**
+     * @param timeScale the time scale, optional
+     * @return the metadata of the time-series in a document created with {@link #getDocument(String, String, String)}
+     */
+
+    private static TimeSeriesMetadata getMetadata( TimeScaleOuter timeScale )
+    {
+        return TimeSeriesMetadata.of( Map.of( ReferenceTimeType.T0, Instant.parse( "2020-01-12T00:00:00Z" ) ),
+                                      timeScale,
+                                      "streamflow",
+                                      Feature.of( MessageUtilities.getGeometry( "8588002" ) ),
+                                      "meter^3 / sec" );
+    }
 }
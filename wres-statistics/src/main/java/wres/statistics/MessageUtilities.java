@@ -93,6 +93,11 @@ public class MessageUtilities
             formats.add( Format.PROTOBUF );
         }
 
+        if ( outputs.hasColumnar() )
+        {
+            formats.add( Format.COLUMNAR );
+        }
+
         return Collections.unmodifiableSet( formats );
     }
 
@@ -174,6 +174,12 @@ public class SettingsFactory
             systemBuilder.useDatabase( "true".equalsIgnoreCase( useDatabaseString ) );
         }
 
+        String chunkedPoolsString = System.getProperty( "wres.chunkedPools" );
+        if ( Objects.nonNull( chunkedPoolsString ) )
+        {
+            systemBuilder.chunkedPools( "true".equalsIgnoreCase( chunkedPoolsString ) );
+        }
+
         String storePath = System.getProperty( "wres.StorePath" );
         if ( storePath != null )
         {
@@ -183,14 +189,17 @@ public class SettingsFactory
         SettingsFactory.setMaximumIngestThreads( systemBuilder, systemSettings );
         SettingsFactory.setFetchSize( systemBuilder, systemSettings );
         SettingsFactory.setMaximumCopies( systemBuilder, systemSettings );
+        SettingsFactory.setMaximumCopyDelay( systemBuilder, systemSettings );
         SettingsFactory.setNetcdfCachePeriod( systemBuilder, systemSettings );
         SettingsFactory.setMinimumCachedNetcdf( systemBuilder, systemSettings );
         SettingsFactory.setMaximumCachedNetcdf( systemBuilder, systemSettings );
         SettingsFactory.setHardNetcdfCacheLimit( systemBuilder, systemSettings );
         SettingsFactory.setMaximumWebClientThreads( systemBuilder, systemSettings );
         SettingsFactory.setMaximumArchiveThreads( systemBuilder, systemSettings );
+        SettingsFactory.setMaximumArchiveMegabytes( systemBuilder, systemSettings );
 
         SettingsFactory.setMaximumPoolThreads( systemBuilder, systemSettings );
+        SettingsFactory.setPoolHeapPercent( systemBuilder, systemSettings );
         SettingsFactory.setMaximumMetricThreads( systemBuilder, systemSettings );
         SettingsFactory.setMaximumSlicingThreads( systemBuilder, systemSettings );
         SettingsFactory.setMaximumProductThreads( systemBuilder, systemSettings );
@@ -228,6 +237,20 @@ public class SettingsFactory
                                                                0 );
     }
 
+    /**
+     * Sets the maximum copy delay.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setMaximumCopyDelay( SystemSettingsBuilder systemBuilder,
+                                             SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.maximumCopyDelay",
+                                                               systemSettings.getMaximumCopyDelay(),
+                                                               systemBuilder::maximumCopyDelay,
+                                                               -1 );
+    }
+
     /**
      * Sets the cache period for NetCDF.
      * @param systemBuilder the system settings builder to update
@@ -312,6 +335,20 @@ public class SettingsFactory
                                                                0 );
     }
 
+    /**
+     * Sets the maximum number of megabytes of archive entries to buffer in memory.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setMaximumArchiveMegabytes( SystemSettingsBuilder systemBuilder,
+                                                    SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.maximumArchiveMegabytes",
+                                                               systemSettings.getMaximumArchiveMegabytes(),
+                                                               systemBuilder::maximumArchiveMegabytes,
+                                                               -1 );
+    }
+
     /**
      * Sets the maximum number of ingest threads.
      * @param systemBuilder the system settings builder to update
@@ -340,6 +377,20 @@ public class SettingsFactory
                                                                0 );
     }
 
+    /**
+     * Sets the percentage of the maximum heap available to the pools in flight.
+     * @param systemBuilder the system settings builder to update
+     * @param systemSettings the existing system settings for defaults
+     */
+    private static void setPoolHeapPercent( SystemSettingsBuilder systemBuilder,
+                                            SystemSettings systemSettings )
+    {
+        SettingsFactory.setPropertyWithIntegerGreaterThanThis( "wres.poolHeapPercent",
+                                                               systemSettings.getPoolHeapPercent(),
+                                                               systemBuilder::poolHeapPercent,
+                                                               -1 );
+    }
+
     /**
      * Sets the maximum number of product threads.
      * @param systemBuilder the system settings builder to update
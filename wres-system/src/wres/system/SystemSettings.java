@@ -39,6 +39,11 @@ public class SystemSettings
     @Builder.Default
     @XmlElement( name = "maximum_copies" )
     int maximumCopies = 200;
+    /** The maximum number of milliseconds that an ingest task waits for other tasks to copy its time-series values to
+     * the database, as part of a larger batch, before copying the partial batch itself. **/
+    @Builder.Default
+    @XmlElement( name = "maximum_copy_delay" )
+    int maximumCopyDelay = 1;
     @Builder.Default
     @XmlElement( name = "netcdf_cache_period" )
     int netcdfCachePeriod = 90;
@@ -57,6 +62,11 @@ public class SystemSettings
     @Builder.Default
     @XmlElement( name = "maximum_archive_threads" )
     Integer maximumArchiveThreads = null;
+    /** The maximum number of megabytes of archive entries to buffer in memory when reading one tarred archive. Larger
+     * entries are streamed directly to their readers or spilled to temporary files. **/
+    @Builder.Default
+    @XmlElement( name = "maximum_archive_megabytes" )
+    int maximumArchiveMegabytes = 256;
     @Builder.Default
     @XmlElement( name = "maximum_web_client_threads" )
     int maximumWebClientThreads = 3;
@@ -66,6 +76,11 @@ public class SystemSettings
     @Builder.Default
     @XmlElement( name = "maximum_pool_threads" )
     int maximumPoolThreads = 6;
+    /** The percentage of the maximum heap available to the pools in flight, which limits the number of pools admitted
+     * for processing at once. Zero to admit pools up to the maximum number of pool threads, regardless of heap. **/
+    @Builder.Default
+    @XmlElement( name = "pool_heap_percent" )
+    int poolHeapPercent = 70;
     @Builder.Default
     @XmlElement( name = "maximum_slicing_threads" )
     int maximumSlicingThreads = 1;
@@ -93,6 +108,11 @@ public class SystemSettings
     @Builder.Default
     @XmlElement( name = "feature_batch_size" )
     int featureBatchSize = 50;
+    /** Whether to retrieve a pool that contains several features in feature-specific chunks and compute the
+     * statistics incrementally, chunk by chunk, when the metrics allow. **/
+    @Builder.Default
+    @XmlElement( name = "chunked_pools" )
+    boolean chunkedPools = false;
 
     /**
      * Dummy class to allow javadoc task to find the builder created by lombok.
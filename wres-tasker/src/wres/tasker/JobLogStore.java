@@ -0,0 +1,396 @@
+package wres.tasker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.redisson.api.RList;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import wres.tasker.JobResults.WhichStream;
+
+/**
+ * An append-only store of the standard streams of jobs. Each stream is held as a list of compressed chunks. Every
+ * chunk contains {@link #CHUNK_SIZE} bytes of UTF-8 text, except the last chunk, which may be partial and is replaced
+ * as the stream grows. Thus, a byte offset within a stream identifies the chunk to read without reading the chunks
+ * that precede it. When redis is available, the chunks are held in a redis list, otherwise in memory.
+ */
+
+class JobLogStore
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger( JobLogStore.class );
+
+    /** The number of uncompressed bytes in each chunk, except the last. */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /** The prefix for the name of each list of chunks. */
+    private static final String KEY_PREFIX = "jobLog:";
+
+    /** Supplies the list of chunks for a named stream. */
+    private final Function<String, List<byte[]>> chunks;
+
+    /** The expiry of each list of chunks, which is only set in redis. */
+    private final Duration expiry;
+
+    /**
+     * Creates a store that holds the chunks in redis.
+     * @param redisson the redis client
+     * @param expiry the time after which a stream expires
+     * @return the store
+     * @throws NullPointerException if any input is null
+     */
+
+    static JobLogStore of( RedissonClient redisson, Duration expiry )
+    {
+        Objects.requireNonNull( redisson );
+        Objects.requireNonNull( expiry );
+
+        return new JobLogStore( key -> redisson.getList( key, ByteArrayCodec.INSTANCE ), expiry );
+    }
+
+    /**
+     * Creates a store that holds the chunks in memory, where they may be garbage collected under memory pressure, in
+     * keeping with the job metadata held in memory.
+     * @return the store
+     */
+
+    static JobLogStore of()
+    {
+        Cache<String, List<byte[]>> cache = Caffeine.newBuilder()
+                                                    .softValues()
+                                                    .build();
+        ConcurrentMap<String, List<byte[]>> map = cache.asMap();
+
+        return new JobLogStore( key -> map.computeIfAbsent( key,
+                                                            k -> Collections.synchronizedList( new ArrayList<>() ) ),
+                                null );
+    }
+
+    /**
+     * Creates a writer for a stream. There should be no more than one writer for each stream at any time.
+     * @param jobId the job identifier
+     * @param whichStream the stream
+     * @return the writer
+     */
+
+    Writer writer( String jobId, WhichStream whichStream )
+    {
+        List<byte[]> streamChunks = this.getChunks( jobId, whichStream );
+        return new Writer( streamChunks, this.expiry );
+    }
+
+    /**
+     * Returns the length of a stream.
+     * @param jobId the job identifier
+     * @param whichStream the stream
+     * @return the length in bytes
+     */
+
+    long size( String jobId, WhichStream whichStream )
+    {
+        List<byte[]> streamChunks = this.getChunks( jobId, whichStream );
+        int count = streamChunks.size();
+
+        if ( count == 0 )
+        {
+            return 0;
+        }
+
+        byte[] last = JobLogStore.decompress( streamChunks.get( count - 1 ) );
+        return ( long ) ( count - 1 ) * CHUNK_SIZE + last.length;
+    }
+
+    /**
+     * Writes part of a stream, reading only the chunks that overlap the requested bytes.
+     * @param jobId the job identifier
+     * @param whichStream the stream
+     * @param offset the offset of the first byte to write
+     * @param limit the offset after the last byte to write
+     * @param output the output to write to
+     * @throws IOException if the output could not be written
+     */
+
+    void write( String jobId, WhichStream whichStream, long offset, long limit, OutputStream output )
+            throws IOException
+    {
+        List<byte[]> streamChunks = this.getChunks( jobId, whichStream );
+        int count = streamChunks.size();
+
+        for ( long index = offset / CHUNK_SIZE; index < count; index++ )
+        {
+            long chunkStart = index * CHUNK_SIZE;
+
+            if ( chunkStart >= limit )
+            {
+                break;
+            }
+
+            byte[] chunk = JobLogStore.decompress( streamChunks.get( ( int ) index ) );
+            int from = ( int ) Math.max( 0, offset - chunkStart );
+            int to = ( int ) Math.min( chunk.length, limit - chunkStart );
+
+            if ( from < to )
+            {
+                output.write( chunk, from, to - from );
+            }
+        }
+    }
+
+    /**
+     * Deletes the streams of a job.
+     * @param jobId the job identifier
+     */
+
+    void delete( String jobId )
+    {
+        for ( WhichStream whichStream : WhichStream.values() )
+        {
+            List<byte[]> streamChunks = this.getChunks( jobId, whichStream );
+
+            if ( streamChunks instanceof RList<byte[]> redisList )
+            {
+                redisList.delete();
+            }
+            else
+            {
+                streamChunks.clear();
+            }
+        }
+    }
+
+    /**
+     * Appends the lines of one stream in batches. Lines are buffered until {@link #flush()} is called or a chunk is
+     * filled. Not thread-safe.
+     */
+
+    static class Writer
+    {
+        /** The chunks. */
+        private final List<byte[]> chunks;
+
+        /** The expiry of the chunks, optional. */
+        private final Duration expiry;
+
+        /** The text that has not been sealed into a full chunk. */
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+        /** The number of chunks written, including any partial chunk. */
+        private int chunkCount;
+
+        /** Whether the last chunk written is partial, in which case it is replaced on writing. */
+        private boolean partialStored;
+
+        /** Whether the pending text contains bytes that are not yet stored. */
+        private boolean dirty;
+
+        /** The index of the next line expected, or a negative number if unknown. */
+        private long nextIndex;
+
+        /** Whether the expiry has been set on the chunks. */
+        private boolean expirySet;
+
+        /**
+         * Appends a line.
+         * @param index the index of the line, which counts from zero
+         * @param line the line
+         */
+
+        void append( int index, String line )
+        {
+            // Handle missing lines by looking for gaps in incrementing integer
+            if ( this.nextIndex >= 0
+                 && index > this.nextIndex )
+            {
+                this.write( "*** Missing " + ( index - this.nextIndex ) + " lines ***" );
+            }
+            else if ( index < this.nextIndex )
+            {
+                LOGGER.debug( "Appending line {} after line {}, which is out of order.", index, this.nextIndex - 1 );
+            }
+
+            this.write( line );
+            this.nextIndex = Math.max( this.nextIndex, index + 1L );
+        }
+
+        /**
+         * Stores any text that has not been stored, replacing any partial chunk stored previously.
+         */
+
+        void flush()
+        {
+            if ( this.dirty )
+            {
+                this.store( this.pending.toByteArray() );
+                this.partialStored = true;
+                this.dirty = false;
+            }
+        }
+
+        /**
+         * Writes a line and seals any chunks that are full.
+         * @param line the line
+         */
+
+        private void write( String line )
+        {
+            byte[] bytes = ( line + System.lineSeparator() ).getBytes( StandardCharsets.UTF_8 );
+            this.pending.write( bytes, 0, bytes.length );
+            this.dirty = true;
+
+            if ( this.pending.size() >= CHUNK_SIZE )
+            {
+                byte[] text = this.pending.toByteArray();
+                int start = 0;
+
+                while ( text.length - start >= CHUNK_SIZE )
+                {
+                    byte[] chunk = new byte[CHUNK_SIZE];
+                    System.arraycopy( text, start, chunk, 0, CHUNK_SIZE );
+                    this.store( chunk );
+                    this.partialStored = false;
+                    start += CHUNK_SIZE;
+                }
+
+                this.pending.reset();
+                this.pending.write( text, start, text.length - start );
+                this.dirty = this.pending.size() > 0;
+            }
+        }
+
+        /**
+         * Stores a chunk, replacing any partial chunk. The expiry is set once the chunks exist because redis ignores
+         * the expiry of a list that does not exist.
+         * @param text the uncompressed chunk
+         */
+
+        private void store( byte[] text )
+        {
+            byte[] compressed = JobLogStore.compress( text );
+
+            if ( this.partialStored )
+            {
+                this.chunks.set( this.chunkCount - 1, compressed );
+            }
+            else
+            {
+                this.chunks.add( compressed );
+                this.chunkCount++;
+            }
+
+            if ( !this.expirySet
+                 && Objects.nonNull( this.expiry )
+                 && this.chunks instanceof RList<byte[]> redisList )
+            {
+                redisList.expire( this.expiry );
+                this.expirySet = true;
+            }
+        }
+
+        /**
+         * Creates an instance, resuming any stream that was written previously.
+         * @param chunks the chunks
+         * @param expiry the expiry of the chunks, optional
+         */
+
+        private Writer( List<byte[]> chunks, Duration expiry )
+        {
+            this.chunks = chunks;
+            this.expiry = expiry;
+            this.chunkCount = chunks.size();
+            this.nextIndex = this.chunkCount == 0 ? 0 : -1;
+
+            if ( this.chunkCount > 0 )
+            {
+                byte[] last = JobLogStore.decompress( chunks.get( this.chunkCount - 1 ) );
+
+                if ( last.length < CHUNK_SIZE )
+                {
+                    this.pending.write( last, 0, last.length );
+                    this.partialStored = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param jobId the job identifier
+     * @param whichStream the stream
+     * @return the chunks
+     */
+
+    private List<byte[]> getChunks( String jobId, WhichStream whichStream )
+    {
+        Objects.requireNonNull( jobId );
+        Objects.requireNonNull( whichStream );
+
+        return this.chunks.apply( KEY_PREFIX + jobId + ":" + whichStream.name() );
+    }
+
+    /**
+     * @param text the text to compress
+     * @return the compressed text
+     */
+
+    private static byte[] compress( byte[] text )
+    {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream( text.length / 4 + 32 );
+
+        try ( GZIPOutputStream gzip = new GZIPOutputStream( compressed ) )
+        {
+            gzip.write( text );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( "Failed to compress a chunk of a standard stream.", e );
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * @param compressed the compressed text
+     * @return the text
+     */
+
+    private static byte[] decompress( byte[] compressed )
+    {
+        try ( InputStream gzip = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) )
+        {
+            return gzip.readAllBytes();
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( "Failed to decompress a chunk of a standard stream.", e );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     * @param chunks the supplier of chunks for each named stream
+     * @param expiry the expiry, optional
+     */
+
+    private JobLogStore( Function<String, List<byte[]>> chunks, Duration expiry )
+    {
+        this.chunks = chunks;
+        this.expiry = expiry;
+    }
+}
@@ -5,8 +5,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -67,12 +65,6 @@ public class JobMetadata
     @RCascade( RCascadeType.ALL )
     private SortedSet<URI> outputs;
 
-    @RCascade( RCascadeType.ALL )
-    private ConcurrentMap<Integer,String> stdout;
-
-    @RCascade( RCascadeType.ALL )
-    private ConcurrentMap<Integer,String> stderr;
-
     /** Optional: only set when posting job input via tasker */
     private byte[] jobMessage;
 
@@ -111,8 +103,6 @@ public class JobMetadata
         this.setId( id );
         this.exitCode = null;
         this.outputs = new ConcurrentSkipListSet<>();
-        this.stdout = new ConcurrentHashMap<>();
-        this.stderr = new ConcurrentHashMap<>();
         this.jobMessage = null;
         this.leftInputs = new CopyOnWriteArrayList<>();
         this.rightInputs = new CopyOnWriteArrayList<>();
@@ -226,31 +216,6 @@ public class JobMetadata
         this.outputs = outputs;
     }
 
-    /**
-     * Get an unmodifiable view of the standard output stream Map.
-     * @return The Map of stdout.
-     */
-
-    public ConcurrentMap<Integer,String> getStdout()
-    {
-        return this.stdout;
-    }
-
-    public void setStdout( ConcurrentMap<Integer, String> stdout )
-    {
-        this.stdout = stdout;
-    }
-
-    public ConcurrentMap<Integer,String> getStderr()
-    {
-        return this.stderr;
-    }
-
-    public void setStderr( ConcurrentMap<Integer, String> stderr )
-    {
-        this.stderr = stderr;
-    }
-
     public JobState getJobState()
     {
         return this.jobState;
@@ -373,30 +338,6 @@ public class JobMetadata
         databasePort = value;
     }
 
-    void addStdout( Integer index, String line )
-    {
-        String result = this.getStdout()
-                            .put( index, line );
-
-        if ( Objects.nonNull( result ) )
-        {
-            LOGGER.warn( "Overwrote stdout index={} old value={} with new value={}",
-                         index, result, line );
-        }
-    }
-
-    void addStderr( Integer index, String line )
-    {
-        String result = this.getStderr()
-                            .put( index, line );
-
-        if ( Objects.nonNull( result ) )
-        {
-            LOGGER.warn( "Overwrote stderr for id={} index={} old value={} with new value={}",
-                         this.id, index, result, line );
-        }
-    }
-
     void addOutput( URI uri )
     {
         boolean result = this.getOutputs()
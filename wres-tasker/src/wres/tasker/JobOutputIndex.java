@@ -0,0 +1,267 @@
+package wres.tasker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.tika.config.TikaConfig;
+import org.apache.tika.detect.Detector;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the outputs of each job by resource name, together with a description of each output. Outputs are
+ * described once, when the job reports them, rather than on each request. A description is recomputed if the size or
+ * modification time of the output changes. The index is held in memory and rebuilt from the job metadata on demand.
+ */
+
+class JobOutputIndex
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger( JobOutputIndex.class );
+
+    /** The type of an output whose type cannot be detected. */
+    private static final String DEFAULT_TYPE = "application/octet-stream";
+
+    /** Detects the type of each output. Detectors are thread-safe and expensive to create, so one is shared. */
+    private static final Detector DETECTOR = TikaConfig.getDefaultConfig()
+                                                       .getDetector();
+
+    /** The outputs of each job by job id. */
+    private final ConcurrentMap<String, JobOutputs> outputsByJobId;
+
+    /**
+     * A description of an output.
+     * @param path the path to the output
+     * @param type the media type
+     * @param size the size in bytes
+     * @param lastModified the time of last modification
+     * @param md5 the MD5 digest, in hexadecimal
+     */
+    record Output( Path path, String type, long size, FileTime lastModified, String md5 )
+    {
+        /**
+         * @param attributes the current attributes of the output
+         * @return whether the description agrees with the attributes
+         */
+        private boolean isCurrent( BasicFileAttributes attributes )
+        {
+            return this.size == attributes.size()
+                   && this.lastModified.equals( attributes.lastModifiedTime() );
+        }
+    }
+
+    /**
+     * The outputs of one job.
+     * @param uris the output locations by resource name
+     * @param outputs the output descriptions by resource name
+     */
+    private record JobOutputs( ConcurrentMap<String, URI> uris, ConcurrentMap<String, Output> outputs )
+    {
+    }
+
+    /**
+     * Creates an instance.
+     */
+
+    JobOutputIndex()
+    {
+        Cache<String, JobOutputs> cache = Caffeine.newBuilder()
+                                                  .softValues()
+                                                  .build();
+        this.outputsByJobId = cache.asMap();
+    }
+
+    /**
+     * Returns the resource name of an output.
+     * @param output the output location
+     * @return the resource name
+     */
+
+    static String getResourceName( URI output )
+    {
+        return Paths.get( output.getPath() )
+                    .getFileName()
+                    .toString();
+    }
+
+    /**
+     * Indexes an output reported by a job and describes it, if it can be read.
+     * @param jobId the job id
+     * @param output the output location
+     */
+
+    void record( String jobId, URI output )
+    {
+        Objects.requireNonNull( jobId );
+        Objects.requireNonNull( output );
+
+        String resourceName = JobOutputIndex.getResourceName( output );
+        JobOutputs jobOutputs = this.getJobOutputs( jobId );
+        jobOutputs.uris()
+                  .put( resourceName, output );
+
+        try
+        {
+            this.describe( jobId, output );
+        }
+        catch ( IOException e )
+        {
+            LOGGER.debug( "Could not describe output {} of job {} when it was reported. It will be described when "
+                          + "requested.",
+                          output,
+                          jobId,
+                          e );
+        }
+    }
+
+    /**
+     * Finds an output by resource name.
+     * @param jobId the job id
+     * @param resourceName the resource name
+     * @param outputs the outputs of the job, which are indexed if the resource name is not found
+     * @return the output location or null if there is no output with the resource name
+     */
+
+    URI find( String jobId, String resourceName, Set<URI> outputs )
+    {
+        Objects.requireNonNull( jobId );
+        Objects.requireNonNull( resourceName );
+        Objects.requireNonNull( outputs );
+
+        ConcurrentMap<String, URI> uris = this.getJobOutputs( jobId )
+                                              .uris();
+        URI output = uris.get( resourceName );
+
+        // Indexed: confirm the output was not removed since
+        if ( Objects.nonNull( output ) )
+        {
+            if ( outputs.contains( output ) )
+            {
+                return output;
+            }
+
+            uris.remove( resourceName, output );
+        }
+
+        // Not indexed, possibly because the index was evicted: index the outputs
+        for ( URI next : outputs )
+        {
+            String nextName = JobOutputIndex.getResourceName( next );
+            uris.putIfAbsent( nextName, next );
+
+            if ( nextName.equals( resourceName ) )
+            {
+                output = next;
+            }
+        }
+
+        return output;
+    }
+
+    /**
+     * Describes an output, reusing the existing description unless the output has changed.
+     * @param jobId the job id
+     * @param output the output location
+     * @return the description
+     * @throws NoSuchFileException if the output does not exist
+     * @throws IOException if the output could not be read
+     */
+
+    Output describe( String jobId, URI output ) throws IOException
+    {
+        Objects.requireNonNull( jobId );
+        Objects.requireNonNull( output );
+
+        Path path = Paths.get( output.getPath() );
+        BasicFileAttributes attributes = Files.readAttributes( path, BasicFileAttributes.class );
+        String resourceName = JobOutputIndex.getResourceName( output );
+        ConcurrentMap<String, Output> outputs = this.getJobOutputs( jobId )
+                                                    .outputs();
+        Output existing = outputs.get( resourceName );
+
+        if ( Objects.nonNull( existing )
+             && existing.path()
+                        .equals( path )
+             && existing.isCurrent( attributes ) )
+        {
+            return existing;
+        }
+
+        Output described = JobOutputIndex.describe( path, attributes );
+        outputs.put( resourceName, described );
+
+        LOGGER.debug( "Described output {} of job {} as {}.", output, jobId, described );
+
+        return described;
+    }
+
+    /**
+     * Removes the outputs of a job from the index.
+     * @param jobId the job id
+     */
+
+    void remove( String jobId )
+    {
+        this.outputsByJobId.remove( jobId );
+    }
+
+    /**
+     * Detects the type and computes the digest of an output in one pass.
+     * @param path the path
+     * @param attributes the attributes of the path
+     * @return the description
+     * @throws IOException if the path could not be read
+     */
+
+    private static Output describe( Path path, BasicFileAttributes attributes ) throws IOException
+    {
+        Metadata metadata = new Metadata();
+        metadata.set( TikaCoreProperties.RESOURCE_NAME_KEY,
+                      path.toString() );
+        String type = DEFAULT_TYPE;
+        String md5;
+
+        try ( InputStream inputStream = TikaInputStream.get( path ) )
+        {
+            org.apache.tika.mime.MediaType mediaType = DETECTOR.detect( inputStream, metadata );
+
+            if ( Objects.nonNull( mediaType ) )
+            {
+                type = mediaType.toString();
+            }
+
+            // The detector resets the stream, so it can be reused here
+            md5 = DigestUtils.md5Hex( inputStream );
+        }
+
+        return new Output( path, type, attributes.size(), attributes.lastModifiedTime(), md5 );
+    }
+
+    /**
+     * @param jobId the job id
+     * @return the outputs of the job
+     */
+
+    private JobOutputs getJobOutputs( String jobId )
+    {
+        return this.outputsByJobId.computeIfAbsent( jobId,
+                                                    k -> new JobOutputs( new ConcurrentHashMap<>(),
+                                                                         new ConcurrentHashMap<>() ) );
+    }
+}
@@ -18,10 +18,13 @@ import wres.messages.generated.JobOutput;
 class JobOutputSharer implements Consumer<GeneratedMessageV3>
 {
     private final JobMetadata jobMetadata;
+    private final JobOutputIndex jobOutputIndex;
 
-    JobOutputSharer( JobMetadata jobMetadata )
+    JobOutputSharer( JobMetadata jobMetadata,
+                     JobOutputIndex jobOutputIndex )
     {
         this.jobMetadata = jobMetadata;
+        this.jobOutputIndex = jobOutputIndex;
     }
 
     /**
@@ -37,5 +40,8 @@ class JobOutputSharer implements Consumer<GeneratedMessageV3>
                 (JobOutput.job_output) mustBeJobOutput;
         URI jobOutputUri = URI.create( jobOutput.getResource() );
         this.jobMetadata.addOutput( jobOutputUri );
+
+        // Describe the output now, rather than on each request for it
+        this.jobOutputIndex.record( this.jobMetadata.getId(), jobOutputUri );
     }
 }
@@ -40,6 +40,11 @@ class JobOutputWatcher implements Runnable
      */
     private final JobMetadata jobMetadata;
 
+    /**
+     * The index in which to describe the outputs.
+     */
+    private final JobOutputIndex jobOutputIndex;
+
     /**
      * A latch to count down once this is actually watching.
      */
@@ -48,15 +53,18 @@ class JobOutputWatcher implements Runnable
     JobOutputWatcher( Connection connection,
                       String jobStatusExchangeName,
                       JobMetadata jobMetadata,
+                      JobOutputIndex jobOutputIndex,
                       CountDownLatch countDownLatch )
     {
         Objects.requireNonNull( connection );
         Objects.requireNonNull( jobStatusExchangeName );
         Objects.requireNonNull( jobMetadata );
+        Objects.requireNonNull( jobOutputIndex );
         Objects.requireNonNull( countDownLatch );
         this.connection = connection;
         this.jobStatusExchangeName = jobStatusExchangeName;
         this.jobMetadata = jobMetadata;
+        this.jobOutputIndex = jobOutputIndex;
         this.countDownLatch = countDownLatch;
     }
 
@@ -88,7 +96,8 @@ class JobOutputWatcher implements Runnable
     @Override
     public void run()
     {
-        Consumer<GeneratedMessageV3> sharer = new JobOutputSharer( this.getJobMetadata() );
+        Consumer<GeneratedMessageV3> sharer = new JobOutputSharer( this.getJobMetadata(),
+                                                                   this.jobOutputIndex );
 
         BlockingQueue<JobOutput.job_output> jobOutputQueue
                 = new ArrayBlockingQueue<>( LOCAL_Q_SIZE );
@@ -1,8 +1,6 @@
 package wres.tasker;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.net.URI;
@@ -27,12 +25,10 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.google.protobuf.GeneratedMessageV3;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
@@ -88,6 +84,12 @@ class JobResults
     /** A shared map of job metadata by ID */
     private final ConcurrentMap<String, JobMetadata> jobMetadataById;
 
+    /** The standard streams of each job */
+    private final JobLogStore jobLogs;
+
+    /** The outputs of each job by resource name */
+    private final JobOutputIndex jobOutputIndex;
+
 
     /**
      * How many job results to look for at once (should probably be at least as
@@ -125,6 +127,7 @@ class JobResults
         // retry later anyway.
         this.connection = null;
         this.redisson = redissonClient;
+        this.jobOutputIndex = new JobOutputIndex();
 
 
         UncaughtExceptionHandler handler = ( a, b ) -> {
@@ -200,10 +203,12 @@ class JobResults
                                  + "metadata and all of its fields.",
                                  event.getKey() );
                     objectService.delete( objectService.get( JobMetadata.class, event.getKey() ) );
+                    jobLogs.delete( ( String ) event.getKey() );
                 }
             } );
 
             this.jobMetadataById = redissonMap;
+            this.jobLogs = JobLogStore.of( this.redisson, Duration.ofMinutes( EXPIRY_IN_MINUTES ) );
         }
         // Set up Caffeine.
         else
@@ -213,6 +218,7 @@ class JobResults
                                                                .build();
             this.jobMetadataById = caffeineCache.asMap();
             this.objectService = null;
+            this.jobLogs = JobLogStore.of();
         }
 
         //Scan the job metadata map for jobs that are IN_QUEUE or IN_PROGRESS.  Set watchers for
@@ -661,36 +667,41 @@ class JobResults
      * on the service end and cache them before the web service is called.
      */
 
-    private static class StandardStreamWatcher implements Callable<Map<Integer, String>>
+    private static class StandardStreamWatcher implements Callable<Long>
     {
         private static final int LOCAL_Q_SIZE = 10;
         private final Connection connection;
         private final String jobStatusExchangeName;
         private final JobMetadata jobMetadata;
+        private final JobLogStore jobLogs;
         private final WhichStream whichStream;
         private final CountDownLatch countDownLatch;
 
         /**
          * @param connection shared connection
          * @param jobStatusExchangeName the exchange name to look in
-         * @param jobMetadata the job to look for and where to put results
+         * @param jobMetadata the job to look for
+         * @param jobLogs where to put results
          * @param whichStream Which of the two standard streams this is.
          * @param countDownLatch A latch to countdown when actually listening.
          */
         StandardStreamWatcher( Connection connection,
                                String jobStatusExchangeName,
                                JobMetadata jobMetadata,
+                               JobLogStore jobLogs,
                                WhichStream whichStream,
                                CountDownLatch countDownLatch )
         {
             Objects.requireNonNull( connection );
             Objects.requireNonNull( jobStatusExchangeName );
             Objects.requireNonNull( jobMetadata );
+            Objects.requireNonNull( jobLogs );
             Objects.requireNonNull( whichStream );
             Objects.requireNonNull( countDownLatch );
             this.connection = connection;
             this.jobStatusExchangeName = jobStatusExchangeName;
             this.jobMetadata = jobMetadata;
+            this.jobLogs = jobLogs;
             this.whichStream = whichStream;
             this.countDownLatch = countDownLatch;
             LOGGER.debug( "Instantiated {}", this );
@@ -722,17 +733,18 @@ class JobResults
         }
 
         /**
-         * @return the stdout|stderr of the job id (correlation id) or potentially empty list when interrupted
+         * @return the length in bytes of the stdout|stderr of the job id (correlation id)
          * @throws IOException when queue declaration fails
          */
 
-        public Map<Integer, String> call() throws IOException, TimeoutException
+        public Long call() throws IOException, TimeoutException
         {
             String jobId = this.getJobId();
-            Consumer<GeneratedMessageV3> sharer = new JobStandardStreamSharer( this.jobMetadata,
-                                                                               this.getWhichStream() );
             BlockingQueue<JobStandardStream.job_standard_stream> oneLineOfOutput =
                     new ArrayBlockingQueue<>( LOCAL_Q_SIZE );
+            JobStandardStreamSharer sharer =
+                    new JobStandardStreamSharer( this.jobLogs.writer( jobId, this.getWhichStream() ),
+                                                 oneLineOfOutput );
 
             String exchangeName = this.getJobStatusExchangeName();
             String exchangeType = "topic";
@@ -792,6 +804,8 @@ class JobResults
             }
             finally
             {
+                sharer.flush();
+
                 try
                 {
                     if ( queueName != null )
@@ -819,23 +833,7 @@ class JobResults
                 }
             }
 
-            if ( this.getWhichStream()
-                     .equals( WhichStream.STDOUT ) )
-            {
-                return this.jobMetadata.getStdout();
-            }
-            else if ( this.getWhichStream()
-                          .equals( WhichStream.STDERR ) )
-            {
-                return this.jobMetadata.getStderr();
-            }
-            else
-            {
-                throw new IllegalStateException( "Stream must be either "
-                                                 + WhichStream.STDERR.name()
-                                                 + " or "
-                                                 + WhichStream.STDOUT.name() );
-            }
+            return this.jobLogs.size( jobId, this.getWhichStream() );
         }
 
 
@@ -962,11 +960,13 @@ class JobResults
         StandardStreamWatcher stdoutWatcher = new StandardStreamWatcher( this.getConnection(),
                                                                          jobStatusExchangeName,
                                                                          jobMetadata,
+                                                                         this.jobLogs,
                                                                          WhichStream.STDOUT,
                                                                          countDownLatch );
         StandardStreamWatcher stderrWatcher = new StandardStreamWatcher( this.getConnection(),
                                                                          jobStatusExchangeName,
                                                                          jobMetadata,
+                                                                         this.jobLogs,
                                                                          WhichStream.STDERR,
                                                                          countDownLatch );
 
@@ -983,6 +983,7 @@ class JobResults
         JobOutputWatcher jobOutputWatcher = new JobOutputWatcher( this.getConnection(),
                                                                   jobStatusExchangeName,
                                                                   jobMetadata,
+                                                                  this.jobOutputIndex,
                                                                   countDownLatch );
 
         executor.submit( stdoutWatcher );
@@ -1052,81 +1053,72 @@ class JobResults
 
 
     /**
-     * Get the plain text of standard out for a given wres job
+     * Get the plain text of standard out for a given wres job, starting at a byte offset. A client may tail the output
+     * by asking again from the offset reached, {@link JobLog#next()}.
      * @param jobId the job to look for
-     * @return A StreamingOutput having standard out
+     * @param offset the offset in bytes from which to read
+     * @return the standard out from the offset
+     * @throws IllegalArgumentException if the offset is negative
      */
-    StreamingOutput getJobStdout( String jobId )
+    JobLog getJobStdout( String jobId, long offset )
     {
-        JobMetadata jobMetadata = jobMetadataById.get( jobId );
-
-        StreamingOutput streamingOutput = output -> {
-            try ( OutputStreamWriter outputStreamWriter = new OutputStreamWriter( output, StandardCharsets.UTF_8 );
-                  BufferedWriter writer = new BufferedWriter( outputStreamWriter ) )
-            {
-
-                if ( jobMetadata == null )
-                {
-                    writer.write( "No job id '" + jobId + "' found.'" );
-                    return;
-                }
-
-                Map<Integer, String> stdout = jobMetadata.getStdout();
+        return this.getJobLog( jobId, WhichStream.STDOUT, offset );
+    }
 
-                // There is an assumption that the worker starts counting at 0
-                int previousIndex = -1;
-                SortedSet<Integer> sortedKeys = new TreeSet<>( stdout.keySet() );
 
-                for ( Integer index : sortedKeys )
-                {
-                    int indexDiff = index - previousIndex;
+    /**
+     * Get the plain text of standard err for a given wres job, starting at a byte offset. A client may tail the output
+     * by asking again from the offset reached, {@link JobLog#next()}.
+     * @param jobId the job to look for
+     * @param offset the offset in bytes from which to read
+     * @return the standard err from the offset
+     * @throws IllegalArgumentException if the offset is negative
+     */
 
-                    // Handle missing lines by looking for gaps in incrementing integer.
-                    if ( indexDiff > 1 )
-                    {
-                        writer.write( "*** Missing " + ( indexDiff - 1 ) + " lines ***" );
-                        writer.newLine();
-                    }
+    JobLog getJobStderr( String jobId, long offset )
+    {
+        return this.getJobLog( jobId, WhichStream.STDERR, offset );
+    }
 
-                    // The reason this is not in an "else" nor do we check for
-                    // null? We are iterating over existing keys in the loop.
-                    String stdoutLine = stdout.get( index );
-                    writer.write( stdoutLine );
-                    writer.newLine();
-                    previousIndex = index;
-                }
-            }
-        };
 
-        return streamingOutput;
+    /**
+     * Part of a standard stream of a job.
+     * @param output the stream from the requested offset
+     * @param next the offset from which to read the remainder of the stream
+     */
+    record JobLog( StreamingOutput output, long next )
+    {
     }
 
 
     /**
-     * Get the plain text of standard err for a given wres job
      * @param jobId the job to look for
-     * @return the standard err from the job
+     * @param whichStream the stream
+     * @param offset the offset in bytes from which to read
+     * @return the stream from the offset
+     * @throws IllegalArgumentException if the offset is negative
      */
 
-    String getJobStderr( String jobId )
+    private JobLog getJobLog( String jobId, WhichStream whichStream, long offset )
     {
-        JobMetadata metadata = jobMetadataById.get( jobId );
-
-        if ( Objects.isNull( metadata ) )
+        if ( offset < 0 )
         {
-            return "No job id '" + jobId + "' found.'";
+            throw new IllegalArgumentException( "The offset must not be negative: " + offset + "." );
         }
 
-        Map<Integer, String> stderr = metadata.getStderr();
-        StringJoiner result = new StringJoiner( System.lineSeparator() );
-        SortedSet<Integer> sortedKeys = new TreeSet<>( stderr.keySet() );
+        JobMetadata jobMetadata = jobMetadataById.get( jobId );
 
-        for ( Integer index : sortedKeys )
+        if ( Objects.isNull( jobMetadata ) )
         {
-            result.add( stderr.get( index ) );
+            byte[] notFound = ( "No job id '" + jobId + "' found.'" ).getBytes( StandardCharsets.UTF_8 );
+            return new JobLog( output -> output.write( notFound ), offset );
         }
 
-        return result.toString();
+        // Fix the limit now, so that the next offset agrees with the bytes written
+        long limit = Math.max( offset, this.jobLogs.size( jobId, whichStream ) );
+        StreamingOutput streamingOutput = output -> this.jobLogs.write( jobId, whichStream, offset, limit, output );
+
+        return new JobLog( streamingOutput, limit );
     }
 
 
@@ -1149,6 +1141,42 @@ class JobResults
         return metadata.getOutputs();
     }
 
+
+    /**
+     * Find an output of a job by resource name
+     * @param jobId the job to look for
+     * @param resourceName the resource name of the output
+     * @return the output or null if the job or output was not found
+     */
+
+    URI getJobOutput( String jobId, String resourceName )
+    {
+        JobMetadata metadata = jobMetadataById.get( jobId );
+
+        if ( Objects.isNull( metadata ) )
+        {
+            return null;
+        }
+
+        return this.jobOutputIndex.find( jobId, resourceName, metadata.getOutputs() );
+    }
+
+
+    /**
+     * Describe an output of a job, reusing the description made when the job reported the output, unless the
+     * output has changed since
+     * @param jobId the job
+     * @param output the output
+     * @return the description
+     * @throws NoSuchFileException if the output does not exist
+     * @throws IOException if the output could not be read
+     */
+
+    JobOutputIndex.Output describeJobOutput( String jobId, URI output ) throws IOException
+    {
+        return this.jobOutputIndex.describe( jobId, output );
+    }
+
     /**
      * Set the declaration for a job. Can only be done once.
      * @throws IllegalStateException When job id non-existent or dec already set
@@ -1363,6 +1391,7 @@ class JobResults
         finally
         {
             sharedData.removeOutputs( deletedOutputs );
+            this.jobOutputIndex.remove( sharedData.getId() );
         }
     }
 
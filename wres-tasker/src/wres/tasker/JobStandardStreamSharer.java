@@ -1,13 +1,11 @@
 package wres.tasker;
 
 import java.util.Objects;
+import java.util.Queue;
 import java.util.function.Consumer;
 
 import com.google.protobuf.GeneratedMessageV3;
 
-import static wres.tasker.JobResults.WhichStream;
-import static wres.tasker.JobResults.WhichStream.STDERR;
-import static wres.tasker.JobResults.WhichStream.STDOUT;
 import wres.messages.generated.JobStandardStream;
 
 /**
@@ -16,20 +14,27 @@ import wres.messages.generated.JobStandardStream;
  * The purpose is to genericize waitForAllMessages method in JobMessageHelper
  * rather than re-implementing it over and over for each message type.
  * Instead, we have this boilerplate helper class for each message type.
+ *
+ * Lines are appended to the job log in batches: the log is only flushed once
+ * the queue of lines received from the broker has been drained.
  */
 
 class JobStandardStreamSharer implements Consumer<GeneratedMessageV3>
 {
-    private final JobMetadata sharedMetadata;
-    private final WhichStream whichStream;
+    private final JobLogStore.Writer writer;
+    private final Queue<?> pendingLines;
 
-    JobStandardStreamSharer( JobMetadata sharedMetadata,
-                             WhichStream whichStream )
+    /**
+     * @param writer the writer for the job log
+     * @param pendingLines the queue of lines not yet shared, which is used to batch writes
+     */
+    JobStandardStreamSharer( JobLogStore.Writer writer,
+                             Queue<?> pendingLines )
     {
-        Objects.requireNonNull( sharedMetadata );
-        Objects.requireNonNull( whichStream );
-        this.sharedMetadata = sharedMetadata;
-        this.whichStream = whichStream;
+        Objects.requireNonNull( writer );
+        Objects.requireNonNull( pendingLines );
+        this.writer = writer;
+        this.pendingLines = pendingLines;
     }
 
     /**
@@ -46,20 +51,20 @@ class JobStandardStreamSharer implements Consumer<GeneratedMessageV3>
         int index = job_standard_stream.getIndex();
         String text = job_standard_stream.getText();
 
-        if ( this.whichStream.equals( STDERR ) )
-        {
-            this.sharedMetadata.addStderr( index, text );
-        }
-        else if ( this.whichStream.equals( STDOUT ) )
-        {
-            this.sharedMetadata.addStdout( index, text );
-        }
-        else
+        this.writer.append( index, text );
+
+        // Flush once the lines received so far have been appended
+        if ( this.pendingLines.isEmpty() )
         {
-            throw new UnsupportedOperationException( "Stream must be either "
-                                                     + STDERR.name()
-                                                     + " or " +
-                                                     STDOUT.name() );
+            this.writer.flush();
         }
     }
+
+    /**
+     * Stores any lines that have not been stored.
+     */
+    void flush()
+    {
+        this.writer.flush();
+    }
 }
@@ -69,6 +69,8 @@ import static wres.messages.generated.Job.job.Verb;
  * More services are available for each job: "status", "stdout", "stderr" ...
  * To request the status, one GETs /job/{jobid}/status
  * To request the stdout, one GETs /job/{jobid}/stdout
+ * To tail the stdout, one GETs /job/{jobid}/stdout?offset={offset} with the
+ * offset from the x-next-offset header of the previous response
  * and so forth.
  * As of 2018-10, there are only plain text and/or html responses.
  */
@@ -1,39 +1,67 @@
 package wres.tasker;
 
 import java.io.BufferedWriter;
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 
-import org.apache.tika.config.TikaConfig;
-import org.apache.tika.detect.Detector;
-import org.apache.tika.exception.TikaException;
-import org.apache.tika.io.TikaInputStream;
-import org.apache.tika.metadata.Metadata;
-import org.apache.tika.metadata.TikaCoreProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.apache.commons.codec.digest.DigestUtils;
 
 @Path( "/job/{jobId}/output" )
 public class WresJobOutput
 {
     private static final Logger LOGGER = LoggerFactory.getLogger( WresJobOutput.class );
 
+    /** A single range of bytes, which is the only kind of range supported. */
+    private static final Pattern BYTE_RANGE = Pattern.compile( "^bytes=(\\d*)-(\\d*)$" );
+
+    /** The header that makes a range conditional on the representation being unchanged. */
+    private static final String IF_RANGE = "If-Range";
+
+    /**
+     * A range of bytes within a resource.
+     * @param first the offset of the first byte
+     * @param last the offset of the last byte, inclusive
+     */
+    record ByteRange( long first, long last )
+    {
+        /**
+         * @return the number of bytes in the range
+         */
+        long length()
+        {
+            return this.last - this.first + 1;
+        }
+    }
+
     @GET
     @Produces( "text/plain; charset=utf-8" )
     public Response getProjectResourcesPlain( @PathParam( "jobId" ) String id )
@@ -121,15 +149,85 @@ public class WresJobOutput
     }
 
 
+    /**
+     * Streams all outputs of a job as one zip archive, built as it is sent, so that a client may download the outputs
+     * in one request. Only served when requested explicitly because the plain and html listings are preferred.
+     * @param id the job id
+     * @return the zip archive
+     */
+
+    @GET
+    @Produces( "application/zip;qs=0.1" )
+    public Response getProjectResourcesZip( @PathParam( "jobId" ) String id )
+    {
+        LOGGER.debug( "Retrieving resources from job {} to create zip response", id );
+        Set<URI> jobOutputs = WresJob.getSharedJobResults()
+                                     .getJobOutputs( id );
+
+        if ( jobOutputs == null )
+        {
+            return Response.status( Response.Status.NOT_FOUND )
+                           .entity( "Could not find job " + id )
+                           .build();
+        }
+
+        StreamingOutput streamingOutput = output -> {
+            try ( ZipOutputStream zip = new ZipOutputStream( output ) )
+            {
+                Set<String> resourceNames = new HashSet<>();
+
+                for ( URI outputResource : jobOutputs )
+                {
+                    java.nio.file.Path path = Paths.get( outputResource.getPath() );
+                    String resourceName = JobOutputIndex.getResourceName( outputResource );
+
+                    if ( !Files.isReadable( path )
+                         || !resourceNames.add( resourceName ) )
+                    {
+                        LOGGER.warn( "Omitted resource {} of job {} from the zip response because it could not "
+                                     + "be read or had the same name as another resource.",
+                                     outputResource,
+                                     id );
+                        continue;
+                    }
+
+                    zip.putNextEntry( new ZipEntry( resourceName ) );
+                    Files.copy( path, zip );
+                    zip.closeEntry();
+                }
+            }
+        };
+
+        return Response.ok( streamingOutput )
+                       .header( "content-disposition", "attachment; filename=\"" + id + ".zip\"" )
+                       .build();
+    }
+
+
+    /**
+     * Serves one output of a job. The output is described when the job reports it, so the type and MD5 are not
+     * recomputed here. Supports a single byte range and conditional requests on the MD5. A range that is conditional on
+     * an entity tag other than the current one is ignored and the whole output is served, as required by RFC 9110.
+     * @param id the job id
+     * @param resourceName the resource name of the output
+     * @param range the requested range, optional
+     * @param ifRange the validator on which the range is conditional, optional
+     * @param request the request, used to evaluate preconditions
+     * @return the output
+     */
+
     @GET
     @Path( "/{resourceName}" )
     public Response getProjectResource( @PathParam( "jobId" ) String id,
-                                        @PathParam( "resourceName" ) String resourceName )
+                                        @PathParam( "resourceName" ) String resourceName,
+                                        @HeaderParam( HttpHeaders.RANGE ) String range,
+                                        @HeaderParam( IF_RANGE ) String ifRange,
+                                        @Context Request request )
     {
         LOGGER.debug( "Retrieving resource {} from job {}", resourceName, id );
 
-        Set<URI> jobOutputs = WresJob.getSharedJobResults()
-                                     .getJobOutputs( id );
+        JobResults jobResults = WresJob.getSharedJobResults();
+        Set<URI> jobOutputs = jobResults.getJobOutputs( id );
 
         String type = "text/plain; charset=utf-8";
 
@@ -140,78 +238,238 @@ public class WresJobOutput
                            .build();
         }
 
-        for ( URI outputResource : jobOutputs )
+        URI outputResource = jobResults.getJobOutput( id, resourceName );
+
+        if ( outputResource == null )
         {
-            java.nio.file.Path path = Paths.get( outputResource.getPath() );
+            return Response.status( Response.Status.NOT_FOUND )
+                           .type( type )
+                           .entity( "Could not find resource " + resourceName
+                                    + " from project "
+                                    + id )
+                           .build();
+        }
 
-            if ( path.getFileName().toString().equals( resourceName ) )
+        java.nio.file.Path path = Paths.get( outputResource.getPath() );
+        JobOutputIndex.Output output;
+
+        try
+        {
+            output = jobResults.describeJobOutput( id, outputResource );
+        }
+        catch ( NoSuchFileException e )
+        {
+            return Response.status( Response.Status.NOT_FOUND )
+                           .entity( "Could not find resource "
+                                    + resourceName
+                                    + " at "
+                                    + path
+                                    + " from  uri "
+                                    + outputResource )
+                           .build();
+        }
+        catch ( IOException e )
+        {
+            LOGGER.warn( "Could not probe content type and compute MD5 of {}", path, e );
+            return Response.status( Response.Status.INTERNAL_SERVER_ERROR )
+                           .entity( "Found but could not read resource "
+                                    + resourceName
+                                    + "." )
+                           .build();
+        }
+
+        EntityTag entityTag = new EntityTag( output.md5() );
+        Response.ResponseBuilder notModified = request.evaluatePreconditions( entityTag );
+
+        if ( notModified != null )
+        {
+            return notModified.build();
+        }
+
+        ByteRange byteRange;
+
+        try
+        {
+            if ( WresJobOutput.isRangeCurrent( ifRange, entityTag ) )
+            {
+                byteRange = WresJobOutput.getByteRange( range, output.size() );
+            }
+            else
             {
-                File actualFile = path.toFile();
+                LOGGER.debug( "Ignoring the range {} of resource {} because the validator {} is not current.",
+                              range,
+                              resourceName,
+                              ifRange );
+                byteRange = null;
+            }
+        }
+        catch ( IllegalArgumentException e )
+        {
+            return Response.status( Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE )
+                           .header( "content-range", "bytes */" + output.size() )
+                           .build();
+        }
 
-                if ( !actualFile.exists() )
-                {
-                    return Response.status( Response.Status.NOT_FOUND )
-                                   .entity( "Could not find resource "
-                                            + resourceName
-                                            + " at "
-                                            + actualFile
-                                            + " from  uri "
-                                            + outputResource )
-                                   .build();
-                }
+        Response.ResponseBuilder response;
 
-                if ( !actualFile.canRead() )
-                {
-                    return Response.status( Response.Status.INTERNAL_SERVER_ERROR )
-                                   .entity( "Found but could not read resource "
-                                            + resourceName
-                                            + "." )
-                                   .build();
-                }
+        // The MD5 is only the digest of the content when the whole output is served
+        if ( byteRange == null )
+        {
+            response = Response.ok( WresJobOutput.transfer( path, 0, output.size() ) )
+                               .header( HttpHeaders.CONTENT_LENGTH, output.size() )
+                               .header( "content-md5", output.md5() );
+        }
+        else
+        {
+            response = Response.status( Response.Status.PARTIAL_CONTENT )
+                               .entity( WresJobOutput.transfer( path, byteRange.first(), byteRange.length() ) )
+                               .header( HttpHeaders.CONTENT_LENGTH, byteRange.length() )
+                               .header( "content-range",
+                                        "bytes " + byteRange.first()
+                                        + "-"
+                                        + byteRange.last()
+                                        + "/"
+                                        + output.size() );
+        }
 
-                String probedType;
-                Metadata metadata = new Metadata();
-                metadata.set( TikaCoreProperties.RESOURCE_NAME_KEY,
-                              actualFile.toString() );
-                String md5 = "not_computed";
+        return response.header( "accept-ranges", "bytes" )
+                       .tag( entityTag )
+                       .type( output.type() )
+                       .build();
+    }
 
-                try ( InputStream inputStream = TikaInputStream.get( path ) )
-                {
-                    //Probing the file type.
-                    TikaConfig tikaConfig = new TikaConfig();
-                    Detector detector = tikaConfig.getDetector();
-                    org.apache.tika.mime.MediaType mediaType =
-                            detector.detect( inputStream,
-                                             metadata );
-                    probedType = mediaType.toString();
-                    if ( probedType != null )
-                    {
-                        type = probedType;
-                    }
 
-                    //Testing shows that the inputStream open for tika is reset and can be resused here. 
-                    md5 = DigestUtils.md5Hex( inputStream );
+    /**
+     * Parses a range header. Only a single range of bytes is supported. Other ranges are ignored, which means the
+     * whole resource is served, as permitted by RFC 9110.
+     * @param range the range header, possibly null
+     * @param size the size of the resource
+     * @return the range, or null to serve the whole resource
+     * @throws IllegalArgumentException if the range cannot be satisfied
+     */
 
-                    LOGGER.debug( "The path {} found to have type {} and MD5 {}.", path, type, md5 );
-                }
-                catch ( IOException | TikaException e )
+    static ByteRange getByteRange( String range, long size )
+    {
+        if ( range == null )
+        {
+            return null;
+        }
+
+        Matcher matcher = BYTE_RANGE.matcher( range.strip() );
+
+        if ( !matcher.matches()
+             || ( matcher.group( 1 ).isEmpty() && matcher.group( 2 ).isEmpty() ) )
+        {
+            return null;
+        }
+
+        try
+        {
+            // Suffix range: the last n bytes
+            if ( matcher.group( 1 ).isEmpty() )
+            {
+                long suffix = Long.parseLong( matcher.group( 2 ) );
+
+                if ( suffix == 0 || size == 0 )
                 {
-                    LOGGER.warn( "Could not probe content type and compute MD5 of {}", path, e );
+                    throw new IllegalArgumentException( "Unsatisfiable range " + range + " for size " + size + "." );
                 }
 
-                return Response.ok( actualFile )
-                               .header( "content-md5", md5 )
-                               .type( type )
-                               .build();
+                return new ByteRange( Math.max( 0, size - suffix ), size - 1 );
             }
+
+            long first = Long.parseLong( matcher.group( 1 ) );
+            long last = matcher.group( 2 ).isEmpty() ? size - 1 : Long.parseLong( matcher.group( 2 ) );
+
+            if ( first >= size )
+            {
+                throw new IllegalArgumentException( "Unsatisfiable range " + range + " for size " + size + "." );
+            }
+
+            if ( last < first )
+            {
+                return null;
+            }
+
+            return new ByteRange( first, Math.min( last, size - 1 ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            // Too large to be a position in any resource
+            LOGGER.debug( "Ignoring the range {}.", range, e );
+            return null;
         }
+    }
 
-        return Response.status( Response.Status.NOT_FOUND )
-                       .type( type )
-                       .entity( "Could not find resource " + resourceName
-                                + " from project "
-                                + id )
-                       .build();
+
+    /**
+     * Determines whether a range may be served, given the validator of an "If-Range" header. A range may be served
+     * when there is no validator or the validator is a strong entity tag that matches the current entity tag. A date
+     * is never current because no last-modified time is sent.
+     * @param ifRange the validator, possibly null
+     * @param entityTag the current entity tag
+     * @return true if the range may be served, false to serve the whole resource
+     */
+
+    static boolean isRangeCurrent( String ifRange, EntityTag entityTag )
+    {
+        if ( ifRange == null )
+        {
+            return true;
+        }
+
+        String validator = ifRange.strip();
+
+        // Weak tags and dates do not match
+        if ( entityTag.isWeak()
+             || validator.length() < 2
+             || !validator.startsWith( "\"" )
+             || !validator.endsWith( "\"" ) )
+        {
+            return false;
+        }
+
+        return validator.substring( 1, validator.length() - 1 )
+                        .equals( entityTag.getValue() );
+    }
+
+
+    /**
+     * Creates an output that writes part of a file to the client from the file channel, without reading the whole
+     * file into the heap. The response exposes only a stream, so the channel transfers through a channel that wraps the
+     * stream, which copies the bytes through a buffer rather than sending them from the file directly.
+     * @param path the path
+     * @param position the position of the first byte to transfer
+     * @param count the number of bytes to transfer
+     * @return the output
+     */
+
+    private static StreamingOutput transfer( java.nio.file.Path path, long position, long count )
+    {
+        return output -> {
+            try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.READ ) )
+            {
+                WritableByteChannel target = Channels.newChannel( output );
+                long transferred = 0;
+
+                while ( transferred < count )
+                {
+                    long next = channel.transferTo( position + transferred, count - transferred, target );
+
+                    // Truncated since described
+                    if ( next <= 0 )
+                    {
+                        LOGGER.warn( "Transferred {} of {} bytes from {} before reaching its end.",
+                                     transferred,
+                                     count,
+                                     path );
+                        break;
+                    }
+
+                    transferred += next;
+                }
+            }
+        };
     }
 
 
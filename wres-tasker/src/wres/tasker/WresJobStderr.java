@@ -1,18 +1,40 @@
 package wres.tasker;
 
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Serves the stderr of a job. A client may tail the stderr by supplying the
+ * offset returned in the {@link #NEXT_OFFSET} header of the previous request.
+ */
 
 @Path( "/job/{jobId}/stderr")
 public class WresJobStderr
 {
+    /** The header that contains the offset from which to request more stderr. */
+    static final String NEXT_OFFSET = "x-next-offset";
+
     @GET
     @Produces( "text/plain; charset=utf-8" )
-    public String getWresJobStderr( @PathParam( "jobId" ) String jobId )
+    public Response getWresJobStderr( @PathParam( "jobId" ) String jobId,
+                                      @QueryParam( "offset" ) @DefaultValue( "0" ) long offset )
     {
-        return WresJob.getSharedJobResults()
-                      .getJobStderr( jobId );
+        if ( offset < 0 )
+        {
+            return Response.status( Response.Status.BAD_REQUEST )
+                           .entity( "The offset must not be negative: " + offset + "." )
+                           .build();
+        }
+
+        JobResults.JobLog jobLog = WresJob.getSharedJobResults()
+                                          .getJobStderr( jobId, offset );
+        return Response.ok( jobLog.output() )
+                       .header( NEXT_OFFSET, jobLog.next() )
+                       .build();
     }
 }
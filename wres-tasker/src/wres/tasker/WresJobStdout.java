@@ -1,22 +1,40 @@
 package wres.tasker;
 
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.StreamingOutput;
+
+/**
+ * Serves the stdout of a job. A client may tail the stdout by supplying the
+ * offset returned in the {@link #NEXT_OFFSET} header of the previous request.
+ */
 
 @Path( "/job/{jobId}/stdout")
 public class WresJobStdout
 {
+    /** The header that contains the offset from which to request more stdout. */
+    static final String NEXT_OFFSET = "x-next-offset";
+
     @GET
     @Produces( "text/plain; charset=utf-8" )
-    public Response getWresJobStdout( @PathParam( "jobId" ) String jobId )
+    public Response getWresJobStdout( @PathParam( "jobId" ) String jobId,
+                                      @QueryParam( "offset" ) @DefaultValue( "0" ) long offset )
     {
-        StreamingOutput streamingOutput = WresJob.getSharedJobResults()
-                                                 .getJobStdout( jobId );
-        return Response.ok( streamingOutput )
+        if ( offset < 0 )
+        {
+            return Response.status( Response.Status.BAD_REQUEST )
+                           .entity( "The offset must not be negative: " + offset + "." )
+                           .build();
+        }
+
+        JobResults.JobLog jobLog = WresJob.getSharedJobResults()
+                                          .getJobStdout( jobId, offset );
+        return Response.ok( jobLog.output() )
+                       .header( NEXT_OFFSET, jobLog.next() )
                        .build();
     }
 }
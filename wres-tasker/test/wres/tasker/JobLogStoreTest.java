@@ -0,0 +1,231 @@
+package wres.tasker;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.StringJoiner;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RList;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import wres.tasker.JobResults.WhichStream;
+
+class JobLogStoreTest
+{
+    private static final String JOB_ID = "123";
+    private static final String NEWLINE = System.lineSeparator();
+    private static final Duration EXPIRY = Duration.ofHours( 1 );
+
+    /** An embedded redis server. */
+    private static RedisServer redisServer;
+
+    /** A client of the embedded redis server. */
+    private static RedissonClient redisson;
+
+    @BeforeAll
+    static void startRedis() throws IOException
+    {
+        int port;
+        try ( ServerSocket socket = new ServerSocket( 0 ) )
+        {
+            port = socket.getLocalPort();
+        }
+
+        redisServer = new RedisServer( port );
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer()
+              .setAddress( "redis://127.0.0.1:" + port );
+        redisson = Redisson.create( config );
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException
+    {
+        if ( redisson != null )
+        {
+            redisson.shutdown();
+        }
+
+        if ( redisServer != null )
+        {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void testWriteAcrossChunksAndTailFromOffset() throws IOException
+    {
+        JobLogStore store = JobLogStore.of();
+        JobLogStore.Writer writer = store.writer( JOB_ID, WhichStream.STDOUT );
+        StringJoiner expected = new StringJoiner( "" );
+
+        // Enough lines to span several chunks
+        for ( int i = 0; i < 20_000; i++ )
+        {
+            String line = "Line " + i + " of the standard output.";
+            writer.append( i, line );
+            expected.add( line + NEWLINE );
+        }
+
+        writer.flush();
+
+        byte[] expectedBytes = expected.toString()
+                                       .getBytes( StandardCharsets.UTF_8 );
+        long size = store.size( JOB_ID, WhichStream.STDOUT );
+        long offset = JobLogStore.CHUNK_SIZE + 17;
+        String tail = this.read( store, WhichStream.STDOUT, offset, size );
+        String expectedTail = new String( expectedBytes,
+                                          ( int ) offset,
+                                          expectedBytes.length - ( int ) offset,
+                                          StandardCharsets.UTF_8 );
+
+        assertEquals( expectedBytes.length, size );
+        assertEquals( expected.toString(), this.read( store, WhichStream.STDOUT, 0, size ) );
+        assertEquals( expectedTail, tail );
+        assertEquals( "", this.read( store, WhichStream.STDOUT, size, size ) );
+        assertEquals( 0, store.size( JOB_ID, WhichStream.STDERR ) );
+    }
+
+    @Test
+    void testWriteMissingLines() throws IOException
+    {
+        JobLogStore store = JobLogStore.of();
+        JobLogStore.Writer writer = store.writer( JOB_ID, WhichStream.STDERR );
+        writer.append( 2, "c" );
+        writer.append( 3, "d" );
+        writer.append( 6, "g" );
+        writer.flush();
+
+        String expected = "*** Missing 2 lines ***" + NEWLINE
+                          + "c" + NEWLINE
+                          + "d" + NEWLINE
+                          + "*** Missing 2 lines ***" + NEWLINE
+                          + "g" + NEWLINE;
+        long size = store.size( JOB_ID, WhichStream.STDERR );
+
+        assertEquals( expected, this.read( store, WhichStream.STDERR, 0, size ) );
+    }
+
+    @Test
+    void testResumeWritingAfterPartialChunk() throws IOException
+    {
+        JobLogStore store = JobLogStore.of();
+        JobLogStore.Writer writer = store.writer( JOB_ID, WhichStream.STDOUT );
+        writer.append( 0, "a" );
+        writer.append( 1, "b" );
+        writer.flush();
+
+        long offset = store.size( JOB_ID, WhichStream.STDOUT );
+
+        JobLogStore.Writer resumed = store.writer( JOB_ID, WhichStream.STDOUT );
+        resumed.append( 2, "c" );
+        resumed.flush();
+
+        long size = store.size( JOB_ID, WhichStream.STDOUT );
+
+        assertEquals( "a" + NEWLINE + "b" + NEWLINE + "c" + NEWLINE,
+                      this.read( store, WhichStream.STDOUT, 0, size ) );
+        assertEquals( "c" + NEWLINE, this.read( store, WhichStream.STDOUT, offset, size ) );
+
+        store.delete( JOB_ID );
+
+        assertEquals( 0, store.size( JOB_ID, WhichStream.STDOUT ) );
+    }
+
+    @Test
+    void testRedisStreamExpiresOnceWritten()
+    {
+        JobLogStore store = JobLogStore.of( redisson, EXPIRY );
+        JobLogStore.Writer writer = store.writer( JOB_ID, WhichStream.STDOUT );
+        RList<byte[]> chunks = redisson.getList( "jobLog:" + JOB_ID + ":STDOUT", ByteArrayCodec.INSTANCE );
+
+        try
+        {
+            // The list does not exist until a chunk is stored
+            assertEquals( -2, chunks.remainTimeToLive() );
+
+            writer.append( 0, "a" );
+            writer.flush();
+
+            long timeToLive = chunks.remainTimeToLive();
+
+            assertTrue( timeToLive > 0 && timeToLive <= EXPIRY.toMillis(),
+                        "Unexpected time to live: " + timeToLive );
+        }
+        finally
+        {
+            store.delete( JOB_ID );
+        }
+    }
+
+    @Test
+    void testRedisWriteAcrossChunksAndResumeAfterPartialChunk() throws IOException
+    {
+        JobLogStore store = JobLogStore.of( redisson, EXPIRY );
+
+        try
+        {
+            JobLogStore.Writer writer = store.writer( JOB_ID, WhichStream.STDERR );
+            StringJoiner expected = new StringJoiner( "" );
+
+            // Enough lines to span several chunks, ending with a partial chunk
+            for ( int i = 0; i < 5_000; i++ )
+            {
+                String line = "Line " + i + " of the standard error.";
+                writer.append( i, line );
+                expected.add( line + NEWLINE );
+            }
+
+            writer.flush();
+
+            long offset = store.size( JOB_ID, WhichStream.STDERR );
+
+            JobLogStore.Writer resumed = store.writer( JOB_ID, WhichStream.STDERR );
+            resumed.append( 5_000, "Last" );
+            resumed.flush();
+            expected.add( "Last" + NEWLINE );
+
+            long size = store.size( JOB_ID, WhichStream.STDERR );
+
+            assertTrue( offset > JobLogStore.CHUNK_SIZE );
+            assertEquals( expected.toString(), this.read( store, WhichStream.STDERR, 0, size ) );
+            assertEquals( "Last" + NEWLINE, this.read( store, WhichStream.STDERR, offset, size ) );
+        }
+        finally
+        {
+            store.delete( JOB_ID );
+        }
+
+        assertEquals( 0, store.size( JOB_ID, WhichStream.STDERR ) );
+    }
+
+    /**
+     * @param store the store
+     * @param whichStream the stream
+     * @param offset the offset
+     * @param limit the limit
+     * @return the stream between the offset and limit
+     * @throws IOException if the stream could not be read
+     */
+
+    private String read( JobLogStore store, WhichStream whichStream, long offset, long limit ) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        store.write( JOB_ID, whichStream, offset, limit, output );
+        return output.toString( StandardCharsets.UTF_8 );
+    }
+}
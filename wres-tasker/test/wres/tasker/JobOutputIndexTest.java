@@ -0,0 +1,82 @@
+package wres.tasker;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JobOutputIndexTest
+{
+    private static final String JOB_ID = "123";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testRecordAndFindOutput() throws IOException
+    {
+        Path path = this.directory.resolve( "pairs.csv" );
+        Files.writeString( path, "a,b" + System.lineSeparator() + "1,2" );
+        URI uri = path.toUri();
+
+        JobOutputIndex index = new JobOutputIndex();
+        index.record( JOB_ID, uri );
+
+        JobOutputIndex.Output output = index.describe( JOB_ID, uri );
+
+        assertAll( () -> assertEquals( uri, index.find( JOB_ID, "pairs.csv", Set.of( uri ) ) ),
+                   () -> assertNull( index.find( JOB_ID, "other.csv", Set.of( uri ) ) ),
+                   () -> assertEquals( Files.size( path ), output.size() ),
+                   () -> assertEquals( DigestUtils.md5Hex( Files.readAllBytes( path ) ), output.md5() ),
+                   () -> assertSame( output, index.describe( JOB_ID, uri ) ) );
+    }
+
+    @Test
+    void testFindOutputIndexesOutputsThatWereNotRecorded()
+    {
+        URI first = this.directory.resolve( "first.nc" )
+                                  .toUri();
+        URI second = this.directory.resolve( "second.nc" )
+                                   .toUri();
+
+        JobOutputIndex index = new JobOutputIndex();
+
+        assertAll( () -> assertEquals( second, index.find( JOB_ID, "second.nc", Set.of( first, second ) ) ),
+                   () -> assertEquals( first, index.find( JOB_ID, "first.nc", Set.of( first, second ) ) ),
+                   () -> assertNull( index.find( JOB_ID, "first.nc", Set.of( second ) ) ) );
+    }
+
+    @Test
+    void testDescribeOutputAgainWhenChanged() throws IOException
+    {
+        Path path = this.directory.resolve( "pairs.csv" );
+        Files.writeString( path, "a" );
+        URI uri = path.toUri();
+
+        JobOutputIndex index = new JobOutputIndex();
+        JobOutputIndex.Output before = index.describe( JOB_ID, uri );
+
+        Files.writeString( path, "a,b", StandardCharsets.UTF_8 );
+        JobOutputIndex.Output after = index.describe( JOB_ID, uri );
+
+        Files.delete( path );
+
+        assertAll( () -> assertEquals( 1, before.size() ),
+                   () -> assertEquals( 3, after.size() ),
+                   () -> assertEquals( DigestUtils.md5Hex( "a,b" ), after.md5() ),
+                   () -> assertThrows( NoSuchFileException.class, () -> index.describe( JOB_ID, uri ) ) );
+    }
+}
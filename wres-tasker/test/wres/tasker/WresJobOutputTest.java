@@ -0,0 +1,68 @@
+package wres.tasker;
+
+import jakarta.ws.rs.core.EntityTag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WresJobOutputTest
+{
+    @Test
+    void testGetByteRange()
+    {
+        assertAll( () -> assertEquals( new WresJobOutput.ByteRange( 0, 99 ),
+                                       WresJobOutput.getByteRange( "bytes=0-99", 1000 ) ),
+                   () -> assertEquals( new WresJobOutput.ByteRange( 500, 999 ),
+                                       WresJobOutput.getByteRange( "bytes=500-", 1000 ) ),
+                   () -> assertEquals( new WresJobOutput.ByteRange( 900, 999 ),
+                                       WresJobOutput.getByteRange( "bytes=-100", 1000 ) ),
+                   () -> assertEquals( new WresJobOutput.ByteRange( 0, 999 ),
+                                       WresJobOutput.getByteRange( "bytes=-2000", 1000 ) ),
+                   () -> assertEquals( new WresJobOutput.ByteRange( 990, 999 ),
+                                       WresJobOutput.getByteRange( "bytes=990-2000", 1000 ) ),
+                   () -> assertEquals( 10, WresJobOutput.getByteRange( "bytes=990-2000", 1000 )
+                                                        .length() ) );
+    }
+
+    @Test
+    void testGetByteRangeIgnoresUnsupportedRanges()
+    {
+        assertAll( () -> assertNull( WresJobOutput.getByteRange( null, 1000 ) ),
+                   () -> assertNull( WresJobOutput.getByteRange( "bytes=0-9,20-29", 1000 ) ),
+                   () -> assertNull( WresJobOutput.getByteRange( "lines=0-9", 1000 ) ),
+                   () -> assertNull( WresJobOutput.getByteRange( "bytes=-", 1000 ) ),
+                   () -> assertNull( WresJobOutput.getByteRange( "bytes=9-0", 1000 ) ) );
+    }
+
+    @Test
+    void testGetByteRangeThrowsExpectedExceptionWhenUnsatisfiable()
+    {
+        assertAll( () -> assertThrows( IllegalArgumentException.class,
+                                       () -> WresJobOutput.getByteRange( "bytes=1000-", 1000 ) ),
+                   () -> assertThrows( IllegalArgumentException.class,
+                                       () -> WresJobOutput.getByteRange( "bytes=-0", 1000 ) ) );
+    }
+
+    @Test
+    void testIsRangeCurrent()
+    {
+        EntityTag entityTag = new EntityTag( "d41d8cd98f00b204e9800998ecf8427e" );
+
+        assertAll( () -> assertTrue( WresJobOutput.isRangeCurrent( null, entityTag ) ),
+                   () -> assertTrue( WresJobOutput.isRangeCurrent( "\"d41d8cd98f00b204e9800998ecf8427e\"",
+                                                                    entityTag ) ),
+                   () -> assertFalse( WresJobOutput.isRangeCurrent( "\"0cc175b9c0f1b6a831c399e269772661\"",
+                                                                     entityTag ) ),
+                   () -> assertFalse( WresJobOutput.isRangeCurrent( "W/\"d41d8cd98f00b204e9800998ecf8427e\"",
+                                                                     entityTag ) ),
+                   () -> assertFalse( WresJobOutput.isRangeCurrent( "Sat, 17 Oct 2026 23:07:32 GMT", entityTag ) ),
+                   () -> assertFalse( WresJobOutput.isRangeCurrent( "\"d41d8cd98f00b204e9800998ecf8427e\"",
+                                                                     new EntityTag( "d41d8cd98f00b204e9800998ecf8427e",
+                                                                                    true ) ) ) );
+    }
+}
@@ -54,7 +54,7 @@ class WresEvaluationProcessor implements Callable<Integer>
     private static final String OPEN_EVAL_URI =
             "http://localhost:%d/evaluation/startEvaluation?dbHost=%s&dbName=%s&dbPort=%s";
 
-    private static final String CLOSE_EVAL_URI = "http://localhost:%d/evaluation/close";
+    private static final String CLOSE_EVAL_URI = "http://localhost:%d/evaluation/close/%s";
 
     private static final String CLEAN_DATABASE_URI =
             "http://localhost:%d/evaluation/cleanDatabase?dbHost=%s&dbName=%s&dbPort=%s";
@@ -271,7 +271,7 @@ class WresEvaluationProcessor implements Callable<Integer>
             LOGGER.info( exitMessage );
             byte[] response = WresEvaluationProcessor.prepareExitResponse( exitValue, null );
             this.sendMessage( response, WhichStream.EXITCODE );
-            closeEvaluation();
+            closeEvaluation( evaluationId );
             WresEvaluationProcessor.shutdownExecutor( executorService );
             return exitValue;
         }
@@ -316,9 +316,11 @@ class WresEvaluationProcessor implements Callable<Integer>
         try ( WebClient.ClientResponse evaluationIdRequest = WEB_CLIENT.postToWeb( prepareEval,
                                                                                    job.getProjectConfig() ) )
         {
-            if ( evaluationIdRequest.getStatusCode() == HttpURLConnection.HTTP_BAD_REQUEST )
+            if ( evaluationIdRequest.getStatusCode() == HttpURLConnection.HTTP_BAD_REQUEST
+                 || evaluationIdRequest.getStatusCode() == HttpURLConnection.HTTP_UNAVAILABLE )
             {
-                // Return empty project ID when we do not get a good response from the server
+                // Return empty project ID when we do not get a good response from the server, including when the
+                // server already has the maximum number of evaluations open
                 return "";
             }
             return new BufferedReader(
@@ -404,11 +406,12 @@ class WresEvaluationProcessor implements Callable<Integer>
 
     /**
      * Helper method to close an evaluation to free up the server for the next execution
+     * @param evaluationId the ID of the evaluation to close
      */
-    private void closeEvaluation()
+    private void closeEvaluation( String evaluationId )
     {
-        try ( WebClient.ClientResponse clientResponse =
-                      WEB_CLIENT.postToWeb( URI.create( String.format( CLOSE_EVAL_URI, this.getPort() ) ) ) )
+        URI closeEvalURI = URI.create( String.format( CLOSE_EVAL_URI, this.getPort(), evaluationId ) );
+        try ( WebClient.ClientResponse clientResponse = WEB_CLIENT.postToWeb( closeEvalURI ) )
         {
             if ( clientResponse.getStatusCode() != HttpURLConnection.HTTP_OK )
             {
@@ -109,7 +109,7 @@ class WresEvaluationProcessorTest
                        .respond( HttpResponse.response() );
 
         this.mockServer.when( HttpRequest.request()
-                                         .withPath( "/evaluation/close" )
+                                         .withPath( "/evaluation/close/123456" )
                                          .withMethod( "POST" ), Times.once() )
                        .respond( HttpResponse.response() );
 
@@ -163,7 +163,7 @@ class WresEvaluationProcessorTest
                        .respond( HttpResponse.response() );
 
         this.mockServer.when( HttpRequest.request()
-                                         .withPath( "/evaluation/close" )
+                                         .withPath( "/evaluation/close/123456" )
                                          .withMethod( "POST" ), Times.once() )
                        .respond( HttpResponse.response() );
 
@@ -24,6 +24,7 @@ import wres.statistics.generated.Consumer.Format;
 import wres.statistics.generated.Evaluation;
 import wres.statistics.generated.Outputs;
 import wres.statistics.generated.Statistics;
+import wres.writing.columnar.ColumnarStatisticsWriter;
 import wres.writing.csv.statistics.CsvStatisticsWriter;
 import wres.writing.protobuf.ProtobufWriter;
 
@@ -86,6 +87,21 @@ class WritingConsumerFactory implements ConsumerFactory
             builder.addStatisticsConsumer( wres.config.yaml.components.Format.PROTOBUF, protoWriter );
         }
 
+        // Columnar
+        if ( outputs.hasColumnar() )
+        {
+            Path columnarPath = path.resolve( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+            ChronoUnit columnarDurationUnits = ChronoUnit.valueOf( outputs.getColumnar()
+                                                                          .getOptions()
+                                                                          .getLeadUnit()
+                                                                          .name() );
+            ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( columnarPath,
+                                                                           evaluation,
+                                                                           columnarDurationUnits );
+            builder.addStatisticsConsumer( wres.config.yaml.components.Format.COLUMNAR, writer );
+            resources.add( writer );
+        }
+
 
         Function<Collection<Statistics>, Set<Path>> router = builder.setEvaluationDescription( evaluation )
                                                                     .build();
@@ -160,6 +176,7 @@ class WritingConsumerFactory implements ConsumerFactory
                                            .setConsumerId( consumerId )
                                            .addFormats( Format.PROTOBUF )
                                            .addFormats( Format.CSV2 )
+                                           .addFormats( Format.COLUMNAR )
                                            .build();
     }
 
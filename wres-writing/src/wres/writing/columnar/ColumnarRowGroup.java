@@ -0,0 +1,263 @@
+package wres.writing.columnar;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * A mutable row group of statistics in a columnar layout. Each row contains one statistic value. The columns that
+ * describe a pool or a metric are shared by reference between the rows that repeat them and the value columns are
+ * primitive arrays. See {@link ColumnarStatisticsWriter} for the columns written.
+ *
+ * @author James Brown
+ */
+
+@NotThreadSafe
+class ColumnarRowGroup
+{
+    /** The initial capacity. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** The pool descriptions. */
+    private PoolColumns[] pools = new PoolColumns[INITIAL_CAPACITY];
+
+    /** The metric descriptions. */
+    private MetricColumns[] metrics = new MetricColumns[INITIAL_CAPACITY];
+
+    /** The position of each value within its metric component. */
+    private int[] elementIndexes = new int[INITIAL_CAPACITY];
+
+    /** The value types. */
+    private ValueType[] valueTypes = new ValueType[INITIAL_CAPACITY];
+
+    /** The real values. */
+    private double[] values = new double[INITIAL_CAPACITY];
+
+    /** The duration values in the duration units of the writer. */
+    private double[] durationValues = new double[INITIAL_CAPACITY];
+
+    /** The times associated with duration values in seconds since the epoch. */
+    private long[] instantValues = new long[INITIAL_CAPACITY];
+
+    /** The number of rows. */
+    private int size;
+
+    /**
+     * The type of statistic value in one row.
+     */
+
+    enum ValueType
+    {
+        /** A real value in the value column. */
+        DOUBLE,
+        /** A duration in the duration value column. */
+        DURATION,
+        /** A duration in the duration value column, which is associated with a time in the instant value column. */
+        INSTANT_AND_DURATION
+    }
+
+    /**
+     * Adds a row.
+     * @param pool the pool description
+     * @param metric the metric description
+     * @param elementIndex the position of the value within its metric component
+     * @param valueType the value type
+     * @param value the real value
+     * @param durationValue the duration value in the duration units of the writer
+     * @param instantValue the time in seconds since the epoch
+     * @throws NullPointerException if any nullable input is null
+     */
+
+    void addRow( PoolColumns pool,
+                 MetricColumns metric,
+                 int elementIndex,
+                 ValueType valueType,
+                 double value,
+                 double durationValue,
+                 long instantValue )
+    {
+        Objects.requireNonNull( pool );
+        Objects.requireNonNull( metric );
+        Objects.requireNonNull( valueType );
+
+        this.ensureCapacity( this.size + 1 );
+
+        int row = this.size;
+        this.pools[row] = pool;
+        this.metrics[row] = metric;
+        this.elementIndexes[row] = elementIndex;
+        this.valueTypes[row] = valueType;
+        this.values[row] = value;
+        this.durationValues[row] = durationValue;
+        this.instantValues[row] = instantValue;
+        this.size++;
+    }
+
+    /**
+     * Appends the rows of another row group to this row group.
+     * @param other the row group to append
+     * @throws NullPointerException if the other row group is null
+     */
+
+    void append( ColumnarRowGroup other )
+    {
+        Objects.requireNonNull( other );
+
+        int rows = other.size;
+        this.ensureCapacity( this.size + rows );
+
+        System.arraycopy( other.pools, 0, this.pools, this.size, rows );
+        System.arraycopy( other.metrics, 0, this.metrics, this.size, rows );
+        System.arraycopy( other.elementIndexes, 0, this.elementIndexes, this.size, rows );
+        System.arraycopy( other.valueTypes, 0, this.valueTypes, this.size, rows );
+        System.arraycopy( other.values, 0, this.values, this.size, rows );
+        System.arraycopy( other.durationValues, 0, this.durationValues, this.size, rows );
+        System.arraycopy( other.instantValues, 0, this.instantValues, this.size, rows );
+        this.size += rows;
+    }
+
+    /**
+     * @return the number of rows
+     */
+
+    int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * @param row the row index
+     * @return the pool description
+     */
+
+    PoolColumns getPool( int row )
+    {
+        return this.pools[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the metric description
+     */
+
+    MetricColumns getMetric( int row )
+    {
+        return this.metrics[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the position of the value within its metric component
+     */
+
+    int getElementIndex( int row )
+    {
+        return this.elementIndexes[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the value type
+     */
+
+    ValueType getValueType( int row )
+    {
+        return this.valueTypes[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the real value
+     */
+
+    double getValue( int row )
+    {
+        return this.values[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the duration value
+     */
+
+    double getDurationValue( int row )
+    {
+        return this.durationValues[row];
+    }
+
+    /**
+     * @param row the row index
+     * @return the time in seconds since the epoch
+     */
+
+    long getInstantValue( int row )
+    {
+        return this.instantValues[row];
+    }
+
+    /**
+     * Grows the columns to accommodate the prescribed number of rows.
+     * @param capacity the required capacity
+     */
+
+    private void ensureCapacity( int capacity )
+    {
+        if ( capacity <= this.pools.length )
+        {
+            return;
+        }
+
+        int grown = Math.max( capacity, this.pools.length * 2 );
+        this.pools = Arrays.copyOf( this.pools, grown );
+        this.metrics = Arrays.copyOf( this.metrics, grown );
+        this.elementIndexes = Arrays.copyOf( this.elementIndexes, grown );
+        this.valueTypes = Arrays.copyOf( this.valueTypes, grown );
+        this.values = Arrays.copyOf( this.values, grown );
+        this.durationValues = Arrays.copyOf( this.durationValues, grown );
+        this.instantValues = Arrays.copyOf( this.instantValues, grown );
+    }
+
+    /**
+     * The columns that describe a pool, which are repeated for each statistic in the pool.
+     * @param poolId the pool identifier
+     * @param baselinePool whether the pool is a baseline pool
+     * @param featureGroup the feature group name
+     * @param leftFeature the left feature names
+     * @param rightFeature the right feature names
+     * @param baselineFeature the baseline feature names
+     * @param earliestReferenceTime the earliest reference time in seconds since the epoch
+     * @param latestReferenceTime the latest reference time in seconds since the epoch
+     * @param earliestValidTime the earliest valid time in seconds since the epoch
+     * @param latestValidTime the latest valid time in seconds since the epoch
+     * @param earliestLeadDuration the earliest lead duration in the duration units of the writer
+     * @param latestLeadDuration the latest lead duration in the duration units of the writer
+     * @param eventThreshold the event threshold
+     * @param decisionThreshold the decision threshold
+     */
+
+    record PoolColumns( long poolId,
+                        boolean baselinePool,
+                        String featureGroup,
+                        String leftFeature,
+                        String rightFeature,
+                        String baselineFeature,
+                        long earliestReferenceTime,
+                        long latestReferenceTime,
+                        long earliestValidTime,
+                        long latestValidTime,
+                        double earliestLeadDuration,
+                        double latestLeadDuration,
+                        String eventThreshold,
+                        String decisionThreshold ) {}
+
+    /**
+     * The columns that describe a metric component.
+     * @param metricName the metric name
+     * @param componentName the metric component name
+     * @param units the units
+     * @param summaryStatistic the summary statistic
+     */
+
+    record MetricColumns( String metricName, String componentName, String units, String summaryStatistic ) {}
+}
@@ -0,0 +1,964 @@
+package wres.writing.columnar;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampSecTZVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.compression.CompressionUtil;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.message.IpcOption;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import com.google.protobuf.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import wres.config.MetricConstants;
+import wres.config.MetricConstants.MetricDimension;
+import wres.datamodel.thresholds.ThresholdOuter;
+import wres.statistics.generated.BoxplotMetric;
+import wres.statistics.generated.BoxplotMetric.LinkedValueType;
+import wres.statistics.generated.BoxplotStatistic;
+import wres.statistics.generated.BoxplotStatistic.Box;
+import wres.statistics.generated.DiagramStatistic;
+import wres.statistics.generated.DiagramStatistic.DiagramStatisticComponent;
+import wres.statistics.generated.DoubleScoreStatistic;
+import wres.statistics.generated.DoubleScoreStatistic.DoubleScoreStatisticComponent;
+import wres.statistics.generated.DurationDiagramStatistic;
+import wres.statistics.generated.DurationDiagramStatistic.PairOfInstantAndDuration;
+import wres.statistics.generated.DurationScoreStatistic;
+import wres.statistics.generated.DurationScoreStatistic.DurationScoreStatisticComponent;
+import wres.statistics.generated.Evaluation;
+import wres.statistics.generated.GeometryTuple;
+import wres.statistics.generated.MetricName;
+import wres.statistics.generated.Pool;
+import wres.statistics.generated.Statistics;
+import wres.statistics.generated.SummaryStatistic;
+import wres.statistics.generated.Threshold;
+import wres.statistics.generated.TimeWindow;
+import wres.writing.WriteException;
+import wres.writing.columnar.ColumnarRowGroup.MetricColumns;
+import wres.writing.columnar.ColumnarRowGroup.PoolColumns;
+import wres.writing.columnar.ColumnarRowGroup.ValueType;
+
+/**
+ * <p>Writes an evaluation in the Apache Arrow IPC file format. Each row contains one statistic value. Each record
+ * batch contains one row group of statistics for one feature group. The buffers of each record batch are compressed
+ * with ZSTD, which is substantially more compact than CSV, and a reader may scan one column without reading the others.
+ * The {@link Evaluation} description is stored in the schema metadata with the key {@link #EVALUATION_METADATA_KEY},
+ * as a protobuf message encoded in base64. The units of the duration columns are stored in the schema metadata with
+ * the key {@link #DURATION_UNITS_METADATA_KEY}. Times are in seconds since the epoch because the time windows of
+ * pools may be unbounded.
+ *
+ * <p>The statistics for each feature group are accumulated in memory until the row group is full, the row group is
+ * the least recently used of too many open row groups, or the writer is closed. Thus, the statistics for one feature
+ * group may span several record batches and the record batches for several feature groups may be interleaved.
+ *
+ * <p>The expected pattern for writing is one writer per evaluation, which encapsulates one path to write.
+ *
+ * @author James Brown
+ */
+
+@ThreadSafe
+public class ColumnarStatisticsWriter implements Function<Statistics, Set<Path>>, Closeable
+{
+    /** The default file name. */
+    public static final String DEFAULT_FILE_NAME = "evaluation.arrow";
+
+    /** The schema metadata key of the evaluation description. */
+    public static final String EVALUATION_METADATA_KEY = "wres.evaluation";
+
+    /** The schema metadata key of the duration units. */
+    public static final String DURATION_UNITS_METADATA_KEY = "wres.duration.units";
+
+    /** The pool identifier column. */
+    static final String POOL_ID = "pool_id";
+
+    /** Whether the statistic is for the baseline pool. */
+    static final String BASELINE_POOL = "baseline_pool";
+
+    /** The feature group name column. */
+    static final String FEATURE_GROUP = "feature_group";
+
+    /** The left feature names column, delimited by a colon. */
+    static final String LEFT_FEATURE = "left_feature";
+
+    /** The right feature names column, delimited by a colon. */
+    static final String RIGHT_FEATURE = "right_feature";
+
+    /** The baseline feature names column, delimited by a colon. */
+    static final String BASELINE_FEATURE = "baseline_feature";
+
+    /** The earliest reference time column. */
+    static final String EARLIEST_REFERENCE_TIME = "earliest_reference_time";
+
+    /** The latest reference time column. */
+    static final String LATEST_REFERENCE_TIME = "latest_reference_time";
+
+    /** The earliest valid time column. */
+    static final String EARLIEST_VALID_TIME = "earliest_valid_time";
+
+    /** The latest valid time column. */
+    static final String LATEST_VALID_TIME = "latest_valid_time";
+
+    /** The earliest lead duration column, in the duration units. */
+    static final String EARLIEST_LEAD_DURATION = "earliest_lead_duration";
+
+    /** The latest lead duration column, in the duration units. */
+    static final String LATEST_LEAD_DURATION = "latest_lead_duration";
+
+    /** The event threshold column. */
+    static final String EVENT_THRESHOLD = "event_threshold";
+
+    /** The decision threshold column. */
+    static final String DECISION_THRESHOLD = "decision_threshold";
+
+    /** The metric name column. */
+    static final String METRIC_NAME = "metric_name";
+
+    /** The metric component name column. */
+    static final String METRIC_COMPONENT_NAME = "metric_component_name";
+
+    /** The units column. */
+    static final String UNITS = "units";
+
+    /** The summary statistic column. */
+    static final String SUMMARY_STATISTIC = "summary_statistic";
+
+    /** The position of the value within its metric component, such as the position within a diagram or box. */
+    static final String ELEMENT_INDEX = "element_index";
+
+    /** The value type column. */
+    static final String VALUE_TYPE = "value_type";
+
+    /** The real value column, which is null unless the value type is {@link ValueType#DOUBLE}. */
+    static final String VALUE = "value";
+
+    /** The duration value column, in the duration units, which is null when the value type is
+     * {@link ValueType#DOUBLE}. */
+    static final String DURATION_VALUE = "duration_value";
+
+    /** The time associated with a duration, which is null unless the value type is
+     * {@link ValueType#INSTANT_AND_DURATION}. */
+    static final String INSTANT_VALUE = "instant_value";
+
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( ColumnarStatisticsWriter.class );
+
+    /** The maximum number of rows in a row group. */
+    private static final int MAXIMUM_ROWS_PER_GROUP = 65_536;
+
+    /** The maximum number of row groups that are open at once. */
+    private static final int MAXIMUM_OPEN_GROUPS = 64;
+
+    /** The component name of a box quantile. */
+    private static final String QUANTILE = "QUANTILE";
+
+    /** The path to write. */
+    private final Path path;
+
+    /** The duration units. */
+    private final ChronoUnit durationUnits;
+
+    /** Seconds per {@link #durationUnits}. */
+    private final BigDecimal secondsPerDuration;
+
+    /** The allocator for the vectors. */
+    @GuardedBy( "lock" )
+    private final BufferAllocator allocator;
+
+    /** The vectors, which are reused for each record batch. */
+    @GuardedBy( "lock" )
+    private final VectorSchemaRoot root;
+
+    /** The file writer. */
+    @GuardedBy( "lock" )
+    private final ArrowFileWriter writer;
+
+    /** The open row groups by feature group name, in order of access. */
+    @GuardedBy( "lock" )
+    private final Map<String, ColumnarRowGroup> rowGroups = new LinkedHashMap<>( 16, 0.75f, true );
+
+    /** A lock that guards the file writer and the open row groups. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Is true when closed. */
+    @GuardedBy( "lock" )
+    private boolean closed;
+
+    /**
+     * Creates an instance of a writer with a path to write, which writes durations in units of seconds.
+     *
+     * @param path the path to write
+     * @param evaluation the evaluation description
+     * @return a writer instance
+     * @throws ColumnarWriteException if the path could not be opened for writing
+     * @throws NullPointerException if any input is null
+     */
+
+    public static ColumnarStatisticsWriter of( Path path, Evaluation evaluation )
+    {
+        return new ColumnarStatisticsWriter( path, evaluation, ChronoUnit.SECONDS );
+    }
+
+    /**
+     * Creates an instance of a writer with a path to write.
+     *
+     * @param path the path to write
+     * @param evaluation the evaluation description
+     * @param durationUnits the duration units
+     * @return a writer instance
+     * @throws ColumnarWriteException if the path could not be opened for writing
+     * @throws NullPointerException if any input is null
+     */
+
+    public static ColumnarStatisticsWriter of( Path path, Evaluation evaluation, ChronoUnit durationUnits )
+    {
+        return new ColumnarStatisticsWriter( path, evaluation, durationUnits );
+    }
+
+    /**
+     * Adds a pool of statistics to the row group for its feature group, writing any row groups that are complete.
+     *
+     * @param statistics the statistics to write
+     * @return the path written
+     * @throws ColumnarWriteException if the statistics could not be written
+     * @throws NullPointerException if the input is null
+     */
+
+    @Override
+    public Set<Path> apply( Statistics statistics )
+    {
+        Objects.requireNonNull( statistics );
+
+        if ( !statistics.hasPool()
+             && !statistics.hasBaselinePool() )
+        {
+            throw new ColumnarWriteException( "Cannot write statistics in a columnar format without a pool "
+                                              + "definition." );
+        }
+
+        Pool pool = statistics.hasPool() ? statistics.getPool() : statistics.getBaselinePool();
+        String featureGroup = pool.getGeometryGroup()
+                                  .getRegionName();
+
+        // Build the rows outside the lock
+        ColumnarRowGroup rows = this.getRows( statistics, pool );
+
+        LOGGER.debug( "Adding {} rows of statistics for feature group {} to {}.",
+                      rows.size(),
+                      featureGroup,
+                      this.path );
+
+        this.lock.lock();
+
+        try
+        {
+            if ( this.closed )
+            {
+                throw new ColumnarWriteException( "Cannot write statistics to " + this.path
+                                                  + " because the writer is closed." );
+            }
+
+            ColumnarRowGroup rowGroup = this.rowGroups.computeIfAbsent( featureGroup, k -> new ColumnarRowGroup() );
+            rowGroup.append( rows );
+
+            if ( rowGroup.size() >= MAXIMUM_ROWS_PER_GROUP )
+            {
+                this.rowGroups.remove( featureGroup );
+                this.writeRowGroup( rowGroup );
+            }
+
+            // Write the least recently used row group when too many are open
+            if ( this.rowGroups.size() > MAXIMUM_OPEN_GROUPS )
+            {
+                Iterator<ColumnarRowGroup> eldest = this.rowGroups.values()
+                                                                  .iterator();
+                ColumnarRowGroup next = eldest.next();
+                eldest.remove();
+                this.writeRowGroup( next );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new ColumnarWriteException( "While writing statistics to " + this.path
+                                              + ", encountered an exception.",
+                                              e );
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+
+        return Set.of( this.path );
+    }
+
+    /**
+     * Writes the open row groups and the file footer and closes the path.
+     *
+     * @throws IOException if the row groups could not be written or the path could not be closed
+     */
+
+    @Override
+    public void close() throws IOException
+    {
+        this.lock.lock();
+
+        try
+        {
+            if ( this.closed )
+            {
+                return;
+            }
+
+            this.closed = true;
+
+            LOGGER.debug( "Writing {} open row groups of statistics to {} and closing.",
+                          this.rowGroups.size(),
+                          this.path );
+
+            try ( BufferAllocator closingAllocator = this.allocator;
+                  VectorSchemaRoot closingRoot = this.root;
+                  ArrowFileWriter closingWriter = this.writer )
+            {
+                for ( ColumnarRowGroup next : this.rowGroups.values() )
+                {
+                    this.writeRowGroup( next );
+                }
+
+                closingWriter.end();
+            }
+            finally
+            {
+                this.rowGroups.clear();
+            }
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a row group as a record batch.
+     * @param rowGroup the row group
+     * @throws IOException if the row group could not be written
+     */
+
+    @GuardedBy( "lock" )
+    private void writeRowGroup( ColumnarRowGroup rowGroup ) throws IOException
+    {
+        int rows = rowGroup.size();
+
+        this.root.allocateNew();
+
+        BigIntVector poolId = ( BigIntVector ) this.root.getVector( POOL_ID );
+        BitVector baselinePool = ( BitVector ) this.root.getVector( BASELINE_POOL );
+        TimeStampSecTZVector earliestReferenceTime =
+                ( TimeStampSecTZVector ) this.root.getVector( EARLIEST_REFERENCE_TIME );
+        TimeStampSecTZVector latestReferenceTime =
+                ( TimeStampSecTZVector ) this.root.getVector( LATEST_REFERENCE_TIME );
+        TimeStampSecTZVector earliestValidTime = ( TimeStampSecTZVector ) this.root.getVector( EARLIEST_VALID_TIME );
+        TimeStampSecTZVector latestValidTime = ( TimeStampSecTZVector ) this.root.getVector( LATEST_VALID_TIME );
+        Float8Vector earliestLeadDuration = ( Float8Vector ) this.root.getVector( EARLIEST_LEAD_DURATION );
+        Float8Vector latestLeadDuration = ( Float8Vector ) this.root.getVector( LATEST_LEAD_DURATION );
+        IntVector elementIndex = ( IntVector ) this.root.getVector( ELEMENT_INDEX );
+        Float8Vector value = ( Float8Vector ) this.root.getVector( VALUE );
+        Float8Vector durationValue = ( Float8Vector ) this.root.getVector( DURATION_VALUE );
+        TimeStampSecTZVector instantValue = ( TimeStampSecTZVector ) this.root.getVector( INSTANT_VALUE );
+
+        // Encode each distinct string once per record batch
+        Map<String, byte[]> encoded = new HashMap<>();
+
+        for ( int i = 0; i < rows; i++ )
+        {
+            PoolColumns pool = rowGroup.getPool( i );
+            MetricColumns metric = rowGroup.getMetric( i );
+            ValueType valueType = rowGroup.getValueType( i );
+
+            poolId.setSafe( i, pool.poolId() );
+            baselinePool.setSafe( i, pool.baselinePool() ? 1 : 0 );
+            this.setString( FEATURE_GROUP, i, pool.featureGroup(), encoded );
+            this.setString( LEFT_FEATURE, i, pool.leftFeature(), encoded );
+            this.setString( RIGHT_FEATURE, i, pool.rightFeature(), encoded );
+            this.setString( BASELINE_FEATURE, i, pool.baselineFeature(), encoded );
+            earliestReferenceTime.setSafe( i, pool.earliestReferenceTime() );
+            latestReferenceTime.setSafe( i, pool.latestReferenceTime() );
+            earliestValidTime.setSafe( i, pool.earliestValidTime() );
+            latestValidTime.setSafe( i, pool.latestValidTime() );
+            earliestLeadDuration.setSafe( i, pool.earliestLeadDuration() );
+            latestLeadDuration.setSafe( i, pool.latestLeadDuration() );
+            this.setString( EVENT_THRESHOLD, i, pool.eventThreshold(), encoded );
+            this.setString( DECISION_THRESHOLD, i, pool.decisionThreshold(), encoded );
+            this.setString( METRIC_NAME, i, metric.metricName(), encoded );
+            this.setString( METRIC_COMPONENT_NAME, i, metric.componentName(), encoded );
+            this.setString( UNITS, i, metric.units(), encoded );
+            this.setString( SUMMARY_STATISTIC, i, metric.summaryStatistic(), encoded );
+            elementIndex.setSafe( i, rowGroup.getElementIndex( i ) );
+            this.setString( VALUE_TYPE, i, valueType.name(), encoded );
+
+            if ( valueType == ValueType.DOUBLE )
+            {
+                value.setSafe( i, rowGroup.getValue( i ) );
+                durationValue.setNull( i );
+            }
+            else
+            {
+                value.setNull( i );
+                durationValue.setSafe( i, rowGroup.getDurationValue( i ) );
+            }
+
+            if ( valueType == ValueType.INSTANT_AND_DURATION )
+            {
+                instantValue.setSafe( i, rowGroup.getInstantValue( i ) );
+            }
+            else
+            {
+                instantValue.setNull( i );
+            }
+        }
+
+        this.root.setRowCount( rows );
+        this.writer.writeBatch();
+        this.root.clear();
+    }
+
+    /**
+     * Sets a string value.
+     * @param column the column name
+     * @param row the row index
+     * @param value the value
+     * @param encoded the strings encoded so far
+     */
+
+    @GuardedBy( "lock" )
+    private void setString( String column, int row, String value, Map<String, byte[]> encoded )
+    {
+        byte[] bytes = encoded.computeIfAbsent( value, v -> v.getBytes( StandardCharsets.UTF_8 ) );
+        VarCharVector vector = ( VarCharVector ) this.root.getVector( column );
+        vector.setSafe( row, bytes );
+    }
+
+    /**
+     * Creates the rows for a pool of statistics.
+     * @param statistics the statistics
+     * @param pool the pool
+     * @return the rows
+     */
+
+    private ColumnarRowGroup getRows( Statistics statistics, Pool pool )
+    {
+        ColumnarRowGroup rows = new ColumnarRowGroup();
+        PoolColumns poolColumns = this.getPoolColumns( pool );
+        String summaryStatistic = ColumnarStatisticsWriter.getSummaryStatisticName( statistics );
+        String durationUnitsName = this.durationUnits.name();
+
+        for ( DoubleScoreStatistic score : statistics.getScoresList() )
+        {
+            String metricName = ColumnarStatisticsWriter.getName( score.getMetric()
+                                                                       .getName() );
+            for ( DoubleScoreStatisticComponent component : score.getStatisticsList() )
+            {
+                MetricColumns metric = new MetricColumns( metricName,
+                                                          ColumnarStatisticsWriter.getName( component.getMetric()
+                                                                                                     .getName() ),
+                                                          component.getMetric()
+                                                                   .getUnits(),
+                                                          summaryStatistic );
+                rows.addRow( poolColumns, metric, 0, ValueType.DOUBLE, component.getValue(), Double.NaN, 0 );
+            }
+        }
+
+        for ( DurationScoreStatistic score : statistics.getDurationScoresList() )
+        {
+            String metricName = ColumnarStatisticsWriter.getName( score.getMetric()
+                                                                       .getName() );
+            for ( DurationScoreStatisticComponent component : score.getStatisticsList() )
+            {
+                MetricColumns metric = new MetricColumns( metricName,
+                                                          ColumnarStatisticsWriter.getName( component.getMetric()
+                                                                                                     .getName() ),
+                                                          durationUnitsName,
+                                                          summaryStatistic );
+                rows.addRow( poolColumns,
+                             metric,
+                             0,
+                             ValueType.DURATION,
+                             Double.NaN,
+                             this.getDuration( component.getValue() ),
+                             0 );
+            }
+        }
+
+        for ( DiagramStatistic diagram : statistics.getDiagramsList() )
+        {
+            ColumnarStatisticsWriter.addDiagramRows( diagram, poolColumns, summaryStatistic, rows );
+        }
+
+        ColumnarStatisticsWriter.addBoxplotRows( statistics.getOneBoxPerPairList(),
+                                                 poolColumns,
+                                                 summaryStatistic,
+                                                 rows );
+        ColumnarStatisticsWriter.addBoxplotRows( statistics.getOneBoxPerPoolList(),
+                                                 poolColumns,
+                                                 summaryStatistic,
+                                                 rows );
+
+        for ( DurationDiagramStatistic diagram : statistics.getDurationDiagramsList() )
+        {
+            String metricName = ColumnarStatisticsWriter.getName( diagram.getMetric()
+                                                                         .getName() );
+            MetricColumns metric = new MetricColumns( metricName, "", durationUnitsName, summaryStatistic );
+            int index = 0;
+            for ( PairOfInstantAndDuration pair : diagram.getStatisticsList() )
+            {
+                rows.addRow( poolColumns,
+                             metric,
+                             index++,
+                             ValueType.INSTANT_AND_DURATION,
+                             Double.NaN,
+                             this.getDuration( pair.getDuration() ),
+                             pair.getTime()
+                                 .getSeconds() );
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Adds the rows for a diagram, one row for each value of each component.
+     * @param diagram the diagram
+     * @param pool the pool columns
+     * @param summaryStatistic the summary statistic name
+     * @param rows the rows to update
+     */
+
+    private static void addDiagramRows( DiagramStatistic diagram,
+                                        PoolColumns pool,
+                                        String summaryStatistic,
+                                        ColumnarRowGroup rows )
+    {
+        String metricName = ColumnarStatisticsWriter.getName( diagram.getMetric()
+                                                                     .getName() );
+        for ( DiagramStatisticComponent component : diagram.getStatisticsList() )
+        {
+            String componentName = ColumnarStatisticsWriter.getName( component.getMetric()
+                                                                              .getName() );
+
+            // Qualify the component name where needed, such as the threshold for each curve in a ROC diagram
+            if ( !component.getName()
+                           .isBlank() )
+            {
+                componentName = componentName + " " + component.getName();
+            }
+
+            MetricColumns metric = new MetricColumns( metricName,
+                                                      componentName,
+                                                      component.getMetric()
+                                                               .getUnits(),
+                                                      summaryStatistic );
+            List<Double> values = component.getValuesList();
+            for ( int i = 0; i < values.size(); i++ )
+            {
+                rows.addRow( pool, metric, i, ValueType.DOUBLE, values.get( i ), Double.NaN, 0 );
+            }
+        }
+    }
+
+    /**
+     * Adds the rows for some box plots. Each box has a row for the linked value, where defined, and a row for each
+     * quantile. The element index is the position of the box.
+     * @param boxplots the box plots
+     * @param pool the pool columns
+     * @param summaryStatistic the summary statistic name
+     * @param rows the rows to update
+     */
+
+    private static void addBoxplotRows( List<BoxplotStatistic> boxplots,
+                                        PoolColumns pool,
+                                        String summaryStatistic,
+                                        ColumnarRowGroup rows )
+    {
+        for ( BoxplotStatistic boxplot : boxplots )
+        {
+            BoxplotMetric boxMetric = boxplot.getMetric();
+            String metricName = ColumnarStatisticsWriter.getName( boxMetric.getName() );
+            LinkedValueType linkedValueType = boxMetric.getLinkedValueType();
+            MetricColumns linkedValue = null;
+
+            if ( linkedValueType != LinkedValueType.NONE )
+            {
+                linkedValue = new MetricColumns( metricName,
+                                                 MetricDimension.valueOf( linkedValueType.name() )
+                                                                .toString(),
+                                                 boxMetric.getUnits(),
+                                                 summaryStatistic );
+            }
+
+            List<Double> probabilities = boxMetric.getQuantilesList();
+            MetricColumns[] quantiles = new MetricColumns[probabilities.size()];
+            for ( int i = 0; i < quantiles.length; i++ )
+            {
+                quantiles[i] = new MetricColumns( metricName,
+                                                  QUANTILE + " " + probabilities.get( i ),
+                                                  boxMetric.getUnits(),
+                                                  summaryStatistic );
+            }
+
+            int index = 0;
+            for ( Box box : boxplot.getStatisticsList() )
+            {
+                if ( Objects.nonNull( linkedValue ) )
+                {
+                    rows.addRow( pool, linkedValue, index, ValueType.DOUBLE, box.getLinkedValue(), Double.NaN, 0 );
+                }
+
+                List<Double> values = box.getQuantilesList();
+                for ( int i = 0; i < values.size() && i < quantiles.length; i++ )
+                {
+                    rows.addRow( pool, quantiles[i], index, ValueType.DOUBLE, values.get( i ), Double.NaN, 0 );
+                }
+
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Creates the columns that describe a pool.
+     * @param pool the pool
+     * @return the pool columns
+     */
+
+    private PoolColumns getPoolColumns( Pool pool )
+    {
+        List<GeometryTuple> geometries = pool.getGeometryGroup()
+                                             .getGeometryTuplesList();
+        StringJoiner left = new StringJoiner( ":" );
+        StringJoiner right = new StringJoiner( ":" );
+        StringJoiner baseline = new StringJoiner( ":" );
+
+        for ( GeometryTuple next : geometries )
+        {
+            left.add( next.getLeft()
+                          .getName() );
+            right.add( next.getRight()
+                           .getName() );
+            baseline.add( next.getBaseline()
+                              .getName() );
+        }
+
+        TimeWindow timeWindow = pool.getTimeWindow();
+
+        return new PoolColumns( pool.getPoolId(),
+                                pool.getIsBaselinePool(),
+                                pool.getGeometryGroup()
+                                    .getRegionName(),
+                                left.toString(),
+                                right.toString(),
+                                baseline.toString(),
+                                timeWindow.getEarliestReferenceTime()
+                                          .getSeconds(),
+                                timeWindow.getLatestReferenceTime()
+                                          .getSeconds(),
+                                timeWindow.getEarliestValidTime()
+                                          .getSeconds(),
+                                timeWindow.getLatestValidTime()
+                                          .getSeconds(),
+                                this.getDuration( timeWindow.getEarliestLeadDuration() ),
+                                this.getDuration( timeWindow.getLatestLeadDuration() ),
+                                ColumnarStatisticsWriter.getThresholdName( pool.hasEventThreshold(),
+                                                                           pool.getEventThreshold() ),
+                                ColumnarStatisticsWriter.getThresholdName( pool.hasDecisionThreshold(),
+                                                                           pool.getDecisionThreshold() ) );
+    }
+
+    /**
+     * Converts a duration to the duration units of the writer without truncation.
+     * @param duration the duration
+     * @return the duration in the duration units
+     */
+
+    private double getDuration( Duration duration )
+    {
+        BigDecimal seconds = BigDecimal.valueOf( duration.getSeconds() )
+                                       .add( BigDecimal.valueOf( duration.getNanos(), 9 ) );
+
+        return seconds.divide( this.secondsPerDuration, MathContext.DECIMAL64 )
+                      .doubleValue();
+    }
+
+    /**
+     * @param hasThreshold whether the threshold is defined
+     * @param threshold the threshold
+     * @return the threshold name or the empty string
+     */
+
+    private static String getThresholdName( boolean hasThreshold, Threshold threshold )
+    {
+        if ( !hasThreshold )
+        {
+            return "";
+        }
+
+        return ThresholdOuter.of( threshold )
+                             .toString();
+    }
+
+    /**
+     * @param statistics the statistics
+     * @return the summary statistic name or the empty string
+     */
+
+    private static String getSummaryStatisticName( Statistics statistics )
+    {
+        if ( !statistics.hasSummaryStatistic() )
+        {
+            return "";
+        }
+
+        SummaryStatistic summaryStatistic = statistics.getSummaryStatistic();
+        String name = summaryStatistic.getStatistic()
+                                      .name();
+
+        if ( summaryStatistic.getStatistic() == SummaryStatistic.StatisticName.QUANTILE )
+        {
+            name = name + " " + summaryStatistic.getProbability();
+        }
+
+        return name;
+    }
+
+    /**
+     * @param name the metric name
+     * @return the friendly name
+     */
+
+    private static String getName( MetricName name )
+    {
+        return MetricConstants.valueOf( name.name() )
+                              .toString();
+    }
+
+    /**
+     * Creates the schema.
+     * @param evaluation the evaluation description
+     * @param durationUnits the duration units
+     * @return the schema
+     */
+
+    private static Schema getSchema( Evaluation evaluation, ChronoUnit durationUnits )
+    {
+        ArrowType utf8 = ArrowType.Utf8.INSTANCE;
+        ArrowType time = new ArrowType.Timestamp( TimeUnit.SECOND, "UTC" );
+        ArrowType real = new ArrowType.FloatingPoint( FloatingPointPrecision.DOUBLE );
+        ArrowType bool = ArrowType.Bool.INSTANCE;
+        ArrowType int64 = new ArrowType.Int( 64, true );
+        ArrowType int32 = new ArrowType.Int( 32, true );
+
+        List<Field> fields = List.of( ColumnarStatisticsWriter.getField( POOL_ID, int64, false ),
+                                      ColumnarStatisticsWriter.getField( BASELINE_POOL, bool, false ),
+                                      ColumnarStatisticsWriter.getField( FEATURE_GROUP, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( LEFT_FEATURE, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( RIGHT_FEATURE, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( BASELINE_FEATURE, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( EARLIEST_REFERENCE_TIME, time, false ),
+                                      ColumnarStatisticsWriter.getField( LATEST_REFERENCE_TIME, time, false ),
+                                      ColumnarStatisticsWriter.getField( EARLIEST_VALID_TIME, time, false ),
+                                      ColumnarStatisticsWriter.getField( LATEST_VALID_TIME, time, false ),
+                                      ColumnarStatisticsWriter.getField( EARLIEST_LEAD_DURATION, real, false ),
+                                      ColumnarStatisticsWriter.getField( LATEST_LEAD_DURATION, real, false ),
+                                      ColumnarStatisticsWriter.getField( EVENT_THRESHOLD, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( DECISION_THRESHOLD, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( METRIC_NAME, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( METRIC_COMPONENT_NAME, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( UNITS, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( SUMMARY_STATISTIC, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( ELEMENT_INDEX, int32, false ),
+                                      ColumnarStatisticsWriter.getField( VALUE_TYPE, utf8, false ),
+                                      ColumnarStatisticsWriter.getField( VALUE, real, true ),
+                                      ColumnarStatisticsWriter.getField( DURATION_VALUE, real, true ),
+                                      ColumnarStatisticsWriter.getField( INSTANT_VALUE, time, true ) );
+
+        Map<String, String> metadata = Map.of( EVALUATION_METADATA_KEY,
+                                               Base64.getEncoder()
+                                                     .encodeToString( evaluation.toByteArray() ),
+                                               DURATION_UNITS_METADATA_KEY,
+                                               durationUnits.name() );
+
+        return new Schema( fields, metadata );
+    }
+
+    /**
+     * @param name the field name
+     * @param type the field type
+     * @param nullable whether the field is nullable
+     * @return the field
+     */
+
+    private static Field getField( String name, ArrowType type, boolean nullable )
+    {
+        FieldType fieldType = nullable ? FieldType.nullable( type ) : FieldType.notNullable( type );
+        return new Field( name, fieldType, null );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path the path to write
+     * @param evaluation the evaluation description
+     * @param durationUnits the duration units
+     * @throws ColumnarWriteException if the path could not be opened for writing
+     * @throws NullPointerException if any input is null
+     */
+
+    private ColumnarStatisticsWriter( Path path, Evaluation evaluation, ChronoUnit durationUnits )
+    {
+        Objects.requireNonNull( path, "Specify a non-null path for writing." );
+        Objects.requireNonNull( evaluation, "Specify a non-null evaluation to write." );
+        Objects.requireNonNull( durationUnits, "Specify non-null duration units." );
+
+        this.path = path;
+        this.durationUnits = durationUnits;
+        this.secondsPerDuration = BigDecimal.valueOf( durationUnits.getDuration()
+                                                                   .getSeconds() )
+                                            .add( BigDecimal.valueOf( durationUnits.getDuration()
+                                                                                   .getNano(), 9 ) );
+
+        LOGGER.debug( "Writing an Arrow file schema to {}.", path );
+
+        Schema schema = ColumnarStatisticsWriter.getSchema( evaluation, durationUnits );
+        BufferAllocator newAllocator = new RootAllocator();
+        VectorSchemaRoot newRoot = null;
+        ArrowFileWriter newWriter = null;
+
+        try
+        {
+            newRoot = VectorSchemaRoot.create( schema, newAllocator );
+            WritableByteChannel channel = Files.newByteChannel( path,
+                                                                StandardOpenOption.CREATE,
+                                                                StandardOpenOption.TRUNCATE_EXISTING,
+                                                                StandardOpenOption.WRITE );
+            newWriter = new ArrowFileWriter( newRoot,
+                                             new DictionaryProvider.MapDictionaryProvider(),
+                                             channel,
+                                             Map.of(),
+                                             IpcOption.DEFAULT,
+                                             CommonsCompressionFactory.INSTANCE,
+                                             CompressionUtil.CodecType.ZSTD );
+            newWriter.start();
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            ColumnarWriteException exception =
+                    new ColumnarWriteException( "While opening " + path + " to write statistics in a columnar "
+                                                + "format, encountered an exception.",
+                                                e );
+
+            ColumnarStatisticsWriter.close( exception, newWriter, newRoot, newAllocator );
+
+            throw exception;
+        }
+
+        this.allocator = newAllocator;
+        this.root = newRoot;
+        this.writer = newWriter;
+    }
+
+    /**
+     * Closes some resources after a failure, adding any further exceptions to the failure.
+     * @param failure the failure
+     * @param resources the resources, which may be null
+     */
+
+    private static void close( Exception failure, AutoCloseable... resources )
+    {
+        for ( AutoCloseable next : resources )
+        {
+            if ( Objects.nonNull( next ) )
+            {
+                try
+                {
+                    next.close();
+                }
+                catch ( Exception e )
+                {
+                    failure.addSuppressed( e );
+                }
+            }
+        }
+    }
+
+    /**
+     * A runtime exception associated with writing statistics in a columnar format.
+     *
+     * @author James Brown
+     */
+
+    private static class ColumnarWriteException extends WriteException
+    {
+        /** Serial identifier.*/
+        @Serial
+        private static final long serialVersionUID = -2718374826384716234L;
+
+        /**
+         * Constructs a {@link ColumnarWriteException} with the specified message.
+         *
+         * @param message the message.
+         */
+
+        public ColumnarWriteException( final String message )
+        {
+            super( message );
+        }
+
+        /**
+         * Constructs a {@link ColumnarWriteException} with the specified message.
+         *
+         * @param message the message.
+         * @param cause the cause of the exception
+         */
+
+        public ColumnarWriteException( final String message, final Throwable cause )
+        {
+            super( message, cause );
+        }
+    }
+}
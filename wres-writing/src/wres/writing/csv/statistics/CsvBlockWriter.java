@@ -0,0 +1,380 @@
+package wres.writing.csv.statistics;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPOutputStream;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Writes blocks of bytes to a file on a single consumer thread, which is fed by a bounded queue. Each block is
+ * written contiguously and in the order it was received. Producers do not contend for the file or for compression,
+ * only for a place in the queue, and block when the queue is full.
+ *
+ * <p>When writing gzip with parallel compression, the blocks are accumulated into larger blocks that are compressed
+ * in parallel as separate gzip members and then written in order. A file that contains several gzip members is a
+ * valid gzip file, which decompresses to the concatenated content of the members.
+ *
+ * @author James Brown
+ */
+
+@ThreadSafe
+class CsvBlockWriter implements Closeable
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( CsvBlockWriter.class );
+
+    /** The number of blocks that may be queued for writing. */
+    private static final int QUEUE_CAPACITY = 64;
+
+    /** The minimum size of each gzip member when compressing in parallel. */
+    private static final int PARALLEL_GZIP_BLOCK_SIZE = 1 << 20;
+
+    /** A block that signals the consumer to stop. */
+    private static final byte[] END = new byte[0];
+
+    /** The blocks to write. */
+    private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>( QUEUE_CAPACITY );
+
+    /** The stream to write. */
+    private final OutputStream out;
+
+    /** The compression executor when compressing in parallel, otherwise null. */
+    private final ExecutorService compressor;
+
+    /** The consumer thread. */
+    private final Thread consumer;
+
+    /** The first failure to write, if any. */
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    /** A lock that guards {@link #closed}, so that no block is queued after the end block. Producers share the lock
+     * while queueing a block, which allows them to queue concurrently, and closing holds the lock exclusively. */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    /** Is true when closed. Also read without the lock by the consumer. */
+    @GuardedBy( "closeLock" )
+    private volatile boolean closed;
+
+    /**
+     * Creates an instance that appends to a file.
+     * @param path the path to write
+     * @param gzip is true to gzip the output
+     * @param parallelGzip is true to compress in parallel blocks, ignored unless gzip is true
+     * @return the writer
+     * @throws NullPointerException if the path is null
+     * @throws IOException if the file could not be opened
+     */
+
+    static CsvBlockWriter of( Path path, boolean gzip, boolean parallelGzip ) throws IOException
+    {
+        Objects.requireNonNull( path );
+
+        OutputStream out = Files.newOutputStream( path,
+                                                  StandardOpenOption.CREATE,
+                                                  StandardOpenOption.APPEND );
+
+        if ( gzip && parallelGzip )
+        {
+            int threads = Math.max( 1, Math.min( 4, Runtime.getRuntime()
+                                                           .availableProcessors() - 1 ) );
+            ExecutorService compressor = Executors.newFixedThreadPool( threads, runnable -> {
+                Thread thread = new Thread( runnable, "CSV statistics compressor" );
+                thread.setDaemon( true );
+                return thread;
+            } );
+            return new CsvBlockWriter( new BufferedOutputStream( out ), compressor );
+        }
+        else if ( gzip )
+        {
+            return new CsvBlockWriter( new BufferedOutputStream( new GZIPOutputStream( out ) ), null );
+        }
+
+        return new CsvBlockWriter( new BufferedOutputStream( out ), null );
+    }
+
+    /**
+     * Queues a block for writing, waiting for space in the queue if needed.
+     * @param block the block
+     * @throws NullPointerException if the block is null
+     * @throws IOException if the writer is closed, an earlier block could not be written or the wait was interrupted
+     */
+
+    void write( byte[] block ) throws IOException
+    {
+        Objects.requireNonNull( block );
+
+        this.throwIfFailed();
+
+        Lock lock = this.closeLock.readLock();
+        lock.lock();
+
+        try
+        {
+            if ( this.closed )
+            {
+                throw new IOException( "Cannot write a block of statistics to a closed writer." );
+            }
+
+            if ( block.length == 0 )
+            {
+                return;
+            }
+
+            this.queue.put( block );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+            throw new IOException( "Interrupted while waiting to write a block of statistics.", e );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes all queued blocks and closes the file.
+     * @throws IOException if any block could not be written or the file could not be closed
+     */
+
+    @Override
+    public void close() throws IOException
+    {
+        // Once closed, no producer is queueing a block and no more blocks will be queued, so the end block is last
+        Lock lock = this.closeLock.writeLock();
+        lock.lock();
+
+        try
+        {
+            if ( this.closed )
+            {
+                return;
+            }
+
+            this.closed = true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        try
+        {
+            this.queue.put( END );
+            this.consumer.join();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread()
+                  .interrupt();
+            this.consumer.interrupt();
+            this.failure.compareAndSet( null, new IOException( "Interrupted while closing a writer of statistics.",
+                                                               e ) );
+        }
+        finally
+        {
+            if ( Objects.nonNull( this.compressor ) )
+            {
+                this.compressor.shutdownNow();
+            }
+
+            try
+            {
+                this.out.close();
+            }
+            catch ( IOException e )
+            {
+                this.failure.compareAndSet( null, e );
+            }
+        }
+
+        this.throwIfFailed();
+    }
+
+    /**
+     * Consumes the queue until the end block is received.
+     */
+
+    private void consume()
+    {
+        Deque<CompletableFuture<byte[]>> compressing = new ArrayDeque<>();
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+        while ( true )
+        {
+            byte[] block;
+            try
+            {
+                block = this.queue.take();
+            }
+            // Record the failure and, until closed, continue to drain the queue so that producers are not blocked.
+            // Once closed, no producer can be waiting, so stop, which the writer may not otherwise do if the end
+            // block was never queued
+            catch ( InterruptedException e )
+            {
+                this.failure.compareAndSet( null, new IOException( "Interrupted while writing statistics.", e ) );
+
+                if ( this.closed )
+                {
+                    LOGGER.debug( "Interrupted while writing statistics to a closed writer, stopping." );
+                    return;
+                }
+
+                continue;
+            }
+
+            boolean end = block == END;
+
+            // Once failed, drain the queue without writing
+            if ( Objects.isNull( this.failure.get() ) )
+            {
+                try
+                {
+                    if ( Objects.isNull( this.compressor ) )
+                    {
+                        this.out.write( block );
+                    }
+                    else
+                    {
+                        this.compressInParallel( block, end, pending, compressing );
+                    }
+
+                    if ( end )
+                    {
+                        this.out.flush();
+                    }
+                }
+                catch ( IOException e )
+                {
+                    LOGGER.debug( "Failed to write a block of statistics.", e );
+                    this.failure.compareAndSet( null, e );
+                }
+            }
+
+            if ( end )
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Accumulates a block and, once the accumulated bytes are large enough, compresses them in parallel. Writes any
+     * compressed blocks that are complete, in order.
+     * @param block the block
+     * @param end is true if there are no more blocks
+     * @param pending the accumulated bytes
+     * @param compressing the blocks being compressed, in order
+     * @throws IOException if a block could not be compressed or written
+     */
+
+    private void compressInParallel( byte[] block,
+                                     boolean end,
+                                     ByteArrayOutputStream pending,
+                                     Deque<CompletableFuture<byte[]>> compressing )
+            throws IOException
+    {
+        pending.write( block );
+
+        if ( pending.size() >= PARALLEL_GZIP_BLOCK_SIZE || ( end && pending.size() > 0 ) )
+        {
+            byte[] uncompressed = pending.toByteArray();
+            pending.reset();
+            compressing.add( CompletableFuture.supplyAsync( () -> CsvBlockWriter.gzip( uncompressed ),
+                                                            this.compressor ) );
+        }
+
+        // Write the completed blocks in order, waiting for all of them at the end or when too many are outstanding
+        while ( !compressing.isEmpty()
+                && ( end
+                     || compressing.size() > QUEUE_CAPACITY
+                     || compressing.peekFirst()
+                                   .isDone() ) )
+        {
+            try
+            {
+                this.out.write( compressing.removeFirst()
+                                           .join() );
+            }
+            catch ( CompletionException e )
+            {
+                throw new IOException( "Failed to compress a block of statistics.", e.getCause() );
+            }
+        }
+    }
+
+    /**
+     * Compresses a block as a gzip member.
+     * @param block the block
+     * @return the compressed block
+     * @throws CompletionException if the block could not be compressed
+     */
+
+    private static byte[] gzip( byte[] block )
+    {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream( block.length / 4 );
+        try ( GZIPOutputStream gzip = new GZIPOutputStream( compressed ) )
+        {
+            gzip.write( block );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionException( e );
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * @throws IOException if an earlier block could not be written
+     */
+
+    private void throwIfFailed() throws IOException
+    {
+        IOException e = this.failure.get();
+        if ( Objects.nonNull( e ) )
+        {
+            throw new IOException( "Failed to write statistics.", e );
+        }
+    }
+
+    /**
+     * Hidden constructor.
+     * @param out the stream to write
+     * @param compressor the compression executor or null to write the stream directly
+     */
+
+    private CsvBlockWriter( OutputStream out, ExecutorService compressor )
+    {
+        this.out = out;
+        this.compressor = compressor;
+        this.consumer = new Thread( this::consume, "CSV statistics writer" );
+        this.consumer.setDaemon( true );
+        this.consumer.start();
+    }
+}
@@ -1,8 +1,9 @@
 package wres.writing.csv.statistics;
 
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
@@ -14,7 +15,9 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -24,7 +27,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
@@ -131,14 +133,31 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
     /** Repeated string. */
     private static final String PROBABILITY = "PROBABILITY";
 
-    /** Lock for writing csv to the {@link #path} for which this writer is built. */
+    /** The number of pool descriptions to cache. */
+    private static final int POOL_DESCRIPTION_CACHE_SIZE = 256;
+
+    /** The system property that enables parallel gzip compression. */
+    private static final String PARALLEL_GZIP_PROPERTY = "wres.csvParallelGzip";
+
+    /** Lock for writing the header to the {@link #path} for which this writer is built. */
     private final ReentrantLock writeLock;
 
     /** The evaluation description. */
     private final StringJoiner evaluationDescription;
 
-    /** Buffered writer to share, must be closed on completion. */
-    private final BufferedOutputStream bufferedWriter;
+    /** Writer to share, which writes each blob of statistics on a single thread, must be closed on completion. */
+    private final CsvBlockWriter blockWriter;
+
+    /** The evaluation and pool description of each recent pool, which is expensive to compute. */
+    @GuardedBy( "poolDescriptions" )
+    private final Map<Pool, String> poolDescriptions = new LinkedHashMap<>( 16, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<Pool, String> eldest )
+        {
+            return this.size() > POOL_DESCRIPTION_CACHE_SIZE;
+        }
+    };
 
     /** Duration units. */
     private final ChronoUnit durationUnits;
@@ -215,31 +234,26 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
         LOGGER.debug( "Writer {} received a packet of statistics, which will be written to {}.", this, this.getPath() );
 
-        // Lock here so that all statistics for one pool appear in the same place within the file. The pool numbering 
-        // depends on this. If moving down the call chain to an individual write, then pool numbers would need to 
-        // appear in the statistics themselves.
-        ReentrantLock lock = this.getWriteLock();
-
-        lock.lock();
-
         // There is only one thread per pool write, but it is convenient to increment in this form
         AtomicInteger groupNumber = new AtomicInteger( 1 );
 
         try
         {
             // Create the CSV file if not already created
-            this.testCreateCsvFile( this.bufferedWriter );
-            this.writeStatistics( statistics, this.bufferedWriter, groupNumber );
+            this.testCreateCsvFile( this.blockWriter );
+
+            // Format on this thread and write as one block so that all statistics for one pool appear in the same
+            // place within the file. The pool numbering depends on this. If moving down the call chain to an
+            // individual write, then pool numbers would need to appear in the statistics themselves.
+            ByteArrayOutputStream block = new ByteArrayOutputStream();
+            this.writeStatistics( statistics, block, groupNumber );
+            this.blockWriter.write( block.toByteArray() );
         }
         catch ( IOException e )
         {
             throw new CommaSeparatedWriteException( "Encountered an error while writing a blob of statistic to a CSV "
                                                     + "file.", e );
         }
-        finally
-        {
-            lock.unlock();
-        }
 
         return Set.of( this.path, this.pathToCsvt );
     }
@@ -249,9 +263,9 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
     {
         LOGGER.debug( "Closing the CSV statistics writer." );
 
-        if ( Objects.nonNull( this.bufferedWriter ) )
+        if ( Objects.nonNull( this.blockWriter ) )
         {
-            this.bufferedWriter.close();
+            this.blockWriter.close();
         }
     }
 
@@ -277,6 +291,45 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
         return this.writeLock;
     }
 
+    /**
+     * Returns the evaluation and pool description from the cache or creates and caches it. The pool description
+     * includes the geometry descriptions, which are expensive to create, and is repeated for every statistic and
+     * threshold within a pool.
+     *
+     * @param pool the pool
+     * @return the evaluation and pool description
+     * @throws IOException if the pool description cannot be generated
+     */
+
+    private String getEvaluationAndPoolDescription( Pool pool ) throws IOException
+    {
+        synchronized ( this.poolDescriptions )
+        {
+            String description = this.poolDescriptions.get( pool );
+            if ( Objects.nonNull( description ) )
+            {
+                return description;
+            }
+        }
+
+        // Merge the evaluation and pool descriptions into an empty joiner. The evaluation description is shared, so
+        // guard it against concurrent merges, which compact it
+        StringJoiner merge = new StringJoiner( CsvStatisticsWriter.DELIMITER );
+        synchronized ( this.evaluationDescription )
+        {
+            merge.merge( this.evaluationDescription );
+        }
+        merge.merge( this.getPoolDescription( pool ) );
+        String description = merge.toString();
+
+        synchronized ( this.poolDescriptions )
+        {
+            this.poolDescriptions.put( pool, description );
+        }
+
+        return description;
+    }
+
     /**
      * Returns a pool description from the pool definitions.
      *
@@ -728,7 +781,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
      */
 
     private void writeStatistics( Statistics statistics,
-                                  BufferedOutputStream writer,
+                                  OutputStream writer,
                                   AtomicInteger groupNumber )
             throws IOException
     {
@@ -751,12 +804,8 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
             pool = statistics.getBaselinePool();
         }
 
-        StringJoiner poolDescription = this.getPoolDescription( pool );
-
-        // Merge the evaluation and pool descriptions into an empty joiner
-        StringJoiner merge = new StringJoiner( CsvStatisticsWriter.DELIMITER );
-        merge.merge( this.evaluationDescription );
-        StringJoiner mergeDescription = merge.merge( poolDescription );
+        StringJoiner mergeDescription = new StringJoiner( CsvStatisticsWriter.DELIMITER );
+        mergeDescription.add( this.getEvaluationAndPoolDescription( pool ) );
 
         SummaryStatistic summaryStatistic = null;
         if ( statistics.hasSummaryStatistic() )
@@ -853,7 +902,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDoubleScores( StringJoiner poolDescription,
                                     List<DoubleScoreStatistic> statistics,
-                                    BufferedOutputStream writer,
+                                    OutputStream writer,
                                     AtomicInteger groupNumber,
                                     EnsembleAverageType ensembleAverageType,
                                     SummaryStatistic summaryStatistic )
@@ -887,7 +936,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDurationScores( StringJoiner poolDescription,
                                       List<DurationScoreStatistic> statistics,
-                                      BufferedOutputStream writer,
+                                      OutputStream writer,
                                       ChronoUnit durationUnits,
                                       AtomicInteger groupNumber,
                                       EnsembleAverageType ensembleAverageType,
@@ -927,7 +976,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDiagrams( StringJoiner poolDescription,
                                 List<DiagramStatistic> statistics,
-                                BufferedOutputStream writer,
+                                OutputStream writer,
                                 AtomicInteger groupNumber,
                                 EnsembleAverageType ensembleAverageType,
                                 SummaryStatistic summaryStatistic )
@@ -962,7 +1011,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
     private void writeBoxPlots( StringJoiner poolDescription,
                                 List<BoxplotStatistic> statistics,
                                 SummaryStatistic summaryStatistic,
-                                BufferedOutputStream writer,
+                                OutputStream writer,
                                 AtomicInteger groupNumber,
                                 EnsembleAverageType ensembleAverageType )
             throws IOException
@@ -995,7 +1044,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDurationDiagrams( StringJoiner poolDescription,
                                         List<DurationDiagramStatistic> statistics,
-                                        BufferedOutputStream writer,
+                                        OutputStream writer,
                                         ChronoUnit durationUnits,
                                         AtomicInteger groupNumber,
                                         EnsembleAverageType ensembleAverageType,
@@ -1035,7 +1084,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDoubleScore( StringJoiner poolDescription,
                                    DoubleScoreStatistic score,
-                                   BufferedOutputStream writer,
+                                   OutputStream writer,
                                    AtomicInteger groupNumber,
                                    EnsembleAverageType ensembleAverageType,
                                    SummaryStatistic summaryStatistic )
@@ -1160,7 +1209,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDurationScore( StringJoiner poolDescription,
                                      DurationScoreStatistic score,
-                                     BufferedOutputStream writer,
+                                     OutputStream writer,
                                      ChronoUnit durationUnits,
                                      AtomicInteger groupNumber,
                                      EnsembleAverageType ensembleAverageType,
@@ -1313,7 +1362,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDiagram( StringJoiner poolDescription,
                                DiagramStatistic diagram,
-                               BufferedOutputStream writer,
+                               OutputStream writer,
                                AtomicInteger groupNumber,
                                EnsembleAverageType ensembleAverageType,
                                SummaryStatistic summaryStatistic )
@@ -1502,7 +1551,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
     private void writeDurationDiagram( StringJoiner poolDescription,
                                        DurationDiagramStatistic diagram,
-                                       BufferedOutputStream writer,
+                                       OutputStream writer,
                                        ChronoUnit durationUnits,
                                        AtomicInteger groupNumber,
                                        EnsembleAverageType ensembleAverageType,
@@ -1615,7 +1664,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
     private void writeBoxplot( StringJoiner poolDescription,
                                BoxplotStatistic boxplot,
                                SummaryStatistic summaryStatistic,
-                               BufferedOutputStream writer,
+                               OutputStream writer,
                                AtomicInteger groupNumber,
                                EnsembleAverageType ensembleAverageType )
             throws IOException
@@ -1699,7 +1748,7 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
      */
 
     private void writeBoxplotElement( BoxplotElement element,
-                                      BufferedOutputStream writer )
+                                      OutputStream writer )
             throws IOException
     {
         StringJoiner poolDescription = element.poolDescription();
@@ -2056,19 +2105,9 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
         try
         {
-            // Gzip?
-            if ( gzip )
-            {
-                this.bufferedWriter = new BufferedOutputStream( new GZIPOutputStream( Files.newOutputStream( this.path,
-                                                                                                             StandardOpenOption.CREATE,
-                                                                                                             StandardOpenOption.APPEND ) ) );
-            }
-            else
-            {
-                this.bufferedWriter = new BufferedOutputStream( Files.newOutputStream( this.path,
-                                                                                       StandardOpenOption.CREATE,
-                                                                                       StandardOpenOption.APPEND ) );
-            }
+            // Gzip, optionally in parallel blocks?
+            boolean parallelGzip = Boolean.getBoolean( PARALLEL_GZIP_PROPERTY );
+            this.blockWriter = CsvBlockWriter.of( this.path, gzip, parallelGzip );
         }
         catch ( IOException e )
         {
@@ -2077,35 +2116,17 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
     }
 
     /**
-     * Attempts to create the CSV file with a standard header and the associated CSVT file.
+     * Attempts to create the CSV file with a standard header and the associated CSVT file. Any writer that finds the
+     * header unwritten waits for the header to be queued, so that the header is always the first block written.
      * @param writer the writer
      */
-    private void testCreateCsvFile( BufferedOutputStream writer )
+    private void testCreateCsvFile( CsvBlockWriter writer )
     {
-        if ( !this.headerWritten.getAndSet( true ) )
+        if ( this.headerWritten.get() )
         {
-            try
-            {
-                this.writeHeader( writer );
-
-                // Write the CSVT file that helps with import into GDAL-enabled off-the-shelf GIS tools.
-                this.writeCsvtFileForGdalApplications( this.pathToCsvt );
-            }
-            catch ( IOException e )
-            {
-                throw new CommaSeparatedWriteException( "Encountered an exception while building a CSV writer.", e );
-            }
+            return;
         }
-    }
-
-    /**
-     * Writes a header to the CSV file.
-     * @param writer the writer
-     * @throws IOException if the header could not be written
-     */
 
-    private void writeHeader( BufferedOutputStream writer ) throws IOException
-    {
         // Lock for writing
         ReentrantLock lock = this.getWriteLock();
         lock.lock();
@@ -2114,12 +2135,19 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
 
         try
         {
-            byte[] headerBytes = CsvStatisticsWriter.HEADER.getBytes( StandardCharsets.UTF_8 );
-            writer.write( headerBytes );
+            if ( !this.headerWritten.get() )
+            {
+                this.writeHeader( writer );
 
-            LOGGER.trace( "Header for the CSV file composed of {} written to {}.",
-                          CsvStatisticsWriter.HEADER,
-                          this.getPath() );
+                // Write the CSVT file that helps with import into GDAL-enabled off-the-shelf GIS tools.
+                this.writeCsvtFileForGdalApplications( this.pathToCsvt );
+
+                this.headerWritten.set( true );
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new CommaSeparatedWriteException( "Encountered an exception while building a CSV writer.", e );
         }
         // Complete writing
         finally
@@ -2130,6 +2158,22 @@ public class CsvStatisticsWriter implements Function<Statistics, Set<Path>>, Clo
         }
     }
 
+    /**
+     * Writes a header to the CSV file.
+     * @param writer the writer
+     * @throws IOException if the header could not be written
+     */
+
+    private void writeHeader( CsvBlockWriter writer ) throws IOException
+    {
+        byte[] headerBytes = CsvStatisticsWriter.HEADER.getBytes( StandardCharsets.UTF_8 );
+        writer.write( headerBytes );
+
+        LOGGER.trace( "Header for the CSV file composed of {} written to {}.",
+                      CsvStatisticsWriter.HEADER,
+                      this.getPath() );
+    }
+
     /**
      * Creates the evaluation description from the evaluation.
      *
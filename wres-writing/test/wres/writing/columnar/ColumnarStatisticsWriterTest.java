@@ -0,0 +1,437 @@
+package wres.writing.columnar;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.util.Text;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+
+import wres.datamodel.statistics.BoxplotStatisticOuter;
+import wres.datamodel.statistics.DoubleScoreStatisticOuter;
+import wres.datamodel.statistics.DurationScoreStatisticOuter;
+import wres.statistics.generated.BoxplotMetric.LinkedValueType;
+import wres.statistics.generated.BoxplotStatistic;
+import wres.statistics.generated.DurationScoreStatistic;
+import wres.statistics.generated.Evaluation;
+import wres.statistics.generated.Pool;
+import wres.statistics.generated.Statistics;
+import wres.writing.WriteException;
+import wres.writing.WriterTestHelper;
+import wres.writing.csv.statistics.CsvStatisticsWriter;
+
+/**
+ * Tests the {@link ColumnarStatisticsWriter}.
+ *
+ * @author James Brown
+ */
+
+class ColumnarStatisticsWriterTest
+{
+    /** Logger. */
+    private static final Logger LOGGER = LoggerFactory.getLogger( ColumnarStatisticsWriterTest.class );
+
+    @Test
+    void testWriteDoubleScores() throws IOException
+    {
+        Statistics statistics = this.getDoubleScoreStatistics( 1 );
+        Evaluation evaluation = this.getEvaluation();
+
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+
+            try ( ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( path, evaluation ) )
+            {
+                writer.apply( statistics );
+            }
+
+            ArrowContents contents = this.read( path );
+            Map<String, List<Object>> columns = contents.columns();
+
+            String encoded = contents.metadata()
+                                     .get( ColumnarStatisticsWriter.EVALUATION_METADATA_KEY );
+            Evaluation actualEvaluation = Evaluation.parseFrom( Base64.getDecoder()
+                                                                      .decode( encoded ) );
+
+            assertAll( () -> assertEquals( evaluation, actualEvaluation ),
+                       () -> assertEquals( "SECONDS",
+                                           contents.metadata()
+                                                   .get( ColumnarStatisticsWriter.DURATION_UNITS_METADATA_KEY ) ),
+                       () -> assertEquals( List.of( 3 ), contents.batchSizes() ),
+                       () -> assertEquals( "DRRC2-DRRC2",
+                                           columns.get( ColumnarStatisticsWriter.FEATURE_GROUP )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( "DRRC2",
+                                           columns.get( ColumnarStatisticsWriter.LEFT_FEATURE )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( 1L,
+                                           columns.get( ColumnarStatisticsWriter.POOL_ID )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( 3600.0,
+                                           columns.get( ColumnarStatisticsWriter.LATEST_LEAD_DURATION )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( "DOUBLE",
+                                           columns.get( ColumnarStatisticsWriter.VALUE_TYPE )
+                                                  .get( 0 ) ),
+                       () -> assertNull( columns.get( ColumnarStatisticsWriter.DURATION_VALUE )
+                                                .get( 0 ) ),
+                       () -> assertEquals( Set.of( "MEAN ABSOLUTE ERROR", "MEAN ERROR", "MEAN SQUARE ERROR" ),
+                                           new HashSet<>( columns.get( ColumnarStatisticsWriter.METRIC_NAME ) ) ),
+                       () -> assertEquals( Set.of( 1.0, 2.0, 3.0 ),
+                                           new HashSet<>( columns.get( ColumnarStatisticsWriter.VALUE ) ) ) );
+        }
+    }
+
+    @Test
+    void testWriteDurationScoresInDeclaredUnitsWithoutTruncation() throws IOException
+    {
+        List<DurationScoreStatisticOuter> scores = WriterTestHelper.getDurationScoreStatisticsForOnePool();
+        DurationScoreStatistic score = scores.get( 0 )
+                                             .getStatistic();
+
+        // Add a fraction of a second to the first component
+        DurationScoreStatistic.Builder adjusted = score.toBuilder();
+        adjusted.getStatisticsBuilder( 0 )
+                .getValueBuilder()
+                .setNanos( 500_000_000 );
+
+        Pool pool = scores.get( 0 )
+                          .getPoolMetadata()
+                          .getPool();
+        Statistics statistics = Statistics.newBuilder()
+                                          .setPool( pool )
+                                          .addDurationScores( adjusted )
+                                          .build();
+
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+
+            try ( ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( path,
+                                                                                 this.getEvaluation(),
+                                                                                 ChronoUnit.MINUTES ) )
+            {
+                writer.apply( statistics );
+            }
+
+            ArrowContents contents = this.read( path );
+            Map<String, List<Object>> columns = contents.columns();
+            List<Object> durations = columns.get( ColumnarStatisticsWriter.DURATION_VALUE );
+
+            assertAll( () -> assertEquals( "MINUTES",
+                                           contents.metadata()
+                                                   .get( ColumnarStatisticsWriter.DURATION_UNITS_METADATA_KEY ) ),
+                       () -> assertEquals( List.of( 3 ), contents.batchSizes() ),
+                       () -> assertEquals( 60.0,
+                                           columns.get( ColumnarStatisticsWriter.EARLIEST_LEAD_DURATION )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( 1080.0,
+                                           columns.get( ColumnarStatisticsWriter.LATEST_LEAD_DURATION )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( "MINUTES",
+                                           columns.get( ColumnarStatisticsWriter.UNITS )
+                                                  .get( 0 ) ),
+                       () -> assertEquals( "DURATION",
+                                           columns.get( ColumnarStatisticsWriter.VALUE_TYPE )
+                                                  .get( 0 ) ),
+                       () -> assertNull( columns.get( ColumnarStatisticsWriter.VALUE )
+                                                .get( 0 ) ),
+                       () -> assertEquals( 60.0 + 0.5 / 60.0, ( Double ) durations.get( 0 ), 1.0E-12 ),
+                       () -> assertEquals( 120.0, durations.get( 1 ) ),
+                       () -> assertEquals( 180.0, durations.get( 2 ) ) );
+        }
+    }
+
+    @Test
+    void testWriteBoxplotsWritesOneRowPerQuantileAndLinkedValue() throws IOException
+    {
+        List<BoxplotStatisticOuter> boxplots = WriterTestHelper.getBoxPlotPerPairForOnePool();
+        Pool pool = boxplots.get( 0 )
+                            .getPoolMetadata()
+                            .getPool();
+        List<BoxplotStatistic> inner = boxplots.stream()
+                                               .map( BoxplotStatisticOuter::getStatistic )
+                                               .toList();
+        Statistics statistics = Statistics.newBuilder()
+                                          .setPool( pool )
+                                          .addAllOneBoxPerPair( inner )
+                                          .build();
+
+        int expectedRows = 0;
+        for ( BoxplotStatistic next : inner )
+        {
+            int linked = next.getMetric()
+                             .getLinkedValueType() == LinkedValueType.NONE ? 0 : 1;
+            for ( BoxplotStatistic.Box box : next.getStatisticsList() )
+            {
+                expectedRows += linked + box.getQuantilesCount();
+            }
+        }
+
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+
+            try ( ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( path, this.getEvaluation() ) )
+            {
+                writer.apply( statistics );
+            }
+
+            ArrowContents contents = this.read( path );
+
+            assertEquals( List.of( expectedRows ), contents.batchSizes() );
+        }
+    }
+
+    @Test
+    void testWriteSplitsLargeFeatureGroupIntoSeveralRecordBatches() throws IOException
+    {
+        Evaluation evaluation = this.getEvaluation();
+
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+
+            // Three rows per pool, 65,536 rows per record batch
+            try ( ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( path, evaluation ) )
+            {
+                for ( int i = 1; i <= 30_000; i++ )
+                {
+                    writer.apply( this.getDoubleScoreStatistics( i ) );
+                }
+            }
+
+            ArrowContents contents = this.read( path );
+
+            assertEquals( 90_000, contents.batchSizes()
+                                          .stream()
+                                          .mapToInt( Integer::intValue )
+                                          .sum() );
+            assertEquals( 2, contents.batchSizes()
+                                     .size() );
+        }
+    }
+
+    @Test
+    void testApplyThrowsExpectedExceptionWhenClosed() throws IOException
+    {
+        Statistics statistics = this.getDoubleScoreStatistics( 1 );
+
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+            ColumnarStatisticsWriter writer = ColumnarStatisticsWriter.of( path, this.getEvaluation() );
+            writer.close();
+
+            assertThrows( WriteException.class, () -> writer.apply( statistics ) );
+        }
+    }
+
+    /**
+     * Benchmarks the write throughput and file size of the columnar format against the CSV2 format on the default
+     * file system. Does not run unless the system property {@code wres.benchmark} is {@code true}.
+     *
+     * @param directory a temporary directory
+     * @throws IOException if the benchmark fails
+     */
+
+    @Test
+    @EnabledIfSystemProperty( named = "wres.benchmark", matches = "true" )
+    void benchmarkWriteAgainstCsv2( @TempDir Path directory ) throws IOException
+    {
+        Evaluation evaluation = this.getEvaluation();
+        int poolCount = 100_000;
+        int warmups = 3;
+        int iterations = 5;
+
+        List<Statistics> statistics = new ArrayList<>();
+        for ( int i = 1; i <= poolCount; i++ )
+        {
+            statistics.add( this.getDoubleScoreStatistics( i ) );
+        }
+
+        long rows = statistics.stream()
+                              .mapToLong( next -> next.getScoresList()
+                                                      .stream()
+                                                      .mapToLong( score -> score.getStatisticsCount() )
+                                                      .sum() )
+                              .sum();
+
+        long columnarNanos = 0;
+        long csvNanos = 0;
+        long columnarSize = 0;
+        long csvSize = 0;
+
+        for ( int i = 0; i < warmups + iterations; i++ )
+        {
+            Path columnarPath = directory.resolve( i + "_" + ColumnarStatisticsWriter.DEFAULT_FILE_NAME );
+            Path csvPath = Files.createFile( directory.resolve( i + "_evaluation.csv" ) );
+
+            long start = System.nanoTime();
+            try ( ColumnarStatisticsWriter columnar = ColumnarStatisticsWriter.of( columnarPath,
+                                                                                   evaluation,
+                                                                                   ChronoUnit.HOURS ) )
+            {
+                statistics.forEach( columnar::apply );
+            }
+            long columnarElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            try ( CsvStatisticsWriter csv = CsvStatisticsWriter.of( evaluation,
+                                                                    csvPath,
+                                                                    false,
+                                                                    ChronoUnit.HOURS,
+                                                                    String::valueOf ) )
+            {
+                statistics.forEach( csv::apply );
+            }
+            long csvElapsed = System.nanoTime() - start;
+
+            if ( i >= warmups )
+            {
+                columnarNanos += columnarElapsed;
+                csvNanos += csvElapsed;
+                columnarSize = Files.size( columnarPath );
+                csvSize = Files.size( csvPath );
+            }
+
+            Files.delete( columnarPath );
+            Files.delete( csvPath );
+        }
+
+        double columnarRate = rows * iterations / ( columnarNanos / 1.0E9 );
+        double csvRate = rows * iterations / ( csvNanos / 1.0E9 );
+
+        LOGGER.info( "Wrote {} rows of statistics in {} iterations after {} warm-up iterations. Columnar: {} rows/s "
+                     + "and {} bytes. CSV2: {} rows/s and {} bytes. Size ratio (CSV2/columnar): {}.",
+                     rows,
+                     iterations,
+                     warmups,
+                     Math.round( columnarRate ),
+                     columnarSize,
+                     Math.round( csvRate ),
+                     csvSize,
+                     ( double ) csvSize / columnarSize );
+    }
+
+    /**
+     * Reads a file in the columnar format.
+     * @param path the path
+     * @return the contents
+     * @throws IOException if the path could not be read
+     */
+
+    private ArrowContents read( Path path ) throws IOException
+    {
+        try ( BufferAllocator allocator = new RootAllocator();
+              SeekableByteChannel channel = Files.newByteChannel( path );
+              ArrowFileReader reader = new ArrowFileReader( channel, allocator, CommonsCompressionFactory.INSTANCE ) )
+        {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            Map<String, String> metadata = root.getSchema()
+                                               .getCustomMetadata();
+            Map<String, List<Object>> columns = new LinkedHashMap<>();
+            List<Integer> batchSizes = new ArrayList<>();
+
+            while ( reader.loadNextBatch() )
+            {
+                batchSizes.add( root.getRowCount() );
+
+                for ( FieldVector vector : root.getFieldVectors() )
+                {
+                    List<Object> values = columns.computeIfAbsent( vector.getName(), k -> new ArrayList<>() );
+                    for ( int i = 0; i < root.getRowCount(); i++ )
+                    {
+                        Object value = vector.getObject( i );
+
+                        if ( value instanceof Text text )
+                        {
+                            value = text.toString();
+                        }
+
+                        values.add( value );
+                    }
+                }
+            }
+
+            return new ArrowContents( metadata, batchSizes, columns );
+        }
+    }
+
+    /**
+     * The contents of a file in the columnar format.
+     * @param metadata the schema metadata
+     * @param batchSizes the number of rows in each record batch
+     * @param columns the values of each column across all record batches
+     */
+
+    private record ArrowContents( Map<String, String> metadata,
+                                  List<Integer> batchSizes,
+                                  Map<String, List<Object>> columns ) {}
+
+    /**
+     * @param poolNumber the pool number
+     * @return statistics that include double scores
+     */
+
+    private Statistics getDoubleScoreStatistics( int poolNumber )
+    {
+        List<DoubleScoreStatisticOuter> scores = WriterTestHelper.getScoreStatisticsForOnePool();
+
+        Pool pool = scores.get( 0 )
+                          .getPoolMetadata()
+                          .getPool();
+
+        return Statistics.newBuilder()
+                         .addAllScores( scores.stream()
+                                              .map( DoubleScoreStatisticOuter::getStatistic )
+                                              .toList() )
+                         .setPool( pool.toBuilder()
+                                       .setPoolId( poolNumber ) )
+                         .build();
+    }
+
+    /**
+     * @return an evaluation
+     */
+
+    private Evaluation getEvaluation()
+    {
+        return Evaluation.newBuilder()
+                         .setRightDataName( "HEFS" )
+                         .setBaselineDataName( "ESP" )
+                         .setLeftVariableName( "QINE" )
+                         .setRightVariableName( "SQIN" )
+                         .setMeasurementUnit( "CMS" )
+                         .build();
+    }
+}
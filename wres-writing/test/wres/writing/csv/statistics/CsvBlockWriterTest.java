@@ -0,0 +1,196 @@
+package wres.writing.csv.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link CsvBlockWriter}.
+ *
+ * @author James Brown
+ */
+class CsvBlockWriterTest
+{
+    @Test
+    void testWriteWritesBlocksInOrder() throws IOException
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( "evaluation.csv" );
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+            try ( CsvBlockWriter writer = CsvBlockWriter.of( path, false, false ) )
+            {
+                for ( int i = 0; i < 1000; i++ )
+                {
+                    byte[] block = ( "row " + i + System.lineSeparator() ).getBytes( StandardCharsets.UTF_8 );
+                    expected.write( block );
+                    writer.write( block );
+                }
+            }
+
+            assertArrayEquals( expected.toByteArray(), Files.readAllBytes( path ) );
+        }
+    }
+
+    @Test
+    void testWriteCompressesBlocksInParallel() throws IOException
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( "evaluation.csv.gz" );
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+            // Write enough to span several compressed members
+            try ( CsvBlockWriter writer = CsvBlockWriter.of( path, true, true ) )
+            {
+                for ( int i = 0; i < 200_000; i++ )
+                {
+                    byte[] block = ( "row " + i + System.lineSeparator() ).getBytes( StandardCharsets.UTF_8 );
+                    expected.write( block );
+                    writer.write( block );
+                }
+            }
+
+            try ( InputStream in = new GZIPInputStream( Files.newInputStream( path ) ) )
+            {
+                assertArrayEquals( expected.toByteArray(), in.readAllBytes() );
+            }
+        }
+    }
+
+    @Test
+    void testWriteThrowsExpectedExceptionWhenClosed() throws IOException
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( "evaluation.csv" );
+            CsvBlockWriter writer = CsvBlockWriter.of( path, false, false );
+            writer.close();
+            byte[] block = { 1 };
+
+            assertThrows( IOException.class, () -> writer.write( block ) );
+        }
+    }
+
+    @Test
+    void testWriteDoesNotLoseBlocksWhenClosedConcurrently() throws Exception
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( "evaluation.csv" );
+            CsvBlockWriter writer = CsvBlockWriter.of( path, false, false );
+            List<String> written = Collections.synchronizedList( new ArrayList<>() );
+            int producerCount = 4;
+            CountDownLatch started = new CountDownLatch( producerCount );
+            ExecutorService producers = Executors.newFixedThreadPool( producerCount );
+
+            try
+            {
+                for ( int i = 0; i < producerCount; i++ )
+                {
+                    String producer = "producer " + i;
+                    producers.submit( () -> {
+                        started.countDown();
+
+                        // Write until the writer is closed
+                        for ( int j = 0; ; j++ )
+                        {
+                            String row = producer + " row " + j;
+                            try
+                            {
+                                writer.write( ( row + "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+                            }
+                            catch ( IOException e )
+                            {
+                                return;
+                            }
+
+                            written.add( row );
+                        }
+                    } );
+                }
+
+                started.await();
+                writer.close();
+            }
+            finally
+            {
+                producers.shutdown();
+                assertTrue( producers.awaitTermination( 1, TimeUnit.MINUTES ) );
+            }
+
+            // Every block that was accepted was written
+            List<String> actual = Files.readAllLines( path, StandardCharsets.UTF_8 );
+
+            assertEquals( new HashSet<>( written ), new HashSet<>( actual ) );
+            assertEquals( written.size(), actual.size() );
+        }
+    }
+
+    @Test
+    void testCloseStopsWriterWhenInterrupted() throws Exception
+    {
+        try ( FileSystem fileSystem = Jimfs.newFileSystem( Configuration.unix() ) )
+        {
+            Path path = fileSystem.getPath( "evaluation.csv" );
+            Set<Thread> existing = CsvBlockWriterTest.getWriterThreads();
+            CsvBlockWriter writer = CsvBlockWriter.of( path, false, false );
+            Set<Thread> consumers = CsvBlockWriterTest.getWriterThreads();
+            consumers.removeAll( existing );
+
+            // Interrupted before the end block is queued, so the consumer must stop on interrupt
+            Thread.currentThread()
+                  .interrupt();
+
+            assertThrows( IOException.class, writer::close );
+            assertTrue( Thread.interrupted() );
+
+            for ( Thread consumer : consumers )
+            {
+                consumer.join( Duration.ofMinutes( 1 )
+                                       .toMillis() );
+                assertFalse( consumer.isAlive() );
+            }
+        }
+    }
+
+    /**
+     * @return the threads that write statistics
+     */
+
+    private static Set<Thread> getWriterThreads()
+    {
+        return Thread.getAllStackTraces()
+                     .keySet()
+                     .stream()
+                     .filter( next -> "CSV statistics writer".equals( next.getName() ) )
+                     .collect( Collectors.toCollection( HashSet::new ) );
+    }
+}